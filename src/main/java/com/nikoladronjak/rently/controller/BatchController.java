@@ -0,0 +1,48 @@
+package com.nikoladronjak.rently.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nikoladronjak.rently.dto.BatchRequestDTO;
+import com.nikoladronjak.rently.dto.BatchResultDTO;
+import com.nikoladronjak.rently.service.BatchService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+/**
+ * Represents a controller class for handling batch requests. This class
+ * provides an end-point which executes an ordered list of operations against
+ * the other end-points in a single HTTP call.
+ * 
+ * @author Nikola Dronjak
+ */
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+
+	/**
+	 * Service for executing batch requests.
+	 */
+	@Autowired
+	private BatchService batchService;
+
+	/**
+	 * Executes a batch of operations. Route: HTTP POST /api/batch
+	 *
+	 * @param batchRequestDTO The BatchRequestDTO containing the operations that
+	 *                        are being executed.
+	 * @return ResponseEntity containing the results of all the operations, in the
+	 *         order of the operations.
+	 */
+	@PostMapping
+	public ResponseEntity<List<BatchResultDTO>> executeBatch(
+			@Validated(ValidationGroups.Request.class) @RequestBody BatchRequestDTO batchRequestDTO) {
+		return ResponseEntity.ok(batchService.execute(batchRequestDTO));
+	}
+}
@@ -0,0 +1,72 @@
+package com.nikoladronjak.rently.controller;
+
+import java.net.URI;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nikoladronjak.rently.dto.BillingRunDTO;
+import com.nikoladronjak.rently.service.BillingService;
+
+/**
+ * Represents a controller class for handling HTTP requests related to the
+ * month-end billing runs. This class provides end-points for starting the
+ * billing run of a billing period and for following its progress.
+ * 
+ * @author Nikola Dronjak
+ */
+@RestController
+@RequestMapping("/api/billingruns")
+public class BillingRunController {
+
+	/**
+	 * Service for generating the rents of the billing periods.
+	 */
+	@Autowired
+	private BillingService billingService;
+
+	/**
+	 * Retrieves all billing runs. Route: HTTP GET /api/billingruns
+	 *
+	 * @return ResponseEntity containing a list of billing runs.
+	 */
+	@GetMapping
+	public ResponseEntity<List<BillingRunDTO>> getAllBillingRuns() {
+		return ResponseEntity.ok(billingService.getAll());
+	}
+
+	/**
+	 * Retrieves the progress of the billing run of a billing period. Route: HTTP
+	 * GET /api/billingruns/billingPeriod
+	 *
+	 * @param billingPeriod The month of the billing run (yyyy-MM).
+	 * @return ResponseEntity containing the billing run if found.
+	 */
+	@GetMapping("/{billingPeriod}")
+	public ResponseEntity<BillingRunDTO> getBillingRun(@PathVariable String billingPeriod) {
+		return ResponseEntity.ok(billingService.getByBillingPeriod(billingPeriod));
+	}
+
+	/**
+	 * Starts (or resumes) the billing run of a billing period. The rents are
+	 * generated in the background. Route: HTTP POST
+	 * /api/billingruns/billingPeriod
+	 *
+	 * @param billingPeriod The month for which the rents are generated (yyyy-MM).
+	 * @return ResponseEntity containing the progress of the billing run with
+	 *         HttpStatus.ACCEPTED status (202) and the URL of the run in the
+	 *         Location header.
+	 */
+	@PostMapping("/{billingPeriod}")
+	public ResponseEntity<BillingRunDTO> startBillingRun(@PathVariable String billingPeriod) {
+		BillingRunDTO billingRunDTO = billingService.start(billingPeriod);
+		return ResponseEntity.accepted().location(URI.create("/api/billingruns/" + billingRunDTO.getBillingPeriod()))
+				.body(billingRunDTO);
+	}
+}
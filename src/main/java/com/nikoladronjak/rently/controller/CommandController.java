@@ -0,0 +1,41 @@
+package com.nikoladronjak.rently.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nikoladronjak.rently.dto.CommandStatusDTO;
+import com.nikoladronjak.rently.service.AsyncWriteService;
+
+/**
+ * Represents a controller class for handling HTTP requests related to write
+ * commands which were submitted in asynchronous mode. This class provides an
+ * end-point for retrieving the status of a submitted command.
+ * 
+ * @author Nikola Dronjak
+ */
+@RestController
+@RequestMapping("/api/commands")
+public class CommandController {
+
+	/**
+	 * Service for executing write commands in asynchronous mode.
+	 */
+	@Autowired
+	private AsyncWriteService asyncWriteService;
+
+	/**
+	 * Retrieves the status of a command by its id. Route: HTTP GET
+	 * /api/commands/id
+	 *
+	 * @param id The id of the command that is being queried.
+	 * @return ResponseEntity containing the status of the command if found.
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<CommandStatusDTO> getCommandStatus(@PathVariable String id) {
+		return ResponseEntity.ok(asyncWriteService.getStatus(id));
+	}
+}
@@ -1,7 +1,10 @@
 package com.nikoladronjak.rently.controller;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.nikoladronjak.rently.dto.CustomerDTO;
 import com.nikoladronjak.rently.service.CustomerService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
 
 /**
  * Represents a controller class for handling HTTP requests related to Customer
@@ -35,24 +39,22 @@ public class CustomerController {
 	/**
 	 * Retrieves all customers. Route: HTTP GET /api/customers
 	 *
-	 * @return ResponseEntity with HTTP status and response body containing a list
-	 *         of customers or an error message.
+	 * @return ResponseEntity containing a list of customers.
 	 */
 	@GetMapping
-	public ResponseEntity<?> getAllCustomers() {
-		return customerService.getAll();
+	public ResponseEntity<List<CustomerDTO>> getAllCustomers() {
+		return ResponseEntity.ok(customerService.getAll());
 	}
 
 	/**
 	 * Retrieves a customer by their id. Route: HTTP GET /api/customers/id
 	 *
 	 * @param id The id of the customer thats is being queried.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         customer if found, or an error message.
+	 * @return ResponseEntity containing the customer if found.
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<?> getCustomerById(@PathVariable Integer id) {
-		return customerService.getById(id);
+	public ResponseEntity<CustomerDTO> getCustomerById(@PathVariable Integer id) {
+		return ResponseEntity.ok(customerService.getById(id));
 	}
 
 	/**
@@ -60,12 +62,12 @@ public class CustomerController {
 	 *
 	 * @param customerDTO The CustomerDTO representing the customer that is being
 	 *                    added.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         added customer if successful, or an error message.
+	 * @return ResponseEntity containing the added customer if successful.
 	 */
 	@PostMapping
-	public ResponseEntity<?> addCustomer(@RequestBody CustomerDTO customerDTO) {
-		return customerService.add(customerDTO);
+	public ResponseEntity<CustomerDTO> addCustomer(
+			@Validated(ValidationGroups.Request.class) @RequestBody CustomerDTO customerDTO) {
+		return ResponseEntity.ok(customerService.add(customerDTO));
 	}
 
 	/**
@@ -74,23 +76,22 @@ public class CustomerController {
 	 * @param id          The id of the customer that is being updated.
 	 * @param customerDTO The CustomerDTO representing the updated customer
 	 *                    information.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         updated customer if successful, or an error message.
+	 * @return ResponseEntity containing the updated customer if successful.
 	 */
 	@PutMapping("/{id}")
-	public ResponseEntity<?> updateCustomer(@PathVariable Integer id, @RequestBody CustomerDTO customerDTO) {
-		return customerService.update(id, customerDTO);
+	public ResponseEntity<CustomerDTO> updateCustomer(@PathVariable Integer id,
+			@Validated(ValidationGroups.Request.class) @RequestBody CustomerDTO customerDTO) {
+		return ResponseEntity.ok(customerService.update(id, customerDTO));
 	}
 
 	/**
 	 * Deletes a customer by their id. Route: HTTP DELETE /api/customers/id
 	 *
 	 * @param id The id of the customer that is being deleted.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         deleted customer if successful, or an error message.
+	 * @return ResponseEntity containing the deleted customer if successful.
 	 */
 	@DeleteMapping("/{id}")
-	public ResponseEntity<?> deleteCustomer(@PathVariable Integer id) {
-		return customerService.delete(id);
+	public ResponseEntity<CustomerDTO> deleteCustomer(@PathVariable Integer id) {
+		return ResponseEntity.ok(customerService.delete(id));
 	}
 }
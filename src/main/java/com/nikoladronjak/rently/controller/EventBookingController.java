@@ -0,0 +1,150 @@
+package com.nikoladronjak.rently.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nikoladronjak.rently.dto.EventBookingDTO;
+import com.nikoladronjak.rently.dto.EventSlotDTO;
+import com.nikoladronjak.rently.service.EventBookingService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+/**
+ * Represents a controller class for handling HTTP requests related to
+ * EventBooking entities. This class provides end-points for retrieving, adding
+ * and deleting EventBooking entities, and for querying the free slots of the
+ * event spaces. It also handles validation errors by returning appropriate
+ * responses.
+ * 
+ * @author Nikola Dronjak
+ */
+@RestController
+@RequestMapping("/api/eventbookings")
+public class EventBookingController {
+
+	/**
+	 * Service for handling operations related to EventBooking entities.
+	 */
+	@Autowired
+	private EventBookingService eventBookingService;
+
+	/**
+	 * Retrieves all event bookings. Route: HTTP GET /api/eventbookings
+	 *
+	 * @return ResponseEntity containing a list of event bookings.
+	 */
+	@GetMapping
+	public ResponseEntity<List<EventBookingDTO>> getAllEventBookings() {
+		return ResponseEntity.ok(eventBookingService.getAll());
+	}
+
+	/**
+	 * Retrieves all event bookings for a specified eventSpaceId. Route: HTTP GET
+	 * /api/eventbookings/eventspace/eventSpaceId
+	 *
+	 * @param eventSpaceId The id of the event space for which the bookings are
+	 *                     being queried.
+	 * @return ResponseEntity containing a list of event bookings.
+	 */
+	@GetMapping("/eventspace/{eventSpaceId}")
+	public ResponseEntity<List<EventBookingDTO>> getAllEventBookingsByEventSpaceId(
+			@PathVariable Integer eventSpaceId) {
+		return ResponseEntity.ok(eventBookingService.getAllByEventSpaceId(eventSpaceId));
+	}
+
+	/**
+	 * Retrieves all event bookings for a specified customerId. Route: HTTP GET
+	 * /api/eventbookings/customer/customerId
+	 *
+	 * @param customerId The id of the customer for which the bookings are being
+	 *                   queried.
+	 * @return ResponseEntity containing a list of event bookings.
+	 */
+	@GetMapping("/customer/{customerId}")
+	public ResponseEntity<List<EventBookingDTO>> getAllEventBookingsByCustomerId(@PathVariable Integer customerId) {
+		return ResponseEntity.ok(eventBookingService.getAllByCustomerId(customerId));
+	}
+
+	/**
+	 * Retrieves the free slots of an event space for every day of a period.
+	 * Route: HTTP GET
+	 * /api/eventbookings/eventspace/eventSpaceId/slots?startDate=yyyy-mm-dd&amp;endDate=yyyy-mm-dd
+	 *
+	 * @param eventSpaceId The id of the event space.
+	 * @param startDate    The first day of the period.
+	 * @param endDate      The last day of the period.
+	 * @return ResponseEntity containing a list of free slots.
+	 */
+	@GetMapping("/eventspace/{eventSpaceId}/slots")
+	public ResponseEntity<List<EventSlotDTO>> getFreeSlots(@PathVariable Integer eventSpaceId,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+		return ResponseEntity.ok(eventBookingService.getFreeSlots(eventSpaceId, startDate, endDate));
+	}
+
+	/**
+	 * Retrieves the first free slot of an event space which is long enough.
+	 * Route: HTTP GET
+	 * /api/eventbookings/eventspace/eventSpaceId/next-slot?date=yyyy-mm-dd&amp;fromHour=h&amp;hours=n
+	 *
+	 * @param eventSpaceId The id of the event space.
+	 * @param date         The first day of the search.
+	 * @param fromHour     The first hour of the search on the first day.
+	 * @param hours        The number of consecutive hours.
+	 * @return ResponseEntity containing the first free slot if found.
+	 */
+	@GetMapping("/eventspace/{eventSpaceId}/next-slot")
+	public ResponseEntity<EventSlotDTO> getNextSlot(@PathVariable Integer eventSpaceId,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+			@RequestParam(defaultValue = "0") int fromHour, @RequestParam int hours) {
+		return ResponseEntity.ok(eventBookingService.findNextSlot(eventSpaceId, date, fromHour, hours));
+	}
+
+	/**
+	 * Retrieves an event booking by its id. Route: HTTP GET /api/eventbookings/id
+	 *
+	 * @param id The id of the event booking thats is being queried.
+	 * @return ResponseEntity containing the event booking if found.
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<EventBookingDTO> getEventBookingById(@PathVariable Integer id) {
+		return ResponseEntity.ok(eventBookingService.getById(id));
+	}
+
+	/**
+	 * Adds a new event booking. Route: HTTP POST /api/eventbookings
+	 *
+	 * @param eventBookingDTO The EventBookingDTO representing the event booking
+	 *                        that is being added.
+	 * @return ResponseEntity containing the added event booking if successful.
+	 */
+	@PostMapping
+	public ResponseEntity<EventBookingDTO> addEventBooking(
+			@Validated(ValidationGroups.Request.class) @RequestBody EventBookingDTO eventBookingDTO) {
+		return ResponseEntity.ok(eventBookingService.add(eventBookingDTO));
+	}
+
+	/**
+	 * Deletes an event booking by its id. Route: HTTP DELETE
+	 * /api/eventbookings/id
+	 *
+	 * @param id The id of the event booking that is being deleted.
+	 * @return ResponseEntity containing the deleted event booking if successful.
+	 */
+	@DeleteMapping("/{id}")
+	public ResponseEntity<EventBookingDTO> deleteEventBooking(@PathVariable Integer id) {
+		return ResponseEntity.ok(eventBookingService.delete(id));
+	}
+}
@@ -1,18 +1,27 @@
 package com.nikoladronjak.rently.controller;
 
+import java.time.Instant;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.nikoladronjak.rently.dto.EventSpaceDTO;
+import com.nikoladronjak.rently.dto.EventSpaceSearchDTO;
 import com.nikoladronjak.rently.service.EventSpaceService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
 
 /**
  * Represents a controller class for handling HTTP requests related to
@@ -35,24 +44,48 @@ public class EventSpaceController {
 	/**
 	 * Retrieves all event spaces. Route: HTTP GET /api/eventspaces
 	 *
-	 * @return ResponseEntity with HTTP status and response body containing a list
-	 *         of event spaces or an error message.
+	 * @return ResponseEntity containing a list of event spaces.
 	 */
 	@GetMapping
-	public ResponseEntity<?> getAllEventSpaces() {
-		return eventSpaceService.getAll();
+	public ResponseEntity<List<EventSpaceDTO>> getAllEventSpaces() {
+		return ResponseEntity.ok(eventSpaceService.getAll());
+	}
+
+	/**
+	 * Retrieves the event spaces which are free for every hour of the slot.
+	 * Route: HTTP GET
+	 * /api/eventspaces/available?date=yyyy-mm-dd&amp;startHour=h&amp;endHour=h
+	 * 
+	 * The search can be narrowed down with the optional minCapacity, hasKitchen
+	 * and hasBar query parameters.
+	 *
+	 * @param eventSpaceSearchDTO The EventSpaceSearchDTO representing the slot and
+	 *                            the filters of the search.
+	 * @return ResponseEntity containing a list of available event spaces.
+	 */
+	@GetMapping("/available")
+	public ResponseEntity<List<EventSpaceDTO>> getAvailableEventSpaces(
+			@Validated(ValidationGroups.Request.class) @ModelAttribute EventSpaceSearchDTO eventSpaceSearchDTO) {
+		return ResponseEntity.ok(eventSpaceService.getAvailable(eventSpaceSearchDTO));
 	}
 
 	/**
 	 * Retrieves an event space by its id. Route: HTTP GET /api/eventspaces/id
+	 * If the asOf time is given, the version of the event space which was valid at
+	 * that time is returned.
 	 *
-	 * @param id The id of the event space thats is being queried.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         event space if found, or an error message.
+	 * @param id   The id of the event space thats is being queried.
+	 * @param asOf The time at which the version of the event space was valid
+	 *             (optional).
+	 * @return ResponseEntity containing the event space if found.
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<?> getEventSpaceById(@PathVariable Integer id) {
-		return eventSpaceService.getById(id);
+	public ResponseEntity<EventSpaceDTO> getEventSpaceById(@PathVariable Integer id,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf) {
+		if (asOf != null)
+			return ResponseEntity.ok(eventSpaceService.getById(id, asOf));
+
+		return ResponseEntity.ok(eventSpaceService.getById(id));
 	}
 
 	/**
@@ -60,12 +93,12 @@ public class EventSpaceController {
 	 *
 	 * @param eventSpaceDTO The EventSpaceDTO representing the event space that is
 	 *                      being added.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         added event space if successful, or an error message.
+	 * @return ResponseEntity containing the added event space if successful.
 	 */
 	@PostMapping
-	public ResponseEntity<?> addEventSpace(@RequestBody EventSpaceDTO eventSpaceDTO) {
-		return eventSpaceService.add(eventSpaceDTO);
+	public ResponseEntity<EventSpaceDTO> addEventSpace(
+			@Validated(ValidationGroups.Request.class) @RequestBody EventSpaceDTO eventSpaceDTO) {
+		return ResponseEntity.ok(eventSpaceService.add(eventSpaceDTO));
 	}
 
 	/**
@@ -74,23 +107,22 @@ public class EventSpaceController {
 	 * @param id            The id of the event space that is being updated.
 	 * @param eventSpaceDTO The EventSpaceDTO representing the updated event space
 	 *                      information.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         updated event space if successful, or an error message.
+	 * @return ResponseEntity containing the updated event space if successful.
 	 */
 	@PutMapping("/{id}")
-	public ResponseEntity<?> updateEventSpace(@PathVariable Integer id, @RequestBody EventSpaceDTO eventSpaceDTO) {
-		return eventSpaceService.update(id, eventSpaceDTO);
+	public ResponseEntity<EventSpaceDTO> updateEventSpace(@PathVariable Integer id,
+			@Validated(ValidationGroups.Request.class) @RequestBody EventSpaceDTO eventSpaceDTO) {
+		return ResponseEntity.ok(eventSpaceService.update(id, eventSpaceDTO));
 	}
 
 	/**
 	 * Deletes an event space by its id. Route: HTTP DELETE /api/eventspaces/id
 	 *
 	 * @param id The id of the event space that is being deleted.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         deleted event space if successful, or an error message.
+	 * @return ResponseEntity containing the deleted event space if successful.
 	 */
 	@DeleteMapping("/{id}")
-	public ResponseEntity<?> deleteEventSpace(@PathVariable Integer id) {
-		return eventSpaceService.delete(id);
+	public ResponseEntity<EventSpaceDTO> deleteEventSpace(@PathVariable Integer id) {
+		return ResponseEntity.ok(eventSpaceService.delete(id));
 	}
 }
@@ -1,7 +1,12 @@
 package com.nikoladronjak.rently.controller;
 
+import java.time.Instant;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,10 +14,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.nikoladronjak.rently.dto.LeaseDTO;
 import com.nikoladronjak.rently.service.LeaseService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
 
 /**
  * Represents a controller class for handling HTTP requests related to Lease
@@ -35,12 +42,11 @@ public class LeaseController {
 	/**
 	 * Retrieves all leases. Route: HTTP GET /api/leases
 	 *
-	 * @return ResponseEntity with HTTP status and response body containing a list
-	 *         of leases or an error message.
+	 * @return ResponseEntity containing a list of leases.
 	 */
 	@GetMapping
-	public ResponseEntity<?> getAllLeases() {
-		return leaseService.getAll();
+	public ResponseEntity<List<LeaseDTO>> getAllLeases() {
+		return ResponseEntity.ok(leaseService.getAll());
 	}
 
 	/**
@@ -49,12 +55,11 @@ public class LeaseController {
 	 *
 	 * @param propertyId The id of the property for which the leases are being
 	 *                   queried.
-	 * @return ResponseEntity with HTTP status and response body containing a list
-	 *         of leases or an error message.
+	 * @return ResponseEntity containing a list of leases.
 	 */
 	@GetMapping("/property/{propertyId}")
-	public ResponseEntity<?> getAllLeasesByPropertyId(@PathVariable Integer propertyId) {
-		return leaseService.getAllByPropertyId(propertyId);
+	public ResponseEntity<List<LeaseDTO>> getAllLeasesByPropertyId(@PathVariable Integer propertyId) {
+		return ResponseEntity.ok(leaseService.getAllByPropertyId(propertyId));
 	}
 
 	/**
@@ -63,36 +68,41 @@ public class LeaseController {
 	 *
 	 * @param customerId The id of the customer for which the leases are being
 	 *                   queried.
-	 * @return ResponseEntity with HTTP status and response body containing a list
-	 *         of leases or an error message.
+	 * @return ResponseEntity containing a list of leases.
 	 */
 	@GetMapping("/customer/{customerId}")
-	public ResponseEntity<?> getAllLeasesByCustomerId(@PathVariable Integer customerId) {
-		return leaseService.getAllByCustomerId(customerId);
+	public ResponseEntity<List<LeaseDTO>> getAllLeasesByCustomerId(@PathVariable Integer customerId) {
+		return ResponseEntity.ok(leaseService.getAllByCustomerId(customerId));
 	}
 
 	/**
 	 * Retrieves a lease by its id. Route: HTTP GET /api/leases/id
+	 * If the asOf time is given, the version of the lease which was valid at
+	 * that time is returned.
 	 *
-	 * @param id The id of the lease thats is being queried.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         lease if found, or an error message.
+	 * @param id   The id of the lease thats is being queried.
+	 * @param asOf The time at which the version of the lease was valid
+	 *             (optional).
+	 * @return ResponseEntity containing the lease if found.
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<?> getLeaseById(@PathVariable Integer id) {
-		return leaseService.getById(id);
+	public ResponseEntity<LeaseDTO> getLeaseById(@PathVariable Integer id,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf) {
+		if (asOf != null)
+			return ResponseEntity.ok(leaseService.getById(id, asOf));
+
+		return ResponseEntity.ok(leaseService.getById(id));
 	}
 
 	/**
 	 * Adds a new lease. Route: HTTP POST /api/leases
 	 *
 	 * @param leaseDTO The LeaseDTO representing the lease that is being added.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         added lease if successful, or an error message.
+	 * @return ResponseEntity containing the added lease if successful.
 	 */
 	@PostMapping
-	public ResponseEntity<?> addLease(@RequestBody LeaseDTO leaseDTO) {
-		return leaseService.add(leaseDTO);
+	public ResponseEntity<LeaseDTO> addLease(@Validated(ValidationGroups.Request.class) @RequestBody LeaseDTO leaseDTO) {
+		return ResponseEntity.ok(leaseService.add(leaseDTO));
 	}
 
 	/**
@@ -100,23 +110,22 @@ public class LeaseController {
 	 *
 	 * @param id       The id of the lease that is being updated.
 	 * @param leaseDTO The LeaseDTO representing the updated lease information.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         updated lease if successful, or an error message.
+	 * @return ResponseEntity containing the updated lease if successful.
 	 */
 	@PutMapping("/{id}")
-	ResponseEntity<?> updateLease(@PathVariable Integer id, @RequestBody LeaseDTO leaseDTO) {
-		return leaseService.update(id, leaseDTO);
+	ResponseEntity<LeaseDTO> updateLease(@PathVariable Integer id,
+			@Validated(ValidationGroups.Request.class) @RequestBody LeaseDTO leaseDTO) {
+		return ResponseEntity.ok(leaseService.update(id, leaseDTO));
 	}
 
 	/**
 	 * Deletes a lease by its id. Route: HTTP DELETE /api/leases/id
 	 *
 	 * @param id The id of the lease that is being deleted.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         deleted lease if successful, or an error message.
+	 * @return ResponseEntity containing the deleted lease if successful.
 	 */
 	@DeleteMapping("/{id}")
-	ResponseEntity<?> deleteLease(@PathVariable Integer id) {
-		return leaseService.delete(id);
+	ResponseEntity<LeaseDTO> deleteLease(@PathVariable Integer id) {
+		return ResponseEntity.ok(leaseService.delete(id));
 	}
 }
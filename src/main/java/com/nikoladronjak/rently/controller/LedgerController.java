@@ -0,0 +1,137 @@
+package com.nikoladronjak.rently.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nikoladronjak.rently.domain.LedgerAccountType;
+import com.nikoladronjak.rently.dto.LedgerBalanceDTO;
+import com.nikoladronjak.rently.dto.LedgerEntryDTO;
+import com.nikoladronjak.rently.service.LedgerService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+/**
+ * Represents a controller class for handling HTTP requests related to the
+ * payment ledger. This class provides end-points for posting charges, payments
+ * and adjustments, for retrieving the ledger entries and the balances of the
+ * rents, the leases and the customers, and for retrieving the overdue leases
+ * of an owner.
+ * 
+ * @author Nikola Dronjak
+ */
+@RestController
+@RequestMapping("/api/ledger")
+public class LedgerController {
+
+	/**
+	 * Service for handling operations related to the payment ledger.
+	 */
+	@Autowired
+	private LedgerService ledgerService;
+
+	/**
+	 * Retrieves the ledger entries of a rent. Route: HTTP GET
+	 * /api/ledger/rent/rentId
+	 *
+	 * @param rentId The id of the rent.
+	 * @return ResponseEntity containing a list of ledger entries.
+	 */
+	@GetMapping("/rent/{rentId}")
+	public ResponseEntity<List<LedgerEntryDTO>> getLedgerEntriesByRentId(@PathVariable Integer rentId) {
+		return ResponseEntity.ok(ledgerService.getAllByRentId(rentId));
+	}
+
+	/**
+	 * Retrieves the ledger entries of a lease. Route: HTTP GET
+	 * /api/ledger/lease/leaseId
+	 *
+	 * @param leaseId The id of the lease.
+	 * @return ResponseEntity containing a list of ledger entries.
+	 */
+	@GetMapping("/lease/{leaseId}")
+	public ResponseEntity<List<LedgerEntryDTO>> getLedgerEntriesByLeaseId(@PathVariable Integer leaseId) {
+		return ResponseEntity.ok(ledgerService.getAllByLeaseId(leaseId));
+	}
+
+	/**
+	 * Retrieves the ledger entries of a customer. Route: HTTP GET
+	 * /api/ledger/customer/customerId
+	 *
+	 * @param customerId The id of the customer.
+	 * @return ResponseEntity containing a list of ledger entries.
+	 */
+	@GetMapping("/customer/{customerId}")
+	public ResponseEntity<List<LedgerEntryDTO>> getLedgerEntriesByCustomerId(@PathVariable Integer customerId) {
+		return ResponseEntity.ok(ledgerService.getAllByCustomerId(customerId));
+	}
+
+	/**
+	 * Retrieves the balance of a rent. Route: HTTP GET
+	 * /api/ledger/rent/rentId/balance
+	 *
+	 * @param rentId The id of the rent.
+	 * @return ResponseEntity containing the balance of the rent.
+	 */
+	@GetMapping("/rent/{rentId}/balance")
+	public ResponseEntity<LedgerBalanceDTO> getRentBalance(@PathVariable Integer rentId) {
+		return ResponseEntity.ok(ledgerService.getBalance(LedgerAccountType.Rent, rentId));
+	}
+
+	/**
+	 * Retrieves the balance of a lease. Route: HTTP GET
+	 * /api/ledger/lease/leaseId/balance
+	 *
+	 * @param leaseId The id of the lease.
+	 * @return ResponseEntity containing the balance of the lease.
+	 */
+	@GetMapping("/lease/{leaseId}/balance")
+	public ResponseEntity<LedgerBalanceDTO> getLeaseBalance(@PathVariable Integer leaseId) {
+		return ResponseEntity.ok(ledgerService.getBalance(LedgerAccountType.Lease, leaseId));
+	}
+
+	/**
+	 * Retrieves the balance of a customer. Route: HTTP GET
+	 * /api/ledger/customer/customerId/balance
+	 *
+	 * @param customerId The id of the customer.
+	 * @return ResponseEntity containing the balance of the customer.
+	 */
+	@GetMapping("/customer/{customerId}/balance")
+	public ResponseEntity<LedgerBalanceDTO> getCustomerBalance(@PathVariable Integer customerId) {
+		return ResponseEntity.ok(ledgerService.getBalance(LedgerAccountType.Customer, customerId));
+	}
+
+	/**
+	 * Retrieves the balances of the overdue leases of an owner. Route: HTTP GET
+	 * /api/ledger/owner/ownerId/overdue
+	 *
+	 * @param ownerId The id of the owner.
+	 * @return ResponseEntity containing a list of the balances of the overdue
+	 *         leases.
+	 */
+	@GetMapping("/owner/{ownerId}/overdue")
+	public ResponseEntity<List<LedgerBalanceDTO>> getOverdueLeases(@PathVariable Integer ownerId) {
+		return ResponseEntity.ok(ledgerService.getOverdueLeases(ownerId));
+	}
+
+	/**
+	 * Posts a new entry to the ledger. Route: HTTP POST /api/ledger
+	 *
+	 * @param ledgerEntryDTO The LedgerEntryDTO representing the entry that is
+	 *                       being posted.
+	 * @return ResponseEntity containing the posted entry if successful.
+	 */
+	@PostMapping
+	public ResponseEntity<LedgerEntryDTO> postLedgerEntry(
+			@Validated(ValidationGroups.Request.class) @RequestBody LedgerEntryDTO ledgerEntryDTO) {
+		return ResponseEntity.ok(ledgerService.post(ledgerEntryDTO));
+	}
+}
@@ -0,0 +1,92 @@
+package com.nikoladronjak.rently.controller;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nikoladronjak.rently.domain.RollupGranularity;
+import com.nikoladronjak.rently.dto.MeterReadingBatchDTO;
+import com.nikoladronjak.rently.dto.MeterReadingBatchResultDTO;
+import com.nikoladronjak.rently.dto.MeterReadingDTO;
+import com.nikoladronjak.rently.dto.MeterReadingRollupDTO;
+import com.nikoladronjak.rently.service.MeterReadingService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+/**
+ * Represents a controller class for handling HTTP requests related to the
+ * meter readings of the utility leases. This class provides end-points for
+ * ingesting batches of readings and for retrieving the readings and the
+ * hourly, daily and monthly rollups of a utility lease in a range of time.
+ * 
+ * @author Nikola Dronjak
+ */
+@RestController
+@RequestMapping("/api/meterreadings")
+public class MeterReadingController {
+
+	/**
+	 * Service for handling operations related to meter readings.
+	 */
+	@Autowired
+	private MeterReadingService meterReadingService;
+
+	/**
+	 * Retrieves the readings of a utility lease in a range of time. Route: HTTP
+	 * GET /api/meterreadings/utilityLeaseId?from=...&amp;to=...
+	 *
+	 * @param utilityLeaseId The id of the utility lease.
+	 * @param from           The start of the range.
+	 * @param to             The end of the range (exclusive).
+	 * @return ResponseEntity containing a list of readings.
+	 */
+	@GetMapping("/{utilityLeaseId}")
+	public ResponseEntity<List<MeterReadingDTO>> getReadings(@PathVariable Integer utilityLeaseId,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+		return ResponseEntity.ok(meterReadingService.getReadings(utilityLeaseId, from, to));
+	}
+
+	/**
+	 * Retrieves the rollups of a utility lease whose periods start in a range of
+	 * time. Route: HTTP GET
+	 * /api/meterreadings/utilityLeaseId/rollups?granularity=...&amp;from=...&amp;to=...
+	 *
+	 * @param utilityLeaseId The id of the utility lease.
+	 * @param granularity    The granularity of the rollups (Hour, Day or Month).
+	 * @param from           The start of the range.
+	 * @param to             The end of the range (exclusive).
+	 * @return ResponseEntity containing a list of rollups.
+	 */
+	@GetMapping("/{utilityLeaseId}/rollups")
+	public ResponseEntity<List<MeterReadingRollupDTO>> getRollups(@PathVariable Integer utilityLeaseId,
+			@RequestParam RollupGranularity granularity,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+		return ResponseEntity.ok(meterReadingService.getRollups(utilityLeaseId, granularity, from, to));
+	}
+
+	/**
+	 * Ingests a batch of meter readings. Route: HTTP POST /api/meterreadings
+	 *
+	 * @param meterReadingBatchDTO The MeterReadingBatchDTO representing the batch
+	 *                             of readings.
+	 * @return ResponseEntity containing the number of stored and skipped
+	 *         readings.
+	 */
+	@PostMapping
+	public ResponseEntity<MeterReadingBatchResultDTO> ingestReadings(
+			@Validated(ValidationGroups.Request.class) @RequestBody MeterReadingBatchDTO meterReadingBatchDTO) {
+		return ResponseEntity.ok(meterReadingService.ingest(meterReadingBatchDTO.getReadings()));
+	}
+}
@@ -1,7 +1,12 @@
 package com.nikoladronjak.rently.controller;
 
+import java.time.Instant;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,10 +14,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.nikoladronjak.rently.dto.OfficeSpaceDTO;
 import com.nikoladronjak.rently.service.OfficeSpaceService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
 
 /**
  * Represents a controller class for handling HTTP requests related to
@@ -35,24 +42,30 @@ public class OfficeSpaceController {
 	/**
 	 * Retrieves all office spaces. Route: HTTP GET /api/officespaces
 	 *
-	 * @return ResponseEntity with HTTP status and response body containing a list
-	 *         of office spaces or an error message.
+	 * @return ResponseEntity containing a list of office spaces.
 	 */
 	@GetMapping
-	public ResponseEntity<?> getAllOfficeSpaces() {
-		return officeSpaceService.getAll();
+	public ResponseEntity<List<OfficeSpaceDTO>> getAllOfficeSpaces() {
+		return ResponseEntity.ok(officeSpaceService.getAll());
 	}
 
 	/**
 	 * Retrieves a office space by its id. Route: HTTP GET /api/officespaces/id
+	 * If the asOf time is given, the version of the office space which was valid at
+	 * that time is returned.
 	 *
-	 * @param id The id of the office space thats is being queried.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         office space if found, or an error message.
+	 * @param id   The id of the office space thats is being queried.
+	 * @param asOf The time at which the version of the office space was valid
+	 *             (optional).
+	 * @return ResponseEntity containing the office space if found.
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<?> getOfficeSpaceById(@PathVariable Integer id) {
-		return officeSpaceService.getById(id);
+	public ResponseEntity<OfficeSpaceDTO> getOfficeSpaceById(@PathVariable Integer id,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf) {
+		if (asOf != null)
+			return ResponseEntity.ok(officeSpaceService.getById(id, asOf));
+
+		return ResponseEntity.ok(officeSpaceService.getById(id));
 	}
 
 	/**
@@ -60,12 +73,12 @@ public class OfficeSpaceController {
 	 *
 	 * @param officeSpaceDTO The OfficeSpaceDTO representing the office space that
 	 *                       is being added.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         added office space if successful, or an error message.
+	 * @return ResponseEntity containing the added office space if successful.
 	 */
 	@PostMapping
-	public ResponseEntity<?> addOfficeSpace(@RequestBody OfficeSpaceDTO officeSpaceDTO) {
-		return officeSpaceService.add(officeSpaceDTO);
+	public ResponseEntity<OfficeSpaceDTO> addOfficeSpace(
+			@Validated(ValidationGroups.Request.class) @RequestBody OfficeSpaceDTO officeSpaceDTO) {
+		return ResponseEntity.ok(officeSpaceService.add(officeSpaceDTO));
 	}
 
 	/**
@@ -74,23 +87,22 @@ public class OfficeSpaceController {
 	 * @param id             The id of the office space that is being updated.
 	 * @param officeSpaceDTO The OfficeSpaceDTO representing the updated office
 	 *                       space information.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         updated office space if successful, or an error message.
+	 * @return ResponseEntity containing the updated office space if successful.
 	 */
 	@PutMapping("/{id}")
-	public ResponseEntity<?> updateOfficeSpace(@PathVariable Integer id, @RequestBody OfficeSpaceDTO officeSpaceDTO) {
-		return officeSpaceService.update(id, officeSpaceDTO);
+	public ResponseEntity<OfficeSpaceDTO> updateOfficeSpace(@PathVariable Integer id,
+			@Validated(ValidationGroups.Request.class) @RequestBody OfficeSpaceDTO officeSpaceDTO) {
+		return ResponseEntity.ok(officeSpaceService.update(id, officeSpaceDTO));
 	}
 
 	/**
 	 * Deletes a office space by its id. Route: HTTP DELETE /api/officespaces/id
 	 *
 	 * @param id The id of the office space that is being deleted.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         deleted office space if successful, or an error message.
+	 * @return ResponseEntity containing the deleted office space if successful.
 	 */
 	@DeleteMapping("/{id}")
-	public ResponseEntity<?> deleteOfficeSpace(@PathVariable Integer id) {
-		return officeSpaceService.delete(id);
+	public ResponseEntity<OfficeSpaceDTO> deleteOfficeSpace(@PathVariable Integer id) {
+		return ResponseEntity.ok(officeSpaceService.delete(id));
 	}
 }
@@ -1,7 +1,10 @@
 package com.nikoladronjak.rently.controller;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.nikoladronjak.rently.dto.OwnerDTO;
 import com.nikoladronjak.rently.service.OwnerService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
 
 /**
  * Represents a controller class for handling HTTP requests related to Owner
@@ -35,36 +39,33 @@ public class OwnerController {
 	/**
 	 * Retrieves all owners. Route: HTTP GET /api/owners
 	 *
-	 * @return ResponseEntity with HTTP status and response body containing a list
-	 *         of owners or an error message.
+	 * @return ResponseEntity containing a list of owners.
 	 */
 	@GetMapping
-	public ResponseEntity<?> getAllOwners() {
-		return ownerService.getAll();
+	public ResponseEntity<List<OwnerDTO>> getAllOwners() {
+		return ResponseEntity.ok(ownerService.getAll());
 	}
 
 	/**
 	 * Retrieves an owner by their id. Route: HTTP GET /api/owners/id
 	 *
 	 * @param id The id of the owner thats is being queried.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         owner if found, or an error message.
+	 * @return ResponseEntity containing the owner if found.
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<?> getOwnerById(@PathVariable Integer id) {
-		return ownerService.getById(id);
+	public ResponseEntity<OwnerDTO> getOwnerById(@PathVariable Integer id) {
+		return ResponseEntity.ok(ownerService.getById(id));
 	}
 
 	/**
 	 * Adds a new owner. Route: HTTP POST /api/owners
 	 *
 	 * @param ownerDTO The OwnerDTO representing the owner that is being added.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         added owner if successful, or an error message.
+	 * @return ResponseEntity containing the added owner if successful.
 	 */
 	@PostMapping
-	public ResponseEntity<?> addOwner(@RequestBody OwnerDTO ownerDTO) {
-		return ownerService.add(ownerDTO);
+	public ResponseEntity<OwnerDTO> addOwner(@Validated(ValidationGroups.Request.class) @RequestBody OwnerDTO ownerDTO) {
+		return ResponseEntity.ok(ownerService.add(ownerDTO));
 	}
 
 	/**
@@ -72,23 +73,22 @@ public class OwnerController {
 	 *
 	 * @param id       The id of the owner that is being updated.
 	 * @param ownerDTO The OwnerDTO representing the updated owner information.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         updated owner if successful, or an error message.
+	 * @return ResponseEntity containing the updated owner if successful.
 	 */
 	@PutMapping("/{id}")
-	public ResponseEntity<?> updateOwner(@PathVariable Integer id, @RequestBody OwnerDTO ownerDTO) {
-		return ownerService.update(id, ownerDTO);
+	public ResponseEntity<OwnerDTO> updateOwner(@PathVariable Integer id,
+			@Validated(ValidationGroups.Request.class) @RequestBody OwnerDTO ownerDTO) {
+		return ResponseEntity.ok(ownerService.update(id, ownerDTO));
 	}
 
 	/**
 	 * Deletes an owner by their id. Route: HTTP DELETE /api/owners/id
 	 *
 	 * @param id The id of the owner that is being deleted.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         deleted owner if successful, or an error message.
+	 * @return ResponseEntity containing the deleted owner if successful.
 	 */
 	@DeleteMapping("/{id}")
-	public ResponseEntity<?> deleteOwner(@PathVariable Integer id) {
-		return ownerService.delete(id);
+	public ResponseEntity<OwnerDTO> deleteOwner(@PathVariable Integer id) {
+		return ResponseEntity.ok(ownerService.delete(id));
 	}
 }
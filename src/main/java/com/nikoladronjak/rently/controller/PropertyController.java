@@ -0,0 +1,232 @@
+package com.nikoladronjak.rently.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nikoladronjak.rently.dto.AutocompleteDTO;
+import com.nikoladronjak.rently.dto.AvailabilitySearchDTO;
+import com.nikoladronjak.rently.dto.CompletionDTO;
+import com.nikoladronjak.rently.dto.DuplicateAddressDTO;
+import com.nikoladronjak.rently.dto.GeoSearchDTO;
+import com.nikoladronjak.rently.dto.PropertyDTO;
+import com.nikoladronjak.rently.dto.PropertySearchDTO;
+import com.nikoladronjak.rently.dto.QuoteDTO;
+import com.nikoladronjak.rently.dto.RepricingDTO;
+import com.nikoladronjak.rently.dto.RepricingPreviewDTO;
+import com.nikoladronjak.rently.service.AutocompleteService;
+import com.nikoladronjak.rently.service.AvailabilityService;
+import com.nikoladronjak.rently.service.DuplicateAddressService;
+import com.nikoladronjak.rently.service.GeoSearchService;
+import com.nikoladronjak.rently.service.PropertySearchService;
+import com.nikoladronjak.rently.service.QuoteService;
+import com.nikoladronjak.rently.service.RepricingService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+/**
+ * Represents a controller class for handling HTTP requests related to all the
+ * properties, regardless of their type. This class provides end-points for
+ * searching the properties by their availability, by the words of their names
+ * and descriptions or by their location, for completing their addresses, for
+ * finding the properties which were entered more than once, for quoting the
+ * price of a stay and for repricing many properties at once.
+ * 
+ * @author Nikola Dronjak
+ */
+@RestController
+@RequestMapping("/api/properties")
+public class PropertyController {
+
+	/**
+	 * Service for finding the available properties.
+	 */
+	@Autowired
+	private AvailabilityService availabilityService;
+
+	/**
+	 * Service for repricing many properties at once.
+	 */
+	@Autowired
+	private RepricingService repricingService;
+
+	/**
+	 * Service for quoting the prices of stays.
+	 */
+	@Autowired
+	private QuoteService quoteService;
+
+	/**
+	 * Service for the full-text search of the properties.
+	 */
+	@Autowired
+	private PropertySearchService propertySearchService;
+
+	/**
+	 * Service for completing the addresses of the properties.
+	 */
+	@Autowired
+	private AutocompleteService autocompleteService;
+
+	/**
+	 * Service for finding the properties which were entered more than once.
+	 */
+	@Autowired
+	private DuplicateAddressService duplicateAddressService;
+
+	/**
+	 * Service for finding the properties by their location.
+	 */
+	@Autowired
+	private GeoSearchService geoSearchService;
+
+	/**
+	 * Retrieves the properties which are free for every day of the period. Route:
+	 * HTTP GET
+	 * /api/properties/available?startDate=yyyy-mm-dd&amp;endDate=yyyy-mm-dd
+	 * 
+	 * The search can be narrowed down with the optional type, minRentalRate,
+	 * maxRentalRate, minSize and minNumberOfParkingSpots query parameters.
+	 *
+	 * @param availabilitySearchDTO The AvailabilitySearchDTO representing the
+	 *                              period and the filters of the search.
+	 * @return ResponseEntity containing a list of available properties.
+	 */
+	@GetMapping("/available")
+	public ResponseEntity<List<PropertyDTO>> getAvailableProperties(
+			@Validated(ValidationGroups.Request.class) @ModelAttribute AvailabilitySearchDTO availabilitySearchDTO) {
+		return ResponseEntity.ok(availabilityService.search(availabilitySearchDTO));
+	}
+
+	/**
+	 * Retrieves the properties whose name or description contain the words of
+	 * the query, from the most relevant. Route: HTTP GET
+	 * /api/properties/search?q=...
+	 * 
+	 * The search can be narrowed down with the optional type, minRentalRate,
+	 * maxRentalRate, minSize and minNumberOfParkingSpots query parameters, and
+	 * the number of results can be set with the limit query parameter.
+	 *
+	 * @param propertySearchDTO The PropertySearchDTO representing the query and
+	 *                          the filters of the search.
+	 * @return ResponseEntity containing a list of matching properties.
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<List<PropertyDTO>> searchProperties(
+			@Validated(ValidationGroups.Request.class) @ModelAttribute PropertySearchDTO propertySearchDTO) {
+		return ResponseEntity.ok(propertySearchService.search(propertySearchDTO));
+	}
+
+	/**
+	 * Retrieves the properties within a radius of a point or inside a bounding
+	 * box, from the nearest. Route: HTTP GET
+	 * /api/properties/nearby?latitude=...&amp;longitude=...&amp;radius=... or
+	 * /api/properties/nearby?minLatitude=...&amp;minLongitude=...&amp;maxLatitude=...&amp;maxLongitude=...
+	 * 
+	 * The search can be narrowed down with the optional type, minRentalRate,
+	 * maxRentalRate, minSize and minNumberOfParkingSpots query parameters, and
+	 * the results are paged with the page and pageSize query parameters.
+	 *
+	 * @param geoSearchDTO The GeoSearchDTO representing the area, the filters
+	 *                     and the page of the search.
+	 * @return ResponseEntity containing a list of properties with their
+	 *         distances.
+	 */
+	@GetMapping("/nearby")
+	public ResponseEntity<List<PropertyDTO>> getNearbyProperties(
+			@Validated(ValidationGroups.Request.class) @ModelAttribute GeoSearchDTO geoSearchDTO) {
+		return ResponseEntity.ok(geoSearchService.search(geoSearchDTO));
+	}
+
+	/**
+	 * Completes the beginning of an address, or of any word of an address, with
+	 * the addresses of the properties, from the most leased. Route: HTTP GET
+	 * /api/properties/autocomplete?prefix=...
+	 * 
+	 * The number of completions can be set with the limit query parameter.
+	 *
+	 * @param autocompleteDTO The AutocompleteDTO representing the prefix and the
+	 *                        number of completions.
+	 * @return ResponseEntity containing a list of completions.
+	 */
+	@GetMapping("/autocomplete")
+	public ResponseEntity<List<CompletionDTO>> autocompleteAddresses(
+			@Validated(ValidationGroups.Request.class) @ModelAttribute AutocompleteDTO autocompleteDTO) {
+		return ResponseEntity.ok(autocompleteService.completeAddresses(autocompleteDTO));
+	}
+
+	/**
+	 * Retrieves the pairs of properties whose addresses are so similar that they
+	 * are probably the same property, from the most similar. Route: HTTP GET
+	 * /api/properties/duplicates?threshold=...
+	 *
+	 * @param threshold The lowest similarity of the addresses, between 0 and 1
+	 *                  (optional).
+	 * @return ResponseEntity containing a list of possible duplicates.
+	 */
+	@GetMapping("/duplicates")
+	public ResponseEntity<List<DuplicateAddressDTO>> getDuplicateAddresses(
+			@RequestParam(required = false) Double threshold) {
+		return ResponseEntity.ok(duplicateAddressService.report(threshold));
+	}
+
+	/**
+	 * Quotes the price of a stay in a property, together with the selected
+	 * utility leases of the property. Route: HTTP GET
+	 * /api/properties/propertyId/quote?startDate=yyyy-mm-dd&amp;endDate=yyyy-mm-dd&amp;utilityLeaseIds=...
+	 *
+	 * @param propertyId      The id of the property.
+	 * @param startDate       The first day of the stay.
+	 * @param endDate         The last day of the stay.
+	 * @param utilityLeaseIds The ids of the selected utility leases (optional).
+	 * @return ResponseEntity containing the quote.
+	 */
+	@GetMapping("/{propertyId}/quote")
+	public ResponseEntity<QuoteDTO> getQuote(@PathVariable Integer propertyId,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+			@RequestParam(defaultValue = "") List<Integer> utilityLeaseIds) {
+		return ResponseEntity.ok(quoteService.quote(propertyId, startDate, endDate, utilityLeaseIds));
+	}
+
+	/**
+	 * Returns what a bulk repricing would change, without changing anything.
+	 * Route: HTTP POST /api/properties/repricing/preview
+	 *
+	 * @param repricingDTO The RepricingDTO representing the filters and the
+	 *                     pricing expression of the repricing.
+	 * @return ResponseEntity containing the properties, the leases and the number
+	 *         of rents which would be repriced.
+	 */
+	@PostMapping("/repricing/preview")
+	public ResponseEntity<RepricingPreviewDTO> previewRepricing(
+			@Validated(ValidationGroups.Request.class) @RequestBody RepricingDTO repricingDTO) {
+		return ResponseEntity.ok(repricingService.preview(repricingDTO));
+	}
+
+	/**
+	 * Reprices all the properties which match the filters in a single
+	 * transaction. Route: HTTP POST /api/properties/repricing
+	 *
+	 * @param repricingDTO The RepricingDTO representing the filters and the
+	 *                     pricing expression of the repricing.
+	 * @return ResponseEntity containing the repriced properties, leases and the
+	 *         number of repriced rents.
+	 */
+	@PostMapping("/repricing")
+	public ResponseEntity<RepricingPreviewDTO> reprice(
+			@Validated(ValidationGroups.Request.class) @RequestBody RepricingDTO repricingDTO) {
+		return ResponseEntity.ok(repricingService.reprice(repricingDTO));
+	}
+}
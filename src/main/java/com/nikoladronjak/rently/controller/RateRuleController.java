@@ -0,0 +1,99 @@
+package com.nikoladronjak.rently.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nikoladronjak.rently.dto.RateRuleDTO;
+import com.nikoladronjak.rently.service.RateRuleService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+/**
+ * Represents a controller class for handling HTTP requests related to the rate
+ * rules of the properties. This class provides end-points for retrieving,
+ * adding, updating and deleting the rules which override the daily rates of
+ * the properties.
+ * 
+ * @author Nikola Dronjak
+ */
+@RestController
+@RequestMapping("/api/raterules")
+public class RateRuleController {
+
+	/**
+	 * Service for handling operations related to rate rules.
+	 */
+	@Autowired
+	private RateRuleService rateRuleService;
+
+	/**
+	 * Retrieves all rate rules for a specified propertyId. Route: HTTP GET
+	 * /api/raterules/property/propertyId
+	 *
+	 * @param propertyId The id of the property.
+	 * @return ResponseEntity containing a list of rate rules.
+	 */
+	@GetMapping("/property/{propertyId}")
+	public ResponseEntity<List<RateRuleDTO>> getAllRateRulesByPropertyId(@PathVariable Integer propertyId) {
+		return ResponseEntity.ok(rateRuleService.getAllByPropertyId(propertyId));
+	}
+
+	/**
+	 * Retrieves a rate rule by its id. Route: HTTP GET /api/raterules/id
+	 *
+	 * @param id The id of the rate rule.
+	 * @return ResponseEntity containing the rate rule if found.
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<RateRuleDTO> getRateRuleById(@PathVariable Integer id) {
+		return ResponseEntity.ok(rateRuleService.getById(id));
+	}
+
+	/**
+	 * Adds a new rate rule. Route: HTTP POST /api/raterules
+	 *
+	 * @param rateRuleDTO The RateRuleDTO representing the rate rule that is being
+	 *                    added.
+	 * @return ResponseEntity containing the added rate rule if successful.
+	 */
+	@PostMapping
+	public ResponseEntity<RateRuleDTO> addRateRule(
+			@Validated(ValidationGroups.Request.class) @RequestBody RateRuleDTO rateRuleDTO) {
+		return ResponseEntity.ok(rateRuleService.add(rateRuleDTO));
+	}
+
+	/**
+	 * Updates an existing rate rule. Route: HTTP PUT /api/raterules/id
+	 *
+	 * @param id          The id of the rate rule that is being updated.
+	 * @param rateRuleDTO The RateRuleDTO representing the updated rate rule
+	 *                    information.
+	 * @return ResponseEntity containing the updated rate rule if successful.
+	 */
+	@PutMapping("/{id}")
+	public ResponseEntity<RateRuleDTO> updateRateRule(@PathVariable Integer id,
+			@Validated(ValidationGroups.Request.class) @RequestBody RateRuleDTO rateRuleDTO) {
+		return ResponseEntity.ok(rateRuleService.update(id, rateRuleDTO));
+	}
+
+	/**
+	 * Deletes a rate rule by its id. Route: HTTP DELETE /api/raterules/id
+	 *
+	 * @param id The id of the rate rule that is being deleted.
+	 * @return ResponseEntity containing the deleted rate rule if successful.
+	 */
+	@DeleteMapping("/{id}")
+	public ResponseEntity<RateRuleDTO> deleteRateRule(@PathVariable Integer id) {
+		return ResponseEntity.ok(rateRuleService.delete(id));
+	}
+}
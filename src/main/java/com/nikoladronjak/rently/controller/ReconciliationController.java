@@ -0,0 +1,92 @@
+package com.nikoladronjak.rently.controller;
+
+import java.io.InputStream;
+import java.net.URI;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nikoladronjak.rently.dto.ReconciliationDTO;
+import com.nikoladronjak.rently.service.ReconciliationService;
+
+/**
+ * Represents a controller class for handling HTTP requests related to the
+ * reconciliation of bank statements. This class provides end-points for
+ * reconciling a statement against the open rents and for retrieving the result
+ * and the reports of a reconciliation.
+ * 
+ * @author Nikola Dronjak
+ */
+@RestController
+@RequestMapping("/api/reconciliations")
+public class ReconciliationController {
+
+	/**
+	 * Service for reconciling bank statements.
+	 */
+	@Autowired
+	private ReconciliationService reconciliationService;
+
+	/**
+	 * Reconciles a bank statement against the open rents. Route: HTTP POST
+	 * /api/reconciliations
+	 * 
+	 * The body of the request is the statement file, with one
+	 * date,amount,reference,payer line per payment.
+	 *
+	 * @param statement The content of the statement file.
+	 * @return ResponseEntity containing the result of the reconciliation.
+	 */
+	@PostMapping(consumes = { "text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE })
+	public ResponseEntity<ReconciliationDTO> reconcile(InputStream statement) {
+		ReconciliationDTO reconciliationDTO = reconciliationService.reconcile(statement);
+		return ResponseEntity.created(URI.create("/api/reconciliations/" + reconciliationDTO.getReconciliationId()))
+				.body(reconciliationDTO);
+	}
+
+	/**
+	 * Retrieves the result of a reconciliation. Route: HTTP GET
+	 * /api/reconciliations/id
+	 *
+	 * @param id The id of the reconciliation.
+	 * @return ResponseEntity containing the result of the reconciliation.
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<ReconciliationDTO> getReconciliationById(@PathVariable String id) {
+		return ResponseEntity.ok(reconciliationService.getById(id));
+	}
+
+	/**
+	 * Retrieves the report of the matched lines of a reconciliation. Route: HTTP
+	 * GET /api/reconciliations/id/matched
+	 *
+	 * @param id The id of the reconciliation.
+	 * @return ResponseEntity containing the CSV report of the matched lines.
+	 */
+	@GetMapping("/{id}/matched")
+	public ResponseEntity<Resource> getMatchedReport(@PathVariable String id) {
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType("text/csv"))
+				.body(new FileSystemResource(reconciliationService.getReport(id, true)));
+	}
+
+	/**
+	 * Retrieves the report of the unmatched lines of a reconciliation. Route:
+	 * HTTP GET /api/reconciliations/id/unmatched
+	 *
+	 * @param id The id of the reconciliation.
+	 * @return ResponseEntity containing the CSV report of the unmatched lines.
+	 */
+	@GetMapping("/{id}/unmatched")
+	public ResponseEntity<Resource> getUnmatchedReport(@PathVariable String id) {
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType("text/csv"))
+				.body(new FileSystemResource(reconciliationService.getReport(id, false)));
+	}
+}
@@ -1,7 +1,10 @@
 package com.nikoladronjak.rently.controller;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,8 +14,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.nikoladronjak.rently.dto.CommandStatusDTO;
 import com.nikoladronjak.rently.dto.RentDTO;
+import com.nikoladronjak.rently.service.AsyncWriteService;
 import com.nikoladronjak.rently.service.RentService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
 
 /**
  * Represents a controller class for handling HTTP requests related to Rent
@@ -32,39 +38,55 @@ public class RentController {
 	@Autowired
 	private RentService rentService;
 
+	/**
+	 * Service for executing write commands in asynchronous mode.
+	 */
+	@Autowired
+	private AsyncWriteService asyncWriteService;
+
 	/**
 	 * Retrieves all rents. Route: HTTP GET /api/rents
 	 *
-	 * @return ResponseEntity with HTTP status and response body containing a list
-	 *         of rents or an error message.
+	 * @return ResponseEntity containing a list of rents.
 	 */
 	@GetMapping
-	public ResponseEntity<?> getAllRents() {
-		return rentService.getAll();
+	public ResponseEntity<List<RentDTO>> getAllRents() {
+		return ResponseEntity.ok(rentService.getAll());
 	}
 
 	/**
 	 * Retrieves a rent by its id. Route: HTTP GET /api/rents/id
 	 *
 	 * @param id The id of the rent thats is being queried.
-	 * @return ResponseEntity with HTTP status and response body containing the rent
-	 *         if found, or an error message.
+	 * @return ResponseEntity containing the rent if found.
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<?> getRentById(@PathVariable Integer id) {
-		return rentService.getById(id);
+	public ResponseEntity<RentDTO> getRentById(@PathVariable Integer id) {
+		return ResponseEntity.ok(rentService.getById(id));
 	}
 
 	/**
 	 * Adds a new rent. Route: HTTP POST /api/rents
 	 *
 	 * @param rentDTO The RentDTO representing the rent that is being added.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         added rent if successful, or an error message.
+	 * @return ResponseEntity containing the added rent if successful.
 	 */
 	@PostMapping
-	public ResponseEntity<?> addRent(@RequestBody RentDTO rentDTO) {
-		return rentService.add(rentDTO);
+	public ResponseEntity<RentDTO> addRent(@Validated(ValidationGroups.Request.class) @RequestBody RentDTO rentDTO) {
+		return ResponseEntity.ok(rentService.add(rentDTO));
+	}
+
+	/**
+	 * Adds a new rent in asynchronous mode. Route: HTTP POST /api/rents?async=true
+	 *
+	 * @param rentDTO The RentDTO representing the rent that is being added.
+	 * @return ResponseEntity with HTTP status 202 and the status of the accepted
+	 *         command, or an error message if the server is busy.
+	 */
+	@PostMapping(params = "async=true")
+	public ResponseEntity<CommandStatusDTO> addRentAsync(
+			@Validated(ValidationGroups.Request.class) @RequestBody RentDTO rentDTO) {
+		return asyncWriteService.submit(() -> rentService.add(rentDTO));
 	}
 
 	/**
@@ -72,23 +94,22 @@ public class RentController {
 	 *
 	 * @param id      The id of the rent that is being updated.
 	 * @param rentDTO The RentDTO representing the updated rent information.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         updated rent if successful, or an error message.
+	 * @return ResponseEntity containing the updated rent if successful.
 	 */
 	@PutMapping("/{id}")
-	ResponseEntity<?> updateRent(@PathVariable Integer id, @RequestBody RentDTO rentDTO) {
-		return rentService.update(id, rentDTO);
+	ResponseEntity<RentDTO> updateRent(@PathVariable Integer id,
+			@Validated(ValidationGroups.Request.class) @RequestBody RentDTO rentDTO) {
+		return ResponseEntity.ok(rentService.update(id, rentDTO));
 	}
 
 	/**
 	 * Deletes a rent by its id. Route: HTTP DELETE /api/rents/id
 	 *
 	 * @param id The id of the rent that is being deleted.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         deleted rent if successful, or an error message.
+	 * @return ResponseEntity containing the deleted rent if successful.
 	 */
 	@DeleteMapping("/{id}")
-	ResponseEntity<?> deleteRent(@PathVariable Integer id) {
-		return rentService.delete(id);
+	ResponseEntity<RentDTO> deleteRent(@PathVariable Integer id) {
+		return ResponseEntity.ok(rentService.delete(id));
 	}
 }
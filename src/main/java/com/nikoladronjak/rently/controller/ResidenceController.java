@@ -1,7 +1,12 @@
 package com.nikoladronjak.rently.controller;
 
+import java.time.Instant;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,10 +14,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.nikoladronjak.rently.dto.ResidenceDTO;
 import com.nikoladronjak.rently.service.ResidenceService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
 
 /**
  * Represents a controller class for handling HTTP requests related to Residence
@@ -35,24 +42,30 @@ public class ResidenceController {
 	/**
 	 * Retrieves all residences. Route: HTTP GET /api/residences
 	 *
-	 * @return ResponseEntity with HTTP status and response body containing a list
-	 *         of residences or an error message.
+	 * @return ResponseEntity containing a list of residences.
 	 */
 	@GetMapping
-	public ResponseEntity<?> getAllResidences() {
-		return residenceService.getAll();
+	public ResponseEntity<List<ResidenceDTO>> getAllResidences() {
+		return ResponseEntity.ok(residenceService.getAll());
 	}
 
 	/**
 	 * Retrieves a residence by its id. Route: HTTP GET /api/residences/id
+	 * If the asOf time is given, the version of the residence which was valid at
+	 * that time is returned.
 	 *
-	 * @param id The id of the residence thats is being queried.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         residence if found, or an error message.
+	 * @param id   The id of the residence thats is being queried.
+	 * @param asOf The time at which the version of the residence was valid
+	 *             (optional).
+	 * @return ResponseEntity containing the residence if found.
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<?> getResidenceById(@PathVariable Integer id) {
-		return residenceService.getById(id);
+	public ResponseEntity<ResidenceDTO> getResidenceById(@PathVariable Integer id,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf) {
+		if (asOf != null)
+			return ResponseEntity.ok(residenceService.getById(id, asOf));
+
+		return ResponseEntity.ok(residenceService.getById(id));
 	}
 
 	/**
@@ -60,12 +73,12 @@ public class ResidenceController {
 	 *
 	 * @param residenceDTO The ResidenceDTO representing the residence that is being
 	 *                     added.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         added residence if successful, or an error message.
+	 * @return ResponseEntity containing the added residence if successful.
 	 */
 	@PostMapping
-	public ResponseEntity<?> addResidence(@RequestBody ResidenceDTO residenceDTO) {
-		return residenceService.add(residenceDTO);
+	public ResponseEntity<ResidenceDTO> addResidence(
+			@Validated(ValidationGroups.Request.class) @RequestBody ResidenceDTO residenceDTO) {
+		return ResponseEntity.ok(residenceService.add(residenceDTO));
 	}
 
 	/**
@@ -74,23 +87,22 @@ public class ResidenceController {
 	 * @param id           The id of the residence that is being updated.
 	 * @param residenceDTO The ResidenceDTO representing the updated residence
 	 *                     information.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         updated residence if successful, or an error message.
+	 * @return ResponseEntity containing the updated residence if successful.
 	 */
 	@PutMapping("/{id}")
-	public ResponseEntity<?> updateResidence(@PathVariable Integer id, @RequestBody ResidenceDTO residenceDTO) {
-		return residenceService.update(id, residenceDTO);
+	public ResponseEntity<ResidenceDTO> updateResidence(@PathVariable Integer id,
+			@Validated(ValidationGroups.Request.class) @RequestBody ResidenceDTO residenceDTO) {
+		return ResponseEntity.ok(residenceService.update(id, residenceDTO));
 	}
 
 	/**
 	 * Deletes a residence by its id. Route: HTTP DELETE /api/residences/id
 	 *
 	 * @param id The id of the residence that is being deleted.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         deleted residence if successful, or an error message.
+	 * @return ResponseEntity containing the deleted residence if successful.
 	 */
 	@DeleteMapping("/{id}")
-	public ResponseEntity<?> deleteResidence(@PathVariable Integer id) {
-		return residenceService.delete(id);
+	public ResponseEntity<ResidenceDTO> deleteResidence(@PathVariable Integer id) {
+		return ResponseEntity.ok(residenceService.delete(id));
 	}
 }
@@ -0,0 +1,97 @@
+package com.nikoladronjak.rently.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nikoladronjak.rently.dto.SavedSearchDTO;
+import com.nikoladronjak.rently.dto.SearchNotificationDTO;
+import com.nikoladronjak.rently.service.SavedSearchService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+/**
+ * Represents a controller class for handling HTTP requests related to the
+ * saved searches of the customers. This class provides end-points for
+ * retrieving, adding and deleting the saved searches, and for retrieving the
+ * notifications about the properties which matched them.
+ * 
+ * @author Nikola Dronjak
+ */
+@RestController
+@RequestMapping("/api/savedsearches")
+public class SavedSearchController {
+
+	/**
+	 * Service for handling operations related to saved searches.
+	 */
+	@Autowired
+	private SavedSearchService savedSearchService;
+
+	/**
+	 * Retrieves all saved searches for a specified customerId. Route: HTTP GET
+	 * /api/savedsearches/customer/customerId
+	 *
+	 * @param customerId The id of the customer.
+	 * @return ResponseEntity containing a list of saved searches.
+	 */
+	@GetMapping("/customer/{customerId}")
+	public ResponseEntity<List<SavedSearchDTO>> getAllSavedSearchesByCustomerId(@PathVariable Integer customerId) {
+		return ResponseEntity.ok(savedSearchService.getAllByCustomerId(customerId));
+	}
+
+	/**
+	 * Retrieves a saved search by its id. Route: HTTP GET /api/savedsearches/id
+	 *
+	 * @param id The id of the saved search.
+	 * @return ResponseEntity containing the saved search if found.
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<SavedSearchDTO> getSavedSearchById(@PathVariable Integer id) {
+		return ResponseEntity.ok(savedSearchService.getById(id));
+	}
+
+	/**
+	 * Retrieves the notifications of a saved search. Route: HTTP GET
+	 * /api/savedsearches/id/notifications
+	 *
+	 * @param id The id of the saved search.
+	 * @return ResponseEntity containing a list of notifications.
+	 */
+	@GetMapping("/{id}/notifications")
+	public ResponseEntity<List<SearchNotificationDTO>> getSearchNotifications(@PathVariable Integer id) {
+		return ResponseEntity.ok(savedSearchService.getNotifications(id));
+	}
+
+	/**
+	 * Adds a new saved search. Route: HTTP POST /api/savedsearches
+	 *
+	 * @param savedSearchDTO The SavedSearchDTO representing the saved search that
+	 *                       is being added.
+	 * @return ResponseEntity containing the added saved search if successful.
+	 */
+	@PostMapping
+	public ResponseEntity<SavedSearchDTO> addSavedSearch(
+			@Validated(ValidationGroups.Request.class) @RequestBody SavedSearchDTO savedSearchDTO) {
+		return ResponseEntity.ok(savedSearchService.add(savedSearchDTO));
+	}
+
+	/**
+	 * Deletes a saved search by its id. Route: HTTP DELETE /api/savedsearches/id
+	 *
+	 * @param id The id of the saved search that is being deleted.
+	 * @return ResponseEntity containing the deleted saved search if successful.
+	 */
+	@DeleteMapping("/{id}")
+	public ResponseEntity<SavedSearchDTO> deleteSavedSearch(@PathVariable Integer id) {
+		return ResponseEntity.ok(savedSearchService.delete(id));
+	}
+}
@@ -0,0 +1,135 @@
+package com.nikoladronjak.rently.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nikoladronjak.rently.dto.SeatAvailabilityDTO;
+import com.nikoladronjak.rently.dto.SeatReservationDTO;
+import com.nikoladronjak.rently.service.SeatReservationService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+/**
+ * Represents a controller class for handling HTTP requests related to
+ * SeatReservation entities. This class provides end-points for retrieving,
+ * adding and deleting SeatReservation entities, and for querying the remaining
+ * seats of the office spaces. It also handles validation errors by returning
+ * appropriate responses.
+ * 
+ * @author Nikola Dronjak
+ */
+@RestController
+@RequestMapping("/api/seatreservations")
+public class SeatReservationController {
+
+	/**
+	 * Service for handling operations related to SeatReservation entities.
+	 */
+	@Autowired
+	private SeatReservationService seatReservationService;
+
+	/**
+	 * Retrieves all seat reservations. Route: HTTP GET /api/seatreservations
+	 *
+	 * @return ResponseEntity containing a list of seat reservations.
+	 */
+	@GetMapping
+	public ResponseEntity<List<SeatReservationDTO>> getAllSeatReservations() {
+		return ResponseEntity.ok(seatReservationService.getAll());
+	}
+
+	/**
+	 * Retrieves all seat reservations for a specified officeSpaceId. Route: HTTP
+	 * GET /api/seatreservations/officespace/officeSpaceId
+	 *
+	 * @param officeSpaceId The id of the office space for which the reservations
+	 *                      are being queried.
+	 * @return ResponseEntity containing a list of seat reservations.
+	 */
+	@GetMapping("/officespace/{officeSpaceId}")
+	public ResponseEntity<List<SeatReservationDTO>> getAllSeatReservationsByOfficeSpaceId(
+			@PathVariable Integer officeSpaceId) {
+		return ResponseEntity.ok(seatReservationService.getAllByOfficeSpaceId(officeSpaceId));
+	}
+
+	/**
+	 * Retrieves all seat reservations for a specified customerId. Route: HTTP GET
+	 * /api/seatreservations/customer/customerId
+	 *
+	 * @param customerId The id of the customer for which the reservations are
+	 *                   being queried.
+	 * @return ResponseEntity containing a list of seat reservations.
+	 */
+	@GetMapping("/customer/{customerId}")
+	public ResponseEntity<List<SeatReservationDTO>> getAllSeatReservationsByCustomerId(
+			@PathVariable Integer customerId) {
+		return ResponseEntity.ok(seatReservationService.getAllByCustomerId(customerId));
+	}
+
+	/**
+	 * Retrieves the reserved and remaining seats of an office space for every day
+	 * of a period. Route: HTTP GET
+	 * /api/seatreservations/officespace/officeSpaceId/seats?startDate=yyyy-mm-dd&amp;endDate=yyyy-mm-dd
+	 *
+	 * @param officeSpaceId The id of the office space.
+	 * @param startDate     The first day of the period.
+	 * @param endDate       The last day of the period.
+	 * @return ResponseEntity containing a list of the seats for every day.
+	 */
+	@GetMapping("/officespace/{officeSpaceId}/seats")
+	public ResponseEntity<List<SeatAvailabilityDTO>> getSeats(@PathVariable Integer officeSpaceId,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+		return ResponseEntity.ok(seatReservationService.getSeats(officeSpaceId, startDate, endDate));
+	}
+
+	/**
+	 * Retrieves a seat reservation by its id. Route: HTTP GET
+	 * /api/seatreservations/id
+	 *
+	 * @param id The id of the seat reservation thats is being queried.
+	 * @return ResponseEntity containing the seat reservation if found.
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<SeatReservationDTO> getSeatReservationById(@PathVariable Integer id) {
+		return ResponseEntity.ok(seatReservationService.getById(id));
+	}
+
+	/**
+	 * Adds a new seat reservation. Route: HTTP POST /api/seatreservations
+	 *
+	 * @param seatReservationDTO The SeatReservationDTO representing the seat
+	 *                           reservation that is being added.
+	 * @return ResponseEntity containing the added seat reservation if successful.
+	 */
+	@PostMapping
+	public ResponseEntity<SeatReservationDTO> addSeatReservation(
+			@Validated(ValidationGroups.Request.class) @RequestBody SeatReservationDTO seatReservationDTO) {
+		return ResponseEntity.ok(seatReservationService.add(seatReservationDTO));
+	}
+
+	/**
+	 * Deletes a seat reservation by its id. Route: HTTP DELETE
+	 * /api/seatreservations/id
+	 *
+	 * @param id The id of the seat reservation that is being deleted.
+	 * @return ResponseEntity containing the deleted seat reservation if
+	 *         successful.
+	 */
+	@DeleteMapping("/{id}")
+	public ResponseEntity<SeatReservationDTO> deleteSeatReservation(@PathVariable Integer id) {
+		return ResponseEntity.ok(seatReservationService.delete(id));
+	}
+}
@@ -1,9 +1,13 @@
 package com.nikoladronjak.rently.controller;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -11,14 +15,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.nikoladronjak.rently.dto.AutocompleteDTO;
+import com.nikoladronjak.rently.dto.CompletionDTO;
 import com.nikoladronjak.rently.dto.UtilityDTO;
+import com.nikoladronjak.rently.service.AutocompleteService;
 import com.nikoladronjak.rently.service.UtilityService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
 
 /**
  * Represents a controller class for handling HTTP requests related to Utility
  * entities. This class provides end-points for retrieving, adding, updating,
- * and deleting Utility entities. It also handles validation errors by returning
- * appropriate responses.
+ * and deleting Utility entities, and for completing their names. It also
+ * handles validation errors by returning appropriate responses.
  * 
  * @author Nikola Dronjak
  */
@@ -32,27 +40,48 @@ public class UtilityController {
 	@Autowired
 	private UtilityService utilityService;
 
+	/**
+	 * Service for completing the names of the utilities.
+	 */
+	@Autowired
+	private AutocompleteService autocompleteService;
+
 	/**
 	 * Retrieves all utilities. Route: HTTP GET /api/utilities
 	 *
-	 * @return ResponseEntity with HTTP status and response body containing a list
-	 *         of utilities or an error message.
+	 * @return ResponseEntity containing a list of utilities.
 	 */
 	@GetMapping
-	public ResponseEntity<?> getAllUtilities() {
-		return utilityService.getAll();
+	public ResponseEntity<List<UtilityDTO>> getAllUtilities() {
+		return ResponseEntity.ok(utilityService.getAll());
+	}
+
+	/**
+	 * Completes the beginning of a name, or of any word of a name, with the names
+	 * of the utilities, from the most leased. Route: HTTP GET
+	 * /api/utilities/autocomplete?prefix=...
+	 * 
+	 * The number of completions can be set with the limit query parameter.
+	 *
+	 * @param autocompleteDTO The AutocompleteDTO representing the prefix and the
+	 *                        number of completions.
+	 * @return ResponseEntity containing a list of completions.
+	 */
+	@GetMapping("/autocomplete")
+	public ResponseEntity<List<CompletionDTO>> autocompleteUtilityNames(
+			@Validated(ValidationGroups.Request.class) @ModelAttribute AutocompleteDTO autocompleteDTO) {
+		return ResponseEntity.ok(autocompleteService.completeUtilityNames(autocompleteDTO));
 	}
 
 	/**
 	 * Retrieves a utility by its id. Route: HTTP GET /api/utilities/id
 	 *
 	 * @param id The id of the utility thats is being queried.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         utility if found, or an error message.
+	 * @return ResponseEntity containing the utility if found.
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<?> getUtilityById(@PathVariable Integer id) {
-		return utilityService.getById(id);
+	public ResponseEntity<UtilityDTO> getUtilityById(@PathVariable Integer id) {
+		return ResponseEntity.ok(utilityService.getById(id));
 	}
 
 	/**
@@ -60,12 +89,12 @@ public class UtilityController {
 	 *
 	 * @param utilityDTO The UtilityDTO representing the utility that is being
 	 *                   added.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         added utility if successful, or an error message.
+	 * @return ResponseEntity containing the added utility if successful.
 	 */
 	@PostMapping
-	public ResponseEntity<?> addUtility(@RequestBody UtilityDTO utilityDTO) {
-		return utilityService.add(utilityDTO);
+	public ResponseEntity<UtilityDTO> addUtility(
+			@Validated(ValidationGroups.Request.class) @RequestBody UtilityDTO utilityDTO) {
+		return ResponseEntity.ok(utilityService.add(utilityDTO));
 	}
 
 	/**
@@ -74,23 +103,22 @@ public class UtilityController {
 	 * @param id         The id of the utility that is being updated.
 	 * @param utilityDTO The UtilityDTO representing the updated utility
 	 *                   information.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         updated utility if successful, or an error message.
+	 * @return ResponseEntity containing the updated utility if successful.
 	 */
 	@PutMapping("/{id}")
-	public ResponseEntity<?> updateUtility(@PathVariable Integer id, @RequestBody UtilityDTO utilityDTO) {
-		return utilityService.update(id, utilityDTO);
+	public ResponseEntity<UtilityDTO> updateUtility(@PathVariable Integer id,
+			@Validated(ValidationGroups.Request.class) @RequestBody UtilityDTO utilityDTO) {
+		return ResponseEntity.ok(utilityService.update(id, utilityDTO));
 	}
 
 	/**
 	 * Deletes a utility by its id. Route: HTTP DELETE /api/utilities/id
 	 *
 	 * @param id The id of the utility that is being deleted.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         deleted utility if successful, or an error message.
+	 * @return ResponseEntity containing the deleted utility if successful.
 	 */
 	@DeleteMapping("/{id}")
-	public ResponseEntity<?> deleteUtility(@PathVariable Integer id) {
-		return utilityService.delete(id);
+	public ResponseEntity<UtilityDTO> deleteUtility(@PathVariable Integer id) {
+		return ResponseEntity.ok(utilityService.delete(id));
 	}
 }
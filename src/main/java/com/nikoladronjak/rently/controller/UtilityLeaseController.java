@@ -1,7 +1,10 @@
 package com.nikoladronjak.rently.controller;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,8 +14,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.nikoladronjak.rently.dto.CommandStatusDTO;
 import com.nikoladronjak.rently.dto.UtilityLeaseDTO;
+import com.nikoladronjak.rently.service.AsyncWriteService;
 import com.nikoladronjak.rently.service.UtilityLeaseService;
+import com.nikoladronjak.rently.validation.ValidationGroups;
 
 /**
  * Represents a controller class for handling HTTP requests related to
@@ -32,15 +38,20 @@ public class UtilityLeaseController {
 	@Autowired
 	private UtilityLeaseService utilityLeaseService;
 
+	/**
+	 * Service for executing write commands in asynchronous mode.
+	 */
+	@Autowired
+	private AsyncWriteService asyncWriteService;
+
 	/**
 	 * Retrieves all utility leases. Route: HTTP GET /api/utilityleases
 	 *
-	 * @return ResponseEntity with HTTP status and response body containing a list
-	 *         of utility leases or an error message.
+	 * @return ResponseEntity containing a list of utility leases.
 	 */
 	@GetMapping
-	public ResponseEntity<?> getAllUtilityLeases() {
-		return utilityLeaseService.getAll();
+	public ResponseEntity<List<UtilityLeaseDTO>> getAllUtilityLeases() {
+		return ResponseEntity.ok(utilityLeaseService.getAll());
 	}
 
 	/**
@@ -49,12 +60,11 @@ public class UtilityLeaseController {
 	 *
 	 * @param utilityId The id of the utility for which the utility leases are being
 	 *                  queried.
-	 * @return ResponseEntity with HTTP status and response body containing a list
-	 *         of utility leases or an error message.
+	 * @return ResponseEntity containing a list of utility leases.
 	 */
 	@GetMapping("/utility/{utilityId}")
-	public ResponseEntity<?> getAllUtilityLeasesByUtilityId(@PathVariable Integer utilityId) {
-		return utilityLeaseService.getAllByUtilityId(utilityId);
+	public ResponseEntity<List<UtilityLeaseDTO>> getAllUtilityLeasesByUtilityId(@PathVariable Integer utilityId) {
+		return ResponseEntity.ok(utilityLeaseService.getAllByUtilityId(utilityId));
 	}
 
 	/**
@@ -63,24 +73,22 @@ public class UtilityLeaseController {
 	 *
 	 * @param propertyId The id of the property for which the utility leases are
 	 *                   being queried.
-	 * @return ResponseEntity with HTTP status and response body containing a list
-	 *         of utility leases or an error message.
+	 * @return ResponseEntity containing a list of utility leases.
 	 */
 	@GetMapping("/property/{propertyId}")
-	public ResponseEntity<?> getAllUtilityLeasesByPropertyId(@PathVariable Integer propertyId) {
-		return utilityLeaseService.getAllByPropertyId(propertyId);
+	public ResponseEntity<List<UtilityLeaseDTO>> getAllUtilityLeasesByPropertyId(@PathVariable Integer propertyId) {
+		return ResponseEntity.ok(utilityLeaseService.getAllByPropertyId(propertyId));
 	}
 
 	/**
 	 * Retrieves a utility lease by its id. Route: HTTP GET /api/utilityleases/id
 	 *
 	 * @param id The id of the utility lease thats is being queried.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         utility lease if found, or an error message.
+	 * @return ResponseEntity containing the utility lease if found.
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<?> getUtilityLeaseById(@PathVariable Integer id) {
-		return utilityLeaseService.getById(id);
+	public ResponseEntity<UtilityLeaseDTO> getUtilityLeaseById(@PathVariable Integer id) {
+		return ResponseEntity.ok(utilityLeaseService.getById(id));
 	}
 
 	/**
@@ -88,12 +96,25 @@ public class UtilityLeaseController {
 	 *
 	 * @param utilityLeaseDTO The UtilityLeaseDTO representing the utiliy lease that
 	 *                        is being added.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         added utility lease if successful, or an error message.
+	 * @return ResponseEntity containing the added utility lease if successful.
 	 */
 	@PostMapping
-	public ResponseEntity<?> addUtilityLease(@RequestBody UtilityLeaseDTO utilityLeaseDTO) {
-		return utilityLeaseService.add(utilityLeaseDTO);
+	public ResponseEntity<UtilityLeaseDTO> addUtilityLease(
+			@Validated(ValidationGroups.Request.class) @RequestBody UtilityLeaseDTO utilityLeaseDTO) {
+		return ResponseEntity.ok(utilityLeaseService.add(utilityLeaseDTO));
+	}
+
+	/**
+	 * Adds a new utility lease in asynchronous mode. Route: HTTP POST /api/utilityleases?async=true
+	 *
+	 * @param utilityLeaseDTO The UtilityLeaseDTO representing the utility lease that is being added.
+	 * @return ResponseEntity with HTTP status 202 and the status of the accepted
+	 *         command, or an error message if the server is busy.
+	 */
+	@PostMapping(params = "async=true")
+	public ResponseEntity<CommandStatusDTO> addUtilityLeaseAsync(
+			@Validated(ValidationGroups.Request.class) @RequestBody UtilityLeaseDTO utilityLeaseDTO) {
+		return asyncWriteService.submit(() -> utilityLeaseService.add(utilityLeaseDTO));
 	}
 
 	/**
@@ -102,23 +123,22 @@ public class UtilityLeaseController {
 	 * @param id              The id of the utility lease that is being updated.
 	 * @param utilityLeaseDTO The UtilityLeaseDTO representing the updated utility
 	 *                        lease information.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         updated utility lease if successful, or an error message.
+	 * @return ResponseEntity containing the updated utility lease if successful.
 	 */
 	@PutMapping("/{id}")
-	ResponseEntity<?> updateUtilityLease(@PathVariable Integer id, @RequestBody UtilityLeaseDTO utilityLeaseDTO) {
-		return utilityLeaseService.update(id, utilityLeaseDTO);
+	ResponseEntity<UtilityLeaseDTO> updateUtilityLease(@PathVariable Integer id,
+			@Validated(ValidationGroups.Request.class) @RequestBody UtilityLeaseDTO utilityLeaseDTO) {
+		return ResponseEntity.ok(utilityLeaseService.update(id, utilityLeaseDTO));
 	}
 
 	/**
 	 * Deletes a utility lease by its id. Route: HTTP DELETE /api/utilityleases/id
 	 *
 	 * @param id The id of the utility lease that is being deleted.
-	 * @return ResponseEntity with HTTP status and response body containing the
-	 *         deleted utility lease if successful, or an error message.
+	 * @return ResponseEntity containing the deleted utility lease if successful.
 	 */
 	@DeleteMapping("/{id}")
-	ResponseEntity<?> deleteUtilityLease(@PathVariable Integer id) {
-		return utilityLeaseService.delete(id);
+	ResponseEntity<UtilityLeaseDTO> deleteUtilityLease(@PathVariable Integer id) {
+		return ResponseEntity.ok(utilityLeaseService.delete(id));
 	}
 }
@@ -0,0 +1,126 @@
+package com.nikoladronjak.rently.domain;
+
+import java.util.Objects;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Represents a domain class for storing information about a BillingPartition
+ * entity. This class is mapped to the "BillingPartitions" table in the
+ * database using JPA annotations. The primary key of this table is
+ * "billingPartitionId". This table also contains a foreign key,
+ * "billingRunId", which references the "BillingRuns" table.
+ * 
+ * The BillingPartition entity records a partition of a billing run which has
+ * been processed. It contains a billingPartitionId, the index of the partition
+ * within the run, the number of rents which were created for the partition and
+ * the billing run which is associated with the BillingPartition entity.
+ * 
+ * @author Nikola Dronjak
+ */
+@Entity
+@Table(name = "BillingPartitions",
+		uniqueConstraints = @UniqueConstraint(columnNames = { "billingRunId", "partitionIndex" }))
+public class BillingPartition {
+
+	/**
+	 * Represents a unique identifier for the billing partition (int). This
+	 * identifier is generated automatically by JPA.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int billingPartitionId;
+
+	/**
+	 * Represents the index of the partition within the billing run (int).
+	 */
+	@PositiveOrZero(message = "The index of the partition cannot be a negative value.")
+	private int partitionIndex;
+
+	/**
+	 * Represents the number of rents which were created by the attempt which
+	 * completed the partition (int). The rents of an interrupted attempt are
+	 * only counted by the billing run.
+	 */
+	@PositiveOrZero(message = "The number of created rents cannot be a negative value.")
+	private int rentsCreated;
+
+	/**
+	 * Represents the billing run which is associated with the partition
+	 * (BillingRun).
+	 * 
+	 * The id of the billing run cannot be null.
+	 */
+	@NotNull(message = "You have to specify the billing run of the partition.")
+	@ManyToOne
+	@JoinColumn(name = "billingRunId")
+	private BillingRun billingRun;
+
+	public BillingPartition() {
+
+	}
+
+	public BillingPartition(int billingPartitionId, int partitionIndex, int rentsCreated, BillingRun billingRun) {
+		this.billingPartitionId = billingPartitionId;
+		this.partitionIndex = partitionIndex;
+		this.rentsCreated = rentsCreated;
+		this.billingRun = billingRun;
+	}
+
+	public int getBillingPartitionId() {
+		return billingPartitionId;
+	}
+
+	public void setBillingPartitionId(int billingPartitionId) {
+		this.billingPartitionId = billingPartitionId;
+	}
+
+	public int getPartitionIndex() {
+		return partitionIndex;
+	}
+
+	public void setPartitionIndex(int partitionIndex) {
+		this.partitionIndex = partitionIndex;
+	}
+
+	public int getRentsCreated() {
+		return rentsCreated;
+	}
+
+	public void setRentsCreated(int rentsCreated) {
+		this.rentsCreated = rentsCreated;
+	}
+
+	public BillingRun getBillingRun() {
+		return billingRun;
+	}
+
+	public void setBillingRun(BillingRun billingRun) {
+		this.billingRun = billingRun;
+	}
+
+	@Override
+	public String toString() {
+		return "BillingPartition [billingPartitionId=" + billingPartitionId + ", partitionIndex=" + partitionIndex
+				+ ", rentsCreated=" + rentsCreated + ", billingRun=" + billingRun + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(billingPartitionId, billingRun, partitionIndex, rentsCreated);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		BillingPartition other = (BillingPartition) obj;
+		return billingPartitionId == other.billingPartitionId && Objects.equals(billingRun, other.billingRun)
+				&& partitionIndex == other.partitionIndex && rentsCreated == other.rentsCreated;
+	}
+}
@@ -0,0 +1,188 @@
+package com.nikoladronjak.rently.domain;
+
+import java.util.Objects;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Represents a domain class for storing information about a BillingRun entity.
+ * This class is mapped to the "BillingRuns" table in the database using JPA
+ * annotations. The primary key of this table is "billingRunId".
+ * 
+ * The BillingRun entity contains a billingRunId, the billing period (month)
+ * for which the rents are generated, the status of the run and the range of
+ * the leaseIds which the run covers. The range is split into partitions of
+ * partitionSize consecutive leaseIds, and every partition which has been
+ * processed is stored as a BillingPartition entity. The number of rents which
+ * the run has created is increased in the same transaction as every batch of
+ * rents, so it stays correct when the run is resumed. There is only one
+ * billing run for every billing period.
+ * 
+ * @author Nikola Dronjak
+ */
+@Entity
+@Table(name = "BillingRuns")
+public class BillingRun {
+
+	/**
+	 * Represents a unique identifier for the billing run (int). This identifier
+	 * is generated automatically by JPA.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int billingRunId;
+
+	/**
+	 * Represents the month for which the rents are generated (String).
+	 * 
+	 * The billing period cannot be null, has to be unique and has to be in the
+	 * following format: yyyy-MM.
+	 */
+	@NotNull(message = "The billing period is required.")
+	@Pattern(regexp = "\\d{4}-(0[1-9]|1[0-2])", message = "The billing period has to be in the yyyy-MM format.")
+	@Column(unique = true)
+	private String billingPeriod;
+
+	/**
+	 * Represents the status of the billing run (BillingRunStatus).
+	 */
+	@NotNull(message = "The status of the billing run is required.")
+	private BillingRunStatus status;
+
+	/**
+	 * Represents the lowest leaseId which the run covers (int).
+	 */
+	private int firstLeaseId;
+
+	/**
+	 * Represents the highest leaseId which the run covers (int).
+	 */
+	private int lastLeaseId;
+
+	/**
+	 * Represents the number of consecutive leaseIds in a partition (int).
+	 */
+	@Positive(message = "The size of a partition has to be a positive value.")
+	private int partitionSize;
+
+	/**
+	 * Represents the number of partitions of the run (int).
+	 */
+	@PositiveOrZero(message = "The number of partitions cannot be a negative value.")
+	private int partitions;
+
+	/**
+	 * Represents the number of rents which the run has created (int).
+	 */
+	@PositiveOrZero(message = "The number of created rents cannot be a negative value.")
+	private int rentsCreated;
+
+	public BillingRun() {
+
+	}
+
+	public BillingRun(int billingRunId, String billingPeriod, BillingRunStatus status, int firstLeaseId,
+			int lastLeaseId, int partitionSize, int partitions, int rentsCreated) {
+		this.billingRunId = billingRunId;
+		this.billingPeriod = billingPeriod;
+		this.status = status;
+		this.firstLeaseId = firstLeaseId;
+		this.lastLeaseId = lastLeaseId;
+		this.partitionSize = partitionSize;
+		this.partitions = partitions;
+		this.rentsCreated = rentsCreated;
+	}
+
+	public int getBillingRunId() {
+		return billingRunId;
+	}
+
+	public void setBillingRunId(int billingRunId) {
+		this.billingRunId = billingRunId;
+	}
+
+	public String getBillingPeriod() {
+		return billingPeriod;
+	}
+
+	public void setBillingPeriod(String billingPeriod) {
+		this.billingPeriod = billingPeriod;
+	}
+
+	public BillingRunStatus getStatus() {
+		return status;
+	}
+
+	public void setStatus(BillingRunStatus status) {
+		this.status = status;
+	}
+
+	public int getFirstLeaseId() {
+		return firstLeaseId;
+	}
+
+	public void setFirstLeaseId(int firstLeaseId) {
+		this.firstLeaseId = firstLeaseId;
+	}
+
+	public int getLastLeaseId() {
+		return lastLeaseId;
+	}
+
+	public void setLastLeaseId(int lastLeaseId) {
+		this.lastLeaseId = lastLeaseId;
+	}
+
+	public int getPartitionSize() {
+		return partitionSize;
+	}
+
+	public void setPartitionSize(int partitionSize) {
+		this.partitionSize = partitionSize;
+	}
+
+	public int getPartitions() {
+		return partitions;
+	}
+
+	public void setPartitions(int partitions) {
+		this.partitions = partitions;
+	}
+
+	public int getRentsCreated() {
+		return rentsCreated;
+	}
+
+	public void setRentsCreated(int rentsCreated) {
+		this.rentsCreated = rentsCreated;
+	}
+
+	@Override
+	public String toString() {
+		return "BillingRun [billingRunId=" + billingRunId + ", billingPeriod=" + billingPeriod + ", status=" + status
+				+ ", firstLeaseId=" + firstLeaseId + ", lastLeaseId=" + lastLeaseId + ", partitionSize="
+				+ partitionSize + ", partitions=" + partitions + ", rentsCreated=" + rentsCreated + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(billingPeriod, billingRunId, firstLeaseId, lastLeaseId, partitionSize, partitions,
+				rentsCreated, status);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		BillingRun other = (BillingRun) obj;
+		return Objects.equals(billingPeriod, other.billingPeriod) && billingRunId == other.billingRunId
+				&& firstLeaseId == other.firstLeaseId && lastLeaseId == other.lastLeaseId
+				&& partitionSize == other.partitionSize && partitions == other.partitions
+				&& rentsCreated == other.rentsCreated && status == other.status;
+	}
+}
@@ -0,0 +1,20 @@
+package com.nikoladronjak.rently.domain;
+
+/**
+ * Represents different states of a billing run.
+ */
+public enum BillingRunStatus {
+	/**
+	 * Represents a billing run whose partitions are being processed.
+	 */
+	Running,
+	/**
+	 * Represents a billing run whose partitions have all been processed.
+	 */
+	Completed,
+	/**
+	 * Represents a billing run which was interrupted or in which a partition
+	 * failed. Starting the run again processes only the unfinished partitions.
+	 */
+	Failed
+}
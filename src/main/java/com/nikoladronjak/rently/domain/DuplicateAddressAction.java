@@ -0,0 +1,17 @@
+package com.nikoladronjak.rently.domain;
+
+/**
+ * Represents what happens when the address of a property which is being added
+ * or modified is similar to the address of another property.
+ */
+public enum DuplicateAddressAction {
+	/**
+	 * Represents storing the property and returning the ids of the similar
+	 * properties with it.
+	 */
+	Warn,
+	/**
+	 * Represents rejecting the property with a conflict.
+	 */
+	Reject
+}
@@ -0,0 +1,179 @@
+package com.nikoladronjak.rently.domain;
+
+import java.util.GregorianCalendar;
+import java.util.Objects;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Represents a domain class for storing information about an EventBooking
+ * entity. This class is mapped to the "EventBookings" table in the database
+ * using JPA annotations. The primary key of this table is "eventBookingId".
+ * This table also contains two foreign keys, "propertyId" which references the
+ * "EventSpaces" table and "customerId" which references the "Customers" table.
+ * 
+ * The EventBooking entity contains an eventBookingId, the date of the booking,
+ * the hour at which the booking starts, the hour at which the booking ends, an
+ * event space which is associated with the EventBooking entity and a customer
+ * who is associated with the EventBooking entity.
+ * 
+ * The bookings of the same event space cannot overlap, which is checked by the
+ * EventBookingService when an event space is being booked.
+ * 
+ * @author Nikola Dronjak
+ */
+@Entity
+@Table(name = "EventBookings")
+public class EventBooking {
+
+	/**
+	 * Represents a unique identifier for the event booking (int). This identifier
+	 * is automatically generated by JPA.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int eventBookingId;
+
+	/**
+	 * Represents the date of the booking (GregorianCalendar).
+	 * 
+	 * The date cannot be null, has to be in the present or the future and has to
+	 * be in the following format: yyyy-mm-dd.
+	 */
+	@NotNull(message = "The date of the booking is required.")
+	@FutureOrPresent(message = "The date of the booking has to be in the present or in the future.")
+	@DateTimeFormat(pattern = "yyyy-mm-dd")
+	private GregorianCalendar date;
+
+	/**
+	 * Represents the hour at which the booking starts (Integer).
+	 * 
+	 * The start hour cannot be null and it has to be between 0 and 23.
+	 */
+	@NotNull(message = "The start hour of the booking is required.")
+	@Min(value = 0, message = "The start hour of the booking has to be between 0 and 23.")
+	@Max(value = 23, message = "The start hour of the booking has to be between 0 and 23.")
+	private Integer startHour;
+
+	/**
+	 * Represents the hour at which the booking ends (Integer). The booking
+	 * includes the hours up to, but not including, the end hour.
+	 * 
+	 * The end hour cannot be null and it has to be between 1 and 24.
+	 */
+	@NotNull(message = "The end hour of the booking is required.")
+	@Min(value = 1, message = "The end hour of the booking has to be between 1 and 24.")
+	@Max(value = 24, message = "The end hour of the booking has to be between 1 and 24.")
+	private Integer endHour;
+
+	/**
+	 * Represents the event space which is associated with the booking
+	 * (EventSpace).
+	 * 
+	 * The id of the event space cannot be null.
+	 */
+	@NotNull(message = "You have to specify the event space which is being booked.")
+	@ManyToOne
+	@JoinColumn(name = "propertyId")
+	private EventSpace eventSpace;
+
+	/**
+	 * Represents the customer who is associated with the booking (Customer).
+	 * 
+	 * The id of the customer cannot be null.
+	 */
+	@NotNull(message = "You have to specify the customer who is booking the event space.")
+	@ManyToOne
+	@JoinColumn(name = "customerId")
+	private Customer customer;
+
+	public EventBooking() {
+
+	}
+
+	public EventBooking(int eventBookingId, GregorianCalendar date, Integer startHour, Integer endHour,
+			EventSpace eventSpace, Customer customer) {
+		this.eventBookingId = eventBookingId;
+		this.date = date;
+		this.startHour = startHour;
+		this.endHour = endHour;
+		this.eventSpace = eventSpace;
+		this.customer = customer;
+	}
+
+	public int getEventBookingId() {
+		return eventBookingId;
+	}
+
+	public void setEventBookingId(int eventBookingId) {
+		this.eventBookingId = eventBookingId;
+	}
+
+	public GregorianCalendar getDate() {
+		return date;
+	}
+
+	public void setDate(GregorianCalendar date) {
+		this.date = date;
+	}
+
+	public Integer getStartHour() {
+		return startHour;
+	}
+
+	public void setStartHour(Integer startHour) {
+		this.startHour = startHour;
+	}
+
+	public Integer getEndHour() {
+		return endHour;
+	}
+
+	public void setEndHour(Integer endHour) {
+		this.endHour = endHour;
+	}
+
+	public EventSpace getEventSpace() {
+		return eventSpace;
+	}
+
+	public void setEventSpace(EventSpace eventSpace) {
+		this.eventSpace = eventSpace;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public void setCustomer(Customer customer) {
+		this.customer = customer;
+	}
+
+	@Override
+	public String toString() {
+		return "EventBooking [eventBookingId=" + eventBookingId + ", date=" + date + ", startHour=" + startHour
+				+ ", endHour=" + endHour + ", eventSpace=" + eventSpace + ", customer=" + customer + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(customer, date, endHour, eventBookingId, eventSpace, startHour);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		EventBooking other = (EventBooking) obj;
+		return Objects.equals(customer, other.customer) && Objects.equals(date, other.date)
+				&& Objects.equals(endHour, other.endHour) && eventBookingId == other.eventBookingId
+				&& Objects.equals(eventSpace, other.eventSpace) && Objects.equals(startHour, other.startHour);
+	}
+}
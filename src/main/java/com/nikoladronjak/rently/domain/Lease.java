@@ -22,12 +22,13 @@ import jakarta.validation.constraints.*;
  * Lease entity, a customer who is associated with the Lease entity and a list
  * of rents which are associated with the Lease entity.
  * 
- * The combination of propertyId and customerId values has to be unique.
+ * The leases of the same property cannot overlap, which is checked by the
+ * PropertyBookingService when a lease is being booked.
  * 
  * @author Nikola Dronjak
  */
 @Entity
-@Table(name = "Leases", uniqueConstraints = { @UniqueConstraint(columnNames = { "propertyId", "customerId" }) })
+@Table(name = "Leases")
 public class Lease {
 
 	/**
@@ -0,0 +1,195 @@
+package com.nikoladronjak.rently.domain;
+
+import java.util.GregorianCalendar;
+import java.util.Objects;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Represents a domain class for storing information about a LeaseHistory
+ * entity. This class is mapped to the "LeaseHistory" table in the database
+ * using JPA annotations. The primary key of this table is "leaseHistoryId".
+ * 
+ * A LeaseHistory entity is a version of a lease: its terms from the time the
+ * version was written until the time the next version was written. A version
+ * is written in the same transaction in which the lease is added, modified,
+ * repriced or deleted; the version which is written when the lease is deleted
+ * is marked as deleted. The ids are stored as plain values, so the history is
+ * kept even after the lease is deleted, and the table has an index on
+ * (leaseId, validFrom), so the version which was valid at a given time is
+ * found with a single index seek.
+ * 
+ * @author Nikola Dronjak
+ */
+@Entity
+@Table(name = "LeaseHistory", indexes = @Index(columnList = "leaseId, validFrom"))
+public class LeaseHistory {
+
+	/**
+	 * Represents a unique identifier for the version (int). This identifier is
+	 * generated automatically by JPA.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int leaseHistoryId;
+
+	/**
+	 * Represents the id of the lease (int).
+	 */
+	private int leaseId;
+
+	/**
+	 * Represents the time from which the version is valid (GregorianCalendar).
+	 */
+	@NotNull(message = "The time from which the version is valid is required.")
+	private GregorianCalendar validFrom;
+
+	/**
+	 * Indicates whether the lease was deleted at the time of the version
+	 * (boolean).
+	 */
+	private boolean deleted;
+
+	/**
+	 * Represents the id of the leased property (int).
+	 */
+	private int propertyId;
+
+	/**
+	 * Represents the id of the customer (int).
+	 */
+	private int customerId;
+
+	/**
+	 * Represents the monthly rental rate of the lease (double).
+	 */
+	private double rentalRate;
+
+	/**
+	 * Represents the start date of the lease (GregorianCalendar).
+	 */
+	private GregorianCalendar startDate;
+
+	/**
+	 * Represents the end date of the lease (GregorianCalendar).
+	 */
+	private GregorianCalendar endDate;
+
+	public LeaseHistory() {
+
+	}
+
+	public LeaseHistory(int leaseHistoryId, int leaseId, GregorianCalendar validFrom, boolean deleted, int propertyId,
+			int customerId, double rentalRate, GregorianCalendar startDate, GregorianCalendar endDate) {
+		this.leaseHistoryId = leaseHistoryId;
+		this.leaseId = leaseId;
+		this.validFrom = validFrom;
+		this.deleted = deleted;
+		this.propertyId = propertyId;
+		this.customerId = customerId;
+		this.rentalRate = rentalRate;
+		this.startDate = startDate;
+		this.endDate = endDate;
+	}
+
+	public int getLeaseHistoryId() {
+		return leaseHistoryId;
+	}
+
+	public void setLeaseHistoryId(int leaseHistoryId) {
+		this.leaseHistoryId = leaseHistoryId;
+	}
+
+	public int getLeaseId() {
+		return leaseId;
+	}
+
+	public void setLeaseId(int leaseId) {
+		this.leaseId = leaseId;
+	}
+
+	public GregorianCalendar getValidFrom() {
+		return validFrom;
+	}
+
+	public void setValidFrom(GregorianCalendar validFrom) {
+		this.validFrom = validFrom;
+	}
+
+	public boolean isDeleted() {
+		return deleted;
+	}
+
+	public void setDeleted(boolean deleted) {
+		this.deleted = deleted;
+	}
+
+	public int getPropertyId() {
+		return propertyId;
+	}
+
+	public void setPropertyId(int propertyId) {
+		this.propertyId = propertyId;
+	}
+
+	public int getCustomerId() {
+		return customerId;
+	}
+
+	public void setCustomerId(int customerId) {
+		this.customerId = customerId;
+	}
+
+	public double getRentalRate() {
+		return rentalRate;
+	}
+
+	public void setRentalRate(double rentalRate) {
+		this.rentalRate = rentalRate;
+	}
+
+	public GregorianCalendar getStartDate() {
+		return startDate;
+	}
+
+	public void setStartDate(GregorianCalendar startDate) {
+		this.startDate = startDate;
+	}
+
+	public GregorianCalendar getEndDate() {
+		return endDate;
+	}
+
+	public void setEndDate(GregorianCalendar endDate) {
+		this.endDate = endDate;
+	}
+
+	@Override
+	public String toString() {
+		return "LeaseHistory [leaseHistoryId=" + leaseHistoryId + ", leaseId=" + leaseId + ", validFrom=" + validFrom
+				+ ", deleted=" + deleted + ", propertyId=" + propertyId + ", customerId=" + customerId + ", rentalRate="
+				+ rentalRate + ", startDate=" + startDate + ", endDate=" + endDate + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(customerId, deleted, endDate, leaseHistoryId, leaseId, propertyId, rentalRate, startDate,
+				validFrom);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		LeaseHistory other = (LeaseHistory) obj;
+		return customerId == other.customerId && deleted == other.deleted && Objects.equals(endDate, other.endDate)
+				&& leaseHistoryId == other.leaseHistoryId && leaseId == other.leaseId && propertyId == other.propertyId
+				&& Double.doubleToLongBits(rentalRate) == Double.doubleToLongBits(other.rentalRate)
+				&& Objects.equals(startDate, other.startDate) && Objects.equals(validFrom, other.validFrom);
+	}
+}
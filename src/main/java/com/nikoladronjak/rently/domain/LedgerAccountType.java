@@ -0,0 +1,20 @@
+package com.nikoladronjak.rently.domain;
+
+/**
+ * Represents different types of accounts whose running balances are kept by
+ * the payment ledger.
+ */
+public enum LedgerAccountType {
+	/**
+	 * Represents the balance of a single rent.
+	 */
+	Rent,
+	/**
+	 * Represents the balance of all the rents of a lease.
+	 */
+	Lease,
+	/**
+	 * Represents the balance of all the rents of all the leases of a customer.
+	 */
+	Customer
+}
@@ -0,0 +1,170 @@
+package com.nikoladronjak.rently.domain;
+
+import java.util.Objects;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Represents a domain class for storing information about a LedgerBalance
+ * entity. This class is mapped to the "LedgerBalances" table in the database
+ * using JPA annotations. The primary key of this table is "ledgerBalanceId".
+ * 
+ * The LedgerBalance entity contains a ledgerBalanceId, the type and the id of
+ * the account (a rent, a lease or a customer), the id of the owner of the
+ * leased property, the id of the lease and the billing period of the rent (for
+ * the balances of rents only) and the running balance of the account. The
+ * balance is the sum of the charges and the adjustments minus the sum of the
+ * payments which were posted to the account. It is updated with every posted
+ * ledger entry, so reading it never requires summing the ledger. There is only
+ * one balance for every account.
+ * 
+ * @author Nikola Dronjak
+ */
+@Entity
+@Table(name = "LedgerBalances",
+		uniqueConstraints = @UniqueConstraint(columnNames = { "accountType", "accountId" }),
+		indexes = @Index(columnList = "ownerId, accountType"))
+public class LedgerBalance {
+
+	/**
+	 * Represents a unique identifier for the ledger balance (int). This
+	 * identifier is generated automatically by JPA.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int ledgerBalanceId;
+
+	/**
+	 * Represents the type of the account (LedgerAccountType).
+	 */
+	@NotNull(message = "The type of the account is required.")
+	private LedgerAccountType accountType;
+
+	/**
+	 * Represents the id of the rent, the lease or the customer (int).
+	 */
+	private int accountId;
+
+	/**
+	 * Represents the id of the owner of the leased property (Integer). It is null
+	 * for the balances of customers, because a customer can lease the properties
+	 * of many owners.
+	 */
+	private Integer ownerId;
+
+	/**
+	 * Represents the id of the lease of the rent (Integer). It is only set for
+	 * the balances of rents.
+	 */
+	private Integer leaseId;
+
+	/**
+	 * Represents the billing period of the rent (String). It is only set for the
+	 * balances of rents which have a billing period.
+	 */
+	private String billingPeriod;
+
+	/**
+	 * Represents the running balance of the account (double).
+	 */
+	private double balance;
+
+	public LedgerBalance() {
+
+	}
+
+	public LedgerBalance(int ledgerBalanceId, LedgerAccountType accountType, int accountId, Integer ownerId,
+			Integer leaseId, String billingPeriod, double balance) {
+		this.ledgerBalanceId = ledgerBalanceId;
+		this.accountType = accountType;
+		this.accountId = accountId;
+		this.ownerId = ownerId;
+		this.leaseId = leaseId;
+		this.billingPeriod = billingPeriod;
+		this.balance = balance;
+	}
+
+	public int getLedgerBalanceId() {
+		return ledgerBalanceId;
+	}
+
+	public void setLedgerBalanceId(int ledgerBalanceId) {
+		this.ledgerBalanceId = ledgerBalanceId;
+	}
+
+	public LedgerAccountType getAccountType() {
+		return accountType;
+	}
+
+	public void setAccountType(LedgerAccountType accountType) {
+		this.accountType = accountType;
+	}
+
+	public int getAccountId() {
+		return accountId;
+	}
+
+	public void setAccountId(int accountId) {
+		this.accountId = accountId;
+	}
+
+	public Integer getOwnerId() {
+		return ownerId;
+	}
+
+	public void setOwnerId(Integer ownerId) {
+		this.ownerId = ownerId;
+	}
+
+	public Integer getLeaseId() {
+		return leaseId;
+	}
+
+	public void setLeaseId(Integer leaseId) {
+		this.leaseId = leaseId;
+	}
+
+	public String getBillingPeriod() {
+		return billingPeriod;
+	}
+
+	public void setBillingPeriod(String billingPeriod) {
+		this.billingPeriod = billingPeriod;
+	}
+
+	public double getBalance() {
+		return balance;
+	}
+
+	public void setBalance(double balance) {
+		this.balance = balance;
+	}
+
+	@Override
+	public String toString() {
+		return "LedgerBalance [ledgerBalanceId=" + ledgerBalanceId + ", accountType=" + accountType + ", accountId=" +
+				accountId + ", ownerId=" + ownerId + ", leaseId=" + leaseId + ", billingPeriod=" + billingPeriod +
+				", balance=" + balance + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(accountId, accountType, balance, billingPeriod, leaseId, ledgerBalanceId, ownerId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		LedgerBalance other = (LedgerBalance) obj;
+		return accountId == other.accountId && accountType == other.accountType
+				&& Double.doubleToLongBits(balance) == Double.doubleToLongBits(other.balance)
+				&& Objects.equals(billingPeriod, other.billingPeriod) && Objects.equals(leaseId, other.leaseId)
+				&& ledgerBalanceId == other.ledgerBalanceId && Objects.equals(ownerId, other.ownerId);
+	}
+}
@@ -0,0 +1,182 @@
+package com.nikoladronjak.rently.domain;
+
+import java.util.GregorianCalendar;
+import java.util.Objects;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Represents a domain class for storing information about a LedgerEntry
+ * entity. This class is mapped to the "LedgerEntries" table in the database
+ * using JPA annotations. The primary key of this table is "ledgerEntryId".
+ * 
+ * The LedgerEntry entity contains a ledgerEntryId, the type of the entry, its
+ * amount, the time at which it was posted, a description and the ids of the
+ * rent, the lease and the customer to which it was posted. The ledger is
+ * append-only: entries are never changed or deleted, a wrong entry is
+ * corrected with an adjustment. The ids are stored as plain values, so the
+ * history of the payments is kept even after the rent or the lease is deleted.
+ * 
+ * @author Nikola Dronjak
+ */
+@Entity
+@Table(name = "LedgerEntries", indexes = { @Index(columnList = "rentId"), @Index(columnList = "leaseId"),
+		@Index(columnList = "customerId") })
+public class LedgerEntry {
+
+	/**
+	 * Represents a unique identifier for the ledger entry (int). This identifier
+	 * is generated automatically by JPA.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int ledgerEntryId;
+
+	/**
+	 * Represents the type of the ledger entry (LedgerEntryType).
+	 */
+	@NotNull(message = "The type of the ledger entry is required.")
+	private LedgerEntryType type;
+
+	/**
+	 * Represents the amount of the ledger entry (double). The amounts of charges
+	 * and payments are positive, while the amount of an adjustment is added to
+	 * the balance as it is.
+	 */
+	private double amount;
+
+	/**
+	 * Represents the time at which the ledger entry was posted
+	 * (GregorianCalendar).
+	 */
+	@NotNull(message = "The time of the ledger entry is required.")
+	private GregorianCalendar postedAt;
+
+	/**
+	 * Represents the description of the ledger entry (String).
+	 */
+	private String description;
+
+	/**
+	 * Represents the id of the rent to which the entry was posted (int).
+	 */
+	private int rentId;
+
+	/**
+	 * Represents the id of the lease of the rent (int).
+	 */
+	private int leaseId;
+
+	/**
+	 * Represents the id of the customer of the lease (int).
+	 */
+	private int customerId;
+
+	public LedgerEntry() {
+
+	}
+
+	public LedgerEntry(int ledgerEntryId, LedgerEntryType type, double amount, GregorianCalendar postedAt,
+			String description, int rentId, int leaseId, int customerId) {
+		this.ledgerEntryId = ledgerEntryId;
+		this.type = type;
+		this.amount = amount;
+		this.postedAt = postedAt;
+		this.description = description;
+		this.rentId = rentId;
+		this.leaseId = leaseId;
+		this.customerId = customerId;
+	}
+
+	public int getLedgerEntryId() {
+		return ledgerEntryId;
+	}
+
+	public void setLedgerEntryId(int ledgerEntryId) {
+		this.ledgerEntryId = ledgerEntryId;
+	}
+
+	public LedgerEntryType getType() {
+		return type;
+	}
+
+	public void setType(LedgerEntryType type) {
+		this.type = type;
+	}
+
+	public double getAmount() {
+		return amount;
+	}
+
+	public void setAmount(double amount) {
+		this.amount = amount;
+	}
+
+	public GregorianCalendar getPostedAt() {
+		return postedAt;
+	}
+
+	public void setPostedAt(GregorianCalendar postedAt) {
+		this.postedAt = postedAt;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public int getRentId() {
+		return rentId;
+	}
+
+	public void setRentId(int rentId) {
+		this.rentId = rentId;
+	}
+
+	public int getLeaseId() {
+		return leaseId;
+	}
+
+	public void setLeaseId(int leaseId) {
+		this.leaseId = leaseId;
+	}
+
+	public int getCustomerId() {
+		return customerId;
+	}
+
+	public void setCustomerId(int customerId) {
+		this.customerId = customerId;
+	}
+
+	@Override
+	public String toString() {
+		return "LedgerEntry [ledgerEntryId=" + ledgerEntryId + ", type=" + type + ", amount=" + amount +
+				", postedAt=" + postedAt + ", description=" + description + ", rentId=" + rentId + ", leaseId=" +
+				leaseId + ", customerId=" + customerId + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(amount, customerId, description, leaseId, ledgerEntryId, postedAt, rentId, type);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		LedgerEntry other = (LedgerEntry) obj;
+		return Double.doubleToLongBits(amount) == Double.doubleToLongBits(other.amount)
+				&& customerId == other.customerId && Objects.equals(description, other.description)
+				&& leaseId == other.leaseId && ledgerEntryId == other.ledgerEntryId
+				&& Objects.equals(postedAt, other.postedAt) && rentId == other.rentId && type == other.type;
+	}
+}
@@ -0,0 +1,22 @@
+package com.nikoladronjak.rently.domain;
+
+/**
+ * Represents different types of entries in the payment ledger.
+ */
+public enum LedgerEntryType {
+	/**
+	 * Represents an amount which the customer owes for a rent. It increases the
+	 * balance.
+	 */
+	Charge,
+	/**
+	 * Represents an amount which the customer has paid for a rent. It decreases
+	 * the balance.
+	 */
+	Payment,
+	/**
+	 * Represents a correction of the balance, for example a discount or a late
+	 * fee. Its amount is added to the balance, so it can be negative.
+	 */
+	Adjustment
+}
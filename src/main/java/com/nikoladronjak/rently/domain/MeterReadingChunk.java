@@ -0,0 +1,155 @@
+package com.nikoladronjak.rently.domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Represents a domain class for storing information about a MeterReadingChunk
+ * entity. This class is mapped to the "MeterReadingChunks" table in the
+ * database using JPA annotations. The primary key of this table is
+ * "meterReadingChunkId".
+ * 
+ * The MeterReadingChunk entity contains a meterReadingChunkId, the id of the
+ * utility lease whose meter was read, the start of the day (UTC) which the
+ * chunk covers, the timestamp of the last reading in the chunk, the number of
+ * readings in the chunk and the readings themselves, compressed with the
+ * TimeSeriesCodec. All the timestamps are epoch seconds. There is only one
+ * chunk for every utility lease and day, so a range query only reads the
+ * chunks of the days in the range.
+ * 
+ * @author Nikola Dronjak
+ */
+@Entity
+@Table(name = "MeterReadingChunks",
+		uniqueConstraints = @UniqueConstraint(columnNames = { "utilityLeaseId", "startTime" }))
+public class MeterReadingChunk {
+
+	/**
+	 * Represents a unique identifier for the chunk (int). This identifier is
+	 * generated automatically by JPA.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int meterReadingChunkId;
+
+	/**
+	 * Represents the id of the utility lease whose meter was read (int).
+	 */
+	private int utilityLeaseId;
+
+	/**
+	 * Represents the start of the day which the chunk covers, in epoch seconds
+	 * (long).
+	 */
+	private long startTime;
+
+	/**
+	 * Represents the timestamp of the last reading in the chunk, in epoch seconds
+	 * (long).
+	 */
+	private long endTime;
+
+	/**
+	 * Represents the number of readings in the chunk (int).
+	 */
+	@Positive(message = "A chunk has to contain at least one reading.")
+	private int readings;
+
+	/**
+	 * Represents the compressed readings (byte[]).
+	 */
+	@NotNull(message = "The readings of the chunk are required.")
+	@Lob
+	private byte[] data;
+
+	public MeterReadingChunk() {
+
+	}
+
+	public MeterReadingChunk(int meterReadingChunkId, int utilityLeaseId, long startTime, long endTime, int readings,
+			byte[] data) {
+		this.meterReadingChunkId = meterReadingChunkId;
+		this.utilityLeaseId = utilityLeaseId;
+		this.startTime = startTime;
+		this.endTime = endTime;
+		this.readings = readings;
+		this.data = data;
+	}
+
+	public int getMeterReadingChunkId() {
+		return meterReadingChunkId;
+	}
+
+	public void setMeterReadingChunkId(int meterReadingChunkId) {
+		this.meterReadingChunkId = meterReadingChunkId;
+	}
+
+	public int getUtilityLeaseId() {
+		return utilityLeaseId;
+	}
+
+	public void setUtilityLeaseId(int utilityLeaseId) {
+		this.utilityLeaseId = utilityLeaseId;
+	}
+
+	public long getStartTime() {
+		return startTime;
+	}
+
+	public void setStartTime(long startTime) {
+		this.startTime = startTime;
+	}
+
+	public long getEndTime() {
+		return endTime;
+	}
+
+	public void setEndTime(long endTime) {
+		this.endTime = endTime;
+	}
+
+	public int getReadings() {
+		return readings;
+	}
+
+	public void setReadings(int readings) {
+		this.readings = readings;
+	}
+
+	public byte[] getData() {
+		return data;
+	}
+
+	public void setData(byte[] data) {
+		this.data = data;
+	}
+
+	@Override
+	public String toString() {
+		return "MeterReadingChunk [meterReadingChunkId=" + meterReadingChunkId + ", utilityLeaseId=" + utilityLeaseId
+				+ ", startTime=" + startTime + ", endTime=" + endTime + ", readings=" + readings + ", data="
+				+ Arrays.toString(data) + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(Arrays.hashCode(data), endTime, meterReadingChunkId, readings, startTime, utilityLeaseId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		MeterReadingChunk other = (MeterReadingChunk) obj;
+		return Arrays.equals(data, other.data) && endTime == other.endTime
+				&& meterReadingChunkId == other.meterReadingChunkId && readings == other.readings
+				&& startTime == other.startTime && utilityLeaseId == other.utilityLeaseId;
+	}
+}
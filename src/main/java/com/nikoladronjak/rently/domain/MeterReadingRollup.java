@@ -0,0 +1,184 @@
+package com.nikoladronjak.rently.domain;
+
+import java.util.Objects;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Represents a domain class for storing information about a MeterReadingRollup
+ * entity. This class is mapped to the "MeterReadingRollups" table in the
+ * database using JPA annotations. The primary key of this table is
+ * "meterReadingRollupId".
+ * 
+ * The MeterReadingRollup entity contains a meterReadingRollupId, the id of the
+ * utility lease whose meter was read, the granularity and the start of the
+ * period (in epoch seconds) which the rollup covers, and the number, the total,
+ * the minimum and the maximum of the readings in the period. The rollups are
+ * updated whenever readings are ingested, so the usage of a period is read
+ * without decoding any readings. There is only one rollup for every utility
+ * lease, granularity and period.
+ * 
+ * @author Nikola Dronjak
+ */
+@Entity
+@Table(name = "MeterReadingRollups",
+		uniqueConstraints = @UniqueConstraint(columnNames = { "utilityLeaseId", "granularity", "periodStart" }))
+public class MeterReadingRollup {
+
+	/**
+	 * Represents a unique identifier for the rollup (int). This identifier is
+	 * generated automatically by JPA.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int meterReadingRollupId;
+
+	/**
+	 * Represents the id of the utility lease whose meter was read (int).
+	 */
+	private int utilityLeaseId;
+
+	/**
+	 * Represents the granularity of the rollup (RollupGranularity).
+	 */
+	@NotNull(message = "The granularity of the rollup is required.")
+	private RollupGranularity granularity;
+
+	/**
+	 * Represents the start of the period which the rollup covers, in epoch
+	 * seconds (long).
+	 */
+	private long periodStart;
+
+	/**
+	 * Represents the number of readings in the period (int).
+	 */
+	private int readings;
+
+	/**
+	 * Represents the sum of the readings in the period (double).
+	 */
+	private double total;
+
+	/**
+	 * Represents the smallest reading in the period (double).
+	 */
+	private double minimum;
+
+	/**
+	 * Represents the largest reading in the period (double).
+	 */
+	private double maximum;
+
+	public MeterReadingRollup() {
+
+	}
+
+	public MeterReadingRollup(int meterReadingRollupId, int utilityLeaseId, RollupGranularity granularity,
+			long periodStart, int readings, double total, double minimum, double maximum) {
+		this.meterReadingRollupId = meterReadingRollupId;
+		this.utilityLeaseId = utilityLeaseId;
+		this.granularity = granularity;
+		this.periodStart = periodStart;
+		this.readings = readings;
+		this.total = total;
+		this.minimum = minimum;
+		this.maximum = maximum;
+	}
+
+	public int getMeterReadingRollupId() {
+		return meterReadingRollupId;
+	}
+
+	public void setMeterReadingRollupId(int meterReadingRollupId) {
+		this.meterReadingRollupId = meterReadingRollupId;
+	}
+
+	public int getUtilityLeaseId() {
+		return utilityLeaseId;
+	}
+
+	public void setUtilityLeaseId(int utilityLeaseId) {
+		this.utilityLeaseId = utilityLeaseId;
+	}
+
+	public RollupGranularity getGranularity() {
+		return granularity;
+	}
+
+	public void setGranularity(RollupGranularity granularity) {
+		this.granularity = granularity;
+	}
+
+	public long getPeriodStart() {
+		return periodStart;
+	}
+
+	public void setPeriodStart(long periodStart) {
+		this.periodStart = periodStart;
+	}
+
+	public int getReadings() {
+		return readings;
+	}
+
+	public void setReadings(int readings) {
+		this.readings = readings;
+	}
+
+	public double getTotal() {
+		return total;
+	}
+
+	public void setTotal(double total) {
+		this.total = total;
+	}
+
+	public double getMinimum() {
+		return minimum;
+	}
+
+	public void setMinimum(double minimum) {
+		this.minimum = minimum;
+	}
+
+	public double getMaximum() {
+		return maximum;
+	}
+
+	public void setMaximum(double maximum) {
+		this.maximum = maximum;
+	}
+
+	@Override
+	public String toString() {
+		return "MeterReadingRollup [meterReadingRollupId=" + meterReadingRollupId + ", utilityLeaseId=" + utilityLeaseId
+				+ ", granularity=" + granularity + ", periodStart=" + periodStart + ", readings=" + readings
+				+ ", total=" + total + ", minimum=" + minimum + ", maximum=" + maximum + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(granularity, maximum, meterReadingRollupId, minimum, periodStart, readings, total,
+				utilityLeaseId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		MeterReadingRollup other = (MeterReadingRollup) obj;
+		return granularity == other.granularity
+				&& Double.doubleToLongBits(maximum) == Double.doubleToLongBits(other.maximum)
+				&& meterReadingRollupId == other.meterReadingRollupId
+				&& Double.doubleToLongBits(minimum) == Double.doubleToLongBits(other.minimum)
+				&& periodStart == other.periodStart && readings == other.readings
+				&& Double.doubleToLongBits(total) == Double.doubleToLongBits(other.total)
+				&& utilityLeaseId == other.utilityLeaseId;
+	}
+}
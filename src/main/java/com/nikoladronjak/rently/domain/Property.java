@@ -13,10 +13,11 @@ import jakarta.validation.constraints.*;
  * annotations. The primary key of this table is "propertyId".
  * 
  * The Property entity contains a propertyId, a name of the property, a street
- * address of the property, a description of the property, a monthly rental
- * rate, the size of the property, an isAvailable flag, the number of parking
- * spots, a list of photos of the property, an owner associated with the
- * Property entity and a list of leases associated with the Property entity.
+ * address of the property, the latitude and the longitude of the property, a
+ * description of the property, a monthly rental rate, the size of the
+ * property, an isAvailable flag, the number of parking spots, a list of photos
+ * of the property, an owner associated with the Property entity and a list of
+ * leases associated with the Property entity.
  * 
  * This entity represents a superclass for the following entities:
  * <ul>
@@ -60,6 +61,27 @@ public class Property {
 	@Column(unique = true)
 	private String address;
 
+	/**
+	 * Represents the latitude of the property in degrees (Double).
+	 * 
+	 * The latitude can be null, but if it is given, it has to be between -90 and
+	 * 90. A property whose latitude or longitude is null can't be found by its
+	 * location.
+	 */
+	@Min(value = -90, message = "The latitude of the property has to be between -90 and 90.")
+	@Max(value = 90, message = "The latitude of the property has to be between -90 and 90.")
+	private Double latitude;
+
+	/**
+	 * Represents the longitude of the property in degrees (Double).
+	 * 
+	 * The longitude can be null, but if it is given, it has to be between -180
+	 * and 180.
+	 */
+	@Min(value = -180, message = "The longitude of the property has to be between -180 and 180.")
+	@Max(value = 180, message = "The longitude of the property has to be between -180 and 180.")
+	private Double longitude;
+
 	/**
 	 * Represents the description of the property (String).
 	 * 
@@ -88,12 +110,15 @@ public class Property {
 	private Integer size;
 
 	/**
-	 * Indicates whether the property is available (Boolean).
+	 * Indicates whether the property is offered for leasing (Boolean).
 	 * <ul>
-	 * <li>True - The property is available.</li>
-	 * <li>False - The property is not available.</li>
+	 * <li>True - The property can be leased.</li>
+	 * <li>False - The property cannot be leased.</li>
 	 * </ul>
 	 * 
+	 * The flag is set by the owner and it is not changed when the property is
+	 * leased, since the leases of a property are booked by their dates.
+	 * 
 	 * The isAvailable flag cannot be null.
 	 */
 	@NotNull(message = "You have to specify wether the property is available or not.")
@@ -183,6 +208,22 @@ public class Property {
 		this.address = address;
 	}
 
+	public Double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(Double latitude) {
+		this.latitude = latitude;
+	}
+
+	public Double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(Double longitude) {
+		this.longitude = longitude;
+	}
+
 	public String getDescription() {
 		return description;
 	}
@@ -249,16 +290,16 @@ public class Property {
 
 	@Override
 	public String toString() {
-		return "Property [propertyId=" + propertyId + ", name=" + name + ", address=" + address + ", description="
-				+ description + ", rentalRate=" + rentalRate + ", size=" + size + ", isAvailable=" + isAvailable
-				+ ", numberOfParkingSpots=" + numberOfParkingSpots + ", photos=" + photos + ", owner=" + owner
-				+ ", leases=" + leases + "]";
+		return "Property [propertyId=" + propertyId + ", name=" + name + ", address=" + address + ", latitude="
+				+ latitude + ", longitude=" + longitude + ", description=" + description + ", rentalRate=" + rentalRate
+				+ ", size=" + size + ", isAvailable=" + isAvailable + ", numberOfParkingSpots=" + numberOfParkingSpots
+				+ ", photos=" + photos + ", owner=" + owner + ", leases=" + leases + "]";
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(address, description, isAvailable, leases, name, numberOfParkingSpots, owner, photos,
-				propertyId, rentalRate, size);
+		return Objects.hash(address, description, isAvailable, latitude, leases, longitude, name,
+				numberOfParkingSpots, owner, photos, propertyId, rentalRate, size);
 	}
 
 	@Override
@@ -271,7 +312,8 @@ public class Property {
 			return false;
 		Property other = (Property) obj;
 		return Objects.equals(address, other.address) && Objects.equals(description, other.description)
-				&& Objects.equals(isAvailable, other.isAvailable) && Objects.equals(leases, other.leases)
+				&& Objects.equals(isAvailable, other.isAvailable) && Objects.equals(latitude, other.latitude)
+				&& Objects.equals(leases, other.leases) && Objects.equals(longitude, other.longitude)
 				&& Objects.equals(name, other.name) && Objects.equals(numberOfParkingSpots, other.numberOfParkingSpots)
 				&& Objects.equals(owner, other.owner) && Objects.equals(photos, other.photos)
 				&& propertyId == other.propertyId && Objects.equals(rentalRate, other.rentalRate)
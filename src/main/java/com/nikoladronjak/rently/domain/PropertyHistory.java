@@ -0,0 +1,409 @@
+package com.nikoladronjak.rently.domain;
+
+import java.util.GregorianCalendar;
+import java.util.Objects;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Represents a domain class for storing information about a PropertyHistory
+ * entity. This class is mapped to the "PropertyHistory" table in the database
+ * using JPA annotations. The primary key of this table is "propertyHistoryId".
+ * 
+ * A PropertyHistory entity is a version of a property: the values of the
+ * fields of the property (and of its subtype) from the time the version was
+ * written until the time the next version was written. A version is written in
+ * the same transaction in which the property is added, modified or deleted; the
+ * version which is written when the property is deleted is marked as deleted.
+ * The versions are never changed, and the table has an index on (propertyId,
+ * validFrom), so the version which was valid at a given time is found with a
+ * single index seek. The photos of the property are not versioned.
+ * 
+ * @author Nikola Dronjak
+ */
+@Entity
+@Table(name = "PropertyHistory", indexes = @Index(columnList = "propertyId, validFrom"))
+public class PropertyHistory {
+
+	/**
+	 * Represents a unique identifier for the version (int). This identifier is
+	 * generated automatically by JPA.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int propertyHistoryId;
+
+	/**
+	 * Represents the id of the property (int).
+	 */
+	private int propertyId;
+
+	/**
+	 * Represents the time from which the version is valid (GregorianCalendar).
+	 */
+	@NotNull(message = "The time from which the version is valid is required.")
+	private GregorianCalendar validFrom;
+
+	/**
+	 * Indicates whether the property was deleted at the time of the version
+	 * (boolean).
+	 */
+	private boolean deleted;
+
+	/**
+	 * Represents the type of the property (PropertyType).
+	 */
+	@NotNull(message = "The type of the property is required.")
+	private PropertyType propertyType;
+
+	/**
+	 * Represents the name of the property (String).
+	 */
+	private String name;
+
+	/**
+	 * Represents the address of the property (String).
+	 */
+	private String address;
+
+	/**
+	 * Represents the latitude of the property in degrees (Double).
+	 */
+	private Double latitude;
+
+	/**
+	 * Represents the longitude of the property in degrees (Double).
+	 */
+	private Double longitude;
+
+	/**
+	 * Represents the description of the property (String).
+	 */
+	private String description;
+
+	/**
+	 * Represents the monthly rental rate of the property (Double).
+	 */
+	private Double rentalRate;
+
+	/**
+	 * Represents the size of the property in square meters (Integer).
+	 */
+	private Integer size;
+
+	/**
+	 * Indicates whether the property was offered for leasing (Boolean).
+	 */
+	private Boolean isAvailable;
+
+	/**
+	 * Represents the number of parking spots of the property (Integer).
+	 */
+	private Integer numberOfParkingSpots;
+
+	/**
+	 * Represents the id of the owner of the property (Integer).
+	 */
+	private Integer ownerId;
+
+	/**
+	 * Represents the number of bedrooms of a residence (Integer).
+	 */
+	private Integer numberOfBedrooms;
+
+	/**
+	 * Represents the number of bathrooms of a residence (Integer).
+	 */
+	private Integer numberOfBathrooms;
+
+	/**
+	 * Represents the type of heating of a residence (HeatingType).
+	 */
+	private HeatingType heatingType;
+
+	/**
+	 * Indicates whether a residence is pet friendly (Boolean).
+	 */
+	private Boolean isPetFriendly;
+
+	/**
+	 * Indicates whether a residence is furnished (Boolean).
+	 */
+	private Boolean isFurnished;
+
+	/**
+	 * Represents the capacity of an event space or an office space (Integer).
+	 */
+	private Integer capacity;
+
+	/**
+	 * Indicates whether an event space has a kitchen (Boolean).
+	 */
+	private Boolean hasKitchen;
+
+	/**
+	 * Indicates whether an event space has a bar (Boolean).
+	 */
+	private Boolean hasBar;
+
+	public PropertyHistory() {
+
+	}
+
+	public PropertyHistory(int propertyHistoryId, int propertyId, GregorianCalendar validFrom, boolean deleted,
+			PropertyType propertyType, String name, String address, String description, Double rentalRate,
+			Integer size, Boolean isAvailable, Integer numberOfParkingSpots, Integer ownerId, Integer numberOfBedrooms,
+			Integer numberOfBathrooms, HeatingType heatingType, Boolean isPetFriendly, Boolean isFurnished,
+			Integer capacity, Boolean hasKitchen, Boolean hasBar) {
+		this.propertyHistoryId = propertyHistoryId;
+		this.propertyId = propertyId;
+		this.validFrom = validFrom;
+		this.deleted = deleted;
+		this.propertyType = propertyType;
+		this.name = name;
+		this.address = address;
+		this.description = description;
+		this.rentalRate = rentalRate;
+		this.size = size;
+		this.isAvailable = isAvailable;
+		this.numberOfParkingSpots = numberOfParkingSpots;
+		this.ownerId = ownerId;
+		this.numberOfBedrooms = numberOfBedrooms;
+		this.numberOfBathrooms = numberOfBathrooms;
+		this.heatingType = heatingType;
+		this.isPetFriendly = isPetFriendly;
+		this.isFurnished = isFurnished;
+		this.capacity = capacity;
+		this.hasKitchen = hasKitchen;
+		this.hasBar = hasBar;
+	}
+
+	public int getPropertyHistoryId() {
+		return propertyHistoryId;
+	}
+
+	public void setPropertyHistoryId(int propertyHistoryId) {
+		this.propertyHistoryId = propertyHistoryId;
+	}
+
+	public int getPropertyId() {
+		return propertyId;
+	}
+
+	public void setPropertyId(int propertyId) {
+		this.propertyId = propertyId;
+	}
+
+	public GregorianCalendar getValidFrom() {
+		return validFrom;
+	}
+
+	public void setValidFrom(GregorianCalendar validFrom) {
+		this.validFrom = validFrom;
+	}
+
+	public boolean isDeleted() {
+		return deleted;
+	}
+
+	public void setDeleted(boolean deleted) {
+		this.deleted = deleted;
+	}
+
+	public PropertyType getPropertyType() {
+		return propertyType;
+	}
+
+	public void setPropertyType(PropertyType propertyType) {
+		this.propertyType = propertyType;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getAddress() {
+		return address;
+	}
+
+	public void setAddress(String address) {
+		this.address = address;
+	}
+
+	public Double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(Double latitude) {
+		this.latitude = latitude;
+	}
+
+	public Double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(Double longitude) {
+		this.longitude = longitude;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public Double getRentalRate() {
+		return rentalRate;
+	}
+
+	public void setRentalRate(Double rentalRate) {
+		this.rentalRate = rentalRate;
+	}
+
+	public Integer getSize() {
+		return size;
+	}
+
+	public void setSize(Integer size) {
+		this.size = size;
+	}
+
+	public Boolean isAvailable() {
+		return isAvailable;
+	}
+
+	public void setAvailable(Boolean isAvailable) {
+		this.isAvailable = isAvailable;
+	}
+
+	public Integer getNumberOfParkingSpots() {
+		return numberOfParkingSpots;
+	}
+
+	public void setNumberOfParkingSpots(Integer numberOfParkingSpots) {
+		this.numberOfParkingSpots = numberOfParkingSpots;
+	}
+
+	public Integer getOwnerId() {
+		return ownerId;
+	}
+
+	public void setOwnerId(Integer ownerId) {
+		this.ownerId = ownerId;
+	}
+
+	public Integer getNumberOfBedrooms() {
+		return numberOfBedrooms;
+	}
+
+	public void setNumberOfBedrooms(Integer numberOfBedrooms) {
+		this.numberOfBedrooms = numberOfBedrooms;
+	}
+
+	public Integer getNumberOfBathrooms() {
+		return numberOfBathrooms;
+	}
+
+	public void setNumberOfBathrooms(Integer numberOfBathrooms) {
+		this.numberOfBathrooms = numberOfBathrooms;
+	}
+
+	public HeatingType getHeatingType() {
+		return heatingType;
+	}
+
+	public void setHeatingType(HeatingType heatingType) {
+		this.heatingType = heatingType;
+	}
+
+	public Boolean isPetFriendly() {
+		return isPetFriendly;
+	}
+
+	public void setPetFriendly(Boolean isPetFriendly) {
+		this.isPetFriendly = isPetFriendly;
+	}
+
+	public Boolean isFurnished() {
+		return isFurnished;
+	}
+
+	public void setFurnished(Boolean isFurnished) {
+		this.isFurnished = isFurnished;
+	}
+
+	public Integer getCapacity() {
+		return capacity;
+	}
+
+	public void setCapacity(Integer capacity) {
+		this.capacity = capacity;
+	}
+
+	public Boolean isHasKitchen() {
+		return hasKitchen;
+	}
+
+	public void setHasKitchen(Boolean hasKitchen) {
+		this.hasKitchen = hasKitchen;
+	}
+
+	public Boolean isHasBar() {
+		return hasBar;
+	}
+
+	public void setHasBar(Boolean hasBar) {
+		this.hasBar = hasBar;
+	}
+
+	@Override
+	public String toString() {
+		return "PropertyHistory [propertyHistoryId=" + propertyHistoryId + ", propertyId=" + propertyId + ", validFrom="
+				+ validFrom + ", deleted=" + deleted + ", propertyType=" + propertyType + ", name=" + name
+				+ ", address=" + address + ", latitude=" + latitude + ", longitude=" + longitude + ", description="
+				+ description + ", rentalRate=" + rentalRate + ", size=" + size + ", isAvailable=" + isAvailable
+				+ ", numberOfParkingSpots=" + numberOfParkingSpots + ", ownerId=" + ownerId + ", numberOfBedrooms="
+				+ numberOfBedrooms + ", numberOfBathrooms=" + numberOfBathrooms + ", heatingType=" + heatingType
+				+ ", isPetFriendly=" + isPetFriendly + ", isFurnished=" + isFurnished + ", capacity=" + capacity
+				+ ", hasKitchen=" + hasKitchen + ", hasBar=" + hasBar + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(address, capacity, deleted, description, hasBar, hasKitchen, heatingType, isAvailable,
+				isFurnished, isPetFriendly, latitude, longitude, name, numberOfBathrooms, numberOfBedrooms,
+				numberOfParkingSpots, ownerId, propertyHistoryId, propertyId, propertyType, rentalRate, size,
+				validFrom);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		PropertyHistory other = (PropertyHistory) obj;
+		return Objects.equals(address, other.address) && Objects.equals(capacity, other.capacity)
+				&& deleted == other.deleted && Objects.equals(description, other.description)
+				&& Objects.equals(hasBar, other.hasBar) && Objects.equals(hasKitchen, other.hasKitchen)
+				&& Objects.equals(heatingType, other.heatingType) && Objects.equals(isAvailable, other.isAvailable)
+				&& Objects.equals(isFurnished, other.isFurnished) && Objects.equals(isPetFriendly, other.isPetFriendly)
+				&& Objects.equals(latitude, other.latitude) && Objects.equals(longitude, other.longitude)
+				&& Objects.equals(name, other.name) && Objects.equals(numberOfBathrooms, other.numberOfBathrooms)
+				&& Objects.equals(numberOfBedrooms, other.numberOfBedrooms)
+				&& Objects.equals(numberOfParkingSpots, other.numberOfParkingSpots)
+				&& Objects.equals(ownerId, other.ownerId) && propertyHistoryId == other.propertyHistoryId
+				&& propertyId == other.propertyId && Objects.equals(propertyType, other.propertyType)
+				&& Objects.equals(rentalRate, other.rentalRate) && Objects.equals(size, other.size)
+				&& Objects.equals(validFrom, other.validFrom);
+	}
+}
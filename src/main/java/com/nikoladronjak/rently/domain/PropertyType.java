@@ -0,0 +1,19 @@
+package com.nikoladronjak.rently.domain;
+
+/**
+ * Represents the different types of properties.
+ */
+public enum PropertyType {
+	/**
+	 * Represents a residence.
+	 */
+	Residence,
+	/**
+	 * Represents an event space.
+	 */
+	EventSpace,
+	/**
+	 * Represents an office space.
+	 */
+	OfficeSpace
+}
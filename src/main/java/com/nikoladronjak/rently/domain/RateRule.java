@@ -0,0 +1,222 @@
+package com.nikoladronjak.rently.domain;
+
+import java.util.GregorianCalendar;
+import java.util.Objects;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Represents a domain class for storing information about a RateRule entity.
+ * This class is mapped to the "RateRules" table in the database using JPA
+ * annotations. The primary key of this table is "rateRuleId". This table also
+ * contains a foreign key, "propertyId" which references the "Properties"
+ * table.
+ * 
+ * The RateRule entity contains a rateRuleId, the name of the rule, the first
+ * and the last day on which the rule applies, the days of the week on which the
+ * rule applies, the daily rate which the rule sets, the priority of the rule
+ * and a property which is associated with the RateRule entity.
+ * 
+ * The rules of a property override the daily rate of the property, which is
+ * otherwise its monthly rental rate spread over the days of the month. If more
+ * than one rule applies to a day, the rule with the highest priority wins, and
+ * between rules with the same priority the newest rule wins.
+ * 
+ * @author Nikola Dronjak
+ */
+@Entity
+@Table(name = "RateRules")
+public class RateRule {
+
+	/**
+	 * Represents a bitmask in which every day of the week is set.
+	 */
+	public static final int EVERY_DAY = 0b1111111;
+
+	/**
+	 * Represents a unique identifier for the rate rule (int). This identifier is
+	 * automatically generated by JPA.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int rateRuleId;
+
+	/**
+	 * Represents the name of the rule (String), for example "Summer season" or
+	 * "Weekends".
+	 * 
+	 * The name cannot be blank.
+	 */
+	@NotBlank(message = "The name of the rate rule is required.")
+	private String name;
+
+	/**
+	 * Represents the first day on which the rule applies (GregorianCalendar).
+	 * 
+	 * The start date cannot be null and has to be in the following format:
+	 * yyyy-mm-dd.
+	 */
+	@NotNull(message = "The start date of the rate rule is required.")
+	@DateTimeFormat(pattern = "yyyy-mm-dd")
+	private GregorianCalendar startDate;
+
+	/**
+	 * Represents the last day on which the rule applies (GregorianCalendar).
+	 * 
+	 * The end date cannot be null and has to be in the following format:
+	 * yyyy-mm-dd.
+	 */
+	@NotNull(message = "The end date of the rate rule is required.")
+	@DateTimeFormat(pattern = "yyyy-mm-dd")
+	private GregorianCalendar endDate;
+
+	/**
+	 * Represents the days of the week on which the rule applies (Integer), as a
+	 * bitmask in which bit 0 is Monday and bit 6 is Sunday.
+	 * 
+	 * The days of the week cannot be null and at least one day has to be set.
+	 */
+	@NotNull(message = "The days of the week of the rate rule are required.")
+	@Min(value = 1, message = "The rate rule has to apply to at least one day of the week.")
+	@Max(value = EVERY_DAY, message = "The days of the week of the rate rule are not valid.")
+	private Integer daysOfWeek;
+
+	/**
+	 * Represents the daily rate which the rule sets (Double).
+	 * 
+	 * The daily rate cannot be null and it has to be a positive value (greater
+	 * than 0).
+	 */
+	@NotNull(message = "The daily rate of the rate rule is required.")
+	@Positive(message = "The daily rate of the rate rule has to be a positive value.")
+	private Double dailyRate;
+
+	/**
+	 * Represents the priority of the rule (Integer).
+	 * 
+	 * The priority cannot be null and it cannot be a negative value.
+	 */
+	@NotNull(message = "The priority of the rate rule is required.")
+	@Min(value = 0, message = "The priority of the rate rule cannot be a negative value.")
+	private Integer priority;
+
+	/**
+	 * Represents the property which is associated with the rule (Property).
+	 * 
+	 * The id of the property cannot be null.
+	 */
+	@NotNull(message = "You have to specify the property to which the rate rule applies.")
+	@ManyToOne
+	@JoinColumn(name = "propertyId")
+	private Property property;
+
+	public RateRule() {
+
+	}
+
+	public RateRule(int rateRuleId, String name, GregorianCalendar startDate, GregorianCalendar endDate,
+			Integer daysOfWeek, Double dailyRate, Integer priority, Property property) {
+		this.rateRuleId = rateRuleId;
+		this.name = name;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.daysOfWeek = daysOfWeek;
+		this.dailyRate = dailyRate;
+		this.priority = priority;
+		this.property = property;
+	}
+
+	public int getRateRuleId() {
+		return rateRuleId;
+	}
+
+	public void setRateRuleId(int rateRuleId) {
+		this.rateRuleId = rateRuleId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public GregorianCalendar getStartDate() {
+		return startDate;
+	}
+
+	public void setStartDate(GregorianCalendar startDate) {
+		this.startDate = startDate;
+	}
+
+	public GregorianCalendar getEndDate() {
+		return endDate;
+	}
+
+	public void setEndDate(GregorianCalendar endDate) {
+		this.endDate = endDate;
+	}
+
+	public Integer getDaysOfWeek() {
+		return daysOfWeek;
+	}
+
+	public void setDaysOfWeek(Integer daysOfWeek) {
+		this.daysOfWeek = daysOfWeek;
+	}
+
+	public Double getDailyRate() {
+		return dailyRate;
+	}
+
+	public void setDailyRate(Double dailyRate) {
+		this.dailyRate = dailyRate;
+	}
+
+	public Integer getPriority() {
+		return priority;
+	}
+
+	public void setPriority(Integer priority) {
+		this.priority = priority;
+	}
+
+	public Property getProperty() {
+		return property;
+	}
+
+	public void setProperty(Property property) {
+		this.property = property;
+	}
+
+	@Override
+	public String toString() {
+		return "RateRule [rateRuleId=" + rateRuleId + ", name=" + name + ", startDate=" + startDate + ", endDate="
+				+ endDate + ", daysOfWeek=" + daysOfWeek + ", dailyRate=" + dailyRate + ", priority=" + priority
+				+ ", property=" + property + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(dailyRate, daysOfWeek, endDate, name, priority, property, rateRuleId, startDate);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		RateRule other = (RateRule) obj;
+		return Objects.equals(dailyRate, other.dailyRate) && Objects.equals(daysOfWeek, other.daysOfWeek)
+				&& Objects.equals(endDate, other.endDate) && Objects.equals(name, other.name)
+				&& Objects.equals(priority, other.priority) && Objects.equals(property, other.property)
+				&& rateRuleId == other.rateRuleId && Objects.equals(startDate, other.startDate);
+	}
+}
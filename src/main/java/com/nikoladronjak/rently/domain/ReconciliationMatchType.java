@@ -0,0 +1,34 @@
+package com.nikoladronjak.rently.domain;
+
+/**
+ * Represents the different ways in which a line of a bank statement can be
+ * matched to an open rent.
+ */
+public enum ReconciliationMatchType {
+	/**
+	 * Represents a line whose reference names the rent and whose amount is the
+	 * amount due for the rent.
+	 */
+	Rent,
+	/**
+	 * Represents a line whose reference names the lease and whose amount is the
+	 * amount due for one of the open rents of the lease.
+	 */
+	Lease,
+	/**
+	 * Represents a line whose reference or payer names the customer and whose
+	 * amount is the amount due for one of the open rents of the customer.
+	 */
+	Customer,
+	/**
+	 * Represents a line which names a rent, a lease or a customer, but whose
+	 * amount only differs from the amount due for one of their open rents by
+	 * less than the tolerance.
+	 */
+	Fuzzy,
+	/**
+	 * Represents a line which doesn't name a known rent, lease or customer, but
+	 * whose amount is the amount due for exactly one open rent.
+	 */
+	Amount
+}
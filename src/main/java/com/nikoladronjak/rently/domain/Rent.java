@@ -13,13 +13,15 @@ import jakarta.validation.constraints.*;
  * The primary key of this table is "rentId". This table also contains a foreign
  * key, "leaseId", which references the "Leases" table.
  * 
- * The Rent entity contains a rentId, a total (monthly) rental rate and a list
- * of utility leases which are associated with the Rent entity.
+ * The Rent entity contains a rentId, a total (monthly) rental rate, the
+ * billing period (month) for which the rent is charged and a list of utility
+ * leases which are associated with the Rent entity. A lease can have only one
+ * rent for every billing period.
  * 
  * @author Nikola Dronjak
  */
 @Entity
-@Table(name = "Rents")
+@Table(name = "Rents", uniqueConstraints = @UniqueConstraint(columnNames = { "leaseId", "billingPeriod" }))
 public class Rent {
 
 	/**
@@ -37,6 +39,14 @@ public class Rent {
 	 */
 	private double totalRent;
 
+	/**
+	 * Represents the month for which the rent is charged (String).
+	 * 
+	 * The billing period has to be in the following format: yyyy-MM.
+	 */
+	@Pattern(regexp = "\\d{4}-(0[1-9]|1[0-2])", message = "The billing period has to be in the yyyy-MM format.")
+	private String billingPeriod;
+
 	/**
 	 * Represents the list of utility leases with which the rents are associated
 	 * (List&lt;UtilityLease&gt;).
@@ -76,6 +86,11 @@ public class Rent {
 		this.lease = lease;
 	}
 
+	public Rent(int rentId, double totalRent, String billingPeriod, List<UtilityLease> utilityLeases, Lease lease) {
+		this(rentId, totalRent, utilityLeases, lease);
+		this.billingPeriod = billingPeriod;
+	}
+
 	public int getRentId() {
 		return rentId;
 	}
@@ -92,6 +107,14 @@ public class Rent {
 		this.totalRent = totalRent;
 	}
 
+	public String getBillingPeriod() {
+		return billingPeriod;
+	}
+
+	public void setBillingPeriod(String billingPeriod) {
+		this.billingPeriod = billingPeriod;
+	}
+
 	public List<UtilityLease> getUtilityLeases() {
 		return utilityLeases;
 	}
@@ -110,13 +133,13 @@ public class Rent {
 
 	@Override
 	public String toString() {
-		return "Rent [rentId=" + rentId + ", totalRent=" + totalRent + ", utilityLeases=" + utilityLeases + ", lease="
-				+ lease + "]";
+		return "Rent [rentId=" + rentId + ", totalRent=" + totalRent + ", billingPeriod=" + billingPeriod
+				+ ", utilityLeases=" + utilityLeases + ", lease=" + lease + "]";
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(lease, rentId, totalRent, utilityLeases);
+		return Objects.hash(billingPeriod, lease, rentId, totalRent, utilityLeases);
 	}
 
 	@Override
@@ -128,7 +151,8 @@ public class Rent {
 		if (getClass() != obj.getClass())
 			return false;
 		Rent other = (Rent) obj;
-		return Objects.equals(lease, other.lease) && rentId == other.rentId
+		return Objects.equals(billingPeriod, other.billingPeriod) && Objects.equals(lease, other.lease)
+				&& rentId == other.rentId
 				&& Double.doubleToLongBits(totalRent) == Double.doubleToLongBits(other.totalRent)
 				&& Objects.equals(utilityLeases, other.utilityLeases);
 	}
@@ -0,0 +1,19 @@
+package com.nikoladronjak.rently.domain;
+
+/**
+ * Represents different periods over which the meter readings are rolled up.
+ */
+public enum RollupGranularity {
+	/**
+	 * Represents a rollup over an hour.
+	 */
+	Hour,
+	/**
+	 * Represents a rollup over a day (UTC).
+	 */
+	Day,
+	/**
+	 * Represents a rollup over a calendar month (UTC).
+	 */
+	Month
+}
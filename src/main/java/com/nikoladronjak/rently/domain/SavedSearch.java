@@ -0,0 +1,288 @@
+package com.nikoladronjak.rently.domain;
+
+import java.util.Objects;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Represents a domain class for storing information about a SavedSearch
+ * entity. This class is mapped to the "SavedSearches" table in the database
+ * using JPA annotations. The primary key of this table is "savedSearchId".
+ * This table also contains a foreign key, "customerId" which references the
+ * "Customers" table.
+ * 
+ * The SavedSearch entity contains a savedSearchId, the customer who saved the
+ * search and the criteria of the search: the type of the property, the ranges
+ * of the rental rate, the size and the number of bedrooms, and the values of
+ * the boolean attributes of the property. A criterion which is null is not
+ * checked. When a property which matches the criteria is listed or becomes
+ * available, a SearchNotification is written for the customer.
+ * 
+ * @author Nikola Dronjak
+ */
+@Entity
+@Table(name = "SavedSearches")
+public class SavedSearch {
+
+	/**
+	 * Represents a unique identifier for the saved search (int). This identifier
+	 * is automatically generated by JPA.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int savedSearchId;
+
+	/**
+	 * Represents the customer who saved the search (Customer).
+	 * 
+	 * The customer cannot be null.
+	 */
+	@NotNull(message = "The customer who saved the search is required.")
+	@ManyToOne
+	@JoinColumn(name = "customerId")
+	private Customer customer;
+
+	/**
+	 * Represents the type of the properties which the search matches
+	 * (PropertyType).
+	 */
+	private PropertyType propertyType;
+
+	/**
+	 * Represents the lowest monthly rental rate which the search matches
+	 * (Double).
+	 * 
+	 * The minimum rental rate cannot be a negative value.
+	 */
+	@Min(value = 0, message = "The minimum rental rate cannot be a negative value.")
+	private Double minRentalRate;
+
+	/**
+	 * Represents the highest monthly rental rate which the search matches
+	 * (Double).
+	 * 
+	 * The maximum rental rate cannot be a negative value.
+	 */
+	@Min(value = 0, message = "The maximum rental rate cannot be a negative value.")
+	private Double maxRentalRate;
+
+	/**
+	 * Represents the smallest size in square meters which the search matches
+	 * (Integer).
+	 * 
+	 * The minimum size cannot be a negative value.
+	 */
+	@Min(value = 0, message = "The minimum size cannot be a negative value.")
+	private Integer minSize;
+
+	/**
+	 * Represents the largest size in square meters which the search matches
+	 * (Integer).
+	 * 
+	 * The maximum size cannot be a negative value.
+	 */
+	@Min(value = 0, message = "The maximum size cannot be a negative value.")
+	private Integer maxSize;
+
+	/**
+	 * Represents the lowest number of bedrooms which the search matches
+	 * (Integer). Only residences have bedrooms.
+	 * 
+	 * The minimum number of bedrooms cannot be a negative value.
+	 */
+	@Min(value = 0, message = "The minimum number of bedrooms cannot be a negative value.")
+	private Integer minNumberOfBedrooms;
+
+	/**
+	 * Represents the highest number of bedrooms which the search matches
+	 * (Integer). Only residences have bedrooms.
+	 * 
+	 * The maximum number of bedrooms cannot be a negative value.
+	 */
+	@Min(value = 0, message = "The maximum number of bedrooms cannot be a negative value.")
+	private Integer maxNumberOfBedrooms;
+
+	/**
+	 * Indicates whether the matching residences have to be pet friendly
+	 * (Boolean).
+	 */
+	private Boolean isPetFriendly;
+
+	/**
+	 * Indicates whether the matching residences have to be furnished (Boolean).
+	 */
+	private Boolean isFurnished;
+
+	/**
+	 * Indicates whether the matching event spaces have to have a kitchen
+	 * (Boolean).
+	 */
+	private Boolean hasKitchen;
+
+	/**
+	 * Indicates whether the matching event spaces have to have a bar (Boolean).
+	 */
+	private Boolean hasBar;
+
+	public SavedSearch() {
+
+	}
+
+	public SavedSearch(int savedSearchId, Customer customer, PropertyType propertyType, Double minRentalRate,
+			Double maxRentalRate, Integer minSize, Integer maxSize, Integer minNumberOfBedrooms,
+			Integer maxNumberOfBedrooms, Boolean isPetFriendly, Boolean isFurnished, Boolean hasKitchen,
+			Boolean hasBar) {
+		this.savedSearchId = savedSearchId;
+		this.customer = customer;
+		this.propertyType = propertyType;
+		this.minRentalRate = minRentalRate;
+		this.maxRentalRate = maxRentalRate;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.minNumberOfBedrooms = minNumberOfBedrooms;
+		this.maxNumberOfBedrooms = maxNumberOfBedrooms;
+		this.isPetFriendly = isPetFriendly;
+		this.isFurnished = isFurnished;
+		this.hasKitchen = hasKitchen;
+		this.hasBar = hasBar;
+	}
+
+	public int getSavedSearchId() {
+		return savedSearchId;
+	}
+
+	public void setSavedSearchId(int savedSearchId) {
+		this.savedSearchId = savedSearchId;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public void setCustomer(Customer customer) {
+		this.customer = customer;
+	}
+
+	public PropertyType getPropertyType() {
+		return propertyType;
+	}
+
+	public void setPropertyType(PropertyType propertyType) {
+		this.propertyType = propertyType;
+	}
+
+	public Double getMinRentalRate() {
+		return minRentalRate;
+	}
+
+	public void setMinRentalRate(Double minRentalRate) {
+		this.minRentalRate = minRentalRate;
+	}
+
+	public Double getMaxRentalRate() {
+		return maxRentalRate;
+	}
+
+	public void setMaxRentalRate(Double maxRentalRate) {
+		this.maxRentalRate = maxRentalRate;
+	}
+
+	public Integer getMinSize() {
+		return minSize;
+	}
+
+	public void setMinSize(Integer minSize) {
+		this.minSize = minSize;
+	}
+
+	public Integer getMaxSize() {
+		return maxSize;
+	}
+
+	public void setMaxSize(Integer maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	public Integer getMinNumberOfBedrooms() {
+		return minNumberOfBedrooms;
+	}
+
+	public void setMinNumberOfBedrooms(Integer minNumberOfBedrooms) {
+		this.minNumberOfBedrooms = minNumberOfBedrooms;
+	}
+
+	public Integer getMaxNumberOfBedrooms() {
+		return maxNumberOfBedrooms;
+	}
+
+	public void setMaxNumberOfBedrooms(Integer maxNumberOfBedrooms) {
+		this.maxNumberOfBedrooms = maxNumberOfBedrooms;
+	}
+
+	public Boolean isPetFriendly() {
+		return isPetFriendly;
+	}
+
+	public void setPetFriendly(Boolean isPetFriendly) {
+		this.isPetFriendly = isPetFriendly;
+	}
+
+	public Boolean isFurnished() {
+		return isFurnished;
+	}
+
+	public void setFurnished(Boolean isFurnished) {
+		this.isFurnished = isFurnished;
+	}
+
+	public Boolean isHasKitchen() {
+		return hasKitchen;
+	}
+
+	public void setHasKitchen(Boolean hasKitchen) {
+		this.hasKitchen = hasKitchen;
+	}
+
+	public Boolean isHasBar() {
+		return hasBar;
+	}
+
+	public void setHasBar(Boolean hasBar) {
+		this.hasBar = hasBar;
+	}
+
+	@Override
+	public String toString() {
+		return "SavedSearch [savedSearchId=" + savedSearchId + ", customer=" + customer + ", propertyType="
+				+ propertyType + ", minRentalRate=" + minRentalRate + ", maxRentalRate=" + maxRentalRate + ", minSize="
+				+ minSize + ", maxSize=" + maxSize + ", minNumberOfBedrooms=" + minNumberOfBedrooms
+				+ ", maxNumberOfBedrooms=" + maxNumberOfBedrooms + ", isPetFriendly=" + isPetFriendly + ", isFurnished="
+				+ isFurnished + ", hasKitchen=" + hasKitchen + ", hasBar=" + hasBar + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(customer, hasBar, hasKitchen, isFurnished, isPetFriendly, maxNumberOfBedrooms,
+				maxRentalRate, maxSize, minNumberOfBedrooms, minRentalRate, minSize, propertyType, savedSearchId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		SavedSearch other = (SavedSearch) obj;
+		return Objects.equals(customer, other.customer) && Objects.equals(hasBar, other.hasBar)
+				&& Objects.equals(hasKitchen, other.hasKitchen) && Objects.equals(isFurnished, other.isFurnished)
+				&& Objects.equals(isPetFriendly, other.isPetFriendly)
+				&& Objects.equals(maxNumberOfBedrooms, other.maxNumberOfBedrooms)
+				&& Objects.equals(maxRentalRate, other.maxRentalRate) && Objects.equals(maxSize, other.maxSize)
+				&& Objects.equals(minNumberOfBedrooms, other.minNumberOfBedrooms)
+				&& Objects.equals(minRentalRate, other.minRentalRate) && Objects.equals(minSize, other.minSize)
+				&& propertyType == other.propertyType && savedSearchId == other.savedSearchId;
+	}
+}
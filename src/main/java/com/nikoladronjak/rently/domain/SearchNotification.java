@@ -0,0 +1,135 @@
+package com.nikoladronjak.rently.domain;
+
+import java.util.GregorianCalendar;
+import java.util.Objects;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Represents a domain class for storing information about a SearchNotification
+ * entity. This class is mapped to the "SearchNotifications" table in the
+ * database using JPA annotations. The primary key of this table is
+ * "searchNotificationId".
+ * 
+ * The SearchNotifications table is the outbox of the saved searches: a
+ * notification is written in the same transaction in which a property which
+ * matches a saved search is listed or becomes available, and it is delivered
+ * to the customer from there. The notification keeps the plain ids of the
+ * search, the customer and the property, so it outlives the deletion of any of
+ * them. The table has an index on savedSearchId.
+ * 
+ * @author Nikola Dronjak
+ */
+@Entity
+@Table(name = "SearchNotifications", indexes = @Index(columnList = "savedSearchId"))
+public class SearchNotification {
+
+	/**
+	 * Represents a unique identifier for the notification (int). This identifier
+	 * is automatically generated by JPA.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int searchNotificationId;
+
+	/**
+	 * Represents the id of the saved search which the property matched (int).
+	 */
+	private int savedSearchId;
+
+	/**
+	 * Represents the id of the customer who saved the search (int).
+	 */
+	private int customerId;
+
+	/**
+	 * Represents the id of the property which matched the search (int).
+	 */
+	private int propertyId;
+
+	/**
+	 * Represents the time at which the notification was written
+	 * (GregorianCalendar).
+	 */
+	@NotNull(message = "The time at which the notification was written is required.")
+	private GregorianCalendar createdAt;
+
+	public SearchNotification() {
+
+	}
+
+	public SearchNotification(int searchNotificationId, int savedSearchId, int customerId, int propertyId,
+			GregorianCalendar createdAt) {
+		this.searchNotificationId = searchNotificationId;
+		this.savedSearchId = savedSearchId;
+		this.customerId = customerId;
+		this.propertyId = propertyId;
+		this.createdAt = createdAt;
+	}
+
+	public int getSearchNotificationId() {
+		return searchNotificationId;
+	}
+
+	public void setSearchNotificationId(int searchNotificationId) {
+		this.searchNotificationId = searchNotificationId;
+	}
+
+	public int getSavedSearchId() {
+		return savedSearchId;
+	}
+
+	public void setSavedSearchId(int savedSearchId) {
+		this.savedSearchId = savedSearchId;
+	}
+
+	public int getCustomerId() {
+		return customerId;
+	}
+
+	public void setCustomerId(int customerId) {
+		this.customerId = customerId;
+	}
+
+	public int getPropertyId() {
+		return propertyId;
+	}
+
+	public void setPropertyId(int propertyId) {
+		this.propertyId = propertyId;
+	}
+
+	public GregorianCalendar getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(GregorianCalendar createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	@Override
+	public String toString() {
+		return "SearchNotification [searchNotificationId=" + searchNotificationId + ", savedSearchId=" + savedSearchId
+				+ ", customerId=" + customerId + ", propertyId=" + propertyId + ", createdAt=" + createdAt + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(createdAt, customerId, propertyId, savedSearchId, searchNotificationId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		SearchNotification other = (SearchNotification) obj;
+		return Objects.equals(createdAt, other.createdAt) && customerId == other.customerId
+				&& propertyId == other.propertyId && savedSearchId == other.savedSearchId
+				&& searchNotificationId == other.searchNotificationId;
+	}
+}
@@ -0,0 +1,180 @@
+package com.nikoladronjak.rently.domain;
+
+import java.util.GregorianCalendar;
+import java.util.Objects;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Represents a domain class for storing information about a SeatReservation
+ * entity. This class is mapped to the "SeatReservations" table in the database
+ * using JPA annotations. The primary key of this table is "seatReservationId".
+ * This table also contains two foreign keys, "propertyId" which references the
+ * "OfficeSpaces" table and "customerId" which references the "Customers" table.
+ * 
+ * The SeatReservation entity contains a seatReservationId, the start date of
+ * the reservation, the end date of the reservation, the number of reserved
+ * seats, an office space which is associated with the SeatReservation entity
+ * and a customer who is associated with the SeatReservation entity.
+ * 
+ * The reservations of the same office space cannot reserve more seats on any
+ * day than the capacity of the office space, which is checked by the
+ * SeatReservationService when the seats are being reserved.
+ * 
+ * @author Nikola Dronjak
+ */
+@Entity
+@Table(name = "SeatReservations")
+public class SeatReservation {
+
+	/**
+	 * Represents a unique identifier for the seat reservation (int). This
+	 * identifier is automatically generated by JPA.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int seatReservationId;
+
+	/**
+	 * Represents the first day of the reservation (GregorianCalendar).
+	 * 
+	 * The start date cannot be null, has to be in the present or the future and
+	 * has to be in the following format: yyyy-mm-dd.
+	 */
+	@NotNull(message = "The start date of the reservation is required.")
+	@FutureOrPresent(message = "The start date of the reservation has to be in the present or in the future.")
+	@DateTimeFormat(pattern = "yyyy-mm-dd")
+	private GregorianCalendar startDate;
+
+	/**
+	 * Represents the last day of the reservation (GregorianCalendar).
+	 * 
+	 * The end date cannot be null, has to be in the present or the future and has
+	 * to be in the following format: yyyy-mm-dd.
+	 */
+	@NotNull(message = "The end date of the reservation is required.")
+	@FutureOrPresent(message = "The end date of the reservation has to be in the present or in the future.")
+	@DateTimeFormat(pattern = "yyyy-mm-dd")
+	private GregorianCalendar endDate;
+
+	/**
+	 * Represents the number of reserved seats (Integer).
+	 * 
+	 * The number of seats cannot be null and it has to be a positive value
+	 * (greater than 0).
+	 */
+	@NotNull(message = "The number of seats is required.")
+	@Positive(message = "The number of seats has to be a positive value.")
+	private Integer seats;
+
+	/**
+	 * Represents the office space which is associated with the reservation
+	 * (OfficeSpace).
+	 * 
+	 * The id of the office space cannot be null.
+	 */
+	@NotNull(message = "You have to specify the office space in which the seats are being reserved.")
+	@ManyToOne
+	@JoinColumn(name = "propertyId")
+	private OfficeSpace officeSpace;
+
+	/**
+	 * Represents the customer who is associated with the reservation (Customer).
+	 * 
+	 * The id of the customer cannot be null.
+	 */
+	@NotNull(message = "You have to specify the customer who is reserving the seats.")
+	@ManyToOne
+	@JoinColumn(name = "customerId")
+	private Customer customer;
+
+	public SeatReservation() {
+
+	}
+
+	public SeatReservation(int seatReservationId, GregorianCalendar startDate, GregorianCalendar endDate,
+			Integer seats, OfficeSpace officeSpace, Customer customer) {
+		this.seatReservationId = seatReservationId;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.seats = seats;
+		this.officeSpace = officeSpace;
+		this.customer = customer;
+	}
+
+	public int getSeatReservationId() {
+		return seatReservationId;
+	}
+
+	public void setSeatReservationId(int seatReservationId) {
+		this.seatReservationId = seatReservationId;
+	}
+
+	public GregorianCalendar getStartDate() {
+		return startDate;
+	}
+
+	public void setStartDate(GregorianCalendar startDate) {
+		this.startDate = startDate;
+	}
+
+	public GregorianCalendar getEndDate() {
+		return endDate;
+	}
+
+	public void setEndDate(GregorianCalendar endDate) {
+		this.endDate = endDate;
+	}
+
+	public Integer getSeats() {
+		return seats;
+	}
+
+	public void setSeats(Integer seats) {
+		this.seats = seats;
+	}
+
+	public OfficeSpace getOfficeSpace() {
+		return officeSpace;
+	}
+
+	public void setOfficeSpace(OfficeSpace officeSpace) {
+		this.officeSpace = officeSpace;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public void setCustomer(Customer customer) {
+		this.customer = customer;
+	}
+
+	@Override
+	public String toString() {
+		return "SeatReservation [seatReservationId=" + seatReservationId + ", startDate=" + startDate + ", endDate="
+				+ endDate + ", seats=" + seats + ", officeSpace=" + officeSpace + ", customer=" + customer + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(customer, endDate, officeSpace, seatReservationId, seats, startDate);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		SeatReservation other = (SeatReservation) obj;
+		return Objects.equals(customer, other.customer) && Objects.equals(endDate, other.endDate)
+				&& Objects.equals(officeSpace, other.officeSpace) && seatReservationId == other.seatReservationId
+				&& Objects.equals(seats, other.seats) && Objects.equals(startDate, other.startDate);
+	}
+}
@@ -0,0 +1,86 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Represents a data transfer object (DTO) for completing what a user has
+ * started typing into a picker, such as the address of a property or the name
+ * of a utility.
+ * 
+ * The AutocompleteDTO class contains the prefix which is being completed and
+ * the maximum number of completions.
+ * 
+ * @author Nikola Dronjak
+ */
+public class AutocompleteDTO {
+
+	/**
+	 * Represents the text which has been typed so far (String). The case and the
+	 * diacritics of the prefix are ignored.
+	 */
+	@NotBlank(message = "The prefix is required.", groups = ValidationGroups.Shape.class)
+	private String prefix;
+
+	/**
+	 * Represents the maximum number of completions (Integer). If it is null, at
+	 * most 10 completions are returned.
+	 */
+	@Min(value = 1, message = "The number of completions has to be between 1 and 50.",
+			groups = ValidationGroups.Shape.class)
+	@Max(value = 50, message = "The number of completions has to be between 1 and 50.",
+			groups = ValidationGroups.Shape.class)
+	private Integer limit;
+
+	public AutocompleteDTO() {
+
+	}
+
+	public AutocompleteDTO(String prefix, Integer limit) {
+		this.prefix = prefix;
+		this.limit = limit;
+	}
+
+	public String getPrefix() {
+		return prefix;
+	}
+
+	public void setPrefix(String prefix) {
+		this.prefix = prefix;
+	}
+
+	public Integer getLimit() {
+		return limit;
+	}
+
+	public void setLimit(Integer limit) {
+		this.limit = limit;
+	}
+
+	@Override
+	public String toString() {
+		return "AutocompleteDTO [prefix=" + prefix + ", limit=" + limit + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(limit, prefix);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		AutocompleteDTO other = (AutocompleteDTO) obj;
+		return Objects.equals(limit, other.limit) && Objects.equals(prefix, other.prefix);
+	}
+}
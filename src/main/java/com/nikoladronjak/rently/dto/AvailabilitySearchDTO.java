@@ -0,0 +1,178 @@
+package com.nikoladronjak.rently.dto;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Represents a data transfer object (DTO) for an availability search. An
+ * availability search returns the properties which are free for every day
+ * between the start date and the end date and which match the optional
+ * filters.
+ * 
+ * The AvailabilitySearchDTO class contains the start date, the end date, the
+ * type of the property, the minimum and the maximum rental rate, the minimum
+ * size and the minimum number of parking spots.
+ * 
+ * @author Nikola Dronjak
+ */
+public class AvailabilitySearchDTO {
+
+	/**
+	 * Represents the first day of the period (LocalDate).
+	 */
+	@NotNull(message = "The start date is required.", groups = ValidationGroups.Shape.class)
+	@FutureOrPresent(message = "The start date has to be in the present or in the future.",
+			groups = ValidationGroups.Shape.class)
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate startDate;
+
+	/**
+	 * Represents the last day of the period (LocalDate).
+	 */
+	@NotNull(message = "The end date is required.", groups = ValidationGroups.Shape.class)
+	@FutureOrPresent(message = "The end date has to be in the present or in the future.",
+			groups = ValidationGroups.Shape.class)
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate endDate;
+
+	/**
+	 * Represents the type of the property (PropertyType). If it is null,
+	 * properties of every type are returned.
+	 */
+	private PropertyType type;
+
+	/**
+	 * Represents the minimum monthly rental rate of the property (Double).
+	 */
+	@PositiveOrZero(message = "The minimum rental rate has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Double minRentalRate;
+
+	/**
+	 * Represents the maximum monthly rental rate of the property (Double).
+	 */
+	@PositiveOrZero(message = "The maximum rental rate has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Double maxRentalRate;
+
+	/**
+	 * Represents the minimum size of the property in square meters (Integer).
+	 */
+	@Min(value = 0, message = "The minimum size has to be a positive value.", groups = ValidationGroups.Shape.class)
+	private Integer minSize;
+
+	/**
+	 * Represents the minimum number of parking spots of the property (Integer).
+	 */
+	@Min(value = 0, message = "The minimum number of parking spots has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Integer minNumberOfParkingSpots;
+
+	public AvailabilitySearchDTO() {
+
+	}
+
+	public AvailabilitySearchDTO(LocalDate startDate, LocalDate endDate, PropertyType type, Double minRentalRate,
+			Double maxRentalRate, Integer minSize, Integer minNumberOfParkingSpots) {
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.type = type;
+		this.minRentalRate = minRentalRate;
+		this.maxRentalRate = maxRentalRate;
+		this.minSize = minSize;
+		this.minNumberOfParkingSpots = minNumberOfParkingSpots;
+	}
+
+	public LocalDate getStartDate() {
+		return startDate;
+	}
+
+	public void setStartDate(LocalDate startDate) {
+		this.startDate = startDate;
+	}
+
+	public LocalDate getEndDate() {
+		return endDate;
+	}
+
+	public void setEndDate(LocalDate endDate) {
+		this.endDate = endDate;
+	}
+
+	public PropertyType getType() {
+		return type;
+	}
+
+	public void setType(PropertyType type) {
+		this.type = type;
+	}
+
+	public Double getMinRentalRate() {
+		return minRentalRate;
+	}
+
+	public void setMinRentalRate(Double minRentalRate) {
+		this.minRentalRate = minRentalRate;
+	}
+
+	public Double getMaxRentalRate() {
+		return maxRentalRate;
+	}
+
+	public void setMaxRentalRate(Double maxRentalRate) {
+		this.maxRentalRate = maxRentalRate;
+	}
+
+	public Integer getMinSize() {
+		return minSize;
+	}
+
+	public void setMinSize(Integer minSize) {
+		this.minSize = minSize;
+	}
+
+	public Integer getMinNumberOfParkingSpots() {
+		return minNumberOfParkingSpots;
+	}
+
+	public void setMinNumberOfParkingSpots(Integer minNumberOfParkingSpots) {
+		this.minNumberOfParkingSpots = minNumberOfParkingSpots;
+	}
+
+	@Override
+	public String toString() {
+		return "AvailabilitySearchDTO [startDate=" + startDate + ", endDate=" + endDate + ", type=" + type
+				+ ", minRentalRate=" + minRentalRate + ", maxRentalRate=" + maxRentalRate + ", minSize=" + minSize
+				+ ", minNumberOfParkingSpots=" + minNumberOfParkingSpots + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(endDate, maxRentalRate, minNumberOfParkingSpots, minRentalRate, minSize, startDate, type);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		AvailabilitySearchDTO other = (AvailabilitySearchDTO) obj;
+		return Objects.equals(endDate, other.endDate) && Objects.equals(maxRentalRate, other.maxRentalRate)
+				&& Objects.equals(minNumberOfParkingSpots, other.minNumberOfParkingSpots)
+				&& Objects.equals(minRentalRate, other.minRentalRate) && Objects.equals(minSize, other.minSize)
+				&& Objects.equals(startDate, other.startDate) && type == other.type;
+	}
+}
@@ -0,0 +1,124 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * Represents a data transfer object (DTO) for a single operation of a batch
+ * request. Every operation describes one call of an existing end-point, exactly
+ * as it would be sent in its own HTTP request.
+ * 
+ * The BatchOperationDTO class contains the reference id, HTTP method, url and
+ * body of the operation.
+ * 
+ * The url and the string values of the body can contain references to the
+ * results of the earlier operations of the batch in the form
+ * {@code @{referenceId.field}}, for example {@code @{newCustomer.customerId}}.
+ * 
+ * @author Nikola Dronjak
+ */
+public class BatchOperationDTO {
+
+	/**
+	 * Represents the id under which the result of the operation can be referenced
+	 * by the later operations (String). It is optional.
+	 */
+	@Pattern(regexp = "[A-Za-z0-9_-]+",
+			message = "The reference id of the operation can only contain letters, digits, underscores and dashes.",
+			groups = ValidationGroups.Shape.class)
+	private String referenceId;
+
+	/**
+	 * Represents the HTTP method of the operation (String).
+	 */
+	@NotBlank(message = "The method of the operation is required.", groups = ValidationGroups.Shape.class)
+	@Pattern(regexp = "(?i)GET|POST|PUT|DELETE",
+			message = "The method of the operation has to be GET, POST, PUT or DELETE.",
+			groups = ValidationGroups.Shape.class)
+	private String method;
+
+	/**
+	 * Represents the url of the end-point which is being called, for example
+	 * /api/customers (String).
+	 */
+	@NotBlank(message = "The url of the operation is required.", groups = ValidationGroups.Shape.class)
+	private String url;
+
+	/**
+	 * Represents the request body of the operation (JsonNode). It is only
+	 * required by the operations which add or update an entity.
+	 */
+	private JsonNode body;
+
+	public BatchOperationDTO() {
+
+	}
+
+	public BatchOperationDTO(String referenceId, String method, String url, JsonNode body) {
+		this.referenceId = referenceId;
+		this.method = method;
+		this.url = url;
+		this.body = body;
+	}
+
+	public String getReferenceId() {
+		return referenceId;
+	}
+
+	public void setReferenceId(String referenceId) {
+		this.referenceId = referenceId;
+	}
+
+	public String getMethod() {
+		return method;
+	}
+
+	public void setMethod(String method) {
+		this.method = method;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public void setUrl(String url) {
+		this.url = url;
+	}
+
+	public JsonNode getBody() {
+		return body;
+	}
+
+	public void setBody(JsonNode body) {
+		this.body = body;
+	}
+
+	@Override
+	public String toString() {
+		return "BatchOperationDTO [referenceId=" + referenceId + ", method=" + method + ", url=" + url + ", body="
+				+ body + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(body, method, referenceId, url);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		BatchOperationDTO other = (BatchOperationDTO) obj;
+		return Objects.equals(body, other.body) && Objects.equals(method, other.method)
+				&& Objects.equals(referenceId, other.referenceId) && Objects.equals(url, other.url);
+	}
+}
@@ -0,0 +1,88 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Represents a data transfer object (DTO) for a batch request. A batch request
+ * executes an ordered list of operations against the existing end-points in a
+ * single HTTP call.
+ * 
+ * The BatchRequestDTO class contains the list of the operations and the
+ * allOrNone flag.
+ * 
+ * @author Nikola Dronjak
+ */
+public class BatchRequestDTO {
+
+	/**
+	 * Represents the operations of the batch in the order in which they are
+	 * executed (List&lt;BatchOperationDTO&gt;).
+	 */
+	@NotNull(message = "The operations of the batch are required.", groups = ValidationGroups.Shape.class)
+	@Size(min = 1, message = "The batch has to contain at least one operation.", groups = ValidationGroups.Shape.class)
+	@Valid
+	private List<@NotNull(message = "The operation can't be null.",
+			groups = ValidationGroups.Shape.class) BatchOperationDTO> operations;
+
+	/**
+	 * Indicates whether all the operations are executed in one transaction
+	 * (Boolean). If it is true, the first failed operation rolls back the whole
+	 * batch. Otherwise every operation is executed in its own transaction. The
+	 * default value is true.
+	 */
+	private Boolean allOrNone = true;
+
+	public BatchRequestDTO() {
+
+	}
+
+	public BatchRequestDTO(List<BatchOperationDTO> operations, Boolean allOrNone) {
+		this.operations = operations;
+		this.allOrNone = allOrNone;
+	}
+
+	public List<BatchOperationDTO> getOperations() {
+		return operations;
+	}
+
+	public void setOperations(List<BatchOperationDTO> operations) {
+		this.operations = operations;
+	}
+
+	public Boolean getAllOrNone() {
+		return allOrNone;
+	}
+
+	public void setAllOrNone(Boolean allOrNone) {
+		this.allOrNone = allOrNone;
+	}
+
+	@Override
+	public String toString() {
+		return "BatchRequestDTO [operations=" + operations + ", allOrNone=" + allOrNone + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(allOrNone, operations);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		BatchRequestDTO other = (BatchRequestDTO) obj;
+		return Objects.equals(allOrNone, other.allOrNone) && Objects.equals(operations, other.operations);
+	}
+}
@@ -0,0 +1,89 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+/**
+ * Represents a data transfer object (DTO) for the result of a single operation
+ * of a batch request.
+ * 
+ * The BatchResultDTO class contains the reference id of the operation, the HTTP
+ * status code of the operation and the body which the operation would have
+ * returned in its own HTTP request (the DTO, or an ErrorDTO if it failed).
+ * 
+ * @author Nikola Dronjak
+ */
+public class BatchResultDTO {
+
+	/**
+	 * Represents the reference id of the operation (String). It is null if the
+	 * operation doesn't have one.
+	 */
+	private String referenceId;
+
+	/**
+	 * Represents the HTTP status code of the operation (int).
+	 */
+	private int status;
+
+	/**
+	 * Represents the body of the response of the operation (Object).
+	 */
+	private Object body;
+
+	public BatchResultDTO() {
+
+	}
+
+	public BatchResultDTO(String referenceId, int status, Object body) {
+		this.referenceId = referenceId;
+		this.status = status;
+		this.body = body;
+	}
+
+	public String getReferenceId() {
+		return referenceId;
+	}
+
+	public void setReferenceId(String referenceId) {
+		this.referenceId = referenceId;
+	}
+
+	public int getStatus() {
+		return status;
+	}
+
+	public void setStatus(int status) {
+		this.status = status;
+	}
+
+	public Object getBody() {
+		return body;
+	}
+
+	public void setBody(Object body) {
+		this.body = body;
+	}
+
+	@Override
+	public String toString() {
+		return "BatchResultDTO [referenceId=" + referenceId + ", status=" + status + ", body=" + body + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(body, referenceId, status);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		BatchResultDTO other = (BatchResultDTO) obj;
+		return Objects.equals(body, other.body) && Objects.equals(referenceId, other.referenceId)
+				&& status == other.status;
+	}
+}
@@ -0,0 +1,124 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+import com.nikoladronjak.rently.domain.BillingRunStatus;
+
+/**
+ * Represents a data transfer object (DTO) for the BillingRun entity. This
+ * class is used for reporting the progress of a billing run.
+ * 
+ * The BillingRunDTO class contains the billing period, the status of the run,
+ * the number of partitions, the number of processed partitions and the number
+ * of rents which have been created by the run.
+ * 
+ * @author Nikola Dronjak
+ */
+public class BillingRunDTO {
+
+	/**
+	 * Represents the month for which the rents are generated (String), in the
+	 * yyyy-MM format.
+	 */
+	private String billingPeriod;
+
+	/**
+	 * Represents the status of the billing run (BillingRunStatus).
+	 */
+	private BillingRunStatus status;
+
+	/**
+	 * Represents the number of partitions of the run (Integer).
+	 */
+	private Integer partitions;
+
+	/**
+	 * Represents the number of partitions which have been processed (Integer).
+	 */
+	private Integer completedPartitions;
+
+	/**
+	 * Represents the number of rents which have been created by the run
+	 * (Integer).
+	 */
+	private Integer rentsCreated;
+
+	public BillingRunDTO() {
+
+	}
+
+	public BillingRunDTO(String billingPeriod, BillingRunStatus status, Integer partitions,
+			Integer completedPartitions, Integer rentsCreated) {
+		this.billingPeriod = billingPeriod;
+		this.status = status;
+		this.partitions = partitions;
+		this.completedPartitions = completedPartitions;
+		this.rentsCreated = rentsCreated;
+	}
+
+	public String getBillingPeriod() {
+		return billingPeriod;
+	}
+
+	public void setBillingPeriod(String billingPeriod) {
+		this.billingPeriod = billingPeriod;
+	}
+
+	public BillingRunStatus getStatus() {
+		return status;
+	}
+
+	public void setStatus(BillingRunStatus status) {
+		this.status = status;
+	}
+
+	public Integer getPartitions() {
+		return partitions;
+	}
+
+	public void setPartitions(Integer partitions) {
+		this.partitions = partitions;
+	}
+
+	public Integer getCompletedPartitions() {
+		return completedPartitions;
+	}
+
+	public void setCompletedPartitions(Integer completedPartitions) {
+		this.completedPartitions = completedPartitions;
+	}
+
+	public Integer getRentsCreated() {
+		return rentsCreated;
+	}
+
+	public void setRentsCreated(Integer rentsCreated) {
+		this.rentsCreated = rentsCreated;
+	}
+
+	@Override
+	public String toString() {
+		return "BillingRunDTO [billingPeriod=" + billingPeriod + ", status=" + status + ", partitions=" + partitions
+				+ ", completedPartitions=" + completedPartitions + ", rentsCreated=" + rentsCreated + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(billingPeriod, completedPartitions, partitions, rentsCreated, status);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		BillingRunDTO other = (BillingRunDTO) obj;
+		return Objects.equals(billingPeriod, other.billingPeriod)
+				&& Objects.equals(completedPartitions, other.completedPartitions)
+				&& Objects.equals(partitions, other.partitions) && Objects.equals(rentsCreated, other.rentsCreated)
+				&& status == other.status;
+	}
+}
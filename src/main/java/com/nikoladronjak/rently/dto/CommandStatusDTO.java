@@ -0,0 +1,126 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+/**
+ * Represents a data transfer object (DTO) for a write command which was
+ * submitted in asynchronous mode. This class is used for reporting the status
+ * of the command to the client which submitted it.
+ * 
+ * The CommandStatusDTO class contains the commandId, status of the command,
+ * HTTP status code of the result and the result of the command.
+ * 
+ * @author Nikola Dronjak
+ */
+public class CommandStatusDTO {
+
+	/**
+	 * Represents the different states of an asynchronous command.
+	 */
+	public enum Status {
+		/**
+		 * The command is waiting in the queue or is being executed.
+		 */
+		Pending,
+
+		/**
+		 * The command was executed and its changes were committed.
+		 */
+		Completed,
+
+		/**
+		 * The command was executed but it was rejected or its changes were rolled
+		 * back.
+		 */
+		Failed
+	}
+
+	/**
+	 * Represents the id of the command (String).
+	 */
+	private String commandId;
+
+	/**
+	 * Represents the status of the command (Status).
+	 */
+	private Status status;
+
+	/**
+	 * Represents the HTTP status code that the command would have returned in
+	 * synchronous mode (Integer). This value is null while the command is pending.
+	 */
+	private Integer statusCode;
+
+	/**
+	 * Represents the response body that the command would have returned in
+	 * synchronous mode (Object). This value is null while the command is pending.
+	 */
+	private Object result;
+
+	public CommandStatusDTO() {
+
+	}
+
+	public CommandStatusDTO(String commandId, Status status, Integer statusCode, Object result) {
+		this.commandId = commandId;
+		this.status = status;
+		this.statusCode = statusCode;
+		this.result = result;
+	}
+
+	public String getCommandId() {
+		return commandId;
+	}
+
+	public void setCommandId(String commandId) {
+		this.commandId = commandId;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public void setStatus(Status status) {
+		this.status = status;
+	}
+
+	public Integer getStatusCode() {
+		return statusCode;
+	}
+
+	public void setStatusCode(Integer statusCode) {
+		this.statusCode = statusCode;
+	}
+
+	public Object getResult() {
+		return result;
+	}
+
+	public void setResult(Object result) {
+		this.result = result;
+	}
+
+	@Override
+	public String toString() {
+		return "CommandStatusDTO [commandId=" + commandId + ", status=" + status + ", statusCode=" + statusCode
+				+ ", result=" + result + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(commandId, result, status, statusCode);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		CommandStatusDTO other = (CommandStatusDTO) obj;
+		return Objects.equals(commandId, other.commandId) && Objects.equals(result, other.result)
+				&& status == other.status && Objects.equals(statusCode, other.statusCode);
+	}
+}
@@ -0,0 +1,72 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+/**
+ * Represents a data transfer object (DTO) for a completion of a prefix.
+ * 
+ * The CompletionDTO class contains the completed text and its popularity,
+ * which is the number of leases of the properties with the completed address,
+ * or of the utility with the completed name.
+ * 
+ * @author Nikola Dronjak
+ */
+public class CompletionDTO {
+
+	/**
+	 * Represents the completed text (String).
+	 */
+	private String text;
+
+	/**
+	 * Represents the popularity of the completed text (Long).
+	 */
+	private Long popularity;
+
+	public CompletionDTO() {
+
+	}
+
+	public CompletionDTO(String text, Long popularity) {
+		this.text = text;
+		this.popularity = popularity;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	public void setText(String text) {
+		this.text = text;
+	}
+
+	public Long getPopularity() {
+		return popularity;
+	}
+
+	public void setPopularity(Long popularity) {
+		this.popularity = popularity;
+	}
+
+	@Override
+	public String toString() {
+		return "CompletionDTO [text=" + text + ", popularity=" + popularity + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(popularity, text);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		CompletionDTO other = (CompletionDTO) obj;
+		return Objects.equals(popularity, other.popularity) && Objects.equals(text, other.text);
+	}
+}
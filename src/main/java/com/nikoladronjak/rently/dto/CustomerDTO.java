@@ -2,6 +2,12 @@ package com.nikoladronjak.rently.dto;
 
 import java.util.Objects;
 
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
 /**
  * Represents a data transfer object (DTO) for the Customer entity. This class
  * is used for transferring customer data between the different layers of the
@@ -9,31 +15,47 @@ import java.util.Objects;
  * plays a vital role in the creation of requests as well as the displaying of
  * responses.
  * 
- * The CustomerDTO class contains the first name, last name, email address and
- * password of the customer.
+ * The CustomerDTO class contains the id, first name, last name, email address
+ * and password of the customer.
  * 
  * @author Nikola Dronjak
  */
 public class CustomerDTO {
 
+	/**
+	 * Represents the id of the customer (Integer). It is assigned by the database.
+	 */
+	private Integer customerId;
+
 	/**
 	 * Represents the first name of the customer (String).
 	 */
+	@NotBlank(message = "The first name of the customer is required.", groups = ValidationGroups.Shape.class)
+	@Size(min = 2, message = "The first name of the customer has to have at least 2 characters.",
+			groups = ValidationGroups.Shape.class)
 	private String firstName;
 
 	/**
 	 * Represents the last name of the customer (String).
 	 */
+	@NotBlank(message = "The last name of the customer is required.", groups = ValidationGroups.Shape.class)
+	@Size(min = 2, message = "The last name of the customer has to have at least 2 characters.",
+			groups = ValidationGroups.Shape.class)
 	private String lastName;
 
 	/**
 	 * Represents the email address of the customer (String).
 	 */
+	@NotBlank(message = "The email address of the customer is required.", groups = ValidationGroups.Shape.class)
+	@Email(message = "The email address of the customer must be valid.", groups = ValidationGroups.Shape.class)
 	private String email;
 
 	/**
 	 * Represents the password of the customer (String).
 	 */
+	@NotBlank(message = "The password of the customer is required.", groups = ValidationGroups.Shape.class)
+	@Size(min = 5, message = "The password of the customer has to have at least 5 characters.",
+			groups = ValidationGroups.Shape.class)
 	private String password;
 
 	public CustomerDTO() {
@@ -47,6 +69,14 @@ public class CustomerDTO {
 		this.password = password;
 	}
 
+	public Integer getCustomerId() {
+		return customerId;
+	}
+
+	public void setCustomerId(Integer customerId) {
+		this.customerId = customerId;
+	}
+
 	public String getFirstName() {
 		return firstName;
 	}
@@ -81,13 +111,13 @@ public class CustomerDTO {
 
 	@Override
 	public String toString() {
-		return "CustomerDTO [firstName=" + firstName + ", lastName=" + lastName + ", email=" + email + ", password="
-				+ password + "]";
+		return "CustomerDTO [customerId=" + customerId + ", firstName=" + firstName + ", lastName=" + lastName
+				+ ", email=" + email + ", password=" + password + "]";
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(email, firstName, lastName, password);
+		return Objects.hash(customerId, email, firstName, lastName, password);
 	}
 
 	@Override
@@ -99,7 +129,8 @@ public class CustomerDTO {
 		if (getClass() != obj.getClass())
 			return false;
 		CustomerDTO other = (CustomerDTO) obj;
-		return Objects.equals(email, other.email) && Objects.equals(firstName, other.firstName)
-				&& Objects.equals(lastName, other.lastName) && Objects.equals(password, other.password);
+		return Objects.equals(customerId, other.customerId) && Objects.equals(email, other.email)
+				&& Objects.equals(firstName, other.firstName) && Objects.equals(lastName, other.lastName)
+				&& Objects.equals(password, other.password);
 	}
 }
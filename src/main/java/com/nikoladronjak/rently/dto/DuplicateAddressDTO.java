@@ -0,0 +1,120 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+/**
+ * Represents a data transfer object (DTO) for two properties whose addresses
+ * are so similar that they are probably the same property.
+ * 
+ * The DuplicateAddressDTO class contains the ids and the addresses of both
+ * properties, and the similarity of their addresses, between 0 and 1.
+ * 
+ * @author Nikola Dronjak
+ */
+public class DuplicateAddressDTO {
+
+	/**
+	 * Represents the id of the first property (Integer).
+	 */
+	private Integer propertyId;
+
+	/**
+	 * Represents the address of the first property (String).
+	 */
+	private String address;
+
+	/**
+	 * Represents the id of the second property (Integer). It is higher than the
+	 * id of the first property.
+	 */
+	private Integer duplicatePropertyId;
+
+	/**
+	 * Represents the address of the second property (String).
+	 */
+	private String duplicateAddress;
+
+	/**
+	 * Represents the similarity of the normalised addresses (Double), from 0 for
+	 * addresses without anything in common to 1 for the same address.
+	 */
+	private Double similarity;
+
+	public DuplicateAddressDTO() {
+
+	}
+
+	public DuplicateAddressDTO(Integer propertyId, String address, Integer duplicatePropertyId,
+			String duplicateAddress, Double similarity) {
+		this.propertyId = propertyId;
+		this.address = address;
+		this.duplicatePropertyId = duplicatePropertyId;
+		this.duplicateAddress = duplicateAddress;
+		this.similarity = similarity;
+	}
+
+	public Integer getPropertyId() {
+		return propertyId;
+	}
+
+	public void setPropertyId(Integer propertyId) {
+		this.propertyId = propertyId;
+	}
+
+	public String getAddress() {
+		return address;
+	}
+
+	public void setAddress(String address) {
+		this.address = address;
+	}
+
+	public Integer getDuplicatePropertyId() {
+		return duplicatePropertyId;
+	}
+
+	public void setDuplicatePropertyId(Integer duplicatePropertyId) {
+		this.duplicatePropertyId = duplicatePropertyId;
+	}
+
+	public String getDuplicateAddress() {
+		return duplicateAddress;
+	}
+
+	public void setDuplicateAddress(String duplicateAddress) {
+		this.duplicateAddress = duplicateAddress;
+	}
+
+	public Double getSimilarity() {
+		return similarity;
+	}
+
+	public void setSimilarity(Double similarity) {
+		this.similarity = similarity;
+	}
+
+	@Override
+	public String toString() {
+		return "DuplicateAddressDTO [propertyId=" + propertyId + ", address=" + address + ", duplicatePropertyId="
+				+ duplicatePropertyId + ", duplicateAddress=" + duplicateAddress + ", similarity=" + similarity + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(address, duplicateAddress, duplicatePropertyId, propertyId, similarity);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		DuplicateAddressDTO other = (DuplicateAddressDTO) obj;
+		return Objects.equals(address, other.address) && Objects.equals(duplicateAddress, other.duplicateAddress)
+				&& Objects.equals(duplicatePropertyId, other.duplicatePropertyId)
+				&& Objects.equals(propertyId, other.propertyId) && Objects.equals(similarity, other.similarity);
+	}
+}
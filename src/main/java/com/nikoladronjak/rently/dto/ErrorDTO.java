@@ -0,0 +1,92 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Represents a data transfer object (DTO) for an error. This class is the body
+ * of every response which reports an error to the client.
+ * 
+ * The ErrorDTO class contains the HTTP status code, error message and, for
+ * validation errors, the map of field names and error messages.
+ * 
+ * @author Nikola Dronjak
+ */
+public class ErrorDTO {
+
+	/**
+	 * Represents the HTTP status code of the error (int).
+	 */
+	private int status;
+
+	/**
+	 * Represents the error message (String).
+	 */
+	private String message;
+
+	/**
+	 * Represents the error messages of the invalid fields (Map&lt;String,
+	 * String&gt;). This value is null unless the request failed validation.
+	 */
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Map<String, String> errors;
+
+	public ErrorDTO() {
+
+	}
+
+	public ErrorDTO(int status, String message, Map<String, String> errors) {
+		this.status = status;
+		this.message = message;
+		this.errors = errors;
+	}
+
+	public int getStatus() {
+		return status;
+	}
+
+	public void setStatus(int status) {
+		this.status = status;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public void setMessage(String message) {
+		this.message = message;
+	}
+
+	public Map<String, String> getErrors() {
+		return errors;
+	}
+
+	public void setErrors(Map<String, String> errors) {
+		this.errors = errors;
+	}
+
+	@Override
+	public String toString() {
+		return "ErrorDTO [status=" + status + ", message=" + message + ", errors=" + errors + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(errors, message, status);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ErrorDTO other = (ErrorDTO) obj;
+		return Objects.equals(errors, other.errors) && Objects.equals(message, other.message)
+				&& status == other.status;
+	}
+}
@@ -0,0 +1,161 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.GregorianCalendar;
+import java.util.Objects;
+
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Represents a data transfer object (DTO) for the EventBooking entity. This
+ * class is used for transferring event booking data between the different
+ * layers of the application (EventBookingRepository, EventBookingService and
+ * EventBookingController).
+ * 
+ * The EventBookingDTO class contains the id, eventSpaceId, customerId, date of
+ * the booking, start hour of the booking and end hour of the booking.
+ * 
+ * @author Nikola Dronjak
+ */
+public class EventBookingDTO {
+
+	/**
+	 * Represents the id of the event booking (Integer). It is assigned by the
+	 * database.
+	 */
+	private Integer eventBookingId;
+
+	/**
+	 * Represents the id of the event space that is being booked (Integer).
+	 */
+	@NotNull(message = "You have to specify the event space which is being booked.",
+			groups = ValidationGroups.Shape.class)
+	private Integer eventSpaceId;
+
+	/**
+	 * Represents the id of the customer who is booking the event space (Integer).
+	 */
+	@NotNull(message = "You have to specify the customer who is booking the event space.",
+			groups = ValidationGroups.Shape.class)
+	private Integer customerId;
+
+	/**
+	 * Represents the date of the booking (GregorianCalendar).
+	 */
+	@NotNull(message = "The date of the booking is required.", groups = ValidationGroups.Shape.class)
+	@FutureOrPresent(message = "The date of the booking has to be in the present or in the future.",
+			groups = ValidationGroups.Shape.class)
+	private GregorianCalendar date;
+
+	/**
+	 * Represents the hour at which the booking starts (Integer).
+	 */
+	@NotNull(message = "The start hour of the booking is required.", groups = ValidationGroups.Shape.class)
+	@Min(value = 0, message = "The start hour of the booking has to be between 0 and 23.",
+			groups = ValidationGroups.Shape.class)
+	@Max(value = 23, message = "The start hour of the booking has to be between 0 and 23.",
+			groups = ValidationGroups.Shape.class)
+	private Integer startHour;
+
+	/**
+	 * Represents the hour at which the booking ends (Integer). The booking
+	 * includes the hours up to, but not including, the end hour.
+	 */
+	@NotNull(message = "The end hour of the booking is required.", groups = ValidationGroups.Shape.class)
+	@Min(value = 1, message = "The end hour of the booking has to be between 1 and 24.",
+			groups = ValidationGroups.Shape.class)
+	@Max(value = 24, message = "The end hour of the booking has to be between 1 and 24.",
+			groups = ValidationGroups.Shape.class)
+	private Integer endHour;
+
+	public EventBookingDTO() {
+
+	}
+
+	public EventBookingDTO(Integer eventSpaceId, Integer customerId, GregorianCalendar date, Integer startHour,
+			Integer endHour) {
+		this.eventSpaceId = eventSpaceId;
+		this.customerId = customerId;
+		this.date = date;
+		this.startHour = startHour;
+		this.endHour = endHour;
+	}
+
+	public Integer getEventBookingId() {
+		return eventBookingId;
+	}
+
+	public void setEventBookingId(Integer eventBookingId) {
+		this.eventBookingId = eventBookingId;
+	}
+
+	public Integer getEventSpaceId() {
+		return eventSpaceId;
+	}
+
+	public void setEventSpaceId(Integer eventSpaceId) {
+		this.eventSpaceId = eventSpaceId;
+	}
+
+	public Integer getCustomerId() {
+		return customerId;
+	}
+
+	public void setCustomerId(Integer customerId) {
+		this.customerId = customerId;
+	}
+
+	public GregorianCalendar getDate() {
+		return date;
+	}
+
+	public void setDate(GregorianCalendar date) {
+		this.date = date;
+	}
+
+	public Integer getStartHour() {
+		return startHour;
+	}
+
+	public void setStartHour(Integer startHour) {
+		this.startHour = startHour;
+	}
+
+	public Integer getEndHour() {
+		return endHour;
+	}
+
+	public void setEndHour(Integer endHour) {
+		this.endHour = endHour;
+	}
+
+	@Override
+	public String toString() {
+		return "EventBookingDTO [eventBookingId=" + eventBookingId + ", eventSpaceId=" + eventSpaceId
+				+ ", customerId=" + customerId + ", date=" + date + ", startHour=" + startHour + ", endHour="
+				+ endHour + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(customerId, date, endHour, eventBookingId, eventSpaceId, startHour);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		EventBookingDTO other = (EventBookingDTO) obj;
+		return Objects.equals(customerId, other.customerId) && Objects.equals(date, other.date)
+				&& Objects.equals(endHour, other.endHour) && Objects.equals(eventBookingId, other.eventBookingId)
+				&& Objects.equals(eventSpaceId, other.eventSpaceId) && Objects.equals(startHour, other.startHour);
+	}
+}
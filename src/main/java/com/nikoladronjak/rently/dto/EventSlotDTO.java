@@ -0,0 +1,93 @@
+package com.nikoladronjak.rently.dto;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Represents a data transfer object (DTO) for a free slot of an event space. A
+ * slot is a range of consecutive hours of a single day.
+ * 
+ * The EventSlotDTO class contains the date of the slot, the hour at which the
+ * slot starts and the hour at which the slot ends.
+ * 
+ * @author Nikola Dronjak
+ */
+public class EventSlotDTO {
+
+	/**
+	 * Represents the date of the slot (LocalDate). It is written in the following
+	 * format: yyyy-MM-dd.
+	 */
+	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+	private LocalDate date;
+
+	/**
+	 * Represents the hour at which the slot starts (Integer).
+	 */
+	private Integer startHour;
+
+	/**
+	 * Represents the hour at which the slot ends (Integer). The slot includes the
+	 * hours up to, but not including, the end hour.
+	 */
+	private Integer endHour;
+
+	public EventSlotDTO() {
+
+	}
+
+	public EventSlotDTO(LocalDate date, Integer startHour, Integer endHour) {
+		this.date = date;
+		this.startHour = startHour;
+		this.endHour = endHour;
+	}
+
+	public LocalDate getDate() {
+		return date;
+	}
+
+	public void setDate(LocalDate date) {
+		this.date = date;
+	}
+
+	public Integer getStartHour() {
+		return startHour;
+	}
+
+	public void setStartHour(Integer startHour) {
+		this.startHour = startHour;
+	}
+
+	public Integer getEndHour() {
+		return endHour;
+	}
+
+	public void setEndHour(Integer endHour) {
+		this.endHour = endHour;
+	}
+
+	@Override
+	public String toString() {
+		return "EventSlotDTO [date=" + date + ", startHour=" + startHour + ", endHour=" + endHour + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(date, endHour, startHour);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		EventSlotDTO other = (EventSlotDTO) obj;
+		return Objects.equals(date, other.date) && Objects.equals(endHour, other.endHour)
+				&& Objects.equals(startHour, other.startHour);
+	}
+}
@@ -3,6 +3,11 @@ package com.nikoladronjak.rently.dto;
 import java.util.List;
 import java.util.Objects;
 
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
 /**
  * Represents a data transfer object (DTO) for the EventSpace entity. This class
  * is used for transferring event space data between the different layers of the
@@ -20,6 +25,9 @@ public class EventSpaceDTO extends PropertyDTO {
 	/**
 	 * Represents the number of people that the event space can hold (Integer).
 	 */
+	@NotNull(message = "The size of the event space is required.", groups = ValidationGroups.Shape.class)
+	@Positive(message = "The size of the event space has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
 	private Integer capacity;
 
 	/**
@@ -29,6 +37,8 @@ public class EventSpaceDTO extends PropertyDTO {
 	 * <li>False - The event space doesn't have a kitchen.</li>
 	 * </ul>
 	 */
+	@NotNull(message = "You have to specify whether the event space has a kitchen or not.",
+			groups = ValidationGroups.Shape.class)
 	private Boolean hasKitchen;
 
 	/**
@@ -38,11 +48,14 @@ public class EventSpaceDTO extends PropertyDTO {
 	 * <li>False - The event space doesn't have a bar.</li>
 	 * </ul>
 	 */
+	@NotNull(message = "You have to specify whether the event space has a bar or not.",
+			groups = ValidationGroups.Shape.class)
 	private Boolean hasBar;
 
 	/**
 	 * Represents the id of the event space's owner (Integer).
 	 */
+	@NotNull(message = "You have to specify the owner of the property.", groups = ValidationGroups.Shape.class)
 	private Integer ownerId;
 
 	public EventSpaceDTO() {
@@ -0,0 +1,157 @@
+package com.nikoladronjak.rently.dto;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Represents a data transfer object (DTO) for a search of event spaces which
+ * are free for a slot. The search returns the event spaces which can be booked
+ * for every hour of the slot and which match the optional filters.
+ * 
+ * The EventSpaceSearchDTO class contains the date of the slot, the start hour,
+ * the end hour, the minimum capacity and the hasKitchen and hasBar flags.
+ * 
+ * @author Nikola Dronjak
+ */
+public class EventSpaceSearchDTO {
+
+	/**
+	 * Represents the date of the slot (LocalDate).
+	 */
+	@NotNull(message = "The date is required.", groups = ValidationGroups.Shape.class)
+	@FutureOrPresent(message = "The date has to be in the present or in the future.",
+			groups = ValidationGroups.Shape.class)
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate date;
+
+	/**
+	 * Represents the hour at which the slot starts (Integer).
+	 */
+	@NotNull(message = "The start hour is required.", groups = ValidationGroups.Shape.class)
+	@Min(value = 0, message = "The start hour has to be between 0 and 23.", groups = ValidationGroups.Shape.class)
+	@Max(value = 23, message = "The start hour has to be between 0 and 23.", groups = ValidationGroups.Shape.class)
+	private Integer startHour;
+
+	/**
+	 * Represents the hour at which the slot ends (Integer).
+	 */
+	@NotNull(message = "The end hour is required.", groups = ValidationGroups.Shape.class)
+	@Min(value = 1, message = "The end hour has to be between 1 and 24.", groups = ValidationGroups.Shape.class)
+	@Max(value = 24, message = "The end hour has to be between 1 and 24.", groups = ValidationGroups.Shape.class)
+	private Integer endHour;
+
+	/**
+	 * Represents the minimum capacity of the event space (Integer).
+	 */
+	@Min(value = 0, message = "The minimum capacity has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Integer minCapacity;
+
+	/**
+	 * Indicates whether the event space has to have a kitchen (Boolean). If it is
+	 * null, the kitchen is not considered.
+	 */
+	private Boolean hasKitchen;
+
+	/**
+	 * Indicates whether the event space has to have a bar (Boolean). If it is
+	 * null, the bar is not considered.
+	 */
+	private Boolean hasBar;
+
+	public EventSpaceSearchDTO() {
+
+	}
+
+	public EventSpaceSearchDTO(LocalDate date, Integer startHour, Integer endHour, Integer minCapacity,
+			Boolean hasKitchen, Boolean hasBar) {
+		this.date = date;
+		this.startHour = startHour;
+		this.endHour = endHour;
+		this.minCapacity = minCapacity;
+		this.hasKitchen = hasKitchen;
+		this.hasBar = hasBar;
+	}
+
+	public LocalDate getDate() {
+		return date;
+	}
+
+	public void setDate(LocalDate date) {
+		this.date = date;
+	}
+
+	public Integer getStartHour() {
+		return startHour;
+	}
+
+	public void setStartHour(Integer startHour) {
+		this.startHour = startHour;
+	}
+
+	public Integer getEndHour() {
+		return endHour;
+	}
+
+	public void setEndHour(Integer endHour) {
+		this.endHour = endHour;
+	}
+
+	public Integer getMinCapacity() {
+		return minCapacity;
+	}
+
+	public void setMinCapacity(Integer minCapacity) {
+		this.minCapacity = minCapacity;
+	}
+
+	public Boolean getHasKitchen() {
+		return hasKitchen;
+	}
+
+	public void setHasKitchen(Boolean hasKitchen) {
+		this.hasKitchen = hasKitchen;
+	}
+
+	public Boolean getHasBar() {
+		return hasBar;
+	}
+
+	public void setHasBar(Boolean hasBar) {
+		this.hasBar = hasBar;
+	}
+
+	@Override
+	public String toString() {
+		return "EventSpaceSearchDTO [date=" + date + ", startHour=" + startHour + ", endHour=" + endHour
+				+ ", minCapacity=" + minCapacity + ", hasKitchen=" + hasKitchen + ", hasBar=" + hasBar + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(date, endHour, hasBar, hasKitchen, minCapacity, startHour);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		EventSpaceSearchDTO other = (EventSpaceSearchDTO) obj;
+		return Objects.equals(date, other.date) && Objects.equals(endHour, other.endHour)
+				&& Objects.equals(hasBar, other.hasBar) && Objects.equals(hasKitchen, other.hasKitchen)
+				&& Objects.equals(minCapacity, other.minCapacity) && Objects.equals(startHour, other.startHour);
+	}
+}
@@ -0,0 +1,303 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Represents a data transfer object (DTO) for a geographic search of the
+ * properties. A geographic search returns the properties within a radius of a
+ * point, inside a bounding box, or both, ordered by their distance from the
+ * point (or from the center of the box if there is no point), which match the
+ * optional filters. The results are returned one page at a time.
+ * 
+ * The GeoSearchDTO class contains the latitude and the longitude of the point,
+ * the radius, the edges of the bounding box, the type of the property, the
+ * minimum and the maximum rental rate, the minimum size, the minimum number of
+ * parking spots, the number of the page and the size of the page.
+ * 
+ * @author Nikola Dronjak
+ */
+public class GeoSearchDTO {
+
+	/**
+	 * Represents the latitude of the point in degrees (Double).
+	 */
+	@Min(value = -90, message = "The latitude has to be between -90 and 90.", groups = ValidationGroups.Shape.class)
+	@Max(value = 90, message = "The latitude has to be between -90 and 90.", groups = ValidationGroups.Shape.class)
+	private Double latitude;
+
+	/**
+	 * Represents the longitude of the point in degrees (Double).
+	 */
+	@Min(value = -180, message = "The longitude has to be between -180 and 180.",
+			groups = ValidationGroups.Shape.class)
+	@Max(value = 180, message = "The longitude has to be between -180 and 180.",
+			groups = ValidationGroups.Shape.class)
+	private Double longitude;
+
+	/**
+	 * Represents the largest distance of a property from the point in
+	 * kilometers (Double).
+	 */
+	@Positive(message = "The radius has to be a positive value.", groups = ValidationGroups.Shape.class)
+	private Double radius;
+
+	/**
+	 * Represents the southern edge of the bounding box in degrees (Double).
+	 */
+	@Min(value = -90, message = "The latitude has to be between -90 and 90.", groups = ValidationGroups.Shape.class)
+	@Max(value = 90, message = "The latitude has to be between -90 and 90.", groups = ValidationGroups.Shape.class)
+	private Double minLatitude;
+
+	/**
+	 * Represents the western edge of the bounding box in degrees (Double).
+	 */
+	@Min(value = -180, message = "The longitude has to be between -180 and 180.",
+			groups = ValidationGroups.Shape.class)
+	@Max(value = 180, message = "The longitude has to be between -180 and 180.",
+			groups = ValidationGroups.Shape.class)
+	private Double minLongitude;
+
+	/**
+	 * Represents the northern edge of the bounding box in degrees (Double).
+	 */
+	@Min(value = -90, message = "The latitude has to be between -90 and 90.", groups = ValidationGroups.Shape.class)
+	@Max(value = 90, message = "The latitude has to be between -90 and 90.", groups = ValidationGroups.Shape.class)
+	private Double maxLatitude;
+
+	/**
+	 * Represents the eastern edge of the bounding box in degrees (Double).
+	 */
+	@Min(value = -180, message = "The longitude has to be between -180 and 180.",
+			groups = ValidationGroups.Shape.class)
+	@Max(value = 180, message = "The longitude has to be between -180 and 180.",
+			groups = ValidationGroups.Shape.class)
+	private Double maxLongitude;
+
+	/**
+	 * Represents the type of the property (PropertyType). If it is null,
+	 * properties of every type are returned.
+	 */
+	private PropertyType type;
+
+	/**
+	 * Represents the minimum monthly rental rate of the property (Double).
+	 */
+	@PositiveOrZero(message = "The minimum rental rate has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Double minRentalRate;
+
+	/**
+	 * Represents the maximum monthly rental rate of the property (Double).
+	 */
+	@PositiveOrZero(message = "The maximum rental rate has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Double maxRentalRate;
+
+	/**
+	 * Represents the minimum size of the property in square meters (Integer).
+	 */
+	@Min(value = 0, message = "The minimum size has to be a positive value.", groups = ValidationGroups.Shape.class)
+	private Integer minSize;
+
+	/**
+	 * Represents the minimum number of parking spots of the property (Integer).
+	 */
+	@Min(value = 0, message = "The minimum number of parking spots has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Integer minNumberOfParkingSpots;
+
+	/**
+	 * Represents the number of the page, starting from 0 (Integer). If it is
+	 * null, the first page is returned.
+	 */
+	@Min(value = 0, message = "The number of the page has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Integer page;
+
+	/**
+	 * Represents the number of results on a page (Integer). If it is null, a
+	 * page has 20 results.
+	 */
+	@Min(value = 1, message = "The size of the page has to be between 1 and 100.",
+			groups = ValidationGroups.Shape.class)
+	@Max(value = 100, message = "The size of the page has to be between 1 and 100.",
+			groups = ValidationGroups.Shape.class)
+	private Integer pageSize;
+
+	public GeoSearchDTO() {
+
+	}
+
+	public GeoSearchDTO(Double latitude, Double longitude, Double radius, Double minLatitude, Double minLongitude,
+			Double maxLatitude, Double maxLongitude, PropertyType type, Double minRentalRate, Double maxRentalRate,
+			Integer minSize, Integer minNumberOfParkingSpots, Integer page, Integer pageSize) {
+		this.latitude = latitude;
+		this.longitude = longitude;
+		this.radius = radius;
+		this.minLatitude = minLatitude;
+		this.minLongitude = minLongitude;
+		this.maxLatitude = maxLatitude;
+		this.maxLongitude = maxLongitude;
+		this.type = type;
+		this.minRentalRate = minRentalRate;
+		this.maxRentalRate = maxRentalRate;
+		this.minSize = minSize;
+		this.minNumberOfParkingSpots = minNumberOfParkingSpots;
+		this.page = page;
+		this.pageSize = pageSize;
+	}
+
+	public Double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(Double latitude) {
+		this.latitude = latitude;
+	}
+
+	public Double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(Double longitude) {
+		this.longitude = longitude;
+	}
+
+	public Double getRadius() {
+		return radius;
+	}
+
+	public void setRadius(Double radius) {
+		this.radius = radius;
+	}
+
+	public Double getMinLatitude() {
+		return minLatitude;
+	}
+
+	public void setMinLatitude(Double minLatitude) {
+		this.minLatitude = minLatitude;
+	}
+
+	public Double getMinLongitude() {
+		return minLongitude;
+	}
+
+	public void setMinLongitude(Double minLongitude) {
+		this.minLongitude = minLongitude;
+	}
+
+	public Double getMaxLatitude() {
+		return maxLatitude;
+	}
+
+	public void setMaxLatitude(Double maxLatitude) {
+		this.maxLatitude = maxLatitude;
+	}
+
+	public Double getMaxLongitude() {
+		return maxLongitude;
+	}
+
+	public void setMaxLongitude(Double maxLongitude) {
+		this.maxLongitude = maxLongitude;
+	}
+
+	public PropertyType getType() {
+		return type;
+	}
+
+	public void setType(PropertyType type) {
+		this.type = type;
+	}
+
+	public Double getMinRentalRate() {
+		return minRentalRate;
+	}
+
+	public void setMinRentalRate(Double minRentalRate) {
+		this.minRentalRate = minRentalRate;
+	}
+
+	public Double getMaxRentalRate() {
+		return maxRentalRate;
+	}
+
+	public void setMaxRentalRate(Double maxRentalRate) {
+		this.maxRentalRate = maxRentalRate;
+	}
+
+	public Integer getMinSize() {
+		return minSize;
+	}
+
+	public void setMinSize(Integer minSize) {
+		this.minSize = minSize;
+	}
+
+	public Integer getMinNumberOfParkingSpots() {
+		return minNumberOfParkingSpots;
+	}
+
+	public void setMinNumberOfParkingSpots(Integer minNumberOfParkingSpots) {
+		this.minNumberOfParkingSpots = minNumberOfParkingSpots;
+	}
+
+	public Integer getPage() {
+		return page;
+	}
+
+	public void setPage(Integer page) {
+		this.page = page;
+	}
+
+	public Integer getPageSize() {
+		return pageSize;
+	}
+
+	public void setPageSize(Integer pageSize) {
+		this.pageSize = pageSize;
+	}
+
+	@Override
+	public String toString() {
+		return "GeoSearchDTO [latitude=" + latitude + ", longitude=" + longitude + ", radius=" + radius
+				+ ", minLatitude=" + minLatitude + ", minLongitude=" + minLongitude + ", maxLatitude=" + maxLatitude
+				+ ", maxLongitude=" + maxLongitude + ", type=" + type + ", minRentalRate=" + minRentalRate
+				+ ", maxRentalRate=" + maxRentalRate + ", minSize=" + minSize + ", minNumberOfParkingSpots="
+				+ minNumberOfParkingSpots + ", page=" + page + ", pageSize=" + pageSize + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(latitude, longitude, maxLatitude, maxLongitude, maxRentalRate, minLatitude, minLongitude,
+				minNumberOfParkingSpots, minRentalRate, minSize, page, pageSize, radius, type);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		GeoSearchDTO other = (GeoSearchDTO) obj;
+		return Objects.equals(latitude, other.latitude) && Objects.equals(longitude, other.longitude)
+				&& Objects.equals(maxLatitude, other.maxLatitude) && Objects.equals(maxLongitude, other.maxLongitude)
+				&& Objects.equals(maxRentalRate, other.maxRentalRate) && Objects.equals(minLatitude, other.minLatitude)
+				&& Objects.equals(minLongitude, other.minLongitude)
+				&& Objects.equals(minNumberOfParkingSpots, other.minNumberOfParkingSpots)
+				&& Objects.equals(minRentalRate, other.minRentalRate) && Objects.equals(minSize, other.minSize)
+				&& Objects.equals(page, other.page) && Objects.equals(pageSize, other.pageSize)
+				&& Objects.equals(radius, other.radius) && type == other.type;
+	}
+}
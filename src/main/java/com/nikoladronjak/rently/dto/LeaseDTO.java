@@ -3,6 +3,12 @@ package com.nikoladronjak.rently.dto;
 import java.util.GregorianCalendar;
 import java.util.Objects;
 
+import com.nikoladronjak.rently.validation.ValidLeasePeriod;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotNull;
+
 /**
  * Represents a data transfer object (DTO) for the Lease entity. This class is
  * used for transferring lease data between the different layers of the
@@ -10,21 +16,30 @@ import java.util.Objects;
  * vital role in the creation of requests as well as the displaying of
  * responses.
  * 
- * The LeaseDTO class contains the propertyId, customerId, monthly rental rate,
- * start date of the lease and end date of the lease.
+ * The LeaseDTO class contains the id, propertyId, customerId, monthly rental
+ * rate, start date of the lease and end date of the lease.
  * 
  * @author Nikola Dronjak
  */
+@ValidLeasePeriod(groups = ValidationGroups.Consistency.class)
 public class LeaseDTO {
 
+	/**
+	 * Represents the id of the lease (Integer). It is assigned by the database.
+	 */
+	private Integer leaseId;
+
 	/**
 	 * Represents the id of the property that is being leased (Integer).
 	 */
+	@NotNull(message = "You have to specify the property which is being leased.", groups = ValidationGroups.Shape.class)
 	private Integer propertyId;
 
 	/**
 	 * Represents the id of the customer who is leasing the property as a tenant
 	 */
+	@NotNull(message = "You have to specify the customer who is leasing the property.",
+			groups = ValidationGroups.Shape.class)
 	private Integer customerId;
 
 	/**
@@ -38,11 +53,17 @@ public class LeaseDTO {
 	/**
 	 * Represents the start date of the lease (GregorianCalendar).
 	 */
+	@NotNull(message = "The start date of the lease is required.", groups = ValidationGroups.Shape.class)
+	@FutureOrPresent(message = "The start date of the lease has to be in the present or in the future.",
+			groups = ValidationGroups.Shape.class)
 	private GregorianCalendar startDate;
 
 	/**
 	 * Represents the end date of the lease (GregorianCalendar).
 	 */
+	@NotNull(message = "The end date of the lease is required.", groups = ValidationGroups.Shape.class)
+	@FutureOrPresent(message = "The end date of the lease has to be in the present or in the future.",
+			groups = ValidationGroups.Shape.class)
 	private GregorianCalendar endDate;
 
 	public LeaseDTO() {
@@ -58,6 +79,14 @@ public class LeaseDTO {
 		this.endDate = endDate;
 	}
 
+	public Integer getLeaseId() {
+		return leaseId;
+	}
+
+	public void setLeaseId(Integer leaseId) {
+		this.leaseId = leaseId;
+	}
+
 	public Integer getPropertyId() {
 		return propertyId;
 	}
@@ -100,13 +129,13 @@ public class LeaseDTO {
 
 	@Override
 	public String toString() {
-		return "LeaseDTO [propertyId=" + propertyId + ", customerId=" + customerId + ", rentalRate=" + rentalRate
-				+ ", startDate=" + startDate + ", endDate=" + endDate + "]";
+		return "LeaseDTO [leaseId=" + leaseId + ", propertyId=" + propertyId + ", customerId=" + customerId
+				+ ", rentalRate=" + rentalRate + ", startDate=" + startDate + ", endDate=" + endDate + "]";
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(customerId, endDate, propertyId, rentalRate, startDate);
+		return Objects.hash(customerId, endDate, leaseId, propertyId, rentalRate, startDate);
 	}
 
 	@Override
@@ -119,7 +148,7 @@ public class LeaseDTO {
 			return false;
 		LeaseDTO other = (LeaseDTO) obj;
 		return Objects.equals(customerId, other.customerId) && Objects.equals(endDate, other.endDate)
-				&& Objects.equals(propertyId, other.propertyId) && Objects.equals(rentalRate, other.rentalRate)
-				&& Objects.equals(startDate, other.startDate);
+				&& Objects.equals(leaseId, other.leaseId) && Objects.equals(propertyId, other.propertyId)
+				&& Objects.equals(rentalRate, other.rentalRate) && Objects.equals(startDate, other.startDate);
 	}
 }
@@ -0,0 +1,91 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+import com.nikoladronjak.rently.domain.LedgerAccountType;
+
+/**
+ * Represents a data transfer object (DTO) for a LedgerBalance entity. This
+ * class is used to transfer the running balances of the rents, the leases and
+ * the customers between different layers of the application.
+ * 
+ * The LedgerBalanceDTO class contains the type and the id of the account and
+ * its balance. A positive balance is the amount which is still owed.
+ * 
+ * @author Nikola Dronjak
+ */
+public class LedgerBalanceDTO {
+
+	/**
+	 * Represents the type of the account (LedgerAccountType).
+	 */
+	private LedgerAccountType accountType;
+
+	/**
+	 * Represents the id of the rent, the lease or the customer (int).
+	 */
+	private int accountId;
+
+	/**
+	 * Represents the balance of the account (double).
+	 */
+	private double balance;
+
+	public LedgerBalanceDTO() {
+
+	}
+
+	public LedgerBalanceDTO(LedgerAccountType accountType, int accountId, double balance) {
+		this.accountType = accountType;
+		this.accountId = accountId;
+		this.balance = balance;
+	}
+
+	public LedgerAccountType getAccountType() {
+		return accountType;
+	}
+
+	public void setAccountType(LedgerAccountType accountType) {
+		this.accountType = accountType;
+	}
+
+	public int getAccountId() {
+		return accountId;
+	}
+
+	public void setAccountId(int accountId) {
+		this.accountId = accountId;
+	}
+
+	public double getBalance() {
+		return balance;
+	}
+
+	public void setBalance(double balance) {
+		this.balance = balance;
+	}
+
+	@Override
+	public String toString() {
+		return "LedgerBalanceDTO [accountType=" + accountType + ", accountId=" + accountId + ", balance=" + balance +
+				"]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(accountId, accountType, balance);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		LedgerBalanceDTO other = (LedgerBalanceDTO) obj;
+		return accountId == other.accountId && accountType == other.accountType
+				&& Double.doubleToLongBits(balance) == Double.doubleToLongBits(other.balance);
+	}
+}
@@ -0,0 +1,180 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.GregorianCalendar;
+import java.util.Objects;
+
+import com.nikoladronjak.rently.domain.LedgerEntryType;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Represents a data transfer object (DTO) for a LedgerEntry entity. This class
+ * is used to transfer LedgerEntry data between different layers of the
+ * application.
+ * 
+ * The LedgerEntryDTO class contains the id of the rent to which the entry is
+ * posted, the type of the entry, its amount and a description. The id of the
+ * ledger entry, the time at which it was posted and the ids of the lease and
+ * the customer of the rent are assigned when the entry is posted. The amount
+ * of a charge can be omitted, in which case the total rent of the rent is
+ * charged.
+ * 
+ * @author Nikola Dronjak
+ */
+public class LedgerEntryDTO {
+
+	/**
+	 * Represents the id of the ledger entry (Integer). It is assigned by the
+	 * database.
+	 */
+	private Integer ledgerEntryId;
+
+	/**
+	 * Represents the id of the rent to which the entry is posted (Integer).
+	 */
+	@NotNull(message = "You have to specify the rent to which the entry is posted.",
+			groups = ValidationGroups.Shape.class)
+	private Integer rentId;
+
+	/**
+	 * Represents the type of the ledger entry (LedgerEntryType).
+	 */
+	@NotNull(message = "The type of the ledger entry is required.", groups = ValidationGroups.Shape.class)
+	private LedgerEntryType type;
+
+	/**
+	 * Represents the amount of the ledger entry (Double).
+	 */
+	private Double amount;
+
+	/**
+	 * Represents the description of the ledger entry (String).
+	 */
+	private String description;
+
+	/**
+	 * Represents the time at which the entry was posted (GregorianCalendar). It
+	 * is assigned when the entry is posted.
+	 */
+	private GregorianCalendar postedAt;
+
+	/**
+	 * Represents the id of the lease of the rent (Integer). It is assigned when
+	 * the entry is posted.
+	 */
+	private Integer leaseId;
+
+	/**
+	 * Represents the id of the customer of the lease (Integer). It is assigned
+	 * when the entry is posted.
+	 */
+	private Integer customerId;
+
+	public LedgerEntryDTO() {
+
+	}
+
+	public LedgerEntryDTO(Integer ledgerEntryId, Integer rentId, LedgerEntryType type, Double amount,
+			String description, GregorianCalendar postedAt, Integer leaseId, Integer customerId) {
+		this.ledgerEntryId = ledgerEntryId;
+		this.rentId = rentId;
+		this.type = type;
+		this.amount = amount;
+		this.description = description;
+		this.postedAt = postedAt;
+		this.leaseId = leaseId;
+		this.customerId = customerId;
+	}
+
+	public Integer getLedgerEntryId() {
+		return ledgerEntryId;
+	}
+
+	public void setLedgerEntryId(Integer ledgerEntryId) {
+		this.ledgerEntryId = ledgerEntryId;
+	}
+
+	public Integer getRentId() {
+		return rentId;
+	}
+
+	public void setRentId(Integer rentId) {
+		this.rentId = rentId;
+	}
+
+	public LedgerEntryType getType() {
+		return type;
+	}
+
+	public void setType(LedgerEntryType type) {
+		this.type = type;
+	}
+
+	public Double getAmount() {
+		return amount;
+	}
+
+	public void setAmount(Double amount) {
+		this.amount = amount;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public GregorianCalendar getPostedAt() {
+		return postedAt;
+	}
+
+	public void setPostedAt(GregorianCalendar postedAt) {
+		this.postedAt = postedAt;
+	}
+
+	public Integer getLeaseId() {
+		return leaseId;
+	}
+
+	public void setLeaseId(Integer leaseId) {
+		this.leaseId = leaseId;
+	}
+
+	public Integer getCustomerId() {
+		return customerId;
+	}
+
+	public void setCustomerId(Integer customerId) {
+		this.customerId = customerId;
+	}
+
+	@Override
+	public String toString() {
+		return "LedgerEntryDTO [ledgerEntryId=" + ledgerEntryId + ", rentId=" + rentId + ", type=" + type +
+				", amount=" + amount + ", description=" + description + ", postedAt=" + postedAt + ", leaseId=" +
+				leaseId + ", customerId=" + customerId + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(amount, customerId, description, leaseId, ledgerEntryId, postedAt, rentId, type);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		LedgerEntryDTO other = (LedgerEntryDTO) obj;
+		return Objects.equals(amount, other.amount) && Objects.equals(customerId, other.customerId)
+				&& Objects.equals(description, other.description) && Objects.equals(leaseId, other.leaseId)
+				&& Objects.equals(ledgerEntryId, other.ledgerEntryId) && Objects.equals(postedAt, other.postedAt)
+				&& Objects.equals(rentId, other.rentId) && type == other.type;
+	}
+}
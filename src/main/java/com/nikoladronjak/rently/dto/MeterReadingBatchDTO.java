@@ -0,0 +1,68 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Represents a data transfer object (DTO) for a batch of meter readings. A
+ * batch can contain the readings of many utility leases, in any order.
+ * 
+ * The MeterReadingBatchDTO class contains the list of the readings.
+ * 
+ * @author Nikola Dronjak
+ */
+public class MeterReadingBatchDTO {
+
+	/**
+	 * Represents the readings of the batch (List&lt;MeterReadingDTO&gt;).
+	 */
+	@NotNull(message = "The readings of the batch are required.", groups = ValidationGroups.Shape.class)
+	@Size(min = 1, message = "The batch has to contain at least one reading.", groups = ValidationGroups.Shape.class)
+	@Valid
+	private List<@NotNull(message = "The reading can't be null.",
+			groups = ValidationGroups.Shape.class) MeterReadingDTO> readings;
+
+	public MeterReadingBatchDTO() {
+
+	}
+
+	public MeterReadingBatchDTO(List<MeterReadingDTO> readings) {
+		this.readings = readings;
+	}
+
+	public List<MeterReadingDTO> getReadings() {
+		return readings;
+	}
+
+	public void setReadings(List<MeterReadingDTO> readings) {
+		this.readings = readings;
+	}
+
+	@Override
+	public String toString() {
+		return "MeterReadingBatchDTO [readings=" + readings + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(readings);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		MeterReadingBatchDTO other = (MeterReadingBatchDTO) obj;
+		return Objects.equals(readings, other.readings);
+	}
+}
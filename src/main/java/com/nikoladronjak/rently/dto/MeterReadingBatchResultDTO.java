@@ -0,0 +1,89 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+/**
+ * Represents a data transfer object (DTO) for the result of the ingestion of a
+ * batch of meter readings.
+ * 
+ * The MeterReadingBatchResultDTO class contains the number of readings in the
+ * batch, the number of readings which were stored and the number of readings
+ * which were skipped because the meter already had a reading at the same
+ * time.
+ * 
+ * @author Nikola Dronjak
+ */
+public class MeterReadingBatchResultDTO {
+
+	/**
+	 * Represents the number of readings in the batch (int).
+	 */
+	private int received;
+
+	/**
+	 * Represents the number of readings which were stored (int).
+	 */
+	private int stored;
+
+	/**
+	 * Represents the number of readings which were skipped as duplicates (int).
+	 */
+	private int duplicates;
+
+	public MeterReadingBatchResultDTO() {
+
+	}
+
+	public MeterReadingBatchResultDTO(int received, int stored, int duplicates) {
+		this.received = received;
+		this.stored = stored;
+		this.duplicates = duplicates;
+	}
+
+	public int getReceived() {
+		return received;
+	}
+
+	public void setReceived(int received) {
+		this.received = received;
+	}
+
+	public int getStored() {
+		return stored;
+	}
+
+	public void setStored(int stored) {
+		this.stored = stored;
+	}
+
+	public int getDuplicates() {
+		return duplicates;
+	}
+
+	public void setDuplicates(int duplicates) {
+		this.duplicates = duplicates;
+	}
+
+	@Override
+	public String toString() {
+		return "MeterReadingBatchResultDTO [received=" + received + ", stored=" + stored + ", duplicates=" + duplicates
+				+ "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(duplicates, received, stored);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		MeterReadingBatchResultDTO other = (MeterReadingBatchResultDTO) obj;
+		return duplicates == other.duplicates && received == other.received && stored == other.stored;
+	}
+}
@@ -0,0 +1,99 @@
+package com.nikoladronjak.rently.dto;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Represents a data transfer object (DTO) for a single reading of the meter of
+ * a utility lease. A reading is the usage (for example kWh of electricity or
+ * m3 of water) since the previous reading of the meter.
+ * 
+ * The MeterReadingDTO class contains the id of the utility lease, the time of
+ * the reading and its value. The time is stored with a precision of one
+ * second.
+ * 
+ * @author Nikola Dronjak
+ */
+public class MeterReadingDTO {
+
+	/**
+	 * Represents the id of the utility lease whose meter was read (Integer).
+	 */
+	@NotNull(message = "You have to specify the utility lease whose meter was read.",
+			groups = ValidationGroups.Shape.class)
+	private Integer utilityLeaseId;
+
+	/**
+	 * Represents the time of the reading (Instant).
+	 */
+	@NotNull(message = "The time of the reading is required.", groups = ValidationGroups.Shape.class)
+	private Instant timestamp;
+
+	/**
+	 * Represents the value of the reading (Double).
+	 */
+	@NotNull(message = "The value of the reading is required.", groups = ValidationGroups.Shape.class)
+	private Double value;
+
+	public MeterReadingDTO() {
+
+	}
+
+	public MeterReadingDTO(Integer utilityLeaseId, Instant timestamp, Double value) {
+		this.utilityLeaseId = utilityLeaseId;
+		this.timestamp = timestamp;
+		this.value = value;
+	}
+
+	public Integer getUtilityLeaseId() {
+		return utilityLeaseId;
+	}
+
+	public void setUtilityLeaseId(Integer utilityLeaseId) {
+		this.utilityLeaseId = utilityLeaseId;
+	}
+
+	public Instant getTimestamp() {
+		return timestamp;
+	}
+
+	public void setTimestamp(Instant timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	public Double getValue() {
+		return value;
+	}
+
+	public void setValue(Double value) {
+		this.value = value;
+	}
+
+	@Override
+	public String toString() {
+		return "MeterReadingDTO [utilityLeaseId=" + utilityLeaseId + ", timestamp=" + timestamp + ", value=" + value
+				+ "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(timestamp, utilityLeaseId, value);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		MeterReadingDTO other = (MeterReadingDTO) obj;
+		return Objects.equals(timestamp, other.timestamp) && Objects.equals(utilityLeaseId, other.utilityLeaseId)
+				&& Objects.equals(value, other.value);
+	}
+}
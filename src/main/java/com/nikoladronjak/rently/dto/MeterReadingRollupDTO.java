@@ -0,0 +1,155 @@
+package com.nikoladronjak.rently.dto;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import com.nikoladronjak.rently.domain.RollupGranularity;
+
+/**
+ * Represents a data transfer object (DTO) for a MeterReadingRollup entity.
+ * This class is used to transfer the usage of a utility lease over an hour, a
+ * day or a month between different layers of the application.
+ * 
+ * The MeterReadingRollupDTO class contains the id of the utility lease, the
+ * granularity and the start of the period, and the number, the total, the
+ * minimum and the maximum of the readings in the period.
+ * 
+ * @author Nikola Dronjak
+ */
+public class MeterReadingRollupDTO {
+
+	/**
+	 * Represents the id of the utility lease whose meter was read (int).
+	 */
+	private int utilityLeaseId;
+
+	/**
+	 * Represents the granularity of the rollup (RollupGranularity).
+	 */
+	private RollupGranularity granularity;
+
+	/**
+	 * Represents the start of the period (Instant).
+	 */
+	private Instant periodStart;
+
+	/**
+	 * Represents the number of readings in the period (int).
+	 */
+	private int readings;
+
+	/**
+	 * Represents the sum of the readings in the period (double).
+	 */
+	private double total;
+
+	/**
+	 * Represents the smallest reading in the period (double).
+	 */
+	private double minimum;
+
+	/**
+	 * Represents the largest reading in the period (double).
+	 */
+	private double maximum;
+
+	public MeterReadingRollupDTO() {
+
+	}
+
+	public MeterReadingRollupDTO(int utilityLeaseId, RollupGranularity granularity, Instant periodStart, int readings,
+			double total, double minimum, double maximum) {
+		this.utilityLeaseId = utilityLeaseId;
+		this.granularity = granularity;
+		this.periodStart = periodStart;
+		this.readings = readings;
+		this.total = total;
+		this.minimum = minimum;
+		this.maximum = maximum;
+	}
+
+	public int getUtilityLeaseId() {
+		return utilityLeaseId;
+	}
+
+	public void setUtilityLeaseId(int utilityLeaseId) {
+		this.utilityLeaseId = utilityLeaseId;
+	}
+
+	public RollupGranularity getGranularity() {
+		return granularity;
+	}
+
+	public void setGranularity(RollupGranularity granularity) {
+		this.granularity = granularity;
+	}
+
+	public Instant getPeriodStart() {
+		return periodStart;
+	}
+
+	public void setPeriodStart(Instant periodStart) {
+		this.periodStart = periodStart;
+	}
+
+	public int getReadings() {
+		return readings;
+	}
+
+	public void setReadings(int readings) {
+		this.readings = readings;
+	}
+
+	public double getTotal() {
+		return total;
+	}
+
+	public void setTotal(double total) {
+		this.total = total;
+	}
+
+	public double getMinimum() {
+		return minimum;
+	}
+
+	public void setMinimum(double minimum) {
+		this.minimum = minimum;
+	}
+
+	public double getMaximum() {
+		return maximum;
+	}
+
+	public void setMaximum(double maximum) {
+		this.maximum = maximum;
+	}
+
+	@Override
+	public String toString() {
+		return "MeterReadingRollupDTO [utilityLeaseId=" + utilityLeaseId + ", granularity=" + granularity
+				+ ", periodStart=" + periodStart + ", readings=" + readings + ", total=" + total + ", minimum="
+				+ minimum + ", maximum=" + maximum + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(granularity, maximum, minimum, periodStart, readings, total, utilityLeaseId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		MeterReadingRollupDTO other = (MeterReadingRollupDTO) obj;
+		return granularity == other.granularity
+				&& Double.doubleToLongBits(maximum) == Double.doubleToLongBits(other.maximum)
+				&& Double.doubleToLongBits(minimum) == Double.doubleToLongBits(other.minimum)
+				&& Objects.equals(periodStart, other.periodStart) && readings == other.readings
+				&& Double.doubleToLongBits(total) == Double.doubleToLongBits(other.total)
+				&& utilityLeaseId == other.utilityLeaseId;
+	}
+}
@@ -3,6 +3,11 @@ package com.nikoladronjak.rently.dto;
 import java.util.List;
 import java.util.Objects;
 
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
 /**
  * Represents a data transfer object (DTO) for the OfficeSpace entity. This
  * class is used for transferring office space data between the different layers
@@ -19,11 +24,15 @@ public class OfficeSpaceDTO extends PropertyDTO {
 	/**
 	 * Represents the number of people that the office space can hold (Integer).
 	 */
+	@NotNull(message = "The size of the office space is required.", groups = ValidationGroups.Shape.class)
+	@Positive(message = "The size of the office space has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
 	private Integer capacity;
 
 	/**
 	 * Represents the id of the office space's owner (Integer).
 	 */
+	@NotNull(message = "You have to specify the owner of the property.", groups = ValidationGroups.Shape.class)
 	private Integer ownerId;
 
 	public OfficeSpaceDTO() {
@@ -2,6 +2,12 @@ package com.nikoladronjak.rently.dto;
 
 import java.util.Objects;
 
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
 /**
  * Represents a data transfer object (DTO) for the Owner entity. This class is
  * used for transferring owner data between the different layers of the
@@ -9,36 +15,55 @@ import java.util.Objects;
  * vital role in the creation of requests as well as the displaying of
  * responses.
  * 
- * The OwnerDTO class contains the first name, last name, email address,
+ * The OwnerDTO class contains the id, first name, last name, email address,
  * password and the phone number of the owner.
  * 
  * @author Nikola Dronjak
  */
 public class OwnerDTO {
 
+	/**
+	 * Represents the id of the owner (Integer). It is assigned by the database.
+	 */
+	private Integer ownerId;
+
 	/**
 	 * Represents the first name of the owner (String).
 	 */
+	@NotBlank(message = "The first name of the owner is required.", groups = ValidationGroups.Shape.class)
+	@Size(min = 2, message = "The first name of the owner has to have at least 2 characters.",
+			groups = ValidationGroups.Shape.class)
 	private String firstName;
 
 	/**
 	 * Represents the last name of the owner (String).
 	 */
+	@NotBlank(message = "The last name of the owner is required.", groups = ValidationGroups.Shape.class)
+	@Size(min = 2, message = "The last name of the owner has to have at least 2 characters.",
+			groups = ValidationGroups.Shape.class)
 	private String lastName;
 
 	/**
 	 * Represents the email address of the owner (String).
 	 */
+	@NotBlank(message = "The email address of the owner is required.", groups = ValidationGroups.Shape.class)
+	@Email(message = "The email address of the owner must be valid.", groups = ValidationGroups.Shape.class)
 	private String email;
 
 	/**
 	 * Represents the password of the owner (String).
 	 */
+	@NotBlank(message = "The password of the owner is required.", groups = ValidationGroups.Shape.class)
+	@Size(min = 5, message = "The password of the owner has to have at least 5 characters.",
+			groups = ValidationGroups.Shape.class)
 	private String password;
 
 	/**
 	 * Represents the phone number of the owner (String).
 	 */
+	@NotBlank(message = "The phone number of the owner is required.", groups = ValidationGroups.Shape.class)
+	@Size(min = 10, message = "The phone number of the owner has to have at least 10 characters.",
+			groups = ValidationGroups.Shape.class)
 	private String phoneNumber;
 
 	public OwnerDTO() {
@@ -53,6 +78,14 @@ public class OwnerDTO {
 		this.phoneNumber = phoneNumber;
 	}
 
+	public Integer getOwnerId() {
+		return ownerId;
+	}
+
+	public void setOwnerId(Integer ownerId) {
+		this.ownerId = ownerId;
+	}
+
 	public String getFirstName() {
 		return firstName;
 	}
@@ -95,13 +128,13 @@ public class OwnerDTO {
 
 	@Override
 	public String toString() {
-		return "OwnerDTO [firstName=" + firstName + ", lastName=" + lastName + ", email=" + email + ", password="
-				+ password + ", phoneNumber=" + phoneNumber + "]";
+		return "OwnerDTO [ownerId=" + ownerId + ", firstName=" + firstName + ", lastName=" + lastName + ", email="
+				+ email + ", password=" + password + ", phoneNumber=" + phoneNumber + "]";
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(email, firstName, lastName, password, phoneNumber);
+		return Objects.hash(email, firstName, lastName, ownerId, password, phoneNumber);
 	}
 
 	@Override
@@ -114,7 +147,7 @@ public class OwnerDTO {
 			return false;
 		OwnerDTO other = (OwnerDTO) obj;
 		return Objects.equals(email, other.email) && Objects.equals(firstName, other.firstName)
-				&& Objects.equals(lastName, other.lastName) && Objects.equals(password, other.password)
-				&& Objects.equals(phoneNumber, other.phoneNumber);
+				&& Objects.equals(lastName, other.lastName) && Objects.equals(ownerId, other.ownerId)
+				&& Objects.equals(password, other.password) && Objects.equals(phoneNumber, other.phoneNumber);
 	}
 }
@@ -3,6 +3,17 @@ package com.nikoladronjak.rently.dto;
 import java.util.List;
 import java.util.Objects;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.nikoladronjak.rently.validation.ValidLocation;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
 /**
  * Represents a data transfer object (DTO) for the Property entity. This class
  * is the parent class of the following classes:
@@ -14,61 +25,123 @@ import java.util.Objects;
  * 
  * This means that all the fields of this class are inherited by them.
  * 
- * The PropertyDTO class contains the name, street address, description, monthly
- * rental rate, size, isAvailable flag, number of parking spaces and list of
- * photos of the property.
+ * The PropertyDTO class contains the name, street address, latitude and
+ * longitude, description, monthly rental rate, size, isAvailable flag, number
+ * of parking spaces and list of photos of the property.
  * 
  * @author Nikola Dronjak
  */
+@ValidLocation(groups = ValidationGroups.Consistency.class)
 public class PropertyDTO {
 	private Integer propertyId;
 
 	/**
 	 * Represents the name of the property (String).
 	 */
+	@NotBlank(message = "The name of the property is required.", groups = ValidationGroups.Shape.class)
+	@Size(min = 5, message = "The name of the property has to have at least 5 characters.",
+			groups = ValidationGroups.Shape.class)
 	private String name;
 
 	/**
 	 * Represents the street address of the property (String).
 	 */
+	@NotBlank(message = "The address of the property is required.", groups = ValidationGroups.Shape.class)
+	@Size(min = 5, message = "The address of the property has to have at least 5 characters.",
+			groups = ValidationGroups.Shape.class)
 	private String address;
 
+	/**
+	 * Represents the latitude of the property in degrees (Double). It is
+	 * optional, but it has to be given together with the longitude.
+	 */
+	@Min(value = -90, message = "The latitude of the property has to be between -90 and 90.",
+			groups = ValidationGroups.Shape.class)
+	@Max(value = 90, message = "The latitude of the property has to be between -90 and 90.",
+			groups = ValidationGroups.Shape.class)
+	private Double latitude;
+
+	/**
+	 * Represents the longitude of the property in degrees (Double). It is
+	 * optional, but it has to be given together with the latitude.
+	 */
+	@Min(value = -180, message = "The longitude of the property has to be between -180 and 180.",
+			groups = ValidationGroups.Shape.class)
+	@Max(value = 180, message = "The longitude of the property has to be between -180 and 180.",
+			groups = ValidationGroups.Shape.class)
+	private Double longitude;
+
 	/**
 	 * Represents the description of the property (String).
 	 */
+	@NotNull(message = "The description of the property is required.", groups = ValidationGroups.Shape.class)
 	private String description;
 
 	/**
 	 * Represents the monthly rental rate of the property (Double). This value will
 	 * be assigned to the lease as well.
 	 */
+	@NotNull(message = "The rental rate of the property is required.", groups = ValidationGroups.Shape.class)
+	@Positive(message = "The rental rate of the property has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
 	private Double rentalRate;
 
 	/**
 	 * Represents the size of the property is square meters (Integer).
 	 */
+	@NotNull(message = "The size of the property is required.", groups = ValidationGroups.Shape.class)
+	@Positive(message = "The size of the property has to be a positive value.", groups = ValidationGroups.Shape.class)
 	private Integer size;
 
 	/**
 	 * Indicates whether the property is available (Boolean).
 	 * <ul>
-	 * <li>True - The property is available.</li>
-	 * <li>False - The property is not available.</li>
+	 * <li>True - The property is offered for leasing and it isn't leased
+	 * today.</li>
+	 * <li>False - The property is not offered for leasing or it is leased
+	 * today.</li>
 	 * </ul>
 	 */
+	@NotNull(message = "You have to specify wether the property is available or not.",
+			groups = ValidationGroups.Shape.class)
 	private Boolean isAvailable;
 
 	/**
 	 * Represents the number of parking spaces that come with the property
 	 * (Integer).
 	 */
+	@NotNull(message = "The number of parking spots for the property is required.",
+			groups = ValidationGroups.Shape.class)
+	@Min(value = 0, message = "The number of parking spots for the property has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
 	private Integer numberOfParkingSpots;
 
 	/**
 	 * Represents the list of photos of the property (List&lt;String&gt;).
 	 */
+	@NotNull(message = "The photos of the property are required.", groups = ValidationGroups.Shape.class)
+	@Size(min = 0, max = 15, message = "There has to be atleast 1 photo of the property and there cant be more than 15 photos of the property.",
+			groups = ValidationGroups.Shape.class)
 	private List<String> photos;
 
+	/**
+	 * Represents the ids of the other properties whose addresses are so similar
+	 * to the address of the property that they are probably the same property
+	 * (List&lt;Integer&gt;). It is only set in the responses to adding and
+	 * modifying a property, and only if such properties exist. It is ignored in
+	 * the requests.
+	 */
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private List<Integer> possibleDuplicateIds;
+
+	/**
+	 * Represents the distance of the property from the point of a geographic
+	 * search in kilometers (Double). It is only set in the results of such a
+	 * search. It is ignored in the requests.
+	 */
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Double distance;
+
 	public PropertyDTO() {
 
 	}
@@ -110,6 +183,22 @@ public class PropertyDTO {
 		this.address = address;
 	}
 
+	public Double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(Double latitude) {
+		this.latitude = latitude;
+	}
+
+	public Double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(Double longitude) {
+		this.longitude = longitude;
+	}
+
 	public String getDescription() {
 		return description;
 	}
@@ -158,17 +247,35 @@ public class PropertyDTO {
 		this.photos = photos;
 	}
 
+	public List<Integer> getPossibleDuplicateIds() {
+		return possibleDuplicateIds;
+	}
+
+	public void setPossibleDuplicateIds(List<Integer> possibleDuplicateIds) {
+		this.possibleDuplicateIds = possibleDuplicateIds;
+	}
+
+	public Double getDistance() {
+		return distance;
+	}
+
+	public void setDistance(Double distance) {
+		this.distance = distance;
+	}
+
 	@Override
 	public String toString() {
-		return "PropertyDTO [propertyId=" + propertyId + ", name=" + name + ", address=" + address + ", description="
-				+ description + ", rentalRate=" + rentalRate + ", size=" + size + ", isAvailable=" + isAvailable
-				+ ", numberOfParkingSpots=" + numberOfParkingSpots + ", photos=" + photos + "]";
+		return "PropertyDTO [propertyId=" + propertyId + ", name=" + name + ", address=" + address + ", latitude="
+				+ latitude + ", longitude=" + longitude + ", description=" + description + ", rentalRate=" + rentalRate
+				+ ", size=" + size + ", isAvailable=" + isAvailable + ", numberOfParkingSpots=" + numberOfParkingSpots
+				+ ", photos=" + photos + ", possibleDuplicateIds=" + possibleDuplicateIds + ", distance=" + distance
+				+ "]";
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(address, description, isAvailable, name, numberOfParkingSpots, photos, propertyId,
-				rentalRate, size);
+		return Objects.hash(address, description, distance, isAvailable, latitude, longitude, name,
+				numberOfParkingSpots, photos, possibleDuplicateIds, propertyId, rentalRate, size);
 	}
 
 	@Override
@@ -181,9 +288,13 @@ public class PropertyDTO {
 			return false;
 		PropertyDTO other = (PropertyDTO) obj;
 		return Objects.equals(address, other.address) && Objects.equals(description, other.description)
-				&& Objects.equals(isAvailable, other.isAvailable) && Objects.equals(name, other.name)
+				&& Objects.equals(distance, other.distance) && Objects.equals(isAvailable, other.isAvailable)
+				&& Objects.equals(latitude, other.latitude) && Objects.equals(longitude, other.longitude)
+				&& Objects.equals(name, other.name)
 				&& Objects.equals(numberOfParkingSpots, other.numberOfParkingSpots)
-				&& Objects.equals(photos, other.photos) && Objects.equals(propertyId, other.propertyId)
-				&& Objects.equals(rentalRate, other.rentalRate) && Objects.equals(size, other.size);
+				&& Objects.equals(photos, other.photos)
+				&& Objects.equals(possibleDuplicateIds, other.possibleDuplicateIds)
+				&& Objects.equals(propertyId, other.propertyId) && Objects.equals(rentalRate, other.rentalRate)
+				&& Objects.equals(size, other.size);
 	}
 }
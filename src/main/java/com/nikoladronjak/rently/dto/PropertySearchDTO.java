@@ -0,0 +1,173 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Represents a data transfer object (DTO) for a full-text search of the
+ * properties. A full-text search returns the properties whose name or
+ * description contain the words of the query, ranked by their relevance, which
+ * match the optional filters.
+ * 
+ * The PropertySearchDTO class contains the query, the type of the property, the
+ * minimum and the maximum rental rate, the minimum size, the minimum number of
+ * parking spots and the maximum number of results.
+ * 
+ * @author Nikola Dronjak
+ */
+public class PropertySearchDTO {
+
+	/**
+	 * Represents the words which are searched for (String).
+	 */
+	@NotBlank(message = "The search query is required.", groups = ValidationGroups.Shape.class)
+	private String q;
+
+	/**
+	 * Represents the type of the property (PropertyType). If it is null,
+	 * properties of every type are returned.
+	 */
+	private PropertyType type;
+
+	/**
+	 * Represents the minimum monthly rental rate of the property (Double).
+	 */
+	@PositiveOrZero(message = "The minimum rental rate has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Double minRentalRate;
+
+	/**
+	 * Represents the maximum monthly rental rate of the property (Double).
+	 */
+	@PositiveOrZero(message = "The maximum rental rate has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Double maxRentalRate;
+
+	/**
+	 * Represents the minimum size of the property in square meters (Integer).
+	 */
+	@Min(value = 0, message = "The minimum size has to be a positive value.", groups = ValidationGroups.Shape.class)
+	private Integer minSize;
+
+	/**
+	 * Represents the minimum number of parking spots of the property (Integer).
+	 */
+	@Min(value = 0, message = "The minimum number of parking spots has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Integer minNumberOfParkingSpots;
+
+	/**
+	 * Represents the maximum number of results (Integer). If it is null, at most
+	 * 20 results are returned.
+	 */
+	@Min(value = 1, message = "The number of results has to be between 1 and 100.",
+			groups = ValidationGroups.Shape.class)
+	@Max(value = 100, message = "The number of results has to be between 1 and 100.",
+			groups = ValidationGroups.Shape.class)
+	private Integer limit;
+
+	public PropertySearchDTO() {
+
+	}
+
+	public PropertySearchDTO(String q, PropertyType type, Double minRentalRate, Double maxRentalRate, Integer minSize,
+			Integer minNumberOfParkingSpots, Integer limit) {
+		this.q = q;
+		this.type = type;
+		this.minRentalRate = minRentalRate;
+		this.maxRentalRate = maxRentalRate;
+		this.minSize = minSize;
+		this.minNumberOfParkingSpots = minNumberOfParkingSpots;
+		this.limit = limit;
+	}
+
+	public String getQ() {
+		return q;
+	}
+
+	public void setQ(String q) {
+		this.q = q;
+	}
+
+	public PropertyType getType() {
+		return type;
+	}
+
+	public void setType(PropertyType type) {
+		this.type = type;
+	}
+
+	public Double getMinRentalRate() {
+		return minRentalRate;
+	}
+
+	public void setMinRentalRate(Double minRentalRate) {
+		this.minRentalRate = minRentalRate;
+	}
+
+	public Double getMaxRentalRate() {
+		return maxRentalRate;
+	}
+
+	public void setMaxRentalRate(Double maxRentalRate) {
+		this.maxRentalRate = maxRentalRate;
+	}
+
+	public Integer getMinSize() {
+		return minSize;
+	}
+
+	public void setMinSize(Integer minSize) {
+		this.minSize = minSize;
+	}
+
+	public Integer getMinNumberOfParkingSpots() {
+		return minNumberOfParkingSpots;
+	}
+
+	public void setMinNumberOfParkingSpots(Integer minNumberOfParkingSpots) {
+		this.minNumberOfParkingSpots = minNumberOfParkingSpots;
+	}
+
+	public Integer getLimit() {
+		return limit;
+	}
+
+	public void setLimit(Integer limit) {
+		this.limit = limit;
+	}
+
+	@Override
+	public String toString() {
+		return "PropertySearchDTO [q=" + q + ", type=" + type + ", minRentalRate=" + minRentalRate + ", maxRentalRate="
+				+ maxRentalRate + ", minSize=" + minSize + ", minNumberOfParkingSpots=" + minNumberOfParkingSpots
+				+ ", limit=" + limit + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(limit, maxRentalRate, minNumberOfParkingSpots, minRentalRate, minSize, q, type);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		PropertySearchDTO other = (PropertySearchDTO) obj;
+		return Objects.equals(limit, other.limit) && Objects.equals(maxRentalRate, other.maxRentalRate)
+				&& Objects.equals(minNumberOfParkingSpots, other.minNumberOfParkingSpots)
+				&& Objects.equals(minRentalRate, other.minRentalRate) && Objects.equals(minSize, other.minSize)
+				&& Objects.equals(q, other.q) && type == other.type;
+	}
+}
@@ -0,0 +1,169 @@
+package com.nikoladronjak.rently.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a data transfer object (DTO) for the price quote of a stay. A
+ * quote prices every day of the stay with the rate calendar of the property
+ * and adds the selected utility leases, whose monthly rates are spread over
+ * the days of the month.
+ * 
+ * The QuoteDTO class contains the propertyId, the first and the last day of
+ * the stay, the ids of the selected utility leases, the number of days, the
+ * price of the property, the price of the utility leases and the total price.
+ * 
+ * @author Nikola Dronjak
+ */
+public class QuoteDTO {
+
+	/**
+	 * Represents the id of the quoted property (int).
+	 */
+	private int propertyId;
+
+	/**
+	 * Represents the first day of the stay (LocalDate).
+	 */
+	private LocalDate startDate;
+
+	/**
+	 * Represents the last day of the stay (LocalDate).
+	 */
+	private LocalDate endDate;
+
+	/**
+	 * Represents the ids of the selected utility leases (List&lt;Integer&gt;).
+	 */
+	private List<Integer> utilityLeaseIds;
+
+	/**
+	 * Represents the number of days of the stay (int).
+	 */
+	private int days;
+
+	/**
+	 * Represents the price of the property for the stay (double).
+	 */
+	private double rentalPrice;
+
+	/**
+	 * Represents the price of the selected utility leases for the stay (double).
+	 */
+	private double utilityPrice;
+
+	/**
+	 * Represents the total price of the stay (double).
+	 */
+	private double totalPrice;
+
+	public QuoteDTO() {
+
+	}
+
+	public QuoteDTO(int propertyId, LocalDate startDate, LocalDate endDate, List<Integer> utilityLeaseIds, int days,
+			double rentalPrice, double utilityPrice, double totalPrice) {
+		this.propertyId = propertyId;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.utilityLeaseIds = utilityLeaseIds;
+		this.days = days;
+		this.rentalPrice = rentalPrice;
+		this.utilityPrice = utilityPrice;
+		this.totalPrice = totalPrice;
+	}
+
+	public int getPropertyId() {
+		return propertyId;
+	}
+
+	public void setPropertyId(int propertyId) {
+		this.propertyId = propertyId;
+	}
+
+	public LocalDate getStartDate() {
+		return startDate;
+	}
+
+	public void setStartDate(LocalDate startDate) {
+		this.startDate = startDate;
+	}
+
+	public LocalDate getEndDate() {
+		return endDate;
+	}
+
+	public void setEndDate(LocalDate endDate) {
+		this.endDate = endDate;
+	}
+
+	public List<Integer> getUtilityLeaseIds() {
+		return utilityLeaseIds;
+	}
+
+	public void setUtilityLeaseIds(List<Integer> utilityLeaseIds) {
+		this.utilityLeaseIds = utilityLeaseIds;
+	}
+
+	public int getDays() {
+		return days;
+	}
+
+	public void setDays(int days) {
+		this.days = days;
+	}
+
+	public double getRentalPrice() {
+		return rentalPrice;
+	}
+
+	public void setRentalPrice(double rentalPrice) {
+		this.rentalPrice = rentalPrice;
+	}
+
+	public double getUtilityPrice() {
+		return utilityPrice;
+	}
+
+	public void setUtilityPrice(double utilityPrice) {
+		this.utilityPrice = utilityPrice;
+	}
+
+	public double getTotalPrice() {
+		return totalPrice;
+	}
+
+	public void setTotalPrice(double totalPrice) {
+		this.totalPrice = totalPrice;
+	}
+
+	@Override
+	public String toString() {
+		return "QuoteDTO [propertyId=" + propertyId + ", startDate=" + startDate + ", endDate=" + endDate
+				+ ", utilityLeaseIds=" + utilityLeaseIds + ", days=" + days + ", rentalPrice=" + rentalPrice
+				+ ", utilityPrice=" + utilityPrice + ", totalPrice=" + totalPrice + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(days, endDate, propertyId, rentalPrice, startDate, totalPrice, utilityLeaseIds, utilityPrice);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		QuoteDTO other = (QuoteDTO) obj;
+		return days == other.days && Objects.equals(endDate, other.endDate) && propertyId == other.propertyId
+				&& Double.doubleToLongBits(rentalPrice) == Double.doubleToLongBits(other.rentalPrice)
+				&& Objects.equals(startDate, other.startDate)
+				&& Double.doubleToLongBits(totalPrice) == Double.doubleToLongBits(other.totalPrice)
+				&& Objects.equals(utilityLeaseIds, other.utilityLeaseIds)
+				&& Double.doubleToLongBits(utilityPrice) == Double.doubleToLongBits(other.utilityPrice);
+	}
+}
@@ -0,0 +1,186 @@
+package com.nikoladronjak.rently.dto;
+
+import java.time.DayOfWeek;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Objects;
+
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Represents a data transfer object (DTO) for the RateRule entity. This class
+ * is used for transferring rate rule data between the different layers of the
+ * application (RateRuleRepository, RateRuleService and RateRuleController).
+ * 
+ * The RateRuleDTO class contains the id, propertyId, name, start date and end
+ * date of the rule, the days of the week on which the rule applies, the daily
+ * rate and the priority of the rule. If the days of the week are not specified,
+ * the rule applies to every day. If the priority is not specified, it is 0.
+ * 
+ * @author Nikola Dronjak
+ */
+public class RateRuleDTO {
+
+	/**
+	 * Represents the id of the rate rule (Integer). It is assigned by the
+	 * database.
+	 */
+	private Integer rateRuleId;
+
+	/**
+	 * Represents the id of the property to which the rule applies (Integer).
+	 */
+	@NotNull(message = "You have to specify the property to which the rate rule applies.",
+			groups = ValidationGroups.Shape.class)
+	private Integer propertyId;
+
+	/**
+	 * Represents the name of the rule (String).
+	 */
+	@NotBlank(message = "The name of the rate rule is required.", groups = ValidationGroups.Shape.class)
+	private String name;
+
+	/**
+	 * Represents the first day on which the rule applies (GregorianCalendar).
+	 */
+	@NotNull(message = "The start date of the rate rule is required.", groups = ValidationGroups.Shape.class)
+	private GregorianCalendar startDate;
+
+	/**
+	 * Represents the last day on which the rule applies (GregorianCalendar).
+	 */
+	@NotNull(message = "The end date of the rate rule is required.", groups = ValidationGroups.Shape.class)
+	private GregorianCalendar endDate;
+
+	/**
+	 * Represents the days of the week on which the rule applies
+	 * (List&lt;DayOfWeek&gt;).
+	 */
+	private List<DayOfWeek> daysOfWeek;
+
+	/**
+	 * Represents the daily rate which the rule sets (Double).
+	 */
+	@NotNull(message = "The daily rate of the rate rule is required.", groups = ValidationGroups.Shape.class)
+	@Positive(message = "The daily rate of the rate rule has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Double dailyRate;
+
+	/**
+	 * Represents the priority of the rule (Integer).
+	 */
+	@Min(value = 0, message = "The priority of the rate rule cannot be a negative value.",
+			groups = ValidationGroups.Shape.class)
+	private Integer priority;
+
+	public RateRuleDTO() {
+
+	}
+
+	public RateRuleDTO(Integer propertyId, String name, GregorianCalendar startDate, GregorianCalendar endDate,
+			List<DayOfWeek> daysOfWeek, Double dailyRate, Integer priority) {
+		this.propertyId = propertyId;
+		this.name = name;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.daysOfWeek = daysOfWeek;
+		this.dailyRate = dailyRate;
+		this.priority = priority;
+	}
+
+	public Integer getRateRuleId() {
+		return rateRuleId;
+	}
+
+	public void setRateRuleId(Integer rateRuleId) {
+		this.rateRuleId = rateRuleId;
+	}
+
+	public Integer getPropertyId() {
+		return propertyId;
+	}
+
+	public void setPropertyId(Integer propertyId) {
+		this.propertyId = propertyId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public GregorianCalendar getStartDate() {
+		return startDate;
+	}
+
+	public void setStartDate(GregorianCalendar startDate) {
+		this.startDate = startDate;
+	}
+
+	public GregorianCalendar getEndDate() {
+		return endDate;
+	}
+
+	public void setEndDate(GregorianCalendar endDate) {
+		this.endDate = endDate;
+	}
+
+	public List<DayOfWeek> getDaysOfWeek() {
+		return daysOfWeek;
+	}
+
+	public void setDaysOfWeek(List<DayOfWeek> daysOfWeek) {
+		this.daysOfWeek = daysOfWeek;
+	}
+
+	public Double getDailyRate() {
+		return dailyRate;
+	}
+
+	public void setDailyRate(Double dailyRate) {
+		this.dailyRate = dailyRate;
+	}
+
+	public Integer getPriority() {
+		return priority;
+	}
+
+	public void setPriority(Integer priority) {
+		this.priority = priority;
+	}
+
+	@Override
+	public String toString() {
+		return "RateRuleDTO [rateRuleId=" + rateRuleId + ", propertyId=" + propertyId + ", name=" + name
+				+ ", startDate=" + startDate + ", endDate=" + endDate + ", daysOfWeek=" + daysOfWeek + ", dailyRate="
+				+ dailyRate + ", priority=" + priority + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(dailyRate, daysOfWeek, endDate, name, priority, propertyId, rateRuleId, startDate);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		RateRuleDTO other = (RateRuleDTO) obj;
+		return Objects.equals(dailyRate, other.dailyRate) && Objects.equals(daysOfWeek, other.daysOfWeek)
+				&& Objects.equals(endDate, other.endDate) && Objects.equals(name, other.name)
+				&& Objects.equals(priority, other.priority) && Objects.equals(propertyId, other.propertyId)
+				&& Objects.equals(rateRuleId, other.rateRuleId) && Objects.equals(startDate, other.startDate);
+	}
+}
@@ -0,0 +1,141 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Map;
+import java.util.Objects;
+
+import com.nikoladronjak.rently.domain.ReconciliationMatchType;
+
+/**
+ * Represents a data transfer object (DTO) for the result of a reconciliation
+ * of a bank statement against the open rents.
+ * 
+ * The ReconciliationDTO class contains the id of the reconciliation, under
+ * which its matched and unmatched reports can be downloaded, the number of
+ * lines in the statement, the number of matched and unmatched lines, the
+ * number of matched lines per match type and the time which the
+ * reconciliation took.
+ * 
+ * @author Nikola Dronjak
+ */
+public class ReconciliationDTO {
+
+	/**
+	 * Represents the id of the reconciliation (String).
+	 */
+	private String reconciliationId;
+
+	/**
+	 * Represents the number of lines in the statement (int).
+	 */
+	private int lines;
+
+	/**
+	 * Represents the number of lines which were matched to an open rent (int).
+	 */
+	private int matched;
+
+	/**
+	 * Represents the number of lines which weren't matched to any open rent
+	 * (int).
+	 */
+	private int unmatched;
+
+	/**
+	 * Represents the number of matched lines per match type
+	 * (Map&lt;ReconciliationMatchType, Integer&gt;).
+	 */
+	private Map<ReconciliationMatchType, Integer> matchesByType;
+
+	/**
+	 * Represents the duration of the reconciliation in milliseconds (long).
+	 */
+	private long durationMillis;
+
+	public ReconciliationDTO() {
+
+	}
+
+	public ReconciliationDTO(String reconciliationId, int lines, int matched, int unmatched,
+			Map<ReconciliationMatchType, Integer> matchesByType, long durationMillis) {
+		this.reconciliationId = reconciliationId;
+		this.lines = lines;
+		this.matched = matched;
+		this.unmatched = unmatched;
+		this.matchesByType = matchesByType;
+		this.durationMillis = durationMillis;
+	}
+
+	public String getReconciliationId() {
+		return reconciliationId;
+	}
+
+	public void setReconciliationId(String reconciliationId) {
+		this.reconciliationId = reconciliationId;
+	}
+
+	public int getLines() {
+		return lines;
+	}
+
+	public void setLines(int lines) {
+		this.lines = lines;
+	}
+
+	public int getMatched() {
+		return matched;
+	}
+
+	public void setMatched(int matched) {
+		this.matched = matched;
+	}
+
+	public int getUnmatched() {
+		return unmatched;
+	}
+
+	public void setUnmatched(int unmatched) {
+		this.unmatched = unmatched;
+	}
+
+	public Map<ReconciliationMatchType, Integer> getMatchesByType() {
+		return matchesByType;
+	}
+
+	public void setMatchesByType(Map<ReconciliationMatchType, Integer> matchesByType) {
+		this.matchesByType = matchesByType;
+	}
+
+	public long getDurationMillis() {
+		return durationMillis;
+	}
+
+	public void setDurationMillis(long durationMillis) {
+		this.durationMillis = durationMillis;
+	}
+
+	@Override
+	public String toString() {
+		return "ReconciliationDTO [reconciliationId=" + reconciliationId + ", lines=" + lines + ", matched=" +
+				matched + ", unmatched=" + unmatched + ", matchesByType=" + matchesByType + ", durationMillis=" +
+				durationMillis + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(durationMillis, lines, matched, matchesByType, reconciliationId, unmatched);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ReconciliationDTO other = (ReconciliationDTO) obj;
+		return durationMillis == other.durationMillis && lines == other.lines && matched == other.matched
+				&& Objects.equals(matchesByType, other.matchesByType)
+				&& Objects.equals(reconciliationId, other.reconciliationId) && unmatched == other.unmatched;
+	}
+}
@@ -3,6 +3,11 @@ package com.nikoladronjak.rently.dto;
 import java.util.List;
 import java.util.Objects;
 
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
 /**
  * Represents a data transfer object (DTO) for the Rent entity. This class is
  * used for transferring rent data between the different layers of the
@@ -10,17 +15,24 @@ import java.util.Objects;
  * vital role in the creation of requests as well as the displaying of
  * responses.
  * 
- * The RentDTO class contains the leaseId, total monthly rent and list of the
- * utility lease ids.
+ * The RentDTO class contains the id, leaseId, total monthly rent, billing
+ * period and list of the utility lease ids.
  * 
  * @author Nikola Dronjak
  */
 public class RentDTO {
 
+	/**
+	 * Represents the id of the rent (Integer). It is assigned by the database.
+	 */
+	private Integer rentId;
+
 	/**
 	 * Represents the id of the lease for which the rent is being calculated
 	 * (Integer).
 	 */
+	@NotNull(message = "You have to specify the lease from which the rent is derived.",
+			groups = ValidationGroups.Shape.class)
 	private Integer leaseId;
 
 	/**
@@ -30,10 +42,20 @@ public class RentDTO {
 	 */
 	private Double totalRent;
 
+	/**
+	 * Represents the month for which the rent is charged (String), in the yyyy-MM
+	 * format. If it is not specified, the rent is charged for the current month.
+	 */
+	@Pattern(regexp = "\\d{4}-(0[1-9]|1[0-2])", message = "The billing period has to be in the yyyy-MM format.",
+			groups = ValidationGroups.Shape.class)
+	private String billingPeriod;
+
 	/**
 	 * Represents the list of all the utility leases that are being leased
 	 * (List&lt;Integer&gt;).
 	 */
+	@NotNull(message = "You have to specify the utility leases which are part of the rent.",
+			groups = ValidationGroups.Shape.class)
 	private List<Integer> utilityLeaseIds;
 
 	public RentDTO() {
@@ -46,6 +68,14 @@ public class RentDTO {
 		this.utilityLeaseIds = utilityLeaseIds;
 	}
 
+	public Integer getRentId() {
+		return rentId;
+	}
+
+	public void setRentId(Integer rentId) {
+		this.rentId = rentId;
+	}
+
 	public Integer getLeaseId() {
 		return leaseId;
 	}
@@ -62,6 +92,14 @@ public class RentDTO {
 		this.totalRent = totalRent;
 	}
 
+	public String getBillingPeriod() {
+		return billingPeriod;
+	}
+
+	public void setBillingPeriod(String billingPeriod) {
+		this.billingPeriod = billingPeriod;
+	}
+
 	public List<Integer> getUtilityLeaseIds() {
 		return utilityLeaseIds;
 	}
@@ -72,13 +110,13 @@ public class RentDTO {
 
 	@Override
 	public String toString() {
-		return "RentDTO [leaseId=" + leaseId + ", totalRent=" + totalRent + ", utilityLeaseIds=" + utilityLeaseIds
-				+ "]";
+		return "RentDTO [rentId=" + rentId + ", leaseId=" + leaseId + ", totalRent=" + totalRent + ", billingPeriod="
+				+ billingPeriod + ", utilityLeaseIds=" + utilityLeaseIds + "]";
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(leaseId, totalRent, utilityLeaseIds);
+		return Objects.hash(billingPeriod, leaseId, rentId, totalRent, utilityLeaseIds);
 	}
 
 	@Override
@@ -90,7 +128,8 @@ public class RentDTO {
 		if (getClass() != obj.getClass())
 			return false;
 		RentDTO other = (RentDTO) obj;
-		return Objects.equals(leaseId, other.leaseId) && Objects.equals(totalRent, other.totalRent)
+		return Objects.equals(billingPeriod, other.billingPeriod) && Objects.equals(leaseId, other.leaseId)
+				&& Objects.equals(rentId, other.rentId) && Objects.equals(totalRent, other.totalRent)
 				&& Objects.equals(utilityLeaseIds, other.utilityLeaseIds);
 	}
 }
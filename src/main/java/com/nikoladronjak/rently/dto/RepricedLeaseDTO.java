@@ -0,0 +1,123 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a data transfer object (DTO) for a lease which is changed by a
+ * bulk repricing.
+ * 
+ * The RepricedLeaseDTO class contains the id of the lease, the id of the leased
+ * property, the rental rate of the lease before and after the repricing and
+ * the ids of the open rents of the lease whose totals change with it.
+ * 
+ * @author Nikola Dronjak
+ */
+public class RepricedLeaseDTO {
+
+	/**
+	 * Represents the id of the lease (int).
+	 */
+	private int leaseId;
+
+	/**
+	 * Represents the id of the leased property (int).
+	 */
+	private int propertyId;
+
+	/**
+	 * Represents the monthly rental rate of the lease before the repricing
+	 * (double).
+	 */
+	private double oldRentalRate;
+
+	/**
+	 * Represents the monthly rental rate of the lease after the repricing
+	 * (double).
+	 */
+	private double newRentalRate;
+
+	/**
+	 * Represents the ids of the open rents of the lease (List&lt;Integer&gt;).
+	 */
+	private List<Integer> rentIds;
+
+	public RepricedLeaseDTO() {
+
+	}
+
+	public RepricedLeaseDTO(int leaseId, int propertyId, double oldRentalRate, double newRentalRate,
+			List<Integer> rentIds) {
+		this.leaseId = leaseId;
+		this.propertyId = propertyId;
+		this.oldRentalRate = oldRentalRate;
+		this.newRentalRate = newRentalRate;
+		this.rentIds = rentIds;
+	}
+
+	public int getLeaseId() {
+		return leaseId;
+	}
+
+	public void setLeaseId(int leaseId) {
+		this.leaseId = leaseId;
+	}
+
+	public int getPropertyId() {
+		return propertyId;
+	}
+
+	public void setPropertyId(int propertyId) {
+		this.propertyId = propertyId;
+	}
+
+	public double getOldRentalRate() {
+		return oldRentalRate;
+	}
+
+	public void setOldRentalRate(double oldRentalRate) {
+		this.oldRentalRate = oldRentalRate;
+	}
+
+	public double getNewRentalRate() {
+		return newRentalRate;
+	}
+
+	public void setNewRentalRate(double newRentalRate) {
+		this.newRentalRate = newRentalRate;
+	}
+
+	public List<Integer> getRentIds() {
+		return rentIds;
+	}
+
+	public void setRentIds(List<Integer> rentIds) {
+		this.rentIds = rentIds;
+	}
+
+	@Override
+	public String toString() {
+		return "RepricedLeaseDTO [leaseId=" + leaseId + ", propertyId=" + propertyId + ", oldRentalRate="
+				+ oldRentalRate + ", newRentalRate=" + newRentalRate + ", rentIds=" + rentIds + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(leaseId, newRentalRate, oldRentalRate, propertyId, rentIds);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		RepricedLeaseDTO other = (RepricedLeaseDTO) obj;
+		return leaseId == other.leaseId
+				&& Double.doubleToLongBits(newRentalRate) == Double.doubleToLongBits(other.newRentalRate)
+				&& Double.doubleToLongBits(oldRentalRate) == Double.doubleToLongBits(other.oldRentalRate)
+				&& propertyId == other.propertyId && Objects.equals(rentIds, other.rentIds);
+	}
+}
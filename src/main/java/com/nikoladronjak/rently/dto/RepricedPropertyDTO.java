@@ -0,0 +1,106 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+/**
+ * Represents a data transfer object (DTO) for a property which is changed by a
+ * bulk repricing.
+ * 
+ * The RepricedPropertyDTO class contains the id and the name of the property
+ * and its rental rate before and after the repricing.
+ * 
+ * @author Nikola Dronjak
+ */
+public class RepricedPropertyDTO {
+
+	/**
+	 * Represents the id of the property (int).
+	 */
+	private int propertyId;
+
+	/**
+	 * Represents the name of the property (String).
+	 */
+	private String name;
+
+	/**
+	 * Represents the monthly rental rate of the property before the repricing
+	 * (double).
+	 */
+	private double oldRentalRate;
+
+	/**
+	 * Represents the monthly rental rate of the property after the repricing
+	 * (double).
+	 */
+	private double newRentalRate;
+
+	public RepricedPropertyDTO() {
+
+	}
+
+	public RepricedPropertyDTO(int propertyId, String name, double oldRentalRate, double newRentalRate) {
+		this.propertyId = propertyId;
+		this.name = name;
+		this.oldRentalRate = oldRentalRate;
+		this.newRentalRate = newRentalRate;
+	}
+
+	public int getPropertyId() {
+		return propertyId;
+	}
+
+	public void setPropertyId(int propertyId) {
+		this.propertyId = propertyId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public double getOldRentalRate() {
+		return oldRentalRate;
+	}
+
+	public void setOldRentalRate(double oldRentalRate) {
+		this.oldRentalRate = oldRentalRate;
+	}
+
+	public double getNewRentalRate() {
+		return newRentalRate;
+	}
+
+	public void setNewRentalRate(double newRentalRate) {
+		this.newRentalRate = newRentalRate;
+	}
+
+	@Override
+	public String toString() {
+		return "RepricedPropertyDTO [propertyId=" + propertyId + ", name=" + name + ", oldRentalRate=" + oldRentalRate
+				+ ", newRentalRate=" + newRentalRate + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(name, newRentalRate, oldRentalRate, propertyId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		RepricedPropertyDTO other = (RepricedPropertyDTO) obj;
+		return Objects.equals(name, other.name)
+				&& Double.doubleToLongBits(newRentalRate) == Double.doubleToLongBits(other.newRentalRate)
+				&& Double.doubleToLongBits(oldRentalRate) == Double.doubleToLongBits(other.oldRentalRate)
+				&& propertyId == other.propertyId;
+	}
+}
@@ -0,0 +1,225 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Represents a data transfer object (DTO) for a bulk repricing of properties.
+ * A bulk repricing changes the rental rates of all the properties which match
+ * the filters, for example "+3% on all residences of the owner with at least 3
+ * bedrooms". The new rental rate of every matching property is its current
+ * rental rate increased by the percentage and then by the amount, rounded to
+ * two decimals. Both the percentage and the amount can be negative.
+ * 
+ * The RepricingDTO class contains the filters (the id of the owner, the type of
+ * the property, the minimum and the maximum rental rate, the minimum size, the
+ * minimum number of bedrooms and the minimum capacity), the pricing expression
+ * (the percentage and the amount) and a flag which tells whether the ongoing
+ * and future leases of the properties and their open rents are repriced as
+ * well.
+ * 
+ * @author Nikola Dronjak
+ */
+public class RepricingDTO {
+
+	/**
+	 * Represents the id of the owner of the properties (Integer).
+	 */
+	private Integer ownerId;
+
+	/**
+	 * Represents the type of the properties (PropertyType). If it is null,
+	 * properties of every type are repriced.
+	 */
+	private PropertyType type;
+
+	/**
+	 * Represents the minimum monthly rental rate of the properties (Double).
+	 */
+	@PositiveOrZero(message = "The minimum rental rate has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Double minRentalRate;
+
+	/**
+	 * Represents the maximum monthly rental rate of the properties (Double).
+	 */
+	@PositiveOrZero(message = "The maximum rental rate has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Double maxRentalRate;
+
+	/**
+	 * Represents the minimum size of the properties in square meters (Integer).
+	 */
+	@Min(value = 0, message = "The minimum size has to be a positive value.", groups = ValidationGroups.Shape.class)
+	private Integer minSize;
+
+	/**
+	 * Represents the minimum number of bedrooms of the residences (Integer). If
+	 * it is set, only residences are repriced.
+	 */
+	@Min(value = 0, message = "The minimum number of bedrooms has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
+	private Integer minNumberOfBedrooms;
+
+	/**
+	 * Represents the minimum capacity of the event spaces and the office spaces
+	 * (Integer). If it is set, residences are not repriced.
+	 */
+	@Min(value = 0, message = "The minimum capacity has to be a positive value.", groups = ValidationGroups.Shape.class)
+	private Integer minCapacity;
+
+	/**
+	 * Represents the percentage by which the rental rates are changed (Double).
+	 */
+	@DecimalMin(value = "-100", inclusive = false, message = "The percentage has to be greater than -100.",
+			groups = ValidationGroups.Shape.class)
+	private Double percentage;
+
+	/**
+	 * Represents the amount which is added to the rental rates after the
+	 * percentage is applied (Double).
+	 */
+	private Double amount;
+
+	/**
+	 * Represents whether the ongoing and future leases of the properties and
+	 * their open rents are repriced as well (Boolean).
+	 */
+	private Boolean includeLeases;
+
+	public RepricingDTO() {
+
+	}
+
+	public RepricingDTO(Integer ownerId, PropertyType type, Double minRentalRate, Double maxRentalRate,
+			Integer minSize, Integer minNumberOfBedrooms, Integer minCapacity, Double percentage, Double amount,
+			Boolean includeLeases) {
+		this.ownerId = ownerId;
+		this.type = type;
+		this.minRentalRate = minRentalRate;
+		this.maxRentalRate = maxRentalRate;
+		this.minSize = minSize;
+		this.minNumberOfBedrooms = minNumberOfBedrooms;
+		this.minCapacity = minCapacity;
+		this.percentage = percentage;
+		this.amount = amount;
+		this.includeLeases = includeLeases;
+	}
+
+	public Integer getOwnerId() {
+		return ownerId;
+	}
+
+	public void setOwnerId(Integer ownerId) {
+		this.ownerId = ownerId;
+	}
+
+	public PropertyType getType() {
+		return type;
+	}
+
+	public void setType(PropertyType type) {
+		this.type = type;
+	}
+
+	public Double getMinRentalRate() {
+		return minRentalRate;
+	}
+
+	public void setMinRentalRate(Double minRentalRate) {
+		this.minRentalRate = minRentalRate;
+	}
+
+	public Double getMaxRentalRate() {
+		return maxRentalRate;
+	}
+
+	public void setMaxRentalRate(Double maxRentalRate) {
+		this.maxRentalRate = maxRentalRate;
+	}
+
+	public Integer getMinSize() {
+		return minSize;
+	}
+
+	public void setMinSize(Integer minSize) {
+		this.minSize = minSize;
+	}
+
+	public Integer getMinNumberOfBedrooms() {
+		return minNumberOfBedrooms;
+	}
+
+	public void setMinNumberOfBedrooms(Integer minNumberOfBedrooms) {
+		this.minNumberOfBedrooms = minNumberOfBedrooms;
+	}
+
+	public Integer getMinCapacity() {
+		return minCapacity;
+	}
+
+	public void setMinCapacity(Integer minCapacity) {
+		this.minCapacity = minCapacity;
+	}
+
+	public Double getPercentage() {
+		return percentage;
+	}
+
+	public void setPercentage(Double percentage) {
+		this.percentage = percentage;
+	}
+
+	public Double getAmount() {
+		return amount;
+	}
+
+	public void setAmount(Double amount) {
+		this.amount = amount;
+	}
+
+	public Boolean getIncludeLeases() {
+		return includeLeases;
+	}
+
+	public void setIncludeLeases(Boolean includeLeases) {
+		this.includeLeases = includeLeases;
+	}
+
+	@Override
+	public String toString() {
+		return "RepricingDTO [ownerId=" + ownerId + ", type=" + type + ", minRentalRate=" + minRentalRate
+				+ ", maxRentalRate=" + maxRentalRate + ", minSize=" + minSize + ", minNumberOfBedrooms="
+				+ minNumberOfBedrooms + ", minCapacity=" + minCapacity + ", percentage=" + percentage + ", amount="
+				+ amount + ", includeLeases=" + includeLeases + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(amount, includeLeases, maxRentalRate, minCapacity, minNumberOfBedrooms, minRentalRate,
+				minSize, ownerId, percentage, type);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		RepricingDTO other = (RepricingDTO) obj;
+		return Objects.equals(amount, other.amount) && Objects.equals(includeLeases, other.includeLeases)
+				&& Objects.equals(maxRentalRate, other.maxRentalRate) && Objects.equals(minCapacity, other.minCapacity)
+				&& Objects.equals(minNumberOfBedrooms, other.minNumberOfBedrooms)
+				&& Objects.equals(minRentalRate, other.minRentalRate) && Objects.equals(minSize, other.minSize)
+				&& Objects.equals(ownerId, other.ownerId) && Objects.equals(percentage, other.percentage)
+				&& type == other.type;
+	}
+}
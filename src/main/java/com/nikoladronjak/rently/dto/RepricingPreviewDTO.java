@@ -0,0 +1,106 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a data transfer object (DTO) for the result of a bulk repricing.
+ * The same result is returned by a dry run, which only shows what would be
+ * changed, and by the repricing itself.
+ * 
+ * The RepricingPreviewDTO class contains a flag which tells whether the
+ * changes were applied, the repriced properties, the repriced leases and the
+ * number of open rents whose totals are changed.
+ * 
+ * @author Nikola Dronjak
+ */
+public class RepricingPreviewDTO {
+
+	/**
+	 * Represents whether the changes were applied (boolean).
+	 */
+	private boolean applied;
+
+	/**
+	 * Represents the repriced properties (List&lt;RepricedPropertyDTO&gt;).
+	 */
+	private List<RepricedPropertyDTO> properties;
+
+	/**
+	 * Represents the repriced leases (List&lt;RepricedLeaseDTO&gt;).
+	 */
+	private List<RepricedLeaseDTO> leases;
+
+	/**
+	 * Represents the number of open rents whose totals are changed (int).
+	 */
+	private int numberOfRents;
+
+	public RepricingPreviewDTO() {
+
+	}
+
+	public RepricingPreviewDTO(boolean applied, List<RepricedPropertyDTO> properties, List<RepricedLeaseDTO> leases,
+			int numberOfRents) {
+		this.applied = applied;
+		this.properties = properties;
+		this.leases = leases;
+		this.numberOfRents = numberOfRents;
+	}
+
+	public boolean isApplied() {
+		return applied;
+	}
+
+	public void setApplied(boolean applied) {
+		this.applied = applied;
+	}
+
+	public List<RepricedPropertyDTO> getProperties() {
+		return properties;
+	}
+
+	public void setProperties(List<RepricedPropertyDTO> properties) {
+		this.properties = properties;
+	}
+
+	public List<RepricedLeaseDTO> getLeases() {
+		return leases;
+	}
+
+	public void setLeases(List<RepricedLeaseDTO> leases) {
+		this.leases = leases;
+	}
+
+	public int getNumberOfRents() {
+		return numberOfRents;
+	}
+
+	public void setNumberOfRents(int numberOfRents) {
+		this.numberOfRents = numberOfRents;
+	}
+
+	@Override
+	public String toString() {
+		return "RepricingPreviewDTO [applied=" + applied + ", properties=" + properties + ", leases=" + leases
+				+ ", numberOfRents=" + numberOfRents + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(applied, leases, numberOfRents, properties);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		RepricingPreviewDTO other = (RepricingPreviewDTO) obj;
+		return applied == other.applied && Objects.equals(leases, other.leases)
+				&& numberOfRents == other.numberOfRents && Objects.equals(properties, other.properties);
+	}
+}
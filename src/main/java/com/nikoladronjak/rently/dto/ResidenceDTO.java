@@ -4,6 +4,10 @@ import java.util.List;
 import java.util.Objects;
 
 import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 
 /**
  * Represents a data transfer object (DTO) for the Residence entity. This class
@@ -22,11 +26,15 @@ public class ResidenceDTO extends PropertyDTO {
 	/**
 	 * Represents the number of bedrooms in the residence (Integer).
 	 */
+	@NotNull(message = "The number of bedrooms for the residence is required.", groups = ValidationGroups.Shape.class)
+	@Min(value = 1, message = "The residence has to have at least 1 bedroom.", groups = ValidationGroups.Shape.class)
 	private Integer numberOfBedrooms;
 
 	/**
 	 * Represents the number of bathrooms in the residence (Integer).
 	 */
+	@NotNull(message = "The number of bathrooms for the residence is required.", groups = ValidationGroups.Shape.class)
+	@Min(value = 1, message = "The residence has to have at least 1 bathroom.", groups = ValidationGroups.Shape.class)
 	private Integer numberOfBathrooms;
 
 	/**
@@ -39,6 +47,7 @@ public class ResidenceDTO extends PropertyDTO {
 	 * <li>Wood heating</li>
 	 * </ul>
 	 */
+	@NotNull(message = "The heating type of the residence is required.", groups = ValidationGroups.Shape.class)
 	private HeatingType heatingType;
 
 	/**
@@ -48,6 +57,8 @@ public class ResidenceDTO extends PropertyDTO {
 	 * <li>False - The residence is not pet-friendly.</li>
 	 * </ul>
 	 */
+	@NotNull(message = "You have to specify whether the property is pet friendly or not.",
+			groups = ValidationGroups.Shape.class)
 	private Boolean isPetFriendly;
 
 	/**
@@ -57,11 +68,14 @@ public class ResidenceDTO extends PropertyDTO {
 	 * <li>False - The residence is not furnished.</li>
 	 * </ul>
 	 */
+	@NotNull(message = "You have to specify whether the property is furnished or not.",
+			groups = ValidationGroups.Shape.class)
 	private Boolean isFurnished;
 
 	/**
 	 * Represents the id of the residence's owner (Integer).
 	 */
+	@NotNull(message = "You have to specify the owner of the property.", groups = ValidationGroups.Shape.class)
 	private Integer ownerId;
 
 	public ResidenceDTO() {
@@ -0,0 +1,270 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.Objects;
+
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Represents a data transfer object (DTO) for the SavedSearch entity. This
+ * class is used for transferring saved search data between the different
+ * layers of the application (SavedSearchRepository, SavedSearchService and
+ * SavedSearchController).
+ * 
+ * The SavedSearchDTO class contains the id of the search, the customerId and
+ * the criteria of the search. A criterion which is not specified is not
+ * checked, so a search without any criteria matches every available property.
+ * 
+ * @author Nikola Dronjak
+ */
+public class SavedSearchDTO {
+
+	/**
+	 * Represents the id of the saved search (Integer). It is assigned by the
+	 * database.
+	 */
+	private Integer savedSearchId;
+
+	/**
+	 * Represents the id of the customer who saved the search (Integer).
+	 */
+	@NotNull(message = "You have to specify the customer who saved the search.",
+			groups = ValidationGroups.Shape.class)
+	private Integer customerId;
+
+	/**
+	 * Represents the type of the properties which the search matches
+	 * (PropertyType).
+	 */
+	private PropertyType propertyType;
+
+	/**
+	 * Represents the lowest monthly rental rate which the search matches
+	 * (Double).
+	 */
+	@Min(value = 0, message = "The minimum rental rate cannot be a negative value.",
+			groups = ValidationGroups.Shape.class)
+	private Double minRentalRate;
+
+	/**
+	 * Represents the highest monthly rental rate which the search matches
+	 * (Double).
+	 */
+	@Min(value = 0, message = "The maximum rental rate cannot be a negative value.",
+			groups = ValidationGroups.Shape.class)
+	private Double maxRentalRate;
+
+	/**
+	 * Represents the smallest size in square meters which the search matches
+	 * (Integer).
+	 */
+	@Min(value = 0, message = "The minimum size cannot be a negative value.", groups = ValidationGroups.Shape.class)
+	private Integer minSize;
+
+	/**
+	 * Represents the largest size in square meters which the search matches
+	 * (Integer).
+	 */
+	@Min(value = 0, message = "The maximum size cannot be a negative value.", groups = ValidationGroups.Shape.class)
+	private Integer maxSize;
+
+	/**
+	 * Represents the lowest number of bedrooms which the search matches
+	 * (Integer).
+	 */
+	@Min(value = 0, message = "The minimum number of bedrooms cannot be a negative value.",
+			groups = ValidationGroups.Shape.class)
+	private Integer minNumberOfBedrooms;
+
+	/**
+	 * Represents the highest number of bedrooms which the search matches
+	 * (Integer).
+	 */
+	@Min(value = 0, message = "The maximum number of bedrooms cannot be a negative value.",
+			groups = ValidationGroups.Shape.class)
+	private Integer maxNumberOfBedrooms;
+
+	/**
+	 * Indicates whether the matching residences have to be pet friendly
+	 * (Boolean).
+	 */
+	private Boolean isPetFriendly;
+
+	/**
+	 * Indicates whether the matching residences have to be furnished (Boolean).
+	 */
+	private Boolean isFurnished;
+
+	/**
+	 * Indicates whether the matching event spaces have to have a kitchen
+	 * (Boolean).
+	 */
+	private Boolean hasKitchen;
+
+	/**
+	 * Indicates whether the matching event spaces have to have a bar (Boolean).
+	 */
+	private Boolean hasBar;
+
+	public SavedSearchDTO() {
+
+	}
+
+	public SavedSearchDTO(Integer customerId, PropertyType propertyType, Double minRentalRate, Double maxRentalRate,
+			Integer minSize, Integer maxSize, Integer minNumberOfBedrooms, Integer maxNumberOfBedrooms,
+			Boolean isPetFriendly, Boolean isFurnished, Boolean hasKitchen, Boolean hasBar) {
+		this.customerId = customerId;
+		this.propertyType = propertyType;
+		this.minRentalRate = minRentalRate;
+		this.maxRentalRate = maxRentalRate;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.minNumberOfBedrooms = minNumberOfBedrooms;
+		this.maxNumberOfBedrooms = maxNumberOfBedrooms;
+		this.isPetFriendly = isPetFriendly;
+		this.isFurnished = isFurnished;
+		this.hasKitchen = hasKitchen;
+		this.hasBar = hasBar;
+	}
+
+	public Integer getSavedSearchId() {
+		return savedSearchId;
+	}
+
+	public void setSavedSearchId(Integer savedSearchId) {
+		this.savedSearchId = savedSearchId;
+	}
+
+	public Integer getCustomerId() {
+		return customerId;
+	}
+
+	public void setCustomerId(Integer customerId) {
+		this.customerId = customerId;
+	}
+
+	public PropertyType getPropertyType() {
+		return propertyType;
+	}
+
+	public void setPropertyType(PropertyType propertyType) {
+		this.propertyType = propertyType;
+	}
+
+	public Double getMinRentalRate() {
+		return minRentalRate;
+	}
+
+	public void setMinRentalRate(Double minRentalRate) {
+		this.minRentalRate = minRentalRate;
+	}
+
+	public Double getMaxRentalRate() {
+		return maxRentalRate;
+	}
+
+	public void setMaxRentalRate(Double maxRentalRate) {
+		this.maxRentalRate = maxRentalRate;
+	}
+
+	public Integer getMinSize() {
+		return minSize;
+	}
+
+	public void setMinSize(Integer minSize) {
+		this.minSize = minSize;
+	}
+
+	public Integer getMaxSize() {
+		return maxSize;
+	}
+
+	public void setMaxSize(Integer maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	public Integer getMinNumberOfBedrooms() {
+		return minNumberOfBedrooms;
+	}
+
+	public void setMinNumberOfBedrooms(Integer minNumberOfBedrooms) {
+		this.minNumberOfBedrooms = minNumberOfBedrooms;
+	}
+
+	public Integer getMaxNumberOfBedrooms() {
+		return maxNumberOfBedrooms;
+	}
+
+	public void setMaxNumberOfBedrooms(Integer maxNumberOfBedrooms) {
+		this.maxNumberOfBedrooms = maxNumberOfBedrooms;
+	}
+
+	public Boolean getIsPetFriendly() {
+		return isPetFriendly;
+	}
+
+	public void setIsPetFriendly(Boolean isPetFriendly) {
+		this.isPetFriendly = isPetFriendly;
+	}
+
+	public Boolean getIsFurnished() {
+		return isFurnished;
+	}
+
+	public void setIsFurnished(Boolean isFurnished) {
+		this.isFurnished = isFurnished;
+	}
+
+	public Boolean getHasKitchen() {
+		return hasKitchen;
+	}
+
+	public void setHasKitchen(Boolean hasKitchen) {
+		this.hasKitchen = hasKitchen;
+	}
+
+	public Boolean getHasBar() {
+		return hasBar;
+	}
+
+	public void setHasBar(Boolean hasBar) {
+		this.hasBar = hasBar;
+	}
+
+	@Override
+	public String toString() {
+		return "SavedSearchDTO [savedSearchId=" + savedSearchId + ", customerId=" + customerId + ", propertyType="
+				+ propertyType + ", minRentalRate=" + minRentalRate + ", maxRentalRate=" + maxRentalRate + ", minSize="
+				+ minSize + ", maxSize=" + maxSize + ", minNumberOfBedrooms=" + minNumberOfBedrooms
+				+ ", maxNumberOfBedrooms=" + maxNumberOfBedrooms + ", isPetFriendly=" + isPetFriendly + ", isFurnished="
+				+ isFurnished + ", hasKitchen=" + hasKitchen + ", hasBar=" + hasBar + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(customerId, hasBar, hasKitchen, isFurnished, isPetFriendly, maxNumberOfBedrooms,
+				maxRentalRate, maxSize, minNumberOfBedrooms, minRentalRate, minSize, propertyType, savedSearchId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		SavedSearchDTO other = (SavedSearchDTO) obj;
+		return Objects.equals(customerId, other.customerId) && Objects.equals(hasBar, other.hasBar)
+				&& Objects.equals(hasKitchen, other.hasKitchen) && Objects.equals(isFurnished, other.isFurnished)
+				&& Objects.equals(isPetFriendly, other.isPetFriendly)
+				&& Objects.equals(maxNumberOfBedrooms, other.maxNumberOfBedrooms)
+				&& Objects.equals(maxRentalRate, other.maxRentalRate) && Objects.equals(maxSize, other.maxSize)
+				&& Objects.equals(minNumberOfBedrooms, other.minNumberOfBedrooms)
+				&& Objects.equals(minRentalRate, other.minRentalRate) && Objects.equals(minSize, other.minSize)
+				&& propertyType == other.propertyType && Objects.equals(savedSearchId, other.savedSearchId);
+	}
+}
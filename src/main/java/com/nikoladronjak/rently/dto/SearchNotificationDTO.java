@@ -0,0 +1,110 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.GregorianCalendar;
+import java.util.Objects;
+
+/**
+ * Represents a data transfer object (DTO) for the SearchNotification entity.
+ * This class is used for transferring the notifications of the saved searches
+ * between the different layers of the application
+ * (SearchNotificationRepository, SavedSearchService and
+ * SavedSearchController).
+ * 
+ * The SearchNotificationDTO class contains the id of the notification, the id
+ * of the saved search, the id of the property which matched the search and the
+ * time at which the notification was written.
+ * 
+ * @author Nikola Dronjak
+ */
+public class SearchNotificationDTO {
+
+	/**
+	 * Represents the id of the notification (Integer).
+	 */
+	private Integer searchNotificationId;
+
+	/**
+	 * Represents the id of the saved search which the property matched (Integer).
+	 */
+	private Integer savedSearchId;
+
+	/**
+	 * Represents the id of the property which matched the search (Integer).
+	 */
+	private Integer propertyId;
+
+	/**
+	 * Represents the time at which the notification was written
+	 * (GregorianCalendar).
+	 */
+	private GregorianCalendar createdAt;
+
+	public SearchNotificationDTO() {
+
+	}
+
+	public SearchNotificationDTO(Integer searchNotificationId, Integer savedSearchId, Integer propertyId,
+			GregorianCalendar createdAt) {
+		this.searchNotificationId = searchNotificationId;
+		this.savedSearchId = savedSearchId;
+		this.propertyId = propertyId;
+		this.createdAt = createdAt;
+	}
+
+	public Integer getSearchNotificationId() {
+		return searchNotificationId;
+	}
+
+	public void setSearchNotificationId(Integer searchNotificationId) {
+		this.searchNotificationId = searchNotificationId;
+	}
+
+	public Integer getSavedSearchId() {
+		return savedSearchId;
+	}
+
+	public void setSavedSearchId(Integer savedSearchId) {
+		this.savedSearchId = savedSearchId;
+	}
+
+	public Integer getPropertyId() {
+		return propertyId;
+	}
+
+	public void setPropertyId(Integer propertyId) {
+		this.propertyId = propertyId;
+	}
+
+	public GregorianCalendar getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(GregorianCalendar createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	@Override
+	public String toString() {
+		return "SearchNotificationDTO [searchNotificationId=" + searchNotificationId + ", savedSearchId="
+				+ savedSearchId + ", propertyId=" + propertyId + ", createdAt=" + createdAt + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(createdAt, propertyId, savedSearchId, searchNotificationId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		SearchNotificationDTO other = (SearchNotificationDTO) obj;
+		return Objects.equals(createdAt, other.createdAt) && Objects.equals(propertyId, other.propertyId)
+				&& Objects.equals(savedSearchId, other.savedSearchId)
+				&& Objects.equals(searchNotificationId, other.searchNotificationId);
+	}
+}
@@ -0,0 +1,108 @@
+package com.nikoladronjak.rently.dto;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Represents a data transfer object (DTO) for the seats of an office space on
+ * a single day.
+ * 
+ * The SeatAvailabilityDTO class contains the date, the capacity of the office
+ * space, the number of reserved seats and the number of remaining seats.
+ * 
+ * @author Nikola Dronjak
+ */
+public class SeatAvailabilityDTO {
+
+	/**
+	 * Represents the date (LocalDate). It is written in the following format:
+	 * yyyy-MM-dd.
+	 */
+	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+	private LocalDate date;
+
+	/**
+	 * Represents the number of seats of the office space (Integer).
+	 */
+	private Integer capacity;
+
+	/**
+	 * Represents the number of reserved seats (Integer).
+	 */
+	private Integer reserved;
+
+	/**
+	 * Represents the number of seats which can still be reserved (Integer). It is
+	 * 0 on the days on which the office space is leased.
+	 */
+	private Integer remaining;
+
+	public SeatAvailabilityDTO() {
+
+	}
+
+	public SeatAvailabilityDTO(LocalDate date, Integer capacity, Integer reserved, Integer remaining) {
+		this.date = date;
+		this.capacity = capacity;
+		this.reserved = reserved;
+		this.remaining = remaining;
+	}
+
+	public LocalDate getDate() {
+		return date;
+	}
+
+	public void setDate(LocalDate date) {
+		this.date = date;
+	}
+
+	public Integer getCapacity() {
+		return capacity;
+	}
+
+	public void setCapacity(Integer capacity) {
+		this.capacity = capacity;
+	}
+
+	public Integer getReserved() {
+		return reserved;
+	}
+
+	public void setReserved(Integer reserved) {
+		this.reserved = reserved;
+	}
+
+	public Integer getRemaining() {
+		return remaining;
+	}
+
+	public void setRemaining(Integer remaining) {
+		this.remaining = remaining;
+	}
+
+	@Override
+	public String toString() {
+		return "SeatAvailabilityDTO [date=" + date + ", capacity=" + capacity + ", reserved=" + reserved
+				+ ", remaining=" + remaining + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(capacity, date, remaining, reserved);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		SeatAvailabilityDTO other = (SeatAvailabilityDTO) obj;
+		return Objects.equals(capacity, other.capacity) && Objects.equals(date, other.date)
+				&& Objects.equals(remaining, other.remaining) && Objects.equals(reserved, other.reserved);
+	}
+}
@@ -0,0 +1,157 @@
+package com.nikoladronjak.rently.dto;
+
+import java.util.GregorianCalendar;
+import java.util.Objects;
+
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Represents a data transfer object (DTO) for the SeatReservation entity. This
+ * class is used for transferring seat reservation data between the different
+ * layers of the application (SeatReservationRepository, SeatReservationService
+ * and SeatReservationController).
+ * 
+ * The SeatReservationDTO class contains the id, officeSpaceId, customerId,
+ * start date of the reservation, end date of the reservation and the number of
+ * reserved seats.
+ * 
+ * @author Nikola Dronjak
+ */
+public class SeatReservationDTO {
+
+	/**
+	 * Represents the id of the seat reservation (Integer). It is assigned by the
+	 * database.
+	 */
+	private Integer seatReservationId;
+
+	/**
+	 * Represents the id of the office space in which the seats are being reserved
+	 * (Integer).
+	 */
+	@NotNull(message = "You have to specify the office space in which the seats are being reserved.",
+			groups = ValidationGroups.Shape.class)
+	private Integer officeSpaceId;
+
+	/**
+	 * Represents the id of the customer who is reserving the seats (Integer).
+	 */
+	@NotNull(message = "You have to specify the customer who is reserving the seats.",
+			groups = ValidationGroups.Shape.class)
+	private Integer customerId;
+
+	/**
+	 * Represents the first day of the reservation (GregorianCalendar).
+	 */
+	@NotNull(message = "The start date of the reservation is required.", groups = ValidationGroups.Shape.class)
+	@FutureOrPresent(message = "The start date of the reservation has to be in the present or in the future.",
+			groups = ValidationGroups.Shape.class)
+	private GregorianCalendar startDate;
+
+	/**
+	 * Represents the last day of the reservation (GregorianCalendar).
+	 */
+	@NotNull(message = "The end date of the reservation is required.", groups = ValidationGroups.Shape.class)
+	@FutureOrPresent(message = "The end date of the reservation has to be in the present or in the future.",
+			groups = ValidationGroups.Shape.class)
+	private GregorianCalendar endDate;
+
+	/**
+	 * Represents the number of reserved seats (Integer).
+	 */
+	@NotNull(message = "The number of seats is required.", groups = ValidationGroups.Shape.class)
+	@Positive(message = "The number of seats has to be a positive value.", groups = ValidationGroups.Shape.class)
+	private Integer seats;
+
+	public SeatReservationDTO() {
+
+	}
+
+	public SeatReservationDTO(Integer officeSpaceId, Integer customerId, GregorianCalendar startDate,
+			GregorianCalendar endDate, Integer seats) {
+		this.officeSpaceId = officeSpaceId;
+		this.customerId = customerId;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.seats = seats;
+	}
+
+	public Integer getSeatReservationId() {
+		return seatReservationId;
+	}
+
+	public void setSeatReservationId(Integer seatReservationId) {
+		this.seatReservationId = seatReservationId;
+	}
+
+	public Integer getOfficeSpaceId() {
+		return officeSpaceId;
+	}
+
+	public void setOfficeSpaceId(Integer officeSpaceId) {
+		this.officeSpaceId = officeSpaceId;
+	}
+
+	public Integer getCustomerId() {
+		return customerId;
+	}
+
+	public void setCustomerId(Integer customerId) {
+		this.customerId = customerId;
+	}
+
+	public GregorianCalendar getStartDate() {
+		return startDate;
+	}
+
+	public void setStartDate(GregorianCalendar startDate) {
+		this.startDate = startDate;
+	}
+
+	public GregorianCalendar getEndDate() {
+		return endDate;
+	}
+
+	public void setEndDate(GregorianCalendar endDate) {
+		this.endDate = endDate;
+	}
+
+	public Integer getSeats() {
+		return seats;
+	}
+
+	public void setSeats(Integer seats) {
+		this.seats = seats;
+	}
+
+	@Override
+	public String toString() {
+		return "SeatReservationDTO [seatReservationId=" + seatReservationId + ", officeSpaceId=" + officeSpaceId
+				+ ", customerId=" + customerId + ", startDate=" + startDate + ", endDate=" + endDate + ", seats="
+				+ seats + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(customerId, endDate, officeSpaceId, seatReservationId, seats, startDate);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		SeatReservationDTO other = (SeatReservationDTO) obj;
+		return Objects.equals(customerId, other.customerId) && Objects.equals(endDate, other.endDate)
+				&& Objects.equals(officeSpaceId, other.officeSpaceId)
+				&& Objects.equals(seatReservationId, other.seatReservationId) && Objects.equals(seats, other.seats)
+				&& Objects.equals(startDate, other.startDate);
+	}
+}
@@ -2,6 +2,12 @@ package com.nikoladronjak.rently.dto;
 
 import java.util.Objects;
 
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
 /**
  * Represents a data transfer object (DTO) for the Utility entity. This class is
  * used for transferring utility data between the different layers of the
@@ -9,20 +15,29 @@ import java.util.Objects;
  * plays a vital role in the creation of requests as well as the displaying of
  * responses.
  * 
- * The UtilityDTO class contains the name and description of the utility.
+ * The UtilityDTO class contains the id, name and description of the utility.
  * 
  * @author Nikola Dronjak
  */
 public class UtilityDTO {
 
+	/**
+	 * Represents the id of the utility (Integer). It is assigned by the database.
+	 */
+	private Integer utilityId;
+
 	/**
 	 * Represents the name of the utility (String).
 	 */
+	@NotBlank(message = "The name of the utility is required.", groups = ValidationGroups.Shape.class)
+	@Size(min = 5, message = "The name of the utility has to have at least 5 characters.",
+			groups = ValidationGroups.Shape.class)
 	private String name;
 
 	/**
 	 * Represents the description of the utility (String).
 	 */
+	@NotNull(message = "The description of the utility is required.", groups = ValidationGroups.Shape.class)
 	private String description;
 
 	public UtilityDTO() {
@@ -34,6 +49,14 @@ public class UtilityDTO {
 		this.description = description;
 	}
 
+	public Integer getUtilityId() {
+		return utilityId;
+	}
+
+	public void setUtilityId(Integer utilityId) {
+		this.utilityId = utilityId;
+	}
+
 	public String getName() {
 		return name;
 	}
@@ -52,12 +75,12 @@ public class UtilityDTO {
 
 	@Override
 	public String toString() {
-		return "UtilityDTO [name=" + name + ", description=" + description + "]";
+		return "UtilityDTO [utilityId=" + utilityId + ", name=" + name + ", description=" + description + "]";
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(description, name);
+		return Objects.hash(description, name, utilityId);
 	}
 
 	@Override
@@ -69,6 +92,7 @@ public class UtilityDTO {
 		if (getClass() != obj.getClass())
 			return false;
 		UtilityDTO other = (UtilityDTO) obj;
-		return Objects.equals(description, other.description) && Objects.equals(name, other.name);
+		return Objects.equals(description, other.description) && Objects.equals(name, other.name)
+				&& Objects.equals(utilityId, other.utilityId);
 	}
 }
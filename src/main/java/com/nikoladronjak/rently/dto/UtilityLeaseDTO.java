@@ -2,6 +2,11 @@ package com.nikoladronjak.rently.dto;
 
 import java.util.Objects;
 
+import com.nikoladronjak.rently.validation.ValidationGroups;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
 /**
  * Represents a data transfer object (DTO) for the UtilityLease entity. This
  * class is used for transferring utility lease data between the different
@@ -9,26 +14,38 @@ import java.util.Objects;
  * UtilityLeaseController). It plays a vital role in the creation of requests as
  * well as the displaying of responses.
  * 
- * The UtilityLeaseDTO class contains the utilityId, propertyId and monthly
+ * The UtilityLeaseDTO class contains the id, utilityId, propertyId and monthly
  * rental rate of the utility lease.
  * 
  * @author Nikola Dronjak
  */
 public class UtilityLeaseDTO {
 
+	/**
+	 * Represents the id of the utility lease (Integer). It is assigned by the database.
+	 */
+	private Integer utilityLeaseId;
+
 	/**
 	 * Represents the id of the utility that is being leased (Integer).
 	 */
+	@NotNull(message = "You have to specify the utility which is being leased.", groups = ValidationGroups.Shape.class)
 	private Integer utilityId;
 
 	/**
 	 * Represents the id of the property for which the utility is being leased
 	 */
+	@NotNull(message = "You have to specify the property for which the utility is being leased.",
+			groups = ValidationGroups.Shape.class)
 	private Integer propertyId;
 
 	/**
 	 * Represents the monthly rental rate for the utility lease (Double).
 	 */
+	@NotNull(message = "The rental rate of the utility being leased is required.",
+			groups = ValidationGroups.Shape.class)
+	@Positive(message = "The rental rate of the utility being leased has to be a positive value.",
+			groups = ValidationGroups.Shape.class)
 	private Double rentalRate;
 
 	public UtilityLeaseDTO() {
@@ -41,6 +58,14 @@ public class UtilityLeaseDTO {
 		this.rentalRate = rentalRate;
 	}
 
+	public Integer getUtilityLeaseId() {
+		return utilityLeaseId;
+	}
+
+	public void setUtilityLeaseId(Integer utilityLeaseId) {
+		this.utilityLeaseId = utilityLeaseId;
+	}
+
 	public Integer getUtilityId() {
 		return utilityId;
 	}
@@ -67,13 +92,13 @@ public class UtilityLeaseDTO {
 
 	@Override
 	public String toString() {
-		return "UtilityLeaseDTO [utilityId=" + utilityId + ", propertyId=" + propertyId + ", rentalRate=" + rentalRate
-				+ "]";
+		return "UtilityLeaseDTO [utilityLeaseId=" + utilityLeaseId + ", utilityId=" + utilityId + ", propertyId="
+				+ propertyId + ", rentalRate=" + rentalRate + "]";
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(propertyId, rentalRate, utilityId);
+		return Objects.hash(propertyId, rentalRate, utilityId, utilityLeaseId);
 	}
 
 	@Override
@@ -86,6 +111,6 @@ public class UtilityLeaseDTO {
 			return false;
 		UtilityLeaseDTO other = (UtilityLeaseDTO) obj;
 		return Objects.equals(propertyId, other.propertyId) && Objects.equals(rentalRate, other.rentalRate)
-				&& Objects.equals(utilityId, other.utilityId);
+				&& Objects.equals(utilityId, other.utilityId) && Objects.equals(utilityLeaseId, other.utilityLeaseId);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.nikoladronjak.rently.exception;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Represents an error which is reported with HTTP status 400 (Bad Request). It
+ * is thrown when a request which is not checked by Spring MVC itself, such as
+ * an operation of a batch, is malformed or contains invalid fields.
+ * 
+ * @author Nikola Dronjak
+ */
+public class BadRequestException extends RentlyException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Represents the error messages of the invalid fields. It is null if the
+	 * request is rejected for another reason.
+	 */
+	private final Map<String, String> errors;
+
+	public BadRequestException(String message) {
+		this(message, null);
+	}
+
+	public BadRequestException(String message, Map<String, String> errors) {
+		super(message);
+		this.errors = errors;
+	}
+
+	@Override
+	public Map<String, String> getErrors() {
+		return errors;
+	}
+
+	@Override
+	public HttpStatus getStatus() {
+		return HttpStatus.BAD_REQUEST;
+	}
+}
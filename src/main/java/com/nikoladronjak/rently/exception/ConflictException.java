@@ -0,0 +1,25 @@
+package com.nikoladronjak.rently.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Represents an error which is reported with HTTP status 409 (Conflict). It is
+ * thrown when the request conflicts with the current state of the data, for
+ * example because the entity already exists, the property is unavailable or the
+ * entity is still referenced by other entities.
+ * 
+ * @author Nikola Dronjak
+ */
+public class ConflictException extends RentlyException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ConflictException(String message) {
+		super(message);
+	}
+
+	@Override
+	public HttpStatus getStatus() {
+		return HttpStatus.CONFLICT;
+	}
+}
@@ -0,0 +1,24 @@
+package com.nikoladronjak.rently.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Represents an error which is reported with HTTP status 424 (Failed
+ * Dependency). It is thrown when an operation of a batch can't be executed
+ * because an operation it depends on has failed.
+ * 
+ * @author Nikola Dronjak
+ */
+public class FailedDependencyException extends RentlyException {
+
+	private static final long serialVersionUID = 1L;
+
+	public FailedDependencyException(String message) {
+		super(message);
+	}
+
+	@Override
+	public HttpStatus getStatus() {
+		return HttpStatus.FAILED_DEPENDENCY;
+	}
+}
@@ -0,0 +1,24 @@
+package com.nikoladronjak.rently.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Represents an error which is reported with HTTP status 404 (Not Found). It is
+ * thrown when the requested entity, or an entity referenced by the request,
+ * doesn't exist.
+ * 
+ * @author Nikola Dronjak
+ */
+public class NotFoundException extends RentlyException {
+
+	private static final long serialVersionUID = 1L;
+
+	public NotFoundException(String message) {
+		super(message);
+	}
+
+	@Override
+	public HttpStatus getStatus() {
+		return HttpStatus.NOT_FOUND;
+	}
+}
@@ -0,0 +1,24 @@
+package com.nikoladronjak.rently.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Represents an error which is reported with HTTP status 413 (Content Too
+ * Large) when the body of a request is larger than the application is willing
+ * to read into memory.
+ * 
+ * @author Nikola Dronjak
+ */
+public class PayloadTooLargeException extends RentlyException {
+
+	private static final long serialVersionUID = 1L;
+
+	public PayloadTooLargeException(String message) {
+		super(message);
+	}
+
+	@Override
+	public HttpStatus getStatus() {
+		return HttpStatus.PAYLOAD_TOO_LARGE;
+	}
+}
@@ -0,0 +1,42 @@
+package com.nikoladronjak.rently.exception;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Represents the base class of the expected errors of the application, such as
+ * a missing entity or a duplicate. Every subclass is mapped to its own HTTP
+ * status by the RentlyExceptionHandler.
+ * 
+ * These errors are part of the normal flow of the application, so the
+ * exceptions don't fill in their stack trace and don't record suppressed
+ * exceptions. This makes throwing them about as cheap as returning a value.
+ * 
+ * @author Nikola Dronjak
+ */
+public abstract class RentlyException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	protected RentlyException(String message) {
+		super(message, null, false, false);
+	}
+
+	/**
+	 * Returns the HTTP status of the error.
+	 * 
+	 * @return The HTTP status which is sent to the client.
+	 */
+	public abstract HttpStatus getStatus();
+
+	/**
+	 * Returns the error messages of the invalid fields.
+	 * 
+	 * @return The map of field names and error messages, or null if the error is
+	 *         not caused by invalid fields.
+	 */
+	public Map<String, String> getErrors() {
+		return null;
+	}
+}
@@ -0,0 +1,112 @@
+package com.nikoladronjak.rently.exception;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import com.nikoladronjak.rently.dto.ErrorDTO;
+
+/**
+ * Represents the central handler of the errors of all the controllers. Every
+ * error is returned as an ErrorDTO with the status that belongs to it:
+ * <ul>
+ * <li>400 (Bad Request) - The request body is malformed or it was rejected by
+ * the validation at the controller boundary, or BadRequestException.</li>
+ * <li>404 (Not Found) - NotFoundException.</li>
+ * <li>409 (Conflict) - ConflictException, or a violated database
+ * constraint.</li>
+ * <li>413 (Content Too Large) - PayloadTooLargeException.</li>
+ * <li>422 (Unprocessable Entity) - UnprocessableEntityException and
+ * ValidationException.</li>
+ * <li>424 (Failed Dependency) - FailedDependencyException.</li>
+ * <li>503 (Service Unavailable) - ServiceUnavailableException.</li>
+ * <li>500 (Internal Server Error) - Any other exception. It is logged with its
+ * stack trace, and the client only gets a generic message.</li>
+ * </ul>
+ * The other errors of Spring MVC keep their standard status.
+ * 
+ * @author Nikola Dronjak
+ */
+@RestControllerAdvice
+public class RentlyExceptionHandler extends ResponseEntityExceptionHandler {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RentlyExceptionHandler.class);
+
+	@ExceptionHandler(RentlyException.class)
+	public ResponseEntity<ErrorDTO> handleRentlyException(RentlyException exception) {
+		return toResponse(exception);
+	}
+
+	@ExceptionHandler(DataIntegrityViolationException.class)
+	public ResponseEntity<ErrorDTO> handleDataIntegrityViolation(DataIntegrityViolationException exception) {
+		return toResponse(exception);
+	}
+
+	@ExceptionHandler(Exception.class)
+	public ResponseEntity<ErrorDTO> handleException(Exception exception) {
+		return toResponse(exception);
+	}
+
+	@Override
+	protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException exception,
+			HttpHeaders headers, HttpStatusCode status, WebRequest request) {
+		Map<String, String> errors = new HashMap<>();
+		for (FieldError fieldError : exception.getBindingResult().getFieldErrors()) {
+			errors.putIfAbsent(fieldError.getField(), fieldError.getDefaultMessage());
+		}
+		for (ObjectError globalError : exception.getBindingResult().getGlobalErrors()) {
+			errors.putIfAbsent(globalError.getObjectName(), globalError.getDefaultMessage());
+		}
+		ErrorDTO errorDTO = new ErrorDTO(HttpStatus.BAD_REQUEST.value(), "The request contains invalid fields.",
+				errors);
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).headers(headers).body(errorDTO);
+	}
+
+	@Override
+	protected ResponseEntity<Object> handleExceptionInternal(Exception exception, Object body, HttpHeaders headers,
+			HttpStatusCode statusCode, WebRequest request) {
+		ErrorDTO errorDTO = new ErrorDTO(statusCode.value(), exception.getMessage(), null);
+		return ResponseEntity.status(statusCode).headers(headers).body(errorDTO);
+	}
+
+	/**
+	 * Converts an error into the response which is sent to the client. It is also
+	 * used for the errors of the operations which are not executed by Spring MVC
+	 * itself, such as asynchronous commands and batch operations.
+	 * 
+	 * @param exception The error that is being converted.
+	 * @return ResponseEntity containing the ErrorDTO of the error with the status
+	 *         of the error.
+	 */
+	public static ResponseEntity<ErrorDTO> toResponse(Exception exception) {
+		if (exception instanceof RentlyException rentlyException) {
+			ResponseEntity.BodyBuilder response = ResponseEntity.status(rentlyException.getStatus());
+			if (rentlyException instanceof ServiceUnavailableException)
+				response.header(HttpHeaders.RETRY_AFTER, "1");
+
+			return response.body(new ErrorDTO(rentlyException.getStatus().value(), rentlyException.getMessage(),
+					rentlyException.getErrors()));
+		}
+		if (exception instanceof DataIntegrityViolationException)
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(
+					new ErrorDTO(HttpStatus.CONFLICT.value(), "The request conflicts with the existing data.", null));
+
+		LOGGER.error("Unexpected error while handling a request.", exception);
+		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new ErrorDTO(
+				HttpStatus.INTERNAL_SERVER_ERROR.value(), "An unexpected error occurred.", null));
+	}
+}
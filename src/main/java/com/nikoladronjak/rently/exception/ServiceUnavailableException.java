@@ -0,0 +1,24 @@
+package com.nikoladronjak.rently.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Represents an error which is reported with HTTP status 503 (Service
+ * Unavailable) when the server is temporarily overloaded. The client is told
+ * to retry the request after one second.
+ * 
+ * @author Nikola Dronjak
+ */
+public class ServiceUnavailableException extends RentlyException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ServiceUnavailableException(String message) {
+		super(message);
+	}
+
+	@Override
+	public HttpStatus getStatus() {
+		return HttpStatus.SERVICE_UNAVAILABLE;
+	}
+}
@@ -0,0 +1,24 @@
+package com.nikoladronjak.rently.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Represents an error which is reported with HTTP status 422 (Unprocessable
+ * Entity). It is thrown when the request is well formed but breaks a business
+ * rule, for example a lease which ends before it starts.
+ * 
+ * @author Nikola Dronjak
+ */
+public class UnprocessableEntityException extends RentlyException {
+
+	private static final long serialVersionUID = 1L;
+
+	public UnprocessableEntityException(String message) {
+		super(message);
+	}
+
+	@Override
+	public HttpStatus getStatus() {
+		return HttpStatus.UNPROCESSABLE_ENTITY;
+	}
+}
@@ -0,0 +1,37 @@
+package com.nikoladronjak.rently.exception;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Represents an error which is reported with HTTP status 422 (Unprocessable
+ * Entity) when an entity violates its constraints. It carries the map of field
+ * names and error messages.
+ * 
+ * @author Nikola Dronjak
+ */
+public class ValidationException extends RentlyException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Represents the error messages of the invalid fields.
+	 */
+	private final Map<String, String> errors;
+
+	public ValidationException(Map<String, String> errors) {
+		super("The request contains invalid fields.");
+		this.errors = errors;
+	}
+
+	@Override
+	public Map<String, String> getErrors() {
+		return errors;
+	}
+
+	@Override
+	public HttpStatus getStatus() {
+		return HttpStatus.UNPROCESSABLE_ENTITY;
+	}
+}
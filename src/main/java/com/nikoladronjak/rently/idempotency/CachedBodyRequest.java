@@ -0,0 +1,107 @@
+package com.nikoladronjak.rently.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import com.nikoladronjak.rently.exception.PayloadTooLargeException;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Represents a request whose body has been read in advance, so it can be
+ * inspected before the request is executed and still be read by the
+ * controller afterwards.
+ *
+ * @author Nikola Dronjak
+ */
+public class CachedBodyRequest extends HttpServletRequestWrapper {
+
+	/**
+	 * Represents the body of the request.
+	 */
+	private final byte[] body;
+
+	/**
+	 * Reads the body of the given request. No more than maxBodySize + 1 bytes are
+	 * read, so a body which is too large is never held in memory.
+	 *
+	 * @param request     The request that is being wrapped.
+	 * @param maxBodySize The maximum size of the body in bytes.
+	 * @throws IOException              if the body cannot be read.
+	 * @throws PayloadTooLargeException if the body is larger than maxBodySize.
+	 */
+	public CachedBodyRequest(HttpServletRequest request, int maxBodySize) throws IOException {
+		super(request);
+		if (request.getContentLengthLong() > maxBodySize)
+			throw new PayloadTooLargeException(tooLarge(maxBodySize));
+
+		byte[] body = request.getInputStream().readNBytes(maxBodySize + 1);
+		if (body.length > maxBodySize)
+			throw new PayloadTooLargeException(tooLarge(maxBodySize));
+
+		this.body = body;
+	}
+
+	public byte[] getBody() {
+		return body;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() {
+		ByteArrayInputStream in = new ByteArrayInputStream(body);
+		return new ServletInputStream() {
+
+			@Override
+			public int read() {
+				return in.read();
+			}
+
+			@Override
+			public int read(byte[] buffer, int offset, int length) {
+				return in.read(buffer, offset, length);
+			}
+
+			@Override
+			public boolean isFinished() {
+				return in.available() == 0;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			/**
+			 * The whole body is already in memory, so the listener is told right away
+			 * that the data is available and that all of it has been read.
+			 */
+			@Override
+			public void setReadListener(ReadListener readListener) {
+				try {
+					readListener.onDataAvailable();
+					readListener.onAllDataRead();
+				} catch (IOException | RuntimeException e) {
+					readListener.onError(e);
+				}
+			}
+		};
+	}
+
+	@Override
+	public BufferedReader getReader() {
+		Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding())
+				: StandardCharsets.UTF_8;
+		return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+	}
+
+	private static String tooLarge(int maxBodySize) {
+		return "The body of a request with an idempotency key can have at most " + maxBodySize + " bytes.";
+	}
+}
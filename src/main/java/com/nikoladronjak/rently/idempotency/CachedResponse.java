@@ -0,0 +1,14 @@
+package com.nikoladronjak.rently.idempotency;
+
+/**
+ * Represents a response that was stored for an idempotency key. It contains
+ * everything that is needed for replaying the response to a retried request.
+ *
+ * @param status      The HTTP status code of the response.
+ * @param contentType The content type of the response (may be null).
+ * @param body        The body of the response.
+ *
+ * @author Nikola Dronjak
+ */
+public record CachedResponse(int status, String contentType, byte[] body) {
+}
@@ -0,0 +1,245 @@
+package com.nikoladronjak.rently.idempotency;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.exception.BadRequestException;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.PayloadTooLargeException;
+import com.nikoladronjak.rently.exception.RentlyException;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.exception.ServiceUnavailableException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Represents a filter which makes all the POST end-points idempotent. A client
+ * can send an Idempotency-Key header with a POST request. The first request
+ * with a given key is executed and its response is stored in the
+ * IdempotencyStore. Every retry with the same key (on the same path with the
+ * same query string) receives the stored response instead of executing the
+ * request again. A retry that arrives while the first request is still running
+ * waits for it to finish. The key is stored with a SHA-256 hash of the method,
+ * the path, the query string and the body of the first request, and a request
+ * which reuses the key with a different method or body is rejected with 422
+ * (Unprocessable Entity). The body is read into memory, so a request whose
+ * body is larger than a configurable limit is rejected with 413 (Content Too
+ * Large), and a request with a new key is rejected with 503 (Service
+ * Unavailable) while the store is full of requests which are still running.
+ * The errors of the filter are written as ErrorDTOs, the same way as the
+ * errors of the controllers.
+ *
+ * Responses with a server error status (5xx) are not stored, so a failed
+ * request can be retried with the same key.
+ *
+ * @author Nikola Dronjak
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+	/**
+	 * Represents the name of the request header which carries the idempotency key.
+	 */
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	/**
+	 * Represents the name of the response header which marks replayed responses.
+	 */
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	/**
+	 * Represents the maximum length of an idempotency key (int).
+	 */
+	private static final int MAX_KEY_LENGTH = 255;
+
+	/**
+	 * Store holding the idempotency keys and their responses.
+	 */
+	private final IdempotencyStore idempotencyStore;
+
+	/**
+	 * Represents how long a retry waits for the first request to finish (long,
+	 * milliseconds).
+	 */
+	private final long waitTimeoutMillis;
+
+	/**
+	 * Represents the maximum size of the body of a request with an idempotency
+	 * key (int, bytes).
+	 */
+	private final int maxBodySize;
+
+	/**
+	 * Mapper for writing the errors of the filter as ErrorDTOs.
+	 */
+	private final ObjectMapper objectMapper;
+
+	@Autowired
+	public IdempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper,
+			@Value("${rently.idempotency.wait-timeout:PT10S}") Duration waitTimeout,
+			@Value("${rently.idempotency.max-body-size:1MB}") DataSize maxBodySize) {
+		this.idempotencyStore = idempotencyStore;
+		this.objectMapper = objectMapper;
+		this.waitTimeoutMillis = waitTimeout.toMillis();
+		this.maxBodySize = Math.toIntExact(maxBodySize.toBytes());
+	}
+
+	/**
+	 * Only POST requests which carry an idempotency key are filtered.
+	 */
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+		if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			writeError(response, new BadRequestException(
+					"The Idempotency-Key header has to have between 1 and " + MAX_KEY_LENGTH + " characters."));
+			return;
+		}
+
+		CachedBodyRequest cachedBodyRequest;
+		try {
+			cachedBodyRequest = new CachedBodyRequest(request, maxBodySize);
+		} catch (PayloadTooLargeException e) {
+			writeError(response, e);
+			return;
+		}
+
+		String target = request.getQueryString() == null ? request.getRequestURI()
+				: request.getRequestURI() + "?" + request.getQueryString();
+		String fingerprint = fingerprint(request.getMethod(), target, cachedBodyRequest.getBody());
+		String key = target + " " + idempotencyKey;
+		while (true) {
+			IdempotencyStore.Claim claim;
+			try {
+				claim = idempotencyStore.claim(key, fingerprint);
+			} catch (ServiceUnavailableException e) {
+				writeError(response, e);
+				return;
+			}
+
+			if (claim.owner()) {
+				execute(key, claim, cachedBodyRequest, response, filterChain);
+				return;
+			}
+
+			if (!claim.fingerprint().equals(fingerprint)) {
+				writeError(response, new UnprocessableEntityException(
+						"The idempotency key has already been used for a different request."));
+				return;
+			}
+
+			CachedResponse cachedResponse;
+			try {
+				cachedResponse = claim.response().get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				writeError(response,
+						new ConflictException("A request with the same idempotency key is still being processed."));
+				return;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ServletException(e);
+			} catch (ExecutionException e) {
+				throw new ServletException(e.getCause());
+			}
+
+			if (cachedResponse != null) {
+				replay(cachedResponse, response);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Executes the request for the owner of the idempotency key and stores its
+	 * response.
+	 */
+	private void execute(String key, IdempotencyStore.Claim claim, HttpServletRequest request,
+			HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+		ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+		try {
+			filterChain.doFilter(request, responseWrapper);
+		} catch (ServletException | IOException | RuntimeException e) {
+			idempotencyStore.release(key, claim);
+			throw e;
+		}
+
+		if (responseWrapper.getStatus() >= 500) {
+			idempotencyStore.release(key, claim);
+		} else {
+			idempotencyStore.complete(claim, new CachedResponse(responseWrapper.getStatus(),
+					responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()));
+		}
+		responseWrapper.copyBodyToResponse();
+	}
+
+	/**
+	 * Writes a stored response to the given HttpServletResponse.
+	 */
+	private void replay(CachedResponse cachedResponse, HttpServletResponse response) throws IOException {
+		response.setStatus(cachedResponse.status());
+		if (cachedResponse.contentType() != null)
+			response.setContentType(cachedResponse.contentType());
+		response.setHeader(REPLAYED_HEADER, "true");
+		response.setContentLength(cachedResponse.body().length);
+		response.getOutputStream().write(cachedResponse.body());
+	}
+
+	/**
+	 * Returns the SHA-256 hash of the method, the path with the query string and
+	 * the body of a request, in hexadecimal.
+	 */
+	private static String fingerprint(String method, String target, byte[] body) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(method.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(target.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(body);
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Writes the error as an ErrorDTO, with the same status and headers which the
+	 * RentlyExceptionHandler uses for the errors of the controllers.
+	 */
+	private void writeError(HttpServletResponse response, RentlyException exception) throws IOException {
+		ResponseEntity<ErrorDTO> error = RentlyExceptionHandler.toResponse(exception);
+		response.setStatus(error.getStatusCode().value());
+		error.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		objectMapper.writeValue(response.getOutputStream(), error.getBody());
+	}
+}
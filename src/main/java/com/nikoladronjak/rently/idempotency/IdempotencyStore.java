@@ -0,0 +1,201 @@
+package com.nikoladronjak.rently.idempotency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.nikoladronjak.rently.exception.ServiceUnavailableException;
+
+/**
+ * Represents a bounded, in-memory store of idempotency keys and the responses
+ * that were produced for them. Every key is mapped to a CompletableFuture which
+ * is completed once the first request carrying that key has finished. While the
+ * future is still pending the key acts as an in-flight marker, so parallel
+ * retries wait for the first attempt instead of executing the request again.
+ * Every key also keeps the fingerprint of the first request, so a request which
+ * reuses the key with a different content can be told apart from a retry.
+ *
+ * Entries expire after a fixed time to live (TTL) and the store never holds
+ * more than a fixed number of entries. When the store is full the oldest entry
+ * whose request has already finished is evicted. The entries of the requests
+ * which are still running are never evicted, since a retry could then execute
+ * the request a second time, so a new key is rejected while every entry is
+ * still in flight.
+ *
+ * @author Nikola Dronjak
+ */
+@Component
+public class IdempotencyStore {
+
+	/**
+	 * Represents the maximum number of keys that are kept in the store (int).
+	 */
+	private final int maxEntries;
+
+	/**
+	 * Represents the time after which a stored key expires (long, milliseconds).
+	 */
+	private final long ttlMillis;
+
+	/**
+	 * Clock used for determining when the entries expire.
+	 */
+	private final Clock clock;
+
+	/**
+	 * Represents the stored entries in insertion order, which is also the order
+	 * in which they expire.
+	 */
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+	/**
+	 * Constructor used by Spring. The size and the TTL of the store are read from
+	 * the application properties.
+	 *
+	 * @param maxEntries The maximum number of keys that are kept in the store.
+	 * @param ttl        The time after which a stored key expires.
+	 */
+	@Autowired
+	public IdempotencyStore(@Value("${rently.idempotency.max-entries:10000}") int maxEntries,
+			@Value("${rently.idempotency.ttl:PT24H}") Duration ttl) {
+		this(maxEntries, ttl, Clock.systemUTC());
+	}
+
+	public IdempotencyStore(int maxEntries, Duration ttl, Clock clock) {
+		if (maxEntries <= 0)
+			throw new IllegalArgumentException("The idempotency store has to hold at least 1 entry.");
+
+		this.maxEntries = maxEntries;
+		this.ttlMillis = ttl.toMillis();
+		this.clock = clock;
+	}
+
+	/**
+	 * Claims the given key. If the key is not present in the store (or it has
+	 * expired) a new in-flight entry is created and the caller becomes its owner.
+	 * Otherwise the caller receives the fingerprint and the future of the existing
+	 * entry and has to wait for it.
+	 *
+	 * @param key         The idempotency key that is being claimed.
+	 * @param fingerprint The fingerprint of the request which carries the key.
+	 * @return The Claim describing whether the caller owns the key, the
+	 *         fingerprint of the request which owns it and the future that will
+	 *         hold the response.
+	 * @throws ServiceUnavailableException if the store is full and the requests
+	 *                                     of all the stored keys are still
+	 *                                     running.
+	 */
+	public synchronized Claim claim(String key, String fingerprint) {
+		long now = clock.millis();
+		evictExpired(now);
+
+		Entry existing = entries.get(key);
+		if (existing != null)
+			return new Claim(false, existing.fingerprint, existing.response);
+
+		if (entries.size() >= maxEntries && !evictCompleted())
+			throw new ServiceUnavailableException("Too many requests with an idempotency key are being processed.");
+
+		Entry entry = new Entry(now, fingerprint, new CompletableFuture<>());
+		entries.put(key, entry);
+		return new Claim(true, fingerprint, entry.response);
+	}
+
+	/**
+	 * Stores the response for the claimed key and releases every request that is
+	 * waiting for it. The response is published through the claim itself, so the
+	 * waiting requests are released even if the entry has already been evicted.
+	 *
+	 * @param claim    The claim that was returned to the owner of the key.
+	 * @param response The response that was produced for the key.
+	 */
+	public void complete(Claim claim, CachedResponse response) {
+		claim.response().complete(response);
+	}
+
+	/**
+	 * Removes the claimed key without storing a response. Every request that is
+	 * waiting for the key receives null, which means that it has to execute the
+	 * request on its own.
+	 *
+	 * @param key   The idempotency key of the failed request.
+	 * @param claim The claim that was returned to the owner of the key.
+	 */
+	public void release(String key, Claim claim) {
+		synchronized (this) {
+			Entry entry = entries.get(key);
+			if (entry != null && entry.response == claim.response())
+				entries.remove(key);
+		}
+		claim.response().complete(null);
+	}
+
+	/**
+	 * Returns the number of keys that are currently stored.
+	 *
+	 * @return The number of stored keys (int).
+	 */
+	public synchronized int size() {
+		evictExpired(clock.millis());
+		return entries.size();
+	}
+
+	/**
+	 * Removes all the expired entries. Since the entries are kept in insertion
+	 * order, the scan stops at the first entry that hasn't expired yet.
+	 *
+	 * @param now The current time in milliseconds.
+	 */
+	private void evictExpired(long now) {
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			Entry entry = iterator.next();
+			if (now - entry.createdAt < ttlMillis)
+				break;
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Removes the oldest entry whose request has already finished.
+	 *
+	 * @return True if an entry was removed, or false if the requests of all the
+	 *         entries are still running.
+	 */
+	private boolean evictCompleted() {
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().response.isDone()) {
+				iterator.remove();
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Represents a single stored key.
+	 *
+	 * @param createdAt   The time at which the key was claimed.
+	 * @param fingerprint The fingerprint of the request which claimed the key.
+	 * @param response    The future holding the response for the key.
+	 */
+	private record Entry(long createdAt, String fingerprint, CompletableFuture<CachedResponse> response) {
+	}
+
+	/**
+	 * Represents the result of claiming an idempotency key.
+	 *
+	 * @param owner       Indicates whether the caller has to execute the request.
+	 * @param fingerprint The fingerprint of the request which owns the key.
+	 * @param response    The future holding the response for the key.
+	 */
+	public record Claim(boolean owner, String fingerprint, CompletableFuture<CachedResponse> response) {
+	}
+}
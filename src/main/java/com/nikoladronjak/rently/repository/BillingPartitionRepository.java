@@ -0,0 +1,39 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.BillingPartition;
+
+/**
+ * Represents a repository interface for accessing and managing
+ * BillingPartition entities in the database. This interface extends the
+ * JpaRepository interface, which provides the basic CRUD operations for
+ * BillingPartition entities.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface BillingPartitionRepository extends JpaRepository<BillingPartition, Integer> {
+
+	/**
+	 * Retrieves a list of BillingPartition entities by their billingRunId.
+	 * 
+	 * @param billingRunId The id of the billing run associated with the
+	 *                     partitions that are being queried.
+	 * @return A list of the processed partitions of the billing run. If no
+	 *         partition has been processed, it returns an empty list.
+	 */
+	List<BillingPartition> findAllByBillingRun_BillingRunId(int billingRunId);
+
+	/**
+	 * Deletes the record of the given partition of the billing run, so the
+	 * partition is processed again.
+	 * 
+	 * @param billingRunId   The id of the billing run.
+	 * @param partitionIndex The index of the partition.
+	 */
+	void deleteAllByBillingRun_BillingRunIdAndPartitionIndex(int billingRunId, int partitionIndex);
+}
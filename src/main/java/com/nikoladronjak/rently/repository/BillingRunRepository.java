@@ -0,0 +1,53 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.BillingRun;
+import com.nikoladronjak.rently.domain.BillingRunStatus;
+
+/**
+ * Represents a repository interface for accessing and managing BillingRun
+ * entities in the database. This interface extends the JpaRepository
+ * interface, which provides the basic CRUD operations for BillingRun entities.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface BillingRunRepository extends JpaRepository<BillingRun, Integer> {
+
+	/**
+	 * Retrieves a BillingRun entity by its billing period.
+	 * 
+	 * @param billingPeriod The month for which the rents are generated (yyyy-MM).
+	 * @return An Optional containing the BillingRun entity if found, or empty if
+	 *         not found.
+	 */
+	Optional<BillingRun> findByBillingPeriod(String billingPeriod);
+
+	/**
+	 * Retrieves a list of BillingRun entities by their status.
+	 * 
+	 * @param status The status of the billing runs that are being queried.
+	 * @return A list of BillingRun entities with the given status. If there are no
+	 *         such BillingRun entities, it returns an empty list.
+	 */
+	List<BillingRun> findAllByStatus(BillingRunStatus status);
+
+	/**
+	 * Increases the number of rents which the billing run has created.
+	 * 
+	 * @param billingRunId The id of the billing run.
+	 * @param count        The number of rents which have been created.
+	 * @return The number of updated billing runs.
+	 */
+	@Modifying
+	@Query("UPDATE BillingRun b SET b.rentsCreated = b.rentsCreated + :count WHERE b.billingRunId = :billingRunId")
+	int addRentsCreated(@Param("billingRunId") int billingRunId, @Param("count") int count);
+}
@@ -0,0 +1,41 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.EventBooking;
+
+/**
+ * Represents a repository interface for accessing and managing EventBooking
+ * entities in the database. This interface extends the JpaRepository interface,
+ * which provides the basic CRUD operations for EventBooking entities.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface EventBookingRepository extends JpaRepository<EventBooking, Integer> {
+
+	/**
+	 * Retrieves a list of EventBooking entities by the id of their event space.
+	 * 
+	 * @param propertyId The id of the event space associated with the bookings
+	 *                   that are being queried.
+	 * @return A list of EventBooking entities associated with a specific event
+	 *         space. If there are no EventBooking entities for the given event
+	 *         space, it returns an empty list.
+	 */
+	List<EventBooking> findAllByEventSpace_PropertyId(int propertyId);
+
+	/**
+	 * Retrieves a list of EventBooking entities by their customerId.
+	 * 
+	 * @param customerId The id of the customer associated with the bookings that
+	 *                   are being queried.
+	 * @return A list of EventBooking entities associated with a specific
+	 *         customerId. If there are no EventBooking entities for the given
+	 *         customerId, it returns an empty list.
+	 */
+	List<EventBooking> findAllByCustomer_CustomerId(int customerId);
+}
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.nikoladronjak.rently.domain.EventSpace;
@@ -37,4 +39,21 @@ public interface EventSpaceRepository extends JpaRepository<EventSpace, Integer>
 	 *         not found.
 	 */
 	Optional<EventSpace> findByAddress(String address);
+
+	/**
+	 * Retrieves a list of EventSpace entities which are offered for leasing and
+	 * which match the given filters. A filter which is null is not applied.
+	 * 
+	 * @param minCapacity The minimum capacity of the event spaces.
+	 * @param hasKitchen  Whether the event spaces have to have a kitchen.
+	 * @param hasBar      Whether the event spaces have to have a bar.
+	 * @return A list of EventSpace entities which match the filters. If there are
+	 *         no such EventSpace entities, it returns an empty list.
+	 */
+	@Query("SELECT e FROM EventSpace e WHERE e.isAvailable = true"
+			+ " AND (:minCapacity IS NULL OR e.capacity >= :minCapacity)"
+			+ " AND (:hasKitchen IS NULL OR e.hasKitchen = :hasKitchen)"
+			+ " AND (:hasBar IS NULL OR e.hasBar = :hasBar)")
+	List<EventSpace> findOffered(@Param("minCapacity") Integer minCapacity, @Param("hasKitchen") Boolean hasKitchen,
+			@Param("hasBar") Boolean hasBar);
 }
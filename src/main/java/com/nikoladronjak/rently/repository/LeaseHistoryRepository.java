@@ -0,0 +1,44 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.GregorianCalendar;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.LeaseHistory;
+
+/**
+ * Represents a repository interface for accessing and managing LeaseHistory
+ * entities in the database. This interface extends the JpaRepository
+ * interface, which provides the basic CRUD operations for LeaseHistory
+ * entities.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface LeaseHistoryRepository extends JpaRepository<LeaseHistory, Integer> {
+
+	/**
+	 * Retrieves the version of the lease which was valid at the given time. The
+	 * version is found with a single seek of the index on (leaseId, validFrom).
+	 * 
+	 * @param leaseId The id of the lease.
+	 * @param asOf    The time at which the version was valid.
+	 * @return An Optional containing the latest version written at or before the
+	 *         given time. If there is no such version, it returns an empty
+	 *         Optional.
+	 */
+	Optional<LeaseHistory> findFirstByLeaseIdAndValidFromLessThanEqualOrderByValidFromDescLeaseHistoryIdDesc(
+			int leaseId, GregorianCalendar asOf);
+
+	/**
+	 * Retrieves the ids of the leases which have at least one version.
+	 * 
+	 * @return A set of the leaseIds which appear in the history.
+	 */
+	@Query("SELECT DISTINCT h.leaseId FROM LeaseHistory h")
+	Set<Integer> findAllLeaseIds();
+}
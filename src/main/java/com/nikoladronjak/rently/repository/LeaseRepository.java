@@ -1,9 +1,13 @@
 package com.nikoladronjak.rently.repository;
 
+import java.util.Collection;
+import java.util.GregorianCalendar;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.nikoladronjak.rently.domain.Lease;
@@ -41,14 +45,61 @@ public interface LeaseRepository extends JpaRepository<Lease, Integer> {
 	List<Lease> findAllByCustomer_CustomerId(int customerId);
 
 	/**
-	 * Retrieves a Lease entity by its propertyId and customerId.
+	 * Retrieves the lowest leaseId in the database.
 	 * 
-	 * @param propertyId The id of the property associated with the lease that is
-	 *                   being queried.
-	 * @param customerId The id of the customer associated with the lease that is
-	 *                   being queried.
-	 * @return An Optional containing the Lease entity if found, or empty if not
-	 *         found.
+	 * @return The lowest leaseId, or null if there are no leases.
+	 */
+	@Query("SELECT MIN(l.leaseId) FROM Lease l")
+	Integer findMinLeaseId();
+
+	/**
+	 * Retrieves the highest leaseId in the database.
+	 * 
+	 * @return The highest leaseId, or null if there are no leases.
+	 */
+	@Query("SELECT MAX(l.leaseId) FROM Lease l")
+	Integer findMaxLeaseId();
+
+	/**
+	 * Retrieves a list of Lease entities from the given id range which are active
+	 * on at least one day of the given period, ordered by their leaseId.
+	 * 
+	 * @param firstLeaseId The lowest leaseId of the range.
+	 * @param lastLeaseId  The highest leaseId of the range.
+	 * @param periodStart  The first day of the period.
+	 * @param periodEnd    The last day of the period.
+	 * @return A list of Lease entities which overlap the period. If there are no
+	 *         such Lease entities, it returns an empty list.
+	 */
+	@Query("SELECT l FROM Lease l WHERE l.leaseId BETWEEN :firstLeaseId AND :lastLeaseId"
+			+ " AND l.startDate <= :periodEnd AND l.endDate >= :periodStart ORDER BY l.leaseId")
+	List<Lease> findActive(@Param("firstLeaseId") int firstLeaseId, @Param("lastLeaseId") int lastLeaseId,
+			@Param("periodStart") GregorianCalendar periodStart, @Param("periodEnd") GregorianCalendar periodEnd);
+
+	/**
+	 * Retrieves a list of Lease entities of the given properties which end on or
+	 * after the given date.
+	 * 
+	 * @param propertyIds The ids of the properties associated with the leases.
+	 * @param date        The earliest end date of the leases.
+	 * @return A list of the ongoing and future leases of the properties. If there
+	 *         are no such Lease entities, it returns an empty list.
+	 */
+	List<Lease> findAllByProperty_PropertyIdInAndEndDateGreaterThanEqualOrderByLeaseId(
+			Collection<Integer> propertyIds, GregorianCalendar date);
+
+	/**
+	 * Changes the rental rates of the given leases to rentalRate * factor +
+	 * amount, rounded to two decimals, with a single statement.
+	 * 
+	 * @param leaseIds The ids of the leases that are being repriced.
+	 * @param factor   The factor by which the rental rates are multiplied.
+	 * @param amount   The amount which is added to the multiplied rental rates.
+	 * @return The number of repriced leases.
 	 */
-	Optional<Lease> findByProperty_PropertyIdAndCustomer_CustomerId(int propertyId, int customerId);
+	@Modifying
+	@Query("UPDATE Lease l SET l.rentalRate = ROUND(l.rentalRate * :factor + :amount, 2)"
+			+ " WHERE l.leaseId IN :leaseIds")
+	int reprice(@Param("leaseIds") Collection<Integer> leaseIds, @Param("factor") double factor,
+			@Param("amount") double amount);
 }
@@ -0,0 +1,68 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.LedgerAccountType;
+import com.nikoladronjak.rently.domain.LedgerBalance;
+
+/**
+ * Represents a repository interface for accessing and managing LedgerBalance
+ * entities in the database. This interface extends the JpaRepository
+ * interface, which provides the basic CRUD operations for LedgerBalance
+ * entities.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface LedgerBalanceRepository extends JpaRepository<LedgerBalance, Integer> {
+
+	/**
+	 * Retrieves a LedgerBalance entity by the type and the id of its account.
+	 * 
+	 * @param accountType The type of the account.
+	 * @param accountId   The id of the rent, the lease or the customer.
+	 * @return An Optional containing the LedgerBalance entity if found, or empty
+	 *         if not found.
+	 */
+	Optional<LedgerBalance> findByAccountTypeAndAccountId(LedgerAccountType accountType, int accountId);
+
+	/**
+	 * Adds the amount to the balance of the account with a single statement, so
+	 * concurrent postings to the same account never overwrite each other.
+	 * 
+	 * @param accountType The type of the account.
+	 * @param accountId   The id of the rent, the lease or the customer.
+	 * @param amount      The amount which is added to the balance.
+	 * @return The number of updated balances.
+	 */
+	@Modifying
+	@Query("UPDATE LedgerBalance b SET b.balance = b.balance + :amount"
+			+ " WHERE b.accountType = :accountType AND b.accountId = :accountId")
+	int addToBalance(@Param("accountType") LedgerAccountType accountType, @Param("accountId") int accountId,
+			@Param("amount") double amount);
+
+	/**
+	 * Retrieves the balances of the overdue leases of the given owner. A lease is
+	 * overdue if any of its rents of a billing period before the given one has a
+	 * positive balance. Balances below half a cent are treated as settled.
+	 * 
+	 * @param ownerId       The id of the owner of the leased properties.
+	 * @param currentPeriod The current billing period (yyyy-MM).
+	 * @return A list of the LedgerBalance entities of the overdue leases, ordered
+	 *         by leaseId. If there are no overdue leases, it returns an empty
+	 *         list.
+	 */
+	@Query("SELECT b FROM LedgerBalance b WHERE b.ownerId = :ownerId"
+			+ " AND b.accountType = com.nikoladronjak.rently.domain.LedgerAccountType.Lease"
+			+ " AND b.accountId IN (SELECT r.leaseId FROM LedgerBalance r WHERE r.ownerId = :ownerId"
+			+ " AND r.accountType = com.nikoladronjak.rently.domain.LedgerAccountType.Rent"
+			+ " AND r.balance > 0.005 AND r.billingPeriod < :currentPeriod) ORDER BY b.accountId")
+	List<LedgerBalance> findOverdueLeases(@Param("ownerId") int ownerId, @Param("currentPeriod") String currentPeriod);
+}
@@ -0,0 +1,51 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.LedgerEntry;
+
+/**
+ * Represents a repository interface for accessing and managing LedgerEntry
+ * entities in the database. This interface extends the JpaRepository
+ * interface, which provides the basic CRUD operations for LedgerEntry
+ * entities.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Integer> {
+
+	/**
+	 * Retrieves a list of LedgerEntry entities by the id of their rent, in the
+	 * order in which they were posted.
+	 * 
+	 * @param rentId The id of the rent associated with the ledger entries.
+	 * @return A list of LedgerEntry entities of the given rent. If there are no
+	 *         such LedgerEntry entities, it returns an empty list.
+	 */
+	List<LedgerEntry> findAllByRentIdOrderByLedgerEntryId(int rentId);
+
+	/**
+	 * Retrieves a list of LedgerEntry entities by the id of their lease, in the
+	 * order in which they were posted.
+	 * 
+	 * @param leaseId The id of the lease associated with the ledger entries.
+	 * @return A list of LedgerEntry entities of the given lease. If there are no
+	 *         such LedgerEntry entities, it returns an empty list.
+	 */
+	List<LedgerEntry> findAllByLeaseIdOrderByLedgerEntryId(int leaseId);
+
+	/**
+	 * Retrieves a list of LedgerEntry entities by the id of their customer, in
+	 * the order in which they were posted.
+	 * 
+	 * @param customerId The id of the customer associated with the ledger
+	 *                   entries.
+	 * @return A list of LedgerEntry entities of the given customer. If there are
+	 *         no such LedgerEntry entities, it returns an empty list.
+	 */
+	List<LedgerEntry> findAllByCustomerIdOrderByLedgerEntryId(int customerId);
+}
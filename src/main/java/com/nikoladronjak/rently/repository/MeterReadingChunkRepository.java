@@ -0,0 +1,51 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.MeterReadingChunk;
+
+/**
+ * Represents a repository interface for accessing and managing
+ * MeterReadingChunk entities in the database. This interface extends the
+ * JpaRepository interface, which provides the basic CRUD operations for
+ * MeterReadingChunk entities.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface MeterReadingChunkRepository extends JpaRepository<MeterReadingChunk, Integer> {
+
+	/**
+	 * Retrieves the chunks of a utility lease which start at the given times.
+	 * 
+	 * @param utilityLeaseId The id of the utility lease associated with the
+	 *                       chunks.
+	 * @param startTimes     The starts of the days which the chunks cover, in
+	 *                       epoch seconds.
+	 * @return A list of the MeterReadingChunk entities which were found.
+	 */
+	List<MeterReadingChunk> findAllByUtilityLeaseIdAndStartTimeIn(int utilityLeaseId, Collection<Long> startTimes);
+
+	/**
+	 * Retrieves the chunks of a utility lease which start in the given range and
+	 * contain readings at or after the given time. Since there is one chunk per
+	 * day, only the chunks of the days in the range are read.
+	 * 
+	 * @param utilityLeaseId The id of the utility lease associated with the
+	 *                       chunks.
+	 * @param from           The start of the day of the first reading in the
+	 *                       range, in epoch seconds.
+	 * @param to             The end of the range (exclusive), in epoch seconds.
+	 * @return A list of the MeterReadingChunk entities, ordered by their start.
+	 */
+	@Query("SELECT c FROM MeterReadingChunk c WHERE c.utilityLeaseId = :utilityLeaseId"
+			+ " AND c.startTime >= :from AND c.startTime < :to ORDER BY c.startTime")
+	List<MeterReadingChunk> findInRange(@Param("utilityLeaseId") int utilityLeaseId, @Param("from") long from,
+			@Param("to") long to);
+}
@@ -0,0 +1,49 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.MeterReadingRollup;
+import com.nikoladronjak.rently.domain.RollupGranularity;
+
+/**
+ * Represents a repository interface for accessing and managing
+ * MeterReadingRollup entities in the database. This interface extends the
+ * JpaRepository interface, which provides the basic CRUD operations for
+ * MeterReadingRollup entities.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface MeterReadingRollupRepository extends JpaRepository<MeterReadingRollup, Integer> {
+
+	/**
+	 * Retrieves the rollups of a utility lease for the given periods.
+	 * 
+	 * @param utilityLeaseId The id of the utility lease associated with the
+	 *                       rollups.
+	 * @param granularity    The granularity of the rollups.
+	 * @param periodStarts   The starts of the periods, in epoch seconds.
+	 * @return A list of the MeterReadingRollup entities which were found.
+	 */
+	List<MeterReadingRollup> findAllByUtilityLeaseIdAndGranularityAndPeriodStartIn(int utilityLeaseId,
+			RollupGranularity granularity, Collection<Long> periodStarts);
+
+	/**
+	 * Retrieves the rollups of a utility lease whose periods start in the given
+	 * range.
+	 * 
+	 * @param utilityLeaseId The id of the utility lease associated with the
+	 *                       rollups.
+	 * @param granularity    The granularity of the rollups.
+	 * @param from           The start of the range, in epoch seconds.
+	 * @param to             The end of the range (exclusive), in epoch seconds.
+	 * @return A list of the MeterReadingRollup entities, ordered by the start of
+	 *         their periods.
+	 */
+	List<MeterReadingRollup> findAllByUtilityLeaseIdAndGranularityAndPeriodStartGreaterThanEqualAndPeriodStartLessThanOrderByPeriodStart(
+			int utilityLeaseId, RollupGranularity granularity, long from, long to);
+}
@@ -0,0 +1,44 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.GregorianCalendar;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.PropertyHistory;
+
+/**
+ * Represents a repository interface for accessing and managing PropertyHistory
+ * entities in the database. This interface extends the JpaRepository
+ * interface, which provides the basic CRUD operations for PropertyHistory
+ * entities.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface PropertyHistoryRepository extends JpaRepository<PropertyHistory, Integer> {
+
+	/**
+	 * Retrieves the version of the property which was valid at the given time. The
+	 * version is found with a single seek of the index on (propertyId, validFrom).
+	 * 
+	 * @param propertyId The id of the property.
+	 * @param asOf       The time at which the version was valid.
+	 * @return An Optional containing the latest version written at or before the
+	 *         given time. If there is no such version, it returns an empty
+	 *         Optional.
+	 */
+	Optional<PropertyHistory> findFirstByPropertyIdAndValidFromLessThanEqualOrderByValidFromDescPropertyHistoryIdDesc(
+			int propertyId, GregorianCalendar asOf);
+
+	/**
+	 * Retrieves the ids of the properties which have at least one version.
+	 * 
+	 * @return A set of the propertyIds which appear in the history.
+	 */
+	@Query("SELECT DISTINCT h.propertyId FROM PropertyHistory h")
+	Set<Integer> findAllPropertyIds();
+}
@@ -0,0 +1,123 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.Property;
+
+/**
+ * Represents a repository interface for accessing and managing Property
+ * entities in the database, regardless of their type (residence, event space
+ * or office space). This interface extends the JpaRepository interface, which
+ * provides the basic CRUD operations for Property entities, and the
+ * JpaSpecificationExecutor interface, which allows the properties to be
+ * queried by the filters in PropertySpecifications.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface PropertyRepository extends JpaRepository<Property, Integer>, JpaSpecificationExecutor<Property> {
+
+	/**
+	 * Represents the searchable text of a property.
+	 */
+	interface PropertyText {
+
+		Integer getPropertyId();
+
+		String getName();
+
+		String getDescription();
+	}
+
+	/**
+	 * Retrieves the names and the descriptions of all the properties, without
+	 * loading the properties themselves.
+	 * 
+	 * @return A list of PropertyText projections.
+	 */
+	@Query("SELECT p.propertyId AS propertyId, p.name AS name, p.description AS description FROM Property p")
+	List<PropertyText> findAllTexts();
+
+	/**
+	 * Represents the address of a property.
+	 */
+	interface PropertyAddress {
+
+		Integer getPropertyId();
+
+		String getAddress();
+	}
+
+	/**
+	 * Retrieves the addresses of all the properties, without loading the
+	 * properties themselves.
+	 * 
+	 * @return A list of PropertyAddress projections.
+	 */
+	@Query("SELECT p.propertyId AS propertyId, p.address AS address FROM Property p")
+	List<PropertyAddress> findAllAddresses();
+
+	/**
+	 * Represents the address of a property, with the number of its leases.
+	 */
+	interface AddressPopularity extends PropertyAddress {
+
+		Long getPopularity();
+	}
+
+	/**
+	 * Retrieves the addresses of all the properties, together with the number of
+	 * leases of every property.
+	 * 
+	 * @return A list of AddressPopularity projections.
+	 */
+	@Query("SELECT p.propertyId AS propertyId, p.address AS address, COUNT(l) AS popularity"
+			+ " FROM Property p LEFT JOIN p.leases l GROUP BY p.propertyId, p.address")
+	List<AddressPopularity> findAllAddressPopularities();
+
+	/**
+	 * Represents the location of a property.
+	 */
+	interface PropertyLocation {
+
+		Integer getPropertyId();
+
+		Double getLatitude();
+
+		Double getLongitude();
+	}
+
+	/**
+	 * Retrieves the locations of all the properties which have both a latitude
+	 * and a longitude, without loading the properties themselves.
+	 * 
+	 * @return A list of PropertyLocation projections.
+	 */
+	@Query("SELECT p.propertyId AS propertyId, p.latitude AS latitude, p.longitude AS longitude FROM Property p"
+			+ " WHERE p.latitude IS NOT NULL AND p.longitude IS NOT NULL")
+	List<PropertyLocation> findAllLocations();
+
+	/**
+	 * Changes the rental rates of the given properties to rentalRate * factor +
+	 * amount, rounded to two decimals, with a single statement.
+	 * 
+	 * @param propertyIds The ids of the properties that are being repriced.
+	 * @param factor      The factor by which the rental rates are multiplied.
+	 * @param amount      The amount which is added to the multiplied rental
+	 *                    rates.
+	 * @return The number of repriced properties.
+	 */
+	@Modifying
+	@Query("UPDATE Property p SET p.rentalRate = ROUND(p.rentalRate * :factor + :amount, 2)"
+			+ " WHERE p.propertyId IN :propertyIds")
+	int reprice(@Param("propertyIds") Collection<Integer> propertyIds, @Param("factor") double factor,
+			@Param("amount") double amount);
+}
@@ -0,0 +1,167 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.nikoladronjak.rently.domain.EventSpace;
+import com.nikoladronjak.rently.domain.OfficeSpace;
+import com.nikoladronjak.rently.domain.Property;
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.domain.Residence;
+
+/**
+ * Represents the filters which can be used for querying Property entities with
+ * the PropertyRepository. Every filter matches all the properties if its value
+ * is null, so the filters can be combined regardless of which of them were
+ * given.
+ * 
+ * @author Nikola Dronjak
+ */
+public final class PropertySpecifications {
+
+	private PropertySpecifications() {
+
+	}
+
+	/**
+	 * Matches the properties which are offered for leasing.
+	 * 
+	 * @return The specification.
+	 */
+	public static Specification<Property> isOffered() {
+		return (root, query, builder) -> builder.isTrue(root.get("isAvailable"));
+	}
+
+	/**
+	 * Matches the properties with the given ids.
+	 * 
+	 * @param propertyIds The ids of the properties.
+	 * @return The specification.
+	 */
+	public static Specification<Property> hasIdIn(Collection<Integer> propertyIds) {
+		if (propertyIds == null)
+			return null;
+
+		return (root, query, builder) -> root.get("propertyId").in(propertyIds);
+	}
+
+	/**
+	 * Matches the properties of the given type.
+	 * 
+	 * @param type The type of the property.
+	 * @return The specification.
+	 */
+	public static Specification<Property> hasType(PropertyType type) {
+		if (type == null)
+			return null;
+
+		Class<? extends Property> entityClass = switch (type) {
+		case Residence -> Residence.class;
+		case EventSpace -> EventSpace.class;
+		case OfficeSpace -> OfficeSpace.class;
+		};
+		return (root, query, builder) -> builder.equal(root.type(), entityClass);
+	}
+
+	/**
+	 * Matches the properties whose rental rate is at least the given value.
+	 * 
+	 * @param minRentalRate The minimum rental rate.
+	 * @return The specification.
+	 */
+	public static Specification<Property> hasRentalRateAtLeast(Double minRentalRate) {
+		if (minRentalRate == null)
+			return null;
+
+		return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("rentalRate"), minRentalRate);
+	}
+
+	/**
+	 * Matches the properties whose rental rate is at most the given value.
+	 * 
+	 * @param maxRentalRate The maximum rental rate.
+	 * @return The specification.
+	 */
+	public static Specification<Property> hasRentalRateAtMost(Double maxRentalRate) {
+		if (maxRentalRate == null)
+			return null;
+
+		return (root, query, builder) -> builder.lessThanOrEqualTo(root.get("rentalRate"), maxRentalRate);
+	}
+
+	/**
+	 * Matches the properties whose size is at least the given value.
+	 * 
+	 * @param minSize The minimum size in square meters.
+	 * @return The specification.
+	 */
+	public static Specification<Property> hasSizeAtLeast(Integer minSize) {
+		if (minSize == null)
+			return null;
+
+		return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("size"), minSize);
+	}
+
+	/**
+	 * Matches the properties which have at least the given number of parking
+	 * spots.
+	 * 
+	 * @param minNumberOfParkingSpots The minimum number of parking spots.
+	 * @return The specification.
+	 */
+	public static Specification<Property> hasParkingSpotsAtLeast(Integer minNumberOfParkingSpots) {
+		if (minNumberOfParkingSpots == null)
+			return null;
+
+		return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("numberOfParkingSpots"),
+				minNumberOfParkingSpots);
+	}
+
+	/**
+	 * Matches the properties of the given owner.
+	 * 
+	 * @param ownerId The id of the owner.
+	 * @return The specification.
+	 */
+	public static Specification<Property> hasOwner(Integer ownerId) {
+		if (ownerId == null)
+			return null;
+
+		return (root, query, builder) -> builder.equal(root.get("owner").get("ownerId"), ownerId);
+	}
+
+	/**
+	 * Matches the residences which have at least the given number of bedrooms.
+	 * Properties of the other types never match.
+	 * 
+	 * @param minNumberOfBedrooms The minimum number of bedrooms.
+	 * @return The specification.
+	 */
+	public static Specification<Property> hasBedroomsAtLeast(Integer minNumberOfBedrooms) {
+		if (minNumberOfBedrooms == null)
+			return null;
+
+		return (root, query, builder) -> builder.and(builder.equal(root.type(), Residence.class), builder
+				.greaterThanOrEqualTo(builder.treat(root, Residence.class).get("numberOfBedrooms"), minNumberOfBedrooms));
+	}
+
+	/**
+	 * Matches the event spaces and the office spaces whose capacity is at least
+	 * the given value. Residences never match.
+	 * 
+	 * @param minCapacity The minimum capacity.
+	 * @return The specification.
+	 */
+	public static Specification<Property> hasCapacityAtLeast(Integer minCapacity) {
+		if (minCapacity == null)
+			return null;
+
+		return (root, query, builder) -> builder.or(
+				builder.and(builder.equal(root.type(), EventSpace.class),
+						builder.greaterThanOrEqualTo(builder.treat(root, EventSpace.class).get("capacity"),
+								minCapacity)),
+				builder.and(builder.equal(root.type(), OfficeSpace.class), builder
+						.greaterThanOrEqualTo(builder.treat(root, OfficeSpace.class).get("capacity"), minCapacity)));
+	}
+}
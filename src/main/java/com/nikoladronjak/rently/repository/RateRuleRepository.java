@@ -0,0 +1,28 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.RateRule;
+
+/**
+ * Represents a repository interface for accessing and managing RateRule
+ * entities in the database. This interface extends the JpaRepository
+ * interface, which provides the basic CRUD operations for RateRule entities.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface RateRuleRepository extends JpaRepository<RateRule, Integer> {
+
+	/**
+	 * Retrieves a list of RateRule entities by the id of their property, in the
+	 * order in which they were created.
+	 * 
+	 * @param propertyId The id of the property.
+	 * @return A list of RateRule entities.
+	 */
+	List<RateRule> findAllByProperty_PropertyIdOrderByRateRuleId(Integer propertyId);
+}
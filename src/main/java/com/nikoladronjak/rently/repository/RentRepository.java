@@ -1,13 +1,20 @@
 package com.nikoladronjak.rently.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.nikoladronjak.rently.domain.Rent;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * Represents a repository interface for accessing and managing Rent entities in
  * the database. This interface extends the JpaRepository interface, which
@@ -40,12 +47,116 @@ public interface RentRepository extends JpaRepository<Rent, Integer> {
 	List<Rent> findAllByUtilityLeases_UtilityLeaseId(Integer utilityLeaseId);
 
 	/**
-	 * Retrieves a Rent entity by its leaseId.
+	 * Retrieves a Rent entity by its leaseId and billing period.
 	 * 
-	 * @param leaseId The id of the lease associated with the rent that is being
-	 *                queried.
+	 * @param leaseId       The id of the lease associated with the rent that is
+	 *                      being queried.
+	 * @param billingPeriod The month for which the rent is charged (yyyy-MM).
 	 * @return An Optional containing the Rent entity if found, or empty if not
 	 *         found.
 	 */
-	Optional<Rent> findByLease_LeaseId(Integer leaseId);
+	Optional<Rent> findByLease_LeaseIdAndBillingPeriod(Integer leaseId, String billingPeriod);
+
+	/**
+	 * Retrieves the ids of the leases from the given id range which already have
+	 * a rent for the billing period.
+	 * 
+	 * @param billingPeriod The month for which the rents are charged (yyyy-MM).
+	 * @param firstLeaseId  The lowest leaseId of the range.
+	 * @param lastLeaseId   The highest leaseId of the range.
+	 * @return A list of the leaseIds which have been billed for the period.
+	 */
+	@Query("SELECT r.lease.leaseId FROM Rent r WHERE r.billingPeriod = :billingPeriod"
+			+ " AND r.lease.leaseId BETWEEN :firstLeaseId AND :lastLeaseId")
+	List<Integer> findBilledLeaseIds(@Param("billingPeriod") String billingPeriod,
+			@Param("firstLeaseId") int firstLeaseId, @Param("lastLeaseId") int lastLeaseId);
+
+	/**
+	 * Retrieves the ids of the open rents of the given lease. A rent is open if
+	 * its billing period is not before the given period, or if it has no billing
+	 * period.
+	 * 
+	 * @param leaseId         The id of the lease associated with the rents.
+	 * @param firstOpenPeriod The earliest billing period which is still open
+	 *                        (yyyy-MM).
+	 * @return A list of the rentIds of the open rents of the lease.
+	 */
+	@Query("SELECT r.rentId FROM Rent r WHERE r.lease.leaseId = :leaseId"
+			+ " AND (r.billingPeriod IS NULL OR r.billingPeriod >= :firstOpenPeriod)")
+	List<Integer> findOpenRentIdsByLeaseId(@Param("leaseId") int leaseId,
+			@Param("firstOpenPeriod") String firstOpenPeriod);
+
+	/**
+	 * Retrieves the ids of the open rents which include the given utility lease,
+	 * using the "UtilityLeasesRents" association table. A rent is open if its
+	 * billing period is not before the given period, or if it has no billing
+	 * period.
+	 * 
+	 * @param utilityLeaseId  The id of the utility lease associated with the
+	 *                        rents.
+	 * @param firstOpenPeriod The earliest billing period which is still open
+	 *                        (yyyy-MM).
+	 * @return A list of the rentIds of the open rents of the utility lease.
+	 */
+	@Query("SELECT r.rentId FROM UtilityLease u JOIN u.rents r WHERE u.utilityLeaseId = :utilityLeaseId"
+			+ " AND (r.billingPeriod IS NULL OR r.billingPeriod >= :firstOpenPeriod)")
+	List<Integer> findOpenRentIdsByUtilityLeaseId(@Param("utilityLeaseId") int utilityLeaseId,
+			@Param("firstOpenPeriod") String firstOpenPeriod);
+
+	/**
+	 * Retrieves the given rents and locks them for the rest of the current
+	 * transaction, in the order of their ids, so two transactions which update
+	 * the totals of the same rents can't interleave.
+	 * 
+	 * @param rentIds The ids of the rents that are being locked.
+	 * @return A list of the locked rents.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT r FROM Rent r WHERE r.rentId IN :rentIds ORDER BY r.rentId")
+	List<Rent> lockAllByRentIdIn(@Param("rentIds") Collection<Integer> rentIds);
+
+	/**
+	 * Recalculates the total rent of the given rents from the current rental rate
+	 * of their lease and the current rental rates of their utility leases, with a
+	 * single statement.
+	 * 
+	 * @param rentIds The ids of the rents that are being updated.
+	 * @return The number of updated rents.
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Rent r SET r.totalRent = (SELECT l.rentalRate FROM Lease l WHERE l.leaseId = r.lease.leaseId)"
+			+ " + COALESCE((SELECT SUM(u.rentalRate) FROM UtilityLease u JOIN u.rents ur"
+			+ " WHERE ur.rentId = r.rentId), 0) WHERE r.rentId IN :rentIds")
+	int recomputeTotalRent(@Param("rentIds") Collection<Integer> rentIds);
+
+	/**
+	 * Retrieves the open rents of the given leases. A rent is open if its billing
+	 * period is not before the given period, or if it has no billing period.
+	 * 
+	 * @param leaseIds        The ids of the leases associated with the rents.
+	 * @param firstOpenPeriod The earliest billing period which is still open
+	 *                        (yyyy-MM).
+	 * @return A list of the open rents of the leases.
+	 */
+	@Query("SELECT r FROM Rent r WHERE r.lease.leaseId IN :leaseIds"
+			+ " AND (r.billingPeriod IS NULL OR r.billingPeriod >= :firstOpenPeriod)")
+	List<Rent> findOpenByLeaseIds(@Param("leaseIds") Collection<Integer> leaseIds,
+			@Param("firstOpenPeriod") String firstOpenPeriod);
+
+	/**
+	 * Retrieves the open rents for the reconciliation of bank statements. A rent
+	 * is open if nothing has been posted to it in the ledger yet, or if its
+	 * ledger balance is still positive. Balances below half a cent are treated as
+	 * settled.
+	 * 
+	 * @return A list of rows with the rentId, the total rent, the leaseId, the
+	 *         customerId, the email of the customer and the ledger balance (null
+	 *         if nothing has been posted to the rent) of every open rent, ordered
+	 *         by rentId.
+	 */
+	@Query("SELECT r.rentId, r.totalRent, l.leaseId, c.customerId, c.email, b.balance FROM Rent r JOIN r.lease l"
+			+ " JOIN l.customer c LEFT JOIN LedgerBalance b"
+			+ " ON b.accountType = com.nikoladronjak.rently.domain.LedgerAccountType.Rent AND b.accountId = r.rentId"
+			+ " WHERE b.ledgerBalanceId IS NULL OR b.balance > 0.005 ORDER BY r.rentId")
+	List<Object[]> findOpenForReconciliation();
 }
@@ -0,0 +1,29 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.SavedSearch;
+
+/**
+ * Represents a repository interface for accessing and managing SavedSearch
+ * entities in the database. This interface extends the JpaRepository
+ * interface, which provides the basic CRUD operations for SavedSearch
+ * entities.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Integer> {
+
+	/**
+	 * Retrieves a list of SavedSearch entities by the id of their customer, in
+	 * the order in which they were created.
+	 * 
+	 * @param customerId The id of the customer.
+	 * @return A list of SavedSearch entities.
+	 */
+	List<SavedSearch> findAllByCustomer_CustomerIdOrderBySavedSearchId(Integer customerId);
+}
@@ -0,0 +1,29 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.SearchNotification;
+
+/**
+ * Represents a repository interface for accessing and managing
+ * SearchNotification entities in the database. This interface extends the
+ * JpaRepository interface, which provides the basic CRUD operations for
+ * SearchNotification entities.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface SearchNotificationRepository extends JpaRepository<SearchNotification, Integer> {
+
+	/**
+	 * Retrieves a list of SearchNotification entities by the id of their saved
+	 * search, in the order in which they were written.
+	 * 
+	 * @param savedSearchId The id of the saved search.
+	 * @return A list of SearchNotification entities.
+	 */
+	List<SearchNotification> findAllBySavedSearchIdOrderBySearchNotificationId(int savedSearchId);
+}
@@ -0,0 +1,42 @@
+package com.nikoladronjak.rently.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.nikoladronjak.rently.domain.SeatReservation;
+
+/**
+ * Represents a repository interface for accessing and managing SeatReservation
+ * entities in the database. This interface extends the JpaRepository interface,
+ * which provides the basic CRUD operations for SeatReservation entities.
+ * 
+ * @author Nikola Dronjak
+ */
+@Repository
+public interface SeatReservationRepository extends JpaRepository<SeatReservation, Integer> {
+
+	/**
+	 * Retrieves a list of SeatReservation entities by the id of their office
+	 * space.
+	 * 
+	 * @param propertyId The id of the office space associated with the
+	 *                   reservations that are being queried.
+	 * @return A list of SeatReservation entities associated with a specific office
+	 *         space. If there are no SeatReservation entities for the given office
+	 *         space, it returns an empty list.
+	 */
+	List<SeatReservation> findAllByOfficeSpace_PropertyId(int propertyId);
+
+	/**
+	 * Retrieves a list of SeatReservation entities by their customerId.
+	 * 
+	 * @param customerId The id of the customer associated with the reservations
+	 *                   that are being queried.
+	 * @return A list of SeatReservation entities associated with a specific
+	 *         customerId. If there are no SeatReservation entities for the given
+	 *         customerId, it returns an empty list.
+	 */
+	List<SeatReservation> findAllByCustomer_CustomerId(int customerId);
+}
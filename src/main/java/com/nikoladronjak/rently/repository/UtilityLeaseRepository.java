@@ -1,5 +1,6 @@
 package com.nikoladronjak.rently.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +41,17 @@ public interface UtilityLeaseRepository extends JpaRepository<UtilityLease, Inte
 	 */
 	List<UtilityLease> findAllByProperty_PropertyId(int propertyId);
 
+	/**
+	 * Retrieves a list of UtilityLease entities of any of the given properties.
+	 * 
+	 * @param propertyIds The ids of the properties associated with the utility
+	 *                    leases that are being queried.
+	 * @return A list of UtilityLease entities associated with the given
+	 *         propertyIds. If there are no such UtilityLease entities, it returns
+	 *         an empty list.
+	 */
+	List<UtilityLease> findAllByProperty_PropertyIdIn(Collection<Integer> propertyIds);
+
 	/**
 	 * Retrieves a UtilityLease entity by its utilityId and propertyId.
 	 * 
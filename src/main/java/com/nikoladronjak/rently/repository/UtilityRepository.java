@@ -1,8 +1,10 @@
 package com.nikoladronjak.rently.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.nikoladronjak.rently.domain.Utility;
@@ -25,4 +27,26 @@ public interface UtilityRepository extends JpaRepository<Utility, Integer> {
 	 *         found.
 	 */
 	Optional<Utility> findByName(String name);
+
+	/**
+	 * Represents the name of a utility, with the number of its utility leases.
+	 */
+	interface NamePopularity {
+
+		Integer getUtilityId();
+
+		String getName();
+
+		Long getPopularity();
+	}
+
+	/**
+	 * Retrieves the names of all the utilities, together with the number of
+	 * utility leases of every utility.
+	 * 
+	 * @return A list of NamePopularity projections.
+	 */
+	@Query("SELECT u.utilityId AS utilityId, u.name AS name, COUNT(ul) AS popularity"
+			+ " FROM Utility u LEFT JOIN u.utilityLeases ul GROUP BY u.utilityId, u.name")
+	List<NamePopularity> findAllNamePopularities();
 }
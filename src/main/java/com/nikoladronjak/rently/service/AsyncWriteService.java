@@ -0,0 +1,280 @@
+package com.nikoladronjak.rently.service;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nikoladronjak.rently.dto.CommandStatusDTO;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.exception.ServiceUnavailableException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Represents a service class responsible for executing write commands in
+ * asynchronous mode. Submitted commands are placed in a bounded queue and the
+ * client immediately receives an HTTP 202 (Accepted) response with the URL at
+ * which the status of the command can be queried.
+ *
+ * A single writer thread drains the queue in micro-batches and executes every
+ * batch in one transaction (group commit). If the transaction of a batch fails,
+ * the commands of that batch are executed again, each in its own transaction,
+ * so that one bad command cannot reject the whole batch. When the queue is full
+ * new commands are rejected with HTTP 503 (Service Unavailable).
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class AsyncWriteService {
+
+	/**
+	 * Represents the route at which the status of a command can be queried.
+	 */
+	public static final String STATUS_ROUTE = "/api/commands/";
+
+	/**
+	 * Represents the queue of commands that are waiting to be executed.
+	 */
+	private final BlockingQueue<Command> queue;
+
+	/**
+	 * Represents the maximum number of commands which are committed in one
+	 * transaction (int).
+	 */
+	private final int batchSize;
+
+	/**
+	 * Represents the maximum number of command results that are kept (int).
+	 */
+	private final int maxResults;
+
+	/**
+	 * Represents the statuses of the submitted commands, in submission order.
+	 */
+	private final Map<String, CommandStatusDTO> statuses = new LinkedHashMap<>();
+
+	/**
+	 * Template for executing batches of commands in a single transaction.
+	 */
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * Represents the thread which drains the queue.
+	 */
+	private Thread writer;
+
+	/**
+	 * Indicates whether the writer thread should keep running.
+	 */
+	private volatile boolean running;
+
+	@Autowired
+	public AsyncWriteService(PlatformTransactionManager transactionManager,
+			@Value("${rently.async.queue-capacity:10000}") int queueCapacity,
+			@Value("${rently.async.batch-size:200}") int batchSize,
+			@Value("${rently.async.max-results:100000}") int maxResults) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.maxResults = maxResults;
+	}
+
+	/**
+	 * Starts the writer thread.
+	 */
+	@PostConstruct
+	public void start() {
+		running = true;
+		writer = new Thread(this::drain, "rently-async-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * Stops the writer thread after the commands which are already in the queue
+	 * have been executed.
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		running = false;
+		if (writer != null)
+			writer.join(TimeUnit.SECONDS.toMillis(30));
+	}
+
+	/**
+	 * Submits a write command for asynchronous execution.
+	 *
+	 * @param action The write command. It returns the same result that the
+	 *               command returns in synchronous mode.
+	 * @return ResponseEntity containing the CommandStatusDTO of the accepted
+	 *         command with HttpStatus.ACCEPTED status (202).
+	 * @throws ServiceUnavailableException if the queue is full.
+	 */
+	public ResponseEntity<CommandStatusDTO> submit(Supplier<?> action) {
+		String commandId = UUID.randomUUID().toString();
+		CommandStatusDTO commandStatusDTO = new CommandStatusDTO(commandId, CommandStatusDTO.Status.Pending, null,
+				null);
+		putStatus(commandStatusDTO);
+
+		if (!queue.offer(new Command(commandId, action))) {
+			removeStatus(commandId);
+			throw new ServiceUnavailableException("The server is busy. Please try again later.");
+		}
+		return ResponseEntity.accepted().location(URI.create(STATUS_ROUTE + commandId)).body(commandStatusDTO);
+	}
+
+	/**
+	 * Retrieves the status of a submitted command.
+	 *
+	 * @param commandId The id of the command that is being queried.
+	 * @return The CommandStatusDTO of the command.
+	 * @throws NotFoundException if there is no command with the given id.
+	 */
+	public CommandStatusDTO getStatus(String commandId) {
+		CommandStatusDTO commandStatusDTO;
+		synchronized (statuses) {
+			commandStatusDTO = statuses.get(commandId);
+		}
+		if (commandStatusDTO == null)
+			throw new NotFoundException("There is no command with the given id.");
+
+		return commandStatusDTO;
+	}
+
+	/**
+	 * Returns the number of commands that are waiting in the queue.
+	 *
+	 * @return The number of queued commands (int).
+	 */
+	public int getQueueSize() {
+		return queue.size();
+	}
+
+	/**
+	 * Main loop of the writer thread. It waits for the first command and then
+	 * takes every command that is already in the queue, up to the batch size.
+	 */
+	private void drain() {
+		List<Command> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				Command first = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null)
+					continue;
+
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				executeBatch(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * Executes all the commands of the batch in one transaction. If the
+	 * transaction fails, every command is executed again in its own transaction.
+	 *
+	 * @param batch The commands that are being executed.
+	 */
+	private void executeBatch(List<Command> batch) {
+		if (batch.size() == 1) {
+			executeSingle(batch.get(0));
+			return;
+		}
+
+		List<Object> results;
+		try {
+			results = transactionTemplate.execute(status -> {
+				List<Object> batchResults = new ArrayList<>(batch.size());
+				for (Command command : batch) {
+					batchResults.add(command.action.get());
+				}
+				return batchResults;
+			});
+		} catch (RuntimeException e) {
+			for (Command command : batch) {
+				executeSingle(command);
+			}
+			return;
+		}
+
+		for (int i = 0; i < batch.size(); i++) {
+			complete(batch.get(i).commandId, HttpStatus.OK, results.get(i));
+		}
+	}
+
+	/**
+	 * Executes a single command in its own transaction.
+	 *
+	 * @param command The command that is being executed.
+	 */
+	private void executeSingle(Command command) {
+		try {
+			Object result = transactionTemplate.execute(status -> command.action.get());
+			complete(command.commandId, HttpStatus.OK, result);
+		} catch (RuntimeException e) {
+			ResponseEntity<ErrorDTO> response = RentlyExceptionHandler.toResponse(e);
+			complete(command.commandId, response.getStatusCode(), response.getBody());
+		}
+	}
+
+	/**
+	 * Records the result of an executed command.
+	 *
+	 * @param commandId  The id of the executed command.
+	 * @param statusCode The HTTP status that the command would have returned in
+	 *                   synchronous mode.
+	 * @param result     The result of the executed command.
+	 */
+	private void complete(String commandId, HttpStatusCode statusCode, Object result) {
+		CommandStatusDTO.Status status = statusCode.is2xxSuccessful() ? CommandStatusDTO.Status.Completed
+				: CommandStatusDTO.Status.Failed;
+		putStatus(new CommandStatusDTO(commandId, status, statusCode.value(), result));
+	}
+
+	private void putStatus(CommandStatusDTO commandStatusDTO) {
+		synchronized (statuses) {
+			statuses.put(commandStatusDTO.getCommandId(), commandStatusDTO);
+			if (statuses.size() > maxResults)
+				statuses.remove(statuses.keySet().iterator().next());
+		}
+	}
+
+	private void removeStatus(String commandId) {
+		synchronized (statuses) {
+			statuses.remove(commandId);
+		}
+	}
+
+	/**
+	 * Represents a single queued write command.
+	 *
+	 * @param commandId The id of the command.
+	 * @param action    The write command itself.
+	 */
+	private record Command(String commandId, Supplier<?> action) {
+	}
+}
@@ -0,0 +1,317 @@
+package com.nikoladronjak.rently.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.nikoladronjak.rently.domain.Property;
+import com.nikoladronjak.rently.domain.Utility;
+import com.nikoladronjak.rently.dto.AutocompleteDTO;
+import com.nikoladronjak.rently.dto.CompletionDTO;
+import com.nikoladronjak.rently.repository.PropertyRepository;
+import com.nikoladronjak.rently.repository.PropertyRepository.AddressPopularity;
+import com.nikoladronjak.rently.repository.UtilityRepository;
+import com.nikoladronjak.rently.repository.UtilityRepository.NamePopularity;
+import com.nikoladronjak.rently.util.TernarySearchTree;
+import com.nikoladronjak.rently.util.TextAnalyzer;
+import com.nikoladronjak.rently.util.TransactionHooks;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Represents a service class responsible for completing the addresses of the
+ * properties and the names of the utilities which a user has started typing.
+ * The completions are ranked by their popularity: the number of leases of the
+ * properties with an address, or the number of utility leases of a utility.
+ *
+ * The texts are kept in ternary search trees under every word they contain, so
+ * "Main" completes "12 Main Street" as well. The case and the diacritics are
+ * ignored, and properties which share an address are completed once, with the
+ * sum of their leases. The trees are loaded from the database when the
+ * application starts, and afterwards the services which write the properties,
+ * the utilities and their leases update them. A change which is rolled back is
+ * undone the same way. The completions never wait for the writes.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class AutocompleteService {
+
+	/**
+	 * Represents the number of completions of a request which doesn't specify
+	 * it.
+	 */
+	private static final int DEFAULT_LIMIT = 10;
+
+	/**
+	 * Repository for accessing data related to properties.
+	 */
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	/**
+	 * Repository for accessing data related to utilities.
+	 */
+	@Autowired
+	private UtilityRepository utilityRepository;
+
+	/**
+	 * Represents the addresses of the properties, by the ids of the properties.
+	 */
+	private final Dictionary addresses = new Dictionary();
+
+	/**
+	 * Represents the names of the utilities, by the ids of the utilities.
+	 */
+	private final Dictionary utilityNames = new Dictionary();
+
+	/**
+	 * Loads the addresses of the properties and the names of the utilities, with
+	 * their popularity, from the database.
+	 */
+	@PostConstruct
+	public void rebuild() {
+		addresses.clear();
+		for (AddressPopularity address : propertyRepository.findAllAddressPopularities()) {
+			addresses.put(address.getPropertyId(), address.getAddress(), address.getPopularity());
+		}
+		utilityNames.clear();
+		for (NamePopularity name : utilityRepository.findAllNamePopularities()) {
+			utilityNames.put(name.getUtilityId(), name.getName(), name.getPopularity());
+		}
+	}
+
+	/**
+	 * Completes the prefix with the addresses of the properties.
+	 *
+	 * @param autocompleteDTO The prefix and the maximum number of completions.
+	 * @return A list of CompletionDTOs, from the most popular.
+	 */
+	public List<CompletionDTO> completeAddresses(AutocompleteDTO autocompleteDTO) {
+		return addresses.complete(autocompleteDTO);
+	}
+
+	/**
+	 * Completes the prefix with the names of the utilities.
+	 *
+	 * @param autocompleteDTO The prefix and the maximum number of completions.
+	 * @return A list of CompletionDTOs, from the most popular.
+	 */
+	public List<CompletionDTO> completeUtilityNames(AutocompleteDTO autocompleteDTO) {
+		return utilityNames.complete(autocompleteDTO);
+	}
+
+	/**
+	 * Takes over the address of a property which was added or modified.
+	 *
+	 * @param property The stored property.
+	 */
+	public void putAddress(Property property) {
+		rename(addresses, property.getPropertyId(), property.getAddress());
+	}
+
+	/**
+	 * Removes the address of a property which was deleted.
+	 *
+	 * @param propertyId The id of the deleted property.
+	 */
+	public void removeAddress(int propertyId) {
+		rename(addresses, propertyId, null);
+	}
+
+	/**
+	 * Changes the popularity of the address of a property when a lease of the
+	 * property is added or deleted.
+	 *
+	 * @param propertyId The id of the property.
+	 * @param delta      The change of the number of leases of the property.
+	 */
+	public void countLease(int propertyId, int delta) {
+		count(addresses, propertyId, delta);
+	}
+
+	/**
+	 * Takes over the name of a utility which was added or modified.
+	 *
+	 * @param utility The stored utility.
+	 */
+	public void putUtilityName(Utility utility) {
+		rename(utilityNames, utility.getUtilityId(), utility.getName());
+	}
+
+	/**
+	 * Removes the name of a utility which was deleted.
+	 *
+	 * @param utilityId The id of the deleted utility.
+	 */
+	public void removeUtilityName(int utilityId) {
+		rename(utilityNames, utilityId, null);
+	}
+
+	/**
+	 * Changes the popularity of the name of a utility when a utility lease of the
+	 * utility is added or deleted.
+	 *
+	 * @param utilityId The id of the utility.
+	 * @param delta     The change of the number of utility leases of the
+	 *                  utility.
+	 */
+	public void countUtilityLease(int utilityId, int delta) {
+		count(utilityNames, utilityId, delta);
+	}
+
+	private static void rename(Dictionary dictionary, int id, String text) {
+		Entry previous = dictionary.rename(id, text);
+		TransactionHooks.afterRollback(() -> dictionary.restore(id, previous));
+	}
+
+	private static void count(Dictionary dictionary, int id, int delta) {
+		dictionary.count(id, delta);
+		TransactionHooks.afterRollback(() -> dictionary.count(id, -delta));
+	}
+
+	/**
+	 * Represents a text of a dictionary, with its popularity.
+	 */
+	private record Entry(String text, long popularity) {
+	}
+
+	/**
+	 * Represents a completion, which is stored in the tree under the key of its
+	 * text and under the suffixes of the key which start with a word.
+	 */
+	private record Completion(String text, long popularity) implements Comparable<Completion> {
+
+		@Override
+		public int compareTo(Completion other) {
+			return text.compareTo(other.text);
+		}
+	}
+
+	/**
+	 * Represents texts of entities, which are completed by their prefixes. The
+	 * entities whose texts have the same key share one completion, whose text is
+	 * the text of the most popular of them and whose popularity is the sum of
+	 * their popularities.
+	 */
+	private static final class Dictionary {
+
+		private static final char SEPARATOR = '\0';
+
+		private final TernarySearchTree<Completion> tree = new TernarySearchTree<>();
+
+		private final Map<Integer, Entry> entries = new HashMap<>();
+
+		private final Map<String, Set<Integer>> idsByKey = new HashMap<>();
+
+		private List<CompletionDTO> complete(AutocompleteDTO autocompleteDTO) {
+			int limit = autocompleteDTO.getLimit() != null ? autocompleteDTO.getLimit() : DEFAULT_LIMIT;
+			String prefix = normalize(autocompleteDTO.getPrefix()).stripLeading();
+			List<CompletionDTO> completionDTOs = tree.complete(prefix, limit).stream()
+					.map(completion -> new CompletionDTO(completion.text(), completion.popularity()))
+					.collect(Collectors.toList());
+			return completionDTOs;
+		}
+
+		private synchronized void clear() {
+			tree.clear();
+			entries.clear();
+			idsByKey.clear();
+		}
+
+		private synchronized void put(int id, String text, long popularity) {
+			restore(id, new Entry(text, popularity));
+		}
+
+		/**
+		 * Changes the text of the entity, keeping its popularity. A null text
+		 * removes the entity.
+		 *
+		 * @return The previous entry of the entity, or null if there was none.
+		 */
+		private synchronized Entry rename(int id, String text) {
+			Entry previous = entries.get(id);
+			restore(id, text != null ? new Entry(text, previous != null ? previous.popularity() : 0) : null);
+			return previous;
+		}
+
+		private synchronized void count(int id, int delta) {
+			Entry entry = entries.get(id);
+			if (entry != null)
+				restore(id, new Entry(entry.text(), Math.max(0, entry.popularity() + delta)));
+		}
+
+		/**
+		 * Replaces the entry of the entity. A null entry removes the entity.
+		 */
+		private synchronized void restore(int id, Entry entry) {
+			Entry previous = entry != null ? entries.put(id, entry) : entries.remove(id);
+			if (previous != null) {
+				String key = normalize(previous.text()).strip();
+				idsByKey.get(key).remove(id);
+				refresh(key);
+			}
+			if (entry != null) {
+				String key = normalize(entry.text()).strip();
+				idsByKey.computeIfAbsent(key, k -> new TreeSet<>()).add(id);
+				refresh(key);
+			}
+		}
+
+		private void refresh(String key) {
+			Set<Integer> ids = idsByKey.get(key);
+			if (ids.isEmpty()) {
+				idsByKey.remove(key);
+				for (String suffix : suffixes(key)) {
+					tree.remove(suffix);
+				}
+				return;
+			}
+
+			Entry best = null;
+			long popularity = 0;
+			for (int id : ids) {
+				Entry entry = entries.get(id);
+				if (best == null || entry.popularity() > best.popularity())
+					best = entry;
+				popularity += entry.popularity();
+			}
+			Completion completion = new Completion(best.text(), popularity);
+			for (String suffix : suffixes(key)) {
+				tree.put(suffix, completion, popularity);
+			}
+		}
+
+		/**
+		 * Returns the keys of the tree under which the completion of the key is
+		 * stored: every suffix of the key which starts with a word, followed by a
+		 * separator and the key itself, so completions which share a suffix (such
+		 * as "street") don't replace each other.
+		 */
+		private static List<String> suffixes(String key) {
+			List<String> suffixes = new ArrayList<>();
+			for (int i = 0; i < key.length(); i++) {
+				if (Character.isLetterOrDigit(key.charAt(i))
+						&& (i == 0 || !Character.isLetterOrDigit(key.charAt(i - 1))))
+					suffixes.add(key.substring(i) + SEPARATOR + key);
+			}
+			if (suffixes.isEmpty())
+				suffixes.add(key + SEPARATOR + key);
+			return suffixes;
+		}
+
+		/**
+		 * Folds the text, collapses its whitespace and drops the separators.
+		 */
+		private static String normalize(String text) {
+			return TextAnalyzer.fold(text).replace(String.valueOf(SEPARATOR), "").replaceAll("\\s+", " ");
+		}
+	}
+}
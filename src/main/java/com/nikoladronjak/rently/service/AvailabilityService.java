@@ -0,0 +1,241 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import com.nikoladronjak.rently.domain.Property;
+import com.nikoladronjak.rently.dto.AvailabilitySearchDTO;
+import com.nikoladronjak.rently.dto.PropertyDTO;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.PropertyRepository;
+import com.nikoladronjak.rently.repository.PropertySpecifications;
+import com.nikoladronjak.rently.util.OccupancyBitset;
+
+/**
+ * Represents a service class responsible for finding the properties which are
+ * free for a period of days. Every leased property has an occupancy bitset with
+ * one bit per day over a rolling horizon which starts today, so checking a
+ * period of a property costs one word per 64 days and no leases have to be
+ * loaded from the database. The properties that match the filters of the
+ * search are loaded from the database and, for large result sets, their
+ * bitsets are checked in parallel.
+ *
+ * The bitsets are kept up to date by the PropertyBookingService, which reports
+ * every booked and freed lease period. A bitset is replaced instead of being
+ * modified, so the searches read the bitsets without locking. When the horizon
+ * moves past a 64-day word, the bitsets are rebuilt from the lease periods the
+ * next time they are read.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class AvailabilityService {
+
+	/**
+	 * Represents the number of candidate properties above which the bitsets are
+	 * checked in parallel.
+	 */
+	private static final int PARALLEL_THRESHOLD = 4096;
+
+	/**
+	 * Repository for accessing data related to properties.
+	 */
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	/**
+	 * Represents the number of days after today which can be searched (int).
+	 */
+	private final int horizonDays;
+
+	/**
+	 * Represents the number of words in every bitset (int).
+	 */
+	private final int bitsetLength;
+
+	/**
+	 * Represents the occupancies of the leased properties, keyed by propertyId.
+	 */
+	private final Map<Integer, Occupancy> occupancies = new ConcurrentHashMap<>();
+
+	@Autowired
+	public AvailabilityService(@Value("${rently.availability.horizon-days:1095}") int horizonDays) {
+		this.horizonDays = horizonDays;
+		this.bitsetLength = (horizonDays + 63) / 64 + 1;
+	}
+
+	/**
+	 * Finds the properties which are offered for leasing, which are free for
+	 * every day of the period and which match the filters of the search.
+	 *
+	 * @param availabilitySearchDTO The period and the filters of the search.
+	 * @return A list of PropertyDTOs.
+	 * @throws UnprocessableEntityException if the start date is in the past or
+	 *                                      after the end date, or if the end
+	 *                                      date is beyond the horizon.
+	 */
+	public List<PropertyDTO> search(AvailabilitySearchDTO availabilitySearchDTO) {
+		LocalDate today = LocalDate.now();
+		if (availabilitySearchDTO.getStartDate().isBefore(today))
+			throw new UnprocessableEntityException("The start date cannot be in the past.");
+
+		if (availabilitySearchDTO.getStartDate().isAfter(availabilitySearchDTO.getEndDate()))
+			throw new UnprocessableEntityException("The start date has to be before the end date.");
+
+		if (availabilitySearchDTO.getEndDate().isAfter(today.plusDays(horizonDays - 1)))
+			throw new UnprocessableEntityException(
+					"The availability can only be searched up to " + horizonDays + " days in advance.");
+
+		Specification<Property> specification = Specification.where(PropertySpecifications.isOffered())
+				.and(PropertySpecifications.hasType(availabilitySearchDTO.getType()))
+				.and(PropertySpecifications.hasRentalRateAtLeast(availabilitySearchDTO.getMinRentalRate()))
+				.and(PropertySpecifications.hasRentalRateAtMost(availabilitySearchDTO.getMaxRentalRate()))
+				.and(PropertySpecifications.hasSizeAtLeast(availabilitySearchDTO.getMinSize()))
+				.and(PropertySpecifications
+						.hasParkingSpotsAtLeast(availabilitySearchDTO.getMinNumberOfParkingSpots()));
+		List<Property> properties = propertyRepository.findAll(specification);
+
+		long firstWord = OccupancyBitset.wordOf(today.toEpochDay());
+		long startDay = availabilitySearchDTO.getStartDate().toEpochDay();
+		long endDay = availabilitySearchDTO.getEndDate().toEpochDay();
+		Stream<Property> candidates = properties.size() >= PARALLEL_THRESHOLD ? properties.parallelStream()
+				: properties.stream();
+		List<PropertyDTO> propertyDTOs = candidates
+				.filter(property -> isFree(property.getPropertyId(), firstWord, startDay, endDay))
+				.map(property -> convertToDTO(property, firstWord, today.toEpochDay()))
+				.collect(Collectors.toList());
+		return propertyDTOs;
+	}
+
+	/**
+	 * Marks the period of the lease as occupied.
+	 *
+	 * @param leaseId    The id of the lease.
+	 * @param propertyId The id of the leased property.
+	 * @param startDay   The first day of the lease, as an epoch day.
+	 * @param endDay     The last day of the lease, as an epoch day.
+	 */
+	public void occupy(int leaseId, int propertyId, long startDay, long endDay) {
+		Occupancy occupancy = occupancies.computeIfAbsent(propertyId, id -> new Occupancy());
+		synchronized (occupancy) {
+			occupancy.periods.put(leaseId, new long[] { startDay, endDay });
+			OccupancyBitset bitset = current(occupancy, currentWord()).copy();
+			bitset.occupy(startDay, endDay);
+			occupancy.bitset = bitset;
+		}
+	}
+
+	/**
+	 * Frees the period of the lease.
+	 *
+	 * @param leaseId    The id of the lease.
+	 * @param propertyId The id of the leased property.
+	 */
+	public void free(int leaseId, int propertyId) {
+		Occupancy occupancy = occupancies.get(propertyId);
+		if (occupancy == null)
+			return;
+
+		synchronized (occupancy) {
+			if (occupancy.periods.remove(leaseId) != null)
+				occupancy.bitset = build(occupancy, currentWord());
+		}
+	}
+
+	/**
+	 * Frees the periods of all the leases.
+	 */
+	public void clear() {
+		occupancies.clear();
+	}
+
+	private boolean isFree(int propertyId, long firstWord, long startDay, long endDay) {
+		Occupancy occupancy = occupancies.get(propertyId);
+		if (occupancy == null)
+			return true;
+
+		OccupancyBitset bitset = occupancy.bitset;
+		if (bitset == null || bitset.getFirstWord() != firstWord) {
+			synchronized (occupancy) {
+				bitset = current(occupancy, firstWord);
+			}
+		}
+		return bitset.isFree(startDay, endDay);
+	}
+
+	/**
+	 * Returns the bitset of the occupancy, after rebuilding it if the horizon has
+	 * moved since it was built. It has to be called while holding the lock of the
+	 * occupancy.
+	 */
+	private OccupancyBitset current(Occupancy occupancy, long firstWord) {
+		if (occupancy.bitset == null || occupancy.bitset.getFirstWord() != firstWord)
+			occupancy.bitset = build(occupancy, firstWord);
+
+		return occupancy.bitset;
+	}
+
+	private OccupancyBitset build(Occupancy occupancy, long firstWord) {
+		OccupancyBitset bitset = new OccupancyBitset(firstWord, bitsetLength);
+		for (long[] period : occupancy.periods.values()) {
+			bitset.occupy(period[0], period[1]);
+		}
+		return bitset;
+	}
+
+	private static long currentWord() {
+		return OccupancyBitset.wordOf(LocalDate.now().toEpochDay());
+	}
+
+	/**
+	 * Converts a Property entity to a PropertyDTO.
+	 *
+	 * @param property  The Property entity that is being converted.
+	 * @param firstWord The first word of the current horizon.
+	 * @param today     The current day, as an epoch day.
+	 * @return The corresponding PropertyDTO.
+	 */
+	private PropertyDTO convertToDTO(Property property, long firstWord, long today) {
+		PropertyDTO propertyDTO = new PropertyDTO();
+		propertyDTO.setPropertyId(property.getPropertyId());
+		propertyDTO.setName(property.getName());
+		propertyDTO.setAddress(property.getAddress());
+		propertyDTO.setLatitude(property.getLatitude());
+		propertyDTO.setLongitude(property.getLongitude());
+		propertyDTO.setDescription(property.getDescription());
+		propertyDTO.setRentalRate(property.getRentalRate());
+		propertyDTO.setSize(property.getSize());
+		propertyDTO.setIsAvailable(property.isAvailable() && isFree(property.getPropertyId(), firstWord, today, today));
+		propertyDTO.setNumberOfParkingSpots(property.getNumberOfParkingSpots());
+		propertyDTO.setPhotos(property.getPhotos());
+
+		return propertyDTO;
+	}
+
+	/**
+	 * Represents the lease periods of a single property and the bitset which is
+	 * built from them.
+	 */
+	private static final class Occupancy {
+
+		/**
+		 * Represents the periods of the leases as epoch days, keyed by leaseId.
+		 */
+		private final Map<Integer, long[]> periods = new HashMap<>();
+
+		/**
+		 * Represents the bitset of the periods over the current horizon.
+		 */
+		private volatile OccupancyBitset bitset;
+	}
+}
@@ -0,0 +1,515 @@
+package com.nikoladronjak.rently.service;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.nikoladronjak.rently.controller.BatchController;
+import com.nikoladronjak.rently.dto.BatchOperationDTO;
+import com.nikoladronjak.rently.dto.BatchRequestDTO;
+import com.nikoladronjak.rently.dto.BatchResultDTO;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.exception.BadRequestException;
+import com.nikoladronjak.rently.exception.FailedDependencyException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.validation.PrecompiledValidator;
+
+/**
+ * Represents a service class responsible for executing batch requests. Every
+ * operation of a batch is dispatched to the controller method which handles
+ * the same method and url in a regular HTTP request, so the operations behave
+ * exactly like the individual end-points.
+ *
+ * The operations are executed in order. The url and the body of an operation
+ * can reference the results of the earlier operations with
+ * {@code @{referenceId.field}}. In allOrNone mode the whole batch runs in one
+ * transaction which is rolled back by the first failed operation. Otherwise
+ * every operation runs in its own transaction and only the operations which
+ * reference a failed operation are skipped.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class BatchService {
+
+	/**
+	 * Represents the pattern of a reference to the result of an earlier operation.
+	 */
+	private static final Pattern REFERENCE = Pattern.compile("@\\{([A-Za-z0-9_-]+)\\.([A-Za-z0-9_.]+)\\}");
+
+	/**
+	 * Represents the discoverer of the names of the parameters of the controller
+	 * methods, used for binding the path variables (ParameterNameDiscoverer).
+	 */
+	private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+	/**
+	 * Handler mapping of Spring MVC, used for finding the controller method of an
+	 * operation.
+	 */
+	@Autowired
+	@Qualifier("requestMappingHandlerMapping")
+	private RequestMappingHandlerMapping handlerMapping;
+
+	/**
+	 * Object mapper used for converting the bodies of the operations.
+	 */
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	/**
+	 * Template for executing the operations in transactions.
+	 */
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * Represents the maximum number of operations in one batch (int).
+	 */
+	private final int maxOperations;
+
+	/**
+	 * Represents the service which converts the path variables to the types of
+	 * the parameters (ConversionService).
+	 */
+	private final ConversionService conversionService;
+
+	/**
+	 * Represents the validator of the bodies of the operations
+	 * (PrecompiledValidator).
+	 */
+	private final PrecompiledValidator validator;
+
+	/**
+	 * Represents the end-points which can be called from a batch. They are
+	 * collected from the handler mapping the first time a batch is executed.
+	 */
+	private volatile List<Route> routes;
+
+	@Autowired
+	public BatchService(PlatformTransactionManager transactionManager,
+			@Value("${rently.batch.max-operations:100}") int maxOperations) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.maxOperations = maxOperations;
+		this.conversionService = DefaultConversionService.getSharedInstance();
+		this.validator = new PrecompiledValidator();
+	}
+
+	/**
+	 * Executes the operations of the batch request in order.
+	 *
+	 * @param batchRequestDTO The BatchRequestDTO containing the operations that are
+	 *                        being executed.
+	 * @return The list of BatchResultDTOs, one for every operation, in the order
+	 *         of the operations.
+	 * @throws BadRequestException if the batch has too many operations or if two
+	 *                             operations have the same reference id.
+	 */
+	public List<BatchResultDTO> execute(BatchRequestDTO batchRequestDTO) {
+		List<BatchOperationDTO> operations = batchRequestDTO.getOperations();
+		if (operations.size() > maxOperations)
+			throw new BadRequestException("A batch can contain at most " + maxOperations + " operations.");
+
+		Set<String> referenceIds = new HashSet<>();
+		for (BatchOperationDTO operation : operations) {
+			if (operation.getReferenceId() != null && !referenceIds.add(operation.getReferenceId()))
+				throw new BadRequestException(
+						"The reference id " + operation.getReferenceId() + " is used by more than one operation.");
+		}
+
+		if (Boolean.FALSE.equals(batchRequestDTO.getAllOrNone()))
+			return executeIndependently(operations);
+
+		return executeAllOrNone(operations);
+	}
+
+	/**
+	 * Executes all the operations in one transaction. If an operation fails the
+	 * transaction is rolled back and the other operations are reported with
+	 * HttpStatus.FAILED_DEPENDENCY status (424).
+	 *
+	 * @param operations The operations that are being executed.
+	 * @return The list of the results of the operations.
+	 */
+	private List<BatchResultDTO> executeAllOrNone(List<BatchOperationDTO> operations) {
+		Map<String, JsonNode> outputs = new HashMap<>();
+		List<BatchResultDTO> results = new ArrayList<>(operations.size());
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				for (BatchOperationDTO operation : operations) {
+					BatchResultDTO result = executeOperation(operation, outputs, Set.of(), status);
+					results.add(result);
+					if (!isSuccessful(result)) {
+						status.setRollbackOnly();
+						return;
+					}
+				}
+			});
+		} catch (RuntimeException e) {
+			ResponseEntity<ErrorDTO> response = RentlyExceptionHandler.toResponse(e);
+			results.clear();
+			for (BatchOperationDTO operation : operations) {
+				results.add(new BatchResultDTO(operation.getReferenceId(), response.getStatusCode().value(),
+						response.getBody()));
+			}
+			return results;
+		}
+
+		if (results.size() == operations.size() && isSuccessful(results.get(results.size() - 1)))
+			return results;
+
+		int failed = results.size() - 1;
+		for (int i = 0; i < operations.size(); i++) {
+			if (i < failed)
+				results.set(i, failedDependency(operations.get(i),
+						"The operation was rolled back because another operation of the batch failed."));
+			else if (i > failed)
+				results.add(failedDependency(operations.get(i),
+						"The operation was not executed because another operation of the batch failed."));
+		}
+		return results;
+	}
+
+	/**
+	 * Executes every operation in its own transaction. The operations which
+	 * reference a failed operation are reported with HttpStatus.FAILED_DEPENDENCY
+	 * status (424).
+	 *
+	 * @param operations The operations that are being executed.
+	 * @return The list of the results of the operations.
+	 */
+	private List<BatchResultDTO> executeIndependently(List<BatchOperationDTO> operations) {
+		Map<String, JsonNode> outputs = new HashMap<>();
+		Set<String> failed = new HashSet<>();
+		List<BatchResultDTO> results = new ArrayList<>(operations.size());
+		for (BatchOperationDTO operation : operations) {
+			BatchResultDTO result;
+			try {
+				result = transactionTemplate.execute(status -> {
+					BatchResultDTO operationResult = executeOperation(operation, outputs, failed, status);
+					if (!isSuccessful(operationResult))
+						status.setRollbackOnly();
+					return operationResult;
+				});
+			} catch (RuntimeException e) {
+				ResponseEntity<ErrorDTO> response = RentlyExceptionHandler.toResponse(e);
+				result = new BatchResultDTO(operation.getReferenceId(), response.getStatusCode().value(),
+						response.getBody());
+				outputs.remove(operation.getReferenceId());
+			}
+
+			if (!isSuccessful(result) && operation.getReferenceId() != null)
+				failed.add(operation.getReferenceId());
+			results.add(result);
+		}
+		return results;
+	}
+
+	/**
+	 * Executes a single operation. The changes of the operation are flushed to the
+	 * database, so that the violated constraints are reported for the operation
+	 * which caused them.
+	 *
+	 * @param operation The operation that is being executed.
+	 * @param outputs   The results of the earlier successful operations, by their
+	 *                  reference ids.
+	 * @param failed    The reference ids of the earlier failed operations.
+	 * @param status    The status of the transaction of the operation.
+	 * @return The result of the operation.
+	 */
+	private BatchResultDTO executeOperation(BatchOperationDTO operation, Map<String, JsonNode> outputs,
+			Set<String> failed, TransactionStatus status) {
+		String referenceId = operation.getReferenceId();
+		try {
+			String url = resolveText(operation.getUrl(), outputs, failed);
+			JsonNode body = operation.getBody() == null ? null : resolve(operation.getBody(), outputs, failed);
+			ResponseEntity<?> response = dispatch(RequestMethod.valueOf(operation.getMethod().toUpperCase()), url,
+					body);
+			status.flush();
+
+			if (referenceId != null && response.getStatusCode().is2xxSuccessful())
+				outputs.put(referenceId, objectMapper.valueToTree(response.getBody()));
+			return new BatchResultDTO(referenceId, response.getStatusCode().value(), response.getBody());
+		} catch (RuntimeException e) {
+			ResponseEntity<ErrorDTO> response = RentlyExceptionHandler.toResponse(e);
+			return new BatchResultDTO(referenceId, response.getStatusCode().value(), response.getBody());
+		}
+	}
+
+	/**
+	 * Finds the controller method of the operation and invokes it.
+	 *
+	 * @param method The HTTP method of the operation.
+	 * @param url    The url of the operation, with the references resolved.
+	 * @param body   The body of the operation, with the references resolved.
+	 * @return The ResponseEntity returned by the controller method.
+	 * @throws BadRequestException if the url contains query parameters or if the
+	 *                             body is missing or invalid.
+	 * @throws NotFoundException   if there is no end-point for the method and url.
+	 */
+	private ResponseEntity<?> dispatch(RequestMethod method, String url, JsonNode body) {
+		if (url.indexOf('?') >= 0)
+			throw new BadRequestException("Query parameters are not supported in batch operations.");
+
+		PathContainer path = PathContainer.parsePath(url);
+		for (Route route : getRoutes()) {
+			if (!route.methods.isEmpty() && !route.methods.contains(method))
+				continue;
+
+			PathPattern.PathMatchInfo matchInfo = route.pattern.matchAndExtract(path);
+			if (matchInfo != null)
+				return invoke(route.handlerMethod, matchInfo.getUriVariables(), body);
+		}
+		throw new NotFoundException("There is no end-point for " + method + " " + url + ".");
+	}
+
+	private ResponseEntity<?> invoke(HandlerMethod handlerMethod, Map<String, String> uriVariables, JsonNode body) {
+		MethodParameter[] parameters = handlerMethod.getMethodParameters();
+		Object[] arguments = new Object[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			MethodParameter parameter = parameters[i];
+			PathVariable pathVariable = parameter.getParameterAnnotation(PathVariable.class);
+			if (pathVariable != null) {
+				String name = pathVariable.value().isEmpty() ? parameter.getParameterName() : pathVariable.value();
+				try {
+					arguments[i] = conversionService.convert(uriVariables.get(name), parameter.getParameterType());
+				} catch (ConversionException e) {
+					throw new BadRequestException("The value of the path variable " + name + " is invalid.");
+				}
+			} else if (isOptionalRequestParam(parameter)) {
+				arguments[i] = null;
+			} else {
+				arguments[i] = readBody(parameter, body);
+			}
+		}
+
+		Object bean = handlerMethod.createWithResolvedBean().getBean();
+		try {
+			Object returnValue = handlerMethod.getMethod().invoke(bean, arguments);
+			return returnValue instanceof ResponseEntity<?> response ? response : ResponseEntity.ok(returnValue);
+		} catch (InvocationTargetException e) {
+			if (e.getCause() instanceof RuntimeException cause)
+				throw cause;
+			throw new IllegalStateException(e.getCause());
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Converts the body of the operation into the type of the request body of the
+	 * controller method and validates it with the groups of its Validated
+	 * annotation, like Spring MVC does for a regular HTTP request.
+	 */
+	private Object readBody(MethodParameter parameter, JsonNode body) {
+		if (body == null || body.isNull())
+			throw new BadRequestException("The operation requires a request body.");
+
+		Object value;
+		try {
+			value = objectMapper.treeToValue(body, parameter.getParameterType());
+		} catch (Exception e) {
+			throw new BadRequestException("The request body of the operation is malformed.");
+		}
+
+		Validated validated = parameter.getParameterAnnotation(Validated.class);
+		if (validated != null) {
+			Map<String, String> errors = validator.validate(value, validated.value());
+			if (!errors.isEmpty())
+				throw new BadRequestException("The request contains invalid fields.", errors);
+		}
+		return value;
+	}
+
+	/**
+	 * Replaces the references in the JSON value with the referenced values. A
+	 * string which consists of a single reference is replaced with the referenced
+	 * value itself, so that numeric ids stay numbers.
+	 */
+	private JsonNode resolve(JsonNode node, Map<String, JsonNode> outputs, Set<String> failed) {
+		if (node.isTextual()) {
+			Matcher matcher = REFERENCE.matcher(node.textValue());
+			if (matcher.matches())
+				return lookup(matcher.group(1), matcher.group(2), outputs, failed);
+
+			return TextNode.valueOf(resolveText(node.textValue(), outputs, failed));
+		}
+		if (node.isObject()) {
+			ObjectNode resolved = objectMapper.createObjectNode();
+			Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				resolved.set(field.getKey(), resolve(field.getValue(), outputs, failed));
+			}
+			return resolved;
+		}
+		if (node.isArray()) {
+			ArrayNode resolved = objectMapper.createArrayNode();
+			for (JsonNode element : node) {
+				resolved.add(resolve(element, outputs, failed));
+			}
+			return resolved;
+		}
+		return node;
+	}
+
+	private String resolveText(String text, Map<String, JsonNode> outputs, Set<String> failed) {
+		if (text.indexOf('@') < 0)
+			return text;
+
+		Matcher matcher = REFERENCE.matcher(text);
+		StringBuilder resolved = new StringBuilder();
+		while (matcher.find()) {
+			JsonNode value = lookup(matcher.group(1), matcher.group(2), outputs, failed);
+			matcher.appendReplacement(resolved, Matcher.quoteReplacement(value.asText()));
+		}
+		matcher.appendTail(resolved);
+		return resolved.toString();
+	}
+
+	/**
+	 * Returns the value of a field of the result of an earlier operation. The path
+	 * can contain the names of nested fields and the indexes of list elements,
+	 * separated by dots.
+	 *
+	 * @throws FailedDependencyException if the referenced operation has failed.
+	 * @throws BadRequestException       if the referenced operation or field
+	 *                                   doesn't exist.
+	 */
+	private JsonNode lookup(String referenceId, String path, Map<String, JsonNode> outputs, Set<String> failed) {
+		if (failed.contains(referenceId))
+			throw new FailedDependencyException(
+					"The operation depends on the operation " + referenceId + " which has failed.");
+
+		JsonNode value = outputs.get(referenceId);
+		if (value == null)
+			throw new BadRequestException(
+					"The operation references " + referenceId + " which is not an earlier operation of the batch.");
+
+		for (String field : path.split("\\.")) {
+			value = value.isArray() && field.chars().allMatch(Character::isDigit) ? value.path(Integer.parseInt(field))
+					: value.path(field);
+		}
+		if (value.isMissingNode() || value.isNull())
+			throw new BadRequestException("The result of the operation " + referenceId + " has no field " + path + ".");
+
+		return value;
+	}
+
+	private static boolean isSuccessful(BatchResultDTO result) {
+		return HttpStatus.valueOf(result.getStatus()).is2xxSuccessful();
+	}
+
+	private static BatchResultDTO failedDependency(BatchOperationDTO operation, String message) {
+		return new BatchResultDTO(operation.getReferenceId(), HttpStatus.FAILED_DEPENDENCY.value(),
+				new ErrorDTO(HttpStatus.FAILED_DEPENDENCY.value(), message, null));
+	}
+
+	/**
+	 * Returns the end-points which can be called from a batch. Only the controller
+	 * methods whose parameters are path variables and a request body are
+	 * supported, which leaves out the asynchronous end-points and the batch
+	 * end-point itself.
+	 */
+	private List<Route> getRoutes() {
+		List<Route> result = routes;
+		if (result != null)
+			return result;
+
+		result = new ArrayList<>();
+		for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+			RequestMappingInfo info = entry.getKey();
+			HandlerMethod handlerMethod = entry.getValue();
+			if (handlerMethod.getBeanType() == BatchController.class || !info.getParamsCondition().isEmpty()
+					|| !isSupported(handlerMethod))
+				continue;
+
+			Method method = handlerMethod.getMethod();
+			ReflectionUtils.makeAccessible(method);
+			for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+				parameter.initParameterNameDiscovery(PARAMETER_NAME_DISCOVERER);
+			}
+			Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+			for (String pattern : info.getPatternValues()) {
+				result.add(new Route(methods, PathPatternParser.defaultInstance.parse(pattern), handlerMethod));
+			}
+		}
+		result.sort(Comparator.comparing(Route::pattern, PathPattern.SPECIFICITY_COMPARATOR));
+		routes = result;
+		return result;
+	}
+
+	private static boolean isSupported(HandlerMethod handlerMethod) {
+		for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+			if (!parameter.hasParameterAnnotation(PathVariable.class)
+					&& !parameter.hasParameterAnnotation(RequestBody.class) && !isOptionalRequestParam(parameter))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the parameter is an optional query parameter without a
+	 * default value. Batch operations have no query parameters, so such a
+	 * parameter is always absent.
+	 */
+	private static boolean isOptionalRequestParam(MethodParameter parameter) {
+		RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+		return requestParam != null && !requestParam.required()
+				&& ValueConstants.DEFAULT_NONE.equals(requestParam.defaultValue());
+	}
+
+	/**
+	 * Represents an end-point which can be called from a batch.
+	 *
+	 * @param methods       The HTTP methods of the end-point. An empty set matches
+	 *                      every method.
+	 * @param pattern       The url pattern of the end-point.
+	 * @param handlerMethod The controller method which handles the end-point.
+	 */
+	private record Route(Set<RequestMethod> methods, PathPattern pattern, HandlerMethod handlerMethod) {
+	}
+}
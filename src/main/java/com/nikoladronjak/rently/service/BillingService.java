@@ -0,0 +1,408 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nikoladronjak.rently.domain.BillingPartition;
+import com.nikoladronjak.rently.domain.BillingRun;
+import com.nikoladronjak.rently.domain.BillingRunStatus;
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.Rent;
+import com.nikoladronjak.rently.domain.UtilityLease;
+import com.nikoladronjak.rently.dto.BillingRunDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.BillingPartitionRepository;
+import com.nikoladronjak.rently.repository.BillingRunRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.RentRepository;
+import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Represents a service class responsible for the month-end billing runs. A
+ * billing run generates the rents of a billing period (month) for all the
+ * leases which are active on at least one day of that month. The total rent of
+ * a lease is its rental rate plus the rental rates of the utility leases of
+ * the leased property.
+ *
+ * When a run starts, the range of the leaseIds is split into partitions of
+ * consecutive ids, which are processed in parallel by a bounded pool of worker
+ * threads. Every partition inserts its rents in batches, one transaction per
+ * batch, and it is recorded as a BillingPartition once all of its rents have
+ * been inserted. Every batch also adds its rents to the count of the run in the
+ * same transaction, so the count includes the rents of the batches which were
+ * committed before the run was interrupted. The client can follow the progress
+ * of the run while the partitions are being processed.
+ *
+ * A run is idempotent for its billing period: leases which already have a rent
+ * for the period are skipped, and the database allows only one rent per lease
+ * and period. A run which failed or was interrupted by a shutdown can be
+ * started again, in which case only the partitions which were not recorded are
+ * processed. The range of the leaseIds is read again on every start, so a run
+ * which has already been completed can be started again to bill the leases
+ * which were added to the period later.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class BillingService {
+
+	/**
+	 * Repository for accessing data related to leases.
+	 */
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	/**
+	 * Repository for accessing data related to utility leases.
+	 */
+	@Autowired
+	private UtilityLeaseRepository utilityLeaseRepository;
+
+	/**
+	 * Repository for accessing data related to rents.
+	 */
+	@Autowired
+	private RentRepository rentRepository;
+
+	/**
+	 * Repository for accessing data related to billing runs.
+	 */
+	@Autowired
+	private BillingRunRepository billingRunRepository;
+
+	/**
+	 * Repository for accessing data related to the processed partitions of the
+	 * billing runs.
+	 */
+	@Autowired
+	private BillingPartitionRepository billingPartitionRepository;
+
+	/**
+	 * Represents the pool of threads which process the partitions.
+	 */
+	private final ExecutorService workers;
+
+	/**
+	 * Represents the number of consecutive leaseIds in a partition (int).
+	 */
+	private final int partitionSize;
+
+	/**
+	 * Represents the maximum number of rents which are inserted in one
+	 * transaction (int).
+	 */
+	private final int batchSize;
+
+	/**
+	 * Represents the billing periods whose runs are being processed.
+	 */
+	private final Set<String> activeRuns = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Template for executing the batches of a partition in their own
+	 * transactions.
+	 */
+	private final TransactionTemplate transactionTemplate;
+
+	@Autowired
+	public BillingService(PlatformTransactionManager transactionManager,
+			@Value("${rently.billing.workers:4}") int workers,
+			@Value("${rently.billing.partition-size:1000}") int partitionSize,
+			@Value("${rently.billing.batch-size:100}") int batchSize) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		AtomicInteger threads = new AtomicInteger();
+		this.workers = Executors.newFixedThreadPool(workers, runnable -> {
+			Thread thread = new Thread(runnable, "rently-billing-" + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.partitionSize = partitionSize;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Marks the runs which were still running when the application stopped as
+	 * failed, so they can be started again.
+	 */
+	@PostConstruct
+	public void recover() {
+		for (BillingRun billingRun : billingRunRepository.findAllByStatus(BillingRunStatus.Running)) {
+			billingRun.setStatus(BillingRunStatus.Failed);
+			billingRunRepository.save(billingRun);
+		}
+	}
+
+	/**
+	 * Stops the worker threads. The partitions which have not been recorded yet
+	 * are processed when the run is started again.
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		workers.shutdownNow();
+		workers.awaitTermination(30, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Retrieves all the billing runs from the database.
+	 *
+	 * @return List of BillingRunDTO objects representing the billing runs.
+	 */
+	public List<BillingRunDTO> getAll() {
+		return billingRunRepository.findAll().stream().map(this::convertToDTO).collect(Collectors.toList());
+	}
+
+	/**
+	 * Retrieves the progress of the billing run of the given billing period.
+	 *
+	 * @param billingPeriod The month of the billing run (yyyy-MM).
+	 * @return The BillingRunDTO of the billing run.
+	 * @throws UnprocessableEntityException if the billing period is not in the
+	 *                                      yyyy-MM format.
+	 * @throws NotFoundException            if there is no billing run for the
+	 *                                      given billing period.
+	 */
+	public BillingRunDTO getByBillingPeriod(String billingPeriod) {
+		YearMonth period = parse(billingPeriod);
+		Optional<BillingRun> billingRunFromDb = billingRunRepository.findByBillingPeriod(period.toString());
+		if (!billingRunFromDb.isPresent())
+			throw new NotFoundException("There is no billing run for the given billing period.");
+
+		return convertToDTO(billingRunFromDb.get());
+	}
+
+	/**
+	 * Starts the billing run of the given billing period, or resumes it if it
+	 * failed or was interrupted. The partitions are processed in the background
+	 * and this method returns as soon as they have been submitted. If the run has
+	 * already been completed, only the leases which were added since then are
+	 * billed, and if there are none, nothing is processed.
+	 *
+	 * @param billingPeriod The month for which the rents are generated (yyyy-MM).
+	 * @return The BillingRunDTO with the progress of the run.
+	 * @throws UnprocessableEntityException if the billing period is not in the
+	 *                                      yyyy-MM format.
+	 * @throws ConflictException            if the run of the billing period is
+	 *                                      already being processed.
+	 */
+	public BillingRunDTO start(String billingPeriod) {
+		YearMonth period = parse(billingPeriod);
+		if (!activeRuns.add(period.toString()))
+			throw new ConflictException("The billing run for the given billing period is already in progress.");
+
+		try {
+			BillingRun billingRun = transactionTemplate.execute(status -> prepare(period));
+			if (billingRun.getStatus() == BillingRunStatus.Completed) {
+				activeRuns.remove(period.toString());
+				return convertToDTO(billingRun);
+			}
+
+			Set<Integer> completed = billingPartitionRepository
+					.findAllByBillingRun_BillingRunId(billingRun.getBillingRunId()).stream()
+					.map(BillingPartition::getPartitionIndex).collect(Collectors.toSet());
+			List<CompletableFuture<Void>> partitions = new ArrayList<>();
+			for (int partitionIndex = 0; partitionIndex < billingRun.getPartitions(); partitionIndex++) {
+				if (completed.contains(partitionIndex))
+					continue;
+
+				int index = partitionIndex;
+				partitions.add(CompletableFuture.runAsync(() -> bill(billingRun, period, index), workers));
+			}
+			CompletableFuture.allOf(partitions.toArray(CompletableFuture[]::new))
+					.whenComplete((result, exception) -> finish(billingRun, exception == null));
+			return getByBillingPeriod(period.toString());
+		} catch (RuntimeException e) {
+			activeRuns.remove(period.toString());
+			throw e;
+		}
+	}
+
+	/**
+	 * Loads the billing run of the period, or creates it with the partitions of
+	 * the current range of the leaseIds. The range of an existing run is extended
+	 * to the leases which were added since the run was started, and the
+	 * partition which held the last lease of the old range is processed again,
+	 * since it has grown. A run which is not completed, or whose range was
+	 * extended, is marked as running again.
+	 *
+	 * @param period The billing period.
+	 * @return The billing run.
+	 */
+	private BillingRun prepare(YearMonth period) {
+		Integer firstLeaseId = leaseRepository.findMinLeaseId();
+		Integer lastLeaseId = leaseRepository.findMaxLeaseId();
+		Optional<BillingRun> billingRunFromDb = billingRunRepository.findByBillingPeriod(period.toString());
+		if (billingRunFromDb.isPresent()) {
+			BillingRun billingRun = billingRunFromDb.get();
+			boolean isExtended = lastLeaseId != null && lastLeaseId > billingRun.getLastLeaseId();
+			if (billingRun.getStatus() == BillingRunStatus.Completed && !isExtended)
+				return billingRun;
+
+			if (isExtended)
+				extend(billingRun, firstLeaseId, lastLeaseId);
+			billingRun.setStatus(BillingRunStatus.Running);
+			return billingRunRepository.save(billingRun);
+		}
+
+		int partitions = firstLeaseId == null ? 0 : (lastLeaseId - firstLeaseId) / partitionSize + 1;
+		return billingRunRepository.save(new BillingRun(0, period.toString(), BillingRunStatus.Running,
+				firstLeaseId == null ? 0 : firstLeaseId, lastLeaseId == null ? 0 : lastLeaseId, partitionSize,
+				partitions, 0));
+	}
+
+	/**
+	 * Extends the range of the leaseIds of the billing run to the given last
+	 * leaseId. The leaseIds only grow, so the new leases are appended to the last
+	 * partition and to the new partitions after it.
+	 *
+	 * @param billingRun   The billing run.
+	 * @param firstLeaseId The smallest leaseId, used if the run had no leases.
+	 * @param lastLeaseId  The largest leaseId.
+	 */
+	private void extend(BillingRun billingRun, int firstLeaseId, int lastLeaseId) {
+		if (billingRun.getPartitions() == 0) {
+			billingRun.setFirstLeaseId(firstLeaseId);
+		} else {
+			int lastPartitionIndex = billingRun.getPartitions() - 1;
+			billingPartitionRepository.deleteAllByBillingRun_BillingRunIdAndPartitionIndex(
+					billingRun.getBillingRunId(), lastPartitionIndex);
+		}
+		billingRun.setLastLeaseId(lastLeaseId);
+		billingRun.setPartitions((lastLeaseId - billingRun.getFirstLeaseId()) / billingRun.getPartitionSize() + 1);
+	}
+
+	/**
+	 * Generates the rents of a single partition and records the partition as
+	 * processed.
+	 *
+	 * @param billingRun The billing run.
+	 * @param period     The billing period.
+	 * @param index      The index of the partition.
+	 */
+	private void bill(BillingRun billingRun, YearMonth period, int index) {
+		int firstLeaseId = billingRun.getFirstLeaseId() + index * billingRun.getPartitionSize();
+		int lastLeaseId = Math.min(firstLeaseId + billingRun.getPartitionSize() - 1, billingRun.getLastLeaseId());
+		ZoneId zone = ZoneId.systemDefault();
+		GregorianCalendar periodStart = GregorianCalendar.from(period.atDay(1).atStartOfDay(zone));
+		GregorianCalendar periodEnd = GregorianCalendar.from(period.atEndOfMonth().atStartOfDay(zone));
+
+		Set<Integer> billed = Set.copyOf(rentRepository.findBilledLeaseIds(period.toString(), firstLeaseId,
+				lastLeaseId));
+		List<Lease> leases = leaseRepository.findActive(firstLeaseId, lastLeaseId, periodStart, periodEnd).stream()
+				.filter(lease -> !billed.contains(lease.getLeaseId())).collect(Collectors.toList());
+
+		for (int from = 0; from < leases.size(); from += batchSize) {
+			List<Lease> batch = leases.subList(from, Math.min(from + batchSize, leases.size()));
+			transactionTemplate.executeWithoutResult(status -> {
+				insert(batch, period.toString());
+				billingRunRepository.addRentsCreated(billingRun.getBillingRunId(), batch.size());
+			});
+		}
+		transactionTemplate.executeWithoutResult(status -> billingPartitionRepository
+				.save(new BillingPartition(0, index, leases.size(), billingRun)));
+	}
+
+	/**
+	 * Inserts the rents of a batch of leases and links them to the utility leases
+	 * of the leased properties.
+	 *
+	 * @param leases        The leases which are being billed.
+	 * @param billingPeriod The billing period (yyyy-MM).
+	 */
+	private void insert(List<Lease> leases, String billingPeriod) {
+		Set<Integer> propertyIds = leases.stream().map(lease -> lease.getProperty().getPropertyId())
+				.collect(Collectors.toSet());
+		Map<Integer, List<UtilityLease>> utilityLeases = utilityLeaseRepository
+				.findAllByProperty_PropertyIdIn(propertyIds).stream()
+				.collect(Collectors.groupingBy(utilityLease -> utilityLease.getProperty().getPropertyId()));
+
+		List<Rent> rents = new ArrayList<>(leases.size());
+		for (Lease lease : leases) {
+			List<UtilityLease> propertyUtilityLeases = utilityLeases.getOrDefault(lease.getProperty().getPropertyId(),
+					List.of());
+			double totalRent = lease.getRentalRate();
+			for (UtilityLease utilityLease : propertyUtilityLeases) {
+				totalRent += utilityLease.getRentalRate();
+			}
+
+			Rent rent = new Rent();
+			rent.setLease(lease);
+			rent.setBillingPeriod(billingPeriod);
+			rent.setTotalRent(totalRent);
+			rent.setUtilityLeases(new ArrayList<>(propertyUtilityLeases));
+			rents.add(rent);
+		}
+
+		for (Rent rent : rentRepository.saveAll(rents)) {
+			for (UtilityLease utilityLease : rent.getUtilityLeases()) {
+				utilityLease.getRents().add(rent);
+			}
+		}
+	}
+
+	/**
+	 * Records the outcome of a billing run once all of its partitions have been
+	 * processed.
+	 *
+	 * @param billingRun The billing run.
+	 * @param succeeded  Whether every partition was processed.
+	 */
+	private void finish(BillingRun billingRun, boolean succeeded) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				BillingRun billingRunFromDb = billingRunRepository.findById(billingRun.getBillingRunId()).get();
+				billingRunFromDb.setStatus(succeeded ? BillingRunStatus.Completed : BillingRunStatus.Failed);
+				billingRunRepository.save(billingRunFromDb);
+			});
+		} finally {
+			activeRuns.remove(billingRun.getBillingPeriod());
+		}
+	}
+
+	private static YearMonth parse(String billingPeriod) {
+		try {
+			return YearMonth.parse(billingPeriod);
+		} catch (DateTimeParseException e) {
+			throw new UnprocessableEntityException("The billing period has to be in the yyyy-MM format.");
+		}
+	}
+
+	/**
+	 * Converts a BillingRun entity to a BillingRunDTO with the progress of the
+	 * run.
+	 *
+	 * @param billingRun The BillingRun entity that is being converted.
+	 * @return The corresponding BillingRunDTO.
+	 */
+	private BillingRunDTO convertToDTO(BillingRun billingRun) {
+		List<BillingPartition> completed = billingPartitionRepository
+				.findAllByBillingRun_BillingRunId(billingRun.getBillingRunId());
+
+		return new BillingRunDTO(billingRun.getBillingPeriod(), billingRun.getStatus(), billingRun.getPartitions(),
+				completed.size(), billingRun.getRentsCreated());
+	}
+}
@@ -0,0 +1,181 @@
+package com.nikoladronjak.rently.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.nikoladronjak.rently.domain.DuplicateAddressAction;
+import com.nikoladronjak.rently.domain.Property;
+import com.nikoladronjak.rently.dto.DuplicateAddressDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.PropertyRepository;
+import com.nikoladronjak.rently.repository.PropertyRepository.PropertyAddress;
+import com.nikoladronjak.rently.util.AddressNormalizer;
+import com.nikoladronjak.rently.util.TransactionHooks;
+import com.nikoladronjak.rently.util.TrigramIndex;
+import com.nikoladronjak.rently.util.TrigramIndex.Match;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Represents a service class responsible for finding properties which were
+ * entered more than once under slightly different addresses, such as "12 Main
+ * St." and "12 Main Street".
+ *
+ * The addresses of all the properties are normalised and kept in a trigram
+ * index. Two addresses are considered the same property if the similarity of
+ * their trigrams reaches the threshold and they contain the same numbers, so
+ * neighbouring houses of the same street are not reported. When a property is
+ * added or its address is modified, the similar properties are either
+ * returned with it or the property is rejected, depending on the configured
+ * action. The index is loaded from the database when the application starts,
+ * and afterwards the property services update it. A change which is rolled
+ * back is undone the same way.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class DuplicateAddressService {
+
+	/**
+	 * Repository for accessing data related to properties.
+	 */
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	/**
+	 * Represents the normalised addresses of the properties.
+	 */
+	private final TrigramIndex index = new TrigramIndex();
+
+	/**
+	 * Represents the addresses of the properties as they were entered, by the
+	 * ids of the properties.
+	 */
+	private final Map<Integer, String> addresses = new ConcurrentHashMap<Integer, String>();
+
+	/**
+	 * Represents the lowest similarity of the addresses of the same property
+	 * (double).
+	 */
+	private final double threshold;
+
+	/**
+	 * Represents what happens when a similar address is found
+	 * (DuplicateAddressAction).
+	 */
+	private final DuplicateAddressAction action;
+
+	@Autowired
+	public DuplicateAddressService(@Value("${rently.duplicates.threshold:0.5}") double threshold,
+			@Value("${rently.duplicates.action:Reject}") DuplicateAddressAction action) {
+		this.threshold = threshold;
+		this.action = action;
+	}
+
+	/**
+	 * Loads the addresses of all the properties from the database.
+	 */
+	@PostConstruct
+	public synchronized void rebuild() {
+		index.clear();
+		addresses.clear();
+		for (PropertyAddress address : propertyRepository.findAllAddresses()) {
+			put(address.getPropertyId(), address.getAddress());
+		}
+	}
+
+	/**
+	 * Finds the properties whose addresses are similar to the address of a
+	 * property which is being added or modified.
+	 *
+	 * @param propertyId The id of the modified property, or null for a new
+	 *                   property.
+	 * @param address    The address of the property.
+	 * @return The ids of the similar properties, from the most similar. The list
+	 *         is empty if there are none.
+	 * @throws ConflictException if a similar property exists and similar
+	 *                           properties are rejected.
+	 */
+	public List<Integer> check(Integer propertyId, String address) {
+		List<Integer> propertyIds = index
+				.find(AddressNormalizer.normalize(address), threshold, DuplicateAddressService::sameNumbers).stream()
+				.map(Match::id).filter(id -> !id.equals(propertyId)).collect(Collectors.toList());
+		if (!propertyIds.isEmpty() && action == DuplicateAddressAction.Reject)
+			throw new ConflictException(
+					"This property is probably the same as the property with the id " + propertyIds.get(0) + ".");
+
+		return propertyIds;
+	}
+
+	/**
+	 * Finds all the pairs of properties whose addresses are similar. The
+	 * addresses are compared in parallel.
+	 *
+	 * @param threshold The lowest similarity of the addresses, or null for the
+	 *                  configured threshold.
+	 * @return A list of DuplicateAddressDTOs, from the most similar.
+	 * @throws UnprocessableEntityException if the threshold is not between 0
+	 *                                      (exclusive) and 1.
+	 */
+	public List<DuplicateAddressDTO> report(Double threshold) {
+		if (threshold != null && (threshold <= 0 || threshold > 1))
+			throw new UnprocessableEntityException("The threshold has to be greater than 0 and at most 1.");
+
+		List<DuplicateAddressDTO> duplicateAddressDTOs = index
+				.pairs(threshold != null ? threshold : this.threshold, DuplicateAddressService::sameNumbers).stream()
+				.map(pair -> new DuplicateAddressDTO(pair.firstId(), addresses.get(pair.firstId()), pair.secondId(),
+						addresses.get(pair.secondId()), Math.round(pair.similarity() * 1000) / 1000.0))
+				.collect(Collectors.toList());
+		return duplicateAddressDTOs;
+	}
+
+	/**
+	 * Indexes the address of a property which was added or modified. It has to
+	 * be called in the transaction in which the property is stored.
+	 *
+	 * @param property The stored property.
+	 */
+	public synchronized void index(Property property) {
+		int propertyId = property.getPropertyId();
+		String previous = addresses.get(propertyId);
+		put(propertyId, property.getAddress());
+		TransactionHooks.afterRollback(() -> restore(propertyId, previous));
+	}
+
+	/**
+	 * Removes the address of a property which was deleted. It has to be called
+	 * in the transaction in which the property is deleted.
+	 *
+	 * @param propertyId The id of the deleted property.
+	 */
+	public synchronized void remove(int propertyId) {
+		String previous = addresses.remove(propertyId);
+		index.remove(propertyId);
+		TransactionHooks.afterRollback(() -> restore(propertyId, previous));
+	}
+
+	private synchronized void restore(int propertyId, String address) {
+		if (address != null) {
+			put(propertyId, address);
+		} else {
+			addresses.remove(propertyId);
+			index.remove(propertyId);
+		}
+	}
+
+	private void put(int propertyId, String address) {
+		addresses.put(propertyId, address);
+		index.put(propertyId, AddressNormalizer.normalize(address));
+	}
+
+	private static boolean sameNumbers(String first, String second) {
+		return AddressNormalizer.numbers(first).equals(AddressNormalizer.numbers(second));
+	}
+}
@@ -0,0 +1,451 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.EventBooking;
+import com.nikoladronjak.rently.domain.EventSpace;
+import com.nikoladronjak.rently.dto.EventBookingDTO;
+import com.nikoladronjak.rently.dto.EventSlotDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.exception.ValidationException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.EventBookingRepository;
+import com.nikoladronjak.rently.repository.EventSpaceRepository;
+import com.nikoladronjak.rently.util.SlotCalendar;
+import com.nikoladronjak.rently.util.TransactionHooks;
+import com.nikoladronjak.rently.validation.PrecompiledValidator;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Represents a service class responsible for handling the business logic
+ * related to EventBooking entities. This class manages operations such as
+ * retrieval, adding and deletion of EventBooking entities, and the queries for
+ * the free slots of the event spaces. Additionally, it supports conversion
+ * between EventBooking entities and EventBookingDTOs.
+ *
+ * Every booked event space has a slot calendar with a 24-bit bitmap of the
+ * booked hours of every day, so a booking is checked with a single mask and
+ * the free slots of a week or a month are read from the bitmaps without
+ * querying the database. The calendars are built from the bookings in the
+ * database on startup and they are kept up to date on every booking and
+ * cancellation. Bookings of the same event space are serialized with each
+ * other and with the leases of the event space under the lock of the property
+ * in the PropertyBookingService.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class EventBookingService {
+
+	/**
+	 * Represents the largest number of days for which the free slots can be
+	 * queried at once.
+	 */
+	private static final int MAX_SLOT_DAYS = 62;
+
+	/**
+	 * Represents the number of days which are searched for the next free slot.
+	 */
+	private static final int NEXT_SLOT_DAYS = 366;
+
+	/**
+	 * Repository for accessing data related to event bookings.
+	 */
+	@Autowired
+	private EventBookingRepository eventBookingRepository;
+
+	/**
+	 * Repository for accessing data related to event spaces.
+	 */
+	@Autowired
+	private EventSpaceRepository eventSpaceRepository;
+
+	/**
+	 * Repository for accessing data related to customers.
+	 */
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	/**
+	 * Service for checking whether the event spaces are leased.
+	 */
+	@Autowired
+	private PropertyBookingService propertyBookingService;
+
+	/**
+	 * Represents the slot calendars of the booked event spaces, keyed by
+	 * propertyId.
+	 */
+	private final Map<Integer, SlotCalendar> calendars = new ConcurrentHashMap<>();
+
+	/**
+	 * Template for executing the check and the booking in a single transaction.
+	 */
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * Validator for validating EventBooking entities.
+	 */
+	private final PrecompiledValidator validator;
+
+	@Autowired
+	public EventBookingService(PlatformTransactionManager transactionManager) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.validator = new PrecompiledValidator();
+	}
+
+	/**
+	 * Builds the slot calendars from the bookings which are stored in the
+	 * database.
+	 */
+	@PostConstruct
+	public void rebuild() {
+		calendars.clear();
+		for (EventBooking eventBooking : eventBookingRepository.findAll()) {
+			index(eventBooking);
+		}
+	}
+
+	/**
+	 * Retrieves all event bookings from the database and converts them to
+	 * EventBookingDTOs.
+	 *
+	 * @return A list of EventBookingDTOs.
+	 */
+	public List<EventBookingDTO> getAll() {
+		List<EventBooking> eventBookings = eventBookingRepository.findAll();
+		List<EventBookingDTO> eventBookingDTOs = eventBookings.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		return eventBookingDTOs;
+	}
+
+	/**
+	 * Retrieves all event bookings associated with a specific event space from
+	 * the database and converts them to EventBookingDTOs.
+	 *
+	 * @param eventSpaceId The id of the event space for which the bookings are
+	 *                     being queried.
+	 * @return A list of EventBookingDTOs.
+	 */
+	public List<EventBookingDTO> getAllByEventSpaceId(Integer eventSpaceId) {
+		List<EventBooking> eventBookings = eventBookingRepository.findAllByEventSpace_PropertyId(eventSpaceId);
+		List<EventBookingDTO> eventBookingDTOs = eventBookings.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		return eventBookingDTOs;
+	}
+
+	/**
+	 * Retrieves all event bookings associated with a specific customer from the
+	 * database and converts them to EventBookingDTOs.
+	 *
+	 * @param customerId The id of the customer for which the bookings are being
+	 *                   queried.
+	 * @return A list of EventBookingDTOs.
+	 */
+	public List<EventBookingDTO> getAllByCustomerId(Integer customerId) {
+		List<EventBooking> eventBookings = eventBookingRepository.findAllByCustomer_CustomerId(customerId);
+		List<EventBookingDTO> eventBookingDTOs = eventBookings.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		return eventBookingDTOs;
+	}
+
+	/**
+	 * Retrieves an event booking from the database by the specified id and
+	 * converts it to an EventBookingDTO.
+	 *
+	 * @param id The id of the event booking that is being queried.
+	 * @return The EventBookingDTO.
+	 * @throws NotFoundException if there is no event booking with the given id.
+	 */
+	public EventBookingDTO getById(Integer id) {
+		Optional<EventBooking> eventBookingFromDb = eventBookingRepository.findById(id);
+		if (!eventBookingFromDb.isPresent())
+			throw new NotFoundException("There is no event booking with the given id.");
+
+		EventBookingDTO eventBookingDTO = convertToDTO(eventBookingFromDb.get());
+		return eventBookingDTO;
+	}
+
+	/**
+	 * Adds a new event booking to the database based on the provided
+	 * EventBookingDTO.
+	 *
+	 * @param eventBookingDTO The EventBookingDTO containing the details of the
+	 *                        event booking that is being added.
+	 * @return The newly created EventBookingDTO.
+	 * @throws NotFoundException if there is no event space for the given
+	 *                           eventSpaceId, or if there is no customer for the
+	 *                           given customerId.
+	 * @throws ConflictException if the event space is not available, if it is
+	 *                           leased on the date of the booking, or if any
+	 *                           hour of the booking is already booked.
+	 * @throws UnprocessableEntityException if the start hour of the booking is
+	 *                                      not before the end hour.
+	 * @throws ValidationException if the eventBookingDTO is not valid.
+	 */
+	public EventBookingDTO add(EventBookingDTO eventBookingDTO) {
+		Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(eventBookingDTO.getEventSpaceId());
+		if (!eventSpaceFromDb.isPresent())
+			throw new NotFoundException("There is no event space for the given eventSpaceId.");
+
+		if (!eventSpaceFromDb.get().isAvailable())
+			throw new ConflictException("This property is currently unavailable.");
+
+		Optional<Customer> customerFromDb = customerRepository.findById(eventBookingDTO.getCustomerId());
+		if (!customerFromDb.isPresent())
+			throw new NotFoundException("There is no customer for the given customerId.");
+
+		EventBooking eventBooking = convertFromDTO(eventBookingDTO);
+		Map<String, String> errors = validator.validate(eventBooking);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		if (eventBookingDTO.getStartHour() >= eventBookingDTO.getEndHour())
+			throw new UnprocessableEntityException(
+					"The start hour of the booking has to be before the end hour of the booking.");
+
+		int eventSpaceId = eventBookingDTO.getEventSpaceId();
+		LocalDate date = toLocalDate(eventBookingDTO.getDate());
+		int mask = SlotCalendar.mask(eventBookingDTO.getStartHour(), eventBookingDTO.getEndHour());
+		EventBooking newEventBooking = propertyBookingService.withPropertyLock(eventSpaceId,
+				() -> transactionTemplate.execute(status -> {
+					if (propertyBookingService.isLeased(eventSpaceId, date))
+						throw new ConflictException("The event space is leased on the given date.");
+
+					if (!isFree(eventSpaceId, date, mask))
+						throw new ConflictException("The event space is already booked for the given hours.");
+
+					EventBooking bookedEventBooking = eventBookingRepository.save(eventBooking);
+					index(bookedEventBooking);
+					TransactionHooks.afterRollback(() -> unindex(bookedEventBooking));
+					return bookedEventBooking;
+				}));
+		EventBookingDTO newEventBookingDTO = convertToDTO(newEventBooking);
+		return newEventBookingDTO;
+	}
+
+	/**
+	 * Deletes the event booking with the specified id and frees its hours.
+	 *
+	 * @param id The id of the event booking that is being deleted.
+	 * @return The deleted EventBookingDTO.
+	 * @throws NotFoundException if there is no event booking with the given id.
+	 */
+	public EventBookingDTO delete(Integer id) {
+		Optional<EventBooking> eventBookingFromDb = eventBookingRepository.findById(id);
+		if (!eventBookingFromDb.isPresent())
+			throw new NotFoundException("There is no event booking with the given id.");
+
+		EventBooking eventBooking = eventBookingFromDb.get();
+		propertyBookingService.withPropertyLock(eventBooking.getEventSpace().getPropertyId(),
+				() -> transactionTemplate.execute(status -> {
+					eventBookingRepository.deleteById(id);
+					unindex(eventBooking);
+					TransactionHooks.afterRollback(() -> index(eventBooking));
+					return eventBooking;
+				}));
+		EventBookingDTO deletedEventBookingDTO = convertToDTO(eventBooking);
+		return deletedEventBookingDTO;
+	}
+
+	/**
+	 * Retrieves the free slots of the event space for every day from the start
+	 * date to the end date. A slot is a maximal range of consecutive free hours
+	 * of a day. The days on which the event space is leased have no free slots.
+	 *
+	 * @param eventSpaceId The id of the event space.
+	 * @param startDate    The first day.
+	 * @param endDate      The last day.
+	 * @return A list of EventSlotDTOs, ordered by the date and the start hour.
+	 * @throws NotFoundException            if there is no event space with the
+	 *                                      given id.
+	 * @throws UnprocessableEntityException if the start date is after the end
+	 *                                      date, or if the period is longer than
+	 *                                      the largest period which can be
+	 *                                      queried.
+	 */
+	public List<EventSlotDTO> getFreeSlots(Integer eventSpaceId, LocalDate startDate, LocalDate endDate) {
+		if (eventSpaceRepository.findById(eventSpaceId).isEmpty())
+			throw new NotFoundException("There is no event space with the given id.");
+
+		if (startDate.isAfter(endDate))
+			throw new UnprocessableEntityException("The start date has to be before the end date.");
+
+		if (endDate.toEpochDay() - startDate.toEpochDay() >= MAX_SLOT_DAYS)
+			throw new UnprocessableEntityException(
+					"The free slots can only be queried for up to " + MAX_SLOT_DAYS + " days at once.");
+
+		List<EventSlotDTO> eventSlotDTOs = new ArrayList<>();
+		for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+			if (propertyBookingService.isLeased(eventSpaceId, date))
+				continue;
+
+			int free = ~getBooked(eventSpaceId, date) & SlotCalendar.FULL_DAY;
+			while (free != 0) {
+				int startHour = Integer.numberOfTrailingZeros(free);
+				int endHour = Math.min(Integer.numberOfTrailingZeros(~(free >>> startHour)) + startHour,
+						SlotCalendar.HOURS);
+				eventSlotDTOs.add(new EventSlotDTO(date, startHour, endHour));
+				free &= ~SlotCalendar.mask(startHour, endHour);
+			}
+		}
+		return eventSlotDTOs;
+	}
+
+	/**
+	 * Finds the first slot of the given number of consecutive hours in which the
+	 * event space is free, starting from the given hour of the given date. The
+	 * search continues from midnight on the following days.
+	 *
+	 * @param eventSpaceId The id of the event space.
+	 * @param date         The first day of the search.
+	 * @param fromHour     The first hour of the search on the first day.
+	 * @param hours        The number of consecutive hours.
+	 * @return The EventSlotDTO of the first free slot.
+	 * @throws NotFoundException            if there is no event space with the
+	 *                                      given id, or if there is no free slot
+	 *                                      in the searched days.
+	 * @throws UnprocessableEntityException if the slot does not fit in a day.
+	 */
+	public EventSlotDTO findNextSlot(Integer eventSpaceId, LocalDate date, int fromHour, int hours) {
+		if (eventSpaceRepository.findById(eventSpaceId).isEmpty())
+			throw new NotFoundException("There is no event space with the given id.");
+
+		if (fromHour < 0 || hours <= 0 || fromHour + hours > SlotCalendar.HOURS)
+			throw new UnprocessableEntityException("The slot has to fit in a day.");
+
+		for (int i = 0; i < NEXT_SLOT_DAYS; i++) {
+			LocalDate day = date.plusDays(i);
+			if (propertyBookingService.isLeased(eventSpaceId, day))
+				continue;
+
+			int startHour = SlotCalendar.findFreeSlot(getBooked(eventSpaceId, day), i == 0 ? fromHour : 0, hours);
+			if (startHour >= 0)
+				return new EventSlotDTO(day, startHour, startHour + hours);
+		}
+		throw new NotFoundException("There is no free slot in the next " + NEXT_SLOT_DAYS + " days.");
+	}
+
+	/**
+	 * Checks whether all the hours of the bitmap are free on the given day.
+	 *
+	 * @param eventSpaceId The id of the event space.
+	 * @param date         The day that is being checked.
+	 * @param mask         The bitmap of the hours, as returned by
+	 *                     SlotCalendar.mask.
+	 * @return True if none of the hours is booked, or false otherwise.
+	 */
+	public boolean isFree(int eventSpaceId, LocalDate date, int mask) {
+		return (getBooked(eventSpaceId, date) & mask) == 0;
+	}
+
+	/**
+	 * Checks whether the event space has any booked hour from the start date to
+	 * the end date.
+	 *
+	 * @param eventSpaceId The id of the event space.
+	 * @param startDate    The first day.
+	 * @param endDate      The last day.
+	 * @return True if there is a booked hour, or false otherwise.
+	 */
+	public boolean hasBookings(int eventSpaceId, LocalDate startDate, LocalDate endDate) {
+		SlotCalendar calendar = calendars.get(eventSpaceId);
+		if (calendar == null)
+			return false;
+
+		synchronized (calendar) {
+			return calendar.hasBookings(startDate.toEpochDay(), endDate.toEpochDay());
+		}
+	}
+
+	private int getBooked(int eventSpaceId, LocalDate date) {
+		SlotCalendar calendar = calendars.get(eventSpaceId);
+		if (calendar == null)
+			return 0;
+
+		synchronized (calendar) {
+			return calendar.getBooked(date.toEpochDay());
+		}
+	}
+
+	private void index(EventBooking eventBooking) {
+		SlotCalendar calendar = calendars.computeIfAbsent(eventBooking.getEventSpace().getPropertyId(),
+				eventSpaceId -> new SlotCalendar());
+		synchronized (calendar) {
+			calendar.book(toLocalDate(eventBooking.getDate()).toEpochDay(),
+					SlotCalendar.mask(eventBooking.getStartHour(), eventBooking.getEndHour()));
+		}
+	}
+
+	private void unindex(EventBooking eventBooking) {
+		SlotCalendar calendar = calendars.get(eventBooking.getEventSpace().getPropertyId());
+		if (calendar == null)
+			return;
+
+		synchronized (calendar) {
+			calendar.free(toLocalDate(eventBooking.getDate()).toEpochDay(),
+					SlotCalendar.mask(eventBooking.getStartHour(), eventBooking.getEndHour()));
+		}
+	}
+
+	private static LocalDate toLocalDate(GregorianCalendar date) {
+		return date.toZonedDateTime().toLocalDate();
+	}
+
+	/**
+	 * Converts an EventBooking entity to an EventBookingDTO.
+	 *
+	 * @param eventBooking The EventBooking entity that is being converted.
+	 * @return The corresponding EventBookingDTO.
+	 */
+	private EventBookingDTO convertToDTO(EventBooking eventBooking) {
+		EventBookingDTO eventBookingDTO = new EventBookingDTO();
+		eventBookingDTO.setEventBookingId(eventBooking.getEventBookingId());
+		eventBookingDTO.setEventSpaceId(eventBooking.getEventSpace().getPropertyId());
+		eventBookingDTO.setCustomerId(eventBooking.getCustomer().getCustomerId());
+		eventBookingDTO.setDate(eventBooking.getDate());
+		eventBookingDTO.setStartHour(eventBooking.getStartHour());
+		eventBookingDTO.setEndHour(eventBooking.getEndHour());
+
+		return eventBookingDTO;
+	}
+
+	/**
+	 * Converts an EventBookingDTO to an EventBooking entity.
+	 *
+	 * @param eventBookingDTO The EventBookingDTO that is being converted.
+	 * @return The corresponding EventBooking entity.
+	 */
+	private EventBooking convertFromDTO(EventBookingDTO eventBookingDTO) {
+		EventSpace eventSpace = new EventSpace();
+		eventSpace.setPropertyId(eventBookingDTO.getEventSpaceId());
+
+		Customer customer = new Customer();
+		customer.setCustomerId(eventBookingDTO.getCustomerId());
+
+		EventBooking eventBooking = new EventBooking();
+		eventBooking.setEventSpace(eventSpace);
+		eventBooking.setCustomer(customer);
+		eventBooking.setDate(eventBookingDTO.getDate());
+		eventBooking.setStartHour(eventBookingDTO.getStartHour());
+		eventBooking.setEndHour(eventBookingDTO.getEndHour());
+
+		return eventBooking;
+	}
+}
@@ -1,32 +1,36 @@
 package com.nikoladronjak.rently.service;
 
-import java.util.HashMap;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import com.nikoladronjak.rently.domain.EventBooking;
 import com.nikoladronjak.rently.domain.EventSpace;
 import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.PropertyHistory;
+import com.nikoladronjak.rently.domain.PropertyType;
 import com.nikoladronjak.rently.domain.UtilityLease;
 import com.nikoladronjak.rently.dto.EventSpaceDTO;
+import com.nikoladronjak.rently.dto.EventSpaceSearchDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.exception.ValidationException;
+import com.nikoladronjak.rently.repository.EventBookingRepository;
 import com.nikoladronjak.rently.repository.EventSpaceRepository;
 import com.nikoladronjak.rently.repository.LeaseRepository;
 import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
 import com.nikoladronjak.rently.repository.OwnerRepository;
 import com.nikoladronjak.rently.repository.ResidenceRepository;
 import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
-
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
+import com.nikoladronjak.rently.util.SlotCalendar;
+import com.nikoladronjak.rently.validation.PrecompiledValidator;
 
 /**
  * Represents a service class responsible for handling the business logic
@@ -76,37 +80,99 @@ public class EventSpaceService {
 	@Autowired
 	private EventSpaceRepository eventSpaceRepository;
 
+	/**
+	 * Repository for accessing data related to event bookings.
+	 */
+	@Autowired
+	private EventBookingRepository eventBookingRepository;
+
+	/**
+	 * Service for checking whether the properties are leased.
+	 */
+	@Autowired
+	private PropertyBookingService propertyBookingService;
+
+	/**
+	 * Service for evicting the compiled rate plan of the event space when its
+	 * rental rate changes.
+	 */
+	@Autowired
+	private QuoteService quoteService;
+
+	/**
+	 * Service for deleting the rate rules of the event space when it is deleted.
+	 */
+	@Autowired
+	private RateRuleService rateRuleService;
+
+	/**
+	 * Service for writing the versions of the event space in the same transaction
+	 * in which it is changed.
+	 */
+	@Autowired
+	private HistoryService historyService;
+
+	/**
+	 * Service for notifying the saved searches which the event space starts to match
+	 * when it is added or updated.
+	 */
+	@Autowired
+	private SavedSearchService savedSearchService;
+
+	/**
+	 * Service for keeping the full-text index of the names and the descriptions
+	 * of the properties up to date.
+	 */
+	@Autowired
+	private PropertySearchService propertySearchService;
+
+	/**
+	 * Service for completing the addresses of the properties.
+	 */
+	@Autowired
+	private AutocompleteService autocompleteService;
+
+	/**
+	 * Service for finding the properties which were entered more than once.
+	 */
+	@Autowired
+	private DuplicateAddressService duplicateAddressService;
+
+	/**
+	 * Service for finding the properties by their location.
+	 */
+	@Autowired
+	private GeoSearchService geoSearchService;
+
+	/**
+	 * Service for checking whether the hours of the event spaces are booked.
+	 */
+	@Autowired
+	private EventBookingService eventBookingService;
+
 	/**
 	 * Validator for validating EventSpace entities.
 	 */
-	private final Validator validator;
+	private final PrecompiledValidator validator;
 
 	/**
-	 * Default constructor for EventSpaceService. Initializes the validator using a
-	 * ValidatorFactory.
+	 * Default constructor for EventSpaceService. Initializes the validator.
 	 */
 	public EventSpaceService() {
-		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-		this.validator = factory.getValidator();
+		this.validator = new PrecompiledValidator();
 	}
 
 	/**
 	 * Retrieves all event spaces from the database and converts them to
 	 * EventSpaceDTOs.
 	 * 
-	 * @return ResponseEntity containing a list of EventSpaceDTOs if successful, or
-	 *         an error message with HttpStatus.INTERNAL_SERVER_ERROR status (500)
-	 *         if an exception occurs.
+	 * @return A list of EventSpaceDTOs.
 	 */
-	public ResponseEntity<?> getAll() {
-		try {
-			List<EventSpace> eventSpaces = eventSpaceRepository.findAll();
-			List<EventSpaceDTO> eventSpaceDTOs = eventSpaces.stream().map(this::convertToDTO)
-					.collect(Collectors.toList());
-			return ResponseEntity.ok(eventSpaceDTOs);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
-		}
+	public List<EventSpaceDTO> getAll() {
+		List<EventSpace> eventSpaces = eventSpaceRepository.findAll();
+		List<EventSpaceDTO> eventSpaceDTOs = eventSpaces.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		return eventSpaceDTOs;
 	}
 
 	/**
@@ -114,22 +180,60 @@ public class EventSpaceService {
 	 * it to an EventSpaceDTO.
 	 * 
 	 * @param id The id of the event space that is being queried.
-	 * @return ResponseEntity containing the EventSpaceDTO if successful, or an
-	 *         error message with HttpStatus.BAD_REQUEST status (400) if an
-	 *         exception occurs.
-	 * @throws RuntimeException if there is no event space with the given id.
+	 * @return The EventSpaceDTO.
+	 * @throws NotFoundException if there is no event space with the given id.
 	 */
-	public ResponseEntity<?> getById(Integer id) {
-		try {
-			Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(id);
-			if (!eventSpaceFromDb.isPresent())
-				throw new RuntimeException("There is no event space with the given id.");
-
-			EventSpaceDTO eventSpaceDTO = convertToDTO(eventSpaceFromDb.get());
-			return ResponseEntity.ok(eventSpaceDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public EventSpaceDTO getById(Integer id) {
+		Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(id);
+		if (!eventSpaceFromDb.isPresent())
+			throw new NotFoundException("There is no event space with the given id.");
+
+		EventSpaceDTO eventSpaceDTO = convertToDTO(eventSpaceFromDb.get());
+		return eventSpaceDTO;
+	}
+
+	/**
+	 * Retrieves the event spaces which are offered for leasing, which are free
+	 * for every hour of the slot and which match the filters of the search.
+	 * 
+	 * @param eventSpaceSearchDTO The slot and the filters of the search.
+	 * @return A list of EventSpaceDTOs.
+	 * @throws UnprocessableEntityException if the start hour is not before the
+	 *                                      end hour.
+	 */
+	public List<EventSpaceDTO> getAvailable(EventSpaceSearchDTO eventSpaceSearchDTO) {
+		if (eventSpaceSearchDTO.getStartHour() >= eventSpaceSearchDTO.getEndHour())
+			throw new UnprocessableEntityException("The start hour has to be before the end hour.");
+
+		LocalDate date = eventSpaceSearchDTO.getDate();
+		int mask = SlotCalendar.mask(eventSpaceSearchDTO.getStartHour(), eventSpaceSearchDTO.getEndHour());
+		List<EventSpace> eventSpaces = eventSpaceRepository.findOffered(eventSpaceSearchDTO.getMinCapacity(),
+				eventSpaceSearchDTO.getHasKitchen(), eventSpaceSearchDTO.getHasBar());
+		List<EventSpaceDTO> eventSpaceDTOs = eventSpaces.stream()
+				.filter(eventSpace -> eventBookingService.isFree(eventSpace.getPropertyId(), date, mask))
+				.filter(eventSpace -> !propertyBookingService.isLeased(eventSpace.getPropertyId(), date))
+				.map(this::convertToDTO).collect(Collectors.toList());
+		return eventSpaceDTOs;
+	}
+
+	/**
+	 * Retrieves the version of the event space with the specified id which was valid
+	 * at the given time and converts it to a EventSpaceDTO. The photos of the event space
+	 * are not versioned, so they are left out.
+	 * 
+	 * @param id   The id of the event space that is being queried.
+	 * @param asOf The time at which the version was valid.
+	 * @return The EventSpaceDTO.
+	 * @throws NotFoundException if there was no event space with the given id at the
+	 *                           given time.
+	 */
+	public EventSpaceDTO getById(Integer id, Instant asOf) {
+		Optional<PropertyHistory> propertyHistory = historyService.getPropertyAsOf(id, asOf);
+		if (propertyHistory.isEmpty() || propertyHistory.get().getPropertyType() != PropertyType.EventSpace)
+			throw new NotFoundException("There was no event space with the given id at the given time.");
+
+		EventSpaceDTO eventSpaceDTO = convertToDTO(propertyHistory.get());
+		return eventSpaceDTO;
 	}
 
 	/**
@@ -137,38 +241,44 @@ public class EventSpaceService {
 	 * 
 	 * @param eventSpaceDTO The EventSpaceDTO containing the details of the event
 	 *                      space that is being added.
-	 * @return ResponseEntity containing the newly created EventSpaceDTO if
-	 *         successful, or an error message with HttpStatus.BAD_REQUEST status
-	 *         (400) if the eventSpaceDTO is not valid, or if an exception occurs.
-	 * @throws RuntimeException if there is no owner with the given ownerId, or if a
-	 *                          property with the provided address already exists.
+	 * @return The newly created EventSpaceDTO.
+	 * @throws NotFoundException if there is no owner with the given ownerId.
+	 * @throws ConflictException if a property with the provided address already
+	 *                           exists, or if a property with a similar
+	 *                           address exists and such properties are
+	 *                           rejected.
+	 * @throws ValidationException if the eventSpaceDTO is not valid.
 	 */
-	public ResponseEntity<?> add(EventSpaceDTO eventSpaceDTO) {
-		try {
-			if (ownerRepository.findById(eventSpaceDTO.getOwnerId()).isEmpty())
-				throw new RuntimeException("There is no owner with the given id.");
-
-			EventSpace eventSpace = convertFromDTO(eventSpaceDTO);
-			Set<ConstraintViolation<EventSpace>> violations = validator.validate(eventSpace);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<EventSpace> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-			}
-
-			if (residenceRepository.findByAddress(eventSpaceDTO.getAddress()).isPresent()
-					|| eventSpaceRepository.findByAddress(eventSpaceDTO.getAddress()).isPresent()
-					|| officeSpaceRepository.findByAddress(eventSpaceDTO.getAddress()).isPresent())
-				throw new RuntimeException("This property already exists.");
-
-			EventSpace newEventSpace = eventSpaceRepository.save(eventSpace);
-			EventSpaceDTO newEventSpaceDTO = convertToDTO(newEventSpace);
-			return ResponseEntity.ok(newEventSpaceDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public EventSpaceDTO add(EventSpaceDTO eventSpaceDTO) {
+		if (ownerRepository.findById(eventSpaceDTO.getOwnerId()).isEmpty())
+			throw new NotFoundException("There is no owner with the given id.");
+
+		EventSpace eventSpace = convertFromDTO(eventSpaceDTO);
+		Map<String, String> errors = validator.validate(eventSpace);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		if (residenceRepository.findByAddress(eventSpaceDTO.getAddress()).isPresent()
+				|| eventSpaceRepository.findByAddress(eventSpaceDTO.getAddress()).isPresent()
+				|| officeSpaceRepository.findByAddress(eventSpaceDTO.getAddress()).isPresent())
+			throw new ConflictException("This property already exists.");
+
+		List<Integer> possibleDuplicateIds = duplicateAddressService.check(null, eventSpaceDTO.getAddress());
+
+		EventSpace newEventSpace = historyService.changeProperty(() -> {
+			EventSpace savedEventSpace = eventSpaceRepository.save(eventSpace);
+			savedSearchService.percolate(null, savedEventSpace);
+			propertySearchService.index(savedEventSpace);
+			autocompleteService.putAddress(savedEventSpace);
+			duplicateAddressService.index(savedEventSpace);
+			geoSearchService.index(savedEventSpace);
+			return savedEventSpace;
+		});
+		EventSpaceDTO newEventSpaceDTO = convertToDTO(newEventSpace);
+		if (!possibleDuplicateIds.isEmpty())
+			newEventSpaceDTO.setPossibleDuplicateIds(possibleDuplicateIds);
+
+		return newEventSpaceDTO;
 	}
 
 	/**
@@ -178,91 +288,97 @@ public class EventSpaceService {
 	 * @param id            The id of the event space that is being updated.
 	 * @param eventSpaceDTO The EventSpaceDTO containing the updated details of the
 	 *                      event space.
-	 * @return ResponseEntity containing the newly created EventSpaceDTO if
-	 *         successful, or an error message with HttpStatus.BAD_REQUEST status
-	 *         (400) if the eventSpaceDTO is not valid, or if an exception occurs
-	 * @throws RuntimeException if:
-	 *                          <ul>
-	 *                          <li>There is no event space with the given id.</li>
-	 *                          <li>There is no owner with the given ownerId</li>
-	 *                          <li>The property with the provided address already
-	 *                          exists.</li>
-	 *                          </ul>
+	 * @return The newly created EventSpaceDTO.
+	 * @throws NotFoundException if there is no event space with the given id,
+	 *                           or if there is no owner with the given ownerId.
+	 * @throws ConflictException if the property with the provided address
+	 *                           already exists, or if a property with a
+	 *                           similar address exists and such properties are
+	 *                           rejected.
+	 * @throws ValidationException if the eventSpaceDTO is not valid.
 	 */
-	public ResponseEntity<?> update(Integer id, EventSpaceDTO eventSpaceDTO) {
-		try {
-			Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(id);
-			if (!eventSpaceFromDb.isPresent())
-				throw new RuntimeException("There is no event space with the given id.");
-
-			if (ownerRepository.findById(eventSpaceDTO.getOwnerId()).isEmpty())
-				throw new RuntimeException("There is no owner with the given id.");
-
-			EventSpace eventSpace = convertFromDTO(eventSpaceDTO);
-			Set<ConstraintViolation<EventSpace>> violations = validator.validate(eventSpace);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<EventSpace> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-			}
+	public EventSpaceDTO update(Integer id, EventSpaceDTO eventSpaceDTO) {
+		Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(id);
+		if (!eventSpaceFromDb.isPresent())
+			throw new NotFoundException("There is no event space with the given id.");
 
-			if (!eventSpaceFromDb.get().getAddress().equals(eventSpaceDTO.getAddress())) {
-				if (residenceRepository.findByAddress(eventSpaceDTO.getAddress()).isPresent()
-						|| eventSpaceRepository.findByAddress(eventSpaceDTO.getAddress()).isPresent()
-						|| officeSpaceRepository.findByAddress(eventSpaceDTO.getAddress()).isPresent()) {
-					throw new RuntimeException("This property already exists.");
-				}
-			}
+		if (ownerRepository.findById(eventSpaceDTO.getOwnerId()).isEmpty())
+			throw new NotFoundException("There is no owner with the given id.");
+
+		EventSpace eventSpace = convertFromDTO(eventSpaceDTO);
+		Map<String, String> errors = validator.validate(eventSpace);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
 
-			eventSpace.setPropertyId(id);
-			EventSpace updatedEventSpace = eventSpaceRepository.save(eventSpace);
-			EventSpaceDTO updatedEventSpaceDTO = convertToDTO(updatedEventSpace);
-			return ResponseEntity.ok(updatedEventSpaceDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+		List<Integer> possibleDuplicateIds = List.of();
+		if (!eventSpaceFromDb.get().getAddress().equals(eventSpaceDTO.getAddress())) {
+			if (residenceRepository.findByAddress(eventSpaceDTO.getAddress()).isPresent()
+					|| eventSpaceRepository.findByAddress(eventSpaceDTO.getAddress()).isPresent()
+					|| officeSpaceRepository.findByAddress(eventSpaceDTO.getAddress()).isPresent()) {
+				throw new ConflictException("This property already exists.");
+			}
+			possibleDuplicateIds = duplicateAddressService.check(id, eventSpaceDTO.getAddress());
 		}
+
+		eventSpace.setPropertyId(id);
+		EventSpace updatedEventSpace = historyService.changeProperty(() -> {
+			EventSpace savedEventSpace = eventSpaceRepository.save(eventSpace);
+			savedSearchService.percolate(eventSpaceFromDb.get(), savedEventSpace);
+			propertySearchService.index(savedEventSpace);
+			autocompleteService.putAddress(savedEventSpace);
+			duplicateAddressService.index(savedEventSpace);
+			geoSearchService.index(savedEventSpace);
+			return savedEventSpace;
+		});
+		quoteService.evict(id);
+		EventSpaceDTO updatedEventSpaceDTO = convertToDTO(updatedEventSpace);
+		if (!possibleDuplicateIds.isEmpty())
+			updatedEventSpaceDTO.setPossibleDuplicateIds(possibleDuplicateIds);
+
+		return updatedEventSpaceDTO;
 	}
 
 	/**
 	 * Deletes the event space with the specified id.
 	 * 
 	 * @param id The id of the event space that is being deleted.
-	 * @return ResponseEntity containing the deleted EventDTO if successful, or an
-	 *         error message with HttpStatus.BAD_REQUEST status (400) if an
-	 *         exception occurs.
-	 * @throws RuntimeException if:
-	 *                          <ul>
-	 *                          <li>There is no event space with the given id.</li>
-	 *                          <li>There are leases associated with the event
-	 *                          space.</li>
-	 *                          <li>There are utility leases associated with the
-	 *                          event space.</li>
-	 *                          </ul>
+	 * @return The deleted EventDTO.
+	 * @throws NotFoundException if there is no event space with the given id.
+	 * @throws ConflictException if there are leases associated with the event
+	 *                           space, if there are utility leases associated
+	 *                           with the event space, or if there are event
+	 *                           bookings associated with the event space.
 	 */
-	public ResponseEntity<?> delete(Integer id) {
-		try {
-			Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(id);
-			if (!eventSpaceFromDb.isPresent())
-				throw new RuntimeException("There is no event space with the given id.");
-
-			List<Lease> leasesFromDb = leaseRepository.findAllByProperty_PropertyId(id);
-			if (!leasesFromDb.isEmpty())
-				throw new RuntimeException(
-						"You cannot delete this event space since there are leases associated with it.");
-
-			List<UtilityLease> utilityLeasesFromDb = utilityLeaseRepository.findAllByProperty_PropertyId(id);
-			if (!utilityLeasesFromDb.isEmpty())
-				throw new RuntimeException(
-						"You cannot delete this event space since there are utility leases associated with it.");
-
+	public EventSpaceDTO delete(Integer id) {
+		Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(id);
+		if (!eventSpaceFromDb.isPresent())
+			throw new NotFoundException("There is no event space with the given id.");
+
+		List<Lease> leasesFromDb = leaseRepository.findAllByProperty_PropertyId(id);
+		if (!leasesFromDb.isEmpty())
+			throw new ConflictException(
+					"You cannot delete this event space since there are leases associated with it.");
+
+		List<UtilityLease> utilityLeasesFromDb = utilityLeaseRepository.findAllByProperty_PropertyId(id);
+		if (!utilityLeasesFromDb.isEmpty())
+			throw new ConflictException(
+					"You cannot delete this event space since there are utility leases associated with it.");
+
+		List<EventBooking> eventBookingsFromDb = eventBookingRepository.findAllByEventSpace_PropertyId(id);
+		if (!eventBookingsFromDb.isEmpty())
+			throw new ConflictException(
+					"You cannot delete this event space since there are event bookings associated with it.");
+
+		historyService.deleteProperty(eventSpaceFromDb.get(), () -> {
+			rateRuleService.deleteAllByPropertyId(id);
 			eventSpaceRepository.deleteById(id);
-			EventSpaceDTO deletedEventSpaceDTO = convertToDTO(eventSpaceFromDb.get());
-			return ResponseEntity.ok(deletedEventSpaceDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+			propertySearchService.remove(id);
+			autocompleteService.removeAddress(id);
+			duplicateAddressService.remove(id);
+			geoSearchService.remove(id);
+		});
+		EventSpaceDTO deletedEventSpaceDTO = convertToDTO(eventSpaceFromDb.get());
+		return deletedEventSpaceDTO;
 	}
 
 	/**
@@ -276,10 +392,13 @@ public class EventSpaceService {
 		eventSpaceDTO.setPropertyId(eventSpace.getPropertyId());
 		eventSpaceDTO.setName(eventSpace.getName());
 		eventSpaceDTO.setAddress(eventSpace.getAddress());
+		eventSpaceDTO.setLatitude(eventSpace.getLatitude());
+		eventSpaceDTO.setLongitude(eventSpace.getLongitude());
 		eventSpaceDTO.setDescription(eventSpace.getDescription());
 		eventSpaceDTO.setRentalRate(eventSpace.getRentalRate());
 		eventSpaceDTO.setSize(eventSpace.getSize());
-		eventSpaceDTO.setIsAvailable(eventSpace.isAvailable());
+		boolean isLeased = propertyBookingService.isLeased(eventSpace.getPropertyId(), LocalDate.now());
+		eventSpaceDTO.setIsAvailable(eventSpace.isAvailable() && !isLeased);
 		eventSpaceDTO.setNumberOfParkingSpots(eventSpace.getNumberOfParkingSpots());
 		eventSpaceDTO.setPhotos(eventSpace.getPhotos());
 		eventSpaceDTO.setCapacity(eventSpace.getCapacity());
@@ -290,6 +409,32 @@ public class EventSpaceService {
 		return eventSpaceDTO;
 	}
 
+	/**
+	 * Converts a version of an event space to a EventSpaceDTO.
+	 * 
+	 * @param propertyHistory The version of the event space that is being converted.
+	 * @return The corresponding EventSpaceDTO.
+	 */
+	private EventSpaceDTO convertToDTO(PropertyHistory propertyHistory) {
+		EventSpaceDTO eventSpaceDTO = new EventSpaceDTO();
+		eventSpaceDTO.setPropertyId(propertyHistory.getPropertyId());
+		eventSpaceDTO.setName(propertyHistory.getName());
+		eventSpaceDTO.setAddress(propertyHistory.getAddress());
+		eventSpaceDTO.setLatitude(propertyHistory.getLatitude());
+		eventSpaceDTO.setLongitude(propertyHistory.getLongitude());
+		eventSpaceDTO.setDescription(propertyHistory.getDescription());
+		eventSpaceDTO.setRentalRate(propertyHistory.getRentalRate());
+		eventSpaceDTO.setSize(propertyHistory.getSize());
+		eventSpaceDTO.setIsAvailable(propertyHistory.isAvailable());
+		eventSpaceDTO.setNumberOfParkingSpots(propertyHistory.getNumberOfParkingSpots());
+		eventSpaceDTO.setCapacity(propertyHistory.getCapacity());
+		eventSpaceDTO.setHasKitchen(propertyHistory.isHasKitchen());
+		eventSpaceDTO.setHasBar(propertyHistory.isHasBar());
+		eventSpaceDTO.setOwnerId(propertyHistory.getOwnerId());
+
+		return eventSpaceDTO;
+	}
+
 	/**
 	 * Converts an EventSpaceDTO to an EventSpace entity.
 	 * 
@@ -303,6 +448,8 @@ public class EventSpaceService {
 		}
 		eventSpace.setName(eventSpaceDTO.getName());
 		eventSpace.setAddress(eventSpaceDTO.getAddress());
+		eventSpace.setLatitude(eventSpaceDTO.getLatitude());
+		eventSpace.setLongitude(eventSpaceDTO.getLongitude());
 		eventSpace.setDescription(eventSpaceDTO.getDescription());
 		eventSpace.setRentalRate(eventSpaceDTO.getRentalRate());
 		eventSpace.setSize(eventSpaceDTO.getSize());
@@ -0,0 +1,228 @@
+package com.nikoladronjak.rently.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import com.nikoladronjak.rently.domain.Property;
+import com.nikoladronjak.rently.dto.GeoSearchDTO;
+import com.nikoladronjak.rently.dto.PropertyDTO;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.PropertyRepository;
+import com.nikoladronjak.rently.repository.PropertyRepository.PropertyLocation;
+import com.nikoladronjak.rently.repository.PropertySpecifications;
+import com.nikoladronjak.rently.util.GeoGrid;
+import com.nikoladronjak.rently.util.GeoGrid.Hit;
+import com.nikoladronjak.rently.util.GeoGrid.Location;
+import com.nikoladronjak.rently.util.TransactionHooks;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Represents a service class responsible for finding the properties by their
+ * location. The properties which have a latitude and a longitude are kept in
+ * a spatial grid, so a search only looks at the properties in the cells around
+ * the searched area instead of all the properties.
+ *
+ * The properties found in the grid are ordered by their distance, and only
+ * their ids are checked against the filters of the search in the database.
+ * Only the properties of the requested page are loaded. The grid is loaded
+ * from the database when the application starts, and afterwards the property
+ * services update it. A change which is rolled back is undone the same way.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class GeoSearchService {
+
+	/**
+	 * Represents the number of results on a page of a search which doesn't
+	 * specify it.
+	 */
+	private static final int DEFAULT_PAGE_SIZE = 20;
+
+	/**
+	 * Repository for accessing data related to properties.
+	 */
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	/**
+	 * Represents the locations of the properties.
+	 */
+	private final GeoGrid grid;
+
+	@Autowired
+	public GeoSearchService(@Value("${rently.geo.cell-size:0.05}") double cellSize) {
+		this.grid = new GeoGrid(cellSize);
+	}
+
+	/**
+	 * Loads the locations of all the properties from the database.
+	 */
+	@PostConstruct
+	public synchronized void rebuild() {
+		grid.clear();
+		for (PropertyLocation location : propertyRepository.findAllLocations()) {
+			grid.put(location.getPropertyId(), location.getLatitude(), location.getLongitude());
+		}
+	}
+
+	/**
+	 * Finds the properties within the radius of the point, inside the bounding
+	 * box, or both, which match the filters of the search, ordered by their
+	 * distance.
+	 *
+	 * @param geoSearchDTO The area, the filters and the page of the search.
+	 * @return A list of PropertyDTOs on the requested page, from the nearest,
+	 *         with their distances in kilometers.
+	 * @throws UnprocessableEntityException if neither a point with a radius nor
+	 *                                      a complete bounding box is given, or
+	 *                                      if the bounding box is empty.
+	 */
+	public List<PropertyDTO> search(GeoSearchDTO geoSearchDTO) {
+		boolean hasPoint = geoSearchDTO.getLatitude() != null || geoSearchDTO.getLongitude() != null
+				|| geoSearchDTO.getRadius() != null;
+		if (hasPoint && (geoSearchDTO.getLatitude() == null || geoSearchDTO.getLongitude() == null
+				|| geoSearchDTO.getRadius() == null))
+			throw new UnprocessableEntityException(
+					"The latitude, the longitude and the radius have to be given together.");
+
+		boolean hasBox = geoSearchDTO.getMinLatitude() != null || geoSearchDTO.getMinLongitude() != null
+				|| geoSearchDTO.getMaxLatitude() != null || geoSearchDTO.getMaxLongitude() != null;
+		if (hasBox && (geoSearchDTO.getMinLatitude() == null || geoSearchDTO.getMinLongitude() == null
+				|| geoSearchDTO.getMaxLatitude() == null || geoSearchDTO.getMaxLongitude() == null))
+			throw new UnprocessableEntityException("All four edges of the bounding box have to be given.");
+
+		if (!hasPoint && !hasBox)
+			throw new UnprocessableEntityException(
+					"Either a point with a radius or a bounding box has to be given.");
+
+		if (hasBox && (geoSearchDTO.getMinLatitude() > geoSearchDTO.getMaxLatitude()
+				|| geoSearchDTO.getMinLongitude() > geoSearchDTO.getMaxLongitude()))
+			throw new UnprocessableEntityException(
+					"The minimum latitude and longitude have to be at most the maximum latitude and longitude.");
+
+		List<Hit> hits;
+		if (hasPoint) {
+			hits = grid.nearby(geoSearchDTO.getLatitude(), geoSearchDTO.getLongitude(), geoSearchDTO.getRadius());
+			if (hasBox)
+				hits = hits.stream().filter(hit -> isInside(hit, geoSearchDTO)).collect(Collectors.toList());
+		} else {
+			hits = grid.within(geoSearchDTO.getMinLatitude(), geoSearchDTO.getMinLongitude(),
+					geoSearchDTO.getMaxLatitude(), geoSearchDTO.getMaxLongitude(),
+					(geoSearchDTO.getMinLatitude() + geoSearchDTO.getMaxLatitude()) / 2,
+					(geoSearchDTO.getMinLongitude() + geoSearchDTO.getMaxLongitude()) / 2);
+		}
+
+		IntPredicate filter = id -> true;
+		if (hasFilters(geoSearchDTO) && !hits.isEmpty()) {
+			Specification<Property> specification = Specification
+					.where(PropertySpecifications.hasIdIn(hits.stream().map(Hit::id).collect(Collectors.toList())))
+					.and(PropertySpecifications.hasType(geoSearchDTO.getType()))
+					.and(PropertySpecifications.hasRentalRateAtLeast(geoSearchDTO.getMinRentalRate()))
+					.and(PropertySpecifications.hasRentalRateAtMost(geoSearchDTO.getMaxRentalRate()))
+					.and(PropertySpecifications.hasSizeAtLeast(geoSearchDTO.getMinSize()))
+					.and(PropertySpecifications.hasParkingSpotsAtLeast(geoSearchDTO.getMinNumberOfParkingSpots()));
+			Set<Integer> propertyIds = propertyRepository.findAll(specification).stream()
+					.map(Property::getPropertyId).collect(Collectors.toSet());
+			filter = propertyIds::contains;
+		}
+
+		int page = geoSearchDTO.getPage() != null ? geoSearchDTO.getPage() : 0;
+		int pageSize = geoSearchDTO.getPageSize() != null ? geoSearchDTO.getPageSize() : DEFAULT_PAGE_SIZE;
+		IntPredicate matches = filter;
+		List<Hit> pageHits = hits.stream().filter(hit -> matches.test(hit.id())).skip((long) page * pageSize)
+				.limit(pageSize).collect(Collectors.toList());
+		Map<Integer, Property> properties = new HashMap<Integer, Property>();
+		for (Property property : propertyRepository
+				.findAllById(pageHits.stream().map(Hit::id).collect(Collectors.toList()))) {
+			properties.put(property.getPropertyId(), property);
+		}
+		List<PropertyDTO> propertyDTOs = pageHits.stream().filter(hit -> properties.containsKey(hit.id()))
+				.map(hit -> convertToDTO(properties.get(hit.id()), hit.distance())).collect(Collectors.toList());
+		return propertyDTOs;
+	}
+
+	/**
+	 * Indexes the location of a property which was added or modified. A
+	 * property without a latitude or a longitude is removed from the index. It
+	 * has to be called in the transaction in which the property is stored.
+	 *
+	 * @param property The stored property.
+	 */
+	public synchronized void index(Property property) {
+		int propertyId = property.getPropertyId();
+		Location previous = grid.get(propertyId);
+		if (property.getLatitude() != null && property.getLongitude() != null) {
+			grid.put(propertyId, property.getLatitude(), property.getLongitude());
+		} else {
+			grid.remove(propertyId);
+		}
+		TransactionHooks.afterRollback(() -> restore(propertyId, previous));
+	}
+
+	/**
+	 * Removes the location of a property which was deleted. It has to be called
+	 * in the transaction in which the property is deleted.
+	 *
+	 * @param propertyId The id of the deleted property.
+	 */
+	public synchronized void remove(int propertyId) {
+		Location previous = grid.remove(propertyId);
+		TransactionHooks.afterRollback(() -> restore(propertyId, previous));
+	}
+
+	private synchronized void restore(int propertyId, Location location) {
+		if (location != null) {
+			grid.put(propertyId, location.latitude(), location.longitude());
+		} else {
+			grid.remove(propertyId);
+		}
+	}
+
+	private static boolean isInside(Hit hit, GeoSearchDTO geoSearchDTO) {
+		return hit.latitude() >= geoSearchDTO.getMinLatitude() && hit.latitude() <= geoSearchDTO.getMaxLatitude()
+				&& hit.longitude() >= geoSearchDTO.getMinLongitude()
+				&& hit.longitude() <= geoSearchDTO.getMaxLongitude();
+	}
+
+	private static boolean hasFilters(GeoSearchDTO geoSearchDTO) {
+		return geoSearchDTO.getType() != null || geoSearchDTO.getMinRentalRate() != null
+				|| geoSearchDTO.getMaxRentalRate() != null || geoSearchDTO.getMinSize() != null
+				|| geoSearchDTO.getMinNumberOfParkingSpots() != null;
+	}
+
+	/**
+	 * Converts a Property entity to a PropertyDTO.
+	 *
+	 * @param property The Property entity that is being converted.
+	 * @param distance The distance of the property in kilometers.
+	 * @return The corresponding PropertyDTO.
+	 */
+	private PropertyDTO convertToDTO(Property property, double distance) {
+		PropertyDTO propertyDTO = new PropertyDTO();
+		propertyDTO.setPropertyId(property.getPropertyId());
+		propertyDTO.setName(property.getName());
+		propertyDTO.setAddress(property.getAddress());
+		propertyDTO.setLatitude(property.getLatitude());
+		propertyDTO.setLongitude(property.getLongitude());
+		propertyDTO.setDescription(property.getDescription());
+		propertyDTO.setRentalRate(property.getRentalRate());
+		propertyDTO.setSize(property.getSize());
+		propertyDTO.setIsAvailable(property.isAvailable());
+		propertyDTO.setNumberOfParkingSpots(property.getNumberOfParkingSpots());
+		propertyDTO.setPhotos(property.getPhotos());
+		propertyDTO.setDistance(Math.round(distance * 1000) / 1000.0);
+
+		return propertyDTO;
+	}
+}
@@ -0,0 +1,288 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.GregorianCalendar;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nikoladronjak.rently.domain.EventSpace;
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.LeaseHistory;
+import com.nikoladronjak.rently.domain.OfficeSpace;
+import com.nikoladronjak.rently.domain.Property;
+import com.nikoladronjak.rently.domain.PropertyHistory;
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.dto.RepricedLeaseDTO;
+import com.nikoladronjak.rently.dto.RepricedPropertyDTO;
+import com.nikoladronjak.rently.dto.RepricingPreviewDTO;
+import com.nikoladronjak.rently.repository.LeaseHistoryRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.PropertyHistoryRepository;
+import com.nikoladronjak.rently.repository.PropertyRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Represents a service class responsible for keeping the history of the
+ * properties and the leases. Every change of a property or a lease is executed
+ * together with the writing of a new version of it, in the same transaction,
+ * so the history always agrees with the data. The versions are never changed,
+ * which makes it possible to find out what a property or a lease looked like at
+ * any time in the past, for example when the rental rate of a property is
+ * disputed.
+ *
+ * The properties and the leases which were stored before their history was
+ * kept get a baseline version on startup. The baseline is valid from the
+ * start of the epoch, since it is the best known state of the entity for any
+ * time before its first recorded change.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class HistoryService {
+
+	/**
+	 * Repository for accessing data related to the versions of the properties.
+	 */
+	@Autowired
+	private PropertyHistoryRepository propertyHistoryRepository;
+
+	/**
+	 * Repository for accessing data related to the versions of the leases.
+	 */
+	@Autowired
+	private LeaseHistoryRepository leaseHistoryRepository;
+
+	/**
+	 * Repository for accessing data related to properties.
+	 */
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	/**
+	 * Repository for accessing data related to leases.
+	 */
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	/**
+	 * Template for executing a change and the writing of its version in a single
+	 * transaction.
+	 */
+	private final TransactionTemplate transactionTemplate;
+
+	@Autowired
+	public HistoryService(PlatformTransactionManager transactionManager) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Writes a baseline version of every property and every lease which has no
+	 * version yet.
+	 */
+	@PostConstruct
+	public void backfill() {
+		transactionTemplate.executeWithoutResult(status -> {
+			Set<Integer> propertyIds = propertyHistoryRepository.findAllPropertyIds();
+			for (Property property : propertyRepository.findAll()) {
+				if (propertyIds.contains(property.getPropertyId()))
+					continue;
+
+				PropertyHistory propertyHistory = toHistory(property, false);
+				propertyHistory.setValidFrom(toCalendar(Instant.EPOCH));
+				propertyHistoryRepository.save(propertyHistory);
+			}
+
+			Set<Integer> leaseIds = leaseHistoryRepository.findAllLeaseIds();
+			for (Lease lease : leaseRepository.findAll()) {
+				if (leaseIds.contains(lease.getLeaseId()))
+					continue;
+
+				LeaseHistory leaseHistory = toHistory(lease, false);
+				leaseHistory.setValidFrom(toCalendar(Instant.EPOCH));
+				leaseHistoryRepository.save(leaseHistory);
+			}
+		});
+	}
+
+	/**
+	 * Executes the addition or the modification of a property and writes the new
+	 * version of the property in the same transaction. If the caller is already
+	 * in a transaction, that transaction is used.
+	 *
+	 * @param change The action which stores the property.
+	 * @return The stored property.
+	 */
+	public <T extends Property> T changeProperty(Supplier<T> change) {
+		return transactionTemplate.execute(status -> {
+			T property = change.get();
+			propertyHistoryRepository.save(toHistory(property, false));
+			return property;
+		});
+	}
+
+	/**
+	 * Executes the deletion of a property and writes a deleted version of the
+	 * property in the same transaction.
+	 *
+	 * @param property The property that is being deleted.
+	 * @param deletion The action which deletes the property.
+	 */
+	public void deleteProperty(Property property, Runnable deletion) {
+		transactionTemplate.executeWithoutResult(status -> {
+			deletion.run();
+			propertyHistoryRepository.save(toHistory(property, true));
+		});
+	}
+
+	/**
+	 * Executes the addition or the modification of a lease and writes the new
+	 * version of the lease in the same transaction. If the caller is already in a
+	 * transaction, that transaction is used.
+	 *
+	 * @param change The action which stores the lease.
+	 * @return The stored lease.
+	 */
+	public Lease changeLease(Supplier<Lease> change) {
+		return transactionTemplate.execute(status -> {
+			Lease lease = change.get();
+			leaseHistoryRepository.save(toHistory(lease, false));
+			return lease;
+		});
+	}
+
+	/**
+	 * Executes the deletion of a lease and writes a deleted version of the lease
+	 * in the same transaction.
+	 *
+	 * @param lease    The lease that is being deleted.
+	 * @param deletion The action which deletes the lease.
+	 */
+	public void deleteLease(Lease lease, Runnable deletion) {
+		transactionTemplate.executeWithoutResult(status -> {
+			deletion.run();
+			leaseHistoryRepository.save(toHistory(lease, true));
+		});
+	}
+
+	/**
+	 * Writes the new versions of the properties and the leases which were
+	 * repriced. It has to be called in the transaction of the repricing.
+	 *
+	 * @param repricingPreviewDTO The repriced properties and leases.
+	 */
+	public void recordRepricing(RepricingPreviewDTO repricingPreviewDTO) {
+		Map<Integer, Double> propertyRates = repricingPreviewDTO.getProperties().stream().collect(
+				Collectors.toMap(RepricedPropertyDTO::getPropertyId, RepricedPropertyDTO::getNewRentalRate));
+		for (Property property : propertyRepository.findAllById(propertyRates.keySet())) {
+			PropertyHistory propertyHistory = toHistory(property, false);
+			propertyHistory.setRentalRate(propertyRates.get(property.getPropertyId()));
+			propertyHistoryRepository.save(propertyHistory);
+		}
+
+		Map<Integer, Double> leaseRates = repricingPreviewDTO.getLeases().stream()
+				.collect(Collectors.toMap(RepricedLeaseDTO::getLeaseId, RepricedLeaseDTO::getNewRentalRate));
+		for (Lease lease : leaseRepository.findAllById(leaseRates.keySet())) {
+			LeaseHistory leaseHistory = toHistory(lease, false);
+			leaseHistory.setRentalRate(leaseRates.get(lease.getLeaseId()));
+			leaseHistoryRepository.save(leaseHistory);
+		}
+	}
+
+	/**
+	 * Retrieves the version of the property which was valid at the given time.
+	 *
+	 * @param propertyId The id of the property.
+	 * @param asOf       The time at which the version was valid.
+	 * @return An Optional containing the version of the property. If the property
+	 *         didn't exist at the given time, it returns an empty Optional.
+	 */
+	public Optional<PropertyHistory> getPropertyAsOf(int propertyId, Instant asOf) {
+		return propertyHistoryRepository
+				.findFirstByPropertyIdAndValidFromLessThanEqualOrderByValidFromDescPropertyHistoryIdDesc(propertyId,
+						toCalendar(asOf))
+				.filter(propertyHistory -> !propertyHistory.isDeleted());
+	}
+
+	/**
+	 * Retrieves the version of the lease which was valid at the given time.
+	 *
+	 * @param leaseId The id of the lease.
+	 * @param asOf    The time at which the version was valid.
+	 * @return An Optional containing the version of the lease. If the lease didn't
+	 *         exist at the given time, it returns an empty Optional.
+	 */
+	public Optional<LeaseHistory> getLeaseAsOf(int leaseId, Instant asOf) {
+		return leaseHistoryRepository
+				.findFirstByLeaseIdAndValidFromLessThanEqualOrderByValidFromDescLeaseHistoryIdDesc(leaseId,
+						toCalendar(asOf))
+				.filter(leaseHistory -> !leaseHistory.isDeleted());
+	}
+
+	private static PropertyHistory toHistory(Property property, boolean deleted) {
+		PropertyHistory propertyHistory = new PropertyHistory();
+		propertyHistory.setPropertyId(property.getPropertyId());
+		propertyHistory.setValidFrom(new GregorianCalendar());
+		propertyHistory.setDeleted(deleted);
+		propertyHistory.setName(property.getName());
+		propertyHistory.setAddress(property.getAddress());
+		propertyHistory.setLatitude(property.getLatitude());
+		propertyHistory.setLongitude(property.getLongitude());
+		propertyHistory.setDescription(property.getDescription());
+		propertyHistory.setRentalRate(property.getRentalRate());
+		propertyHistory.setSize(property.getSize());
+		propertyHistory.setAvailable(property.isAvailable());
+		propertyHistory.setNumberOfParkingSpots(property.getNumberOfParkingSpots());
+		if (property.getOwner() != null)
+			propertyHistory.setOwnerId(property.getOwner().getOwnerId());
+
+		if (property instanceof Residence) {
+			Residence residence = (Residence) property;
+			propertyHistory.setPropertyType(PropertyType.Residence);
+			propertyHistory.setNumberOfBedrooms(residence.getNumberOfBedrooms());
+			propertyHistory.setNumberOfBathrooms(residence.getNumberOfBathrooms());
+			propertyHistory.setHeatingType(residence.getHeatingType());
+			propertyHistory.setPetFriendly(residence.isPetFriendly());
+			propertyHistory.setFurnished(residence.isFurnished());
+		} else if (property instanceof EventSpace) {
+			EventSpace eventSpace = (EventSpace) property;
+			propertyHistory.setPropertyType(PropertyType.EventSpace);
+			propertyHistory.setCapacity(eventSpace.getCapacity());
+			propertyHistory.setHasKitchen(eventSpace.isHasKitchen());
+			propertyHistory.setHasBar(eventSpace.isHasBar());
+		} else if (property instanceof OfficeSpace) {
+			OfficeSpace officeSpace = (OfficeSpace) property;
+			propertyHistory.setPropertyType(PropertyType.OfficeSpace);
+			propertyHistory.setCapacity(officeSpace.getCapacity());
+		}
+		return propertyHistory;
+	}
+
+	private static LeaseHistory toHistory(Lease lease, boolean deleted) {
+		LeaseHistory leaseHistory = new LeaseHistory();
+		leaseHistory.setLeaseId(lease.getLeaseId());
+		leaseHistory.setValidFrom(new GregorianCalendar());
+		leaseHistory.setDeleted(deleted);
+		leaseHistory.setPropertyId(lease.getProperty().getPropertyId());
+		if (lease.getCustomer() != null)
+			leaseHistory.setCustomerId(lease.getCustomer().getCustomerId());
+		leaseHistory.setRentalRate(lease.getRentalRate());
+		leaseHistory.setStartDate(lease.getStartDate());
+		leaseHistory.setEndDate(lease.getEndDate());
+		return leaseHistory;
+	}
+
+	private static GregorianCalendar toCalendar(Instant instant) {
+		return GregorianCalendar.from(instant.atZone(ZoneId.systemDefault()));
+	}
+}
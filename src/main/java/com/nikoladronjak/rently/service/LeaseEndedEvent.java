@@ -0,0 +1,16 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.LocalDate;
+
+/**
+ * Represents the event which is published by the LeaseExpiryService when the
+ * last day of a lease has passed and its property is released.
+ *
+ * @param leaseId    The id of the lease which has ended.
+ * @param propertyId The id of the property which was leased.
+ * @param endDate    The last day of the lease.
+ *
+ * @author Nikola Dronjak
+ */
+public record LeaseEndedEvent(int leaseId, int propertyId, LocalDate endDate) {
+}
@@ -0,0 +1,168 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.nikoladronjak.rently.util.TimingWheel;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Represents a service class responsible for releasing the properties at the
+ * moment their leases end. The end of every lease which hasn't ended yet is
+ * scheduled in a hierarchical timing wheel, so millions of pending expirations
+ * can be kept without ever scanning the leases. A single thread advances the
+ * wheel once per tick and publishes a LeaseEndedEvent for every lease whose
+ * last day has passed.
+ *
+ * The expirations are scheduled by the PropertyBookingService, which loads the
+ * leases from the database on startup and reschedules or cancels the expiration
+ * of a lease whenever the lease is booked, modified or cancelled.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class LeaseExpiryService {
+
+	private static final Logger logger = LoggerFactory.getLogger(LeaseExpiryService.class);
+
+	/**
+	 * Publisher of the LeaseEndedEvent events.
+	 */
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * Represents the length of a tick of the wheel in milliseconds (long).
+	 */
+	private final long tickMillis;
+
+	/**
+	 * Represents the pending expirations, keyed by leaseId.
+	 */
+	private final TimingWheel<LeaseEndedEvent> wheel;
+
+	/**
+	 * Represents the thread which advances the wheel.
+	 */
+	private ScheduledExecutorService ticker;
+
+	@Autowired
+	public LeaseExpiryService(@Value("${rently.leases.expiry-tick-millis:60000}") long tickMillis) {
+		this.tickMillis = tickMillis;
+		this.wheel = new TimingWheel<>(Math.floorDiv(Instant.now().toEpochMilli(), tickMillis));
+	}
+
+	/**
+	 * Starts the thread which advances the wheel.
+	 */
+	@PostConstruct
+	public void start() {
+		ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "rently-lease-expiry");
+			thread.setDaemon(true);
+			return thread;
+		});
+		ticker.scheduleWithFixedDelay(() -> {
+			try {
+				advance(Instant.now());
+			} catch (RuntimeException e) {
+				// The leases which failed to be released are not released again, but
+				// the wheel keeps running for the other leases.
+				logger.error("Failed to release the leases which have ended.", e);
+			}
+		}, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stops the thread which advances the wheel.
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		ticker.shutdownNow();
+		ticker.awaitTermination(30, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Schedules the expiration of the lease at the start of the day after its
+	 * last day. The previous expiration of the lease, if any, is replaced.
+	 *
+	 * @param leaseId    The id of the lease.
+	 * @param propertyId The id of the leased property.
+	 * @param endDate    The last day of the lease.
+	 */
+	public synchronized void schedule(int leaseId, int propertyId, LocalDate endDate) {
+		Instant endsAt = endDate.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+		wheel.schedule(leaseId, toDeadline(endsAt), new LeaseEndedEvent(leaseId, propertyId, endDate));
+	}
+
+	/**
+	 * Cancels the expiration of the lease.
+	 *
+	 * @param leaseId The id of the lease.
+	 */
+	public synchronized void cancel(int leaseId) {
+		wheel.cancel(leaseId);
+	}
+
+	/**
+	 * Cancels the expirations of all the leases.
+	 */
+	public synchronized void clear() {
+		wheel.clear();
+	}
+
+	/**
+	 * Checks whether the expiration of the lease is scheduled.
+	 *
+	 * @param leaseId The id of the lease.
+	 * @return True if the expiration is scheduled, or false otherwise.
+	 */
+	public synchronized boolean isScheduled(int leaseId) {
+		return wheel.contains(leaseId);
+	}
+
+	/**
+	 * Advances the wheel to the given moment and publishes a LeaseEndedEvent for
+	 * every lease which has ended by then. The events are published after the
+	 * wheel has been released, so the listeners can schedule and cancel
+	 * expirations. The leases have already left the wheel, so an event whose
+	 * listener fails is logged and the rest of the events are still published.
+	 *
+	 * @param now The moment to which the wheel is advanced.
+	 */
+	public void advance(Instant now) {
+		List<LeaseEndedEvent> endedLeases = new ArrayList<>();
+		synchronized (this) {
+			wheel.advance(Math.floorDiv(now.toEpochMilli(), tickMillis), endedLeases::add);
+		}
+		for (LeaseEndedEvent endedLease : endedLeases) {
+			try {
+				eventPublisher.publishEvent(endedLease);
+			} catch (RuntimeException e) {
+				logger.error("Failed to release the lease with the id " + endedLease.leaseId() + ".", e);
+			}
+		}
+	}
+
+	/**
+	 * Rounds the moment up to a tick, so an expiration never fires early.
+	 */
+	private long toDeadline(Instant instant) {
+		return -Math.floorDiv(-instant.toEpochMilli(), tickMillis);
+	}
+}
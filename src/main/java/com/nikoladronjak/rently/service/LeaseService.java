@@ -1,36 +1,36 @@
 package com.nikoladronjak.rently.service;
 
-import java.util.HashMap;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import com.nikoladronjak.rently.domain.Customer;
 import com.nikoladronjak.rently.domain.EventSpace;
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.LeaseHistory;
 import com.nikoladronjak.rently.domain.OfficeSpace;
 import com.nikoladronjak.rently.domain.Property;
 import com.nikoladronjak.rently.domain.Rent;
 import com.nikoladronjak.rently.domain.Residence;
-import com.nikoladronjak.rently.domain.Lease;
 import com.nikoladronjak.rently.dto.LeaseDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.exception.ValidationException;
 import com.nikoladronjak.rently.repository.CustomerRepository;
 import com.nikoladronjak.rently.repository.EventSpaceRepository;
 import com.nikoladronjak.rently.repository.LeaseRepository;
 import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
 import com.nikoladronjak.rently.repository.RentRepository;
 import com.nikoladronjak.rently.repository.ResidenceRepository;
-
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
+import com.nikoladronjak.rently.validation.PrecompiledValidator;
 
 /**
  * Represents a service class responsible for handling the business logic
@@ -79,35 +79,65 @@ public class LeaseService {
 	@Autowired
 	private LeaseRepository leaseRepository;
 
+	/**
+	 * Service for booking the properties for the periods of their leases.
+	 */
+	@Autowired
+	private PropertyBookingService propertyBookingService;
+
+	/**
+	 * Service for checking whether the hours of the event spaces are booked.
+	 */
+	@Autowired
+	private EventBookingService eventBookingService;
+
+	/**
+	 * Service for checking whether the seats of the office spaces are reserved.
+	 */
+	@Autowired
+	private SeatReservationService seatReservationService;
+
+	/**
+	 * Service for updating the totals of the rents of a lease whose rate is
+	 * changed.
+	 */
+	@Autowired
+	private RentRecomputationService rentRecomputationService;
+
+	/**
+	 * Service for writing the versions of the lease in the same transaction in
+	 * which it is changed.
+	 */
+	@Autowired
+	private HistoryService historyService;
+
+	/**
+	 * Service for ranking the addresses of the properties by their leases.
+	 */
+	@Autowired
+	private AutocompleteService autocompleteService;
+
 	/**
 	 * Validator for validating Lease entities.
 	 */
-	private final Validator validator;
+	private final PrecompiledValidator validator;
 
 	/**
-	 * Default constructor for LeaseService. Initializes the validator using a
-	 * ValidatorFactory.
+	 * Default constructor for LeaseService. Initializes the validator.
 	 */
 	public LeaseService() {
-		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-		this.validator = factory.getValidator();
+		this.validator = new PrecompiledValidator();
 	}
 
 	/**
 	 * Retrieves all leases from the database and converts them to LeaseDTOs.
 	 * 
-	 * @return ResponseEntity containing a list of LeaseDTOs if successful, or an
-	 *         error message with HttpStatus.INTERNAL_SERVER_ERROR status (500) if
-	 *         an exception occurs.
+	 * @return A list of LeaseDTOs.
 	 */
-	public ResponseEntity<?> getAll() {
-		try {
-			List<Lease> leases = leaseRepository.findAll();
-			List<LeaseDTO> leaseDTOs = leases.stream().map(this::convertToDTO).collect(Collectors.toList());
-			return ResponseEntity.ok(leaseDTOs);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
-		}
+	public List<LeaseDTO> getAll() {
+		List<Lease> leases = leaseRepository.findAll();
+		List<LeaseDTO> leaseDTOs = leases.stream().map(this::convertToDTO).collect(Collectors.toList());
+		return leaseDTOs;
 	}
 
 	/**
@@ -116,18 +146,12 @@ public class LeaseService {
 	 * 
 	 * @param propertyId The id of the property for which the leases are being
 	 *                   queried.
-	 * @return ResponseEntity containing a list of LeaseDTOs if successful, or an
-	 *         error message with HttpStatus.INTERNAL_SERVER_ERROR status (500) if
-	 *         an exception occurs.
+	 * @return A list of LeaseDTOs.
 	 */
-	public ResponseEntity<?> getAllByPropertyId(Integer propertyId) {
-		try {
-			List<Lease> leases = leaseRepository.findAllByProperty_PropertyId(propertyId);
-			List<LeaseDTO> leaseDTOs = leases.stream().map(this::convertToDTO).collect(Collectors.toList());
-			return ResponseEntity.ok(leaseDTOs);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
-		}
+	public List<LeaseDTO> getAllByPropertyId(Integer propertyId) {
+		List<Lease> leases = leaseRepository.findAllByProperty_PropertyId(propertyId);
+		List<LeaseDTO> leaseDTOs = leases.stream().map(this::convertToDTO).collect(Collectors.toList());
+		return leaseDTOs;
 	}
 
 	/**
@@ -136,18 +160,12 @@ public class LeaseService {
 	 * 
 	 * @param customerId The id of the customer for which the leases are being
 	 *                   queried.
-	 * @return ResponseEntity containing a list of LeaseDTOs if successful, or an
-	 *         error message with HttpStatus.INTERNAL_SERVER_ERROR status (500) if
-	 *         an exception occurs.
+	 * @return A list of LeaseDTOs.
 	 */
-	public ResponseEntity<?> getAllByCustomerId(Integer customerId) {
-		try {
-			List<Lease> leases = leaseRepository.findAllByCustomer_CustomerId(customerId);
-			List<LeaseDTO> leaseDTOs = leases.stream().map(this::convertToDTO).collect(Collectors.toList());
-			return ResponseEntity.ok(leaseDTOs);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
-		}
+	public List<LeaseDTO> getAllByCustomerId(Integer customerId) {
+		List<Lease> leases = leaseRepository.findAllByCustomer_CustomerId(customerId);
+		List<LeaseDTO> leaseDTOs = leases.stream().map(this::convertToDTO).collect(Collectors.toList());
+		return leaseDTOs;
 	}
 
 	/**
@@ -155,22 +173,35 @@ public class LeaseService {
 	 * LeaseDTO.
 	 * 
 	 * @param id The id of the lease that is being queried.
-	 * @return ResponseEntity containing the LeaseDTO if successful, or an error
-	 *         message with HttpStatus.BAD_REQUEST status (400) if an exception
-	 *         occurs.
-	 * @throws RuntimeException if there is no lease with the given id.
+	 * @return The LeaseDTO.
+	 * @throws NotFoundException if there is no lease with the given id.
 	 */
-	public ResponseEntity<?> getById(Integer id) {
-		try {
-			Optional<Lease> leaseFromDb = leaseRepository.findById(id);
-			if (!leaseFromDb.isPresent())
-				throw new RuntimeException("There is no lease with the given id.");
-
-			LeaseDTO leaseDTO = convertToDTO(leaseFromDb.get());
-			return ResponseEntity.ok(leaseDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public LeaseDTO getById(Integer id) {
+		Optional<Lease> leaseFromDb = leaseRepository.findById(id);
+		if (!leaseFromDb.isPresent())
+			throw new NotFoundException("There is no lease with the given id.");
+
+		LeaseDTO leaseDTO = convertToDTO(leaseFromDb.get());
+		return leaseDTO;
+	}
+
+	/**
+	 * Retrieves the version of the lease with the specified id which was valid at
+	 * the given time and converts it to a LeaseDTO.
+	 * 
+	 * @param id   The id of the lease that is being queried.
+	 * @param asOf The time at which the version was valid.
+	 * @return The LeaseDTO.
+	 * @throws NotFoundException if there was no lease with the given id at the
+	 *                           given time.
+	 */
+	public LeaseDTO getById(Integer id, Instant asOf) {
+		Optional<LeaseHistory> leaseHistory = historyService.getLeaseAsOf(id, asOf);
+		if (leaseHistory.isEmpty())
+			throw new NotFoundException("There was no lease with the given id at the given time.");
+
+		LeaseDTO leaseDTO = convertToDTO(leaseHistory.get());
+		return leaseDTO;
 	}
 
 	/**
@@ -178,221 +209,198 @@ public class LeaseService {
 	 * 
 	 * @param leaseDTO The LeaseDTO containing the details of the lease that is
 	 *                 being added.
-	 * @return ResponseEntity containing the newly created LeaseDTO if successful,
-	 *         or an error message with HttpStatus.BAD_REQUEST status (400) if the
-	 *         leaseDTO is not valid, or if an exception occurs.
-	 * @throws RuntimeException if:
-	 *                          <ul>
-	 *                          <li>There is no property for the given
-	 *                          propertyId.</li>
-	 *                          <li>The property is not available.</li>
-	 *                          <li>There is no customer for the given
-	 *                          customerId.</li>
-	 *                          <li>The start date of the lease is after the end
-	 *                          date.</li>
-	 *                          <li>The end date of the lease is before the start
-	 *                          date.</li>
-	 *                          <li>The lease with the provided propertyId and
-	 *                          customerId already exists.</li>
-	 *                          </ul>
+	 * @return The newly created LeaseDTO.
+	 * @throws NotFoundException if there is no property for the given
+	 *                           propertyId, or if there is no customer for the
+	 *                           given customerId.
+	 * @throws ConflictException if the property is not available, if the
+	 *                           property is already leased for any day between
+	 *                           the start date and the end date, if the event
+	 *                           space has hourly bookings in that period, or
+	 *                           if the office space has seat reservations in
+	 *                           that period.
+	 * @throws UnprocessableEntityException if the start date of the lease is
+	 *                                      after the end date, or if the end
+	 *                                      date of the lease is before the
+	 *                                      start date.
+	 * @throws ValidationException if the leaseDTO is not valid.
 	 */
-	public ResponseEntity<?> add(LeaseDTO leaseDTO) {
-		try {
-			Optional<Residence> residenceFromDb = residenceRepository.findById(leaseDTO.getPropertyId());
-			Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(leaseDTO.getPropertyId());
-			Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(leaseDTO.getPropertyId());
-			if ((!residenceFromDb.isPresent() && eventSpaceFromDb.isEmpty() && officeSpaceFromDb.isEmpty())
-					|| (!eventSpaceFromDb.isPresent() && residenceFromDb.isEmpty() && officeSpaceFromDb.isEmpty())
-					|| (!officeSpaceFromDb.isPresent() && residenceFromDb.isEmpty() && eventSpaceFromDb.isEmpty()))
-				throw new RuntimeException(
-						"The property has to be either a residence, an event space or an office space.");
-
-			if (residenceFromDb.isPresent() && !residenceFromDb.get().isAvailable())
-				throw new RuntimeException("This property is currently unavailable.");
-
-			if (eventSpaceFromDb.isPresent() && !eventSpaceFromDb.get().isAvailable())
-				throw new RuntimeException("This property is currently unavailable.");
-
-			if (officeSpaceFromDb.isPresent() && !officeSpaceFromDb.get().isAvailable())
-				throw new RuntimeException("This property is currently unavailable.");
-
-			Optional<Customer> customerFromDb = customerRepository.findById(leaseDTO.getCustomerId());
-			if (!customerFromDb.isPresent())
-				throw new RuntimeException("There is no customer for the given customerId.");
-
-			Lease lease = convertFromDTO(leaseDTO);
-			Set<ConstraintViolation<Lease>> violations = validator.validate(lease);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<Lease> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-			}
-
-			if (leaseDTO.getStartDate().after(leaseDTO.getEndDate()))
-				throw new RuntimeException("The start date of the lease has to be before the end date of the lease.");
-
-			if (leaseDTO.getEndDate().before(leaseDTO.getStartDate()))
-				throw new RuntimeException("The end date of the lease has to be after the start date of the lease.");
-
-			Optional<Lease> existingLease = leaseRepository.findByProperty_PropertyIdAndCustomer_CustomerId(
-					leaseDTO.getPropertyId(), leaseDTO.getCustomerId());
-			if (existingLease.isPresent())
-				throw new RuntimeException("This lease already exists.");
-
-			if (residenceFromDb.isPresent()) {
-				lease.setRentalRate(residenceFromDb.get().getRentalRate());
-				Residence residence = residenceFromDb.get();
-				residence.setAvailable(false);
-				residenceRepository.save(residence);
-			}
-
-			if (eventSpaceFromDb.isPresent()) {
-				lease.setRentalRate(eventSpaceFromDb.get().getRentalRate());
-				EventSpace eventSpace = eventSpaceFromDb.get();
-				eventSpace.setAvailable(false);
-				eventSpaceRepository.save(eventSpace);
-			}
-
-			if (officeSpaceFromDb.isPresent()) {
-				lease.setRentalRate(officeSpaceFromDb.get().getRentalRate());
-				OfficeSpace officeSpace = officeSpaceFromDb.get();
-				officeSpace.setAvailable(false);
-				officeSpaceRepository.save(officeSpace);
-			}
-			Lease newLease = leaseRepository.save(lease);
-			LeaseDTO newLeaseDTO = convertToDTO(newLease);
-			return ResponseEntity.ok(newLeaseDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public LeaseDTO add(LeaseDTO leaseDTO) {
+		Optional<Residence> residenceFromDb = residenceRepository.findById(leaseDTO.getPropertyId());
+		Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(leaseDTO.getPropertyId());
+		Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(leaseDTO.getPropertyId());
+		if ((!residenceFromDb.isPresent() && eventSpaceFromDb.isEmpty() && officeSpaceFromDb.isEmpty())
+				|| (!eventSpaceFromDb.isPresent() && residenceFromDb.isEmpty() && officeSpaceFromDb.isEmpty())
+				|| (!officeSpaceFromDb.isPresent() && residenceFromDb.isEmpty() && eventSpaceFromDb.isEmpty()))
+			throw new NotFoundException(
+					"The property has to be either a residence, an event space or an office space.");
+
+		if (residenceFromDb.isPresent() && !residenceFromDb.get().isAvailable())
+			throw new ConflictException("This property is currently unavailable.");
+
+		if (eventSpaceFromDb.isPresent() && !eventSpaceFromDb.get().isAvailable())
+			throw new ConflictException("This property is currently unavailable.");
+
+		if (officeSpaceFromDb.isPresent() && !officeSpaceFromDb.get().isAvailable())
+			throw new ConflictException("This property is currently unavailable.");
+
+		Optional<Customer> customerFromDb = customerRepository.findById(leaseDTO.getCustomerId());
+		if (!customerFromDb.isPresent())
+			throw new NotFoundException("There is no customer for the given customerId.");
+
+		Lease lease = convertFromDTO(leaseDTO);
+		Map<String, String> errors = validator.validate(lease);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		if (leaseDTO.getStartDate().after(leaseDTO.getEndDate()))
+			throw new UnprocessableEntityException(
+					"The start date of the lease has to be before the end date of the lease.");
+
+		if (leaseDTO.getEndDate().before(leaseDTO.getStartDate()))
+			throw new UnprocessableEntityException(
+					"The end date of the lease has to be after the start date of the lease.");
+
+		if (residenceFromDb.isPresent())
+			lease.setRentalRate(residenceFromDb.get().getRentalRate());
+
+		if (eventSpaceFromDb.isPresent())
+			lease.setRentalRate(eventSpaceFromDb.get().getRentalRate());
+
+		if (officeSpaceFromDb.isPresent())
+			lease.setRentalRate(officeSpaceFromDb.get().getRentalRate());
+
+		Lease newLease = propertyBookingService.book(lease, () -> {
+			if (eventSpaceFromDb.isPresent() && eventBookingService.hasBookings(leaseDTO.getPropertyId(),
+					toLocalDate(leaseDTO.getStartDate()), toLocalDate(leaseDTO.getEndDate())))
+				throw new ConflictException("The event space has hourly bookings for the given dates.");
+
+			if (officeSpaceFromDb.isPresent() && seatReservationService.hasReservations(leaseDTO.getPropertyId(),
+					toLocalDate(leaseDTO.getStartDate()), toLocalDate(leaseDTO.getEndDate())))
+				throw new ConflictException("The office space has seat reservations for the given dates.");
+
+			return historyService.changeLease(() -> {
+				Lease savedLease = leaseRepository.save(lease);
+				autocompleteService.countLease(leaseDTO.getPropertyId(), 1);
+				return savedLease;
+			});
+		});
+		LeaseDTO newLeaseDTO = convertToDTO(newLease);
+		return newLeaseDTO;
 	}
 
 	/**
-	 * Updates the lease information based on the provided id and LeaseDTO.
+	 * Updates the lease information based on the provided id and LeaseDTO. The
+	 * rental rate of the lease is taken from the property again, and if it
+	 * changes, the totals of the open rents of the lease are updated as well.
 	 * 
 	 * @param id       The id of the lease that is being updated.
 	 * @param leaseDTO The LeaseDTO containing the updated details of the lease.
-	 * @return ResponseEntity containing the updated LeaseDTO if successful, or an
-	 *         error message with HttpStatus.BAD_REQUEST status (400) if the
-	 *         leaseDTO is not valid, or if an exception occurs.
-	 * @throws RuntimeException if:
-	 *                          <ul>
-	 *                          <li>There is no lease with the given id.</li>
-	 *                          <li>There is no property for the given
-	 *                          propertyId.</li>
-	 *                          <li>There is no customer for the given
-	 *                          customerId.</li>
-	 *                          <li>The start date of the lease is after the end
-	 *                          date.</li>
-	 *                          <li>The end date of the lease is before the start
-	 *                          date.</li>
-	 *                          <li>The lease with the provided propertyId and
-	 *                          customerId already exists.</li>
-	 *                          </ul>
+	 * @return The updated LeaseDTO.
+	 * @throws NotFoundException if there is no lease with the given id, or if
+	 *                           there is no property for the given propertyId,
+	 *                           or if there is no customer for the given
+	 *                           customerId.
+	 * @throws ConflictException if the property is already leased by another
+	 *                           lease for any day between the start date and
+	 *                           the end date, if the event space has hourly
+	 *                           bookings in that period, or if the office space
+	 *                           has seat reservations in that period.
+	 * @throws UnprocessableEntityException if the start date of the lease is
+	 *                                      after the end date, or if the end
+	 *                                      date of the lease is before the
+	 *                                      start date.
+	 * @throws ValidationException if the leaseDTO is not valid.
 	 */
-	public ResponseEntity<?> update(Integer id, LeaseDTO leaseDTO) {
-		try {
-			Optional<Lease> leaseFromDb = leaseRepository.findById(id);
-			if (!leaseFromDb.isPresent())
-				throw new RuntimeException("There is no lease with the given id.");
-
-			Optional<Residence> residenceFromDb = residenceRepository.findById(leaseDTO.getPropertyId());
-			Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(leaseDTO.getPropertyId());
-			Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(leaseDTO.getPropertyId());
-			if ((!residenceFromDb.isPresent() && eventSpaceFromDb.isEmpty() && officeSpaceFromDb.isEmpty())
-					|| (!eventSpaceFromDb.isPresent() && residenceFromDb.isEmpty() && officeSpaceFromDb.isEmpty())
-					|| (!officeSpaceFromDb.isPresent() && residenceFromDb.isEmpty() && eventSpaceFromDb.isEmpty()))
-				throw new RuntimeException(
-						"The property has to be either a residence, an event space or an office space.");
-
-			Optional<Customer> customerFromDb = customerRepository.findById(leaseDTO.getCustomerId());
-			if (!customerFromDb.isPresent())
-				throw new RuntimeException("There is no customer for the given customerId.");
-
-			Lease lease = convertFromDTO(leaseDTO);
-			Set<ConstraintViolation<Lease>> violations = validator.validate(lease);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<Lease> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-			}
-
-			if (leaseDTO.getStartDate().after(leaseDTO.getEndDate()))
-				throw new RuntimeException("The start date of the lease has to be before the end date of the lease.");
-
-			if (leaseDTO.getEndDate().before(leaseDTO.getStartDate()))
-				throw new RuntimeException("The end date of the lease has to be after the start date of the lease.");
-
-			Optional<Lease> existingLease = leaseRepository.findByProperty_PropertyIdAndCustomer_CustomerId(
-					leaseDTO.getPropertyId(), leaseDTO.getCustomerId());
-			if (existingLease.isPresent()) {
-				if (existingLease.get().getLeaseId() != id) {
-					throw new RuntimeException("This lease already exists.");
-				}
-			}
-
-			if (residenceFromDb.isPresent()) {
-				lease.setLeaseId(id);
-				lease.setRentalRate(residenceFromDb.get().getRentalRate());
-				Residence residence = residenceFromDb.get();
-				residence.setAvailable(false);
-				residenceRepository.save(residence);
-			}
-
-			if (eventSpaceFromDb.isPresent()) {
-				lease.setLeaseId(id);
-				lease.setRentalRate(eventSpaceFromDb.get().getRentalRate());
-				EventSpace eventSpace = eventSpaceFromDb.get();
-				eventSpace.setAvailable(false);
-				eventSpaceRepository.save(eventSpace);
-			}
-
-			if (officeSpaceFromDb.isPresent()) {
-				lease.setLeaseId(id);
-				lease.setRentalRate(officeSpaceFromDb.get().getRentalRate());
-				OfficeSpace officeSpace = officeSpaceFromDb.get();
-				officeSpace.setAvailable(false);
-				officeSpaceRepository.save(officeSpace);
-			}
-
-			Lease updatedLease = leaseRepository.save(lease);
-			LeaseDTO updatedLeaseDTO = convertToDTO(updatedLease);
-			return ResponseEntity.ok(updatedLeaseDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public LeaseDTO update(Integer id, LeaseDTO leaseDTO) {
+		Optional<Lease> leaseFromDb = leaseRepository.findById(id);
+		if (!leaseFromDb.isPresent())
+			throw new NotFoundException("There is no lease with the given id.");
+
+		Optional<Residence> residenceFromDb = residenceRepository.findById(leaseDTO.getPropertyId());
+		Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(leaseDTO.getPropertyId());
+		Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(leaseDTO.getPropertyId());
+		if ((!residenceFromDb.isPresent() && eventSpaceFromDb.isEmpty() && officeSpaceFromDb.isEmpty())
+				|| (!eventSpaceFromDb.isPresent() && residenceFromDb.isEmpty() && officeSpaceFromDb.isEmpty())
+				|| (!officeSpaceFromDb.isPresent() && residenceFromDb.isEmpty() && eventSpaceFromDb.isEmpty()))
+			throw new NotFoundException(
+					"The property has to be either a residence, an event space or an office space.");
+
+		Optional<Customer> customerFromDb = customerRepository.findById(leaseDTO.getCustomerId());
+		if (!customerFromDb.isPresent())
+			throw new NotFoundException("There is no customer for the given customerId.");
+
+		Lease lease = convertFromDTO(leaseDTO);
+		Map<String, String> errors = validator.validate(lease);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		if (leaseDTO.getStartDate().after(leaseDTO.getEndDate()))
+			throw new UnprocessableEntityException(
+					"The start date of the lease has to be before the end date of the lease.");
+
+		if (leaseDTO.getEndDate().before(leaseDTO.getStartDate()))
+			throw new UnprocessableEntityException(
+					"The end date of the lease has to be after the start date of the lease.");
+
+		lease.setLeaseId(id);
+		if (residenceFromDb.isPresent())
+			lease.setRentalRate(residenceFromDb.get().getRentalRate());
+
+		if (eventSpaceFromDb.isPresent())
+			lease.setRentalRate(eventSpaceFromDb.get().getRentalRate());
+
+		if (officeSpaceFromDb.isPresent())
+			lease.setRentalRate(officeSpaceFromDb.get().getRentalRate());
+
+		Lease updatedLease = propertyBookingService.book(lease, () -> {
+			if (eventSpaceFromDb.isPresent() && eventBookingService.hasBookings(leaseDTO.getPropertyId(),
+					toLocalDate(leaseDTO.getStartDate()), toLocalDate(leaseDTO.getEndDate())))
+				throw new ConflictException("The event space has hourly bookings for the given dates.");
+
+			if (officeSpaceFromDb.isPresent() && seatReservationService.hasReservations(leaseDTO.getPropertyId(),
+					toLocalDate(leaseDTO.getStartDate()), toLocalDate(leaseDTO.getEndDate())))
+				throw new ConflictException("The office space has seat reservations for the given dates.");
+
+			return historyService.changeLease(() -> rentRecomputationService.changeLeaseRate(id, () -> {
+				Lease savedLease = leaseRepository.save(lease);
+				autocompleteService.countLease(leaseFromDb.get().getProperty().getPropertyId(), -1);
+				autocompleteService.countLease(leaseDTO.getPropertyId(), 1);
+				return savedLease;
+			}));
+		});
+		LeaseDTO updatedLeaseDTO = convertToDTO(updatedLease);
+		return updatedLeaseDTO;
 	}
 
 	/**
 	 * Deletes the lease with the specified id.
 	 * 
 	 * @param id The id of the lease that is being deleted.
-	 * @return ResponseEntity containing the deleted LeaseDTO if successful, or an
-	 *         error message with HttpStatus.BAD_REQUEST status (400) if an
-	 *         exception occurs.
-	 * @throws RuntimeException if there is no lease with the given id, or if there
-	 *                          are rents associated with the lease.
+	 * @return The deleted LeaseDTO.
+	 * @throws NotFoundException if there is no lease with the given id.
+	 * @throws ConflictException if there are rents associated with the lease.
 	 */
-	public ResponseEntity<?> delete(Integer id) {
-		try {
-			Optional<Lease> leaseFromDb = leaseRepository.findById(id);
-			if (!leaseFromDb.isPresent())
-				throw new RuntimeException("There is no lease with the given id.");
-
-			List<Rent> rentsFromDb = rentRepository.findAllByLease_LeaseId(id);
-			if (!rentsFromDb.isEmpty())
-				throw new RuntimeException("You cannot delete this lease since there are rents associated with it.");
-
-			leaseRepository.deleteById(id);
-			LeaseDTO deletedLeaseDTO = convertToDTO(leaseFromDb.get());
-			return ResponseEntity.ok(deletedLeaseDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public LeaseDTO delete(Integer id) {
+		Optional<Lease> leaseFromDb = leaseRepository.findById(id);
+		if (!leaseFromDb.isPresent())
+			throw new NotFoundException("There is no lease with the given id.");
+
+		List<Rent> rentsFromDb = rentRepository.findAllByLease_LeaseId(id);
+		if (!rentsFromDb.isEmpty())
+			throw new ConflictException("You cannot delete this lease since there are rents associated with it.");
+
+		propertyBookingService.cancel(leaseFromDb.get(),
+				() -> historyService.deleteLease(leaseFromDb.get(), () -> {
+					leaseRepository.deleteById(id);
+					autocompleteService.countLease(leaseFromDb.get().getProperty().getPropertyId(), -1);
+				}));
+		LeaseDTO deletedLeaseDTO = convertToDTO(leaseFromDb.get());
+		return deletedLeaseDTO;
+	}
+
+	private static LocalDate toLocalDate(GregorianCalendar date) {
+		return date.toZonedDateTime().toLocalDate();
 	}
 
 	/**
@@ -403,6 +411,7 @@ public class LeaseService {
 	 */
 	private LeaseDTO convertToDTO(Lease lease) {
 		LeaseDTO leaseDTO = new LeaseDTO();
+		leaseDTO.setLeaseId(lease.getLeaseId());
 		leaseDTO.setPropertyId(lease.getProperty().getPropertyId());
 		leaseDTO.setCustomerId(lease.getCustomer().getCustomerId());
 		leaseDTO.setRentalRate(lease.getRentalRate());
@@ -412,6 +421,24 @@ public class LeaseService {
 		return leaseDTO;
 	}
 
+	/**
+	 * Converts a version of a lease to a LeaseDTO.
+	 * 
+	 * @param leaseHistory The version of the lease that is being converted.
+	 * @return The corresponding LeaseDTO.
+	 */
+	private LeaseDTO convertToDTO(LeaseHistory leaseHistory) {
+		LeaseDTO leaseDTO = new LeaseDTO();
+		leaseDTO.setLeaseId(leaseHistory.getLeaseId());
+		leaseDTO.setPropertyId(leaseHistory.getPropertyId());
+		leaseDTO.setCustomerId(leaseHistory.getCustomerId());
+		leaseDTO.setRentalRate(leaseHistory.getRentalRate());
+		leaseDTO.setStartDate(leaseHistory.getStartDate());
+		leaseDTO.setEndDate(leaseHistory.getEndDate());
+
+		return leaseDTO;
+	}
+
 	/**
 	 * Converts a LeaseDTO to a Lease entity.
 	 * 
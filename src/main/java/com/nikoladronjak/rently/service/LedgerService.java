@@ -0,0 +1,281 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.YearMonth;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.LedgerAccountType;
+import com.nikoladronjak.rently.domain.LedgerBalance;
+import com.nikoladronjak.rently.domain.LedgerEntry;
+import com.nikoladronjak.rently.domain.LedgerEntryType;
+import com.nikoladronjak.rently.domain.Rent;
+import com.nikoladronjak.rently.dto.LedgerBalanceDTO;
+import com.nikoladronjak.rently.dto.LedgerEntryDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.LedgerBalanceRepository;
+import com.nikoladronjak.rently.repository.LedgerEntryRepository;
+import com.nikoladronjak.rently.repository.RentRepository;
+import com.nikoladronjak.rently.util.StripedLock;
+
+/**
+ * Represents a service class responsible for the payment ledger. The ledger is
+ * an append-only list of charges, payments and adjustments, every one of which
+ * is posted to a rent. Next to the ledger, the running balances of every rent,
+ * lease and customer are stored as LedgerBalance entities. Posting an entry
+ * appends it to the ledger and adds its amount to the three balances which it
+ * affects in the same transaction, so the balance of a customer and the
+ * overdue leases of an owner are read with indexed lookups instead of being
+ * summed up from the ledger.
+ *
+ * The balances are changed with UPDATE statements which add the amount to the
+ * stored value, so concurrent postings to the same account never overwrite
+ * each other. Postings for the same customer are additionally serialized with
+ * an in-memory striped lock table keyed by customerId, so the balances of an
+ * account which doesn't have one yet are only created once.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class LedgerService {
+
+	/**
+	 * Represents the number of stripes in the lock table.
+	 */
+	private static final int LOCK_STRIPES = 256;
+
+	/**
+	 * Repository for accessing data related to ledger entries.
+	 */
+	@Autowired
+	private LedgerEntryRepository ledgerEntryRepository;
+
+	/**
+	 * Repository for accessing data related to ledger balances.
+	 */
+	@Autowired
+	private LedgerBalanceRepository ledgerBalanceRepository;
+
+	/**
+	 * Repository for accessing data related to rents.
+	 */
+	@Autowired
+	private RentRepository rentRepository;
+
+	/**
+	 * Repository for accessing data related to leases.
+	 */
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	/**
+	 * Repository for accessing data related to customers.
+	 */
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	/**
+	 * Represents the lock table which serializes postings for the same customer.
+	 */
+	private final StripedLock customerLocks = new StripedLock(LOCK_STRIPES);
+
+	/**
+	 * Template for executing the posting of an entry and the update of the
+	 * balances in a single transaction.
+	 */
+	private final TransactionTemplate transactionTemplate;
+
+	@Autowired
+	public LedgerService(PlatformTransactionManager transactionManager) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Retrieves the ledger entries of a rent.
+	 *
+	 * @param rentId The id of the rent.
+	 * @return A list of LedgerEntryDTOs, in the order in which they were posted.
+	 */
+	public List<LedgerEntryDTO> getAllByRentId(int rentId) {
+		return ledgerEntryRepository.findAllByRentIdOrderByLedgerEntryId(rentId).stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Retrieves the ledger entries of all the rents of a lease.
+	 *
+	 * @param leaseId The id of the lease.
+	 * @return A list of LedgerEntryDTOs, in the order in which they were posted.
+	 */
+	public List<LedgerEntryDTO> getAllByLeaseId(int leaseId) {
+		return ledgerEntryRepository.findAllByLeaseIdOrderByLedgerEntryId(leaseId).stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Retrieves the ledger entries of all the rents of a customer.
+	 *
+	 * @param customerId The id of the customer.
+	 * @return A list of LedgerEntryDTOs, in the order in which they were posted.
+	 */
+	public List<LedgerEntryDTO> getAllByCustomerId(int customerId) {
+		return ledgerEntryRepository.findAllByCustomerIdOrderByLedgerEntryId(customerId).stream()
+				.map(this::convertToDTO).collect(Collectors.toList());
+	}
+
+	/**
+	 * Retrieves the balance of a rent, a lease or a customer. An account to which
+	 * nothing has been posted yet has a balance of zero.
+	 *
+	 * @param accountType The type of the account.
+	 * @param accountId   The id of the rent, the lease or the customer.
+	 * @return The LedgerBalanceDTO of the account.
+	 * @throws NotFoundException if nothing has been posted to the account and the
+	 *                           rent, the lease or the customer doesn't exist.
+	 */
+	public LedgerBalanceDTO getBalance(LedgerAccountType accountType, int accountId) {
+		Optional<LedgerBalance> ledgerBalance = ledgerBalanceRepository.findByAccountTypeAndAccountId(accountType,
+				accountId);
+		if (ledgerBalance.isPresent())
+			return convertToDTO(ledgerBalance.get());
+
+		boolean exists;
+		if (accountType == LedgerAccountType.Rent)
+			exists = rentRepository.existsById(accountId);
+		else if (accountType == LedgerAccountType.Lease)
+			exists = leaseRepository.existsById(accountId);
+		else
+			exists = customerRepository.existsById(accountId);
+		if (!exists)
+			throw new NotFoundException("There is no " + accountType.name().toLowerCase() + " with the given id.");
+
+		return new LedgerBalanceDTO(accountType, accountId, 0);
+	}
+
+	/**
+	 * Retrieves the balances of the overdue leases of an owner. A lease is
+	 * overdue if a rent of a past billing period still has a positive balance.
+	 *
+	 * @param ownerId The id of the owner of the leased properties.
+	 * @return A list of LedgerBalanceDTOs of the overdue leases.
+	 */
+	public List<LedgerBalanceDTO> getOverdueLeases(int ownerId) {
+		return ledgerBalanceRepository.findOverdueLeases(ownerId, YearMonth.now().toString()).stream()
+				.map(this::convertToDTO).collect(Collectors.toList());
+	}
+
+	/**
+	 * Posts a new entry to the ledger and updates the balances of the rent, its
+	 * lease and the customer of the lease.
+	 *
+	 * @param ledgerEntryDTO The entry that is being posted.
+	 * @return The posted LedgerEntryDTO.
+	 * @throws NotFoundException            if there is no rent with the given
+	 *                                      id.
+	 * @throws UnprocessableEntityException if the amount of a payment is missing
+	 *                                      or not positive, if the amount of a
+	 *                                      charge is not positive or if the
+	 *                                      amount of an adjustment is missing or
+	 *                                      zero.
+	 */
+	public LedgerEntryDTO post(LedgerEntryDTO ledgerEntryDTO) {
+		Optional<Rent> rentFromDb = rentRepository.findById(ledgerEntryDTO.getRentId());
+		if (!rentFromDb.isPresent())
+			throw new NotFoundException("There is no rent with the given id.");
+
+		Rent rent = rentFromDb.get();
+		double amount = amountOf(ledgerEntryDTO, rent);
+		double change = ledgerEntryDTO.getType() == LedgerEntryType.Payment ? -amount : amount;
+		Lease lease = rent.getLease();
+		int customerId = lease.getCustomer().getCustomerId();
+		Integer ownerId = lease.getProperty().getOwner() == null ? null
+				: lease.getProperty().getOwner().getOwnerId();
+
+		ReentrantLock lock = customerLocks.get(customerId);
+		lock.lock();
+		try {
+			return transactionTemplate.execute(status -> {
+				addToBalance(new LedgerBalance(0, LedgerAccountType.Rent, rent.getRentId(), ownerId,
+						lease.getLeaseId(), rent.getBillingPeriod(), 0), change);
+				addToBalance(new LedgerBalance(0, LedgerAccountType.Lease, lease.getLeaseId(), ownerId, null, null,
+						0), change);
+				addToBalance(new LedgerBalance(0, LedgerAccountType.Customer, customerId, null, null, null, 0),
+						change);
+				LedgerEntry ledgerEntry = ledgerEntryRepository
+						.save(new LedgerEntry(0, ledgerEntryDTO.getType(), amount, new GregorianCalendar(),
+								ledgerEntryDTO.getDescription(), rent.getRentId(), lease.getLeaseId(), customerId));
+				return convertToDTO(ledgerEntry);
+			});
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private double amountOf(LedgerEntryDTO ledgerEntryDTO, Rent rent) {
+		Double amount = ledgerEntryDTO.getAmount();
+		switch (ledgerEntryDTO.getType()) {
+		case Charge:
+			if (amount == null)
+				amount = rent.getTotalRent();
+			if (amount <= 0)
+				throw new UnprocessableEntityException("The amount of a charge has to be a positive value.");
+			break;
+		case Payment:
+			if (amount == null || amount <= 0)
+				throw new UnprocessableEntityException("The amount of a payment has to be a positive value.");
+			break;
+		case Adjustment:
+			if (amount == null || amount == 0)
+				throw new UnprocessableEntityException("The amount of an adjustment cannot be zero.");
+			break;
+		}
+		return Math.round(amount * 100) / 100.0;
+	}
+
+	/**
+	 * Adds the amount to the stored balance of the account, after creating the
+	 * balance if nothing has been posted to the account yet. It has to be called
+	 * while holding the lock of the customer.
+	 */
+	private void addToBalance(LedgerBalance ledgerBalance, double amount) {
+		if (ledgerBalanceRepository.addToBalance(ledgerBalance.getAccountType(), ledgerBalance.getAccountId(),
+				amount) == 0) {
+			ledgerBalance.setBalance(amount);
+			ledgerBalanceRepository.save(ledgerBalance);
+		}
+	}
+
+	/**
+	 * Converts a LedgerEntry entity to a LedgerEntryDTO.
+	 *
+	 * @param ledgerEntry The LedgerEntry entity that is being converted.
+	 * @return The LedgerEntryDTO.
+	 */
+	private LedgerEntryDTO convertToDTO(LedgerEntry ledgerEntry) {
+		return new LedgerEntryDTO(ledgerEntry.getLedgerEntryId(), ledgerEntry.getRentId(), ledgerEntry.getType(),
+				ledgerEntry.getAmount(), ledgerEntry.getDescription(), ledgerEntry.getPostedAt(),
+				ledgerEntry.getLeaseId(), ledgerEntry.getCustomerId());
+	}
+
+	/**
+	 * Converts a LedgerBalance entity to a LedgerBalanceDTO.
+	 *
+	 * @param ledgerBalance The LedgerBalance entity that is being converted.
+	 * @return The LedgerBalanceDTO.
+	 */
+	private LedgerBalanceDTO convertToDTO(LedgerBalance ledgerBalance) {
+		return new LedgerBalanceDTO(ledgerBalance.getAccountType(), ledgerBalance.getAccountId(),
+				Math.round(ledgerBalance.getBalance() * 100) / 100.0);
+	}
+}
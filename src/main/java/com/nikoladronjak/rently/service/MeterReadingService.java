@@ -0,0 +1,338 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nikoladronjak.rently.domain.MeterReadingChunk;
+import com.nikoladronjak.rently.domain.MeterReadingRollup;
+import com.nikoladronjak.rently.domain.RollupGranularity;
+import com.nikoladronjak.rently.domain.UtilityLease;
+import com.nikoladronjak.rently.dto.MeterReadingBatchResultDTO;
+import com.nikoladronjak.rently.dto.MeterReadingDTO;
+import com.nikoladronjak.rently.dto.MeterReadingRollupDTO;
+import com.nikoladronjak.rently.exception.BadRequestException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.MeterReadingChunkRepository;
+import com.nikoladronjak.rently.repository.MeterReadingRollupRepository;
+import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
+import com.nikoladronjak.rently.util.StripedLock;
+import com.nikoladronjak.rently.util.TimeSeriesCodec;
+
+/**
+ * Represents a service class responsible for the meter readings of the utility
+ * leases. The readings of a utility lease are stored in one chunk per day
+ * (UTC), compressed with the TimeSeriesCodec, so a day of readings at a regular
+ * interval takes a few bits per reading instead of a row per reading, and a
+ * range query only reads the chunks of the days in the range.
+ *
+ * A batch can contain the readings of many utility leases. The readings of
+ * every utility lease are merged into its chunks in a single transaction: the
+ * chunks of the affected days are decoded, the new readings are merged into
+ * them in timestamp order and the chunks are encoded again. A reading for a
+ * time at which the meter already has a reading is skipped, so a batch can be
+ * safely sent again. The hourly, daily and monthly rollups of the affected
+ * periods are updated with the stored readings in the same transaction.
+ *
+ * Ingestions for the same utility lease are serialized with an in-memory
+ * striped lock table keyed by utilityLeaseId, so two concurrent batches can
+ * never overwrite each other's chunks.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class MeterReadingService {
+
+	/**
+	 * Represents the length of the period which a chunk covers, in seconds.
+	 */
+	private static final long CHUNK_SECONDS = 86400;
+
+	/**
+	 * Represents the number of stripes in the lock table.
+	 */
+	private static final int LOCK_STRIPES = 256;
+
+	/**
+	 * Repository for accessing data related to the chunks of meter readings.
+	 */
+	@Autowired
+	private MeterReadingChunkRepository meterReadingChunkRepository;
+
+	/**
+	 * Repository for accessing data related to the rollups of meter readings.
+	 */
+	@Autowired
+	private MeterReadingRollupRepository meterReadingRollupRepository;
+
+	/**
+	 * Repository for accessing data related to utility leases.
+	 */
+	@Autowired
+	private UtilityLeaseRepository utilityLeaseRepository;
+
+	/**
+	 * Represents the lock table which serializes ingestions for the same utility
+	 * lease.
+	 */
+	private final StripedLock utilityLeaseLocks = new StripedLock(LOCK_STRIPES);
+
+	/**
+	 * Represents the maximum number of readings in a batch (int).
+	 */
+	private final int maxBatchSize;
+
+	/**
+	 * Template for executing the ingestion of the readings of a utility lease in
+	 * a single transaction.
+	 */
+	private final TransactionTemplate transactionTemplate;
+
+	@Autowired
+	public MeterReadingService(PlatformTransactionManager transactionManager,
+			@Value("${rently.meters.max-batch-size:100000}") int maxBatchSize) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Stores a batch of meter readings and updates the rollups of the affected
+	 * periods.
+	 *
+	 * @param readings The readings of the batch.
+	 * @return The MeterReadingBatchResultDTO with the number of stored and
+	 *         skipped readings.
+	 * @throws BadRequestException          if the batch contains too many
+	 *                                      readings.
+	 * @throws NotFoundException            if there is no utility lease for one
+	 *                                      of the utilityLeaseIds.
+	 * @throws UnprocessableEntityException if a value is not a finite number.
+	 */
+	public MeterReadingBatchResultDTO ingest(List<MeterReadingDTO> readings) {
+		if (readings.size() > maxBatchSize)
+			throw new BadRequestException("A batch can contain at most " + maxBatchSize + " readings.");
+
+		Map<Integer, List<MeterReadingDTO>> readingsByUtilityLease = new HashMap<>();
+		for (MeterReadingDTO reading : readings) {
+			if (!Double.isFinite(reading.getValue()))
+				throw new UnprocessableEntityException("The value of a reading has to be a finite number.");
+
+			readingsByUtilityLease.computeIfAbsent(reading.getUtilityLeaseId(), id -> new ArrayList<>()).add(reading);
+		}
+		Set<Integer> utilityLeaseIds = utilityLeaseRepository.findAllById(readingsByUtilityLease.keySet()).stream()
+				.map(UtilityLease::getUtilityLeaseId).collect(Collectors.toSet());
+		for (Integer utilityLeaseId : readingsByUtilityLease.keySet()) {
+			if (!utilityLeaseIds.contains(utilityLeaseId))
+				throw new NotFoundException("There is no utility lease for the utilityLeaseId: " + utilityLeaseId);
+		}
+
+		int stored = 0;
+		for (Map.Entry<Integer, List<MeterReadingDTO>> entry : readingsByUtilityLease.entrySet()) {
+			ReentrantLock lock = utilityLeaseLocks.get(entry.getKey());
+			lock.lock();
+			try {
+				stored += transactionTemplate.execute(status -> ingest(entry.getKey(), entry.getValue()));
+			} finally {
+				lock.unlock();
+			}
+		}
+		return new MeterReadingBatchResultDTO(readings.size(), stored, readings.size() - stored);
+	}
+
+	/**
+	 * Retrieves the readings of a utility lease in a range of time.
+	 *
+	 * @param utilityLeaseId The id of the utility lease.
+	 * @param from           The start of the range.
+	 * @param to             The end of the range (exclusive).
+	 * @return A list of MeterReadingDTOs, ordered by their time.
+	 * @throws UnprocessableEntityException if the start of the range is not
+	 *                                      before its end.
+	 */
+	public List<MeterReadingDTO> getReadings(int utilityLeaseId, Instant from, Instant to) {
+		checkRange(from, to);
+		long start = from.getEpochSecond();
+		long end = to.getEpochSecond();
+		List<MeterReadingDTO> readings = new ArrayList<>();
+		for (MeterReadingChunk chunk : meterReadingChunkRepository.findInRange(utilityLeaseId,
+				Math.floorDiv(start, CHUNK_SECONDS) * CHUNK_SECONDS, end)) {
+			if (chunk.getEndTime() < start)
+				continue;
+
+			TimeSeriesCodec.Series series = TimeSeriesCodec.decode(chunk.getData(), chunk.getReadings());
+			for (int i = 0; i < chunk.getReadings(); i++) {
+				long timestamp = series.timestamps()[i];
+				if (timestamp >= start && timestamp < end)
+					readings.add(new MeterReadingDTO(utilityLeaseId, Instant.ofEpochSecond(timestamp),
+							series.values()[i]));
+			}
+		}
+		return readings;
+	}
+
+	/**
+	 * Retrieves the rollups of a utility lease whose periods start in a range of
+	 * time.
+	 *
+	 * @param utilityLeaseId The id of the utility lease.
+	 * @param granularity    The granularity of the rollups.
+	 * @param from           The start of the range.
+	 * @param to             The end of the range (exclusive).
+	 * @return A list of MeterReadingRollupDTOs, ordered by the start of their
+	 *         periods.
+	 * @throws UnprocessableEntityException if the start of the range is not
+	 *                                      before its end.
+	 */
+	public List<MeterReadingRollupDTO> getRollups(int utilityLeaseId, RollupGranularity granularity, Instant from,
+			Instant to) {
+		checkRange(from, to);
+		return meterReadingRollupRepository
+				.findAllByUtilityLeaseIdAndGranularityAndPeriodStartGreaterThanEqualAndPeriodStartLessThanOrderByPeriodStart(
+						utilityLeaseId, granularity, from.getEpochSecond(), to.getEpochSecond())
+				.stream().map(this::convertToDTO).collect(Collectors.toList());
+	}
+
+	private int ingest(int utilityLeaseId, List<MeterReadingDTO> readings) {
+		TreeMap<Long, TreeMap<Long, Double>> readingsByChunk = new TreeMap<>();
+		for (MeterReadingDTO reading : readings) {
+			long timestamp = reading.getTimestamp().getEpochSecond();
+			readingsByChunk.computeIfAbsent(Math.floorDiv(timestamp, CHUNK_SECONDS) * CHUNK_SECONDS,
+					start -> new TreeMap<>()).putIfAbsent(timestamp, reading.getValue());
+		}
+
+		Map<Long, MeterReadingChunk> chunks = meterReadingChunkRepository
+				.findAllByUtilityLeaseIdAndStartTimeIn(utilityLeaseId, readingsByChunk.keySet()).stream()
+				.collect(Collectors.toMap(MeterReadingChunk::getStartTime, chunk -> chunk));
+		Map<RollupGranularity, Map<Long, MeterReadingRollup>> rollups = new HashMap<>();
+		List<MeterReadingChunk> changedChunks = new ArrayList<>();
+		int stored = 0;
+		for (Map.Entry<Long, TreeMap<Long, Double>> entry : readingsByChunk.entrySet()) {
+			TreeMap<Long, Double> merged = entry.getValue();
+			MeterReadingChunk chunk = chunks.get(entry.getKey());
+			if (chunk != null) {
+				TimeSeriesCodec.Series series = TimeSeriesCodec.decode(chunk.getData(), chunk.getReadings());
+				for (int i = 0; i < chunk.getReadings(); i++) {
+					merged.remove(series.timestamps()[i]);
+				}
+				if (merged.isEmpty())
+					continue;
+
+				for (Map.Entry<Long, Double> reading : merged.entrySet()) {
+					roll(rollups, utilityLeaseId, reading.getKey(), reading.getValue());
+				}
+				stored += merged.size();
+				for (int i = 0; i < chunk.getReadings(); i++) {
+					merged.put(series.timestamps()[i], series.values()[i]);
+				}
+			} else {
+				for (Map.Entry<Long, Double> reading : merged.entrySet()) {
+					roll(rollups, utilityLeaseId, reading.getKey(), reading.getValue());
+				}
+				stored += merged.size();
+				chunk = new MeterReadingChunk(0, utilityLeaseId, entry.getKey(), 0, 0, null);
+			}
+
+			long[] timestamps = new long[merged.size()];
+			double[] values = new double[merged.size()];
+			int i = 0;
+			for (Map.Entry<Long, Double> reading : merged.entrySet()) {
+				timestamps[i] = reading.getKey();
+				values[i++] = reading.getValue();
+			}
+			chunk.setData(TimeSeriesCodec.encode(timestamps, values, timestamps.length));
+			chunk.setReadings(timestamps.length);
+			chunk.setEndTime(timestamps[timestamps.length - 1]);
+			changedChunks.add(chunk);
+		}
+		meterReadingChunkRepository.saveAll(changedChunks);
+		saveRollups(utilityLeaseId, rollups);
+		return stored;
+	}
+
+	/**
+	 * Adds the reading to the hourly, the daily and the monthly rollups which are
+	 * being collected for the batch.
+	 */
+	private static void roll(Map<RollupGranularity, Map<Long, MeterReadingRollup>> rollups, int utilityLeaseId,
+			long timestamp, double value) {
+		for (RollupGranularity granularity : RollupGranularity.values()) {
+			MeterReadingRollup rollup = rollups.computeIfAbsent(granularity, key -> new HashMap<>()).computeIfAbsent(
+					periodStart(granularity, timestamp),
+					start -> new MeterReadingRollup(0, utilityLeaseId, granularity, start, 0, 0, value, value));
+			rollup.setReadings(rollup.getReadings() + 1);
+			rollup.setTotal(rollup.getTotal() + value);
+			rollup.setMinimum(Math.min(rollup.getMinimum(), value));
+			rollup.setMaximum(Math.max(rollup.getMaximum(), value));
+		}
+	}
+
+	/**
+	 * Merges the rollups which were collected for the batch into the stored
+	 * rollups.
+	 */
+	private void saveRollups(int utilityLeaseId, Map<RollupGranularity, Map<Long, MeterReadingRollup>> rollups) {
+		List<MeterReadingRollup> changedRollups = new ArrayList<>();
+		for (Map.Entry<RollupGranularity, Map<Long, MeterReadingRollup>> entry : rollups.entrySet()) {
+			Map<Long, MeterReadingRollup> collected = new HashMap<>(entry.getValue());
+			for (MeterReadingRollup rollup : meterReadingRollupRepository
+					.findAllByUtilityLeaseIdAndGranularityAndPeriodStartIn(utilityLeaseId, entry.getKey(),
+							new HashSet<>(collected.keySet()))) {
+				MeterReadingRollup batch = collected.remove(rollup.getPeriodStart());
+				rollup.setReadings(rollup.getReadings() + batch.getReadings());
+				rollup.setTotal(rollup.getTotal() + batch.getTotal());
+				rollup.setMinimum(Math.min(rollup.getMinimum(), batch.getMinimum()));
+				rollup.setMaximum(Math.max(rollup.getMaximum(), batch.getMaximum()));
+				changedRollups.add(rollup);
+			}
+			changedRollups.addAll(collected.values());
+		}
+		changedRollups.sort(Comparator.comparing(MeterReadingRollup::getGranularity)
+				.thenComparingLong(MeterReadingRollup::getPeriodStart));
+		meterReadingRollupRepository.saveAll(changedRollups);
+	}
+
+	private static long periodStart(RollupGranularity granularity, long timestamp) {
+		if (granularity == RollupGranularity.Hour)
+			return Math.floorDiv(timestamp, 3600L) * 3600;
+		if (granularity == RollupGranularity.Day)
+			return Math.floorDiv(timestamp, 86400L) * 86400;
+
+		return YearMonth.from(Instant.ofEpochSecond(timestamp).atOffset(ZoneOffset.UTC)).atDay(1)
+				.atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+	}
+
+	private static void checkRange(Instant from, Instant to) {
+		if (!from.isBefore(to))
+			throw new UnprocessableEntityException("The start of the range has to be before its end.");
+	}
+
+	/**
+	 * Converts a MeterReadingRollup entity to a MeterReadingRollupDTO.
+	 *
+	 * @param rollup The MeterReadingRollup entity that is being converted.
+	 * @return The MeterReadingRollupDTO.
+	 */
+	private MeterReadingRollupDTO convertToDTO(MeterReadingRollup rollup) {
+		return new MeterReadingRollupDTO(rollup.getUtilityLeaseId(), rollup.getGranularity(),
+				Instant.ofEpochSecond(rollup.getPeriodStart()), rollup.getReadings(), rollup.getTotal(),
+				rollup.getMinimum(), rollup.getMaximum());
+	}
+}
@@ -1,32 +1,33 @@
 package com.nikoladronjak.rently.service;
 
-import java.util.HashMap;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import com.nikoladronjak.rently.domain.Lease;
 import com.nikoladronjak.rently.domain.OfficeSpace;
+import com.nikoladronjak.rently.domain.PropertyHistory;
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.domain.SeatReservation;
 import com.nikoladronjak.rently.domain.UtilityLease;
 import com.nikoladronjak.rently.dto.OfficeSpaceDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.ValidationException;
 import com.nikoladronjak.rently.repository.EventSpaceRepository;
 import com.nikoladronjak.rently.repository.LeaseRepository;
 import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
 import com.nikoladronjak.rently.repository.OwnerRepository;
 import com.nikoladronjak.rently.repository.ResidenceRepository;
+import com.nikoladronjak.rently.repository.SeatReservationRepository;
 import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
-
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
+import com.nikoladronjak.rently.validation.PrecompiledValidator;
 
 /**
  * Represents a service class responsible for handling the business logic
@@ -76,37 +77,93 @@ public class OfficeSpaceService {
 	@Autowired
 	private OfficeSpaceRepository officeSpaceRepository;
 
+	/**
+	 * Repository for accessing data related to seat reservations.
+	 */
+	@Autowired
+	private SeatReservationRepository seatReservationRepository;
+
+	/**
+	 * Service for checking whether the properties are leased.
+	 */
+	@Autowired
+	private PropertyBookingService propertyBookingService;
+
+	/**
+	 * Service for evicting the compiled rate plan of the office space when its
+	 * rental rate changes.
+	 */
+	@Autowired
+	private QuoteService quoteService;
+
+	/**
+	 * Service for deleting the rate rules of the office space when it is deleted.
+	 */
+	@Autowired
+	private RateRuleService rateRuleService;
+
+	/**
+	 * Service for writing the versions of the office space in the same transaction
+	 * in which it is changed.
+	 */
+	@Autowired
+	private HistoryService historyService;
+
+	/**
+	 * Service for notifying the saved searches which the office space starts to match
+	 * when it is added or updated.
+	 */
+	@Autowired
+	private SavedSearchService savedSearchService;
+
+	/**
+	 * Service for keeping the full-text index of the names and the descriptions
+	 * of the properties up to date.
+	 */
+	@Autowired
+	private PropertySearchService propertySearchService;
+
+	/**
+	 * Service for completing the addresses of the properties.
+	 */
+	@Autowired
+	private AutocompleteService autocompleteService;
+
+	/**
+	 * Service for finding the properties which were entered more than once.
+	 */
+	@Autowired
+	private DuplicateAddressService duplicateAddressService;
+
+	/**
+	 * Service for finding the properties by their location.
+	 */
+	@Autowired
+	private GeoSearchService geoSearchService;
+
 	/**
 	 * Validator for validating OfficeSpace entities.
 	 */
-	private final Validator validator;
+	private final PrecompiledValidator validator;
 
 	/**
-	 * Default constructor for OfficeSpaceService. Initializes the validator using a
-	 * ValidatorFactory.
+	 * Default constructor for OfficeSpaceService. Initializes the validator.
 	 */
 	public OfficeSpaceService() {
-		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-		this.validator = factory.getValidator();
+		this.validator = new PrecompiledValidator();
 	}
 
 	/**
 	 * Retrieves all office spaces from the database and converts them to
 	 * OfficeSpaceDTOs.
 	 * 
-	 * @return ResponseEntity containing a list of OfficeSpaceDTOs if successful, or
-	 *         an error message with HttpStatus.INTERNAL_SERVER_ERROR status (500)
-	 *         if an exception occurs.
+	 * @return A list of OfficeSpaceDTOs.
 	 */
-	public ResponseEntity<?> getAll() {
-		try {
-			List<OfficeSpace> officeSpaces = officeSpaceRepository.findAll();
-			List<OfficeSpaceDTO> officeSpaceDTOs = officeSpaces.stream().map(this::convertToDTO)
-					.collect(Collectors.toList());
-			return ResponseEntity.ok(officeSpaceDTOs);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
-		}
+	public List<OfficeSpaceDTO> getAll() {
+		List<OfficeSpace> officeSpaces = officeSpaceRepository.findAll();
+		List<OfficeSpaceDTO> officeSpaceDTOs = officeSpaces.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		return officeSpaceDTOs;
 	}
 
 	/**
@@ -114,22 +171,36 @@ public class OfficeSpaceService {
 	 * it to an OfficeSpaceDTO.
 	 * 
 	 * @param id The id of the office space that is being queried.
-	 * @return ResponseEntity containing the OfficeSpaceDTO if successful, or an
-	 *         error message with HttpStatus.BAD_REQUEST status (400) if an
-	 *         exception occurs.
-	 * @throws RuntimeException if there is no office space with the given id.
+	 * @return The OfficeSpaceDTO.
+	 * @throws NotFoundException if there is no office space with the given id.
 	 */
-	public ResponseEntity<?> getById(Integer id) {
-		try {
-			Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(id);
-			if (!officeSpaceFromDb.isPresent())
-				throw new RuntimeException("There is no office space with the given id.");
-
-			OfficeSpaceDTO officeSpaceDTO = convertToDTO(officeSpaceFromDb.get());
-			return ResponseEntity.ok(officeSpaceDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public OfficeSpaceDTO getById(Integer id) {
+		Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(id);
+		if (!officeSpaceFromDb.isPresent())
+			throw new NotFoundException("There is no office space with the given id.");
+
+		OfficeSpaceDTO officeSpaceDTO = convertToDTO(officeSpaceFromDb.get());
+		return officeSpaceDTO;
+	}
+
+	/**
+	 * Retrieves the version of the office space with the specified id which was valid
+	 * at the given time and converts it to a OfficeSpaceDTO. The photos of the office space
+	 * are not versioned, so they are left out.
+	 * 
+	 * @param id   The id of the office space that is being queried.
+	 * @param asOf The time at which the version was valid.
+	 * @return The OfficeSpaceDTO.
+	 * @throws NotFoundException if there was no office space with the given id at the
+	 *                           given time.
+	 */
+	public OfficeSpaceDTO getById(Integer id, Instant asOf) {
+		Optional<PropertyHistory> propertyHistory = historyService.getPropertyAsOf(id, asOf);
+		if (propertyHistory.isEmpty() || propertyHistory.get().getPropertyType() != PropertyType.OfficeSpace)
+			throw new NotFoundException("There was no office space with the given id at the given time.");
+
+		OfficeSpaceDTO officeSpaceDTO = convertToDTO(propertyHistory.get());
+		return officeSpaceDTO;
 	}
 
 	/**
@@ -137,38 +208,44 @@ public class OfficeSpaceService {
 	 * 
 	 * @param officeSpaceDTO The OfficeSpaceDTO containing the details of the office
 	 *                       space that is being added.
-	 * @return ResponseEntity containing the newly created OfficeSpaceDTO if
-	 *         successful, or an error message with HttpStatus.BAD_REQUEST status
-	 *         (400) if the officeSpaceDTO is not valid, or if an exception occurs.
-	 * @throws RuntimeException if there is no owner with the given ownerId, or if a
-	 *                          property with the provided address already exists.
+	 * @return The newly created OfficeSpaceDTO.
+	 * @throws NotFoundException if there is no owner with the given ownerId.
+	 * @throws ConflictException if a property with the provided address already
+	 *                           exists, or if a property with a similar
+	 *                           address exists and such properties are
+	 *                           rejected.
+	 * @throws ValidationException if the officeSpaceDTO is not valid.
 	 */
-	public ResponseEntity<?> add(OfficeSpaceDTO officeSpaceDTO) {
-		try {
-			if (ownerRepository.findById(officeSpaceDTO.getOwnerId()).isEmpty())
-				throw new RuntimeException("There is no owner with the given id.");
-
-			OfficeSpace officeSpace = convertFromDTO(officeSpaceDTO);
-			Set<ConstraintViolation<OfficeSpace>> violations = validator.validate(officeSpace);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<OfficeSpace> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-			}
-
-			if (residenceRepository.findByAddress(officeSpaceDTO.getAddress()).isPresent()
-					|| eventSpaceRepository.findByAddress(officeSpaceDTO.getAddress()).isPresent()
-					|| officeSpaceRepository.findByAddress(officeSpaceDTO.getAddress()).isPresent())
-				throw new RuntimeException("This property already exists.");
-
-			OfficeSpace newOfficeSpace = officeSpaceRepository.save(officeSpace);
-			OfficeSpaceDTO newOfficeSpaceDTO = convertToDTO(newOfficeSpace);
-			return ResponseEntity.ok(newOfficeSpaceDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public OfficeSpaceDTO add(OfficeSpaceDTO officeSpaceDTO) {
+		if (ownerRepository.findById(officeSpaceDTO.getOwnerId()).isEmpty())
+			throw new NotFoundException("There is no owner with the given id.");
+
+		OfficeSpace officeSpace = convertFromDTO(officeSpaceDTO);
+		Map<String, String> errors = validator.validate(officeSpace);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		if (residenceRepository.findByAddress(officeSpaceDTO.getAddress()).isPresent()
+				|| eventSpaceRepository.findByAddress(officeSpaceDTO.getAddress()).isPresent()
+				|| officeSpaceRepository.findByAddress(officeSpaceDTO.getAddress()).isPresent())
+			throw new ConflictException("This property already exists.");
+
+		List<Integer> possibleDuplicateIds = duplicateAddressService.check(null, officeSpaceDTO.getAddress());
+
+		OfficeSpace newOfficeSpace = historyService.changeProperty(() -> {
+			OfficeSpace savedOfficeSpace = officeSpaceRepository.save(officeSpace);
+			savedSearchService.percolate(null, savedOfficeSpace);
+			propertySearchService.index(savedOfficeSpace);
+			autocompleteService.putAddress(savedOfficeSpace);
+			duplicateAddressService.index(savedOfficeSpace);
+			geoSearchService.index(savedOfficeSpace);
+			return savedOfficeSpace;
+		});
+		OfficeSpaceDTO newOfficeSpaceDTO = convertToDTO(newOfficeSpace);
+		if (!possibleDuplicateIds.isEmpty())
+			newOfficeSpaceDTO.setPossibleDuplicateIds(possibleDuplicateIds);
+
+		return newOfficeSpaceDTO;
 	}
 
 	/**
@@ -178,91 +255,97 @@ public class OfficeSpaceService {
 	 * @param id             The id of the office space that is being updated.
 	 * @param officeSpaceDTO The OfficeSpaceDTO containing the updated details of
 	 *                       the office space.
-	 * @return ResponseEntity containing the updated OfficeSpaceDTO if successful,
-	 *         or an error message with HttpStatus.BAD_REQUEST status (400) if the
-	 *         officeSpaceDTO is not valid, or if an exception occurs.
-	 * @throws RuntimeException if:
-	 *                          <ul>
-	 *                          <li>There is no office space with the given id.</li>
-	 *                          <li>There is no owner with the given ownerId</li>
-	 *                          <li>The property with the provided address already
-	 *                          exists.</li>
-	 *                          </ul>
+	 * @return The updated OfficeSpaceDTO.
+	 * @throws NotFoundException if there is no office space with the given id,
+	 *                           or if there is no owner with the given ownerId.
+	 * @throws ConflictException if the property with the provided address
+	 *                           already exists, or if a property with a
+	 *                           similar address exists and such properties are
+	 *                           rejected.
+	 * @throws ValidationException if the officeSpaceDTO is not valid.
 	 */
-	public ResponseEntity<?> update(Integer id, OfficeSpaceDTO officeSpaceDTO) {
-		try {
-			Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(id);
-			if (!officeSpaceFromDb.isPresent())
-				throw new RuntimeException("There is no office space with the given id.");
-
-			if (ownerRepository.findById(officeSpaceDTO.getOwnerId()).isEmpty())
-				throw new RuntimeException("There is no owner with the given id.");
-
-			OfficeSpace officeSpace = convertFromDTO(officeSpaceDTO);
-			Set<ConstraintViolation<OfficeSpace>> violations = validator.validate(officeSpace);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<OfficeSpace> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-			}
+	public OfficeSpaceDTO update(Integer id, OfficeSpaceDTO officeSpaceDTO) {
+		Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(id);
+		if (!officeSpaceFromDb.isPresent())
+			throw new NotFoundException("There is no office space with the given id.");
 
-			if (!officeSpaceFromDb.get().getAddress().equals(officeSpaceDTO.getAddress())) {
-				if (residenceRepository.findByAddress(officeSpaceDTO.getAddress()).isPresent()
-						|| eventSpaceRepository.findByAddress(officeSpaceDTO.getAddress()).isPresent()
-						|| officeSpaceRepository.findByAddress(officeSpaceDTO.getAddress()).isPresent()) {
-					throw new RuntimeException("This property already exists.");
-				}
-			}
+		if (ownerRepository.findById(officeSpaceDTO.getOwnerId()).isEmpty())
+			throw new NotFoundException("There is no owner with the given id.");
+
+		OfficeSpace officeSpace = convertFromDTO(officeSpaceDTO);
+		Map<String, String> errors = validator.validate(officeSpace);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
 
-			officeSpace.setPropertyId(id);
-			OfficeSpace updatedOfficeSpace = officeSpaceRepository.save(officeSpace);
-			OfficeSpaceDTO updatedOfficeSpaceDTO = convertToDTO(updatedOfficeSpace);
-			return ResponseEntity.ok(updatedOfficeSpaceDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+		List<Integer> possibleDuplicateIds = List.of();
+		if (!officeSpaceFromDb.get().getAddress().equals(officeSpaceDTO.getAddress())) {
+			if (residenceRepository.findByAddress(officeSpaceDTO.getAddress()).isPresent()
+					|| eventSpaceRepository.findByAddress(officeSpaceDTO.getAddress()).isPresent()
+					|| officeSpaceRepository.findByAddress(officeSpaceDTO.getAddress()).isPresent()) {
+				throw new ConflictException("This property already exists.");
+			}
+			possibleDuplicateIds = duplicateAddressService.check(id, officeSpaceDTO.getAddress());
 		}
+
+		officeSpace.setPropertyId(id);
+		OfficeSpace updatedOfficeSpace = historyService.changeProperty(() -> {
+			OfficeSpace savedOfficeSpace = officeSpaceRepository.save(officeSpace);
+			savedSearchService.percolate(officeSpaceFromDb.get(), savedOfficeSpace);
+			propertySearchService.index(savedOfficeSpace);
+			autocompleteService.putAddress(savedOfficeSpace);
+			duplicateAddressService.index(savedOfficeSpace);
+			geoSearchService.index(savedOfficeSpace);
+			return savedOfficeSpace;
+		});
+		quoteService.evict(id);
+		OfficeSpaceDTO updatedOfficeSpaceDTO = convertToDTO(updatedOfficeSpace);
+		if (!possibleDuplicateIds.isEmpty())
+			updatedOfficeSpaceDTO.setPossibleDuplicateIds(possibleDuplicateIds);
+
+		return updatedOfficeSpaceDTO;
 	}
 
 	/**
 	 * Deletes the office space with the specified id.
 	 * 
 	 * @param id The id of the office space that is being deleted.
-	 * @return ResponseEntity containing the deleted OfficeSpaceDTO if successful,
-	 *         or an error message with HttpStatus.BAD_REQUEST status (400) if an
-	 *         exception occurs.
-	 * @throws RuntimeException if:
-	 *                          <ul>
-	 *                          <li>There is no office space with the given id.</li>
-	 *                          <li>There are leases associated with the office
-	 *                          space.</li>
-	 *                          <li>There are utility leases associated with the
-	 *                          office space.</li>
-	 *                          </ul>
+	 * @return The deleted OfficeSpaceDTO.
+	 * @throws NotFoundException if there is no office space with the given id.
+	 * @throws ConflictException if there are leases associated with the office
+	 *                           space, if there are utility leases associated
+	 *                           with the office space, or if there are seat
+	 *                           reservations associated with the office space.
 	 */
-	public ResponseEntity<?> delete(Integer id) {
-		try {
-			Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(id);
-			if (!officeSpaceFromDb.isPresent())
-				throw new RuntimeException("There is no office space with the given id.");
-
-			List<Lease> leasesFromDb = leaseRepository.findAllByProperty_PropertyId(id);
-			if (!leasesFromDb.isEmpty())
-				throw new RuntimeException(
-						"You cannot delete this office space since there are leases associated with it.");
-
-			List<UtilityLease> utilityLeasesFromDb = utilityLeaseRepository.findAllByProperty_PropertyId(id);
-			if (!utilityLeasesFromDb.isEmpty())
-				throw new RuntimeException(
-						"You cannot delete this office space since there are utility leases associated with it.");
-
+	public OfficeSpaceDTO delete(Integer id) {
+		Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(id);
+		if (!officeSpaceFromDb.isPresent())
+			throw new NotFoundException("There is no office space with the given id.");
+
+		List<Lease> leasesFromDb = leaseRepository.findAllByProperty_PropertyId(id);
+		if (!leasesFromDb.isEmpty())
+			throw new ConflictException(
+					"You cannot delete this office space since there are leases associated with it.");
+
+		List<UtilityLease> utilityLeasesFromDb = utilityLeaseRepository.findAllByProperty_PropertyId(id);
+		if (!utilityLeasesFromDb.isEmpty())
+			throw new ConflictException(
+					"You cannot delete this office space since there are utility leases associated with it.");
+
+		List<SeatReservation> seatReservationsFromDb = seatReservationRepository.findAllByOfficeSpace_PropertyId(id);
+		if (!seatReservationsFromDb.isEmpty())
+			throw new ConflictException(
+					"You cannot delete this office space since there are seat reservations associated with it.");
+
+		historyService.deleteProperty(officeSpaceFromDb.get(), () -> {
+			rateRuleService.deleteAllByPropertyId(id);
 			officeSpaceRepository.deleteById(id);
-			OfficeSpaceDTO deletedOfficeSpaceDTO = convertToDTO(officeSpaceFromDb.get());
-			return ResponseEntity.ok(deletedOfficeSpaceDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+			propertySearchService.remove(id);
+			autocompleteService.removeAddress(id);
+			duplicateAddressService.remove(id);
+			geoSearchService.remove(id);
+		});
+		OfficeSpaceDTO deletedOfficeSpaceDTO = convertToDTO(officeSpaceFromDb.get());
+		return deletedOfficeSpaceDTO;
 	}
 
 	/**
@@ -276,10 +359,13 @@ public class OfficeSpaceService {
 		officeSpaceDTO.setPropertyId(officeSpace.getPropertyId());
 		officeSpaceDTO.setName(officeSpace.getName());
 		officeSpaceDTO.setAddress(officeSpace.getAddress());
+		officeSpaceDTO.setLatitude(officeSpace.getLatitude());
+		officeSpaceDTO.setLongitude(officeSpace.getLongitude());
 		officeSpaceDTO.setDescription(officeSpace.getDescription());
 		officeSpaceDTO.setRentalRate(officeSpace.getRentalRate());
 		officeSpaceDTO.setSize(officeSpace.getSize());
-		officeSpaceDTO.setIsAvailable(officeSpace.isAvailable());
+		boolean isLeased = propertyBookingService.isLeased(officeSpace.getPropertyId(), LocalDate.now());
+		officeSpaceDTO.setIsAvailable(officeSpace.isAvailable() && !isLeased);
 		officeSpaceDTO.setNumberOfParkingSpots(officeSpace.getNumberOfParkingSpots());
 		officeSpaceDTO.setPhotos(officeSpace.getPhotos());
 		officeSpaceDTO.setCapacity(officeSpace.getCapacity());
@@ -288,6 +374,30 @@ public class OfficeSpaceService {
 		return officeSpaceDTO;
 	}
 
+	/**
+	 * Converts a version of an office space to a OfficeSpaceDTO.
+	 * 
+	 * @param propertyHistory The version of the office space that is being converted.
+	 * @return The corresponding OfficeSpaceDTO.
+	 */
+	private OfficeSpaceDTO convertToDTO(PropertyHistory propertyHistory) {
+		OfficeSpaceDTO officeSpaceDTO = new OfficeSpaceDTO();
+		officeSpaceDTO.setPropertyId(propertyHistory.getPropertyId());
+		officeSpaceDTO.setName(propertyHistory.getName());
+		officeSpaceDTO.setAddress(propertyHistory.getAddress());
+		officeSpaceDTO.setLatitude(propertyHistory.getLatitude());
+		officeSpaceDTO.setLongitude(propertyHistory.getLongitude());
+		officeSpaceDTO.setDescription(propertyHistory.getDescription());
+		officeSpaceDTO.setRentalRate(propertyHistory.getRentalRate());
+		officeSpaceDTO.setSize(propertyHistory.getSize());
+		officeSpaceDTO.setIsAvailable(propertyHistory.isAvailable());
+		officeSpaceDTO.setNumberOfParkingSpots(propertyHistory.getNumberOfParkingSpots());
+		officeSpaceDTO.setCapacity(propertyHistory.getCapacity());
+		officeSpaceDTO.setOwnerId(propertyHistory.getOwnerId());
+
+		return officeSpaceDTO;
+	}
+
 	/**
 	 * Converts a OfficeSpaceDTO to a OfficeSpace entity.
 	 * 
@@ -301,6 +411,8 @@ public class OfficeSpaceService {
 		}
 		officeSpace.setName(officeSpaceDTO.getName());
 		officeSpace.setAddress(officeSpaceDTO.getAddress());
+		officeSpace.setLatitude(officeSpaceDTO.getLatitude());
+		officeSpace.setLongitude(officeSpaceDTO.getLongitude());
 		officeSpace.setDescription(officeSpaceDTO.getDescription());
 		officeSpace.setRentalRate(officeSpaceDTO.getRentalRate());
 		officeSpace.setSize(officeSpaceDTO.getSize());
@@ -0,0 +1,341 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.LocalDate;
+import java.util.GregorianCalendar;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.util.IntervalTree;
+import com.nikoladronjak.rently.util.StripedReadWriteLock;
+import com.nikoladronjak.rently.util.TransactionHooks;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Represents a service class responsible for booking properties for the
+ * periods of their leases. Every property has an interval tree of the periods
+ * of its leases, so a new lease (or a lease whose period is being changed) can
+ * be checked against the existing leases of the property in O(log n) time,
+ * without querying the database. The interval trees are built from the leases
+ * in the database on startup and they are kept up to date on every booking,
+ * modification and cancellation of a lease. Every change of the lease periods
+ * is also reported to the AvailabilityService, and the end of every lease
+ * which hasn't ended yet is scheduled in the LeaseExpiryService. When a lease
+ * ends, its period is dropped from the interval trees, so they only hold the
+ * current and the future leases.
+ *
+ * Bookings of the same property are serialized with an in-memory striped lock
+ * table keyed by propertyId, so the check and the write of two concurrent
+ * bookings of the same property can never interleave, while bookings of other
+ * properties proceed in parallel. The service which books a property by the
+ * hour takes the same lock, so its writes can't interleave with a lease of the
+ * property either. The service which books a property by the seat only takes
+ * the shared side of the lock for its check against the leases, so the seat
+ * reservations of a property wait for the leases of the property, but never
+ * for each other.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class PropertyBookingService {
+
+	/**
+	 * Represents the number of stripes in the lock table.
+	 */
+	private static final int LOCK_STRIPES = 1024;
+
+	/**
+	 * Repository for accessing data related to leases.
+	 */
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	/**
+	 * Service for keeping the occupancy of the properties up to date.
+	 */
+	@Autowired
+	private AvailabilityService availabilityService;
+
+	/**
+	 * Service for releasing the properties when their leases end.
+	 */
+	@Autowired
+	private LeaseExpiryService leaseExpiryService;
+
+	/**
+	 * Represents the lock table which serializes bookings of the same property.
+	 */
+	private final StripedReadWriteLock propertyLocks = new StripedReadWriteLock(LOCK_STRIPES);
+
+	/**
+	 * Represents the interval trees of the lease periods, keyed by propertyId.
+	 * The periods are stored as epoch days.
+	 */
+	private final Map<Integer, IntervalTree> calendars = new ConcurrentHashMap<>();
+
+	/**
+	 * Represents the booked periods, keyed by leaseId.
+	 */
+	private final Map<Integer, Booking> bookings = new ConcurrentHashMap<>();
+
+	/**
+	 * Template for executing the check and the booking in a single transaction.
+	 */
+	private final TransactionTemplate transactionTemplate;
+
+	@Autowired
+	public PropertyBookingService(PlatformTransactionManager transactionManager) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Builds the interval trees from the leases which are stored in the database.
+	 * The leases which have already ended are skipped, the same way they are
+	 * dropped when they end.
+	 */
+	@PostConstruct
+	public void rebuild() {
+		calendars.clear();
+		bookings.clear();
+		availabilityService.clear();
+		leaseExpiryService.clear();
+		long today = LocalDate.now().toEpochDay();
+		for (Lease lease : leaseRepository.findAll()) {
+			Booking booking = toBooking(lease);
+			if (booking.end() >= today)
+				index(booking);
+		}
+	}
+
+	/**
+	 * Checks whether the period of the lease overlaps any other lease of the same
+	 * property and, if it doesn't, executes the booking in a transaction. The
+	 * period of the booked lease replaces the previous period of the lease, if
+	 * the lease is being updated. If the booking fails, the interval trees are
+	 * left unchanged.
+	 *
+	 * @param lease   The lease that is being booked. It has to contain the id of
+	 *                the property, the start date and the end date, and the id of
+	 *                the lease if an existing lease is being updated.
+	 * @param booking The action which stores the lease once the period has been
+	 *                checked.
+	 * @return The stored lease.
+	 * @throws ConflictException if the property is already leased for any day of
+	 *                           the period.
+	 */
+	public Lease book(Lease lease, Supplier<Lease> booking) {
+		Booking requested = toBooking(lease);
+		Lock lock = propertyLocks.get(requested.propertyId()).writeLock();
+		lock.lock();
+		try {
+			return transactionTemplate.execute(status -> {
+				if (findOverlap(requested) != IntervalTree.NONE)
+					throw new ConflictException("The property is already leased for the given dates.");
+
+				Lease bookedLease = booking.get();
+				Booking booked = toBooking(bookedLease);
+				Booking previous = bookings.get(booked.leaseId());
+				if (previous != null)
+					unindex(previous);
+				index(booked);
+				TransactionHooks.afterRollback(() -> {
+					unindex(booked);
+					if (previous != null)
+						index(previous);
+				});
+				return bookedLease;
+			});
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Executes the cancellation of the lease in a transaction and frees the
+	 * period of the lease.
+	 *
+	 * @param lease        The lease that is being cancelled.
+	 * @param cancellation The action which deletes the lease.
+	 */
+	public void cancel(Lease lease, Runnable cancellation) {
+		Lock lock = propertyLocks.get(lease.getProperty().getPropertyId()).writeLock();
+		lock.lock();
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				cancellation.run();
+				Booking previous = bookings.get(lease.getLeaseId());
+				if (previous != null) {
+					unindex(previous);
+					TransactionHooks.afterRollback(() -> index(previous));
+				}
+			});
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Executes the action while holding the lock of the property, so it can't
+	 * interleave with a booking, a modification or a cancellation of a lease of
+	 * the same property. The checks against the leases of the property and the
+	 * write which depends on them have to be done in the action.
+	 *
+	 * @param <T>        The type of the result of the action.
+	 * @param propertyId The id of the property.
+	 * @param action     The action which is executed.
+	 * @return The result of the action.
+	 */
+	public <T> T withPropertyLock(int propertyId, Supplier<T> action) {
+		Lock lock = propertyLocks.get(propertyId).writeLock();
+		lock.lock();
+		try {
+			return action.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Executes the action while holding the shared side of the lock of the
+	 * property, so it can't interleave with a booking, a modification or a
+	 * cancellation of a lease of the same property, but it can run in parallel
+	 * with the other shared actions of the property. The action has to be short,
+	 * since the leases of the property wait for it.
+	 *
+	 * @param <T>        The type of the result of the action.
+	 * @param propertyId The id of the property.
+	 * @param action     The action which is executed.
+	 * @return The result of the action.
+	 */
+	public <T> T withSharedPropertyLock(int propertyId, Supplier<T> action) {
+		Lock lock = propertyLocks.get(propertyId).readLock();
+		lock.lock();
+		try {
+			return action.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Checks whether the property is leased on the given day.
+	 *
+	 * @param propertyId The id of the property that is being checked.
+	 * @param day        The day that is being checked.
+	 * @return True if a lease of the property covers the day, or false otherwise.
+	 */
+	public boolean isLeased(int propertyId, LocalDate day) {
+		IntervalTree calendar = calendars.get(propertyId);
+		if (calendar == null)
+			return false;
+
+		synchronized (calendar) {
+			return calendar.covers(day.toEpochDay());
+		}
+	}
+
+	/**
+	 * Checks whether the property is leased on any day of the period.
+	 *
+	 * @param propertyId The id of the property that is being checked.
+	 * @param startDate  The first day of the period.
+	 * @param endDate    The last day of the period.
+	 * @return True if a lease of the property overlaps the period, or false
+	 *         otherwise.
+	 */
+	public boolean isLeased(int propertyId, LocalDate startDate, LocalDate endDate) {
+		IntervalTree calendar = calendars.get(propertyId);
+		if (calendar == null)
+			return false;
+
+		synchronized (calendar) {
+			return calendar.findOverlap(startDate.toEpochDay(), endDate.toEpochDay(),
+					IntervalTree.NONE) != IntervalTree.NONE;
+		}
+	}
+
+	/**
+	 * Drops the period of the lease which has ended. A lease whose period has
+	 * been changed in the meantime is left as it is.
+	 *
+	 * @param event The event of the lease which has ended.
+	 */
+	@EventListener
+	public void release(LeaseEndedEvent event) {
+		Lock lock = propertyLocks.get(event.propertyId()).writeLock();
+		lock.lock();
+		try {
+			Booking booking = bookings.get(event.leaseId());
+			if (booking != null && booking.end() == event.endDate().toEpochDay())
+				unindex(booking);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private int findOverlap(Booking requested) {
+		IntervalTree calendar = calendars.get(requested.propertyId());
+		if (calendar == null)
+			return IntervalTree.NONE;
+
+		synchronized (calendar) {
+			return calendar.findOverlap(requested.start(), requested.end(),
+					requested.leaseId() == 0 ? IntervalTree.NONE : requested.leaseId());
+		}
+	}
+
+	private void index(Booking booking) {
+		IntervalTree calendar = calendars.computeIfAbsent(booking.propertyId(), propertyId -> new IntervalTree());
+		synchronized (calendar) {
+			calendar.add(booking.leaseId(), booking.start(), booking.end());
+		}
+		bookings.put(booking.leaseId(), booking);
+		availabilityService.occupy(booking.leaseId(), booking.propertyId(), booking.start(), booking.end());
+		if (booking.end() >= LocalDate.now().toEpochDay())
+			leaseExpiryService.schedule(booking.leaseId(), booking.propertyId(), LocalDate.ofEpochDay(booking.end()));
+	}
+
+	private void unindex(Booking booking) {
+		bookings.remove(booking.leaseId(), booking);
+		availabilityService.free(booking.leaseId(), booking.propertyId());
+		leaseExpiryService.cancel(booking.leaseId());
+		IntervalTree calendar = calendars.get(booking.propertyId());
+		if (calendar == null)
+			return;
+
+		synchronized (calendar) {
+			calendar.remove(booking.leaseId(), booking.start());
+		}
+	}
+
+	private static Booking toBooking(Lease lease) {
+		return new Booking(lease.getLeaseId(), lease.getProperty().getPropertyId(), toEpochDay(lease.getStartDate()),
+				toEpochDay(lease.getEndDate()));
+	}
+
+	private static long toEpochDay(GregorianCalendar date) {
+		return date.toZonedDateTime().toLocalDate().toEpochDay();
+	}
+
+	/**
+	 * Represents the booked period of a lease.
+	 *
+	 * @param leaseId    The id of the lease.
+	 * @param propertyId The id of the leased property.
+	 * @param start      The first day of the lease, as an epoch day.
+	 * @param end        The last day of the lease, as an epoch day.
+	 */
+	private record Booking(int leaseId, int propertyId, long start, long end) {
+	}
+}
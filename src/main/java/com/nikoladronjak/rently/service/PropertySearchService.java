@@ -0,0 +1,271 @@
+package com.nikoladronjak.rently.service;
+
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import com.nikoladronjak.rently.domain.Property;
+import com.nikoladronjak.rently.dto.PropertyDTO;
+import com.nikoladronjak.rently.dto.PropertySearchDTO;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.PropertyRepository;
+import com.nikoladronjak.rently.repository.PropertyRepository.PropertyText;
+import com.nikoladronjak.rently.repository.PropertySpecifications;
+import com.nikoladronjak.rently.util.InvertedIndex;
+import com.nikoladronjak.rently.util.InvertedIndex.Document;
+import com.nikoladronjak.rently.util.InvertedIndex.Hit;
+import com.nikoladronjak.rently.util.SegmentStore;
+import com.nikoladronjak.rently.util.TextAnalyzer;
+import com.nikoladronjak.rently.util.TransactionHooks;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Represents a service class responsible for the full-text search of the
+ * properties. The names and the descriptions of the properties are analysed
+ * into terms and kept in an inverted index, which ranks the properties that
+ * contain the words of a query with BM25. A word of the name counts twice as
+ * much as a word of the description.
+ *
+ * The analysed properties are also stored in segment files on disk. When the
+ * application starts, the segments are read in parallel and every stored
+ * property whose name and description still have the same fingerprint as in
+ * the database is taken over as it is; only the new and the changed properties
+ * are analysed, also in parallel. The fingerprint includes the version of the
+ * TextAnalyzer, so every property is analysed again when the analysis changes. Afterwards, the property services update the
+ * index and append the change to the segments whenever they write a property.
+ * A change which is rolled back is undone the same way.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class PropertySearchService {
+
+	/**
+	 * Represents the number of times a word of the name is counted.
+	 */
+	private static final int NAME_WEIGHT = 2;
+
+	/**
+	 * Represents the number of results of a search which doesn't specify it.
+	 */
+	private static final int DEFAULT_LIMIT = 20;
+
+	/**
+	 * Repository for accessing data related to properties.
+	 */
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	/**
+	 * Represents the inverted index of the names and the descriptions.
+	 */
+	private final InvertedIndex index = new InvertedIndex();
+
+	/**
+	 * Represents the segment files in which the analysed properties are stored.
+	 */
+	private final SegmentStore segmentStore;
+
+	/**
+	 * Represents the number of segments above which the segments are merged into
+	 * one (int).
+	 */
+	private final int maxSegments;
+
+	@Autowired
+	public PropertySearchService(
+			@Value("${rently.search.index-dir:${java.io.tmpdir}/rently-search}") String indexDirectory,
+			@Value("${rently.search.segment-size:1000}") int segmentSize,
+			@Value("${rently.search.max-segments:10}") int maxSegments) {
+		this.segmentStore = new SegmentStore(Paths.get(indexDirectory), segmentSize);
+		this.maxSegments = maxSegments;
+	}
+
+	/**
+	 * Loads the index from the segments and brings it in line with the
+	 * properties in the database. If anything had to be changed, the segments
+	 * are replaced with a single segment of the current properties.
+	 */
+	@PostConstruct
+	public synchronized void rebuild() {
+		Map<Integer, Document> stored = segmentStore.load().stream()
+				.collect(Collectors.toMap(Document::id, Function.identity()));
+		List<PropertyText> texts = propertyRepository.findAllTexts();
+		List<Document> documents = texts.parallelStream().map(text -> {
+			Document document = stored.get(text.getPropertyId());
+			long fingerprint = fingerprint(text.getName(), text.getDescription());
+			if (document != null && document.fingerprint() == fingerprint)
+				return document;
+
+			return analyze(text.getPropertyId(), text.getName(), text.getDescription(), fingerprint);
+		}).collect(Collectors.toList());
+		index.reset(documents);
+
+		boolean unchanged = documents.size() == stored.size()
+				&& documents.stream().allMatch(document -> stored.get(document.id()) == document);
+		if (!unchanged || segmentStore.getSegmentCount() > 1)
+			segmentStore.rewrite(documents);
+	}
+
+	/**
+	 * Closes the segments when the application stops.
+	 */
+	@PreDestroy
+	public void close() {
+		segmentStore.close();
+	}
+
+	/**
+	 * Finds the properties whose name or description contain the words of the
+	 * query and which match the filters of the search, ranked by their
+	 * relevance.
+	 *
+	 * @param propertySearchDTO The query and the filters of the search.
+	 * @return A list of PropertyDTOs, from the most relevant.
+	 * @throws UnprocessableEntityException if the query doesn't contain any
+	 *                                      words.
+	 */
+	public List<PropertyDTO> search(PropertySearchDTO propertySearchDTO) {
+		List<String> terms = TextAnalyzer.analyze(propertySearchDTO.getQ());
+		if (terms.isEmpty())
+			throw new UnprocessableEntityException("The search query has to contain at least one word.");
+
+		IntPredicate filter = id -> true;
+		if (hasFilters(propertySearchDTO)) {
+			Specification<Property> specification = Specification
+					.where(PropertySpecifications.hasType(propertySearchDTO.getType()))
+					.and(PropertySpecifications.hasRentalRateAtLeast(propertySearchDTO.getMinRentalRate()))
+					.and(PropertySpecifications.hasRentalRateAtMost(propertySearchDTO.getMaxRentalRate()))
+					.and(PropertySpecifications.hasSizeAtLeast(propertySearchDTO.getMinSize()))
+					.and(PropertySpecifications
+							.hasParkingSpotsAtLeast(propertySearchDTO.getMinNumberOfParkingSpots()));
+			Set<Integer> propertyIds = propertyRepository.findAll(specification).stream()
+					.map(Property::getPropertyId).collect(Collectors.toSet());
+			filter = propertyIds::contains;
+		}
+
+		int limit = propertySearchDTO.getLimit() != null ? propertySearchDTO.getLimit() : DEFAULT_LIMIT;
+		List<Hit> hits = index.search(terms, filter, limit);
+		Map<Integer, Property> properties = new HashMap<Integer, Property>();
+		for (Property property : propertyRepository
+				.findAllById(hits.stream().map(Hit::id).collect(Collectors.toList()))) {
+			properties.put(property.getPropertyId(), property);
+		}
+		List<PropertyDTO> propertyDTOs = hits.stream().filter(hit -> properties.containsKey(hit.id()))
+				.map(hit -> convertToDTO(properties.get(hit.id()))).collect(Collectors.toList());
+		return propertyDTOs;
+	}
+
+	/**
+	 * Indexes the name and the description of a property which was added or
+	 * modified. It has to be called in the transaction in which the property is
+	 * stored.
+	 *
+	 * @param property The stored property.
+	 */
+	public synchronized void index(Property property) {
+		int propertyId = property.getPropertyId();
+		long fingerprint = fingerprint(property.getName(), property.getDescription());
+		Document previous = index.get(propertyId);
+		if (previous != null && previous.fingerprint() == fingerprint)
+			return;
+
+		write(analyze(propertyId, property.getName(), property.getDescription(), fingerprint));
+		TransactionHooks.afterRollback(() -> restore(propertyId, previous));
+	}
+
+	/**
+	 * Removes a property which was deleted from the index. It has to be called in
+	 * the transaction in which the property is deleted.
+	 *
+	 * @param propertyId The id of the deleted property.
+	 */
+	public synchronized void remove(int propertyId) {
+		Document previous = index.get(propertyId);
+		if (previous == null)
+			return;
+
+		write(Document.tombstone(propertyId));
+		TransactionHooks.afterRollback(() -> restore(propertyId, previous));
+	}
+
+	private synchronized void restore(int propertyId, Document previous) {
+		write(previous != null ? previous : Document.tombstone(propertyId));
+	}
+
+	private void write(Document document) {
+		index.put(document);
+		segmentStore.append(document);
+		if (segmentStore.getSegmentCount() > maxSegments)
+			segmentStore.rewrite(index.documents());
+	}
+
+	private static boolean hasFilters(PropertySearchDTO propertySearchDTO) {
+		return propertySearchDTO.getType() != null || propertySearchDTO.getMinRentalRate() != null
+				|| propertySearchDTO.getMaxRentalRate() != null || propertySearchDTO.getMinSize() != null
+				|| propertySearchDTO.getMinNumberOfParkingSpots() != null;
+	}
+
+	private static Document analyze(int propertyId, String name, String description, long fingerprint) {
+		Map<String, Integer> terms = new HashMap<String, Integer>();
+		int length = 0;
+		for (String term : TextAnalyzer.analyze(name)) {
+			terms.merge(term, NAME_WEIGHT, Integer::sum);
+			length += NAME_WEIGHT;
+		}
+		for (String term : TextAnalyzer.analyze(description)) {
+			terms.merge(term, 1, Integer::sum);
+			length++;
+		}
+		return new Document(propertyId, fingerprint, length, terms);
+	}
+
+	/**
+	 * Returns the 64-bit FNV-1a hash of the version of the analysis, the name and
+	 * the description.
+	 */
+	private static long fingerprint(String name, String description) {
+		long hash = 0xcbf29ce484222325L;
+		String text = TextAnalyzer.VERSION + "\0" + name + '\0' + description;
+		for (int i = 0; i < text.length(); i++) {
+			hash ^= text.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	/**
+	 * Converts a Property entity to a PropertyDTO.
+	 *
+	 * @param property The Property entity that is being converted.
+	 * @return The corresponding PropertyDTO.
+	 */
+	private PropertyDTO convertToDTO(Property property) {
+		PropertyDTO propertyDTO = new PropertyDTO();
+		propertyDTO.setPropertyId(property.getPropertyId());
+		propertyDTO.setName(property.getName());
+		propertyDTO.setAddress(property.getAddress());
+		propertyDTO.setLatitude(property.getLatitude());
+		propertyDTO.setLongitude(property.getLongitude());
+		propertyDTO.setDescription(property.getDescription());
+		propertyDTO.setRentalRate(property.getRentalRate());
+		propertyDTO.setSize(property.getSize());
+		propertyDTO.setIsAvailable(property.isAvailable());
+		propertyDTO.setNumberOfParkingSpots(property.getNumberOfParkingSpots());
+		propertyDTO.setPhotos(property.getPhotos());
+
+		return propertyDTO;
+	}
+}
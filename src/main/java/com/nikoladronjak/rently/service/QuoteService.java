@@ -0,0 +1,215 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.LocalDate;
+import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.nikoladronjak.rently.domain.Property;
+import com.nikoladronjak.rently.domain.RateRule;
+import com.nikoladronjak.rently.domain.UtilityLease;
+import com.nikoladronjak.rently.dto.QuoteDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.PropertyRepository;
+import com.nikoladronjak.rently.repository.RateRuleRepository;
+import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
+import com.nikoladronjak.rently.util.RateCalendar;
+import com.nikoladronjak.rently.util.TransactionHooks;
+
+/**
+ * Represents a service class responsible for the price quotes of stays. The
+ * rate rules of a property are compiled into a RateCalendar the first time the
+ * property is quoted, together with the rates of its utility leases, and the
+ * compiled plan is kept in memory. Every plan also keeps the prices of the
+ * most recently quoted stays, so repeated quotes for the same stay don't touch
+ * the calendar at all.
+ *
+ * The plan of a property is evicted whenever its rate rules, its rental rate
+ * or its utility leases change, and it is compiled again by the next quote.
+ * Changes which are made in a transaction evict the plan once more after the
+ * transaction has completed, so a quote which read the old rates while the
+ * transaction was running can't keep them.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class QuoteService {
+
+	/**
+	 * Repository for accessing data related to properties.
+	 */
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	/**
+	 * Repository for accessing data related to rate rules.
+	 */
+	@Autowired
+	private RateRuleRepository rateRuleRepository;
+
+	/**
+	 * Repository for accessing data related to utility leases.
+	 */
+	@Autowired
+	private UtilityLeaseRepository utilityLeaseRepository;
+
+	/**
+	 * Represents the maximum number of quoted stays which are kept for every
+	 * property (int).
+	 */
+	private final int cacheSize;
+
+	/**
+	 * Represents the compiled plans of the quoted properties, keyed by
+	 * propertyId.
+	 */
+	private final Map<Integer, RatePlan> plans = new ConcurrentHashMap<>();
+
+	/**
+	 * Represents the number of evictions so far (long). A plan is only kept if
+	 * no eviction happened while it was being compiled.
+	 */
+	private long evictions;
+
+	@Autowired
+	public QuoteService(@Value("${rently.quotes.cache-size:1024}") int cacheSize) {
+		this.cacheSize = cacheSize;
+	}
+
+	/**
+	 * Calculates the price of a stay in a property, together with the selected
+	 * utility leases of the property.
+	 *
+	 * @param propertyId      The id of the property.
+	 * @param startDate       The first day of the stay.
+	 * @param endDate         The last day of the stay.
+	 * @param utilityLeaseIds The ids of the selected utility leases.
+	 * @return The QuoteDTO with the price of the stay.
+	 * @throws NotFoundException            if there is no property with the
+	 *                                      given id.
+	 * @throws UnprocessableEntityException if the start date is after the end
+	 *                                      date, or if one of the utility
+	 *                                      leases is not offered for the
+	 *                                      property.
+	 */
+	public QuoteDTO quote(int propertyId, LocalDate startDate, LocalDate endDate, List<Integer> utilityLeaseIds) {
+		if (startDate.isAfter(endDate))
+			throw new UnprocessableEntityException("The start date has to be before the end date.");
+
+		RatePlan plan = plan(propertyId);
+		long startDay = startDate.toEpochDay();
+		long endDay = endDate.toEpochDay();
+		List<Integer> selected = utilityLeaseIds.stream().distinct().collect(Collectors.toList());
+		double utilityRate = 0;
+		for (Integer utilityLeaseId : selected) {
+			Double rate = plan.utilityRates.get(utilityLeaseId);
+			if (rate == null)
+				throw new UnprocessableEntityException(
+						"The utility lease " + utilityLeaseId + " is not offered for the property.");
+
+			utilityRate += rate;
+		}
+
+		double rentalPrice = plan.price(startDay, endDay);
+		double utilityPrice = round(utilityRate * RateCalendar.months(startDay, endDay));
+		return new QuoteDTO(propertyId, startDate, endDate, selected, (int) (endDay - startDay + 1), rentalPrice,
+				utilityPrice, round(rentalPrice + utilityPrice));
+	}
+
+	/**
+	 * Evicts the compiled plan of a property.
+	 *
+	 * @param propertyId The id of the property whose rates have changed.
+	 */
+	public void evict(int propertyId) {
+		synchronized (plans) {
+			evictions++;
+			plans.remove(propertyId);
+		}
+		TransactionHooks.afterCompletion(() -> {
+			synchronized (plans) {
+				evictions++;
+				plans.remove(propertyId);
+			}
+		});
+	}
+
+	private RatePlan plan(int propertyId) {
+		RatePlan plan = plans.get(propertyId);
+		if (plan != null)
+			return plan;
+
+		long evictionsBefore;
+		synchronized (plans) {
+			evictionsBefore = evictions;
+		}
+		Property property = propertyRepository.findById(propertyId)
+				.orElseThrow(() -> new NotFoundException("There is no property with the given id."));
+		List<RateCalendar.Rule> rules = rateRuleRepository.findAllByProperty_PropertyIdOrderByRateRuleId(propertyId)
+				.stream().map(QuoteService::toRule).collect(Collectors.toList());
+		Map<Integer, Double> utilityRates = utilityLeaseRepository.findAllByProperty_PropertyId(propertyId).stream()
+				.collect(Collectors.toMap(UtilityLease::getUtilityLeaseId, UtilityLease::getRentalRate));
+		plan = new RatePlan(RateCalendar.compile(property.getRentalRate(), rules), utilityRates, cacheSize);
+		synchronized (plans) {
+			if (evictions == evictionsBefore)
+				plans.put(propertyId, plan);
+		}
+		return plan;
+	}
+
+	private static RateCalendar.Rule toRule(RateRule rateRule) {
+		return new RateCalendar.Rule(toEpochDay(rateRule.getStartDate()), toEpochDay(rateRule.getEndDate()),
+				rateRule.getDaysOfWeek(), rateRule.getDailyRate(), rateRule.getPriority());
+	}
+
+	private static long toEpochDay(GregorianCalendar date) {
+		return date.toZonedDateTime().toLocalDate().toEpochDay();
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 100) / 100.0;
+	}
+
+	/**
+	 * Represents the compiled rates of a property and the prices of its most
+	 * recently quoted stays.
+	 */
+	private static final class RatePlan {
+
+		private final RateCalendar calendar;
+
+		private final Map<Integer, Double> utilityRates;
+
+		private final LinkedHashMap<Stay, Double> prices;
+
+		RatePlan(RateCalendar calendar, Map<Integer, Double> utilityRates, int cacheSize) {
+			this.calendar = calendar;
+			this.utilityRates = utilityRates;
+			this.prices = new LinkedHashMap<>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Stay, Double> eldest) {
+					return size() > cacheSize;
+				}
+			};
+		}
+
+		synchronized double price(long startDay, long endDay) {
+			return prices.computeIfAbsent(new Stay(startDay, endDay),
+					stay -> round(calendar.price(stay.startDay(), stay.endDay())));
+		}
+	}
+
+	private record Stay(long startDay, long endDay) {
+	}
+}
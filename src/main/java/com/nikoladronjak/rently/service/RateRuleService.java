@@ -0,0 +1,237 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.nikoladronjak.rently.domain.Property;
+import com.nikoladronjak.rently.domain.RateRule;
+import com.nikoladronjak.rently.dto.RateRuleDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.exception.ValidationException;
+import com.nikoladronjak.rently.repository.PropertyRepository;
+import com.nikoladronjak.rently.repository.RateRuleRepository;
+import com.nikoladronjak.rently.validation.PrecompiledValidator;
+
+/**
+ * Represents a service class responsible for the rate rules of the
+ * properties. A rate rule overrides the daily rate of a property between two
+ * dates, optionally only on some days of the week, which is how seasonal,
+ * holiday and weekend prices are expressed. Every change of the rules of a
+ * property evicts the compiled rate plan of the property from the
+ * QuoteService.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class RateRuleService {
+
+	/**
+	 * Repository for accessing data related to properties.
+	 */
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	/**
+	 * Repository for accessing data related to rate rules.
+	 */
+	@Autowired
+	private RateRuleRepository rateRuleRepository;
+
+	/**
+	 * Service for evicting the compiled rate plans of the properties whose rules
+	 * change.
+	 */
+	@Autowired
+	private QuoteService quoteService;
+
+	/**
+	 * Validator for validating RateRule entities.
+	 */
+	private final PrecompiledValidator validator;
+
+	/**
+	 * Default constructor for RateRuleService. Initializes the validator.
+	 */
+	public RateRuleService() {
+		this.validator = new PrecompiledValidator();
+	}
+
+	/**
+	 * Retrieves the rate rules of a property and converts them to RateRuleDTOs.
+	 *
+	 * @param propertyId The id of the property.
+	 * @return A list of RateRuleDTOs, in the order in which they were created.
+	 */
+	public List<RateRuleDTO> getAllByPropertyId(Integer propertyId) {
+		List<RateRule> rateRules = rateRuleRepository.findAllByProperty_PropertyIdOrderByRateRuleId(propertyId);
+		List<RateRuleDTO> rateRuleDTOs = rateRules.stream().map(this::convertToDTO).collect(Collectors.toList());
+		return rateRuleDTOs;
+	}
+
+	/**
+	 * Retrieves a rate rule by its id and converts it to a RateRuleDTO.
+	 *
+	 * @param id The id of the rate rule.
+	 * @return The RateRuleDTO.
+	 * @throws NotFoundException if there is no rate rule with the given id.
+	 */
+	public RateRuleDTO getById(Integer id) {
+		Optional<RateRule> rateRuleFromDb = rateRuleRepository.findById(id);
+		if (!rateRuleFromDb.isPresent())
+			throw new NotFoundException("There is no rate rule with the given id.");
+
+		return convertToDTO(rateRuleFromDb.get());
+	}
+
+	/**
+	 * Adds a new rate rule to a property.
+	 *
+	 * @param rateRuleDTO The RateRuleDTO representing the new rate rule.
+	 * @return The newly created RateRuleDTO.
+	 * @throws NotFoundException            if there is no property with the
+	 *                                      given propertyId.
+	 * @throws UnprocessableEntityException if the start date is after the end
+	 *                                      date.
+	 * @throws ValidationException          if the rateRuleDTO is not valid.
+	 */
+	public RateRuleDTO add(RateRuleDTO rateRuleDTO) {
+		RateRule rateRule = validate(rateRuleDTO);
+		RateRule newRateRule = rateRuleRepository.save(rateRule);
+		quoteService.evict(rateRuleDTO.getPropertyId());
+		return convertToDTO(newRateRule);
+	}
+
+	/**
+	 * Updates the rate rule based on the provided id and RateRuleDTO. The rule
+	 * can also be moved to another property.
+	 *
+	 * @param id          The id of the rate rule that is being updated.
+	 * @param rateRuleDTO The RateRuleDTO containing the updated details of the
+	 *                    rate rule.
+	 * @return The updated RateRuleDTO.
+	 * @throws NotFoundException            if there is no rate rule with the
+	 *                                      given id, or if there is no property
+	 *                                      with the given propertyId.
+	 * @throws UnprocessableEntityException if the start date is after the end
+	 *                                      date.
+	 * @throws ValidationException          if the rateRuleDTO is not valid.
+	 */
+	public RateRuleDTO update(Integer id, RateRuleDTO rateRuleDTO) {
+		Optional<RateRule> rateRuleFromDb = rateRuleRepository.findById(id);
+		if (!rateRuleFromDb.isPresent())
+			throw new NotFoundException("There is no rate rule with the given id.");
+
+		RateRule rateRule = validate(rateRuleDTO);
+		rateRule.setRateRuleId(id);
+		RateRule updatedRateRule = rateRuleRepository.save(rateRule);
+		quoteService.evict(rateRuleFromDb.get().getProperty().getPropertyId());
+		quoteService.evict(rateRuleDTO.getPropertyId());
+		return convertToDTO(updatedRateRule);
+	}
+
+	/**
+	 * Deletes the rate rule with the specified id.
+	 *
+	 * @param id The id of the rate rule that is being deleted.
+	 * @return The deleted RateRuleDTO.
+	 * @throws NotFoundException if there is no rate rule with the given id.
+	 */
+	public RateRuleDTO delete(Integer id) {
+		Optional<RateRule> rateRuleFromDb = rateRuleRepository.findById(id);
+		if (!rateRuleFromDb.isPresent())
+			throw new NotFoundException("There is no rate rule with the given id.");
+
+		rateRuleRepository.deleteById(id);
+		quoteService.evict(rateRuleFromDb.get().getProperty().getPropertyId());
+		return convertToDTO(rateRuleFromDb.get());
+	}
+
+	/**
+	 * Deletes all the rate rules of a property. It is called when the property is
+	 * deleted.
+	 *
+	 * @param propertyId The id of the property.
+	 */
+	public void deleteAllByPropertyId(Integer propertyId) {
+		List<RateRule> rateRules = rateRuleRepository.findAllByProperty_PropertyIdOrderByRateRuleId(propertyId);
+		if (!rateRules.isEmpty())
+			rateRuleRepository.deleteAll(rateRules);
+		quoteService.evict(propertyId);
+	}
+
+	private RateRule validate(RateRuleDTO rateRuleDTO) {
+		if (!propertyRepository.existsById(rateRuleDTO.getPropertyId()))
+			throw new NotFoundException("There is no property with the given id.");
+
+		RateRule rateRule = convertFromDTO(rateRuleDTO);
+		Map<String, String> errors = validator.validate(rateRule);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		if (rateRule.getStartDate().after(rateRule.getEndDate()))
+			throw new UnprocessableEntityException("The start date of the rate rule has to be before its end date.");
+
+		return rateRule;
+	}
+
+	/**
+	 * Converts a RateRule entity to a RateRuleDTO.
+	 *
+	 * @param rateRule The RateRule entity that is being converted.
+	 * @return The corresponding RateRuleDTO.
+	 */
+	private RateRuleDTO convertToDTO(RateRule rateRule) {
+		List<DayOfWeek> daysOfWeek = new ArrayList<DayOfWeek>();
+		for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+			if ((rateRule.getDaysOfWeek() & (1 << dayOfWeek.ordinal())) != 0)
+				daysOfWeek.add(dayOfWeek);
+		}
+
+		RateRuleDTO rateRuleDTO = new RateRuleDTO(rateRule.getProperty().getPropertyId(), rateRule.getName(),
+				rateRule.getStartDate(), rateRule.getEndDate(), daysOfWeek, rateRule.getDailyRate(),
+				rateRule.getPriority());
+		rateRuleDTO.setRateRuleId(rateRule.getRateRuleId());
+		return rateRuleDTO;
+	}
+
+	/**
+	 * Converts a RateRuleDTO to a RateRule entity. A rule without days of the
+	 * week applies to every day, and a rule without a priority has the priority
+	 * 0.
+	 *
+	 * @param rateRuleDTO The RateRuleDTO that is being converted.
+	 * @return The corresponding RateRule entity.
+	 */
+	private RateRule convertFromDTO(RateRuleDTO rateRuleDTO) {
+		Property property = new Property();
+		property.setPropertyId(rateRuleDTO.getPropertyId());
+
+		int daysOfWeek = 0;
+		if (rateRuleDTO.getDaysOfWeek() == null || rateRuleDTO.getDaysOfWeek().isEmpty()) {
+			daysOfWeek = RateRule.EVERY_DAY;
+		} else {
+			for (DayOfWeek dayOfWeek : rateRuleDTO.getDaysOfWeek()) {
+				daysOfWeek |= 1 << dayOfWeek.ordinal();
+			}
+		}
+
+		RateRule rateRule = new RateRule();
+		rateRule.setName(rateRuleDTO.getName());
+		rateRule.setStartDate(rateRuleDTO.getStartDate());
+		rateRule.setEndDate(rateRuleDTO.getEndDate());
+		rateRule.setDaysOfWeek(daysOfWeek);
+		rateRule.setDailyRate(rateRuleDTO.getDailyRate());
+		rateRule.setPriority(rateRuleDTO.getPriority() != null ? rateRuleDTO.getPriority() : 0);
+		rateRule.setProperty(property);
+
+		return rateRule;
+	}
+}
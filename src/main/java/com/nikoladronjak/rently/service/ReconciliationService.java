@@ -0,0 +1,396 @@
+package com.nikoladronjak.rently.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.nikoladronjak.rently.domain.ReconciliationMatchType;
+import com.nikoladronjak.rently.dto.ReconciliationDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.repository.RentRepository;
+import com.nikoladronjak.rently.util.StatementParser;
+import com.nikoladronjak.rently.util.StatementParser.StatementLine;
+
+/**
+ * Represents a service class responsible for reconciling bank statements
+ * against the open rents. The open rents are loaded once per reconciliation
+ * and indexed in hash maps by rentId, leaseId, customerId and amount due. The
+ * statement is then streamed through a memory-mapped StatementParser and every
+ * line is matched with a few hash lookups (a hash join of the statement
+ * against the open rents), so a reconciliation takes linear time in the number
+ * of lines and open rents.
+ *
+ * The reference of a line can name a rent ("RENT-12"), a lease ("LEASE-5") or
+ * a customer ("CUST-3"), and the payer of a line can be the email of a
+ * customer. A line is matched, in this order, to the named rent if its amount
+ * is the amount due, to the oldest open rent of a named lease or customer with
+ * the same amount due, or, as a fuzzy fallback, to the named open rent whose
+ * amount due is the closest one within the tolerance. A line which doesn't
+ * name anything known is only matched if exactly one open rent has the same
+ * amount due. Every rent is matched at most once.
+ *
+ * The matched and the unmatched lines are written to two CSV reports, which
+ * are kept in the report directory under the id of the reconciliation. The
+ * ledger is not changed: the matched report is the input for posting the
+ * payments.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class ReconciliationService {
+
+	/**
+	 * Represents the pattern of the rent, lease and customer references.
+	 */
+	private static final Pattern REFERENCE = Pattern.compile("\\b(RENT|LEASE|CUST|CUSTOMER)[-#:/ ]?(\\d{1,9})\\b",
+			Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * Repository for accessing data related to rents.
+	 */
+	@Autowired
+	private RentRepository rentRepository;
+
+	/**
+	 * Represents the parser of the statement files.
+	 */
+	private final StatementParser statementParser = new StatementParser();
+
+	/**
+	 * Represents the directory in which the statements and the reports are
+	 * stored (Path).
+	 */
+	private final Path reportDirectory;
+
+	/**
+	 * Represents the largest difference in cents between the amount of a line
+	 * and the amount due for which a line is still matched as a fuzzy match
+	 * (long).
+	 */
+	private final long tolerance;
+
+	/**
+	 * Represents the results of the reconciliations, keyed by their ids.
+	 */
+	private final Map<String, ReconciliationDTO> reconciliations = new ConcurrentHashMap<>();
+
+	@Autowired
+	public ReconciliationService(
+			@Value("${rently.reconciliation.report-dir:${java.io.tmpdir}/rently-reconciliations}") String reportDirectory,
+			@Value("${rently.reconciliation.tolerance:1.00}") double tolerance) {
+		this.reportDirectory = Paths.get(reportDirectory);
+		this.tolerance = Math.round(tolerance * 100);
+	}
+
+	/**
+	 * Stores the statement in the report directory and reconciles it against the
+	 * open rents.
+	 *
+	 * @param statement The content of the statement file.
+	 * @return The ReconciliationDTO with the result of the reconciliation.
+	 * @throws UncheckedIOException if the statement or the reports cannot be
+	 *                              written.
+	 */
+	public ReconciliationDTO reconcile(InputStream statement) {
+		String reconciliationId = UUID.randomUUID().toString();
+		Path statementFile = reportDirectory.resolve(reconciliationId + "-statement.csv");
+		try {
+			Files.createDirectories(reportDirectory);
+			Files.copy(statement, statementFile, StandardCopyOption.REPLACE_EXISTING);
+			return reconcile(reconciliationId, statementFile);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			try {
+				Files.deleteIfExists(statementFile);
+			} catch (IOException e) {
+				// The statement is only a copy of the upload, so it can be left behind.
+			}
+		}
+	}
+
+	/**
+	 * Reconciles a statement file against the open rents.
+	 *
+	 * @param statementFile The path of the statement file.
+	 * @return The ReconciliationDTO with the result of the reconciliation.
+	 * @throws UncheckedIOException if the statement cannot be read or the reports
+	 *                              cannot be written.
+	 */
+	public ReconciliationDTO reconcile(Path statementFile) {
+		try {
+			Files.createDirectories(reportDirectory);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return reconcile(UUID.randomUUID().toString(), statementFile);
+	}
+
+	/**
+	 * Retrieves the result of a reconciliation.
+	 *
+	 * @param reconciliationId The id of the reconciliation.
+	 * @return The ReconciliationDTO with the result of the reconciliation.
+	 * @throws NotFoundException if there is no reconciliation with the given id.
+	 */
+	public ReconciliationDTO getById(String reconciliationId) {
+		ReconciliationDTO reconciliationDTO = reconciliations.get(reconciliationId);
+		if (reconciliationDTO == null)
+			throw new NotFoundException("There is no reconciliation with the given id.");
+
+		return reconciliationDTO;
+	}
+
+	/**
+	 * Retrieves the matched or the unmatched report of a reconciliation.
+	 *
+	 * @param reconciliationId The id of the reconciliation.
+	 * @param matched          Whether the matched or the unmatched report is
+	 *                         retrieved.
+	 * @return The path of the report.
+	 * @throws NotFoundException if there is no report for the given id.
+	 */
+	public Path getReport(String reconciliationId, boolean matched) {
+		try {
+			UUID.fromString(reconciliationId);
+		} catch (IllegalArgumentException e) {
+			throw new NotFoundException("There is no reconciliation with the given id.");
+		}
+		Path report = reportDirectory.resolve(reconciliationId + (matched ? "-matched.csv" : "-unmatched.csv"));
+		if (!Files.isRegularFile(report))
+			throw new NotFoundException("There is no reconciliation with the given id.");
+
+		return report;
+	}
+
+	private ReconciliationDTO reconcile(String reconciliationId, Path statementFile) {
+		long start = System.nanoTime();
+		OpenRents openRents = new OpenRents(rentRepository.findOpenForReconciliation());
+		Map<ReconciliationMatchType, Integer> matchesByType = new EnumMap<>(ReconciliationMatchType.class);
+		int[] counts = new int[2];
+		try (BufferedWriter matchedReport = Files.newBufferedWriter(
+				reportDirectory.resolve(reconciliationId + "-matched.csv"), StandardCharsets.UTF_8);
+				BufferedWriter unmatchedReport = Files.newBufferedWriter(
+						reportDirectory.resolve(reconciliationId + "-unmatched.csv"), StandardCharsets.UTF_8)) {
+			matchedReport.write("line,rentId,leaseId,customerId,amount,amountDue,matchType\n");
+			unmatchedReport.write("line,reason,statementLine\n");
+			statementParser.parse(statementFile, line -> {
+				try {
+					if (line.amount() == StatementParser.INVALID_AMOUNT || line.amount() <= 0) {
+						unmatchedReport.write(line.lineNumber() + ",Invalid line," + line.text() + "\n");
+						counts[1]++;
+						return;
+					}
+
+					Match match = openRents.match(line, tolerance);
+					if (match == null) {
+						unmatchedReport.write(line.lineNumber() + ",No match," + line.text() + "\n");
+						counts[1]++;
+						return;
+					}
+
+					OpenRent rent = match.rent();
+					matchedReport.write(line.lineNumber() + "," + rent.rentId + "," + rent.leaseId + ","
+							+ rent.customerId + "," + format(line.amount()) + "," + format(rent.amountDue) + ","
+							+ match.type() + "\n");
+					matchesByType.merge(match.type(), 1, Integer::sum);
+					counts[0]++;
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		ReconciliationDTO reconciliationDTO = new ReconciliationDTO(reconciliationId, counts[0] + counts[1],
+				counts[0], counts[1], matchesByType, (System.nanoTime() - start) / 1_000_000);
+		reconciliations.put(reconciliationId, reconciliationDTO);
+		return reconciliationDTO;
+	}
+
+	private static String format(long cents) {
+		String sign = cents < 0 ? "-" : "";
+		long absolute = Math.abs(cents);
+		return sign + absolute / 100 + "." + (absolute % 100 < 10 ? "0" : "") + absolute % 100;
+	}
+
+	/**
+	 * Represents an open rent and the amount which is still due for it, in
+	 * cents.
+	 */
+	private static final class OpenRent {
+
+		private final int rentId;
+
+		private final int leaseId;
+
+		private final int customerId;
+
+		private final long amountDue;
+
+		private OpenRent(int rentId, int leaseId, int customerId, long amountDue) {
+			this.rentId = rentId;
+			this.leaseId = leaseId;
+			this.customerId = customerId;
+			this.amountDue = amountDue;
+		}
+	}
+
+	private record Match(OpenRent rent, ReconciliationMatchType type) {
+	}
+
+	/**
+	 * Represents the hash indexes of the open rents. A matched rent is removed
+	 * from every index, so it can't be matched again. The sets keep the rents
+	 * ordered by rentId, so the oldest rent is matched first.
+	 *
+	 * This class is not thread-safe.
+	 */
+	private static final class OpenRents {
+
+		private final Map<Integer, OpenRent> byRentId = new HashMap<>();
+
+		private final Map<Integer, Set<OpenRent>> byLeaseId = new HashMap<>();
+
+		private final Map<Integer, Set<OpenRent>> byCustomerId = new HashMap<>();
+
+		private final Map<Long, Set<OpenRent>> byAmountDue = new HashMap<>();
+
+		private final Map<String, Integer> customerIdsByEmail = new HashMap<>();
+
+		private OpenRents(List<Object[]> rows) {
+			for (Object[] row : rows) {
+				Double balance = (Double) row[5];
+				OpenRent rent = new OpenRent((Integer) row[0], (Integer) row[2], (Integer) row[3],
+						Math.round((balance != null ? balance : (Double) row[1]) * 100));
+				byRentId.put(rent.rentId, rent);
+				byLeaseId.computeIfAbsent(rent.leaseId, id -> new LinkedHashSet<>()).add(rent);
+				byCustomerId.computeIfAbsent(rent.customerId, id -> new LinkedHashSet<>()).add(rent);
+				byAmountDue.computeIfAbsent(rent.amountDue, amount -> new LinkedHashSet<>()).add(rent);
+				if (row[4] != null)
+					customerIdsByEmail.put(((String) row[4]).toLowerCase(), rent.customerId);
+			}
+		}
+
+		private Match match(StatementLine line, long tolerance) {
+			List<OpenRent> rents = new ArrayList<>();
+			List<Set<OpenRent>> leases = new ArrayList<>();
+			List<Set<OpenRent>> customers = new ArrayList<>();
+			boolean named = false;
+			Matcher matcher = REFERENCE.matcher(line.reference());
+			while (matcher.find()) {
+				int id = Integer.parseInt(matcher.group(2));
+				String kind = matcher.group(1).toUpperCase();
+				if (kind.equals("RENT")) {
+					named |= addIfPresent(rents, byRentId.get(id));
+				} else if (kind.equals("LEASE")) {
+					named |= addIfPresent(leases, byLeaseId.get(id));
+				} else {
+					named |= addIfPresent(customers, byCustomerId.get(id));
+				}
+			}
+			Integer payer = line.payer().isEmpty() ? null : customerIdsByEmail.get(line.payer().toLowerCase());
+			if (payer != null)
+				named |= addIfPresent(customers, byCustomerId.get(payer));
+
+			long amount = line.amount();
+			for (OpenRent rent : rents) {
+				if (rent.amountDue == amount)
+					return take(rent, ReconciliationMatchType.Rent);
+			}
+			OpenRent rent = findByAmount(leases, amount);
+			if (rent != null)
+				return take(rent, ReconciliationMatchType.Lease);
+
+			rent = findByAmount(customers, amount);
+			if (rent != null)
+				return take(rent, ReconciliationMatchType.Customer);
+
+			OpenRent closest = null;
+			for (OpenRent candidate : rents) {
+				closest = closer(closest, candidate, amount);
+			}
+			for (Set<OpenRent> candidates : leases) {
+				for (OpenRent candidate : candidates) {
+					closest = closer(closest, candidate, amount);
+				}
+			}
+			for (Set<OpenRent> candidates : customers) {
+				for (OpenRent candidate : candidates) {
+					closest = closer(closest, candidate, amount);
+				}
+			}
+			if (closest != null && Math.abs(closest.amountDue - amount) <= tolerance)
+				return take(closest, ReconciliationMatchType.Fuzzy);
+
+			if (!named) {
+				Set<OpenRent> candidates = byAmountDue.get(amount);
+				if (candidates != null && candidates.size() == 1)
+					return take(candidates.iterator().next(), ReconciliationMatchType.Amount);
+			}
+			return null;
+		}
+
+		private static <T> boolean addIfPresent(List<T> list, T element) {
+			if (element == null)
+				return false;
+
+			list.add(element);
+			return true;
+		}
+
+		private static OpenRent findByAmount(List<Set<OpenRent>> sets, long amount) {
+			for (Set<OpenRent> set : sets) {
+				for (OpenRent rent : set) {
+					if (rent.amountDue == amount)
+						return rent;
+				}
+			}
+			return null;
+		}
+
+		private static OpenRent closer(OpenRent closest, OpenRent candidate, long amount) {
+			if (closest == null || Math.abs(candidate.amountDue - amount) < Math.abs(closest.amountDue - amount))
+				return candidate;
+
+			return closest;
+		}
+
+		private Match take(OpenRent rent, ReconciliationMatchType type) {
+			byRentId.remove(rent.rentId);
+			remove(byLeaseId, rent.leaseId, rent);
+			remove(byCustomerId, rent.customerId, rent);
+			remove(byAmountDue, rent.amountDue, rent);
+			return new Match(rent, type);
+		}
+
+		private static <K> void remove(Map<K, Set<OpenRent>> index, K key, OpenRent rent) {
+			Set<OpenRent> rents = index.get(key);
+			rents.remove(rent);
+			if (rents.isEmpty())
+				index.remove(key);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nikoladronjak.rently.repository.RentRepository;
+
+/**
+ * Represents a service class responsible for keeping the stored totals of the
+ * rents up to date when the rental rates from which they were calculated
+ * change. The total rent of a rent is the rental rate of its lease plus the
+ * rental rates of its utility leases, so a change of one of these rates
+ * changes the totals of exactly the rents which depend on it: the rents of the
+ * lease, or the rents which are linked to the utility lease in the
+ * "UtilityLeasesRents" association table. Only these rents are updated, by
+ * recalculating their totals from the current rates in a single statement per
+ * batch, instead of recalculating every rent from scratch. The rents are
+ * locked before their totals are recalculated, so when two rates of the same
+ * rents are changed concurrently, the transaction which recalculates them
+ * second waits for the first one and sees both rates.
+
+ * Only open rents are updated, i.e. the rents of the current or a future
+ * billing period and the rents without a billing period. The rents of past
+ * billing periods keep the totals with which they were charged. The affected
+ * rents are updated in batches of a configurable size, in the same transaction
+ * in which the rate is changed, so the totals never disagree with the rates.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class RentRecomputationService {
+
+	/**
+	 * Repository for accessing data related to rents.
+	 */
+	@Autowired
+	private RentRepository rentRepository;
+
+	/**
+	 * Represents the maximum number of rents which are updated by one statement
+	 * (int).
+	 */
+	private final int batchSize;
+
+	/**
+	 * Template for executing the change of the rate and the update of the rents
+	 * in a single transaction.
+	 */
+	private final TransactionTemplate transactionTemplate;
+
+	@Autowired
+	public RentRecomputationService(PlatformTransactionManager transactionManager,
+			@Value("${rently.rents.recompute-batch-size:500}") int batchSize) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Executes the change of the rental rate of a lease and updates the totals of
+	 * the open rents of the lease in the same transaction. If the caller is
+	 * already in a transaction, that transaction is used.
+	 *
+	 * @param leaseId The id of the lease whose rate is being changed.
+	 * @param change  The action which stores the new rate.
+	 * @return The result of the change.
+	 */
+	public <T> T changeLeaseRate(int leaseId, Supplier<T> change) {
+		return transactionTemplate.execute(status -> {
+			T result = change.get();
+			recompute(rentRepository.findOpenRentIdsByLeaseId(leaseId, firstOpenPeriod()));
+			return result;
+		});
+	}
+
+	/**
+	 * Executes the change of the rental rate of a utility lease and updates the
+	 * totals of the open rents which include the utility lease in the same
+	 * transaction. If the caller is already in a transaction, that transaction is
+	 * used.
+	 *
+	 * @param utilityLeaseId The id of the utility lease whose rate is being
+	 *                       changed.
+	 * @param change         The action which stores the new rate.
+	 * @return The result of the change.
+	 */
+	public <T> T changeUtilityLeaseRate(int utilityLeaseId, Supplier<T> change) {
+		return transactionTemplate.execute(status -> {
+			T result = change.get();
+			recompute(rentRepository.findOpenRentIdsByUtilityLeaseId(utilityLeaseId, firstOpenPeriod()));
+			return result;
+		});
+	}
+
+	/**
+	 * Locks the given rents and recalculates their totals from the current rental
+	 * rates of their leases and utility leases. It has to be called in the
+	 * transaction in which the rates were changed, after they were changed.
+	 *
+	 * @param rentIds The ids of the rents that are being updated.
+	 */
+	public void recompute(List<Integer> rentIds) {
+		for (int from = 0; from < rentIds.size(); from += batchSize) {
+			List<Integer> batch = rentIds.subList(from, Math.min(from + batchSize, rentIds.size()));
+			rentRepository.lockAllByRentIdIn(batch);
+			rentRepository.recomputeTotalRent(batch);
+		}
+	}
+
+	private static String firstOpenPeriod() {
+		return YearMonth.now().toString();
+	}
+}
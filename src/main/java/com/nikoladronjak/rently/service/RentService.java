@@ -1,31 +1,27 @@
 package com.nikoladronjak.rently.service;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import com.nikoladronjak.rently.domain.Lease;
 import com.nikoladronjak.rently.domain.Rent;
 import com.nikoladronjak.rently.domain.UtilityLease;
 import com.nikoladronjak.rently.dto.RentDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.ValidationException;
 import com.nikoladronjak.rently.repository.LeaseRepository;
 import com.nikoladronjak.rently.repository.RentRepository;
 import com.nikoladronjak.rently.repository.ResidenceRepository;
 import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
-
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
+import com.nikoladronjak.rently.validation.PrecompiledValidator;
 
 /**
  * Represents a service class responsible for handling the business logic
@@ -65,32 +61,24 @@ public class RentService {
 	/**
 	 * Validator for validating Rent entities.
 	 */
-	private final Validator validator;
+	private final PrecompiledValidator validator;
 
 	/**
-	 * Default constructor for RentService. Initializes the validator using a
-	 * ValidatorFactory.
+	 * Default constructor for RentService. Initializes the validator.
 	 */
 	public RentService() {
-		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-		this.validator = factory.getValidator();
+		this.validator = new PrecompiledValidator();
 	}
 
 	/**
 	 * Retrieves all rents from the database and converts them to RentDTOs.
 	 * 
-	 * @return ResponseEntity containing a list of RentDTOs if successful, or an
-	 *         error message with HttpStatus.INTERNAL_SERVER_ERROR status (500) if
-	 *         an exception occurs.
+	 * @return A list of RentDTOs.
 	 */
-	public ResponseEntity<?> getAll() {
-		try {
-			List<Rent> rents = rentRepository.findAll();
-			List<RentDTO> rentDTOs = rents.stream().map(this::convertToDTO).collect(Collectors.toList());
-			return ResponseEntity.ok(rentDTOs);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
-		}
+	public List<RentDTO> getAll() {
+		List<Rent> rents = rentRepository.findAll();
+		List<RentDTO> rentDTOs = rents.stream().map(this::convertToDTO).collect(Collectors.toList());
+		return rentDTOs;
 	}
 
 	/**
@@ -98,22 +86,16 @@ public class RentService {
 	 * RentDTO.
 	 * 
 	 * @param id The id of the rent that is being queried.
-	 * @return ResponseEntity containing the RentDTO if successful, or an error
-	 *         message with HttpStatus.BAD_REQUEST status (400) if an exception
-	 *         occurs.
-	 * @throws RuntimeException if there is no rent with the given id.
+	 * @return The RentDTO.
+	 * @throws NotFoundException if there is no rent with the given id.
 	 */
-	public ResponseEntity<?> getById(Integer id) {
-		try {
-			Optional<Rent> rentFromDb = rentRepository.findById(id);
-			if (!rentFromDb.isPresent())
-				throw new RuntimeException("There is no rent with the given id.");
-
-			RentDTO rentDTO = convertToDTO(rentFromDb.get());
-			return ResponseEntity.ok(rentDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public RentDTO getById(Integer id) {
+		Optional<Rent> rentFromDb = rentRepository.findById(id);
+		if (!rentFromDb.isPresent())
+			throw new NotFoundException("There is no rent with the given id.");
+
+		RentDTO rentDTO = convertToDTO(rentFromDb.get());
+		return rentDTO;
 	}
 
 	/**
@@ -121,78 +103,67 @@ public class RentService {
 	 * 
 	 * @param rentDTO The RentDTO containing the details of the rent that is being
 	 *                added.
-	 * @return ResponseEntity containing the newly created RentDTO if successful, or
-	 *         an error message with HttpStatus.BAD_REQUEST status (400) if the
-	 *         rentDTO is not valid, or if an exception occurs.
-	 * @throws RuntimeException if:
-	 *                          <ul>
-	 *                          <li>There is no lease for the given leaseId.</li>
-	 *                          <li>There is no utility lease for the given
-	 *                          utilityLeaseId.</li>
-	 *                          <li>The Rent with the provided leaseId already
-	 *                          exists.</li>
-	 *                          </ul>
+	 * @return The newly created RentDTO.
+	 * @throws NotFoundException if there is no lease for the given leaseId, or
+	 *                           if there is no utility lease for the given
+	 *                           utilityLeaseId.
+	 * @throws ConflictException if the Rent with the provided leaseId already
+	 *                           exists for the billing period.
+	 * @throws ValidationException if the rentDTO is not valid.
 	 */
-	public ResponseEntity<?> add(RentDTO rentDTO) {
-		try {
-			Optional<Lease> leaseFromDb = leaseRepository.findById(rentDTO.getLeaseId());
-			if (!leaseFromDb.isPresent())
-				throw new RuntimeException("There is no lease for the given leaseId.");
-
-			if (residenceRepository.findById(leaseFromDb.get().getProperty().getPropertyId()).isPresent()) {
-				double leaseRentalRate = leaseFromDb.get().getRentalRate();
-				Rent rent = convertFromDTO(rentDTO);
-				Set<ConstraintViolation<Rent>> violations = validator.validate(rent);
-				if (!violations.isEmpty()) {
-					Map<String, String> errors = new HashMap<>();
-					for (ConstraintViolation<Rent> violation : violations) {
-						errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-					}
-					return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-				}
-				rent.setTotalRent(leaseRentalRate);
-				rent.setUtilityLeases(new ArrayList<UtilityLease>());
-				Rent newRent = rentRepository.save(rent);
-				RentDTO newRentDTO = convertToDTO(newRent);
-				return ResponseEntity.ok(newRentDTO);
-			}
+	public RentDTO add(RentDTO rentDTO) {
+		Optional<Lease> leaseFromDb = leaseRepository.findById(rentDTO.getLeaseId());
+		if (!leaseFromDb.isPresent())
+			throw new NotFoundException("There is no lease for the given leaseId.");
 
+		if (residenceRepository.findById(leaseFromDb.get().getProperty().getPropertyId()).isPresent()) {
 			double leaseRentalRate = leaseFromDb.get().getRentalRate();
-			double sumOfUtilityLeaseRentalRates = 0;
-			for (Integer utilityLeaseId : rentDTO.getUtilityLeaseIds()) {
-				Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(utilityLeaseId);
-				if (!utilityLeaseFromDb.isPresent())
-					throw new RuntimeException("There is no utility lease for the utilityLeaseId: " + utilityLeaseId);
-				sumOfUtilityLeaseRentalRates += utilityLeaseFromDb.get().getRentalRate();
-			}
-
 			Rent rent = convertFromDTO(rentDTO);
-			Set<ConstraintViolation<Rent>> violations = validator.validate(rent);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<Rent> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-			}
+			Map<String, String> errors = validator.validate(rent);
+			if (!errors.isEmpty())
+				throw new ValidationException(errors);
 
-			Optional<Rent> existingRent = rentRepository.findByLease_LeaseId(rentDTO.getLeaseId());
+			Optional<Rent> existingRent = rentRepository.findByLease_LeaseIdAndBillingPeriod(rentDTO.getLeaseId(),
+					rent.getBillingPeriod());
 			if (existingRent.isPresent())
-				throw new RuntimeException("This rent already exists.");
+				throw new ConflictException("This rent already exists.");
 
-			rent.setTotalRent(sumOfUtilityLeaseRentalRates + leaseRentalRate);
+			rent.setTotalRent(leaseRentalRate);
+			rent.setUtilityLeases(new ArrayList<UtilityLease>());
 			Rent newRent = rentRepository.save(rent);
-			for (Integer utilityLeaseId : rentDTO.getUtilityLeaseIds()) {
-				Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(utilityLeaseId);
-				UtilityLease utilityLease = utilityLeaseFromDb.get();
-				utilityLease.getRents().add(newRent);
-				utilityLeaseRepository.save(utilityLease);
-			}
 			RentDTO newRentDTO = convertToDTO(newRent);
-			return ResponseEntity.ok(newRentDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+			return newRentDTO;
+		}
+
+		double leaseRentalRate = leaseFromDb.get().getRentalRate();
+		double sumOfUtilityLeaseRentalRates = 0;
+		for (Integer utilityLeaseId : rentDTO.getUtilityLeaseIds()) {
+			Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(utilityLeaseId);
+			if (!utilityLeaseFromDb.isPresent())
+				throw new NotFoundException("There is no utility lease for the utilityLeaseId: " + utilityLeaseId);
+			sumOfUtilityLeaseRentalRates += utilityLeaseFromDb.get().getRentalRate();
+		}
+
+		Rent rent = convertFromDTO(rentDTO);
+		Map<String, String> errors = validator.validate(rent);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		Optional<Rent> existingRent = rentRepository.findByLease_LeaseIdAndBillingPeriod(rentDTO.getLeaseId(),
+				rent.getBillingPeriod());
+		if (existingRent.isPresent())
+			throw new ConflictException("This rent already exists.");
+
+		rent.setTotalRent(sumOfUtilityLeaseRentalRates + leaseRentalRate);
+		Rent newRent = rentRepository.save(rent);
+		for (Integer utilityLeaseId : rentDTO.getUtilityLeaseIds()) {
+			Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(utilityLeaseId);
+			UtilityLease utilityLease = utilityLeaseFromDb.get();
+			utilityLease.getRents().add(newRent);
+			utilityLeaseRepository.save(utilityLease);
 		}
+		RentDTO newRentDTO = convertToDTO(newRent);
+		return newRentDTO;
 	}
 
 	/**
@@ -200,100 +171,84 @@ public class RentService {
 	 * 
 	 * @param id      The id of the rent that is being updated.
 	 * @param rentDTO The RentDTO containing the updated details of the rent.
-	 * @return ResponseEntity containing the updated RentDTO if successful, or an
-	 *         error message with HttpStatus.BAD_REQUEST status (400) if the rentDTO
-	 *         is not valid, or if an exception occurs.
-	 * @throws RuntimeException if:
-	 *                          <ul>
-	 *                          <li>There is no rent for the given id.</li>
-	 *                          <li>There is no lease for the given leaseId.</li>
-	 *                          <li>There is no utility lease for the given
-	 *                          utilityLeaseId.</li>
-	 *                          <li>The Rent with the provided leaseId already
-	 *                          exists.</li>
-	 *                          </ul>
+	 * @return The updated RentDTO.
+	 * @throws NotFoundException if there is no rent for the given id, or if
+	 *                           there is no lease for the given leaseId, or if
+	 *                           there is no utility lease for the given
+	 *                           utilityLeaseId.
+	 * @throws ConflictException if the Rent with the provided leaseId already
+	 *                           exists for the billing period.
+	 * @throws ValidationException if the rentDTO is not valid.
 	 */
-	public ResponseEntity<?> update(Integer id, RentDTO rentDTO) {
-		try {
-			Optional<Rent> rentFromDb = rentRepository.findById(id);
-			if (!rentFromDb.isPresent())
-				throw new RuntimeException("There is no rent for the given id.");
-
-			Optional<Lease> leaseFromDb = leaseRepository.findById(rentDTO.getLeaseId());
-			if (!leaseFromDb.isPresent())
-				throw new RuntimeException("There is no lease for the given leaseId.");
-
-			double leaseRentalRate = leaseFromDb.get().getRentalRate();
-			double sumOfUtilityLeaseRentalRates = 0;
-			for (Integer utilityLeaseId : rentDTO.getUtilityLeaseIds()) {
-				Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(utilityLeaseId);
-				if (!utilityLeaseFromDb.isPresent())
-					throw new RuntimeException("There is no utility lease for the utilityLeaseId: " + utilityLeaseId);
-				sumOfUtilityLeaseRentalRates += utilityLeaseFromDb.get().getRentalRate();
-			}
-
-			Rent rent = convertFromDTO(rentDTO);
-			Set<ConstraintViolation<Rent>> violations = validator.validate(rent);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<Rent> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-			}
+	public RentDTO update(Integer id, RentDTO rentDTO) {
+		Optional<Rent> rentFromDb = rentRepository.findById(id);
+		if (!rentFromDb.isPresent())
+			throw new NotFoundException("There is no rent for the given id.");
+
+		Optional<Lease> leaseFromDb = leaseRepository.findById(rentDTO.getLeaseId());
+		if (!leaseFromDb.isPresent())
+			throw new NotFoundException("There is no lease for the given leaseId.");
+
+		double leaseRentalRate = leaseFromDb.get().getRentalRate();
+		double sumOfUtilityLeaseRentalRates = 0;
+		for (Integer utilityLeaseId : rentDTO.getUtilityLeaseIds()) {
+			Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(utilityLeaseId);
+			if (!utilityLeaseFromDb.isPresent())
+				throw new NotFoundException("There is no utility lease for the utilityLeaseId: " + utilityLeaseId);
+			sumOfUtilityLeaseRentalRates += utilityLeaseFromDb.get().getRentalRate();
+		}
 
-			Optional<Rent> existingRent = rentRepository.findByLease_LeaseId(rentDTO.getLeaseId());
-			if (existingRent.isPresent()) {
-				if (existingRent.get().getRentId() != id) {
-					throw new RuntimeException("This rent already exists.");
-				}
+		Rent rent = convertFromDTO(rentDTO);
+		if (rentDTO.getBillingPeriod() == null)
+			rent.setBillingPeriod(rentFromDb.get().getBillingPeriod());
+		Map<String, String> errors = validator.validate(rent);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		Optional<Rent> existingRent = rentRepository.findByLease_LeaseIdAndBillingPeriod(rentDTO.getLeaseId(),
+				rent.getBillingPeriod());
+		if (existingRent.isPresent()) {
+			if (existingRent.get().getRentId() != id) {
+				throw new ConflictException("This rent already exists.");
 			}
+		}
 
-			rent.setRentId(id);
-			rent.setTotalRent(sumOfUtilityLeaseRentalRates + leaseRentalRate);
-			for (UtilityLease utilityLease : rentFromDb.get().getUtilityLeases()) {
-				utilityLease.getRents().remove(rentFromDb.get());
-				utilityLeaseRepository.save(utilityLease);
-			}
-			Rent updatedRent = rentRepository.save(rent);
-			for (Integer utilityLeaseId : rentDTO.getUtilityLeaseIds()) {
-				Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(utilityLeaseId);
-				UtilityLease utilityLease = utilityLeaseFromDb.get();
-				utilityLease.getRents().add(updatedRent);
-				utilityLeaseRepository.save(utilityLease);
-			}
-			RentDTO updatedRentDTO = convertToDTO(updatedRent);
-			return ResponseEntity.ok(updatedRentDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+		rent.setRentId(id);
+		rent.setTotalRent(sumOfUtilityLeaseRentalRates + leaseRentalRate);
+		for (UtilityLease utilityLease : rentFromDb.get().getUtilityLeases()) {
+			utilityLease.getRents().remove(rentFromDb.get());
+			utilityLeaseRepository.save(utilityLease);
+		}
+		Rent updatedRent = rentRepository.save(rent);
+		for (Integer utilityLeaseId : rentDTO.getUtilityLeaseIds()) {
+			Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(utilityLeaseId);
+			UtilityLease utilityLease = utilityLeaseFromDb.get();
+			utilityLease.getRents().add(updatedRent);
+			utilityLeaseRepository.save(utilityLease);
 		}
+		RentDTO updatedRentDTO = convertToDTO(updatedRent);
+		return updatedRentDTO;
 	}
 
 	/**
 	 * Deletes the rent with the specified id.
 	 * 
 	 * @param id The id of the rent that is being deleted.
-	 * @return ResponseEntity containing the deleted RentDTO if successful, or an
-	 *         error message with HttpStatus.BAD_REQUEST status (400) if an
-	 *         exception occurs.
-	 * @throws RuntimeException if there is no rent with the given id.
+	 * @return The deleted RentDTO.
+	 * @throws NotFoundException if there is no rent with the given id.
 	 */
-	public ResponseEntity<?> delete(Integer id) {
-		try {
-			Optional<Rent> rentFromDb = rentRepository.findById(id);
-			if (!rentFromDb.isPresent())
-				throw new RuntimeException("There is no rent with the given id.");
-
-			for (UtilityLease utilityLease : rentFromDb.get().getUtilityLeases()) {
-				utilityLease.getRents().remove(rentFromDb.get());
-				utilityLeaseRepository.save(utilityLease);
-			}
-			rentRepository.deleteById(id);
-			RentDTO deletedRentDTO = convertToDTO(rentFromDb.get());
-			return ResponseEntity.ok(deletedRentDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+	public RentDTO delete(Integer id) {
+		Optional<Rent> rentFromDb = rentRepository.findById(id);
+		if (!rentFromDb.isPresent())
+			throw new NotFoundException("There is no rent with the given id.");
+
+		for (UtilityLease utilityLease : rentFromDb.get().getUtilityLeases()) {
+			utilityLease.getRents().remove(rentFromDb.get());
+			utilityLeaseRepository.save(utilityLease);
 		}
+		rentRepository.deleteById(id);
+		RentDTO deletedRentDTO = convertToDTO(rentFromDb.get());
+		return deletedRentDTO;
 	}
 
 	/**
@@ -307,15 +262,18 @@ public class RentService {
 				.map(utilityLease -> utilityLease.getUtilityLeaseId()).collect(Collectors.toList());
 
 		RentDTO rentDTO = new RentDTO();
+		rentDTO.setRentId(rent.getRentId());
 		rentDTO.setLeaseId(rent.getLease().getLeaseId());
 		rentDTO.setUtilityLeaseIds(utilityLeaseIds);
 		rentDTO.setTotalRent(rent.getTotalRent());
+		rentDTO.setBillingPeriod(rent.getBillingPeriod());
 
 		return rentDTO;
 	}
 
 	/**
-	 * Converts a RentDTO to a Rent entity.
+	 * Converts a RentDTO to a Rent entity. If the RentDTO does not specify the
+	 * billing period, the rent is charged for the current month.
 	 * 
 	 * @param rentDTO The RentDTO that is being converted.
 	 * @return The corresponding Rent entity.
@@ -329,6 +287,8 @@ public class RentService {
 
 		Rent rent = new Rent();
 		rent.setLease(lease);
+		rent.setBillingPeriod(
+				rentDTO.getBillingPeriod() != null ? rentDTO.getBillingPeriod() : YearMonth.now().toString());
 		rent.setUtilityLeases(utilityLeases);
 
 		return rent;
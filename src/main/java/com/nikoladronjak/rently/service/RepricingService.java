@@ -0,0 +1,247 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.Property;
+import com.nikoladronjak.rently.domain.Rent;
+import com.nikoladronjak.rently.dto.RepricedLeaseDTO;
+import com.nikoladronjak.rently.dto.RepricedPropertyDTO;
+import com.nikoladronjak.rently.dto.RepricingDTO;
+import com.nikoladronjak.rently.dto.RepricingPreviewDTO;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.PropertyRepository;
+import com.nikoladronjak.rently.repository.PropertySpecifications;
+import com.nikoladronjak.rently.repository.RentRepository;
+
+/**
+ * Represents a service class responsible for changing the rental rates of many
+ * properties at once. The properties are selected with the filters of a
+ * RepricingDTO and every selected rental rate is changed by the same pricing
+ * expression: it is multiplied by (1 + percentage / 100), the amount is added
+ * to it and the result is rounded to two decimals.
+ *
+ * A dry run only loads the selected properties, and optionally their ongoing
+ * and future leases with the open rents of these leases, and returns their old
+ * and new rental rates. The repricing itself returns the same result, but also
+ * applies the pricing expression with set-based UPDATE statements in a single
+ * transaction: one for the leases, one for the properties, and one per batch
+ * for the open rents of the leases. The rents are updated last, by the
+ * RentRecomputationService, which locks them and recalculates their totals
+ * from the new rental rates, so a concurrent change of the rate of a lease or
+ * a utility lease can't be lost. The saved searches are percolated with the
+ * new rental rates before the properties are updated, so the customers are
+ * notified of the properties which start to match their searches. No entity
+ * is validated or written one by one, so the photos and the other collections
+ * of the properties are never rewritten.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class RepricingService {
+
+	/**
+	 * Repository for accessing data related to properties.
+	 */
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	/**
+	 * Repository for accessing data related to leases.
+	 */
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	/**
+	 * Repository for accessing data related to rents.
+	 */
+	@Autowired
+	private RentRepository rentRepository;
+
+	/**
+	 * Service for recalculating the totals of the open rents of the repriced
+	 * leases.
+	 */
+	@Autowired
+	private RentRecomputationService rentRecomputationService;
+
+	/**
+	 * Service for evicting the compiled rate plans of the repriced properties.
+	 */
+	@Autowired
+	private QuoteService quoteService;
+
+	/**
+	 * Service for notifying the customers whose saved searches the repriced
+	 * properties start to match.
+	 */
+	@Autowired
+	private SavedSearchService savedSearchService;
+
+	/**
+	 * Service for writing the versions of the repriced properties and leases in
+	 * the transaction of the repricing.
+	 */
+	@Autowired
+	private HistoryService historyService;
+
+	/**
+	 * Template for executing the UPDATE statements of a repricing in a single
+	 * transaction.
+	 */
+	private final TransactionTemplate transactionTemplate;
+
+	@Autowired
+	public RepricingService(PlatformTransactionManager transactionManager) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Returns what the repricing would change, without changing anything.
+	 *
+	 * @param repricingDTO The filters and the pricing expression of the
+	 *                     repricing.
+	 * @return The RepricingPreviewDTO with the properties, the leases and the
+	 *         number of rents which would be repriced.
+	 * @throws UnprocessableEntityException if neither the percentage nor the
+	 *                                      amount is given, or if a new rental
+	 *                                      rate would not be positive.
+	 */
+	public RepricingPreviewDTO preview(RepricingDTO repricingDTO) {
+		return transactionTemplate.execute(status -> plan(repricingDTO, false));
+	}
+
+	/**
+	 * Reprices the properties which match the filters, and optionally their
+	 * ongoing and future leases and the open rents of these leases, in a single
+	 * transaction.
+	 *
+	 * @param repricingDTO The filters and the pricing expression of the
+	 *                     repricing.
+	 * @return The RepricingPreviewDTO with the repriced properties, leases and
+	 *         the number of repriced rents.
+	 * @throws UnprocessableEntityException if neither the percentage nor the
+	 *                                      amount is given, or if a new rental
+	 *                                      rate would not be positive.
+	 */
+	public RepricingPreviewDTO reprice(RepricingDTO repricingDTO) {
+		return transactionTemplate.execute(status -> {
+			RepricingPreviewDTO repricingPreviewDTO = plan(repricingDTO, true);
+			if (repricingPreviewDTO.getProperties().isEmpty())
+				return repricingPreviewDTO;
+
+			double factor = factor(repricingDTO);
+			double amount = amount(repricingDTO);
+			List<Integer> leaseIds = repricingPreviewDTO.getLeases().stream().map(RepricedLeaseDTO::getLeaseId)
+					.collect(Collectors.toList());
+			if (!leaseIds.isEmpty()) {
+				leaseRepository.reprice(leaseIds, factor, amount);
+				rentRecomputationService.recompute(repricingPreviewDTO.getLeases().stream()
+						.flatMap(lease -> lease.getRentIds().stream()).collect(Collectors.toList()));
+			}
+			List<Integer> propertyIds = repricingPreviewDTO.getProperties().stream()
+					.map(RepricedPropertyDTO::getPropertyId).collect(Collectors.toList());
+			Map<Integer, Property> properties = propertyRepository.findAllById(propertyIds).stream()
+					.collect(Collectors.toMap(Property::getPropertyId, Function.identity()));
+			for (RepricedPropertyDTO repricedPropertyDTO : repricingPreviewDTO.getProperties()) {
+				savedSearchService.percolate(properties.get(repricedPropertyDTO.getPropertyId()),
+						repricedPropertyDTO.getNewRentalRate());
+			}
+			propertyRepository.reprice(propertyIds, factor, amount);
+			historyService.recordRepricing(repricingPreviewDTO);
+			propertyIds.forEach(quoteService::evict);
+			return repricingPreviewDTO;
+		});
+	}
+
+	private RepricingPreviewDTO plan(RepricingDTO repricingDTO, boolean applied) {
+		if (repricingDTO.getPercentage() == null && repricingDTO.getAmount() == null)
+			throw new UnprocessableEntityException("Either the percentage or the amount is required.");
+
+		double factor = factor(repricingDTO);
+		double amount = amount(repricingDTO);
+		Specification<Property> specification = Specification
+				.where(PropertySpecifications.hasOwner(repricingDTO.getOwnerId()))
+				.and(PropertySpecifications.hasType(repricingDTO.getType()))
+				.and(PropertySpecifications.hasRentalRateAtLeast(repricingDTO.getMinRentalRate()))
+				.and(PropertySpecifications.hasRentalRateAtMost(repricingDTO.getMaxRentalRate()))
+				.and(PropertySpecifications.hasSizeAtLeast(repricingDTO.getMinSize()))
+				.and(PropertySpecifications.hasBedroomsAtLeast(repricingDTO.getMinNumberOfBedrooms()))
+				.and(PropertySpecifications.hasCapacityAtLeast(repricingDTO.getMinCapacity()));
+		List<RepricedPropertyDTO> properties = new ArrayList<RepricedPropertyDTO>();
+		for (Property property : propertyRepository.findAll(specification, Sort.by("propertyId"))) {
+			double newRentalRate = reprice(property.getRentalRate(), factor, amount);
+			if (newRentalRate <= 0)
+				throw new UnprocessableEntityException("The new rental rate of the property with the id "
+						+ property.getPropertyId() + " has to be a positive value.");
+
+			properties.add(new RepricedPropertyDTO(property.getPropertyId(), property.getName(),
+					property.getRentalRate(), newRentalRate));
+		}
+
+		List<RepricedLeaseDTO> leases = new ArrayList<RepricedLeaseDTO>();
+		int numberOfRents = 0;
+		if (Boolean.TRUE.equals(repricingDTO.getIncludeLeases()) && !properties.isEmpty()) {
+			List<Integer> propertyIds = properties.stream().map(RepricedPropertyDTO::getPropertyId)
+					.collect(Collectors.toList());
+			List<Lease> leasesFromDb = leaseRepository
+					.findAllByProperty_PropertyIdInAndEndDateGreaterThanEqualOrderByLeaseId(propertyIds, today());
+			if (!leasesFromDb.isEmpty()) {
+				Map<Integer, List<Integer>> rentIds = rentRepository
+						.findOpenByLeaseIds(
+								leasesFromDb.stream().map(Lease::getLeaseId).collect(Collectors.toList()),
+								firstOpenPeriod())
+						.stream().collect(Collectors.groupingBy(rent -> rent.getLease().getLeaseId(),
+								Collectors.mapping(Rent::getRentId, Collectors.toList())));
+				for (Lease lease : leasesFromDb) {
+					double newRentalRate = reprice(lease.getRentalRate(), factor, amount);
+					if (newRentalRate <= 0)
+						throw new UnprocessableEntityException("The new rental rate of the lease with the id "
+								+ lease.getLeaseId() + " has to be a positive value.");
+
+					List<Integer> leaseRentIds = rentIds.getOrDefault(lease.getLeaseId(), new ArrayList<Integer>());
+					leases.add(new RepricedLeaseDTO(lease.getLeaseId(), lease.getProperty().getPropertyId(),
+							lease.getRentalRate(), newRentalRate, leaseRentIds));
+					numberOfRents += leaseRentIds.size();
+				}
+			}
+		}
+		return new RepricingPreviewDTO(applied, properties, leases, numberOfRents);
+	}
+
+	private static double factor(RepricingDTO repricingDTO) {
+		return repricingDTO.getPercentage() == null ? 1 : 1 + repricingDTO.getPercentage() / 100;
+	}
+
+	private static double amount(RepricingDTO repricingDTO) {
+		return repricingDTO.getAmount() == null ? 0 : repricingDTO.getAmount();
+	}
+
+	private static double reprice(double rentalRate, double factor, double amount) {
+		return Math.round((rentalRate * factor + amount) * 100) / 100.0;
+	}
+
+	private static GregorianCalendar today() {
+		return GregorianCalendar.from(LocalDate.now().atStartOfDay(ZoneId.systemDefault()));
+	}
+
+	private static String firstOpenPeriod() {
+		return YearMonth.now().toString();
+	}
+}
@@ -1,30 +1,29 @@
 package com.nikoladronjak.rently.service;
 
-import java.util.HashMap;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.PropertyHistory;
+import com.nikoladronjak.rently.domain.PropertyType;
 import com.nikoladronjak.rently.domain.Residence;
 import com.nikoladronjak.rently.dto.ResidenceDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.ValidationException;
 import com.nikoladronjak.rently.repository.EventSpaceRepository;
 import com.nikoladronjak.rently.repository.LeaseRepository;
 import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
 import com.nikoladronjak.rently.repository.OwnerRepository;
 import com.nikoladronjak.rently.repository.ResidenceRepository;
-
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
+import com.nikoladronjak.rently.validation.PrecompiledValidator;
 
 /**
  * Represents a service class responsible for handling the business logic
@@ -68,36 +67,86 @@ public class ResidenceService {
 	@Autowired
 	private ResidenceRepository residenceRepository;
 
+	/**
+	 * Service for checking whether the properties are leased.
+	 */
+	@Autowired
+	private PropertyBookingService propertyBookingService;
+
+	/**
+	 * Service for evicting the compiled rate plan of the residence when its
+	 * rental rate changes.
+	 */
+	@Autowired
+	private QuoteService quoteService;
+
+	/**
+	 * Service for deleting the rate rules of the residence when it is deleted.
+	 */
+	@Autowired
+	private RateRuleService rateRuleService;
+
+	/**
+	 * Service for writing the versions of the residence in the same transaction
+	 * in which it is changed.
+	 */
+	@Autowired
+	private HistoryService historyService;
+
+	/**
+	 * Service for notifying the saved searches which the residence starts to match
+	 * when it is added or updated.
+	 */
+	@Autowired
+	private SavedSearchService savedSearchService;
+
+	/**
+	 * Service for keeping the full-text index of the names and the descriptions
+	 * of the properties up to date.
+	 */
+	@Autowired
+	private PropertySearchService propertySearchService;
+
+	/**
+	 * Service for completing the addresses of the properties.
+	 */
+	@Autowired
+	private AutocompleteService autocompleteService;
+
+	/**
+	 * Service for finding the properties which were entered more than once.
+	 */
+	@Autowired
+	private DuplicateAddressService duplicateAddressService;
+
+	/**
+	 * Service for finding the properties by their location.
+	 */
+	@Autowired
+	private GeoSearchService geoSearchService;
+
 	/**
 	 * Validator for validating Residence entities.
 	 */
-	private final Validator validator;
+	private final PrecompiledValidator validator;
 
 	/**
-	 * Default constructor for ResidenceService. Initializes the validator using a
-	 * ValidatorFactory.
+	 * Default constructor for ResidenceService. Initializes the validator.
 	 */
 	public ResidenceService() {
-		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-		this.validator = factory.getValidator();
+		this.validator = new PrecompiledValidator();
 	}
 
 	/**
 	 * Retrieves all residences from the database and converts them to
 	 * ResidenceDTOs.
 	 * 
-	 * @return ResponseEntity containing a list of ResidenceDTOs if successful, or
-	 *         an error message with HttpStatus.INTERNAL_SERVER_ERROR status (500)
-	 *         if an exception occurs.
+	 * @return A list of ResidenceDTOs.
 	 */
-	public ResponseEntity<?> getAll() {
-		try {
-			List<Residence> residences = residenceRepository.findAll();
-			List<ResidenceDTO> residenceDTOs = residences.stream().map(this::convertToDTO).collect(Collectors.toList());
-			return ResponseEntity.ok(residenceDTOs);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
-		}
+	public List<ResidenceDTO> getAll() {
+		List<Residence> residences = residenceRepository.findAll();
+		List<ResidenceDTO> residenceDTOs = residences.stream().map(this::convertToDTO).collect(Collectors.toList());
+		return residenceDTOs;
 	}
 
 	/**
@@ -105,22 +154,36 @@ public class ResidenceService {
 	 * to a ResidenceDTO.
 	 * 
 	 * @param id The id of the residence that is being queried.
-	 * @return ResponseEntity containing the ResidenceDTO if successful, or an error
-	 *         message with HttpStatus.BAD_REQUEST status (400) if an exception
-	 *         occurs.
-	 * @throws RuntimeException if there is no residence with the given id.
+	 * @return The ResidenceDTO.
+	 * @throws NotFoundException if there is no residence with the given id.
 	 */
-	public ResponseEntity<?> getById(Integer id) {
-		try {
-			Optional<Residence> residenceFromDb = residenceRepository.findById(id);
-			if (!residenceFromDb.isPresent())
-				throw new RuntimeException("There is no residence with the given id.");
-
-			ResidenceDTO residenceDTO = convertToDTO(residenceFromDb.get());
-			return ResponseEntity.ok(residenceDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public ResidenceDTO getById(Integer id) {
+		Optional<Residence> residenceFromDb = residenceRepository.findById(id);
+		if (!residenceFromDb.isPresent())
+			throw new NotFoundException("There is no residence with the given id.");
+
+		ResidenceDTO residenceDTO = convertToDTO(residenceFromDb.get());
+		return residenceDTO;
+	}
+
+	/**
+	 * Retrieves the version of the residence with the specified id which was valid
+	 * at the given time and converts it to a ResidenceDTO. The photos of the residence
+	 * are not versioned, so they are left out.
+	 * 
+	 * @param id   The id of the residence that is being queried.
+	 * @param asOf The time at which the version was valid.
+	 * @return The ResidenceDTO.
+	 * @throws NotFoundException if there was no residence with the given id at the
+	 *                           given time.
+	 */
+	public ResidenceDTO getById(Integer id, Instant asOf) {
+		Optional<PropertyHistory> propertyHistory = historyService.getPropertyAsOf(id, asOf);
+		if (propertyHistory.isEmpty() || propertyHistory.get().getPropertyType() != PropertyType.Residence)
+			throw new NotFoundException("There was no residence with the given id at the given time.");
+
+		ResidenceDTO residenceDTO = convertToDTO(propertyHistory.get());
+		return residenceDTO;
 	}
 
 	/**
@@ -128,38 +191,44 @@ public class ResidenceService {
 	 * 
 	 * @param residenceDTO The ResidenceDTO containing the details of the residence
 	 *                     that is being added.
-	 * @return ResponseEntity containing the newly created ResidenceDTO if
-	 *         successful, or an error message with HttpStatus.BAD_REQUEST status
-	 *         (400) if the residenceDTO is not valid, or if an exception occurs.
-	 * @throws RuntimeException if there is no owner with the given ownerId, or if a
-	 *                          property with the provided address already exists.
+	 * @return The newly created ResidenceDTO.
+	 * @throws NotFoundException if there is no owner with the given ownerId.
+	 * @throws ConflictException if a property with the provided address already
+	 *                           exists, or if a property with a similar
+	 *                           address exists and such properties are
+	 *                           rejected.
+	 * @throws ValidationException if the residenceDTO is not valid.
 	 */
-	public ResponseEntity<?> add(ResidenceDTO residenceDTO) {
-		try {
-			if (ownerRepository.findById(residenceDTO.getOwnerId()).isEmpty())
-				throw new RuntimeException("There is no owner with the given id.");
-
-			Residence residence = convertFromDTO(residenceDTO);
-			Set<ConstraintViolation<Residence>> violations = validator.validate(residence);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<Residence> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-			}
+	public ResidenceDTO add(ResidenceDTO residenceDTO) {
+		if (ownerRepository.findById(residenceDTO.getOwnerId()).isEmpty())
+			throw new NotFoundException("There is no owner with the given id.");
 
-			if (residenceRepository.findByAddress(residenceDTO.getAddress()).isPresent()
-					|| eventSpaceRepository.findByAddress(residenceDTO.getAddress()).isPresent()
-					|| officeSpaceRepository.findByAddress(residenceDTO.getAddress()).isPresent())
-				throw new RuntimeException("This property already exists.");
-
-			Residence newResidence = residenceRepository.save(residence);
-			ResidenceDTO newResidenceDTO = convertToDTO(newResidence);
-			return ResponseEntity.ok(newResidenceDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+		Residence residence = convertFromDTO(residenceDTO);
+		Map<String, String> errors = validator.validate(residence);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		if (residenceRepository.findByAddress(residenceDTO.getAddress()).isPresent()
+				|| eventSpaceRepository.findByAddress(residenceDTO.getAddress()).isPresent()
+				|| officeSpaceRepository.findByAddress(residenceDTO.getAddress()).isPresent())
+			throw new ConflictException("This property already exists.");
+
+		List<Integer> possibleDuplicateIds = duplicateAddressService.check(null, residenceDTO.getAddress());
+
+		Residence newResidence = historyService.changeProperty(() -> {
+			Residence savedResidence = residenceRepository.save(residence);
+			savedSearchService.percolate(null, savedResidence);
+			propertySearchService.index(savedResidence);
+			autocompleteService.putAddress(savedResidence);
+			duplicateAddressService.index(savedResidence);
+			geoSearchService.index(savedResidence);
+			return savedResidence;
+		});
+		ResidenceDTO newResidenceDTO = convertToDTO(newResidence);
+		if (!possibleDuplicateIds.isEmpty())
+			newResidenceDTO.setPossibleDuplicateIds(possibleDuplicateIds);
+
+		return newResidenceDTO;
 	}
 
 	/**
@@ -168,80 +237,85 @@ public class ResidenceService {
 	 * @param id           The id of the residence that is being updated.
 	 * @param residenceDTO The ResidenceDTO containing the updated details of the
 	 *                     residence.
-	 * @return ResponseEntity containing the updated ResidenceDTO if successful, or
-	 *         an error message with HttpStatus.BAD_REQUEST status (400) if the
-	 *         residenceDTO is not valid, or if an exception occurs.
-	 * @throws RuntimeException if:
-	 *                          <ul>
-	 *                          <li>There is no residence with the given id.</li>
-	 *                          <li>There is no owner with the given ownerId</li>
-	 *                          <li>The property with the provided address already
-	 *                          exists.</li>
-	 *                          </ul>
+	 * @return The updated ResidenceDTO.
+	 * @throws NotFoundException if there is no residence with the given id, or
+	 *                           if there is no owner with the given ownerId.
+	 * @throws ConflictException if the property with the provided address
+	 *                           already exists, or if a property with a
+	 *                           similar address exists and such properties are
+	 *                           rejected.
+	 * @throws ValidationException if the residenceDTO is not valid.
 	 */
-	public ResponseEntity<?> update(Integer id, ResidenceDTO residenceDTO) {
-		try {
-			Optional<Residence> residenceFromDb = residenceRepository.findById(id);
-			if (!residenceFromDb.isPresent())
-				throw new RuntimeException("There is no residence with the given id.");
-
-			if (ownerRepository.findById(residenceDTO.getOwnerId()).isEmpty())
-				throw new RuntimeException("There is no owner with the given id.");
-
-			Residence residence = convertFromDTO(residenceDTO);
-			Set<ConstraintViolation<Residence>> violations = validator.validate(residence);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<Residence> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-			}
+	public ResidenceDTO update(Integer id, ResidenceDTO residenceDTO) {
+		Optional<Residence> residenceFromDb = residenceRepository.findById(id);
+		if (!residenceFromDb.isPresent())
+			throw new NotFoundException("There is no residence with the given id.");
 
-			if (!residenceFromDb.get().getAddress().equals(residenceDTO.getAddress())) {
-				if (residenceRepository.findByAddress(residenceDTO.getAddress()).isPresent()
-						|| eventSpaceRepository.findByAddress(residenceDTO.getAddress()).isPresent()
-						|| officeSpaceRepository.findByAddress(residenceDTO.getAddress()).isPresent()) {
-					throw new RuntimeException("This property already exists.");
-				}
-			}
+		if (ownerRepository.findById(residenceDTO.getOwnerId()).isEmpty())
+			throw new NotFoundException("There is no owner with the given id.");
+
+		Residence residence = convertFromDTO(residenceDTO);
+		Map<String, String> errors = validator.validate(residence);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
 
-			residence.setPropertyId(id);
-			Residence updatedResidence = residenceRepository.save(residence);
-			ResidenceDTO updatedResidenceDTO = convertToDTO(updatedResidence);
-			return ResponseEntity.ok(updatedResidenceDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+		List<Integer> possibleDuplicateIds = List.of();
+		if (!residenceFromDb.get().getAddress().equals(residenceDTO.getAddress())) {
+			if (residenceRepository.findByAddress(residenceDTO.getAddress()).isPresent()
+					|| eventSpaceRepository.findByAddress(residenceDTO.getAddress()).isPresent()
+					|| officeSpaceRepository.findByAddress(residenceDTO.getAddress()).isPresent()) {
+				throw new ConflictException("This property already exists.");
+			}
+			possibleDuplicateIds = duplicateAddressService.check(id, residenceDTO.getAddress());
 		}
+
+		residence.setPropertyId(id);
+		Residence updatedResidence = historyService.changeProperty(() -> {
+			Residence savedResidence = residenceRepository.save(residence);
+			savedSearchService.percolate(residenceFromDb.get(), savedResidence);
+			propertySearchService.index(savedResidence);
+			autocompleteService.putAddress(savedResidence);
+			duplicateAddressService.index(savedResidence);
+			geoSearchService.index(savedResidence);
+			return savedResidence;
+		});
+		quoteService.evict(id);
+		ResidenceDTO updatedResidenceDTO = convertToDTO(updatedResidence);
+		if (!possibleDuplicateIds.isEmpty())
+			updatedResidenceDTO.setPossibleDuplicateIds(possibleDuplicateIds);
+
+		return updatedResidenceDTO;
 	}
 
 	/**
 	 * Deletes the residence with the specified id.
 	 * 
 	 * @param id The id of the residence that is being deleted.
-	 * @return ResponseEntity containing the deleted ResidenceDTO if successful, or
-	 *         an error message with HttpStatus.BAD_REQUEST status (400) if an
-	 *         exception occurs.
-	 * @throws RuntimeException if there is no residence with the given id, or if
-	 *                          there are leases associated with the residence.
+	 * @return The deleted ResidenceDTO.
+	 * @throws NotFoundException if there is no residence with the given id.
+	 * @throws ConflictException if there are leases associated with the
+	 *                           residence.
 	 */
-	public ResponseEntity<?> delete(Integer id) {
-		try {
-			Optional<Residence> residenceFromDb = residenceRepository.findById(id);
-			if (!residenceFromDb.isPresent())
-				throw new RuntimeException("There is no residence with the given id.");
+	public ResidenceDTO delete(Integer id) {
+		Optional<Residence> residenceFromDb = residenceRepository.findById(id);
+		if (!residenceFromDb.isPresent())
+			throw new NotFoundException("There is no residence with the given id.");
 
-			List<Lease> leasesFromDb = leaseRepository.findAllByProperty_PropertyId(id);
-			if (!leasesFromDb.isEmpty())
-				throw new RuntimeException(
-						"You cannot delete this residence since there are leases associated with it.");
+		List<Lease> leasesFromDb = leaseRepository.findAllByProperty_PropertyId(id);
+		if (!leasesFromDb.isEmpty())
+			throw new ConflictException(
+					"You cannot delete this residence since there are leases associated with it.");
 
+		historyService.deleteProperty(residenceFromDb.get(), () -> {
+			rateRuleService.deleteAllByPropertyId(id);
 			residenceRepository.deleteById(id);
-			ResidenceDTO deletedResidenceDTO = convertToDTO(residenceFromDb.get());
-			return ResponseEntity.ok(deletedResidenceDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+			propertySearchService.remove(id);
+			autocompleteService.removeAddress(id);
+			duplicateAddressService.remove(id);
+			geoSearchService.remove(id);
+		});
+		ResidenceDTO deletedResidenceDTO = convertToDTO(residenceFromDb.get());
+		return deletedResidenceDTO;
 	}
 
 	/**
@@ -255,10 +329,13 @@ public class ResidenceService {
 		residenceDTO.setPropertyId(residence.getPropertyId());
 		residenceDTO.setName(residence.getName());
 		residenceDTO.setAddress(residence.getAddress());
+		residenceDTO.setLatitude(residence.getLatitude());
+		residenceDTO.setLongitude(residence.getLongitude());
 		residenceDTO.setDescription(residence.getDescription());
 		residenceDTO.setRentalRate(residence.getRentalRate());
 		residenceDTO.setSize(residence.getSize());
-		residenceDTO.setIsAvailable(residence.isAvailable());
+		boolean isLeased = propertyBookingService.isLeased(residence.getPropertyId(), LocalDate.now());
+		residenceDTO.setIsAvailable(residence.isAvailable() && !isLeased);
 		residenceDTO.setNumberOfParkingSpots(residence.getNumberOfParkingSpots());
 		residenceDTO.setPhotos(residence.getPhotos());
 		residenceDTO.setNumberOfBedrooms(residence.getNumberOfBedrooms());
@@ -271,6 +348,34 @@ public class ResidenceService {
 		return residenceDTO;
 	}
 
+	/**
+	 * Converts a version of a residence to a ResidenceDTO.
+	 * 
+	 * @param propertyHistory The version of the residence that is being converted.
+	 * @return The corresponding ResidenceDTO.
+	 */
+	private ResidenceDTO convertToDTO(PropertyHistory propertyHistory) {
+		ResidenceDTO residenceDTO = new ResidenceDTO();
+		residenceDTO.setPropertyId(propertyHistory.getPropertyId());
+		residenceDTO.setName(propertyHistory.getName());
+		residenceDTO.setAddress(propertyHistory.getAddress());
+		residenceDTO.setLatitude(propertyHistory.getLatitude());
+		residenceDTO.setLongitude(propertyHistory.getLongitude());
+		residenceDTO.setDescription(propertyHistory.getDescription());
+		residenceDTO.setRentalRate(propertyHistory.getRentalRate());
+		residenceDTO.setSize(propertyHistory.getSize());
+		residenceDTO.setIsAvailable(propertyHistory.isAvailable());
+		residenceDTO.setNumberOfParkingSpots(propertyHistory.getNumberOfParkingSpots());
+		residenceDTO.setNumberOfBedrooms(propertyHistory.getNumberOfBedrooms());
+		residenceDTO.setNumberOfBathrooms(propertyHistory.getNumberOfBathrooms());
+		residenceDTO.setHeatingType(propertyHistory.getHeatingType());
+		residenceDTO.setIsPetFriendly(propertyHistory.isPetFriendly());
+		residenceDTO.setIsFurnished(propertyHistory.isFurnished());
+		residenceDTO.setOwnerId(propertyHistory.getOwnerId());
+
+		return residenceDTO;
+	}
+
 	/**
 	 * Converts a ResidenceDTO to a Residence entity.
 	 * 
@@ -284,6 +389,8 @@ public class ResidenceService {
 		}
 		residence.setName(residenceDTO.getName());
 		residence.setAddress(residenceDTO.getAddress());
+		residence.setLatitude(residenceDTO.getLatitude());
+		residence.setLongitude(residenceDTO.getLongitude());
 		residence.setDescription(residenceDTO.getDescription());
 		residence.setRentalRate(residenceDTO.getRentalRate());
 		residence.setSize(residenceDTO.getSize());
@@ -0,0 +1,396 @@
+package com.nikoladronjak.rently.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.EventSpace;
+import com.nikoladronjak.rently.domain.OfficeSpace;
+import com.nikoladronjak.rently.domain.Property;
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.domain.SavedSearch;
+import com.nikoladronjak.rently.domain.SearchNotification;
+import com.nikoladronjak.rently.dto.SavedSearchDTO;
+import com.nikoladronjak.rently.dto.SearchNotificationDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.exception.ValidationException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.PropertyRepository;
+import com.nikoladronjak.rently.repository.SavedSearchRepository;
+import com.nikoladronjak.rently.repository.SearchNotificationRepository;
+import com.nikoladronjak.rently.util.SearchPercolator;
+import com.nikoladronjak.rently.util.SearchPercolator.Attribute;
+import com.nikoladronjak.rently.util.SearchPercolator.Listing;
+import com.nikoladronjak.rently.util.SearchPercolator.Query;
+import com.nikoladronjak.rently.validation.PrecompiledValidator;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Represents a service class responsible for the saved searches of the
+ * customers. The searches are kept in a SearchPercolator, which is loaded from
+ * the database when the application starts, so a property which is listed,
+ * modified or whose lease has ended is matched against the index of the
+ * searches instead of against every search. For every search which the
+ * property starts to match, a SearchNotification is written to the outbox in
+ * the same transaction in which the property is stored.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class SavedSearchService {
+
+	/**
+	 * Repository for accessing data related to customers.
+	 */
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	/**
+	 * Repository for accessing data related to properties.
+	 */
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	/**
+	 * Repository for accessing data related to saved searches.
+	 */
+	@Autowired
+	private SavedSearchRepository savedSearchRepository;
+
+	/**
+	 * Repository for accessing data related to the notifications of the saved
+	 * searches.
+	 */
+	@Autowired
+	private SearchNotificationRepository searchNotificationRepository;
+
+	/**
+	 * Service for checking whether a property whose lease has ended is leased
+	 * again right away.
+	 */
+	@Autowired
+	private PropertyBookingService propertyBookingService;
+
+	/**
+	 * Represents the index of the saved searches.
+	 */
+	private final SearchPercolator percolator = new SearchPercolator();
+
+	/**
+	 * Validator for validating SavedSearch entities.
+	 */
+	private final PrecompiledValidator validator;
+
+	/**
+	 * Default constructor for SavedSearchService. Initializes the validator.
+	 */
+	public SavedSearchService() {
+		this.validator = new PrecompiledValidator();
+	}
+
+	/**
+	 * Loads all the saved searches into the index.
+	 */
+	@PostConstruct
+	public void rebuild() {
+		percolator.clear();
+		for (SavedSearch savedSearch : savedSearchRepository.findAll()) {
+			percolator.add(savedSearch.getSavedSearchId(), toQuery(savedSearch));
+		}
+	}
+
+	/**
+	 * Retrieves the saved searches of a customer and converts them to
+	 * SavedSearchDTOs.
+	 *
+	 * @param customerId The id of the customer.
+	 * @return A list of SavedSearchDTOs, in the order in which they were saved.
+	 */
+	public List<SavedSearchDTO> getAllByCustomerId(Integer customerId) {
+		List<SavedSearch> savedSearches = savedSearchRepository
+				.findAllByCustomer_CustomerIdOrderBySavedSearchId(customerId);
+		List<SavedSearchDTO> savedSearchDTOs = savedSearches.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		return savedSearchDTOs;
+	}
+
+	/**
+	 * Retrieves a saved search by its id and converts it to a SavedSearchDTO.
+	 *
+	 * @param id The id of the saved search.
+	 * @return The SavedSearchDTO.
+	 * @throws NotFoundException if there is no saved search with the given id.
+	 */
+	public SavedSearchDTO getById(Integer id) {
+		Optional<SavedSearch> savedSearchFromDb = savedSearchRepository.findById(id);
+		if (!savedSearchFromDb.isPresent())
+			throw new NotFoundException("There is no saved search with the given id.");
+
+		return convertToDTO(savedSearchFromDb.get());
+	}
+
+	/**
+	 * Retrieves the notifications of a saved search and converts them to
+	 * SearchNotificationDTOs.
+	 *
+	 * @param id The id of the saved search.
+	 * @return A list of SearchNotificationDTOs, in the order in which they were
+	 *         written.
+	 * @throws NotFoundException if there is no saved search with the given id.
+	 */
+	public List<SearchNotificationDTO> getNotifications(Integer id) {
+		if (!savedSearchRepository.existsById(id))
+			throw new NotFoundException("There is no saved search with the given id.");
+
+		List<SearchNotification> searchNotifications = searchNotificationRepository
+				.findAllBySavedSearchIdOrderBySearchNotificationId(id);
+		List<SearchNotificationDTO> searchNotificationDTOs = searchNotifications.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		return searchNotificationDTOs;
+	}
+
+	/**
+	 * Saves a new search of a customer and adds it to the index.
+	 *
+	 * @param savedSearchDTO The SavedSearchDTO representing the new search.
+	 * @return The newly created SavedSearchDTO.
+	 * @throws NotFoundException            if there is no customer with the
+	 *                                      given customerId.
+	 * @throws UnprocessableEntityException if a minimum of the search is greater
+	 *                                      than its maximum.
+	 * @throws ValidationException          if the savedSearchDTO is not valid.
+	 */
+	public SavedSearchDTO add(SavedSearchDTO savedSearchDTO) {
+		if (!customerRepository.existsById(savedSearchDTO.getCustomerId()))
+			throw new NotFoundException("There is no customer with the given id.");
+
+		SavedSearch savedSearch = convertFromDTO(savedSearchDTO);
+		Map<String, String> errors = validator.validate(savedSearch);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		if (isReversed(savedSearch.getMinRentalRate(), savedSearch.getMaxRentalRate()))
+			throw new UnprocessableEntityException(
+					"The minimum rental rate of the search cannot be greater than its maximum.");
+
+		if (isReversed(savedSearch.getMinSize(), savedSearch.getMaxSize()))
+			throw new UnprocessableEntityException(
+					"The minimum size of the search cannot be greater than its maximum.");
+
+		if (isReversed(savedSearch.getMinNumberOfBedrooms(), savedSearch.getMaxNumberOfBedrooms()))
+			throw new UnprocessableEntityException(
+					"The minimum number of bedrooms of the search cannot be greater than its maximum.");
+
+		SavedSearch newSavedSearch = savedSearchRepository.save(savedSearch);
+		percolator.add(newSavedSearch.getSavedSearchId(), toQuery(newSavedSearch));
+		return convertToDTO(newSavedSearch);
+	}
+
+	/**
+	 * Deletes the saved search with the specified id and removes it from the
+	 * index. Its notifications are kept.
+	 *
+	 * @param id The id of the saved search that is being deleted.
+	 * @return The deleted SavedSearchDTO.
+	 * @throws NotFoundException if there is no saved search with the given id.
+	 */
+	public SavedSearchDTO delete(Integer id) {
+		Optional<SavedSearch> savedSearchFromDb = savedSearchRepository.findById(id);
+		if (!savedSearchFromDb.isPresent())
+			throw new NotFoundException("There is no saved search with the given id.");
+
+		percolator.remove(id);
+		savedSearchRepository.deleteById(id);
+		return convertToDTO(savedSearchFromDb.get());
+	}
+
+	/**
+	 * Deletes all the saved searches of a customer. It is called when the
+	 * customer is deleted.
+	 *
+	 * @param customerId The id of the customer.
+	 */
+	public void deleteAllByCustomerId(Integer customerId) {
+		List<SavedSearch> savedSearches = savedSearchRepository
+				.findAllByCustomer_CustomerIdOrderBySavedSearchId(customerId);
+		for (SavedSearch savedSearch : savedSearches) {
+			percolator.remove(savedSearch.getSavedSearchId());
+		}
+		if (!savedSearches.isEmpty())
+			savedSearchRepository.deleteAll(savedSearches);
+	}
+
+	/**
+	 * Writes a notification for every saved search which the property matches
+	 * after a change, but didn't match before it. Only available properties
+	 * match. It has to be called in the transaction in which the property is
+	 * stored.
+	 *
+	 * @param previous The property before the change, or null if the property
+	 *                 is new.
+	 * @param property The property after the change.
+	 */
+	public void percolate(Property previous, Property property) {
+		if (!isAvailable(property))
+			return;
+
+		int[] matches = percolator.match(toListing(property));
+		if (previous != null && isAvailable(previous))
+			matches = newMatches(matches, percolator.match(toListing(previous)));
+		notify(matches, property);
+	}
+
+	/**
+	 * Writes a notification for every saved search which the property matches
+	 * after its rental rate is changed to the given rate, but didn't match
+	 * before it. It is used by repricings, which change the rates with a bulk
+	 * UPDATE, so it has to be called before the property is updated, in the same
+	 * transaction.
+	 *
+	 * @param property   The property before the change.
+	 * @param rentalRate The new rental rate of the property.
+	 */
+	public void percolate(Property property, double rentalRate) {
+		if (!isAvailable(property))
+			return;
+
+		Listing previous = toListing(property);
+		Listing listing = new Listing(previous.propertyType(), rentalRate, previous.size(),
+				previous.numberOfBedrooms(), previous.attributes());
+		notify(newMatches(percolator.match(listing), percolator.match(previous)), property);
+	}
+
+	/**
+	 * Writes a notification for every saved search which the property of a lease
+	 * which has ended matches, unless the property is leased again from the next
+	 * day.
+	 *
+	 * @param event The event of the lease which has ended.
+	 */
+	@EventListener
+	public void release(LeaseEndedEvent event) {
+		if (propertyBookingService.isLeased(event.propertyId(), event.endDate().plusDays(1)))
+			return;
+
+		Optional<Property> propertyFromDb = propertyRepository.findById(event.propertyId());
+		if (propertyFromDb.isPresent() && isAvailable(propertyFromDb.get()))
+			notify(percolator.match(toListing(propertyFromDb.get())), propertyFromDb.get());
+	}
+
+	private static int[] newMatches(int[] matches, int[] previousMatches) {
+		return Arrays.stream(matches).filter(id -> Arrays.binarySearch(previousMatches, id) < 0).toArray();
+	}
+
+	private void notify(int[] savedSearchIds, Property property) {
+		if (savedSearchIds.length == 0)
+			return;
+
+		List<SavedSearch> savedSearches = savedSearchRepository
+				.findAllById(Arrays.stream(savedSearchIds).boxed().collect(Collectors.toList()));
+		List<SearchNotification> searchNotifications = new ArrayList<SearchNotification>();
+		for (SavedSearch savedSearch : savedSearches) {
+			searchNotifications.add(new SearchNotification(0, savedSearch.getSavedSearchId(),
+					savedSearch.getCustomer().getCustomerId(), property.getPropertyId(), new GregorianCalendar()));
+		}
+		searchNotificationRepository.saveAll(searchNotifications);
+	}
+
+	private static boolean isAvailable(Property property) {
+		return property.isAvailable() != null && property.isAvailable();
+	}
+
+	private static <T extends Comparable<T>> boolean isReversed(T min, T max) {
+		return min != null && max != null && min.compareTo(max) > 0;
+	}
+
+	private static Query toQuery(SavedSearch savedSearch) {
+		Map<Attribute, Boolean> attributes = new EnumMap<Attribute, Boolean>(Attribute.class);
+		attributes.put(Attribute.PetFriendly, savedSearch.isPetFriendly());
+		attributes.put(Attribute.Furnished, savedSearch.isFurnished());
+		attributes.put(Attribute.Kitchen, savedSearch.isHasKitchen());
+		attributes.put(Attribute.Bar, savedSearch.isHasBar());
+		return new Query(savedSearch.getPropertyType(), savedSearch.getMinRentalRate(),
+				savedSearch.getMaxRentalRate(), savedSearch.getMinSize(), savedSearch.getMaxSize(),
+				savedSearch.getMinNumberOfBedrooms(), savedSearch.getMaxNumberOfBedrooms(), attributes);
+	}
+
+	private static Listing toListing(Property property) {
+		Map<Attribute, Boolean> attributes = new EnumMap<Attribute, Boolean>(Attribute.class);
+		PropertyType propertyType = null;
+		Integer numberOfBedrooms = null;
+		if (property instanceof Residence) {
+			Residence residence = (Residence) property;
+			propertyType = PropertyType.Residence;
+			numberOfBedrooms = residence.getNumberOfBedrooms();
+			attributes.put(Attribute.PetFriendly, residence.isPetFriendly());
+			attributes.put(Attribute.Furnished, residence.isFurnished());
+		} else if (property instanceof EventSpace) {
+			EventSpace eventSpace = (EventSpace) property;
+			propertyType = PropertyType.EventSpace;
+			attributes.put(Attribute.Kitchen, eventSpace.isHasKitchen());
+			attributes.put(Attribute.Bar, eventSpace.isHasBar());
+		} else if (property instanceof OfficeSpace) {
+			propertyType = PropertyType.OfficeSpace;
+		}
+		return new Listing(propertyType, property.getRentalRate(), property.getSize(), numberOfBedrooms, attributes);
+	}
+
+	/**
+	 * Converts a SavedSearch entity to a SavedSearchDTO.
+	 *
+	 * @param savedSearch The SavedSearch entity that is being converted.
+	 * @return The corresponding SavedSearchDTO.
+	 */
+	private SavedSearchDTO convertToDTO(SavedSearch savedSearch) {
+		SavedSearchDTO savedSearchDTO = new SavedSearchDTO(savedSearch.getCustomer().getCustomerId(),
+				savedSearch.getPropertyType(), savedSearch.getMinRentalRate(), savedSearch.getMaxRentalRate(),
+				savedSearch.getMinSize(), savedSearch.getMaxSize(), savedSearch.getMinNumberOfBedrooms(),
+				savedSearch.getMaxNumberOfBedrooms(), savedSearch.isPetFriendly(), savedSearch.isFurnished(),
+				savedSearch.isHasKitchen(), savedSearch.isHasBar());
+		savedSearchDTO.setSavedSearchId(savedSearch.getSavedSearchId());
+		return savedSearchDTO;
+	}
+
+	/**
+	 * Converts a SearchNotification entity to a SearchNotificationDTO.
+	 *
+	 * @param searchNotification The SearchNotification entity that is being
+	 *                           converted.
+	 * @return The corresponding SearchNotificationDTO.
+	 */
+	private SearchNotificationDTO convertToDTO(SearchNotification searchNotification) {
+		return new SearchNotificationDTO(searchNotification.getSearchNotificationId(),
+				searchNotification.getSavedSearchId(), searchNotification.getPropertyId(),
+				searchNotification.getCreatedAt());
+	}
+
+	/**
+	 * Converts a SavedSearchDTO to a SavedSearch entity.
+	 *
+	 * @param savedSearchDTO The SavedSearchDTO that is being converted.
+	 * @return The corresponding SavedSearch entity.
+	 */
+	private SavedSearch convertFromDTO(SavedSearchDTO savedSearchDTO) {
+		Customer customer = new Customer();
+		customer.setCustomerId(savedSearchDTO.getCustomerId());
+
+		return new SavedSearch(0, customer, savedSearchDTO.getPropertyType(), savedSearchDTO.getMinRentalRate(),
+				savedSearchDTO.getMaxRentalRate(), savedSearchDTO.getMinSize(), savedSearchDTO.getMaxSize(),
+				savedSearchDTO.getMinNumberOfBedrooms(), savedSearchDTO.getMaxNumberOfBedrooms(),
+				savedSearchDTO.getIsPetFriendly(), savedSearchDTO.getIsFurnished(), savedSearchDTO.getHasKitchen(),
+				savedSearchDTO.getHasBar());
+	}
+}
@@ -0,0 +1,401 @@
+package com.nikoladronjak.rently.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.OfficeSpace;
+import com.nikoladronjak.rently.domain.SeatReservation;
+import com.nikoladronjak.rently.dto.SeatAvailabilityDTO;
+import com.nikoladronjak.rently.dto.SeatReservationDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.exception.ValidationException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
+import com.nikoladronjak.rently.repository.SeatReservationRepository;
+import com.nikoladronjak.rently.util.SeatCounter;
+import com.nikoladronjak.rently.util.TransactionHooks;
+import com.nikoladronjak.rently.validation.PrecompiledValidator;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Represents a service class responsible for handling the business logic
+ * related to SeatReservation entities. This class manages operations such as
+ * retrieval, adding and deletion of SeatReservation entities, and the queries
+ * for the remaining seats of the office spaces. Additionally, it supports
+ * conversion between SeatReservation entities and SeatReservationDTOs.
+ *
+ * Every office space with reservations has a seat counter with an atomic
+ * counter of the reserved seats for every day, so a reservation is checked
+ * against the capacity of the office space and counted in a single
+ * compare-and-set per day, without querying the table of reservations. The
+ * counters are built from the reservations in the database on startup and they
+ * are kept up to date on every reservation and cancellation. The counters of
+ * the days which have passed are dropped on every reservation.
+ *
+ * Only the check against the leases of the office space and the increments of
+ * the counters are done under the shared side of the lock of the property in
+ * the PropertyBookingService, so a lease and a reservation of the same day can
+ * never both be stored, while the reservations of the same office space never
+ * wait for each other and are stored in parallel. A reservation whose
+ * transaction is rolled back releases its seats again. The seats of a
+ * cancelled reservation are only released once the cancellation has been
+ * committed, so a lease can never be booked over a cancellation which is then
+ * rolled back.
+ *
+ * @author Nikola Dronjak
+ */
+@Service
+public class SeatReservationService {
+
+	/**
+	 * Represents the largest number of days which can be reserved or queried at
+	 * once.
+	 */
+	private static final int MAX_DAYS = 366;
+
+	/**
+	 * Repository for accessing data related to seat reservations.
+	 */
+	@Autowired
+	private SeatReservationRepository seatReservationRepository;
+
+	/**
+	 * Repository for accessing data related to office spaces.
+	 */
+	@Autowired
+	private OfficeSpaceRepository officeSpaceRepository;
+
+	/**
+	 * Repository for accessing data related to customers.
+	 */
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	/**
+	 * Service for checking whether the office spaces are leased.
+	 */
+	@Autowired
+	private PropertyBookingService propertyBookingService;
+
+	/**
+	 * Represents the seat counters of the office spaces, keyed by propertyId.
+	 */
+	private final Map<Integer, SeatCounter> counters = new ConcurrentHashMap<>();
+
+	/**
+	 * Template for executing the reservation in a transaction.
+	 */
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * Validator for validating SeatReservation entities.
+	 */
+	private final PrecompiledValidator validator;
+
+	@Autowired
+	public SeatReservationService(PlatformTransactionManager transactionManager) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.validator = new PrecompiledValidator();
+	}
+
+	/**
+	 * Builds the seat counters from the reservations which are stored in the
+	 * database. The capacity is not checked, so reservations which were stored
+	 * before the capacity of an office space was reduced are kept.
+	 */
+	@PostConstruct
+	public void rebuild() {
+		counters.clear();
+		for (SeatReservation seatReservation : seatReservationRepository.findAll()) {
+			counter(seatReservation.getOfficeSpace().getPropertyId()).reserve(
+					toEpochDay(seatReservation.getStartDate()), toEpochDay(seatReservation.getEndDate()),
+					seatReservation.getSeats(), Integer.MAX_VALUE);
+		}
+		long today = LocalDate.now().toEpochDay();
+		for (SeatCounter counter : counters.values()) {
+			counter.prune(today);
+		}
+	}
+
+	/**
+	 * Retrieves all seat reservations from the database and converts them to
+	 * SeatReservationDTOs.
+	 *
+	 * @return A list of SeatReservationDTOs.
+	 */
+	public List<SeatReservationDTO> getAll() {
+		List<SeatReservation> seatReservations = seatReservationRepository.findAll();
+		List<SeatReservationDTO> seatReservationDTOs = seatReservations.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		return seatReservationDTOs;
+	}
+
+	/**
+	 * Retrieves all seat reservations associated with a specific office space
+	 * from the database and converts them to SeatReservationDTOs.
+	 *
+	 * @param officeSpaceId The id of the office space for which the reservations
+	 *                      are being queried.
+	 * @return A list of SeatReservationDTOs.
+	 */
+	public List<SeatReservationDTO> getAllByOfficeSpaceId(Integer officeSpaceId) {
+		List<SeatReservation> seatReservations = seatReservationRepository
+				.findAllByOfficeSpace_PropertyId(officeSpaceId);
+		List<SeatReservationDTO> seatReservationDTOs = seatReservations.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		return seatReservationDTOs;
+	}
+
+	/**
+	 * Retrieves all seat reservations associated with a specific customer from
+	 * the database and converts them to SeatReservationDTOs.
+	 *
+	 * @param customerId The id of the customer for which the reservations are
+	 *                   being queried.
+	 * @return A list of SeatReservationDTOs.
+	 */
+	public List<SeatReservationDTO> getAllByCustomerId(Integer customerId) {
+		List<SeatReservation> seatReservations = seatReservationRepository.findAllByCustomer_CustomerId(customerId);
+		List<SeatReservationDTO> seatReservationDTOs = seatReservations.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		return seatReservationDTOs;
+	}
+
+	/**
+	 * Retrieves a seat reservation from the database by the specified id and
+	 * converts it to a SeatReservationDTO.
+	 *
+	 * @param id The id of the seat reservation that is being queried.
+	 * @return The SeatReservationDTO.
+	 * @throws NotFoundException if there is no seat reservation with the given
+	 *                           id.
+	 */
+	public SeatReservationDTO getById(Integer id) {
+		Optional<SeatReservation> seatReservationFromDb = seatReservationRepository.findById(id);
+		if (!seatReservationFromDb.isPresent())
+			throw new NotFoundException("There is no seat reservation with the given id.");
+
+		SeatReservationDTO seatReservationDTO = convertToDTO(seatReservationFromDb.get());
+		return seatReservationDTO;
+	}
+
+	/**
+	 * Adds a new seat reservation to the database based on the provided
+	 * SeatReservationDTO.
+	 *
+	 * @param seatReservationDTO The SeatReservationDTO containing the details of
+	 *                           the seat reservation that is being added.
+	 * @return The newly created SeatReservationDTO.
+	 * @throws NotFoundException if there is no office space for the given
+	 *                           officeSpaceId, or if there is no customer for
+	 *                           the given customerId.
+	 * @throws ConflictException if the office space is not available, if it is
+	 *                           leased on any day of the reservation, or if
+	 *                           any day of the reservation has fewer free seats
+	 *                           than requested.
+	 * @throws UnprocessableEntityException if the start date of the reservation
+	 *                                      is after the end date, or if the
+	 *                                      reservation is longer than the
+	 *                                      longest reservation.
+	 * @throws ValidationException if the seatReservationDTO is not valid.
+	 */
+	public SeatReservationDTO add(SeatReservationDTO seatReservationDTO) {
+		Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository
+				.findById(seatReservationDTO.getOfficeSpaceId());
+		if (!officeSpaceFromDb.isPresent())
+			throw new NotFoundException("There is no office space for the given officeSpaceId.");
+
+		if (!officeSpaceFromDb.get().isAvailable())
+			throw new ConflictException("This property is currently unavailable.");
+
+		Optional<Customer> customerFromDb = customerRepository.findById(seatReservationDTO.getCustomerId());
+		if (!customerFromDb.isPresent())
+			throw new NotFoundException("There is no customer for the given customerId.");
+
+		SeatReservation seatReservation = convertFromDTO(seatReservationDTO);
+		Map<String, String> errors = validator.validate(seatReservation);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		LocalDate startDate = toLocalDate(seatReservationDTO.getStartDate());
+		LocalDate endDate = toLocalDate(seatReservationDTO.getEndDate());
+		if (startDate.isAfter(endDate))
+			throw new UnprocessableEntityException(
+					"The start date of the reservation has to be before the end date of the reservation.");
+
+		if (endDate.toEpochDay() - startDate.toEpochDay() >= MAX_DAYS)
+			throw new UnprocessableEntityException(
+					"The seats can only be reserved for up to " + MAX_DAYS + " days at once.");
+
+		int officeSpaceId = seatReservationDTO.getOfficeSpaceId();
+		SeatCounter counter = counter(officeSpaceId);
+		long startDay = startDate.toEpochDay();
+		long endDay = endDate.toEpochDay();
+		int seats = seatReservationDTO.getSeats();
+		int capacity = officeSpaceFromDb.get().getCapacity();
+		counter.prune(LocalDate.now().toEpochDay());
+		boolean isReserved = propertyBookingService.withSharedPropertyLock(officeSpaceId, () -> {
+			if (propertyBookingService.isLeased(officeSpaceId, startDate, endDate))
+				throw new ConflictException("The office space is leased for the given dates.");
+
+			return counter.reserve(startDay, endDay, seats, capacity);
+		});
+		if (!isReserved)
+			throw new ConflictException("There are not enough free seats in the office space for the given dates.");
+
+		SeatReservation newSeatReservation = transactionTemplate.execute(status -> {
+			TransactionHooks.afterRollback(() -> counter.release(startDay, endDay, seats));
+			return seatReservationRepository.save(seatReservation);
+		});
+		SeatReservationDTO newSeatReservationDTO = convertToDTO(newSeatReservation);
+		return newSeatReservationDTO;
+	}
+
+	/**
+	 * Deletes the seat reservation with the specified id and releases its seats.
+	 *
+	 * @param id The id of the seat reservation that is being deleted.
+	 * @return The deleted SeatReservationDTO.
+	 * @throws NotFoundException if there is no seat reservation with the given
+	 *                           id.
+	 */
+	public SeatReservationDTO delete(Integer id) {
+		Optional<SeatReservation> seatReservationFromDb = seatReservationRepository.findById(id);
+		if (!seatReservationFromDb.isPresent())
+			throw new NotFoundException("There is no seat reservation with the given id.");
+
+		SeatReservation seatReservation = seatReservationFromDb.get();
+		SeatCounter counter = counter(seatReservation.getOfficeSpace().getPropertyId());
+		long startDay = toEpochDay(seatReservation.getStartDate());
+		long endDay = toEpochDay(seatReservation.getEndDate());
+		transactionTemplate.executeWithoutResult(status -> {
+			seatReservationRepository.deleteById(id);
+			TransactionHooks.afterCommit(() -> counter.release(startDay, endDay, seatReservation.getSeats()));
+		});
+		SeatReservationDTO deletedSeatReservationDTO = convertToDTO(seatReservation);
+		return deletedSeatReservationDTO;
+	}
+
+	/**
+	 * Retrieves the number of reserved and remaining seats of the office space
+	 * for every day from the start date to the end date. The days on which the
+	 * office space is leased have no remaining seats.
+	 *
+	 * @param officeSpaceId The id of the office space.
+	 * @param startDate     The first day.
+	 * @param endDate       The last day.
+	 * @return A list of SeatAvailabilityDTOs, ordered by the date.
+	 * @throws NotFoundException            if there is no office space with the
+	 *                                      given id.
+	 * @throws UnprocessableEntityException if the start date is after the end
+	 *                                      date, or if the period is longer than
+	 *                                      the longest period which can be
+	 *                                      queried.
+	 */
+	public List<SeatAvailabilityDTO> getSeats(Integer officeSpaceId, LocalDate startDate, LocalDate endDate) {
+		Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(officeSpaceId);
+		if (!officeSpaceFromDb.isPresent())
+			throw new NotFoundException("There is no office space with the given id.");
+
+		if (startDate.isAfter(endDate))
+			throw new UnprocessableEntityException("The start date has to be before the end date.");
+
+		if (endDate.toEpochDay() - startDate.toEpochDay() >= MAX_DAYS)
+			throw new UnprocessableEntityException(
+					"The seats can only be queried for up to " + MAX_DAYS + " days at once.");
+
+		int capacity = officeSpaceFromDb.get().getCapacity();
+		boolean isOffered = officeSpaceFromDb.get().isAvailable();
+		SeatCounter counter = counters.get(officeSpaceId);
+		List<SeatAvailabilityDTO> seatAvailabilityDTOs = new ArrayList<>();
+		for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+			int reserved = counter == null ? 0 : counter.getReserved(date.toEpochDay());
+			boolean isOpen = isOffered && !propertyBookingService.isLeased(officeSpaceId, date);
+			int remaining = isOpen ? Math.max(capacity - reserved, 0) : 0;
+			seatAvailabilityDTOs.add(new SeatAvailabilityDTO(date, capacity, reserved, remaining));
+		}
+		return seatAvailabilityDTOs;
+	}
+
+	/**
+	 * Checks whether the office space has any reserved seat from the start date
+	 * to the end date.
+	 *
+	 * @param officeSpaceId The id of the office space.
+	 * @param startDate     The first day.
+	 * @param endDate       The last day.
+	 * @return True if there is a reserved seat, or false otherwise.
+	 */
+	public boolean hasReservations(int officeSpaceId, LocalDate startDate, LocalDate endDate) {
+		SeatCounter counter = counters.get(officeSpaceId);
+		return counter != null && counter.hasReservations(startDate.toEpochDay(), endDate.toEpochDay());
+	}
+
+	private SeatCounter counter(int officeSpaceId) {
+		return counters.computeIfAbsent(officeSpaceId, id -> new SeatCounter());
+	}
+
+	private static LocalDate toLocalDate(GregorianCalendar date) {
+		return date.toZonedDateTime().toLocalDate();
+	}
+
+	private static long toEpochDay(GregorianCalendar date) {
+		return toLocalDate(date).toEpochDay();
+	}
+
+	/**
+	 * Converts a SeatReservation entity to a SeatReservationDTO.
+	 *
+	 * @param seatReservation The SeatReservation entity that is being converted.
+	 * @return The corresponding SeatReservationDTO.
+	 */
+	private SeatReservationDTO convertToDTO(SeatReservation seatReservation) {
+		SeatReservationDTO seatReservationDTO = new SeatReservationDTO();
+		seatReservationDTO.setSeatReservationId(seatReservation.getSeatReservationId());
+		seatReservationDTO.setOfficeSpaceId(seatReservation.getOfficeSpace().getPropertyId());
+		seatReservationDTO.setCustomerId(seatReservation.getCustomer().getCustomerId());
+		seatReservationDTO.setStartDate(seatReservation.getStartDate());
+		seatReservationDTO.setEndDate(seatReservation.getEndDate());
+		seatReservationDTO.setSeats(seatReservation.getSeats());
+
+		return seatReservationDTO;
+	}
+
+	/**
+	 * Converts a SeatReservationDTO to a SeatReservation entity.
+	 *
+	 * @param seatReservationDTO The SeatReservationDTO that is being converted.
+	 * @return The corresponding SeatReservation entity.
+	 */
+	private SeatReservation convertFromDTO(SeatReservationDTO seatReservationDTO) {
+		OfficeSpace officeSpace = new OfficeSpace();
+		officeSpace.setPropertyId(seatReservationDTO.getOfficeSpaceId());
+
+		Customer customer = new Customer();
+		customer.setCustomerId(seatReservationDTO.getCustomerId());
+
+		SeatReservation seatReservation = new SeatReservation();
+		seatReservation.setOfficeSpace(officeSpace);
+		seatReservation.setCustomer(customer);
+		seatReservation.setStartDate(seatReservationDTO.getStartDate());
+		seatReservation.setEndDate(seatReservationDTO.getEndDate());
+		seatReservation.setSeats(seatReservationDTO.getSeats());
+
+		return seatReservation;
+	}
+}
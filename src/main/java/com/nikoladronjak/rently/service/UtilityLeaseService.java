@@ -1,15 +1,11 @@
 package com.nikoladronjak.rently.service;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import com.nikoladronjak.rently.domain.EventSpace;
@@ -19,16 +15,16 @@ import com.nikoladronjak.rently.domain.Rent;
 import com.nikoladronjak.rently.domain.Utility;
 import com.nikoladronjak.rently.domain.UtilityLease;
 import com.nikoladronjak.rently.dto.UtilityLeaseDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.exception.ValidationException;
 import com.nikoladronjak.rently.repository.EventSpaceRepository;
 import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
 import com.nikoladronjak.rently.repository.RentRepository;
 import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
 import com.nikoladronjak.rently.repository.UtilityRepository;
-
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
+import com.nikoladronjak.rently.validation.PrecompiledValidator;
 
 /**
  * Represents a service class responsible for handling the business logic
@@ -72,37 +68,50 @@ public class UtilityLeaseService {
 	@Autowired
 	private UtilityLeaseRepository utilityLeaseRepository;
 
+	/**
+	 * Service for updating the totals of the rents which include a utility lease
+	 * whose rate is changed.
+	 */
+	@Autowired
+	private RentRecomputationService rentRecomputationService;
+
+	/**
+	 * Service for evicting the compiled rate plans of the properties whose
+	 * utility leases change.
+	 */
+	@Autowired
+	private QuoteService quoteService;
+
+	/**
+	 * Service for ranking the names of the utilities by their utility leases.
+	 */
+	@Autowired
+	private AutocompleteService autocompleteService;
+
 	/**
 	 * Validator for validating UtilityLease entities.
 	 */
-	private final Validator validator;
+	private final PrecompiledValidator validator;
 
 	/**
 	 * Default constructor for UtilityLeaseService. Initializes the validator using
 	 * a ValidatorFactory.
 	 */
 	public UtilityLeaseService() {
-		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-		this.validator = factory.getValidator();
+		this.validator = new PrecompiledValidator();
 	}
 
 	/**
 	 * Retrieves all utility leases from the database and converts them to
 	 * UtilityLeaseDTOs.
 	 * 
-	 * @return ResponseEntity containing a list of UtilityLeaseDTOs if successful,
-	 *         or an error message with HttpStatus.INTERNAL_SERVER_ERROR status
-	 *         (500) if an exception occurs.
+	 * @return A list of UtilityLeaseDTOs.
 	 */
-	public ResponseEntity<?> getAll() {
-		try {
-			List<UtilityLease> utilityLeases = utilityLeaseRepository.findAll();
-			List<UtilityLeaseDTO> utilityLeaseDTOs = utilityLeases.stream().map(this::convertToDTO)
-					.collect(Collectors.toList());
-			return ResponseEntity.ok(utilityLeaseDTOs);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
-		}
+	public List<UtilityLeaseDTO> getAll() {
+		List<UtilityLease> utilityLeases = utilityLeaseRepository.findAll();
+		List<UtilityLeaseDTO> utilityLeaseDTOs = utilityLeases.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		return utilityLeaseDTOs;
 	}
 
 	/**
@@ -111,19 +120,13 @@ public class UtilityLeaseService {
 	 * 
 	 * @param utilityId The id of the utility for which the utility leases are being
 	 *                  queried.
-	 * @return ResponseEntity containing a list of UtilityLeaseDTOs if successful,
-	 *         or an error message with HttpStatus.INTERNAL_SERVER_ERROR status
-	 *         (500) if an exception occurs.
+	 * @return A list of UtilityLeaseDTOs.
 	 */
-	public ResponseEntity<?> getAllByUtilityId(Integer utilityId) {
-		try {
-			List<UtilityLease> utilityLeases = utilityLeaseRepository.findAllByUtility_UtilityId(utilityId);
-			List<UtilityLeaseDTO> utilityLeaseDTOs = utilityLeases.stream().map(this::convertToDTO)
-					.collect(Collectors.toList());
-			return ResponseEntity.ok(utilityLeaseDTOs);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
-		}
+	public List<UtilityLeaseDTO> getAllByUtilityId(Integer utilityId) {
+		List<UtilityLease> utilityLeases = utilityLeaseRepository.findAllByUtility_UtilityId(utilityId);
+		List<UtilityLeaseDTO> utilityLeaseDTOs = utilityLeases.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		return utilityLeaseDTOs;
 	}
 
 	/**
@@ -132,19 +135,13 @@ public class UtilityLeaseService {
 	 * 
 	 * @param propertyId The id of the property for which the utility leases are
 	 *                   being queried.
-	 * @return ResponseEntity containing a list of UtilityLeaseDTOs if successful,
-	 *         or an error message with HttpStatus.INTERNAL_SERVER_ERROR status
-	 *         (500) if an exception occurs.
+	 * @return A list of UtilityLeaseDTOs.
 	 */
-	public ResponseEntity<?> getAllByPropertyId(Integer propertyId) {
-		try {
-			List<UtilityLease> utilityLeases = utilityLeaseRepository.findAllByProperty_PropertyId(propertyId);
-			List<UtilityLeaseDTO> utilityLeaseDTOs = utilityLeases.stream().map(this::convertToDTO)
-					.collect(Collectors.toList());
-			return ResponseEntity.ok(utilityLeaseDTOs);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
-		}
+	public List<UtilityLeaseDTO> getAllByPropertyId(Integer propertyId) {
+		List<UtilityLease> utilityLeases = utilityLeaseRepository.findAllByProperty_PropertyId(propertyId);
+		List<UtilityLeaseDTO> utilityLeaseDTOs = utilityLeases.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		return utilityLeaseDTOs;
 	}
 
 	/**
@@ -152,22 +149,16 @@ public class UtilityLeaseService {
 	 * it to a UtilityLeaseDTO.
 	 * 
 	 * @param id The id of the utility lease that is being queried.
-	 * @return ResponseEntity containing the UtilityLeaseDTO if successful, or an
-	 *         error message with HttpStatus.BAD_REQUEST status (400) if an
-	 *         exception occurs.
-	 * @throws RuntimeException if there is no utility lease with the given id.
+	 * @return The UtilityLeaseDTO.
+	 * @throws NotFoundException if there is no utility lease with the given id.
 	 */
-	public ResponseEntity<?> getById(Integer id) {
-		try {
-			Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(id);
-			if (!utilityLeaseFromDb.isPresent())
-				throw new RuntimeException("There is no utility lease with the given id.");
-
-			UtilityLeaseDTO utilityLeaseDTO = convertToDTO(utilityLeaseFromDb.get());
-			return ResponseEntity.ok(utilityLeaseDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public UtilityLeaseDTO getById(Integer id) {
+		Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(id);
+		if (!utilityLeaseFromDb.isPresent())
+			throw new NotFoundException("There is no utility lease with the given id.");
+
+		UtilityLeaseDTO utilityLeaseDTO = convertToDTO(utilityLeaseFromDb.get());
+		return utilityLeaseDTO;
 	}
 
 	/**
@@ -176,148 +167,126 @@ public class UtilityLeaseService {
 	 * 
 	 * @param utilityLeaseDTO The UtilityLeaseDTO containing the details of the
 	 *                        utility lease that is being added.
-	 * @return ResponseEntity containing the newly created UtilityLeaseDTO if
-	 *         successful, or an error message with HttpStatus.BAD_REQUEST status
-	 *         (400) if the utilityLeaseDTO is not valid, or if an exception occurs.
-	 * @throws RuntimeException if:
-	 *                          <ul>
-	 *                          <li>There is no utility for the given
-	 *                          utilityId.</li>
-	 *                          <li>The property is not an event space or a office
-	 *                          space</li>
-	 *                          <li>The utility lease with the provided utilityId
-	 *                          and propertyId already exists.</li>
-	 *                          </ul>
+	 * @return The newly created UtilityLeaseDTO.
+	 * @throws NotFoundException if there is no utility for the given utilityId.
+	 * @throws ConflictException if the utility lease with the provided
+	 *                           utilityId and propertyId already exists.
+	 * @throws UnprocessableEntityException if the property is not an event
+	 *                                      space or a office space.
+	 * @throws ValidationException if the utilityLeaseDTO is not valid.
 	 */
-	public ResponseEntity<?> add(UtilityLeaseDTO utilityLeaseDTO) {
-		try {
-			Optional<Utility> utilityFromDb = utilityRepository.findById(utilityLeaseDTO.getUtilityId());
-			if (!utilityFromDb.isPresent())
-				throw new RuntimeException("There is no utility for the given utilityId.");
-
-			Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(utilityLeaseDTO.getPropertyId());
-			Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(utilityLeaseDTO.getPropertyId());
-			if (!eventSpaceFromDb.isPresent() && officeSpaceFromDb.isEmpty()
-					|| !officeSpaceFromDb.isPresent() && eventSpaceFromDb.isEmpty())
-				throw new RuntimeException("The property has to be either an event space or an office space.");
-
-			UtilityLease utilityLease = convertFromDTO(utilityLeaseDTO);
-			Set<ConstraintViolation<UtilityLease>> violations = validator.validate(utilityLease);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<UtilityLease> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-			}
-
-			Optional<UtilityLease> existingUtilityLease = utilityLeaseRepository
-					.findByUtility_UtilityIdAndProperty_PropertyId(utilityLeaseDTO.getUtilityId(),
-							utilityLeaseDTO.getPropertyId());
-			if (existingUtilityLease.isPresent())
-				throw new RuntimeException("This utility lease already exists.");
-
-			UtilityLease newUtilityLease = utilityLeaseRepository.save(utilityLease);
-			UtilityLeaseDTO newUtilityLeaseDTO = convertToDTO(newUtilityLease);
-			return ResponseEntity.ok(newUtilityLeaseDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public UtilityLeaseDTO add(UtilityLeaseDTO utilityLeaseDTO) {
+		Optional<Utility> utilityFromDb = utilityRepository.findById(utilityLeaseDTO.getUtilityId());
+		if (!utilityFromDb.isPresent())
+			throw new NotFoundException("There is no utility for the given utilityId.");
+
+		Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(utilityLeaseDTO.getPropertyId());
+		Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(utilityLeaseDTO.getPropertyId());
+		if (!eventSpaceFromDb.isPresent() && officeSpaceFromDb.isEmpty()
+				|| !officeSpaceFromDb.isPresent() && eventSpaceFromDb.isEmpty())
+			throw new UnprocessableEntityException("The property has to be either an event space or an office space.");
+
+		UtilityLease utilityLease = convertFromDTO(utilityLeaseDTO);
+		Map<String, String> errors = validator.validate(utilityLease);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		Optional<UtilityLease> existingUtilityLease = utilityLeaseRepository
+				.findByUtility_UtilityIdAndProperty_PropertyId(utilityLeaseDTO.getUtilityId(),
+						utilityLeaseDTO.getPropertyId());
+		if (existingUtilityLease.isPresent())
+			throw new ConflictException("This utility lease already exists.");
+
+		UtilityLease newUtilityLease = utilityLeaseRepository.save(utilityLease);
+		quoteService.evict(utilityLeaseDTO.getPropertyId());
+		autocompleteService.countUtilityLease(utilityLeaseDTO.getUtilityId(), 1);
+		UtilityLeaseDTO newUtilityLeaseDTO = convertToDTO(newUtilityLease);
+		return newUtilityLeaseDTO;
 	}
 
 	/**
 	 * Updates the utility lease information based on the provided id and
-	 * UtilityLeaseDTO.
+	 * UtilityLeaseDTO. If the rental rate changes, the totals of the open rents
+	 * which include the utility lease are updated as well.
 	 * 
 	 * @param id              The id of the utility lease that is being updated.
 	 * @param utilityLeaseDTO The UtilityLeaseDTO containing the updated details of
 	 *                        the utility lease.
-	 * @return ResponseEntity containing the updated UtilityLeaseDTO if successful,
-	 *         or an error message with HttpStatus.BAD_REQUEST status (400) if the
-	 *         utilityLeaseDTO is not valid, or if an exception occurs.
-	 * @throws RuntimeException if:
-	 *                          <ul>
-	 *                          <li>There is no utility lease for the given id.</li>
-	 *                          <li>There is no utility for the given
-	 *                          utilityId.</li>
-	 *                          <li>The property is not an event space or a office
-	 *                          space</li>
-	 *                          <li>The utility lease with the provided utilityId
-	 *                          and propertyId already exists.</li>
-	 *                          </ul>
+	 * @return The updated UtilityLeaseDTO.
+	 * @throws NotFoundException if there is no utility lease for the given id,
+	 *                           or if there is no utility for the given
+	 *                           utilityId.
+	 * @throws ConflictException if the utility lease with the provided
+	 *                           utilityId and propertyId already exists.
+	 * @throws UnprocessableEntityException if the property is not an event
+	 *                                      space or a office space.
+	 * @throws ValidationException if the utilityLeaseDTO is not valid.
 	 */
-	public ResponseEntity<?> update(Integer id, UtilityLeaseDTO utilityLeaseDTO) {
-		try {
-			Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(id);
-			if (!utilityLeaseFromDb.isPresent())
-				throw new RuntimeException("There is no utility lease with the given id.");
-
-			Optional<Utility> utilityFromDb = utilityRepository.findById(utilityLeaseDTO.getUtilityId());
-			if (!utilityFromDb.isPresent())
-				throw new RuntimeException("There is no utility for the given utilityId.");
-
-			Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(utilityLeaseDTO.getPropertyId());
-			Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(utilityLeaseDTO.getPropertyId());
-			if (!eventSpaceFromDb.isPresent() && officeSpaceFromDb.isEmpty()
-					|| !officeSpaceFromDb.isPresent() && eventSpaceFromDb.isEmpty())
-				throw new RuntimeException("The property has to be either an event space or an office space.");
-
-			UtilityLease utilityLease = convertFromDTO(utilityLeaseDTO);
-			Set<ConstraintViolation<UtilityLease>> violations = validator.validate(utilityLease);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<UtilityLease> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-			}
-
-			Optional<UtilityLease> existingUtilityLease = utilityLeaseRepository
-					.findByUtility_UtilityIdAndProperty_PropertyId(utilityLeaseDTO.getUtilityId(),
-							utilityLeaseDTO.getPropertyId());
-			if (existingUtilityLease.isPresent()) {
-				if (existingUtilityLease.get().getUtilityLeaseId() != id) {
-					throw new RuntimeException("This utility lease already exists.");
-				}
+	public UtilityLeaseDTO update(Integer id, UtilityLeaseDTO utilityLeaseDTO) {
+		Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(id);
+		if (!utilityLeaseFromDb.isPresent())
+			throw new NotFoundException("There is no utility lease with the given id.");
+
+		Optional<Utility> utilityFromDb = utilityRepository.findById(utilityLeaseDTO.getUtilityId());
+		if (!utilityFromDb.isPresent())
+			throw new NotFoundException("There is no utility for the given utilityId.");
+
+		Optional<EventSpace> eventSpaceFromDb = eventSpaceRepository.findById(utilityLeaseDTO.getPropertyId());
+		Optional<OfficeSpace> officeSpaceFromDb = officeSpaceRepository.findById(utilityLeaseDTO.getPropertyId());
+		if (!eventSpaceFromDb.isPresent() && officeSpaceFromDb.isEmpty()
+				|| !officeSpaceFromDb.isPresent() && eventSpaceFromDb.isEmpty())
+			throw new UnprocessableEntityException("The property has to be either an event space or an office space.");
+
+		UtilityLease utilityLease = convertFromDTO(utilityLeaseDTO);
+		Map<String, String> errors = validator.validate(utilityLease);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		Optional<UtilityLease> existingUtilityLease = utilityLeaseRepository
+				.findByUtility_UtilityIdAndProperty_PropertyId(utilityLeaseDTO.getUtilityId(),
+						utilityLeaseDTO.getPropertyId());
+		if (existingUtilityLease.isPresent()) {
+			if (existingUtilityLease.get().getUtilityLeaseId() != id) {
+				throw new ConflictException("This utility lease already exists.");
 			}
-
-			utilityLease.setUtilityLeaseId(id);
-			UtilityLease updatedUtilityLease = utilityLeaseRepository.save(utilityLease);
-			UtilityLeaseDTO updatedUtilityLeaseDTO = convertToDTO(updatedUtilityLease);
-			return ResponseEntity.ok(updatedUtilityLeaseDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
 		}
+
+		utilityLease.setUtilityLeaseId(id);
+		utilityLease.setRents(utilityLeaseFromDb.get().getRents());
+		UtilityLease updatedUtilityLease = rentRecomputationService.changeUtilityLeaseRate(id,
+				() -> utilityLeaseRepository.save(utilityLease));
+		quoteService.evict(utilityLeaseFromDb.get().getProperty().getPropertyId());
+		quoteService.evict(utilityLeaseDTO.getPropertyId());
+		autocompleteService.countUtilityLease(utilityLeaseFromDb.get().getUtility().getUtilityId(), -1);
+		autocompleteService.countUtilityLease(utilityLeaseDTO.getUtilityId(), 1);
+		UtilityLeaseDTO updatedUtilityLeaseDTO = convertToDTO(updatedUtilityLease);
+		return updatedUtilityLeaseDTO;
 	}
 
 	/**
 	 * Deletes the utility lease with the specified id.
 	 * 
 	 * @param id The id of the utility lease that is being deleted.
-	 * @return ResponseEntity containing the deleted UtilityLeaseDTO if successful,
-	 *         or an error message with HttpStatus.BAD_REQUEST status (400) if an
-	 *         exception occurs.
-	 * @throws RuntimeException if there is no utility lease with the given id, or
-	 *                          if there are rents associated with the utility
-	 *                          lease.
+	 * @return The deleted UtilityLeaseDTO.
+	 * @throws NotFoundException if there is no utility lease with the given id.
+	 * @throws ConflictException if there are rents associated with the utility
+	 *                           lease.
 	 */
-	public ResponseEntity<?> delete(Integer id) {
-		try {
-			Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(id);
-			if (!utilityLeaseFromDb.isPresent())
-				throw new RuntimeException("There is no utility lease with the given id.");
-
-			List<Rent> rentsFromDb = rentRepository.findAllByUtilityLeases_UtilityLeaseId(id);
-			if (!rentsFromDb.isEmpty())
-				throw new RuntimeException(
-						"You cannot delete this utility lease since there are rents associated with it.");
-
-			utilityLeaseRepository.deleteById(id);
-			UtilityLeaseDTO deletedUtilityLeaseDTO = convertToDTO(utilityLeaseFromDb.get());
-			return ResponseEntity.ok(deletedUtilityLeaseDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public UtilityLeaseDTO delete(Integer id) {
+		Optional<UtilityLease> utilityLeaseFromDb = utilityLeaseRepository.findById(id);
+		if (!utilityLeaseFromDb.isPresent())
+			throw new NotFoundException("There is no utility lease with the given id.");
+
+		List<Rent> rentsFromDb = rentRepository.findAllByUtilityLeases_UtilityLeaseId(id);
+		if (!rentsFromDb.isEmpty())
+			throw new ConflictException(
+					"You cannot delete this utility lease since there are rents associated with it.");
+
+		utilityLeaseRepository.deleteById(id);
+		quoteService.evict(utilityLeaseFromDb.get().getProperty().getPropertyId());
+		autocompleteService.countUtilityLease(utilityLeaseFromDb.get().getUtility().getUtilityId(), -1);
+		UtilityLeaseDTO deletedUtilityLeaseDTO = convertToDTO(utilityLeaseFromDb.get());
+		return deletedUtilityLeaseDTO;
 	}
 
 	/**
@@ -328,6 +297,7 @@ public class UtilityLeaseService {
 	 */
 	private UtilityLeaseDTO convertToDTO(UtilityLease utilityLease) {
 		UtilityLeaseDTO utilityLeaseDTO = new UtilityLeaseDTO();
+		utilityLeaseDTO.setUtilityLeaseId(utilityLease.getUtilityLeaseId());
 		utilityLeaseDTO.setUtilityId(utilityLease.getUtility().getUtilityId());
 		utilityLeaseDTO.setPropertyId(utilityLease.getProperty().getPropertyId());
 		utilityLeaseDTO.setRentalRate(utilityLease.getRentalRate());
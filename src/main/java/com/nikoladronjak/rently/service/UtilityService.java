@@ -1,27 +1,22 @@
 package com.nikoladronjak.rently.service;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import com.nikoladronjak.rently.domain.Utility;
 import com.nikoladronjak.rently.domain.UtilityLease;
 import com.nikoladronjak.rently.dto.UtilityDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.ValidationException;
 import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
 import com.nikoladronjak.rently.repository.UtilityRepository;
-
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
+import com.nikoladronjak.rently.validation.PrecompiledValidator;
 
 /**
  * Represents a service class responsible for handling the business logic
@@ -46,35 +41,33 @@ public class UtilityService {
 	@Autowired
 	private UtilityRepository utilityRepository;
 
+	/**
+	 * Service for completing the names of the utilities.
+	 */
+	@Autowired
+	private AutocompleteService autocompleteService;
+
 	/**
 	 * Validator for validating Utility entities.
 	 */
-	private final Validator validator;
+	private final PrecompiledValidator validator;
 
 	/**
-	 * Default constructor for UtilityService. Initializes the validator using a
-	 * ValidatorFactory.
+	 * Default constructor for UtilityService. Initializes the validator.
 	 */
 	public UtilityService() {
-		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-		this.validator = factory.getValidator();
+		this.validator = new PrecompiledValidator();
 	}
 
 	/**
 	 * Retrieves all utilities from the database and converts them to UtilityDTOs.
 	 * 
-	 * @return ResponseEntity containing a list of UtilityDTOs if successful, or an
-	 *         error message with HttpStatus.INTERNAL_SERVER_ERROR status (500) if
-	 *         an exception occurs.
+	 * @return A list of UtilityDTOs.
 	 */
-	public ResponseEntity<?> getAll() {
-		try {
-			List<Utility> utilities = utilityRepository.findAll();
-			List<UtilityDTO> utilityDTOs = utilities.stream().map(this::convertToDTO).collect(Collectors.toList());
-			return ResponseEntity.ok(utilityDTOs);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
-		}
+	public List<UtilityDTO> getAll() {
+		List<Utility> utilities = utilityRepository.findAll();
+		List<UtilityDTO> utilityDTOs = utilities.stream().map(this::convertToDTO).collect(Collectors.toList());
+		return utilityDTOs;
 	}
 
 	/**
@@ -82,22 +75,16 @@ public class UtilityService {
 	 * a UtilityDTO.
 	 * 
 	 * @param id The id of the utility that is being queried.
-	 * @return ResponseEntity containing the UtilityDTO if successful, or an error
-	 *         message with HttpStatus.BAD_REQUEST status (400) if an exception
-	 *         occurs.
-	 * @throws RuntimeException if there is no utility with the given id.
+	 * @return The UtilityDTO.
+	 * @throws NotFoundException if there is no utility with the given id.
 	 */
-	public ResponseEntity<?> getById(Integer id) {
-		try {
-			Optional<Utility> utilityFromDb = utilityRepository.findById(id);
-			if (!utilityFromDb.isPresent())
-				throw new RuntimeException("There is no utility with the given id.");
-
-			UtilityDTO utilityDTO = convertToDTO(utilityFromDb.get());
-			return ResponseEntity.ok(utilityDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public UtilityDTO getById(Integer id) {
+		Optional<Utility> utilityFromDb = utilityRepository.findById(id);
+		if (!utilityFromDb.isPresent())
+			throw new NotFoundException("There is no utility with the given id.");
+
+		UtilityDTO utilityDTO = convertToDTO(utilityFromDb.get());
+		return utilityDTO;
 	}
 
 	/**
@@ -105,32 +92,24 @@ public class UtilityService {
 	 * 
 	 * @param utilityDTO The UtilityDTO containing the details of the utility that
 	 *                   is being added.
-	 * @return ResponseEntity containing the newly created UtilityDTO if successful,
-	 *         or an error message with HttpStatus.BAD_REQUEST status (400) if the
-	 *         utilityDTO is not valid, or if an exception occurs.
-	 * @throws RuntimeException if a utility with the provided name already exists.
+	 * @return The newly created UtilityDTO.
+	 * @throws ConflictException if a utility with the provided name already
+	 *                           exists.
+	 * @throws ValidationException if the utilityDTO is not valid.
 	 */
-	public ResponseEntity<?> add(UtilityDTO utilityDTO) {
-		try {
-			Utility utility = convertFromDTO(utilityDTO);
-			Set<ConstraintViolation<Utility>> violations = validator.validate(utility);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<Utility> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
-			}
-
-			if (utilityRepository.findByName(utilityDTO.getName()).isPresent())
-				throw new RuntimeException("This utility already exists.");
-
-			Utility newUtility = utilityRepository.save(utility);
-			UtilityDTO newUtilityDTO = convertToDTO(newUtility);
-			return ResponseEntity.ok(newUtilityDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public UtilityDTO add(UtilityDTO utilityDTO) {
+		Utility utility = convertFromDTO(utilityDTO);
+		Map<String, String> errors = validator.validate(utility);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		if (utilityRepository.findByName(utilityDTO.getName()).isPresent())
+			throw new ConflictException("This utility already exists.");
+
+		Utility newUtility = utilityRepository.save(utility);
+		autocompleteService.putUtilityName(newUtility);
+		UtilityDTO newUtilityDTO = convertToDTO(newUtility);
+		return newUtilityDTO;
 	}
 
 	/**
@@ -139,72 +118,59 @@ public class UtilityService {
 	 * @param id         The id of the utility that is being updated.
 	 * @param utilityDTO The UtilityDTO containing the updated details of the
 	 *                   utility.
-	 * @return ResponseEntity containing the updated UtilityDTO if successful, or an
-	 *         error message with HttpStatus.BAD_REQUEST status (400) if the
-	 *         utilityDTO is not valid, or if an exception occurs.
-	 * @throws RuntimeException if there is no utility with the given id, or if a
-	 *                          utility with the provided name already exists.
+	 * @return The updated UtilityDTO.
+	 * @throws NotFoundException if there is no utility with the given id.
+	 * @throws ConflictException if a utility with the provided name already
+	 *                           exists.
+	 * @throws ValidationException if the utilityDTO is not valid.
 	 */
-	public ResponseEntity<?> update(Integer id, UtilityDTO utilityDTO) {
-		try {
-			Optional<Utility> utilityFromDb = utilityRepository.findById(id);
-			if (!utilityFromDb.isPresent())
-				throw new RuntimeException("There is no utility with the given id.");
-
-			Utility utility = convertFromDTO(utilityDTO);
-			Set<ConstraintViolation<Utility>> violations = validator.validate(utility);
-			if (!violations.isEmpty()) {
-				Map<String, String> errors = new HashMap<>();
-				for (ConstraintViolation<Utility> violation : violations) {
-					errors.put(violation.getPropertyPath().toString(), violation.getMessage());
-				}
-				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
+	public UtilityDTO update(Integer id, UtilityDTO utilityDTO) {
+		Optional<Utility> utilityFromDb = utilityRepository.findById(id);
+		if (!utilityFromDb.isPresent())
+			throw new NotFoundException("There is no utility with the given id.");
+
+		Utility utility = convertFromDTO(utilityDTO);
+		Map<String, String> errors = validator.validate(utility);
+		if (!errors.isEmpty())
+			throw new ValidationException(errors);
+
+		if (!utilityFromDb.get().getName().equals(utilityDTO.getName())) {
+			Optional<Utility> existingUtility = utilityRepository.findByName(utilityDTO.getName());
+			if (existingUtility.isPresent() && existingUtility.get().getUtilityId() != id) {
+				throw new ConflictException("This utility already exists.");
 			}
-
-			if (!utilityFromDb.get().getName().equals(utilityDTO.getName())) {
-				Optional<Utility> existingUtility = utilityRepository.findByName(utilityDTO.getName());
-				if (existingUtility.isPresent() && existingUtility.get().getUtilityId() != id) {
-					throw new RuntimeException("This utility already exists.");
-				}
-			}
-
-			utility.setUtilityId(id);
-			Utility updatedUtility = utilityRepository.save(utility);
-			UtilityDTO updatedUtilityDTO = convertToDTO(updatedUtility);
-			return ResponseEntity.ok(updatedUtilityDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
 		}
+
+		utility.setUtilityId(id);
+		Utility updatedUtility = utilityRepository.save(utility);
+		autocompleteService.putUtilityName(updatedUtility);
+		UtilityDTO updatedUtilityDTO = convertToDTO(updatedUtility);
+		return updatedUtilityDTO;
 	}
 
 	/**
 	 * Deletes the utility with the specified id.
 	 * 
 	 * @param id The id of the utility that is being deleted.
-	 * @return ResponseEntity containing the deleted UtilityDTO if successful, or an
-	 *         error message with HttpStatus.BAD_REQUEST status (400) if an
-	 *         exception occurs.
-	 * @throws RuntimeException if there is no utility with the given id, or if
-	 *                          there are utility leases associated with the
-	 *                          utility.
+	 * @return The deleted UtilityDTO.
+	 * @throws NotFoundException if there is no utility with the given id.
+	 * @throws ConflictException if there are utility leases associated with the
+	 *                           utility.
 	 */
-	public ResponseEntity<?> delete(Integer id) {
-		try {
-			Optional<Utility> utilityFromDb = utilityRepository.findById(id);
-			if (!utilityFromDb.isPresent())
-				throw new RuntimeException("There is no utility with the given id.");
-
-			List<UtilityLease> utilityLeasesFromDb = utilityLeaseRepository.findAllByUtility_UtilityId(id);
-			if (!utilityLeasesFromDb.isEmpty())
-				throw new RuntimeException(
-						"You cannot delete this utility since there are utility leases associated with it.");
-
-			utilityRepository.deleteById(id);
-			UtilityDTO deletedUtilityDTO = convertToDTO(utilityFromDb.get());
-			return ResponseEntity.ok(deletedUtilityDTO);
-		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-		}
+	public UtilityDTO delete(Integer id) {
+		Optional<Utility> utilityFromDb = utilityRepository.findById(id);
+		if (!utilityFromDb.isPresent())
+			throw new NotFoundException("There is no utility with the given id.");
+
+		List<UtilityLease> utilityLeasesFromDb = utilityLeaseRepository.findAllByUtility_UtilityId(id);
+		if (!utilityLeasesFromDb.isEmpty())
+			throw new ConflictException(
+					"You cannot delete this utility since there are utility leases associated with it.");
+
+		utilityRepository.deleteById(id);
+		autocompleteService.removeUtilityName(id);
+		UtilityDTO deletedUtilityDTO = convertToDTO(utilityFromDb.get());
+		return deletedUtilityDTO;
 	}
 
 	/**
@@ -215,6 +181,7 @@ public class UtilityService {
 	 */
 	private UtilityDTO convertToDTO(Utility utility) {
 		UtilityDTO utilityDTO = new UtilityDTO();
+		utilityDTO.setUtilityId(utility.getUtilityId());
 		utilityDTO.setName(utility.getName());
 		utilityDTO.setDescription(utility.getDescription());
 
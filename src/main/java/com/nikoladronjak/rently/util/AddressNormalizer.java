@@ -0,0 +1,77 @@
+package com.nikoladronjak.rently.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents helper methods for bringing street addresses to a common form, so
+ * the same address written in different ways can be recognised. The address
+ * is folded with the TextAnalyzer, every character which is not a letter or a
+ * digit is treated as a space, and the common abbreviations are written out,
+ * so "12 Main St." and "12 main street" have the same form.
+ *
+ * @author Nikola Dronjak
+ */
+public final class AddressNormalizer {
+
+	/**
+	 * Represents the abbreviations of the words of the street addresses, with
+	 * the words which they stand for.
+	 */
+	private static final Map<String, String> ABBREVIATIONS = Map.ofEntries(Map.entry("st", "street"),
+			Map.entry("str", "street"), Map.entry("ave", "avenue"), Map.entry("av", "avenue"),
+			Map.entry("rd", "road"), Map.entry("blvd", "boulevard"), Map.entry("ln", "lane"),
+			Map.entry("sq", "square"), Map.entry("pl", "place"), Map.entry("ul", "ulica"),
+			Map.entry("bul", "bulevar"));
+
+	private AddressNormalizer() {
+
+	}
+
+	/**
+	 * Brings the address to its common form.
+	 *
+	 * @param address The address that is being normalised.
+	 * @return The words of the address, separated by single spaces.
+	 */
+	public static String normalize(String address) {
+		List<String> words = new ArrayList<String>();
+		for (String word : split(TextAnalyzer.fold(address))) {
+			words.add(ABBREVIATIONS.getOrDefault(word, word));
+		}
+		return String.join(" ", words);
+	}
+
+	/**
+	 * Returns the numbers of a normalised address, such as the house number.
+	 * Addresses which differ only in their numbers are similar as text, but they
+	 * are not the same address.
+	 *
+	 * @param normalizedAddress The normalised address.
+	 * @return The words of the address which contain a digit, in their order.
+	 */
+	public static List<String> numbers(String normalizedAddress) {
+		List<String> numbers = new ArrayList<String>();
+		for (String word : split(normalizedAddress)) {
+			if (word.chars().anyMatch(Character::isDigit))
+				numbers.add(word);
+		}
+		return numbers;
+	}
+
+	private static List<String> split(String text) {
+		List<String> words = new ArrayList<String>();
+		int start = -1;
+		for (int i = 0; i <= text.length(); i++) {
+			boolean wordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+			if (wordCharacter && start < 0) {
+				start = i;
+			} else if (!wordCharacter && start >= 0) {
+				words.add(text.substring(start, i));
+				start = -1;
+			}
+		}
+		return words;
+	}
+}
@@ -0,0 +1,311 @@
+package com.nikoladronjak.rently.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Represents an in-memory spatial index of points on the Earth, which finds
+ * the points inside a bounding box or within a distance of a given point.
+ *
+ * The latitudes and the longitudes are divided into a grid of square cells of
+ * the same size in degrees, and every cell points to the points which lie in
+ * it. A search only visits the cells which overlap its bounding box, and
+ * computes the exact distance only for the points in those cells. If the box
+ * covers more cells than there are non-empty cells, the non-empty cells are
+ * visited instead, so a search never does more work than a full scan.
+ *
+ * The distances are great-circle distances in kilometers, computed with the
+ * haversine formula. The index is guarded by a read-write lock, so searches
+ * run concurrently with each other and wait only for the writes. This class is
+ * thread-safe.
+ *
+ * @author Nikola Dronjak
+ */
+public class GeoGrid {
+
+	/**
+	 * Represents the mean radius of the Earth in kilometers.
+	 */
+	public static final double EARTH_RADIUS = 6371.0088;
+
+	/**
+	 * Represents the latitude and the longitude of a point in degrees.
+	 */
+	public record Location(double latitude, double longitude) {
+	}
+
+	/**
+	 * Represents an indexed point which was found, with its distance from the
+	 * point of the search in kilometers.
+	 */
+	public record Hit(int id, double latitude, double longitude, double distance) {
+	}
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<Integer, Location> locations = new HashMap<>();
+
+	private final Map<Long, Set<Integer>> cells = new HashMap<>();
+
+	private final double cellSize;
+
+	private final int rows;
+
+	private final int columns;
+
+	/**
+	 * Creates an empty grid.
+	 *
+	 * @param cellSize The size of a cell in degrees, greater than 0 and at most
+	 *                 90.
+	 * @throws IllegalArgumentException if the size of a cell is out of range.
+	 */
+	public GeoGrid(double cellSize) {
+		if (!(cellSize > 0 && cellSize <= 90))
+			throw new IllegalArgumentException("The size of a cell has to be greater than 0 and at most 90 degrees.");
+
+		this.cellSize = cellSize;
+		this.rows = (int) Math.ceil(180 / cellSize);
+		this.columns = (int) Math.ceil(360 / cellSize);
+	}
+
+	/**
+	 * Adds the point to the index. If there is already a point with the same id,
+	 * it is moved.
+	 *
+	 * @param id        The id of the point.
+	 * @param latitude  The latitude of the point, between -90 and 90.
+	 * @param longitude The longitude of the point, between -180 and 180.
+	 */
+	public void put(int id, double latitude, double longitude) {
+		lock.writeLock().lock();
+		try {
+			unlink(id);
+			locations.put(id, new Location(latitude, longitude));
+			cells.computeIfAbsent(key(row(latitude), column(longitude)), key -> new HashSet<>()).add(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes the point from the index.
+	 *
+	 * @param id The id of the point.
+	 * @return The location of the removed point, or null if there was no point
+	 *         with the given id.
+	 */
+	public Location remove(int id) {
+		lock.writeLock().lock();
+		try {
+			return unlink(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes all the points from the index.
+	 */
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			locations.clear();
+			cells.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the location of the point with the given id.
+	 *
+	 * @param id The id of the point.
+	 * @return The location, or null if there is no point with the given id.
+	 */
+	public Location get(int id) {
+		lock.readLock().lock();
+		try {
+			return locations.get(id);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Finds the points inside the bounding box. The box doesn't cross the
+	 * 180th meridian.
+	 *
+	 * @param minLatitude  The southern edge of the box.
+	 * @param minLongitude The western edge of the box.
+	 * @param maxLatitude  The northern edge of the box.
+	 * @param maxLongitude The eastern edge of the box.
+	 * @param latitude     The latitude of the point from which the distances are
+	 *                     measured.
+	 * @param longitude    The longitude of the point from which the distances
+	 *                     are measured.
+	 * @return The points inside the box, ordered by their distance from the
+	 *         given point, and by their id between points at the same distance.
+	 */
+	public List<Hit> within(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+			double latitude, double longitude) {
+		List<Hit> hits = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			for (int id : candidates(minLatitude, maxLatitude, minLongitude, maxLongitude)) {
+				Location location = locations.get(id);
+				if (location.latitude() >= minLatitude && location.latitude() <= maxLatitude
+						&& location.longitude() >= minLongitude && location.longitude() <= maxLongitude)
+					hits.add(hit(id, location, latitude, longitude));
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		hits.sort(Comparator.comparingDouble(Hit::distance).thenComparingInt(Hit::id));
+		return hits;
+	}
+
+	/**
+	 * Finds the points within the given distance of a point. The circle may
+	 * cross the 180th meridian or contain a pole.
+	 *
+	 * @param latitude  The latitude of the point.
+	 * @param longitude The longitude of the point.
+	 * @param radius    The distance in kilometers.
+	 * @return The points within the distance, ordered by their distance from the
+	 *         given point, and by their id between points at the same distance.
+	 */
+	public List<Hit> nearby(double latitude, double longitude, double radius) {
+		double angle = radius / EARTH_RADIUS;
+		double minLatitude = latitude - Math.toDegrees(angle);
+		double maxLatitude = latitude + Math.toDegrees(angle);
+		List<double[]> longitudeRanges = new ArrayList<>();
+		if (angle >= Math.PI || minLatitude <= -90 || maxLatitude >= 90) {
+			longitudeRanges.add(new double[] { -180, 180 });
+		} else {
+			double delta = Math.toDegrees(Math.asin(Math.sin(angle) / Math.cos(Math.toRadians(latitude))));
+			double minLongitude = longitude - delta;
+			double maxLongitude = longitude + delta;
+			if (minLongitude < -180) {
+				longitudeRanges.add(new double[] { minLongitude + 360, 180 });
+				longitudeRanges.add(new double[] { -180, maxLongitude });
+			} else if (maxLongitude > 180) {
+				longitudeRanges.add(new double[] { minLongitude, 180 });
+				longitudeRanges.add(new double[] { -180, maxLongitude - 360 });
+			} else {
+				longitudeRanges.add(new double[] { minLongitude, maxLongitude });
+			}
+		}
+
+		List<Hit> hits = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			for (double[] longitudeRange : longitudeRanges) {
+				for (int id : candidates(Math.max(minLatitude, -90), Math.min(maxLatitude, 90), longitudeRange[0],
+						longitudeRange[1])) {
+					Hit hit = hit(id, locations.get(id), latitude, longitude);
+					if (hit.distance() <= radius)
+						hits.add(hit);
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		hits.sort(Comparator.comparingDouble(Hit::distance).thenComparingInt(Hit::id));
+		return hits;
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return locations.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the great-circle distance between two points.
+	 *
+	 * @param firstLatitude   The latitude of the first point.
+	 * @param firstLongitude  The longitude of the first point.
+	 * @param secondLatitude  The latitude of the second point.
+	 * @param secondLongitude The longitude of the second point.
+	 * @return The distance in kilometers.
+	 */
+	public static double distance(double firstLatitude, double firstLongitude, double secondLatitude,
+			double secondLongitude) {
+		double latitudeDelta = Math.toRadians(secondLatitude - firstLatitude);
+		double longitudeDelta = Math.toRadians(secondLongitude - firstLongitude);
+		double a = Math.pow(Math.sin(latitudeDelta / 2), 2) + Math.cos(Math.toRadians(firstLatitude))
+				* Math.cos(Math.toRadians(secondLatitude)) * Math.pow(Math.sin(longitudeDelta / 2), 2);
+		return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+	}
+
+	/**
+	 * Collects the ids of the points in the cells which overlap the box. It has
+	 * to be called under the lock.
+	 */
+	private List<Integer> candidates(double minLatitude, double maxLatitude, double minLongitude,
+			double maxLongitude) {
+		int firstRow = row(minLatitude);
+		int lastRow = row(maxLatitude);
+		int firstColumn = column(minLongitude);
+		int lastColumn = column(maxLongitude);
+		List<Integer> ids = new ArrayList<>();
+		if ((long) (lastRow - firstRow + 1) * (lastColumn - firstColumn + 1) <= cells.size()) {
+			for (int row = firstRow; row <= lastRow; row++) {
+				for (int column = firstColumn; column <= lastColumn; column++) {
+					Set<Integer> cell = cells.get(key(row, column));
+					if (cell != null)
+						ids.addAll(cell);
+				}
+			}
+		} else {
+			for (Map.Entry<Long, Set<Integer>> cell : cells.entrySet()) {
+				long row = cell.getKey() / columns;
+				long column = cell.getKey() % columns;
+				if (row >= firstRow && row <= lastRow && column >= firstColumn && column <= lastColumn)
+					ids.addAll(cell.getValue());
+			}
+		}
+		return ids;
+	}
+
+	private int row(double latitude) {
+		return Math.max(0, Math.min(rows - 1, (int) Math.floor((latitude + 90) / cellSize)));
+	}
+
+	private int column(double longitude) {
+		return Math.max(0, Math.min(columns - 1, (int) Math.floor((longitude + 180) / cellSize)));
+	}
+
+	private long key(int row, int column) {
+		return (long) row * columns + column;
+	}
+
+	private static Hit hit(int id, Location location, double latitude, double longitude) {
+		return new Hit(id, location.latitude(), location.longitude(),
+				distance(latitude, longitude, location.latitude(), location.longitude()));
+	}
+
+	private Location unlink(int id) {
+		Location location = locations.remove(id);
+		if (location == null)
+			return null;
+
+		long key = key(row(location.latitude()), column(location.longitude()));
+		Set<Integer> cell = cells.get(key);
+		cell.remove(id);
+		if (cell.isEmpty())
+			cells.remove(key);
+		return location;
+	}
+}
@@ -0,0 +1,256 @@
+package com.nikoladronjak.rently.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * Represents an interval tree of closed intervals [start, end]. Every interval
+ * carries the id of the object that it belongs to (for example the id of a
+ * lease).
+ *
+ * The tree is a treap ordered by the start of the intervals (and the id, for
+ * intervals with the same start), in which every node additionally stores the
+ * largest end of its subtree. This way an overlapping interval can be found by
+ * following a single path from the root, so insertions, removals and overlap
+ * queries all take O(log n) expected time.
+ *
+ * This class is not thread-safe.
+ *
+ * @author Nikola Dronjak
+ */
+public class IntervalTree {
+
+	/**
+	 * Represents the value which is returned when there is no overlapping
+	 * interval.
+	 */
+	public static final int NONE = -1;
+
+	/**
+	 * Represents the root of the tree.
+	 */
+	private Node root;
+
+	/**
+	 * Represents the number of intervals in the tree (int).
+	 */
+	private int size;
+
+	/**
+	 * Adds the interval to the tree.
+	 *
+	 * @param id    The id of the object which the interval belongs to. It has
+	 *              to be a non-negative value.
+	 * @param start The start of the interval (inclusive).
+	 * @param end   The end of the interval (inclusive).
+	 * @throws IllegalArgumentException if the id is negative or if the start of
+	 *                                  the interval is after the end.
+	 */
+	public void add(int id, long start, long end) {
+		if (id < 0)
+			throw new IllegalArgumentException("The id of the interval has to be a non-negative value.");
+		if (start > end)
+			throw new IllegalArgumentException("The start of the interval has to be before the end.");
+
+		Node[] parts = split(root, start, id);
+		root = merge(merge(parts[0], new Node(id, start, end)), parts[1]);
+		size++;
+	}
+
+	/**
+	 * Removes the interval from the tree.
+	 *
+	 * @param id    The id of the object which the interval belongs to.
+	 * @param start The start of the interval.
+	 * @return True if the interval was removed, or false if it wasn't in the
+	 *         tree.
+	 */
+	public boolean remove(int id, long start) {
+		Node[] lower = split(root, start, id);
+		Node[] upper = split(lower[1], start, id + 1L);
+		root = merge(lower[0], upper[1]);
+		if (upper[0] == null)
+			return false;
+
+		size--;
+		return true;
+	}
+
+	/**
+	 * Finds an interval which overlaps the given interval.
+	 *
+	 * @param start The start of the interval (inclusive).
+	 * @param end   The end of the interval (inclusive).
+	 * @param skip  The id of the interval which is ignored (for example the
+	 *              interval of a lease which is being updated), or NONE.
+	 * @return The id of an overlapping interval, or NONE if there is no
+	 *         overlapping interval.
+	 */
+	public int findOverlap(long start, long end, int skip) {
+		return findOverlap(root, start, end, skip);
+	}
+
+	/**
+	 * Checks whether the given point is covered by any interval of the tree.
+	 *
+	 * @param point The point that is being checked.
+	 * @return True if an interval covers the point, or false otherwise.
+	 */
+	public boolean covers(long point) {
+		return findOverlap(root, point, point, NONE) != NONE;
+	}
+
+	/**
+	 * Passes the id of every interval which covers the given point to the action.
+	 * It takes O(log n) expected time per reported interval.
+	 *
+	 * @param point  The point that is being checked.
+	 * @param action The action which receives the ids of the intervals.
+	 */
+	public void forEachCovering(long point, IntConsumer action) {
+		forEachCovering(root, point, action);
+	}
+
+	/**
+	 * Returns the number of intervals in the tree.
+	 *
+	 * @return The number of intervals (int).
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks whether the tree is empty.
+	 *
+	 * @return True if there are no intervals in the tree, or false otherwise.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Descends into the left subtree whenever it reaches far enough to the right
+	 * to overlap the interval. If the left subtree has no overlapping interval
+	 * then, none of the intervals in the right subtree can overlap either, since
+	 * they all start after an interval which starts after the end. The search
+	 * only branches into both subtrees to step over the skipped interval.
+	 */
+	private static int findOverlap(Node node, long start, long end, int skip) {
+		while (node != null && node.maxEnd >= start) {
+			if (node.start <= end && node.end >= start && node.id != skip)
+				return node.id;
+
+			if (node.left != null && node.left.maxEnd >= start) {
+				if (skip == NONE)
+					node = node.left;
+				else {
+					int id = findOverlap(node.left, start, end, skip);
+					if (id != NONE)
+						return id;
+					node = node.start <= end ? node.right : null;
+				}
+			} else if (node.start <= end)
+				node = node.right;
+			else
+				return NONE;
+		}
+		return NONE;
+	}
+
+	/**
+	 * Skips every subtree whose intervals all end before the point, and stops at
+	 * the first interval which starts after the point, since the intervals of its
+	 * right subtree start after it as well.
+	 */
+	private static void forEachCovering(Node node, long point, IntConsumer action) {
+		while (node != null && node.maxEnd >= point) {
+			forEachCovering(node.left, point, action);
+			if (node.start > point)
+				return;
+
+			if (node.end >= point)
+				action.accept(node.id);
+			node = node.right;
+		}
+	}
+
+	/**
+	 * Splits the subtree into the intervals which are ordered before the given
+	 * key and the intervals which are ordered at or after it.
+	 */
+	private static Node[] split(Node node, long start, long id) {
+		if (node == null)
+			return new Node[2];
+
+		if (node.start < start || (node.start == start && node.id < id)) {
+			Node[] parts = split(node.right, start, id);
+			node.right = parts[0];
+			node.update();
+			parts[0] = node;
+			return parts;
+		}
+
+		Node[] parts = split(node.left, start, id);
+		node.left = parts[1];
+		node.update();
+		parts[1] = node;
+		return parts;
+	}
+
+	/**
+	 * Merges two subtrees where every interval of the left subtree is ordered
+	 * before every interval of the right subtree.
+	 */
+	private static Node merge(Node left, Node right) {
+		if (left == null)
+			return right;
+		if (right == null)
+			return left;
+
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			left.update();
+			return left;
+		}
+
+		right.left = merge(left, right.left);
+		right.update();
+		return right;
+	}
+
+	/**
+	 * Represents a single interval of the tree.
+	 */
+	private static final class Node {
+
+		private final int id;
+
+		private final long start;
+
+		private final long end;
+
+		private final int priority = ThreadLocalRandom.current().nextInt();
+
+		private long maxEnd;
+
+		private Node left;
+
+		private Node right;
+
+		private Node(int id, long start, long end) {
+			this.id = id;
+			this.start = start;
+			this.end = end;
+			this.maxEnd = end;
+		}
+
+		private void update() {
+			maxEnd = end;
+			if (left != null && left.maxEnd > maxEnd)
+				maxEnd = left.maxEnd;
+			if (right != null && right.maxEnd > maxEnd)
+				maxEnd = right.maxEnd;
+		}
+	}
+}
@@ -0,0 +1,238 @@
+package com.nikoladronjak.rently.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * Represents an in-memory inverted index of documents, ranked with BM25. Every
+ * term points to the documents which contain it, together with the number of
+ * times it occurs in them, so a search only visits the documents which contain
+ * at least one of its terms.
+ *
+ * The score of a document is the sum over the terms of the query of
+ * idf * tf * (k1 + 1) / (tf + k1 * (1 - b + b * length / averageLength)), where
+ * idf = ln(1 + (N - df + 0.5) / (df + 0.5)), with k1 = 1.2 and b = 0.75. Rare
+ * terms weigh more than common ones, repeated terms have diminishing returns
+ * and long documents are penalised.
+ *
+ * The index is guarded by a read-write lock, so searches run concurrently with
+ * each other and wait only for the writes. This class is thread-safe.
+ *
+ * @author Nikola Dronjak
+ */
+public class InvertedIndex {
+
+	private static final double K1 = 1.2;
+
+	private static final double B = 0.75;
+
+	/**
+	 * Represents an analysed document. A document without terms is a tombstone,
+	 * which marks that the document was removed.
+	 *
+	 * @param id          The id of the document.
+	 * @param fingerprint The fingerprint of the text from which the terms were
+	 *                    made.
+	 * @param length      The (weighted) number of terms of the document.
+	 * @param terms       The weighted numbers of occurrences of the terms, or
+	 *                    null for a tombstone.
+	 */
+	public record Document(int id, long fingerprint, int length, Map<String, Integer> terms) {
+
+		public static Document tombstone(int id) {
+			return new Document(id, 0, 0, null);
+		}
+
+		public boolean isTombstone() {
+			return terms == null;
+		}
+	}
+
+	/**
+	 * Represents a document which matched a search, with its score.
+	 */
+	public record Hit(int id, double score) {
+	}
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<Integer, Document> documents = new HashMap<>();
+
+	private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+
+	private long totalLength;
+
+	/**
+	 * Adds the document to the index. If there is already a document with the
+	 * same id, it is replaced. A tombstone removes the document.
+	 *
+	 * @param document The document that is being added.
+	 */
+	public void put(Document document) {
+		lock.writeLock().lock();
+		try {
+			unlink(document.id());
+			if (!document.isTombstone())
+				link(document);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Replaces the content of the index with the given documents.
+	 *
+	 * @param documents The documents of the index.
+	 */
+	public void reset(Collection<Document> documents) {
+		lock.writeLock().lock();
+		try {
+			this.documents.clear();
+			postings.clear();
+			totalLength = 0;
+			for (Document document : documents) {
+				unlink(document.id());
+				if (!document.isTombstone())
+					link(document);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes the document from the index.
+	 *
+	 * @param id The id of the document.
+	 * @return True if the document was removed, or false if there was no document
+	 *         with the given id.
+	 */
+	public boolean remove(int id) {
+		lock.writeLock().lock();
+		try {
+			return unlink(id) != null;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the document with the given id.
+	 *
+	 * @param id The id of the document.
+	 * @return The document, or null if there is no document with the given id.
+	 */
+	public Document get(int id) {
+		lock.readLock().lock();
+		try {
+			return documents.get(id);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns a snapshot of all the documents of the index.
+	 *
+	 * @return A list of the documents, in no particular order.
+	 */
+	public List<Document> documents() {
+		lock.readLock().lock();
+		try {
+			return new ArrayList<>(documents.values());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Finds the documents which contain at least one of the terms and ranks them
+	 * with BM25.
+	 *
+	 * @param terms  The terms of the query. Repeated terms are counted once.
+	 * @param filter The filter which the ids of the documents have to pass.
+	 * @param limit  The maximum number of hits.
+	 * @return The best hits, ordered by their score from the highest, and by
+	 *         their id between hits with the same score.
+	 */
+	public List<Hit> search(Collection<String> terms, IntPredicate filter, int limit) {
+		Map<Integer, Double> scores = new HashMap<>();
+		lock.readLock().lock();
+		try {
+			if (documents.isEmpty())
+				return new ArrayList<>();
+
+			double averageLength = (double) totalLength / documents.size();
+			for (String term : new LinkedHashSet<>(terms)) {
+				Map<Integer, Integer> termPostings = postings.get(term);
+				if (termPostings == null)
+					continue;
+
+				double idf = Math.log(1 + (documents.size() - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+				for (Map.Entry<Integer, Integer> posting : termPostings.entrySet()) {
+					if (!filter.test(posting.getKey()))
+						continue;
+
+					double tf = posting.getValue();
+					double length = documents.get(posting.getKey()).length();
+					double score = idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+					scores.merge(posting.getKey(), score, Double::sum);
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score).reversed().thenComparingInt(Hit::id);
+		PriorityQueue<Hit> best = new PriorityQueue<>(ranking.reversed());
+		for (Map.Entry<Integer, Double> score : scores.entrySet()) {
+			best.add(new Hit(score.getKey(), score.getValue()));
+			if (best.size() > limit)
+				best.poll();
+		}
+		List<Hit> hits = new ArrayList<>(best);
+		hits.sort(ranking);
+		return hits;
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void link(Document document) {
+		documents.put(document.id(), document);
+		totalLength += document.length();
+		for (Map.Entry<String, Integer> term : document.terms().entrySet()) {
+			postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(document.id(), term.getValue());
+		}
+	}
+
+	private Document unlink(int id) {
+		Document document = documents.remove(id);
+		if (document == null)
+			return null;
+
+		totalLength -= document.length();
+		for (String term : document.terms().keySet()) {
+			Map<Integer, Integer> termPostings = postings.get(term);
+			termPostings.remove(id);
+			if (termPostings.isEmpty())
+				postings.remove(term);
+		}
+		return document;
+	}
+}
@@ -0,0 +1,145 @@
+package com.nikoladronjak.rently.util;
+
+import java.util.Arrays;
+
+/**
+ * Represents the occupancy of a single property over a fixed window of days,
+ * with one bit per day. The window starts at the first day of a 64-day word, so
+ * a range of days can be checked one word (64 days) at a time instead of one
+ * day at a time.
+ *
+ * The days are epoch days. Days outside of the window are never occupied.
+ *
+ * This class is not thread-safe.
+ *
+ * @author Nikola Dronjak
+ */
+public class OccupancyBitset {
+
+	/**
+	 * Represents the index of the first word of the window (long). The first day
+	 * of the window is firstWord * 64.
+	 */
+	private final long firstWord;
+
+	/**
+	 * Represents the bits of the days in the window.
+	 */
+	private final long[] words;
+
+	/**
+	 * Creates a new OccupancyBitset in which every day is free.
+	 *
+	 * @param firstWord The index of the first word of the window.
+	 * @param length    The number of words in the window.
+	 */
+	public OccupancyBitset(long firstWord, int length) {
+		this.firstWord = firstWord;
+		this.words = new long[length];
+	}
+
+	private OccupancyBitset(long firstWord, long[] words) {
+		this.firstWord = firstWord;
+		this.words = words;
+	}
+
+	/**
+	 * Returns the index of the word which contains the given day.
+	 *
+	 * @param day The epoch day.
+	 * @return The index of the word (long).
+	 */
+	public static long wordOf(long day) {
+		return Math.floorDiv(day, 64);
+	}
+
+	/**
+	 * Marks the days from startDay to endDay (both inclusive) as occupied. The
+	 * days which are outside of the window are ignored.
+	 *
+	 * @param startDay The first day.
+	 * @param endDay   The last day.
+	 */
+	public void occupy(long startDay, long endDay) {
+		long from = Math.max(startDay - firstDay(), 0);
+		long to = Math.min(endDay - firstDay(), (long) words.length * 64 - 1);
+		if (from > to)
+			return;
+
+		int first = (int) (from >>> 6);
+		int last = (int) (to >>> 6);
+		long firstMask = -1L << from;
+		long lastMask = -1L >>> (63 - (to & 63));
+		if (first == last) {
+			words[first] |= firstMask & lastMask;
+			return;
+		}
+
+		words[first] |= firstMask;
+		for (int i = first + 1; i < last; i++) {
+			words[i] = -1L;
+		}
+		words[last] |= lastMask;
+	}
+
+	/**
+	 * Checks whether all the days from startDay to endDay (both inclusive) are
+	 * free.
+	 *
+	 * @param startDay The first day.
+	 * @param endDay   The last day.
+	 * @return True if none of the days is occupied, or false otherwise.
+	 */
+	public boolean isFree(long startDay, long endDay) {
+		long from = Math.max(startDay - firstDay(), 0);
+		long to = Math.min(endDay - firstDay(), (long) words.length * 64 - 1);
+		if (from > to)
+			return true;
+
+		int first = (int) (from >>> 6);
+		int last = (int) (to >>> 6);
+		long firstMask = -1L << from;
+		long lastMask = -1L >>> (63 - (to & 63));
+		if (first == last)
+			return (words[first] & firstMask & lastMask) == 0;
+
+		if ((words[first] & firstMask) != 0)
+			return false;
+		for (int i = first + 1; i < last; i++) {
+			if (words[i] != 0)
+				return false;
+		}
+		return (words[last] & lastMask) == 0;
+	}
+
+	/**
+	 * Returns the index of the first word of the window.
+	 *
+	 * @return The index of the first word (long).
+	 */
+	public long getFirstWord() {
+		return firstWord;
+	}
+
+	/**
+	 * Returns the number of words in the window.
+	 *
+	 * @return The number of words (int).
+	 */
+	public int length() {
+		return words.length;
+	}
+
+	/**
+	 * Creates a copy of this bitset.
+	 *
+	 * @return The copy of this bitset.
+	 */
+	public OccupancyBitset copy() {
+		return new OccupancyBitset(firstWord, Arrays.copyOf(words, words.length));
+	}
+
+	private long firstDay() {
+		return firstWord * 64;
+	}
+}
@@ -0,0 +1,185 @@
+package com.nikoladronjak.rently.util;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Represents the compiled rate calendar of a single property. The days without
+ * a rule cost the monthly rate of the property spread over the days of their
+ * month, so a whole month without rules costs exactly the monthly rate. The
+ * rules override the rate of the days of the week on which they apply, between
+ * their first and their last day.
+ *
+ * The first and the day after the last day of every rule split the calendar
+ * into segments in which the same rules apply. The segments are stored in a
+ * sorted array and the winning rate of every segment and day of the week is
+ * resolved when the calendar is compiled, so pricing a stay is a binary search
+ * for its first segment followed by a few multiplications per segment and per
+ * month, however long the stay is.
+ *
+ * The days are epoch days. This class is immutable and thread-safe.
+ *
+ * @author Nikola Dronjak
+ */
+public final class RateCalendar {
+
+	/**
+	 * Represents the number of days in a week.
+	 */
+	private static final int WEEK = 7;
+
+	/**
+	 * Represents the monthly rate which applies to the days without a rule
+	 * (double).
+	 */
+	private final double monthlyRate;
+
+	/**
+	 * Represents the first days of the segments, in ascending order. The last
+	 * element is the day after the last segment.
+	 */
+	private final long[] bounds;
+
+	/**
+	 * Represents the daily rate of every segment and day of the week, or NaN if
+	 * no rule applies to that day of the week in the segment.
+	 */
+	private final double[] rates;
+
+	private RateCalendar(double monthlyRate, long[] bounds, double[] rates) {
+		this.monthlyRate = monthlyRate;
+		this.bounds = bounds;
+		this.rates = rates;
+	}
+
+	/**
+	 * Compiles the rate calendar of a property.
+	 *
+	 * @param monthlyRate The monthly rate of the property.
+	 * @param rules       The rules of the property, in the order in which they
+	 *                    were created.
+	 * @return The compiled RateCalendar.
+	 */
+	public static RateCalendar compile(double monthlyRate, List<Rule> rules) {
+		TreeSet<Long> boundaries = new TreeSet<>();
+		for (Rule rule : rules) {
+			boundaries.add(rule.startDay());
+			boundaries.add(rule.endDay() + 1);
+		}
+		long[] bounds = boundaries.stream().mapToLong(Long::longValue).toArray();
+
+		List<Rule> ordered = new ArrayList<>(rules);
+		ordered.sort(Comparator.comparingInt(Rule::priority).reversed());
+		double[] rates = new double[Math.max(bounds.length - 1, 0) * WEEK];
+		Arrays.fill(rates, Double.NaN);
+		for (int segment = 0; segment < bounds.length - 1; segment++) {
+			for (int weekday = 0; weekday < WEEK; weekday++) {
+				Rule winner = null;
+				for (Rule rule : ordered) {
+					if (winner != null && rule.priority() < winner.priority())
+						break;
+
+					if (rule.startDay() <= bounds[segment] && rule.endDay() >= bounds[segment + 1] - 1
+							&& (rule.daysOfWeek() & (1 << weekday)) != 0)
+						winner = rule;
+				}
+				if (winner != null)
+					rates[segment * WEEK + weekday] = winner.dailyRate();
+			}
+		}
+		return new RateCalendar(monthlyRate, bounds, rates);
+	}
+
+	/**
+	 * Returns the fraction of months between two days, counting every day as one
+	 * day of its month. A whole month counts as 1, whatever its length.
+	 *
+	 * @param startDay The first day.
+	 * @param endDay   The last day.
+	 * @return The number of months (double).
+	 */
+	public static double months(long startDay, long endDay) {
+		double months = 0;
+		for (long day = startDay; day <= endDay;) {
+			LocalDate date = LocalDate.ofEpochDay(day);
+			long monthEnd = day + date.lengthOfMonth() - date.getDayOfMonth();
+			long pieceEnd = Math.min(endDay, monthEnd);
+			months += (double) (pieceEnd - day + 1) / date.lengthOfMonth();
+			day = pieceEnd + 1;
+		}
+		return months;
+	}
+
+	/**
+	 * Returns the day of the week of the day, from 0 for Monday to 6 for Sunday.
+	 *
+	 * @param day The epoch day.
+	 * @return The day of the week (int).
+	 */
+	public static int dayOfWeek(long day) {
+		return Math.floorMod(day + 3, WEEK);
+	}
+
+	/**
+	 * Calculates the price of every day from startDay to endDay (inclusive).
+	 *
+	 * @param startDay The first day.
+	 * @param endDay   The last day.
+	 * @return The price (double).
+	 */
+	public double price(long startDay, long endDay) {
+		double price = 0;
+		for (long day = startDay; day <= endDay;) {
+			LocalDate date = LocalDate.ofEpochDay(day);
+			long monthEnd = day + date.lengthOfMonth() - date.getDayOfMonth();
+			double baseRate = monthlyRate / date.lengthOfMonth();
+			int segment = segmentOf(day);
+			long segmentEnd = segment + 1 < bounds.length ? bounds[segment + 1] - 1 : Long.MAX_VALUE;
+			long pieceEnd = Math.min(endDay, Math.min(monthEnd, segmentEnd));
+
+			long length = pieceEnd - day + 1;
+			int firstWeekday = dayOfWeek(day);
+			for (int offset = 0; offset < WEEK && offset < length; offset++) {
+				long count = length / WEEK + (offset < length % WEEK ? 1 : 0);
+				price += count * rateOf(segment, (firstWeekday + offset) % WEEK, baseRate);
+			}
+			day = pieceEnd + 1;
+		}
+		return price;
+	}
+
+	/**
+	 * Returns the index of the segment which contains the day, or -1 if the day
+	 * is before the first segment. The index of the last element of the bounds
+	 * means that the day is after the last segment.
+	 */
+	private int segmentOf(long day) {
+		int index = Arrays.binarySearch(bounds, day);
+		return index >= 0 ? index : -index - 2;
+	}
+
+	private double rateOf(int segment, int weekday, double baseRate) {
+		if (segment < 0 || segment >= bounds.length - 1)
+			return baseRate;
+
+		double rate = rates[segment * WEEK + weekday];
+		return Double.isNaN(rate) ? baseRate : rate;
+	}
+
+	/**
+	 * Represents a rule of the calendar.
+	 *
+	 * @param startDay   The first day on which the rule applies.
+	 * @param endDay     The last day on which the rule applies.
+	 * @param daysOfWeek The days of the week on which the rule applies, as a
+	 *                   bitmask in which bit 0 is Monday.
+	 * @param dailyRate  The daily rate which the rule sets.
+	 * @param priority   The priority of the rule.
+	 */
+	public record Rule(long startDay, long endDay, int daysOfWeek, double dailyRate, int priority) {
+	}
+}
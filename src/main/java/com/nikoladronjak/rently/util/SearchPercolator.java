@@ -0,0 +1,264 @@
+package com.nikoladronjak.rently.util;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.nikoladronjak.rently.domain.PropertyType;
+
+/**
+ * Represents a percolator of saved searches. Instead of running every search
+ * against a new listing, the searches themselves are indexed, and a listing is
+ * matched against the index to find the searches which it satisfies.
+ *
+ * Every numeric criterion (the rental rate, the size and the number of
+ * bedrooms) is indexed in an interval tree of the ranges of the searches which
+ * bound it, and a bitmap of the searches which don't. The ranges which cover
+ * the value of the listing are found in O(log n) expected time per range. The
+ * property type and the boolean attributes are indexed in bitmaps of the
+ * searches which require them. A listing matches the intersection of the
+ * bitmaps of its values, so the cost of a match depends on the number of
+ * matching ranges and on the number of machine words of the bitmaps, instead
+ * of on the number of the searches times the number of their criteria.
+ *
+ * The ids of the searches have to be non-negative. This class is thread-safe.
+ *
+ * @author Nikola Dronjak
+ */
+public class SearchPercolator {
+
+	/**
+	 * Represents the boolean attributes of the properties which a search can
+	 * require.
+	 */
+	public enum Attribute {
+		PetFriendly, Furnished, Kitchen, Bar
+	}
+
+	/**
+	 * Represents the criteria of a search. A null criterion is not checked. A
+	 * search which checks an attribute matches only the listings which have the
+	 * attribute.
+	 */
+	public record Query(PropertyType propertyType, Double minRentalRate, Double maxRentalRate, Integer minSize,
+			Integer maxSize, Integer minNumberOfBedrooms, Integer maxNumberOfBedrooms,
+			Map<Attribute, Boolean> attributes) {
+	}
+
+	/**
+	 * Represents the values of a listing. The attributes contain only the
+	 * attributes which the type of the listing has, and the number of bedrooms is
+	 * null if the type of the listing has no bedrooms.
+	 */
+	public record Listing(PropertyType propertyType, double rentalRate, int size, Integer numberOfBedrooms,
+			Map<Attribute, Boolean> attributes) {
+	}
+
+	/**
+	 * Represents the criteria of the indexed searches, keyed by their ids.
+	 */
+	private final Map<Integer, Query> queries = new HashMap<>();
+
+	/**
+	 * Represents the index of the rental rate ranges of the searches, in cents.
+	 */
+	private final Dimension rentalRates = new Dimension();
+
+	/**
+	 * Represents the index of the size ranges of the searches.
+	 */
+	private final Dimension sizes = new Dimension();
+
+	/**
+	 * Represents the index of the ranges of the number of bedrooms of the
+	 * searches.
+	 */
+	private final Dimension numbersOfBedrooms = new Dimension();
+
+	/**
+	 * Represents the ids of the searches which match any type of property.
+	 */
+	private final BitSet anyPropertyType = new BitSet();
+
+	/**
+	 * Represents the ids of the searches which match only one type of property,
+	 * grouped by that type.
+	 */
+	private final Map<PropertyType, BitSet> propertyTypes = new EnumMap<>(PropertyType.class);
+
+	/**
+	 * Represents the ids of the searches which require a listing to have an
+	 * attribute, grouped by the attribute.
+	 */
+	private final Map<Attribute, BitSet> requiresTrue = new EnumMap<>(Attribute.class);
+
+	/**
+	 * Represents the ids of the searches which require a listing not to have an
+	 * attribute, grouped by the attribute.
+	 */
+	private final Map<Attribute, BitSet> requiresFalse = new EnumMap<>(Attribute.class);
+
+	public SearchPercolator() {
+		for (PropertyType propertyType : PropertyType.values()) {
+			propertyTypes.put(propertyType, new BitSet());
+		}
+		for (Attribute attribute : Attribute.values()) {
+			requiresTrue.put(attribute, new BitSet());
+			requiresFalse.put(attribute, new BitSet());
+		}
+	}
+
+	/**
+	 * Adds the search to the index. If there is already a search with the same
+	 * id, it is replaced.
+	 *
+	 * @param id    The id of the search.
+	 * @param query The criteria of the search.
+	 * @throws IllegalArgumentException if the id is negative, or if a minimum of
+	 *                                  the query is greater than its maximum.
+	 */
+	public synchronized void add(int id, Query query) {
+		if (id < 0)
+			throw new IllegalArgumentException("The id of the search cannot be negative.");
+
+		long minRentalRate = toCents(query.minRentalRate(), Long.MIN_VALUE);
+		long maxRentalRate = toCents(query.maxRentalRate(), Long.MAX_VALUE);
+		long minSize = toLong(query.minSize(), Long.MIN_VALUE);
+		long maxSize = toLong(query.maxSize(), Long.MAX_VALUE);
+		long minNumberOfBedrooms = toLong(query.minNumberOfBedrooms(), Long.MIN_VALUE);
+		long maxNumberOfBedrooms = toLong(query.maxNumberOfBedrooms(), Long.MAX_VALUE);
+		if (minRentalRate > maxRentalRate || minSize > maxSize || minNumberOfBedrooms > maxNumberOfBedrooms)
+			throw new IllegalArgumentException("The minimum of a range cannot be greater than its maximum.");
+
+		remove(id);
+		queries.put(id, query);
+		rentalRates.add(id, minRentalRate, maxRentalRate);
+		sizes.add(id, minSize, maxSize);
+		numbersOfBedrooms.add(id, minNumberOfBedrooms, maxNumberOfBedrooms);
+		if (query.propertyType() == null)
+			anyPropertyType.set(id);
+		else
+			propertyTypes.get(query.propertyType()).set(id);
+		if (query.attributes() != null) {
+			for (Map.Entry<Attribute, Boolean> attribute : query.attributes().entrySet()) {
+				if (attribute.getValue() != null)
+					(attribute.getValue() ? requiresTrue : requiresFalse).get(attribute.getKey()).set(id);
+			}
+		}
+	}
+
+	/**
+	 * Removes the search from the index.
+	 *
+	 * @param id The id of the search.
+	 * @return True if the search was removed, or false if there was no search
+	 *         with the given id.
+	 */
+	public synchronized boolean remove(int id) {
+		Query query = queries.remove(id);
+		if (query == null)
+			return false;
+
+		rentalRates.remove(id, toCents(query.minRentalRate(), Long.MIN_VALUE));
+		sizes.remove(id, toLong(query.minSize(), Long.MIN_VALUE));
+		numbersOfBedrooms.remove(id, toLong(query.minNumberOfBedrooms(), Long.MIN_VALUE));
+		anyPropertyType.clear(id);
+		for (BitSet bits : propertyTypes.values()) {
+			bits.clear(id);
+		}
+		for (Attribute attribute : Attribute.values()) {
+			requiresTrue.get(attribute).clear(id);
+			requiresFalse.get(attribute).clear(id);
+		}
+		return true;
+	}
+
+	/**
+	 * Finds the searches which the listing satisfies.
+	 *
+	 * @param listing The values of the listing.
+	 * @return The ids of the matching searches, in ascending order.
+	 */
+	public synchronized int[] match(Listing listing) {
+		BitSet matches = new BitSet();
+		matches.or(anyPropertyType);
+		matches.or(propertyTypes.get(listing.propertyType()));
+		matches.and(rentalRates.covering(toCents(listing.rentalRate(), 0)));
+		if (matches.isEmpty())
+			return new int[0];
+
+		matches.and(sizes.covering(listing.size()));
+		if (listing.numberOfBedrooms() != null)
+			matches.and(numbersOfBedrooms.covering(listing.numberOfBedrooms()));
+		else
+			matches.and(numbersOfBedrooms.unbounded);
+		for (Attribute attribute : Attribute.values()) {
+			Boolean value = listing.attributes() != null ? listing.attributes().get(attribute) : null;
+			if (value == null || !value)
+				matches.andNot(requiresTrue.get(attribute));
+			if (value == null || value)
+				matches.andNot(requiresFalse.get(attribute));
+		}
+		return matches.stream().toArray();
+	}
+
+	/**
+	 * Removes all the searches from the index.
+	 */
+	public synchronized void clear() {
+		for (int id : queries.keySet().stream().mapToInt(Integer::intValue).toArray()) {
+			remove(id);
+		}
+	}
+
+	public synchronized int size() {
+		return queries.size();
+	}
+
+	private static long toCents(Double rentalRate, long unbounded) {
+		return rentalRate != null ? Math.round(rentalRate * 100) : unbounded;
+	}
+
+	private static long toLong(Integer value, long unbounded) {
+		return value != null ? value : unbounded;
+	}
+
+	/**
+	 * Represents the index of one numeric criterion. The searches which bound the
+	 * criterion are kept in an interval tree, and the searches which don't in a
+	 * bitmap, so they don't have to be visited by every match.
+	 */
+	private static class Dimension {
+
+		/**
+		 * Represents the searches which bound the criterion, with their ranges.
+		 */
+		private final IntervalTree ranges = new IntervalTree();
+
+		/**
+		 * Represents the ids of the searches which don't bound the criterion.
+		 */
+		private final BitSet unbounded = new BitSet();
+
+		void add(int id, long min, long max) {
+			if (min == Long.MIN_VALUE && max == Long.MAX_VALUE)
+				unbounded.set(id);
+			else
+				ranges.add(id, min, max);
+		}
+
+		void remove(int id, long min) {
+			if (unbounded.get(id))
+				unbounded.clear(id);
+			else
+				ranges.remove(id, min);
+		}
+
+		BitSet covering(long value) {
+			BitSet bits = (BitSet) unbounded.clone();
+			ranges.forEachCovering(value, bits::set);
+			return bits;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.nikoladronjak.rently.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents the number of reserved seats of a single office for every day,
+ * with one atomic counter per day. A reservation checks and increments the
+ * counter of every day of its period with a compare-and-set, so concurrent
+ * reservations of the same office never lock each other out. If a day has too
+ * few free seats, the days which were already incremented are decremented
+ * again and the reservation fails, so a failed reservation leaves the counters
+ * as they were. Until then, a concurrent reservation can see the seats of the
+ * failing reservation as taken, so it errs on the side of rejecting.
+ *
+ * The days are epoch days. A counter is created the first time a day is
+ * reserved and it is kept even when it drops back to zero, since removing it
+ * could lose an increment of a concurrent reservation. The counters of the days
+ * which have passed are dropped by prune, since those days can't be reserved
+ * anymore, so the counters only hold the current and the future days.
+ *
+ * This class is thread-safe.
+ *
+ * @author Nikola Dronjak
+ */
+public class SeatCounter {
+
+	/**
+	 * Represents the counters of the days which have been reserved, keyed by the
+	 * epoch day.
+	 */
+	private final Map<Long, AtomicInteger> days = new ConcurrentHashMap<>();
+
+	/**
+	 * Represents the day before which the counters have already been dropped.
+	 */
+	private final AtomicLong prunedDay = new AtomicLong(Long.MIN_VALUE);
+
+	/**
+	 * Reserves the seats for every day from startDay to endDay (both inclusive),
+	 * if every day has enough free seats.
+	 *
+	 * @param startDay The first day.
+	 * @param endDay   The last day.
+	 * @param seats    The number of seats. It has to be a positive value.
+	 * @param capacity The number of seats of the office.
+	 * @return True if the seats were reserved, or false if any day has fewer free
+	 *         seats than requested.
+	 * @throws IllegalArgumentException if the number of seats is not positive or
+	 *                                  if the start day is after the end day.
+	 */
+	public boolean reserve(long startDay, long endDay, int seats, int capacity) {
+		if (seats <= 0)
+			throw new IllegalArgumentException("The number of seats has to be a positive value.");
+		if (startDay > endDay)
+			throw new IllegalArgumentException("The start day has to be before the end day.");
+
+		for (long day = startDay; day <= endDay; day++) {
+			if (!tryIncrement(days.computeIfAbsent(day, key -> new AtomicInteger()), seats, capacity)) {
+				release(startDay, day - 1, seats);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Releases the seats for every day from startDay to endDay (both inclusive).
+	 *
+	 * @param startDay The first day.
+	 * @param endDay   The last day.
+	 * @param seats    The number of seats.
+	 */
+	public void release(long startDay, long endDay, int seats) {
+		for (long day = startDay; day <= endDay; day++) {
+			AtomicInteger counter = days.get(day);
+			if (counter != null)
+				counter.addAndGet(-seats);
+		}
+	}
+
+	/**
+	 * Returns the number of reserved seats of the given day.
+	 *
+	 * @param day The epoch day.
+	 * @return The number of reserved seats (int).
+	 */
+	public int getReserved(long day) {
+		AtomicInteger counter = days.get(day);
+		return counter == null ? 0 : counter.get();
+	}
+
+	/**
+	 * Checks whether any seat is reserved on any day from startDay to endDay
+	 * (both inclusive). It visits the days of the period or the reserved days,
+	 * whichever are fewer.
+	 *
+	 * @param startDay The first day.
+	 * @param endDay   The last day.
+	 * @return True if there is a reserved seat, or false otherwise.
+	 */
+	public boolean hasReservations(long startDay, long endDay) {
+		if (endDay - startDay < days.size()) {
+			for (long day = startDay; day <= endDay; day++) {
+				if (getReserved(day) > 0)
+					return true;
+			}
+			return false;
+		}
+
+		for (Map.Entry<Long, AtomicInteger> entry : days.entrySet()) {
+			if (entry.getKey() >= startDay && entry.getKey() <= endDay && entry.getValue().get() > 0)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Drops the counters of the days before the given day. It does nothing if the
+	 * counters have already been dropped up to the given day, so it can be called
+	 * before every reservation.
+	 *
+	 * @param day The first day whose counter is kept.
+	 */
+	public void prune(long day) {
+		long pruned = prunedDay.get();
+		if (day <= pruned || !prunedDay.compareAndSet(pruned, day))
+			return;
+
+		days.keySet().removeIf(reservedDay -> reservedDay < day);
+	}
+
+	private static boolean tryIncrement(AtomicInteger counter, int seats, int capacity) {
+		while (true) {
+			int reserved = counter.get();
+			if (reserved + seats > capacity)
+				return false;
+			if (counter.compareAndSet(reserved, reserved + seats))
+				return true;
+		}
+	}
+}
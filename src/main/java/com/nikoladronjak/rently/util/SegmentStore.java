@@ -0,0 +1,257 @@
+package com.nikoladronjak.rently.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.nikoladronjak.rently.util.InvertedIndex.Document;
+
+/**
+ * Represents the files in which the analysed documents of an InvertedIndex are
+ * stored, so the index can be loaded without analysing the documents again.
+ *
+ * The documents are written to segment files, which are numbered in the order
+ * in which they were created. Every change of a document is appended to the
+ * newest segment as a new version of the document (or a tombstone), and once a
+ * segment has reached its maximum number of records, a new segment is started.
+ * The segments are never changed otherwise. A later version of a document
+ * overrides the earlier ones, so the segments are read in parallel and then
+ * combined in their order. Rewriting the store replaces all the segments with a
+ * single segment which contains only the current documents. A record which was
+ * cut off by a crash is ignored.
+ *
+ * This class is thread-safe.
+ *
+ * @author Nikola Dronjak
+ */
+public class SegmentStore {
+
+	private static final int MAGIC = 0x52534547;
+
+	private static final int VERSION = 1;
+
+	private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d+)\\.seg");
+
+	private final Path directory;
+
+	private final int segmentSize;
+
+	private long lastSegment;
+
+	private int segmentCount;
+
+	private DataOutputStream active;
+
+	private int activeRecords;
+
+	/**
+	 * Opens the store in the given directory.
+	 *
+	 * @param directory   The directory of the segment files. It is created if it
+	 *                    doesn't exist.
+	 * @param segmentSize The maximum number of records of a segment.
+	 * @throws UncheckedIOException if the directory cannot be read.
+	 */
+	public SegmentStore(Path directory, int segmentSize) {
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		List<Long> segments = segments();
+		this.segmentCount = segments.size();
+		this.lastSegment = segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+	}
+
+	/**
+	 * Reads the current versions of the documents from all the segments. The
+	 * segments are read in parallel.
+	 *
+	 * @return The current documents, without the removed ones.
+	 * @throws UncheckedIOException if the directory cannot be read.
+	 */
+	public synchronized List<Document> load() {
+		closeActive();
+		List<List<Document>> segments = segments().parallelStream().map(segment -> read(path(segment)))
+				.collect(Collectors.toList());
+		Map<Integer, Document> documents = new LinkedHashMap<>();
+		for (List<Document> segment : segments) {
+			for (Document document : segment) {
+				if (document.isTombstone())
+					documents.remove(document.id());
+				else
+					documents.put(document.id(), document);
+			}
+		}
+		return new ArrayList<>(documents.values());
+	}
+
+	/**
+	 * Appends a new version of the document to the newest segment.
+	 *
+	 * @param document The document, or the tombstone of a removed document.
+	 * @throws UncheckedIOException if the segment cannot be written.
+	 */
+	public synchronized void append(Document document) {
+		try {
+			if (active == null) {
+				active = open(++lastSegment);
+				activeRecords = 0;
+				segmentCount++;
+			}
+			write(active, document);
+			active.flush();
+			if (++activeRecords >= segmentSize)
+				closeActive();
+		} catch (IOException e) {
+			closeActive();
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Replaces all the segments with a single segment which contains the given
+	 * documents.
+	 *
+	 * @param documents The current documents.
+	 * @throws UncheckedIOException if the segment cannot be written.
+	 */
+	public synchronized void rewrite(Collection<Document> documents) {
+		closeActive();
+		long segment = ++lastSegment;
+		Path temporary = directory.resolve("segment-" + segment + ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary,
+					StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)))) {
+				writeHeader(out);
+				for (Document document : documents) {
+					write(out, document);
+				}
+			}
+			Files.move(temporary, path(segment), StandardCopyOption.ATOMIC_MOVE);
+			for (long older : segments()) {
+				if (older < segment)
+					Files.deleteIfExists(path(older));
+			}
+			segmentCount = 1;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Closes the newest segment. The next append starts a new segment.
+	 */
+	public synchronized void close() {
+		closeActive();
+	}
+
+	public synchronized int getSegmentCount() {
+		return segmentCount;
+	}
+
+	private List<Long> segments() {
+		try {
+			Files.createDirectories(directory);
+			try (Stream<Path> files = Files.list(directory)) {
+				return files.map(file -> SEGMENT_NAME.matcher(file.getFileName().toString())).filter(Matcher::matches)
+						.map(matcher -> Long.parseLong(matcher.group(1))).sorted().collect(Collectors.toList());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private Path path(long segment) {
+		return directory.resolve("segment-" + segment + ".seg");
+	}
+
+	private DataOutputStream open(long segment) throws IOException {
+		DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(path(segment), StandardOpenOption.CREATE_NEW)));
+		writeHeader(out);
+		return out;
+	}
+
+	private void closeActive() {
+		if (active == null)
+			return;
+
+		try {
+			active.close();
+		} catch (IOException e) {
+			// The records which were flushed are kept, the rest is rebuilt on the next load.
+		}
+		active = null;
+	}
+
+	private static void writeHeader(DataOutputStream out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+	}
+
+	private static void write(DataOutputStream out, Document document) throws IOException {
+		out.writeBoolean(!document.isTombstone());
+		out.writeInt(document.id());
+		if (document.isTombstone())
+			return;
+
+		out.writeLong(document.fingerprint());
+		out.writeInt(document.length());
+		out.writeInt(document.terms().size());
+		for (Map.Entry<String, Integer> term : document.terms().entrySet()) {
+			out.writeUTF(term.getKey());
+			out.writeInt(term.getValue());
+		}
+	}
+
+	/**
+	 * Reads the records of a segment. A segment with an unknown header is
+	 * skipped, and the reading stops at a record which was cut off.
+	 */
+	private static List<Document> read(Path segment) {
+		List<Document> documents = new ArrayList<>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+				return documents;
+
+			int live;
+			while ((live = in.read()) != -1) {
+				int id = in.readInt();
+				if (live == 0) {
+					documents.add(Document.tombstone(id));
+					continue;
+				}
+
+				long fingerprint = in.readLong();
+				int length = in.readInt();
+				int termCount = in.readInt();
+				Map<String, Integer> terms = new HashMap<>(termCount * 2);
+				for (int i = 0; i < termCount; i++) {
+					terms.put(in.readUTF(), in.readInt());
+				}
+				documents.add(new Document(id, fingerprint, length, terms));
+			}
+		} catch (EOFException e) {
+			// The last record was cut off.
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return documents;
+	}
+}
@@ -0,0 +1,138 @@
+package com.nikoladronjak.rently.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Represents the hourly slots of a single space, with a 24-bit bitmap per day.
+ * Bit h of a day is set if the hour which starts at h o'clock is booked. Only
+ * the days which have at least one booked hour are stored, in a sorted map, so
+ * a conflict check is a single lookup and a mask, and the free slots of a week
+ * or a month can be read without visiting every hour.
+ *
+ * The days are epoch days. This class is not thread-safe.
+ *
+ * @author Nikola Dronjak
+ */
+public class SlotCalendar {
+
+	/**
+	 * Represents the number of hourly slots in a day.
+	 */
+	public static final int HOURS = 24;
+
+	/**
+	 * Represents the bitmap of a day in which every hour is booked.
+	 */
+	public static final int FULL_DAY = (1 << HOURS) - 1;
+
+	/**
+	 * Represents the bitmaps of the days which have booked hours, keyed by the
+	 * epoch day.
+	 */
+	private final TreeMap<Long, Integer> days = new TreeMap<>();
+
+	/**
+	 * Returns the bitmap of the hours from startHour (inclusive) to endHour
+	 * (exclusive).
+	 *
+	 * @param startHour The first hour, from 0 to 23.
+	 * @param endHour   The hour at which the slot ends, from 1 to 24.
+	 * @return The bitmap of the hours (int).
+	 * @throws IllegalArgumentException if the hours are not a valid slot.
+	 */
+	public static int mask(int startHour, int endHour) {
+		if (startHour < 0 || endHour > HOURS || startHour >= endHour)
+			throw new IllegalArgumentException("The slot has to start before it ends and it has to fit in a day.");
+
+		return (FULL_DAY >>> (HOURS - endHour)) & (FULL_DAY << startHour);
+	}
+
+	/**
+	 * Checks whether all the hours of the bitmap are free on the given day.
+	 *
+	 * @param day  The epoch day.
+	 * @param mask The bitmap of the hours.
+	 * @return True if none of the hours is booked, or false otherwise.
+	 */
+	public boolean isFree(long day, int mask) {
+		return (getBooked(day) & mask) == 0;
+	}
+
+	/**
+	 * Marks the hours of the bitmap as booked on the given day.
+	 *
+	 * @param day  The epoch day.
+	 * @param mask The bitmap of the hours.
+	 */
+	public void book(long day, int mask) {
+		days.merge(day, mask, (booked, hours) -> booked | hours);
+	}
+
+	/**
+	 * Marks the hours of the bitmap as free on the given day.
+	 *
+	 * @param day  The epoch day.
+	 * @param mask The bitmap of the hours.
+	 */
+	public void free(long day, int mask) {
+		days.computeIfPresent(day, (key, booked) -> (booked & ~mask) == 0 ? null : booked & ~mask);
+	}
+
+	/**
+	 * Returns the bitmap of the booked hours of the given day.
+	 *
+	 * @param day The epoch day.
+	 * @return The bitmap of the booked hours (int).
+	 */
+	public int getBooked(long day) {
+		return days.getOrDefault(day, 0);
+	}
+
+	/**
+	 * Returns the bitmaps of the days from firstDay to lastDay (both inclusive)
+	 * which have booked hours.
+	 *
+	 * @param firstDay The first epoch day.
+	 * @param lastDay  The last epoch day.
+	 * @return The bitmaps of the booked hours, keyed by the epoch day.
+	 */
+	public Map<Long, Integer> getBooked(long firstDay, long lastDay) {
+		return days.subMap(firstDay, true, lastDay, true);
+	}
+
+	/**
+	 * Checks whether any hour from firstDay to lastDay (both inclusive) is
+	 * booked.
+	 *
+	 * @param firstDay The first epoch day.
+	 * @param lastDay  The last epoch day.
+	 * @return True if there is a booked hour, or false otherwise.
+	 */
+	public boolean hasBookings(long firstDay, long lastDay) {
+		Long day = days.ceilingKey(firstDay);
+		return day != null && day <= lastDay;
+	}
+
+	/**
+	 * Finds the first hour at which the given number of consecutive hours is
+	 * free in the bitmap of a day. The consecutive free hours are found by
+	 * shifting the bitmap of the free hours onto itself, one hour at a time.
+	 *
+	 * @param booked   The bitmap of the booked hours of the day.
+	 * @param fromHour The first hour which can be used.
+	 * @param hours    The number of consecutive hours.
+	 * @return The first hour of the slot, or -1 if there is no such slot.
+	 */
+	public static int findFreeSlot(int booked, int fromHour, int hours) {
+		if (hours <= 0 || fromHour + hours > HOURS)
+			return -1;
+
+		int starts = ~booked & FULL_DAY;
+		for (int i = 1; i < hours; i++) {
+			starts &= starts >>> 1;
+		}
+		starts &= (FULL_DAY << fromHour) & (FULL_DAY >>> (hours - 1));
+		return starts == 0 ? -1 : Integer.numberOfTrailingZeros(starts);
+	}
+}
@@ -0,0 +1,173 @@
+package com.nikoladronjak.rently.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Represents a parser of bank statement files. The file is memory-mapped in
+ * windows of a fixed size and scanned for line breaks directly in the mapped
+ * memory, so it is never copied into a heap buffer as a whole and files which
+ * are larger than the heap can be parsed.
+ *
+ * Every line of a statement has the following format:
+ * date,amount,reference,payer. The amount is a decimal number with at most two
+ * decimals and it is parsed into cents without going through a double. The
+ * reference is everything between the second and the last comma, so it can
+ * contain commas itself. Empty lines are skipped, and so is the first line if
+ * its amount is not a number, since it is then the header of the file.
+ *
+ * This class is thread-safe.
+ *
+ * @author Nikola Dronjak
+ */
+public class StatementParser {
+
+	/**
+	 * Represents the amount of a line whose amount is missing or isn't a number.
+	 */
+	public static final long INVALID_AMOUNT = Long.MIN_VALUE;
+
+	/**
+	 * Represents the size of the windows in which the file is mapped (int).
+	 */
+	private final int windowSize;
+
+	/**
+	 * Creates a new StatementParser which maps the file in windows of 64 MB.
+	 */
+	public StatementParser() {
+		this(64 * 1024 * 1024);
+	}
+
+	/**
+	 * Creates a new StatementParser.
+	 *
+	 * @param windowSize The size of the windows in which the file is mapped. It
+	 *                   has to be larger than the longest line of the file.
+	 */
+	public StatementParser(int windowSize) {
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * Parses the statement file and passes its lines to the consumer in the order
+	 * in which they appear in the file.
+	 *
+	 * @param file     The path of the statement file.
+	 * @param consumer The consumer of the parsed lines.
+	 * @return The number of lines which were passed to the consumer.
+	 * @throws UncheckedIOException     if the file cannot be read.
+	 * @throws IllegalArgumentException if a line is longer than the window.
+	 */
+	public int parse(Path file, Consumer<StatementLine> consumer) {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			long position = 0;
+			int lineNumber = 0;
+			int lines = 0;
+			byte[] bytes = new byte[256];
+			while (position < size) {
+				long length = Math.min(windowSize, size - position);
+				MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+				boolean last = position + length == size;
+				int start = 0;
+				for (int i = 0; i < length; i++) {
+					if (window.get(i) != '\n' && !(last && i == length - 1))
+						continue;
+
+					int end = window.get(i) == '\n' ? i : i + 1;
+					if (end > start && window.get(end - 1) == '\r')
+						end--;
+					lineNumber++;
+					if (end > start) {
+						if (bytes.length < end - start)
+							bytes = new byte[Math.max(end - start, bytes.length * 2)];
+						window.get(start, bytes, 0, end - start);
+						StatementLine line = parseLine(lineNumber,
+								new String(bytes, 0, end - start, StandardCharsets.UTF_8));
+						if (lineNumber != 1 || line.amount() != INVALID_AMOUNT) {
+							consumer.accept(line);
+							lines++;
+						}
+					}
+					start = i + 1;
+				}
+				if (start == 0 && !last)
+					throw new IllegalArgumentException("The line " + (lineNumber + 1) + " of the statement is longer than "
+							+ windowSize + " bytes.");
+
+				position += last ? length : start;
+			}
+			return lines;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Parses a single line of a statement.
+	 *
+	 * @param lineNumber The number of the line in the file, starting from 1.
+	 * @param text       The text of the line, without the line break.
+	 * @return The parsed StatementLine. If the line doesn't have four fields or
+	 *         its amount isn't a number, its amount is INVALID_AMOUNT.
+	 */
+	public static StatementLine parseLine(int lineNumber, String text) {
+		int first = text.indexOf(',');
+		int second = first < 0 ? -1 : text.indexOf(',', first + 1);
+		int last = text.lastIndexOf(',');
+		if (second < 0 || last <= second)
+			return new StatementLine(lineNumber, text, null, INVALID_AMOUNT, null, null);
+
+		return new StatementLine(lineNumber, text, text.substring(0, first).trim(),
+				parseAmount(text, first + 1, second), text.substring(second + 1, last).trim(),
+				text.substring(last + 1).trim());
+	}
+
+	/**
+	 * Parses a decimal amount with at most two decimals into cents.
+	 */
+	private static long parseAmount(String text, int from, int to) {
+		while (from < to && text.charAt(from) == ' ')
+			from++;
+		while (to > from && text.charAt(to - 1) == ' ')
+			to--;
+		boolean negative = from < to && text.charAt(from) == '-';
+		if (negative)
+			from++;
+		if (from == to)
+			return INVALID_AMOUNT;
+
+		long cents = 0;
+		int decimals = -1;
+		for (int i = from; i < to; i++) {
+			char c = text.charAt(i);
+			if (c == '.' && decimals < 0) {
+				decimals = 0;
+			} else if (c >= '0' && c <= '9' && decimals < 2 && cents < Long.MAX_VALUE / 100) {
+				cents = cents * 10 + (c - '0');
+				if (decimals >= 0)
+					decimals++;
+			} else {
+				return INVALID_AMOUNT;
+			}
+		}
+		for (int i = Math.max(decimals, 0); i < 2; i++)
+			cents *= 10;
+		return negative ? -cents : cents;
+	}
+
+	/**
+	 * Represents a single line of a bank statement. The amount is in cents, or
+	 * INVALID_AMOUNT if the line is invalid.
+	 */
+	public record StatementLine(int lineNumber, String text, String date, long amount, String reference,
+			String payer) {
+	}
+}
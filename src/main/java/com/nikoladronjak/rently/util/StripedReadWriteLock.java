@@ -0,0 +1,70 @@
+package com.nikoladronjak.rently.util;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Represents a fixed table of read-write locks which are selected by a key
+ * (lock striping). Operations on the same key always use the same lock, so
+ * writers of the same key are serialized with each other and with the readers
+ * of the key, while the readers of the same key only wait for the writers and
+ * proceed in parallel with each other. Operations on different keys use
+ * different locks (unless their keys happen to share a stripe).
+ *
+ * The table never grows, so it can be used for an unbounded number of keys.
+ *
+ * @author Nikola Dronjak
+ */
+public class StripedReadWriteLock {
+
+	/**
+	 * Represents the table of locks. Its length is always a power of two.
+	 */
+	private final ReentrantReadWriteLock[] locks;
+
+	/**
+	 * Creates a new StripedReadWriteLock. The number of stripes is rounded up to
+	 * the next power of two.
+	 *
+	 * @param stripes The minimum number of stripes.
+	 */
+	public StripedReadWriteLock(int stripes) {
+		if (stripes <= 0)
+			throw new IllegalArgumentException("The number of stripes has to be a positive value.");
+
+		int size = Integer.highestOneBit(stripes - 1) << 1;
+		if (stripes == 1)
+			size = 1;
+		locks = new ReentrantReadWriteLock[size];
+		for (int i = 0; i < size; i++) {
+			locks[i] = new ReentrantReadWriteLock();
+		}
+	}
+
+	/**
+	 * Returns the lock which guards the given key.
+	 *
+	 * @param key The key that is being locked.
+	 * @return The lock which guards the key.
+	 */
+	public ReentrantReadWriteLock get(int key) {
+		return locks[spread(key) & (locks.length - 1)];
+	}
+
+	/**
+	 * Returns the number of stripes in the table.
+	 *
+	 * @return The number of stripes (int).
+	 */
+	public int size() {
+		return locks.length;
+	}
+
+	/**
+	 * Spreads the bits of the key so that consecutive keys land on different
+	 * stripes even when only the low bits are used.
+	 */
+	private static int spread(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
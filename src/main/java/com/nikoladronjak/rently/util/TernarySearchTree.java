@@ -0,0 +1,235 @@
+package com.nikoladronjak.rently.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Represents a ternary search tree which maps keys to weighted values and
+ * completes prefixes with the values of the highest weight.
+ *
+ * Every node of the tree holds one character of a key, and points to the nodes
+ * of the smaller characters, of the next character and of the larger
+ * characters. Besides its own value, a node remembers the highest weight in
+ * its subtree, so a completion visits the subtrees in the order of their best
+ * weight and stops as soon as it has found enough values, instead of visiting
+ * every key which starts with the prefix.
+ *
+ * The nodes are never changed. A write copies the nodes on the path to its key
+ * and publishes the new root, so the readers never take a lock and always see
+ * a complete version of the tree. The writes are serialised with each other.
+ * This class is thread-safe.
+ *
+ * @param <V> The type of the values.
+ *
+ * @author Nikola Dronjak
+ */
+public class TernarySearchTree<V extends Comparable<V>> {
+
+	private static final class Node<V> {
+
+		private final char character;
+
+		private final Node<V> lower;
+
+		private final Node<V> equal;
+
+		private final Node<V> higher;
+
+		private final V value;
+
+		private final long weight;
+
+		private final long maxWeight;
+
+		private Node(char character, Node<V> lower, Node<V> equal, Node<V> higher, V value, long weight) {
+			this.character = character;
+			this.lower = lower;
+			this.equal = equal;
+			this.higher = higher;
+			this.value = value;
+			this.weight = weight;
+			this.maxWeight = Math.max(value != null ? weight : Long.MIN_VALUE,
+					Math.max(maxWeight(lower), Math.max(maxWeight(equal), maxWeight(higher))));
+		}
+
+		private static long maxWeight(Node<?> node) {
+			return node != null ? node.maxWeight : Long.MIN_VALUE;
+		}
+
+		private boolean isEmpty() {
+			return value == null && lower == null && equal == null && higher == null;
+		}
+	}
+
+	/**
+	 * Represents a subtree which is yet to be visited, or a value which is yet to
+	 * be returned, of a completion.
+	 */
+	private record Candidate<V>(Node<V> subtree, V value, long weight) {
+	}
+
+	private volatile Node<V> root;
+
+	private volatile int size;
+
+	/**
+	 * Maps the key to the value, replacing the previous value of the key.
+	 *
+	 * @param key    The key. It cannot be empty.
+	 * @param value  The value. It cannot be null.
+	 * @param weight The weight by which the value is ranked.
+	 * @throws IllegalArgumentException if the key is empty or the value is null.
+	 */
+	public synchronized void put(String key, V value, long weight) {
+		if (key.isEmpty() || value == null)
+			throw new IllegalArgumentException("The key cannot be empty and the value cannot be null.");
+
+		if (get(key) == null)
+			size++;
+		root = put(root, key, 0, value, weight);
+	}
+
+	/**
+	 * Removes the key from the tree.
+	 *
+	 * @param key The key.
+	 * @return True if the key was removed, or false if it wasn't in the tree.
+	 */
+	public synchronized boolean remove(String key) {
+		if (key.isEmpty() || get(key) == null)
+			return false;
+
+		root = put(root, key, 0, null, 0);
+		size--;
+		return true;
+	}
+
+	/**
+	 * Removes all the keys from the tree.
+	 */
+	public synchronized void clear() {
+		root = null;
+		size = 0;
+	}
+
+	/**
+	 * Retrieves the value of the key.
+	 *
+	 * @param key The key.
+	 * @return The value, or null if the key isn't in the tree.
+	 */
+	public V get(String key) {
+		Node<V> node = find(root, key);
+		return node != null ? node.value : null;
+	}
+
+	/**
+	 * Finds the values of the keys which start with the prefix, from the highest
+	 * weight. Equal values are returned once.
+	 *
+	 * @param prefix The prefix. An empty prefix matches every key.
+	 * @param limit  The maximum number of values.
+	 * @return The values, ordered by their weight from the highest, and by their
+	 *         natural order between values with the same weight.
+	 */
+	public List<V> complete(String prefix, int limit) {
+		Set<V> values = new LinkedHashSet<>();
+		Node<V> start = root;
+		V exact = null;
+		long exactWeight = 0;
+		if (!prefix.isEmpty()) {
+			Node<V> node = find(start, prefix);
+			if (node == null)
+				return new ArrayList<>();
+
+			exact = node.value;
+			exactWeight = node.weight;
+			start = node.equal;
+		}
+
+		Comparator<Candidate<V>> order = Comparator.<Candidate<V>>comparingLong(Candidate::weight).reversed()
+				.thenComparing(candidate -> candidate.value() != null)
+				.thenComparing(Candidate::value, Comparator.nullsFirst(Comparator.naturalOrder()));
+		PriorityQueue<Candidate<V>> candidates = new PriorityQueue<>(order);
+		if (exact != null)
+			candidates.add(new Candidate<>(null, exact, exactWeight));
+		if (start != null)
+			candidates.add(new Candidate<>(start, null, start.maxWeight));
+		while (!candidates.isEmpty() && values.size() < limit) {
+			Candidate<V> candidate = candidates.poll();
+			if (candidate.value() != null) {
+				values.add(candidate.value());
+				continue;
+			}
+
+			Node<V> node = candidate.subtree();
+			if (node.value != null)
+				candidates.add(new Candidate<>(null, node.value, node.weight));
+			for (Node<V> child : Arrays.asList(node.lower, node.equal, node.higher)) {
+				if (child != null)
+					candidates.add(new Candidate<>(child, null, child.maxWeight));
+			}
+		}
+		return new ArrayList<>(values);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns a copy of the subtree in which the key is mapped to the value, or
+	 * unmapped if the value is null. Nodes which are left without values and
+	 * children are dropped.
+	 */
+	private Node<V> put(Node<V> node, String key, int position, V value, long weight) {
+		char character = key.charAt(position);
+		if (node == null) {
+			if (value == null)
+				return null;
+
+			node = new Node<>(character, null, null, null, null, 0);
+		}
+
+		Node<V> copy;
+		if (character < node.character) {
+			copy = new Node<>(node.character, put(node.lower, key, position, value, weight), node.equal, node.higher,
+					node.value, node.weight);
+		} else if (character > node.character) {
+			copy = new Node<>(node.character, node.lower, node.equal, put(node.higher, key, position, value, weight),
+					node.value, node.weight);
+		} else if (position < key.length() - 1) {
+			copy = new Node<>(node.character, node.lower, put(node.equal, key, position + 1, value, weight),
+					node.higher, node.value, node.weight);
+		} else {
+			copy = new Node<>(node.character, node.lower, node.equal, node.higher, value, value != null ? weight : 0);
+		}
+		return copy.isEmpty() ? null : copy;
+	}
+
+	private static <V> Node<V> find(Node<V> node, String key) {
+		if (key.isEmpty())
+			return null;
+
+		int position = 0;
+		while (node != null) {
+			char character = key.charAt(position);
+			if (character < node.character) {
+				node = node.lower;
+			} else if (character > node.character) {
+				node = node.higher;
+			} else if (position < key.length() - 1) {
+				node = node.equal;
+				position++;
+			} else {
+				return node;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,99 @@
+package com.nikoladronjak.rently.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Represents helper methods for turning text into the terms of the full-text
+ * index. The text is split into words on every character which is not a letter
+ * or a digit, the words are case-folded and stripped of their diacritics, and
+ * the plural endings of English words are removed with the S-stemmer, so
+ * "Houses", "house" and "HOUSE" give the same term. The same analysis is used
+ * for the indexed fields and for the search queries.
+ *
+ * @author Nikola Dronjak
+ */
+public final class TextAnalyzer {
+
+	/**
+	 * Represents the version of the analysis. It has to be increased whenever the
+	 * same text gives different terms, so the analyses which were stored by an
+	 * earlier version are redone.
+	 */
+	public static final int VERSION = 2;
+
+	/**
+	 * Represents the combining marks which are left after the decomposition of
+	 * the letters with diacritics.
+	 */
+	private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+	private TextAnalyzer() {
+
+	}
+
+	/**
+	 * Splits the text into terms.
+	 *
+	 * @param text The text that is being analysed. It can be null.
+	 * @return The terms of the text, in the order in which they appear.
+	 */
+	public static List<String> analyze(String text) {
+		List<String> terms = new ArrayList<String>();
+		if (text == null)
+			return terms;
+
+		String folded = fold(text);
+		int start = -1;
+		for (int i = 0; i <= folded.length(); i++) {
+			boolean wordCharacter = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+			if (wordCharacter && start < 0) {
+				start = i;
+			} else if (!wordCharacter && start >= 0) {
+				terms.add(stem(folded.substring(start, i)));
+				start = -1;
+			}
+		}
+		return terms;
+	}
+
+	/**
+	 * Case-folds the text and strips it of its diacritics, so "Ulica Kneza
+	 * Miloša" becomes "ulica kneza milosa". The letter "đ", which has no
+	 * decomposition, is written as "dj", the way it is typed without
+	 * diacritics.
+	 *
+	 * @param text The text that is being folded.
+	 * @return The folded text.
+	 */
+	public static String fold(String text) {
+		return COMBINING_MARKS.matcher(Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD))
+				.replaceAll("").replace("đ", "dj");
+	}
+
+	/**
+	 * Removes the plural ending of the word (the S-stemmer by Harman). Words of
+	 * three letters or less are left as they are.
+	 *
+	 * @param word The case-folded word.
+	 * @return The stem of the word.
+	 */
+	static String stem(String word) {
+		if (word.length() <= 3)
+			return word;
+
+		if (word.endsWith("ies") && !word.endsWith("eies") && !word.endsWith("aies"))
+			return word.substring(0, word.length() - 3) + "y";
+
+		if (word.endsWith("es") && !word.endsWith("aes") && !word.endsWith("ees") && !word.endsWith("oes"))
+			return word.substring(0, word.length() - 1);
+
+		if (word.endsWith("s") && !word.endsWith("us") && !word.endsWith("ss"))
+			return word.substring(0, word.length() - 1);
+
+		return word;
+	}
+}
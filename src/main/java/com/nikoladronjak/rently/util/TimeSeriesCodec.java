@@ -0,0 +1,237 @@
+package com.nikoladronjak.rently.util;
+
+import java.util.Arrays;
+
+/**
+ * Represents a codec which compresses a series of timestamped readings into a
+ * compact bit stream. The timestamps are stored as delta-of-deltas and the
+ * values as the XOR with the previous value, so readings which arrive at a
+ * regular interval cost a single bit for the timestamp and readings which
+ * repeat or change slowly cost one or a few bits for the value.
+ *
+ * The first timestamp and the first value are stored in full. Every following
+ * timestamp is stored as the difference between its delta and the previous
+ * delta: a 0 bit if the difference is 0, or a prefix of 10, 110, 1110 or 1111
+ * followed by the difference in 7, 9, 12 or 64 bits. Every following value is
+ * XORed with the previous value and stored as a 0 bit if the XOR is 0, as 10
+ * followed by the meaningful bits if they fit in the window of leading and
+ * trailing zeros of the previous XOR, or as 11 followed by the number of
+ * leading zeros (5 bits), the number of meaningful bits (6 bits) and the
+ * meaningful bits.
+ *
+ * The timestamps have to be sorted in ascending order. The number of readings
+ * is not stored in the stream, so it has to be passed to decode.
+ *
+ * This class is thread-safe.
+ *
+ * @author Nikola Dronjak
+ */
+public final class TimeSeriesCodec {
+
+	private TimeSeriesCodec() {
+
+	}
+
+	/**
+	 * Encodes the first count readings.
+	 *
+	 * @param timestamps The timestamps of the readings, in ascending order.
+	 * @param values     The values of the readings.
+	 * @param count      The number of readings which are encoded.
+	 * @return The encoded readings.
+	 */
+	public static byte[] encode(long[] timestamps, double[] values, int count) {
+		BitWriter writer = new BitWriter(Math.max(16, count * 2));
+		if (count == 0)
+			return writer.toByteArray();
+
+		writer.write(timestamps[0], 64);
+		writer.write(Double.doubleToRawLongBits(values[0]), 64);
+		long previousDelta = 0;
+		long previousValue = Double.doubleToRawLongBits(values[0]);
+		int previousLeading = Integer.MAX_VALUE;
+		int previousTrailing = 0;
+		for (int i = 1; i < count; i++) {
+			long delta = timestamps[i] - timestamps[i - 1];
+			long deltaOfDelta = delta - previousDelta;
+			previousDelta = delta;
+			if (deltaOfDelta == 0) {
+				writer.write(0, 1);
+			} else if (deltaOfDelta >= -64 && deltaOfDelta <= 63) {
+				writer.write(0b10, 2);
+				writer.write(deltaOfDelta, 7);
+			} else if (deltaOfDelta >= -256 && deltaOfDelta <= 255) {
+				writer.write(0b110, 3);
+				writer.write(deltaOfDelta, 9);
+			} else if (deltaOfDelta >= -2048 && deltaOfDelta <= 2047) {
+				writer.write(0b1110, 4);
+				writer.write(deltaOfDelta, 12);
+			} else {
+				writer.write(0b1111, 4);
+				writer.write(deltaOfDelta, 64);
+			}
+
+			long value = Double.doubleToRawLongBits(values[i]);
+			long xor = value ^ previousValue;
+			previousValue = value;
+			if (xor == 0) {
+				writer.write(0, 1);
+				continue;
+			}
+
+			int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+			int trailing = Long.numberOfTrailingZeros(xor);
+			if (previousLeading != Integer.MAX_VALUE && leading >= previousLeading && trailing >= previousTrailing) {
+				writer.write(0b10, 2);
+				writer.write(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+			} else {
+				int meaningful = 64 - leading - trailing;
+				writer.write(0b11, 2);
+				writer.write(leading, 5);
+				writer.write(meaningful == 64 ? 0 : meaningful, 6);
+				writer.write(xor >>> trailing, meaningful);
+				previousLeading = leading;
+				previousTrailing = trailing;
+			}
+		}
+		return writer.toByteArray();
+	}
+
+	/**
+	 * Decodes readings which were encoded with encode.
+	 *
+	 * @param data  The encoded readings.
+	 * @param count The number of encoded readings.
+	 * @return The decoded readings.
+	 */
+	public static Series decode(byte[] data, int count) {
+		long[] timestamps = new long[count];
+		double[] values = new double[count];
+		if (count == 0)
+			return new Series(timestamps, values);
+
+		BitReader reader = new BitReader(data);
+		timestamps[0] = reader.read(64);
+		long previousValue = reader.read(64);
+		values[0] = Double.longBitsToDouble(previousValue);
+		long previousDelta = 0;
+		int previousLeading = 0;
+		int previousTrailing = 0;
+		for (int i = 1; i < count; i++) {
+			long deltaOfDelta;
+			if (reader.read(1) == 0)
+				deltaOfDelta = 0;
+			else if (reader.read(1) == 0)
+				deltaOfDelta = reader.readSigned(7);
+			else if (reader.read(1) == 0)
+				deltaOfDelta = reader.readSigned(9);
+			else if (reader.read(1) == 0)
+				deltaOfDelta = reader.readSigned(12);
+			else
+				deltaOfDelta = reader.read(64);
+			previousDelta += deltaOfDelta;
+			timestamps[i] = timestamps[i - 1] + previousDelta;
+
+			if (reader.read(1) != 0) {
+				if (reader.read(1) != 0) {
+					previousLeading = (int) reader.read(5);
+					int meaningful = (int) reader.read(6);
+					if (meaningful == 0)
+						meaningful = 64;
+					previousTrailing = 64 - previousLeading - meaningful;
+				}
+				previousValue ^= reader.read(64 - previousLeading - previousTrailing) << previousTrailing;
+			}
+			values[i] = Double.longBitsToDouble(previousValue);
+		}
+		return new Series(timestamps, values);
+	}
+
+	/**
+	 * Represents decoded readings.
+	 */
+	public record Series(long[] timestamps, double[] values) {
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Series other))
+				return false;
+			return Arrays.equals(timestamps, other.timestamps) && Arrays.equals(values, other.values);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Arrays.hashCode(timestamps) + Arrays.hashCode(values);
+		}
+
+		@Override
+		public String toString() {
+			return "Series [timestamps=" + Arrays.toString(timestamps) + ", values=" + Arrays.toString(values) + "]";
+		}
+	}
+
+	/**
+	 * Represents a growable stream of bits which are written from the most
+	 * significant bit of every byte.
+	 */
+	private static final class BitWriter {
+
+		private byte[] bytes;
+
+		private long position;
+
+		private BitWriter(int capacity) {
+			this.bytes = new byte[capacity];
+		}
+
+		/**
+		 * Writes the lowest bits of the value, starting from the most significant
+		 * one.
+		 */
+		private void write(long value, int bits) {
+			for (int i = bits - 1; i >= 0; i--) {
+				int index = (int) (position >>> 3);
+				if (index == bytes.length)
+					bytes = Arrays.copyOf(bytes, bytes.length * 2);
+				if (((value >>> i) & 1) != 0)
+					bytes[index] |= (byte) (0x80 >>> (position & 7));
+				position++;
+			}
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf(bytes, (int) ((position + 7) >>> 3));
+		}
+	}
+
+	/**
+	 * Represents a stream of bits which are read from the most significant bit of
+	 * every byte.
+	 */
+	private static final class BitReader {
+
+		private final byte[] bytes;
+
+		private long position;
+
+		private BitReader(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		private long read(int bits) {
+			long value = 0;
+			for (int i = 0; i < bits; i++) {
+				int bit = (bytes[(int) (position >>> 3)] >>> (7 - (position & 7))) & 1;
+				value = (value << 1) | bit;
+				position++;
+			}
+			return value;
+		}
+
+		private long readSigned(int bits) {
+			return read(bits) << (64 - bits) >> (64 - bits);
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package com.nikoladronjak.rently.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Represents a hierarchical timing wheel of timeouts. Every timeout carries the
+ * id of the object that it belongs to (for example the id of a lease), a
+ * deadline and a value which is handed back when the deadline passes. Time is
+ * measured in ticks, whose length is chosen by the caller.
+ *
+ * Every level of the wheel has 64 slots, and a slot of a level spans 64 times
+ * as many ticks as a slot of the level below it, so a few levels cover any
+ * realistic deadline. A timeout is placed in the lowest level whose current
+ * rotation contains its deadline. When the wheel reaches the start of a slot
+ * of a higher level, the timeouts of that slot are moved down to the lower
+ * levels, until they reach the first level and expire. This way scheduling and
+ * cancelling a timeout take O(1) time and every timeout is moved at most once
+ * per level, no matter how many timeouts are pending. Advancing the wheel takes
+ * time proportional to the number of elapsed ticks and expired timeouts.
+ *
+ * This class is not thread-safe.
+ *
+ * @author Nikola Dronjak
+ */
+public class TimingWheel<T> {
+
+	/**
+	 * Represents the number of bits of a tick which select the slot of a level.
+	 */
+	private static final int BITS = 6;
+
+	/**
+	 * Represents the number of slots of every level.
+	 */
+	private static final int SLOTS = 1 << BITS;
+
+	/**
+	 * Represents the slots of the levels. Every slot is the sentinel of a
+	 * circular list of timeouts.
+	 */
+	private final List<Node<T>[]> levels = new ArrayList<>();
+
+	/**
+	 * Represents the timeouts whose deadline has already passed, but which have
+	 * not expired yet.
+	 */
+	private final Node<T> due = new Node<>(-1, 0, null);
+
+	/**
+	 * Represents the pending timeouts, keyed by id.
+	 */
+	private final Map<Integer, Node<T>> timeouts = new HashMap<>();
+
+	/**
+	 * Represents the current tick of the wheel (long).
+	 */
+	private long currentTick;
+
+	public TimingWheel(long currentTick) {
+		this.currentTick = currentTick;
+	}
+
+	/**
+	 * Schedules the timeout. If there is already a timeout with the same id, it
+	 * is replaced.
+	 *
+	 * @param id       The id of the object which the timeout belongs to.
+	 * @param deadline The tick at which the timeout expires. If it has already
+	 *                 passed, the timeout expires on the next advance.
+	 * @param value    The value which is handed back when the timeout expires.
+	 */
+	public void schedule(int id, long deadline, T value) {
+		cancel(id);
+		Node<T> node = new Node<>(id, deadline, value);
+		timeouts.put(id, node);
+		place(node);
+	}
+
+	/**
+	 * Cancels the timeout.
+	 *
+	 * @param id The id of the object which the timeout belongs to.
+	 * @return True if the timeout was cancelled, or false if there was no pending
+	 *         timeout with the given id.
+	 */
+	public boolean cancel(int id) {
+		Node<T> node = timeouts.remove(id);
+		if (node == null)
+			return false;
+
+		node.unlink();
+		return true;
+	}
+
+	/**
+	 * Advances the wheel to the given tick and expires every timeout whose
+	 * deadline is at or before it.
+	 *
+	 * @param tick    The tick to which the wheel is advanced. If it is before the
+	 *                current tick, only the timeouts which are already due
+	 *                expire.
+	 * @param expired The action which receives the values of the expired
+	 *                timeouts.
+	 */
+	public void advance(long tick, Consumer<T> expired) {
+		expire(due, expired);
+		while (currentTick < tick) {
+			if (timeouts.isEmpty()) {
+				currentTick = tick;
+				break;
+			}
+
+			currentTick++;
+			for (int level = levels.size() - 1; level > 0; level--) {
+				if ((currentTick & ((1L << (BITS * level)) - 1)) == 0)
+					cascade(slot(level, currentTick));
+			}
+			if (!levels.isEmpty())
+				expire(slot(0, currentTick), expired);
+			expire(due, expired);
+		}
+	}
+
+	/**
+	 * Removes all the timeouts from the wheel.
+	 */
+	public void clear() {
+		for (Node<T> node : timeouts.values()) {
+			node.unlink();
+		}
+		timeouts.clear();
+	}
+
+	/**
+	 * Checks whether there is a pending timeout with the given id.
+	 *
+	 * @param id The id of the object which the timeout belongs to.
+	 * @return True if the timeout is pending, or false otherwise.
+	 */
+	public boolean contains(int id) {
+		return timeouts.containsKey(id);
+	}
+
+	public long getCurrentTick() {
+		return currentTick;
+	}
+
+	public int size() {
+		return timeouts.size();
+	}
+
+	private void place(Node<T> node) {
+		if (node.deadline <= currentTick) {
+			node.linkAfter(due);
+			return;
+		}
+
+		int level = 0;
+		while (BITS * (level + 1) < Long.SIZE
+				&& (node.deadline >>> (BITS * (level + 1))) != (currentTick >>> (BITS * (level + 1)))) {
+			level++;
+		}
+		node.linkAfter(slot(level, node.deadline));
+	}
+
+	private void cascade(Node<T> head) {
+		Node<T> node = head.next;
+		head.next = head;
+		head.prev = head;
+		while (node != head) {
+			Node<T> next = node.next;
+			place(node);
+			node = next;
+		}
+	}
+
+	private void expire(Node<T> head, Consumer<T> expired) {
+		while (head.next != head) {
+			Node<T> node = head.next;
+			node.unlink();
+			timeouts.remove(node.id);
+			expired.accept(node.value);
+		}
+	}
+
+	private Node<T> slot(int level, long tick) {
+		while (levels.size() <= level) {
+			@SuppressWarnings("unchecked")
+			Node<T>[] slots = (Node<T>[]) new Node<?>[SLOTS];
+			for (int i = 0; i < SLOTS; i++) {
+				slots[i] = new Node<>(-1, 0, null);
+			}
+			levels.add(slots);
+		}
+		return levels.get(level)[(int) ((tick >>> (BITS * level)) & (SLOTS - 1))];
+	}
+
+	/**
+	 * Represents a timeout in the circular list of a slot.
+	 */
+	private static class Node<T> {
+
+		private final int id;
+
+		private final long deadline;
+
+		private final T value;
+
+		private Node<T> prev = this;
+
+		private Node<T> next = this;
+
+		Node(int id, long deadline, T value) {
+			this.id = id;
+			this.deadline = deadline;
+			this.value = value;
+		}
+
+		void linkAfter(Node<T> head) {
+			prev = head;
+			next = head.next;
+			head.next.prev = this;
+			head.next = this;
+		}
+
+		void unlink() {
+			prev.next = next;
+			next.prev = prev;
+			prev = this;
+			next = this;
+		}
+	}
+}
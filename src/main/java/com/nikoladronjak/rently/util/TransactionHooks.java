@@ -0,0 +1,85 @@
+package com.nikoladronjak.rently.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Represents helper methods for keeping in-memory state in line with the
+ * outcome of the current transaction.
+ *
+ * @author Nikola Dronjak
+ */
+public final class TransactionHooks {
+
+	private TransactionHooks() {
+
+	}
+
+	/**
+	 * Registers an action which undoes in-memory changes if the current
+	 * transaction is rolled back. The transaction can be an outer transaction
+	 * (for example the transaction of a batch request), so the changes are made
+	 * right away and only undone once the outcome is known. If there is no
+	 * transaction, the action is not registered, since the changes which are
+	 * being undone are already final.
+	 *
+	 * @param undo The action which undoes the changes.
+	 */
+	public static void afterRollback(Runnable undo) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive())
+			return;
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED)
+					undo.run();
+			}
+		});
+	}
+
+	/**
+	 * Registers an action which makes in-memory changes once the current
+	 * transaction has been committed. The transaction can be an outer
+	 * transaction, so the changes are only made once they can't be undone
+	 * anymore. If there is no transaction, the action is run right away, since
+	 * the changes it follows are already final.
+	 *
+	 * @param action The action which makes the changes.
+	 */
+	public static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	/**
+	 * Registers an action which is run once the current transaction has
+	 * completed, whatever its outcome. If there is no transaction, the action is
+	 * not registered, since the caller has already seen the final state.
+	 *
+	 * @param action The action which is run after the transaction.
+	 */
+	public static void afterCompletion(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive())
+			return;
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			@Override
+			public void afterCompletion(int status) {
+				action.run();
+			}
+		});
+	}
+}
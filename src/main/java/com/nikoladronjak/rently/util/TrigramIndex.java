@@ -0,0 +1,243 @@
+package com.nikoladronjak.rently.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * Represents an in-memory index of short texts by their trigrams, which finds
+ * the texts that are similar to a given text.
+ *
+ * The trigrams of a text are all its substrings of three characters, after a
+ * space is added to both of its ends, so the first and the last letters of the
+ * words count as well. The similarity of two texts is the Jaccard similarity
+ * of their trigrams: the number of shared trigrams divided by the number of
+ * distinct trigrams of both texts. Every trigram points to the texts which
+ * contain it, so a search only visits the texts which share at least one
+ * trigram with the given text.
+ *
+ * The index is guarded by a read-write lock, so searches run concurrently with
+ * each other and wait only for the writes. This class is thread-safe.
+ *
+ * @author Nikola Dronjak
+ */
+public class TrigramIndex {
+
+	/**
+	 * Represents an indexed text which is similar to the given text.
+	 */
+	public record Match(int id, String text, double similarity) {
+	}
+
+	/**
+	 * Represents two indexed texts which are similar to each other. The id of
+	 * the first text is lower than the id of the second one.
+	 */
+	public record Pair(int firstId, String firstText, int secondId, String secondText, double similarity) {
+	}
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<Integer, String> texts = new HashMap<>();
+
+	private final Map<Integer, Set<String>> trigrams = new HashMap<>();
+
+	private final Map<String, Set<Integer>> postings = new HashMap<>();
+
+	/**
+	 * Adds the text to the index. If there is already a text with the same id,
+	 * it is replaced.
+	 *
+	 * @param id   The id of the text.
+	 * @param text The text.
+	 */
+	public void put(int id, String text) {
+		lock.writeLock().lock();
+		try {
+			unlink(id);
+			Set<String> textTrigrams = trigrams(text);
+			texts.put(id, text);
+			trigrams.put(id, textTrigrams);
+			for (String trigram : textTrigrams) {
+				postings.computeIfAbsent(trigram, key -> new HashSet<>()).add(id);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes the text from the index.
+	 *
+	 * @param id The id of the text.
+	 * @return The removed text, or null if there was no text with the given id.
+	 */
+	public String remove(int id) {
+		lock.writeLock().lock();
+		try {
+			return unlink(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes all the texts from the index.
+	 */
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			texts.clear();
+			trigrams.clear();
+			postings.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the text with the given id.
+	 *
+	 * @param id The id of the text.
+	 * @return The text, or null if there is no text with the given id.
+	 */
+	public String get(int id) {
+		lock.readLock().lock();
+		try {
+			return texts.get(id);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Finds the indexed texts which are similar to the given text.
+	 *
+	 * @param text       The text.
+	 * @param threshold  The lowest similarity of a match, between 0 (exclusive)
+	 *                   and 1.
+	 * @param compatible The condition which the given text and an indexed text
+	 *                   have to meet besides their similarity.
+	 * @return The matches, ordered by their similarity from the highest, and by
+	 *         their id between matches with the same similarity.
+	 */
+	public List<Match> find(String text, double threshold, BiPredicate<String, String> compatible) {
+		Set<String> textTrigrams = trigrams(text);
+		List<Match> matches = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			for (Map.Entry<Integer, Integer> shared : countShared(textTrigrams, id -> true).entrySet()) {
+				int id = shared.getKey();
+				double similarity = similarity(shared.getValue(), textTrigrams.size(), trigrams.get(id).size());
+				if (similarity >= threshold && compatible.test(text, texts.get(id)))
+					matches.add(new Match(id, texts.get(id), similarity));
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		matches.sort(Comparator.comparingDouble(Match::similarity).reversed().thenComparingInt(Match::id));
+		return matches;
+	}
+
+	/**
+	 * Finds all the pairs of indexed texts which are similar to each other. The
+	 * texts are compared in parallel.
+	 *
+	 * @param threshold  The lowest similarity of a pair, between 0 (exclusive)
+	 *                   and 1.
+	 * @param compatible The condition which the texts of a pair have to meet
+	 *                   besides their similarity.
+	 * @return The pairs, ordered by their similarity from the highest, and by
+	 *         the ids of their texts between pairs with the same similarity.
+	 */
+	public List<Pair> pairs(double threshold, BiPredicate<String, String> compatible) {
+		lock.readLock().lock();
+		try {
+			return texts.keySet().parallelStream().flatMap(firstId -> {
+				Set<String> firstTrigrams = trigrams.get(firstId);
+				List<Pair> pairs = new ArrayList<>();
+				for (Map.Entry<Integer, Integer> shared : countShared(firstTrigrams, id -> id > firstId).entrySet()) {
+					int secondId = shared.getKey();
+					double similarity = similarity(shared.getValue(), firstTrigrams.size(),
+							trigrams.get(secondId).size());
+					if (similarity >= threshold && compatible.test(texts.get(firstId), texts.get(secondId)))
+						pairs.add(new Pair(firstId, texts.get(firstId), secondId, texts.get(secondId), similarity));
+				}
+				return pairs.stream();
+			}).sorted(Comparator.comparingDouble(Pair::similarity).reversed().thenComparingInt(Pair::firstId)
+					.thenComparingInt(Pair::secondId)).collect(Collectors.toList());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return texts.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the trigrams of the text.
+	 *
+	 * @param text The text.
+	 * @return The distinct trigrams of the text with a space added to both ends.
+	 */
+	public static Set<String> trigrams(String text) {
+		String padded = " " + text + " ";
+		Set<String> textTrigrams = new HashSet<>();
+		for (int i = 0; i + 3 <= padded.length(); i++) {
+			textTrigrams.add(padded.substring(i, i + 3));
+		}
+		return textTrigrams;
+	}
+
+	/**
+	 * Counts the trigrams which every accepted indexed text shares with the given
+	 * trigrams. It has to be called under the lock.
+	 */
+	private Map<Integer, Integer> countShared(Set<String> textTrigrams, IntPredicate accept) {
+		Map<Integer, Integer> shared = new HashMap<>();
+		for (String trigram : textTrigrams) {
+			Set<Integer> ids = postings.get(trigram);
+			if (ids == null)
+				continue;
+
+			for (int id : ids) {
+				if (accept.test(id))
+					shared.merge(id, 1, Integer::sum);
+			}
+		}
+		return shared;
+	}
+
+	private static double similarity(int shared, int firstSize, int secondSize) {
+		return (double) shared / (firstSize + secondSize - shared);
+	}
+
+	private String unlink(int id) {
+		String text = texts.remove(id);
+		if (text == null)
+			return null;
+
+		for (String trigram : trigrams.remove(id)) {
+			Set<Integer> ids = postings.get(trigram);
+			ids.remove(id);
+			if (ids.isEmpty())
+				postings.remove(trigram);
+		}
+		return text;
+	}
+}
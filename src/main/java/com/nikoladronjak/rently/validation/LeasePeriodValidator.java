@@ -0,0 +1,30 @@
+package com.nikoladronjak.rently.validation;
+
+import com.nikoladronjak.rently.dto.LeaseDTO;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Represents the validator of the ValidLeasePeriod constraint. Missing dates
+ * are considered valid, since they are reported by the NotNull constraints of
+ * the LeaseDTO.
+ * 
+ * @author Nikola Dronjak
+ */
+public class LeasePeriodValidator implements ConstraintValidator<ValidLeasePeriod, LeaseDTO> {
+
+	@Override
+	public boolean isValid(LeaseDTO leaseDTO, ConstraintValidatorContext context) {
+		if (leaseDTO == null || leaseDTO.getStartDate() == null || leaseDTO.getEndDate() == null)
+			return true;
+
+		if (!leaseDTO.getStartDate().after(leaseDTO.getEndDate()))
+			return true;
+
+		context.disableDefaultConstraintViolation();
+		context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+				.addPropertyNode("endDate").addConstraintViolation();
+		return false;
+	}
+}
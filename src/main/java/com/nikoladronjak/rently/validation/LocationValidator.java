@@ -0,0 +1,27 @@
+package com.nikoladronjak.rently.validation;
+
+import com.nikoladronjak.rently.dto.PropertyDTO;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Represents the validator of the ValidLocation constraint. A property without
+ * a location is considered valid, since the location is optional.
+ * 
+ * @author Nikola Dronjak
+ */
+public class LocationValidator implements ConstraintValidator<ValidLocation, PropertyDTO> {
+
+	@Override
+	public boolean isValid(PropertyDTO propertyDTO, ConstraintValidatorContext context) {
+		if (propertyDTO == null || (propertyDTO.getLatitude() == null) == (propertyDTO.getLongitude() == null))
+			return true;
+
+		context.disableDefaultConstraintViolation();
+		context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+				.addPropertyNode(propertyDTO.getLatitude() == null ? "latitude" : "longitude")
+				.addConstraintViolation();
+		return false;
+	}
+}
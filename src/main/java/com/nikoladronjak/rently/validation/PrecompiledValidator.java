@@ -0,0 +1,87 @@
+package com.nikoladronjak.rently.validation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.proxy.HibernateProxy;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+
+/**
+ * Represents a validator which validates objects with precompiled validation
+ * plans. The plan of a class is built the first time an object of that class is
+ * validated and it is shared by all the instances of this validator.
+ *
+ * The result of the validation is a map of field names and error messages, the
+ * same map that the services return with HttpStatus.BAD_REQUEST status (400).
+ * Classes which can't be described by a precompiled plan are validated by
+ * Hibernate Validator and its violations are converted into the same map.
+ *
+ * @author Nikola Dronjak
+ */
+public class PrecompiledValidator {
+
+	/**
+	 * Represents the validation plans of the classes that were validated so far.
+	 */
+	private static final ClassValue<ValidationPlan> PLANS = new ClassValue<>() {
+
+		@Override
+		protected ValidationPlan computeValue(Class<?> type) {
+			return ValidationPlan.compile(type);
+		}
+	};
+
+	private static final Set<Class<?>> DEFAULT_GROUPS = Set.of(Default.class);
+
+	/**
+	 * Validates the object against the constraints of the given groups.
+	 *
+	 * @param object The object that is being validated.
+	 * @param groups The validation groups that are being checked. If no group is
+	 *               given the Default group is checked.
+	 * @return The map of field names and error messages. It is empty if the
+	 *         object is valid.
+	 */
+	public Map<String, String> validate(Object object, Class<?>... groups) {
+		if (object instanceof HibernateProxy proxy)
+			object = proxy.getHibernateLazyInitializer().getImplementation();
+
+		ValidationPlan plan = PLANS.get(object.getClass());
+		if (!plan.isSupported() || hasGroupSequence(groups))
+			return validateWithHibernateValidator(object, groups);
+
+		return plan.validate(object, groups.length == 0 ? DEFAULT_GROUPS : Set.copyOf(Arrays.asList(groups)));
+	}
+
+	private static boolean hasGroupSequence(Class<?>[] groups) {
+		for (Class<?> group : groups) {
+			if (group.isAnnotationPresent(GroupSequence.class))
+				return true;
+		}
+		return false;
+	}
+
+	private static Map<String, String> validateWithHibernateValidator(Object object, Class<?>[] groups) {
+		Map<String, String> errors = new HashMap<>();
+		for (ConstraintViolation<Object> violation : FallbackValidator.INSTANCE.validate(object, groups)) {
+			errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+		}
+		return errors;
+	}
+
+	/**
+	 * Holds the Hibernate Validator instance, which is only created if a class
+	 * without a precompiled plan is validated.
+	 */
+	private static final class FallbackValidator {
+
+		private static final Validator INSTANCE = Validation.buildDefaultValidatorFactory().getValidator();
+	}
+}
@@ -0,0 +1,30 @@
+package com.nikoladronjak.rently.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * Represents a class level constraint which checks that the start date of a
+ * lease is before its end date. The violation is reported on the endDate
+ * field.
+ * 
+ * @author Nikola Dronjak
+ */
+@Documented
+@Constraint(validatedBy = LeasePeriodValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidLeasePeriod {
+
+	String message() default "The start date of the lease has to be before the end date of the lease.";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,30 @@
+package com.nikoladronjak.rently.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * Represents a class level constraint which checks that the latitude and the
+ * longitude of a property are either both given or both left out. The
+ * violation is reported on the field which is missing.
+ * 
+ * @author Nikola Dronjak
+ */
+@Documented
+@Constraint(validatedBy = LocationValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidLocation {
+
+	String message() default "The latitude and the longitude of the property have to be given together.";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+}
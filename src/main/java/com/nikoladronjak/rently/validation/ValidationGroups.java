@@ -0,0 +1,48 @@
+package com.nikoladronjak.rently.validation;
+
+import jakarta.validation.GroupSequence;
+
+/**
+ * Represents the validation groups which are used for validating the DTOs at
+ * the controller boundary, before the request reaches the service layer and the
+ * database.
+ * 
+ * The checks are split into two stages:
+ * <ul>
+ * <li>Shape - Required fields, lengths, formats and ranges of single
+ * fields.</li>
+ * <li>Consistency - Checks which compare several fields of the same DTO (for
+ * example the start and the end date of a lease).</li>
+ * </ul>
+ * 
+ * The Request group sequence runs the stages in order and stops at the first
+ * stage that fails, so the consistency checks can assume that the fields they
+ * compare are present.
+ * 
+ * @author Nikola Dronjak
+ */
+public final class ValidationGroups {
+
+	private ValidationGroups() {
+
+	}
+
+	/**
+	 * Represents the checks of single fields.
+	 */
+	public interface Shape {
+	}
+
+	/**
+	 * Represents the checks which compare several fields.
+	 */
+	public interface Consistency {
+	}
+
+	/**
+	 * Represents the full validation of a request body.
+	 */
+	@GroupSequence({ Shape.class, Consistency.class })
+	public interface Request {
+	}
+}
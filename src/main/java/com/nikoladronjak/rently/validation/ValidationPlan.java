@@ -0,0 +1,440 @@
+package com.nikoladronjak.rently.validation;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+
+/**
+ * Represents the precompiled validation plan of a single class. The plan is
+ * built once from the constraint annotations of the fields of the class and its
+ * superclasses. Every constrained field is read through a MethodHandle and every
+ * constraint is turned into a simple check, so validating an object neither
+ * reads the annotations again nor walks the associations of the object.
+ *
+ * Only the constraints which are used in this application are supported. A
+ * class which uses anything else (custom or class level constraints, cascaded
+ * validation, group sequences, message templates) gets a plan which is not
+ * supported, and such classes are validated by Hibernate Validator instead.
+ *
+ * @author Nikola Dronjak
+ */
+final class ValidationPlan {
+
+	/**
+	 * Represents the local part of an email address, as accepted by Hibernate
+	 * Validator.
+	 */
+	private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
+
+	private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
+
+	private static final Pattern LOCAL_PART_PATTERN = Pattern.compile("(?:" + LOCAL_PART_ATOM + "+|\""
+			+ LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + "(?:\\." + "(?:" + LOCAL_PART_ATOM + "+|\""
+			+ LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*", Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * Represents a single label of the domain of an email address.
+	 */
+	private static final String DOMAIN_LABEL = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]+(?:-+[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]+)*";
+
+	private static final Pattern DOMAIN_PATTERN = Pattern.compile(DOMAIN_LABEL + "(?:\\." + DOMAIN_LABEL + ")*",
+			Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern IP_DOMAIN_PATTERN = Pattern
+			.compile("\\[(?:[0-9]{1,3}\\.){3}[0-9]{1,3}\\]|\\[IPv6:[0-9a-f:.]+\\]", Pattern.CASE_INSENSITIVE);
+
+	private static final int MAX_LOCAL_PART_LENGTH = 64;
+
+	private static final int MAX_DOMAIN_LENGTH = 255;
+
+	private static final int MAX_DOMAIN_LABEL_LENGTH = 63;
+
+	/**
+	 * Represents the plans of the constrained fields, superclass fields first.
+	 */
+	private final FieldPlan[] fields;
+
+	/**
+	 * Indicates whether the class can be validated by this plan.
+	 */
+	private final boolean supported;
+
+	private ValidationPlan(FieldPlan[] fields, boolean supported) {
+		this.fields = fields;
+		this.supported = supported;
+	}
+
+	/**
+	 * Indicates whether the class can be validated by this plan. If it can't, the
+	 * class has to be validated by Hibernate Validator.
+	 *
+	 * @return True if the plan supports the class, otherwise false.
+	 */
+	boolean isSupported() {
+		return supported;
+	}
+
+	/**
+	 * Validates the object. For every field only the first violated constraint is
+	 * reported.
+	 *
+	 * @param object The object that is being validated.
+	 * @param groups The validation groups that are being checked.
+	 * @return The map of field names and error messages. It is empty if the
+	 *         object is valid.
+	 */
+	Map<String, String> validate(Object object, Set<Class<?>> groups) {
+		Map<String, String> errors = new HashMap<>();
+		for (FieldPlan field : fields) {
+			Object value = field.read(object);
+			for (Rule rule : field.rules) {
+				if (rule.appliesTo(groups) && !rule.check.isValid(value)) {
+					errors.put(field.name, rule.message);
+					break;
+				}
+			}
+		}
+		return errors;
+	}
+
+	/**
+	 * Builds the validation plan of the given class.
+	 *
+	 * @param type The class whose plan is being built.
+	 * @return The validation plan of the class.
+	 */
+	static ValidationPlan compile(Class<?> type) {
+		List<Class<?>> hierarchy = new ArrayList<>();
+		for (Class<?> current = type; current != null && current != Object.class; current = current
+				.getSuperclass()) {
+			if (current.isAnnotationPresent(GroupSequence.class) || hasConstraint(current.getAnnotations()))
+				return unsupported();
+
+			hierarchy.add(0, current);
+		}
+
+		List<FieldPlan> fields = new ArrayList<>();
+		for (Class<?> declaringClass : hierarchy) {
+			for (Field field : declaringClass.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()))
+					continue;
+
+				if (field.isAnnotationPresent(Valid.class) || hasElementConstraint(field.getAnnotatedType()))
+					return unsupported();
+
+				List<Rule> rules = new ArrayList<>();
+				for (Annotation annotation : field.getAnnotations()) {
+					if (!annotation.annotationType().isAnnotationPresent(Constraint.class))
+						continue;
+
+					Rule rule = compileRule(annotation, field.getType());
+					if (rule == null)
+						return unsupported();
+
+					rules.add(rule);
+				}
+				if (!rules.isEmpty())
+					fields.add(new FieldPlan(field.getName(), getter(field), rules.toArray(new Rule[0])));
+			}
+		}
+		return new ValidationPlan(fields.toArray(new FieldPlan[0]), true);
+	}
+
+	private static ValidationPlan unsupported() {
+		return new ValidationPlan(new FieldPlan[0], false);
+	}
+
+	private static boolean hasConstraint(Annotation[] annotations) {
+		for (Annotation annotation : annotations) {
+			if (annotation.annotationType().isAnnotationPresent(Constraint.class))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether the elements of a container type (for example
+	 * List&lt;@NotNull Integer&gt;) are constrained.
+	 */
+	private static boolean hasElementConstraint(AnnotatedType annotatedType) {
+		if (annotatedType instanceof AnnotatedParameterizedType parameterizedType) {
+			for (AnnotatedType typeArgument : parameterizedType.getAnnotatedActualTypeArguments()) {
+				if (hasConstraint(typeArgument.getAnnotations()) || hasElementConstraint(typeArgument))
+					return true;
+			}
+		}
+		if (annotatedType instanceof AnnotatedArrayType arrayType) {
+			AnnotatedType componentType = arrayType.getAnnotatedGenericComponentType();
+			return hasConstraint(componentType.getAnnotations()) || hasElementConstraint(componentType);
+		}
+		return false;
+	}
+
+	private static MethodHandle getter(Field field) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(),
+					MethodHandles.lookup());
+			return lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("The field " + field.getName() + " can't be read.", e);
+		}
+	}
+
+	/**
+	 * Turns a single constraint annotation into a rule.
+	 *
+	 * @param annotation The constraint annotation.
+	 * @param type       The type of the annotated field.
+	 * @return The rule, or null if the constraint isn't supported for the type.
+	 */
+	private static Rule compileRule(Annotation annotation, Class<?> type) {
+		if (annotation instanceof NotNull notNull)
+			return rule(notNull.message(), notNull.groups(), value -> value != null);
+
+		if (annotation instanceof NotBlank notBlank && CharSequence.class.isAssignableFrom(type))
+			return rule(notBlank.message(), notBlank.groups(),
+					value -> value != null && !value.toString().trim().isEmpty());
+
+		if (annotation instanceof Size size)
+			return compileSize(size, type);
+
+		if (annotation instanceof Positive positive && isNumeric(type))
+			return rule(positive.message(), positive.groups(), value -> value == null || signum(value) > 0);
+
+		if (annotation instanceof Min min && isNumeric(type)) {
+			long minimum = min.value();
+			return rule(min.message(), min.groups(), value -> value == null || compare(value, minimum, -1) >= 0);
+		}
+
+		if (annotation instanceof Max max && isNumeric(type)) {
+			long maximum = max.value();
+			return rule(max.message(), max.groups(), value -> value == null || compare(value, maximum, 1) <= 0);
+		}
+
+		if (annotation instanceof Email email && CharSequence.class.isAssignableFrom(type) && email.regexp().equals(".*")
+				&& email.flags().length == 0)
+			return rule(email.message(), email.groups(), value -> value == null || isEmail(value.toString()));
+
+		if (annotation instanceof FutureOrPresent futureOrPresent && isTemporal(type))
+			return rule(futureOrPresent.message(), futureOrPresent.groups(),
+					value -> value == null || isFutureOrPresent(value));
+
+		return null;
+	}
+
+	private static Rule compileSize(Size size, Class<?> type) {
+		int min = size.min();
+		int max = size.max();
+		if (CharSequence.class.isAssignableFrom(type))
+			return rule(size.message(), size.groups(), value -> value == null
+					|| (((CharSequence) value).length() >= min && ((CharSequence) value).length() <= max));
+
+		if (Collection.class.isAssignableFrom(type))
+			return rule(size.message(), size.groups(), value -> value == null
+					|| (((Collection<?>) value).size() >= min && ((Collection<?>) value).size() <= max));
+
+		if (Map.class.isAssignableFrom(type))
+			return rule(size.message(), size.groups(),
+					value -> value == null || (((Map<?, ?>) value).size() >= min && ((Map<?, ?>) value).size() <= max));
+
+		if (type.isArray())
+			return rule(size.message(), size.groups(),
+					value -> value == null || (Array.getLength(value) >= min && Array.getLength(value) <= max));
+
+		return null;
+	}
+
+	private static Rule rule(String message, Class<?>[] groups, Check check) {
+		if (message.contains("{"))
+			return null;
+
+		return new Rule(message, groups.length == 0 ? new Class<?>[] { Default.class } : groups, check);
+	}
+
+	private static boolean isNumeric(Class<?> type) {
+		return type == int.class || type == long.class || type == short.class || type == byte.class
+				|| type == double.class || type == float.class || Integer.class == type || Long.class == type
+				|| Short.class == type || Byte.class == type || Double.class == type || Float.class == type
+				|| BigDecimal.class == type || BigInteger.class == type;
+	}
+
+	private static boolean isTemporal(Class<?> type) {
+		return Calendar.class.isAssignableFrom(type) || Date.class.isAssignableFrom(type) || type == Instant.class
+				|| type == LocalDate.class || type == LocalDateTime.class || type == OffsetDateTime.class
+				|| type == ZonedDateTime.class;
+	}
+
+	private static int signum(Object value) {
+		if (value instanceof BigDecimal decimal)
+			return decimal.signum();
+
+		if (value instanceof BigInteger integer)
+			return integer.signum();
+
+		if (value instanceof Double || value instanceof Float) {
+			double number = ((Number) value).doubleValue();
+			return number > 0 ? 1 : number < 0 ? -1 : 0;
+		}
+		return Long.signum(((Number) value).longValue());
+	}
+
+	/**
+	 * Compares a number with a bound. NaN is reported as the given result, so it
+	 * violates both a minimum (-1) and a maximum (1), as in Hibernate Validator.
+	 */
+	private static int compare(Object value, long bound, int nan) {
+		if (value instanceof BigDecimal decimal)
+			return decimal.compareTo(BigDecimal.valueOf(bound));
+
+		if (value instanceof BigInteger integer)
+			return integer.compareTo(BigInteger.valueOf(bound));
+
+		if (value instanceof Double || value instanceof Float) {
+			double number = ((Number) value).doubleValue();
+			if (Double.isNaN(number))
+				return nan;
+
+			return Double.compare(number, bound);
+		}
+		return Long.compare(((Number) value).longValue(), bound);
+	}
+
+	private static boolean isFutureOrPresent(Object value) {
+		if (value instanceof Calendar calendar)
+			return calendar.getTimeInMillis() >= System.currentTimeMillis();
+
+		if (value instanceof Date date)
+			return date.getTime() >= System.currentTimeMillis();
+
+		if (value instanceof Instant instant)
+			return !instant.isBefore(Instant.now());
+
+		if (value instanceof LocalDate date)
+			return !date.isBefore(LocalDate.now());
+
+		if (value instanceof LocalDateTime dateTime)
+			return !dateTime.isBefore(LocalDateTime.now());
+
+		if (value instanceof OffsetDateTime dateTime)
+			return !dateTime.toInstant().isBefore(Instant.now());
+
+		return !((ZonedDateTime) value).toInstant().isBefore(Instant.now());
+	}
+
+	/**
+	 * Checks an email address the same way as Hibernate Validator, except for the
+	 * conversion of internationalized domain names.
+	 */
+	private static boolean isEmail(String value) {
+		if (value.isEmpty())
+			return true;
+
+		int splitPosition = value.lastIndexOf('@');
+		if (splitPosition < 0)
+			return false;
+
+		String localPart = value.substring(0, splitPosition);
+		String domainPart = value.substring(splitPosition + 1);
+
+		if (localPart.length() > MAX_LOCAL_PART_LENGTH || !LOCAL_PART_PATTERN.matcher(localPart).matches())
+			return false;
+
+		if (domainPart.isEmpty() || domainPart.length() > MAX_DOMAIN_LENGTH || domainPart.endsWith("."))
+			return false;
+
+		if (domainPart.startsWith("[") && domainPart.endsWith("]"))
+			return IP_DOMAIN_PATTERN.matcher(domainPart).matches();
+
+		if (!DOMAIN_PATTERN.matcher(domainPart).matches())
+			return false;
+
+		for (String label : domainPart.split("\\.")) {
+			if (label.length() > MAX_DOMAIN_LABEL_LENGTH)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Represents the check of a single constraint.
+	 */
+	@FunctionalInterface
+	private interface Check {
+
+		boolean isValid(Object value);
+	}
+
+	/**
+	 * Represents a single compiled constraint.
+	 *
+	 * @param message The error message of the constraint.
+	 * @param groups  The validation groups of the constraint.
+	 * @param check   The check of the constraint.
+	 */
+	private record Rule(String message, Class<?>[] groups, Check check) {
+
+		boolean appliesTo(Set<Class<?>> requestedGroups) {
+			for (Class<?> group : groups) {
+				if (requestedGroups.contains(group))
+					return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Represents the compiled constraints of a single field.
+	 *
+	 * @param name   The name of the field.
+	 * @param getter The handle which reads the field.
+	 * @param rules  The constraints of the field, in declaration order.
+	 */
+	private record FieldPlan(String name, MethodHandle getter, Rule[] rules) {
+
+		Object read(Object object) {
+			try {
+				return getter.invokeExact(object);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
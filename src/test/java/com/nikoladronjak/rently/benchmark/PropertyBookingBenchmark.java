@@ -0,0 +1,156 @@
+package com.nikoladronjak.rently.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.nikoladronjak.rently.Application;
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.Property;
+import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.ResidenceRepository;
+import com.nikoladronjak.rently.service.PropertyBookingService;
+
+/**
+ * Measures the throughput of PropertyBookingService under contention. Every
+ * operation books a property for a week within the next year and, if the
+ * booking succeeded, cancels it again. The leases themselves are not stored, so
+ * the benchmark measures the locking and the interval trees of the service.
+ * The booked properties follow a Zipf distribution, so with a high skew most of
+ * the threads compete for a handful of popular properties.
+ *
+ * Run it with the main method from the test classpath.
+ *
+ * @author Nikola Dronjak
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class PropertyBookingBenchmark {
+
+	/**
+	 * Represents the number of properties which can be booked.
+	 */
+	@Param({ "1000" })
+	public int properties;
+
+	/**
+	 * Represents the exponent of the Zipf distribution. 0 is uniform.
+	 */
+	@Param({ "0.0", "1.2" })
+	public double skew;
+
+	private ConfigurableApplicationContext context;
+
+	private PropertyBookingService propertyBookingService;
+
+	private int[] propertyIds;
+
+	private final AtomicInteger leaseIds = new AtomicInteger();
+
+	/**
+	 * Represents the cumulative probabilities of the Zipf distribution.
+	 */
+	private double[] cumulative;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = SpringApplication.run(Application.class, "--spring.main.web-application-type=none",
+				"--spring.datasource.url=jdbc:h2:mem:RentlyBenchmark", "--logging.level.root=WARN");
+		propertyBookingService = context.getBean(PropertyBookingService.class);
+
+		Owner owner = context.getBean(OwnerRepository.class)
+				.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+
+		List<Residence> residences = new ArrayList<>(properties);
+		for (int i = 0; i < properties; i++) {
+			residences.add(new Residence(0, "Apartement " + i, "Address " + i, "", (double) 300, 30, true, 0,
+					List.of("photo"), owner, null, 1, 1, HeatingType.Central, true, true));
+		}
+		propertyIds = context.getBean(ResidenceRepository.class).saveAll(residences).stream()
+				.mapToInt(Residence::getPropertyId).toArray();
+
+		cumulative = new double[properties];
+		double sum = 0;
+		for (int rank = 0; rank < properties; rank++) {
+			sum += 1 / Math.pow(rank + 1, skew);
+			cumulative[rank] = sum;
+		}
+		for (int rank = 0; rank < properties; rank++) {
+			cumulative[rank] /= sum;
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public boolean bookAndCancel() {
+		Property property = new Property();
+		property.setPropertyId(nextPropertyId());
+		int startDay = ThreadLocalRandom.current().nextInt(365);
+		Lease lease = new Lease(0, 300, date(startDay), date(startDay + 6), property, null, null);
+		try {
+			propertyBookingService.book(lease, () -> {
+				lease.setLeaseId(leaseIds.incrementAndGet());
+				return lease;
+			});
+		} catch (RuntimeException e) {
+			return false;
+		}
+		propertyBookingService.cancel(lease, () -> {
+		});
+		return true;
+	}
+
+	private static GregorianCalendar date(int days) {
+		GregorianCalendar date = new GregorianCalendar();
+		date.add(Calendar.DAY_OF_MONTH, days);
+		return date;
+	}
+
+	private int nextPropertyId() {
+		int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+		if (index < 0)
+			index = -index - 1;
+		return propertyIds[Math.min(index, propertyIds.length - 1)];
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(PropertyBookingBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,135 @@
+package com.nikoladronjak.rently.benchmark;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.nikoladronjak.rently.Application;
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.OfficeSpace;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.dto.SeatReservationDTO;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.service.SeatReservationService;
+
+/**
+ * Measures the throughput of concurrent seat reservations through
+ * SeatReservationService. Every operation reserves a few seats of an office
+ * space for a few days within the next month and, if the reservation
+ * succeeded, cancels it again. The reservations are stored in an in-memory
+ * database, so the benchmark measures the check against the leases, the seat
+ * counters and the writes of the service. With a single office space all the
+ * threads compete for the lock of the same property and the counters of the
+ * same days.
+ *
+ * Run it with the main method from the test classpath.
+ *
+ * @author Nikola Dronjak
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class SeatReservationBenchmark {
+
+	/**
+	 * Represents the number of office spaces in which the seats are reserved.
+	 */
+	@Param({ "1", "100" })
+	public int offices;
+
+	/**
+	 * Represents the number of seats of every office space.
+	 */
+	@Param({ "50" })
+	public int capacity;
+
+	private ConfigurableApplicationContext context;
+
+	private SeatReservationService seatReservationService;
+
+	private int[] officeSpaceIds;
+
+	private int customerId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = SpringApplication.run(Application.class, "--spring.main.web-application-type=none",
+				"--spring.datasource.url=jdbc:h2:mem:RentlyBenchmark", "--logging.level.root=WARN");
+		seatReservationService = context.getBean(SeatReservationService.class);
+
+		Owner owner = context.getBean(OwnerRepository.class)
+				.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		customerId = context.getBean(CustomerRepository.class)
+				.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null)).getCustomerId();
+
+		List<OfficeSpace> officeSpaces = new ArrayList<>(offices);
+		for (int i = 0; i < offices; i++) {
+			officeSpaces.add(new OfficeSpace(0, "Office Space " + i, "Address " + i, "", (double) 300, 150, true, 10,
+					List.of("photo"), owner, null, capacity, null));
+		}
+		officeSpaceIds = context.getBean(OfficeSpaceRepository.class).saveAll(officeSpaces).stream()
+				.mapToInt(OfficeSpace::getPropertyId).toArray();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public boolean reserveAndCancel() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int officeSpaceId = officeSpaceIds[random.nextInt(offices)];
+		int startDay = 1 + random.nextInt(30);
+		int endDay = startDay + random.nextInt(5);
+		int seats = 1 + random.nextInt(4);
+		SeatReservationDTO seatReservationDTO;
+		try {
+			seatReservationDTO = seatReservationService.add(
+					new SeatReservationDTO(officeSpaceId, customerId, date(startDay), date(endDay), seats));
+		} catch (RuntimeException e) {
+			return false;
+		}
+		seatReservationService.delete(seatReservationDTO.getSeatReservationId());
+		return true;
+	}
+
+	private static GregorianCalendar date(int days) {
+		GregorianCalendar date = new GregorianCalendar();
+		date.add(Calendar.DAY_OF_MONTH, days);
+		return date;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(SeatReservationBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,118 @@
+package com.nikoladronjak.rently.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.validation.PrecompiledValidator;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+/**
+ * Compares Hibernate Validator with PrecompiledValidator on the entities that
+ * are validated on every write. Both benchmarks produce the error map that the
+ * services return, so the cost of converting the violations is included.
+ *
+ * Run it with the main method from the test classpath.
+ *
+ * @author Nikola Dronjak
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+	/**
+	 * Indicates whether the validated objects violate their constraints.
+	 */
+	@Param({ "false", "true" })
+	public boolean invalid;
+
+	private Validator hibernateValidator;
+
+	private PrecompiledValidator precompiledValidator;
+
+	private Residence residence;
+
+	private Customer customer;
+
+	@Setup
+	public void setUp() {
+		hibernateValidator = Validation.buildDefaultValidatorFactory().getValidator();
+		precompiledValidator = new PrecompiledValidator();
+
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+		photos.add("photo2");
+
+		Owner owner = new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890");
+		residence = new Residence(1, "Apartement 1", "Jove Ilica 154", "", (double) 300, 30, true, 0, photos, owner,
+				new ArrayList<>(), 1, 1, HeatingType.Central, true, true);
+		customer = new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", new ArrayList<>());
+
+		if (invalid) {
+			residence.setName("Ap");
+			residence.setRentalRate((double) -300);
+			customer.setEmail("mika.gmail.com");
+		}
+	}
+
+	@Benchmark
+	public Map<String, String> hibernateValidatorResidence() {
+		return toErrors(hibernateValidator.validate(residence));
+	}
+
+	@Benchmark
+	public Map<String, String> precompiledValidatorResidence() {
+		return precompiledValidator.validate(residence);
+	}
+
+	@Benchmark
+	public Map<String, String> hibernateValidatorCustomer() {
+		return toErrors(hibernateValidator.validate(customer));
+	}
+
+	@Benchmark
+	public Map<String, String> precompiledValidatorCustomer() {
+		return precompiledValidator.validate(customer);
+	}
+
+	private static <T> Map<String, String> toErrors(Set<ConstraintViolation<T>> violations) {
+		Map<String, String> errors = new HashMap<>();
+		for (ConstraintViolation<T> violation : violations) {
+			errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+		}
+		return errors;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ValidationBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,92 @@
+package com.nikoladronjak.rently.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.dto.BatchOperationDTO;
+import com.nikoladronjak.rently.dto.BatchRequestDTO;
+import com.nikoladronjak.rently.dto.BatchResultDTO;
+import com.nikoladronjak.rently.dto.CustomerDTO;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.service.BatchService;
+
+@SpringBootTest
+class BatchControllerTest {
+
+	BatchRequestDTO batchRequestDTO;
+
+	@Mock
+	private BatchService batchService;
+
+	@InjectMocks
+	private BatchController batchController;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		batchRequestDTO = new BatchRequestDTO(List.of(new BatchOperationDTO("customer", "POST", "/api/customers",
+				new ObjectMapper().valueToTree(new CustomerDTO("Mika", "Mikic", "mika@gmail.com", "mika123")))), true);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		batchRequestDTO = null;
+	}
+
+	@Test
+	void testExecuteBatch() throws Exception {
+		CustomerDTO customerDTO = new CustomerDTO("Mika", "Mikic", "mika@gmail.com", "mika123");
+		customerDTO.setCustomerId(1);
+		List<BatchResultDTO> results = List.of(new BatchResultDTO("customer", 200, customerDTO));
+		when(batchService.execute(batchRequestDTO)).thenReturn(results);
+
+		String batchRequestJson = new ObjectMapper().writeValueAsString(batchRequestDTO);
+		String resultsJson = new ObjectMapper().writeValueAsString(results);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(batchController).build();
+		mockMvc.perform(post("/api/batch").contentType(MediaType.APPLICATION_JSON).content(batchRequestJson))
+				.andExpect(status().isOk()).andExpect(content().json(resultsJson));
+	}
+
+	@Test
+	void testExecuteBatchWithoutOperations() throws Exception {
+		batchRequestDTO.setOperations(List.of());
+
+		String batchRequestJson = new ObjectMapper().writeValueAsString(batchRequestDTO);
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"operations\": \"The batch has to contain at least one operation.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(batchController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/batch").contentType(MediaType.APPLICATION_JSON).content(batchRequestJson))
+				.andExpect(status().isBadRequest()).andExpect(content().json(errorsJson, true));
+		verify(batchService, never()).execute(any(BatchRequestDTO.class));
+	}
+
+	@Test
+	void testExecuteBatchInvalidOperation() throws Exception {
+		batchRequestDTO.getOperations().get(0).setMethod("PATCH");
+
+		String batchRequestJson = new ObjectMapper().writeValueAsString(batchRequestDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(batchController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/batch").contentType(MediaType.APPLICATION_JSON).content(batchRequestJson))
+				.andExpect(status().isBadRequest());
+		verify(batchService, never()).execute(any(BatchRequestDTO.class));
+	}
+}
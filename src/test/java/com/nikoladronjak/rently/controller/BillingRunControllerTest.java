@@ -0,0 +1,109 @@
+package com.nikoladronjak.rently.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.domain.BillingRunStatus;
+import com.nikoladronjak.rently.dto.BillingRunDTO;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.service.BillingService;
+
+@SpringBootTest
+class BillingRunControllerTest {
+
+	BillingRunDTO billingRunDTO;
+
+	@Mock
+	private BillingService billingService;
+
+	@InjectMocks
+	private BillingRunController billingRunController;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		billingRunDTO = new BillingRunDTO("2099-12", BillingRunStatus.Running, 4, 1, 250);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		billingRunDTO = null;
+	}
+
+	@Test
+	void testGetAllBillingRuns() throws Exception {
+		when(billingService.getAll()).thenReturn(List.of(billingRunDTO));
+
+		String billingRunsJson = new ObjectMapper().writeValueAsString(List.of(billingRunDTO));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(billingRunController).build();
+		mockMvc.perform(get("/api/billingruns").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
+				.andExpect(content().json(billingRunsJson));
+	}
+
+	@Test
+	void testGetBillingRunNotFound() throws Exception {
+		when(billingService.getByBillingPeriod("2099-11"))
+				.thenThrow(new NotFoundException("There is no billing run for the given billing period."));
+
+		String errorJson = new ObjectMapper()
+				.writeValueAsString(new ErrorDTO(404, "There is no billing run for the given billing period.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(billingRunController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/billingruns/2099-11").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotFound()).andExpect(content().json(errorJson, true));
+	}
+
+	@Test
+	void testGetBillingRun() throws Exception {
+		when(billingService.getByBillingPeriod("2099-12")).thenReturn(billingRunDTO);
+
+		String billingRunJson = "{\"billingPeriod\": \"2099-12\", \"status\": \"Running\", \"partitions\": 4, "
+				+ "\"completedPartitions\": 1, \"rentsCreated\": 250}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(billingRunController).build();
+		mockMvc.perform(get("/api/billingruns/2099-12").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(content().json(billingRunJson, true));
+	}
+
+	@Test
+	void testStartBillingRun() throws Exception {
+		when(billingService.start("2099-12")).thenReturn(billingRunDTO);
+
+		String billingRunJson = new ObjectMapper().writeValueAsString(billingRunDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(billingRunController).build();
+		mockMvc.perform(post("/api/billingruns/2099-12").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isAccepted()).andExpect(header().string("Location", "/api/billingruns/2099-12"))
+				.andExpect(content().json(billingRunJson));
+	}
+
+	@Test
+	void testStartBillingRunInProgress() throws Exception {
+		when(billingService.start("2099-12")).thenThrow(
+				new ConflictException("The billing run for the given billing period is already in progress."));
+
+		String errorJson = new ObjectMapper().writeValueAsString(
+				new ErrorDTO(409, "The billing run for the given billing period is already in progress.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(billingRunController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/billingruns/2099-12").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isConflict()).andExpect(content().json(errorJson, true));
+	}
+}
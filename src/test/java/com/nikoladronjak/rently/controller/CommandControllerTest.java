@@ -0,0 +1,55 @@
+package com.nikoladronjak.rently.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.dto.CommandStatusDTO;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.service.AsyncWriteService;
+
+@SpringBootTest
+class CommandControllerTest {
+
+	@Mock
+	private AsyncWriteService asyncWriteService;
+
+	@InjectMocks
+	private CommandController commandController;
+
+	@Test
+	void testGetCommandStatus() throws Exception {
+		CommandStatusDTO commandStatusDTO = new CommandStatusDTO("1", CommandStatusDTO.Status.Completed, 200, "done");
+		when(asyncWriteService.getStatus("1")).thenReturn(commandStatusDTO);
+
+		String commandStatusJson = new ObjectMapper().writeValueAsString(commandStatusDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(commandController).build();
+		mockMvc.perform(get("/api/commands/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
+				.andExpect(content().json(commandStatusJson));
+	}
+
+	@Test
+	void testGetCommandStatusBadId() throws Exception {
+		when(asyncWriteService.getStatus("1")).thenThrow(new NotFoundException("There is no command with the given id."));
+
+		String errorJson = new ObjectMapper().writeValueAsString(
+				new ErrorDTO(HttpStatus.NOT_FOUND.value(), "There is no command with the given id.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(commandController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/commands/1").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotFound()).andExpect(content().json(errorJson, true));
+	}
+}
@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,7 +20,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -64,15 +64,15 @@ class CustomerControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetAllCustomers() throws Exception {
 		List<Customer> customers = new ArrayList<Customer>();
 		customers.add(customer1);
 		customers.add(customer2);
-		when(customerService.getAll()).thenReturn((ResponseEntity) ResponseEntity.ok(customers));
+		List<CustomerDTO> customerDTOs = customers.stream().map(this::convertToDTO).collect(Collectors.toList());
+		when(customerService.getAll()).thenReturn(customerDTOs);
 
-		String customersJson = new ObjectMapper().writeValueAsString(customers);
+		String customersJson = new ObjectMapper().writeValueAsString(customerDTOs);
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(customerController).build();
 		mockMvc.perform(get("/api/customers").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(customersJson));
@@ -90,12 +90,11 @@ class CustomerControllerTest {
 
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetCustomerById() throws Exception {
-		when(customerService.getById(1)).thenReturn((ResponseEntity) ResponseEntity.ok(customer1));
+		when(customerService.getById(1)).thenReturn(convertToDTO(customer1));
 
-		String customerJson = new ObjectMapper().writeValueAsString(customer1);
+		String customerJson = new ObjectMapper().writeValueAsString(convertToDTO(customer1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(customerController).build();
 		mockMvc.perform(get("/api/customers/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(customerJson));
@@ -110,10 +109,9 @@ class CustomerControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testAddCustomer() throws Exception {
-		when(customerService.add(convertToDTO(customer1))).thenReturn((ResponseEntity) ResponseEntity.ok(customer1));
+		when(customerService.add(convertToDTO(customer1))).thenReturn(convertToDTO(customer1));
 
 		String customerJson = new ObjectMapper().writeValueAsString(convertToDTO(customer1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(customerController).build();
@@ -130,11 +128,9 @@ class CustomerControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testUpdateCustomer() throws Exception {
-		when(customerService.update(1, convertToDTO(customer1)))
-				.thenReturn((ResponseEntity) ResponseEntity.ok(customer1));
+		when(customerService.update(1, convertToDTO(customer1))).thenReturn(convertToDTO(customer1));
 
 		String customerJson = new ObjectMapper().writeValueAsString(convertToDTO(customer1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(customerController).build();
@@ -153,12 +149,11 @@ class CustomerControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testDeleteCustomer() throws Exception {
-		when(customerService.delete(1)).thenReturn((ResponseEntity) ResponseEntity.ok(customer1));
+		when(customerService.delete(1)).thenReturn(convertToDTO(customer1));
 
-		String customerJson = new ObjectMapper().writeValueAsString(customer1);
+		String customerJson = new ObjectMapper().writeValueAsString(convertToDTO(customer1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(customerController).build();
 		mockMvc.perform(delete("/api/customers/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(customerJson));
@@ -166,6 +161,7 @@ class CustomerControllerTest {
 
 	private CustomerDTO convertToDTO(Customer customer) {
 		CustomerDTO customerDTO = new CustomerDTO();
+		customerDTO.setCustomerId(customer.getCustomerId());
 		customerDTO.setFirstName(customer.getFirstName());
 		customerDTO.setLastName(customer.getLastName());
 		customerDTO.setEmail(customer.getEmail());
@@ -0,0 +1,165 @@
+package com.nikoladronjak.rently.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.dto.EventBookingDTO;
+import com.nikoladronjak.rently.dto.EventSlotDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.service.EventBookingService;
+
+@SpringBootTest
+class EventBookingControllerTest {
+
+	EventBookingDTO eventBookingDTO;
+
+	@Mock
+	private EventBookingService eventBookingService;
+
+	@InjectMocks
+	private EventBookingController eventBookingController;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		eventBookingDTO = new EventBookingDTO(1, 1, new GregorianCalendar(2099, 11, 12), 10, 14);
+		eventBookingDTO.setEventBookingId(1);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		eventBookingDTO = null;
+	}
+
+	@Test
+	void testGetAllEventBookings() throws Exception {
+		when(eventBookingService.getAll()).thenReturn(List.of(eventBookingDTO));
+
+		String eventBookingsJson = new ObjectMapper().writeValueAsString(List.of(eventBookingDTO));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(eventBookingController).build();
+		mockMvc.perform(get("/api/eventbookings").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
+				.andExpect(content().json(eventBookingsJson));
+	}
+
+	@Test
+	void testGetAllEventBookingsByEventSpaceId() throws Exception {
+		when(eventBookingService.getAllByEventSpaceId(1)).thenReturn(List.of(eventBookingDTO));
+
+		String eventBookingsJson = new ObjectMapper().writeValueAsString(List.of(eventBookingDTO));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(eventBookingController).build();
+		mockMvc.perform(get("/api/eventbookings/eventspace/1").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(content().json(eventBookingsJson));
+	}
+
+	@Test
+	void testGetEventBookingByIdNotFound() throws Exception {
+		when(eventBookingService.getById(1))
+				.thenThrow(new NotFoundException("There is no event booking with the given id."));
+
+		String errorJson = new ObjectMapper()
+				.writeValueAsString(new ErrorDTO(404, "There is no event booking with the given id.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(eventBookingController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/eventbookings/1").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotFound()).andExpect(content().json(errorJson, true));
+	}
+
+	@Test
+	void testAddEventBooking() throws Exception {
+		when(eventBookingService.add(any(EventBookingDTO.class))).thenReturn(eventBookingDTO);
+
+		String eventBookingJson = new ObjectMapper().writeValueAsString(eventBookingDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(eventBookingController).build();
+		mockMvc.perform(post("/api/eventbookings").contentType(MediaType.APPLICATION_JSON).content(eventBookingJson))
+				.andExpect(status().isOk()).andExpect(content().json(eventBookingJson));
+	}
+
+	@Test
+	void testAddEventBookingOverlapping() throws Exception {
+		when(eventBookingService.add(any(EventBookingDTO.class)))
+				.thenThrow(new ConflictException("The event space is already booked for the given hours."));
+
+		String eventBookingJson = new ObjectMapper().writeValueAsString(eventBookingDTO);
+		String errorJson = new ObjectMapper()
+				.writeValueAsString(new ErrorDTO(409, "The event space is already booked for the given hours.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(eventBookingController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/eventbookings").contentType(MediaType.APPLICATION_JSON).content(eventBookingJson))
+				.andExpect(status().isConflict()).andExpect(content().json(errorJson, true));
+	}
+
+	@Test
+	void testAddEventBookingInvalidHours() throws Exception {
+		eventBookingDTO.setStartHour(24);
+		eventBookingDTO.setEndHour(null);
+
+		String eventBookingJson = new ObjectMapper().writeValueAsString(eventBookingDTO);
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"startHour\": \"The start hour of the booking has to be between 0 and 23.\", "
+				+ "\"endHour\": \"The end hour of the booking is required.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(eventBookingController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/eventbookings").contentType(MediaType.APPLICATION_JSON).content(eventBookingJson))
+				.andExpect(status().isBadRequest()).andExpect(content().json(errorsJson, true));
+		verify(eventBookingService, never()).add(any(EventBookingDTO.class));
+	}
+
+	@Test
+	void testGetFreeSlots() throws Exception {
+		LocalDate date = LocalDate.of(2099, 12, 12);
+		when(eventBookingService.getFreeSlots(1, date, date.plusDays(1)))
+				.thenReturn(List.of(new EventSlotDTO(date, 0, 10), new EventSlotDTO(date, 14, 24)));
+
+		String slotsJson = "[{\"date\": \"2099-12-12\", \"startHour\": 0, \"endHour\": 10}, "
+				+ "{\"date\": \"2099-12-12\", \"startHour\": 14, \"endHour\": 24}]";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(eventBookingController).build();
+		mockMvc.perform(get("/api/eventbookings/eventspace/1/slots").param("startDate", "2099-12-12")
+				.param("endDate", "2099-12-13")).andExpect(status().isOk()).andExpect(content().json(slotsJson, true));
+	}
+
+	@Test
+	void testGetNextSlot() throws Exception {
+		LocalDate date = LocalDate.of(2099, 12, 12);
+		when(eventBookingService.findNextSlot(1, date, 8, 4)).thenReturn(new EventSlotDTO(date, 14, 18));
+
+		String slotJson = "{\"date\": \"2099-12-12\", \"startHour\": 14, \"endHour\": 18}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(eventBookingController).build();
+		mockMvc.perform(get("/api/eventbookings/eventspace/1/next-slot").param("date", "2099-12-12")
+				.param("fromHour", "8").param("hours", "4")).andExpect(status().isOk())
+				.andExpect(content().json(slotJson, true));
+	}
+
+	@Test
+	void testDeleteEventBooking() throws Exception {
+		when(eventBookingService.delete(1)).thenReturn(eventBookingDTO);
+
+		String eventBookingJson = new ObjectMapper().writeValueAsString(eventBookingDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(eventBookingController).build();
+		mockMvc.perform(delete("/api/eventbookings/1").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(content().json(eventBookingJson));
+	}
+}
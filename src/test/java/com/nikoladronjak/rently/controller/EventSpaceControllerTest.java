@@ -20,7 +20,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -86,14 +85,13 @@ class EventSpaceControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetAllEventSpaces() throws Exception {
 		List<EventSpace> eventSpaces = new ArrayList<EventSpace>();
 		eventSpaces.add(eventSpace1);
 		eventSpaces.add(eventSpace2);
-		when(eventSpaceService.getAll()).thenReturn((ResponseEntity) ResponseEntity
-				.ok(eventSpaces.stream().map(this::convertToDTO).collect(Collectors.toList())));
+		when(eventSpaceService.getAll())
+				.thenReturn(eventSpaces.stream().map(this::convertToDTO).collect(Collectors.toList()));
 
 		String eventSpacesJson = new ObjectMapper()
 				.writeValueAsString(eventSpaces.stream().map(this::convertToDTO).collect(Collectors.toList()));
@@ -114,10 +112,9 @@ class EventSpaceControllerTest {
 
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetEventSpaceById() throws Exception {
-		when(eventSpaceService.getById(1)).thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(eventSpace1)));
+		when(eventSpaceService.getById(1)).thenReturn(convertToDTO(eventSpace1));
 
 		String eventSpaceJson = new ObjectMapper().writeValueAsString(convertToDTO(eventSpace1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(eventSpaceController).build();
@@ -134,11 +131,9 @@ class EventSpaceControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testAddEventSpace() throws Exception {
-		when(eventSpaceService.add(convertToDTO(eventSpace1)))
-				.thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(eventSpace1)));
+		when(eventSpaceService.add(convertToDTO(eventSpace1))).thenReturn(convertToDTO(eventSpace1));
 
 		String eventSpaceJson = new ObjectMapper().writeValueAsString(convertToDTO(eventSpace1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(eventSpaceController).build();
@@ -155,11 +150,9 @@ class EventSpaceControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testUpdateEventSpace() throws Exception {
-		when(eventSpaceService.update(1, convertToDTO(eventSpace1)))
-				.thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(eventSpace1)));
+		when(eventSpaceService.update(1, convertToDTO(eventSpace1))).thenReturn(convertToDTO(eventSpace1));
 
 		String eventSpaceJson = new ObjectMapper().writeValueAsString(convertToDTO(eventSpace1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(eventSpaceController).build();
@@ -178,12 +171,11 @@ class EventSpaceControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testDeleteEventSpace() throws Exception {
-		when(eventSpaceService.delete(1)).thenReturn((ResponseEntity) ResponseEntity.ok(eventSpace1));
+		when(eventSpaceService.delete(1)).thenReturn(convertToDTO(eventSpace1));
 
-		String eventSpaceJson = new ObjectMapper().writeValueAsString(eventSpace1);
+		String eventSpaceJson = new ObjectMapper().writeValueAsString(convertToDTO(eventSpace1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(eventSpaceController).build();
 		mockMvc.perform(delete("/api/eventspaces/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(eventSpaceJson));
@@ -3,6 +3,8 @@ package com.nikoladronjak.rently.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -14,6 +16,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.util.ArrayList;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +25,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -32,7 +34,11 @@ import com.nikoladronjak.rently.domain.HeatingType;
 import com.nikoladronjak.rently.domain.Lease;
 import com.nikoladronjak.rently.domain.Owner;
 import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.dto.ErrorDTO;
 import com.nikoladronjak.rently.dto.LeaseDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
 import com.nikoladronjak.rently.service.LeaseService;
 
 @SpringBootTest
@@ -71,9 +77,9 @@ class LeaseControllerTest {
 
 		customer = new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null);
 
-		lease1 = new Lease(1, 400, new GregorianCalendar(2024, 11, 12), new GregorianCalendar(2025, 11, 31), residence1,
+		lease1 = new Lease(1, 400, new GregorianCalendar(2099, 11, 12), new GregorianCalendar(2100, 11, 31), residence1,
 				customer, null);
-		lease2 = new Lease(2, 400, new GregorianCalendar(2024, 11, 12), new GregorianCalendar(2025, 11, 31), residence2,
+		lease2 = new Lease(2, 400, new GregorianCalendar(2099, 11, 12), new GregorianCalendar(2100, 11, 31), residence2,
 				customer, null);
 	}
 
@@ -101,15 +107,15 @@ class LeaseControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetAllLeases() throws Exception {
 		List<Lease> leases = new ArrayList<Lease>();
 		leases.add(lease1);
 		leases.add(lease2);
-		when(leaseService.getAll()).thenReturn((ResponseEntity) ResponseEntity.ok(leases));
+		List<LeaseDTO> leaseDTOs = leases.stream().map(this::convertToDTO).collect(Collectors.toList());
+		when(leaseService.getAll()).thenReturn(leaseDTOs);
 
-		String leasesJson = new ObjectMapper().writeValueAsString(leases);
+		String leasesJson = new ObjectMapper().writeValueAsString(leaseDTOs);
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(leaseController).build();
 		mockMvc.perform(get("/api/leases").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(leasesJson));
@@ -126,14 +132,14 @@ class LeaseControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetAllLeasesByPropertyId() throws Exception {
 		List<Lease> leases = new ArrayList<Lease>();
 		leases.add(lease1);
-		when(leaseService.getAllByPropertyId(1)).thenReturn((ResponseEntity) ResponseEntity.ok(leases));
+		List<LeaseDTO> leaseDTOs = leases.stream().map(this::convertToDTO).collect(Collectors.toList());
+		when(leaseService.getAllByPropertyId(1)).thenReturn(leaseDTOs);
 
-		String leasesJson = new ObjectMapper().writeValueAsString(leases);
+		String leasesJson = new ObjectMapper().writeValueAsString(leaseDTOs);
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(leaseController).build();
 		mockMvc.perform(get("/api/leases/property/1").contentType(MediaType.APPLICATION_JSON))
 				.andExpect(status().isOk()).andExpect(content().json(leasesJson));
@@ -150,14 +156,14 @@ class LeaseControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetAllLeasesByCustomerId() throws Exception {
 		List<Lease> leases = new ArrayList<Lease>();
 		leases.add(lease1);
-		when(leaseService.getAllByCustomerId(1)).thenReturn((ResponseEntity) ResponseEntity.ok(leases));
+		List<LeaseDTO> leaseDTOs = leases.stream().map(this::convertToDTO).collect(Collectors.toList());
+		when(leaseService.getAllByCustomerId(1)).thenReturn(leaseDTOs);
 
-		String leasesJson = new ObjectMapper().writeValueAsString(leases);
+		String leasesJson = new ObjectMapper().writeValueAsString(leaseDTOs);
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(leaseController).build();
 		mockMvc.perform(get("/api/leases/customer/1").contentType(MediaType.APPLICATION_JSON))
 				.andExpect(status().isOk()).andExpect(content().json(leasesJson));
@@ -174,10 +180,9 @@ class LeaseControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetLeaseById() throws Exception {
-		when(leaseService.getById(1)).thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(lease1)));
+		when(leaseService.getById(1)).thenReturn(convertToDTO(lease1));
 
 		String leaseJson = new ObjectMapper().writeValueAsString(convertToDTO(lease1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(leaseController).build();
@@ -185,6 +190,18 @@ class LeaseControllerTest {
 				.andExpect(content().json(leaseJson));
 	}
 
+	@Test
+	void testGetLeaseByIdNotFound() throws Exception {
+		when(leaseService.getById(1)).thenThrow(new NotFoundException("There is no lease with the given id."));
+
+		String errorJson = new ObjectMapper()
+				.writeValueAsString(new ErrorDTO(404, "There is no lease with the given id.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(leaseController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/leases/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isNotFound())
+				.andExpect(content().json(errorJson, true));
+	}
+
 	@Test
 	void testAddLeaseError() throws Exception {
 		lenient().when(leaseService.add(convertToDTO(lease1))).thenThrow(new RuntimeException());
@@ -193,11 +210,9 @@ class LeaseControllerTest {
 		mockMvc.perform(post("/api/leases").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testAddLease() throws Exception {
-		when(leaseService.add(any(LeaseDTO.class)))
-				.thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(lease1)));
+		when(leaseService.add(any(LeaseDTO.class))).thenReturn(convertToDTO(lease1));
 
 		String leaseJson = new ObjectMapper().writeValueAsString(convertToDTO(lease1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(leaseController).build();
@@ -205,6 +220,65 @@ class LeaseControllerTest {
 				.andExpect(status().isOk()).andExpect(content().json(leaseJson));
 	}
 
+	@Test
+	void testAddLeasePropertyUnavailable() throws Exception {
+		when(leaseService.add(any(LeaseDTO.class)))
+				.thenThrow(new ConflictException("This property is currently unavailable."));
+
+		String leaseJson = new ObjectMapper().writeValueAsString(convertToDTO(lease1));
+		String errorJson = new ObjectMapper()
+				.writeValueAsString(new ErrorDTO(409, "This property is currently unavailable.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(leaseController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/leases").contentType(MediaType.APPLICATION_JSON).content(leaseJson))
+				.andExpect(status().isConflict()).andExpect(content().json(errorJson, true));
+	}
+
+	@Test
+	void testAddLeaseMissingFields() throws Exception {
+		LeaseDTO leaseDTO = convertToDTO(lease1);
+		leaseDTO.setPropertyId(null);
+		leaseDTO.setStartDate(null);
+
+		String leaseJson = new ObjectMapper().writeValueAsString(leaseDTO);
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"propertyId\": \"You have to specify the property which is being leased.\", "
+				+ "\"startDate\": \"The start date of the lease is required.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(leaseController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/leases").contentType(MediaType.APPLICATION_JSON).content(leaseJson))
+				.andExpect(status().isBadRequest()).andExpect(content().json(errorsJson, true));
+		verify(leaseService, never()).add(any(LeaseDTO.class));
+	}
+
+	@Test
+	void testAddLeaseStartDateAfterEndDate() throws Exception {
+		LeaseDTO leaseDTO = convertToDTO(lease1);
+		leaseDTO.setStartDate(new GregorianCalendar(2101, 0, 1));
+
+		String leaseJson = new ObjectMapper().writeValueAsString(leaseDTO);
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"endDate\": \"The start date of the lease has to be before the end date of the lease.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(leaseController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/leases").contentType(MediaType.APPLICATION_JSON).content(leaseJson))
+				.andExpect(status().isBadRequest()).andExpect(content().json(errorsJson, true));
+		verify(leaseService, never()).add(any(LeaseDTO.class));
+	}
+
+	@Test
+	void testUpdateLeaseStartDateAfterEndDate() throws Exception {
+		LeaseDTO leaseDTO = convertToDTO(lease1);
+		leaseDTO.setStartDate(new GregorianCalendar(2101, 0, 1));
+
+		String leaseJson = new ObjectMapper().writeValueAsString(leaseDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(leaseController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(put("/api/leases/1").contentType(MediaType.APPLICATION_JSON).content(leaseJson))
+				.andExpect(status().isBadRequest());
+		verify(leaseService, never()).update(eq(1), any(LeaseDTO.class));
+	}
+
 	@Test
 	void testUpdateLeaseError() throws Exception {
 		lenient().when(leaseService.update(1, convertToDTO(lease1))).thenThrow(new RuntimeException());
@@ -214,11 +288,9 @@ class LeaseControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testUpdateLease() throws Exception {
-		when(leaseService.update(eq(1), any(LeaseDTO.class)))
-				.thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(lease1)));
+		when(leaseService.update(eq(1), any(LeaseDTO.class))).thenReturn(convertToDTO(lease1));
 
 		String leaseJson = new ObjectMapper().writeValueAsString(convertToDTO(lease1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(leaseController).build();
@@ -237,12 +309,11 @@ class LeaseControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testDeleteLease() throws Exception {
-		when(leaseService.delete(1)).thenReturn((ResponseEntity) ResponseEntity.ok(lease1));
+		when(leaseService.delete(1)).thenReturn(convertToDTO(lease1));
 
-		String leaseJson = new ObjectMapper().writeValueAsString(lease1);
+		String leaseJson = new ObjectMapper().writeValueAsString(convertToDTO(lease1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(leaseController).build();
 		mockMvc.perform(delete("/api/leases/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(leaseJson));
@@ -250,6 +321,7 @@ class LeaseControllerTest {
 
 	private LeaseDTO convertToDTO(Lease lease) {
 		LeaseDTO leaseDTO = new LeaseDTO();
+		leaseDTO.setLeaseId(lease.getLeaseId());
 		leaseDTO.setPropertyId(lease.getProperty().getPropertyId());
 		leaseDTO.setCustomerId(lease.getCustomer().getCustomerId());
 		leaseDTO.setRentalRate(lease.getRentalRate());
@@ -0,0 +1,128 @@
+package com.nikoladronjak.rently.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.domain.LedgerAccountType;
+import com.nikoladronjak.rently.domain.LedgerEntryType;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.dto.LedgerBalanceDTO;
+import com.nikoladronjak.rently.dto.LedgerEntryDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.service.LedgerService;
+
+@SpringBootTest
+class LedgerControllerTest {
+
+	LedgerEntryDTO ledgerEntryDTO;
+
+	LedgerBalanceDTO ledgerBalanceDTO;
+
+	@Mock
+	private LedgerService ledgerService;
+
+	@InjectMocks
+	private LedgerController ledgerController;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		ledgerEntryDTO = new LedgerEntryDTO(null, 1, LedgerEntryType.Payment, (double) 200, "Bank transfer", null,
+				null, null);
+		ledgerBalanceDTO = new LedgerBalanceDTO(LedgerAccountType.Lease, 1, 100);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		ledgerEntryDTO = null;
+		ledgerBalanceDTO = null;
+	}
+
+	@Test
+	void testGetLedgerEntriesByRentId() throws Exception {
+		when(ledgerService.getAllByRentId(1)).thenReturn(List.of(ledgerEntryDTO));
+
+		String ledgerEntriesJson = new ObjectMapper().writeValueAsString(List.of(ledgerEntryDTO));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(ledgerController).build();
+		mockMvc.perform(get("/api/ledger/rent/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
+				.andExpect(content().json(ledgerEntriesJson));
+	}
+
+	@Test
+	void testGetCustomerBalance() throws Exception {
+		LedgerBalanceDTO customerBalanceDTO = new LedgerBalanceDTO(LedgerAccountType.Customer, 1, 100);
+		when(ledgerService.getBalance(LedgerAccountType.Customer, 1)).thenReturn(customerBalanceDTO);
+
+		String ledgerBalanceJson = "{\"accountType\": \"Customer\", \"accountId\": 1, \"balance\": 100.0}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(ledgerController).build();
+		mockMvc.perform(get("/api/ledger/customer/1/balance").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(content().json(ledgerBalanceJson, true));
+	}
+
+	@Test
+	void testGetCustomerBalanceNotFound() throws Exception {
+		when(ledgerService.getBalance(LedgerAccountType.Customer, 1))
+				.thenThrow(new NotFoundException("There is no customer with the given id."));
+
+		String errorJson = new ObjectMapper()
+				.writeValueAsString(new ErrorDTO(404, "There is no customer with the given id.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(ledgerController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/ledger/customer/1/balance").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotFound()).andExpect(content().json(errorJson, true));
+	}
+
+	@Test
+	void testGetOverdueLeases() throws Exception {
+		when(ledgerService.getOverdueLeases(1)).thenReturn(List.of(ledgerBalanceDTO));
+
+		String ledgerBalancesJson = new ObjectMapper().writeValueAsString(List.of(ledgerBalanceDTO));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(ledgerController).build();
+		mockMvc.perform(get("/api/ledger/owner/1/overdue").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(content().json(ledgerBalancesJson));
+	}
+
+	@Test
+	void testPostLedgerEntry() throws Exception {
+		LedgerEntryDTO postedLedgerEntryDTO = new LedgerEntryDTO(1, 1, LedgerEntryType.Payment, (double) 200,
+				"Bank transfer", null, 1, 1);
+		when(ledgerService.post(ledgerEntryDTO)).thenReturn(postedLedgerEntryDTO);
+
+		String ledgerEntryJson = new ObjectMapper().writeValueAsString(ledgerEntryDTO);
+		String postedLedgerEntryJson = new ObjectMapper().writeValueAsString(postedLedgerEntryDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(ledgerController).build();
+		mockMvc.perform(post("/api/ledger").contentType(MediaType.APPLICATION_JSON).content(ledgerEntryJson))
+				.andExpect(status().isOk()).andExpect(content().json(postedLedgerEntryJson));
+	}
+
+	@Test
+	void testPostLedgerEntryMissingFields() throws Exception {
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"rentId\": \"You have to specify the rent to which the entry is posted.\", "
+				+ "\"type\": \"The type of the ledger entry is required.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(ledgerController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/ledger").contentType(MediaType.APPLICATION_JSON).content("{\"amount\": 200}"))
+				.andExpect(status().isBadRequest()).andExpect(content().json(errorsJson, true));
+		verify(ledgerService, never()).post(any(LedgerEntryDTO.class));
+	}
+}
@@ -0,0 +1,119 @@
+package com.nikoladronjak.rently.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.domain.RollupGranularity;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.dto.MeterReadingBatchResultDTO;
+import com.nikoladronjak.rently.dto.MeterReadingDTO;
+import com.nikoladronjak.rently.dto.MeterReadingRollupDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.service.MeterReadingService;
+
+@SpringBootTest
+class MeterReadingControllerTest {
+
+	static final Instant FROM = Instant.parse("2030-01-31T00:00:00Z");
+
+	static final Instant TO = Instant.parse("2030-02-01T00:00:00Z");
+
+	MeterReadingDTO meterReadingDTO;
+
+	@Mock
+	private MeterReadingService meterReadingService;
+
+	@InjectMocks
+	private MeterReadingController meterReadingController;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		meterReadingDTO = new MeterReadingDTO(1, FROM, 1.5);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		meterReadingDTO = null;
+	}
+
+	@Test
+	void testGetReadings() throws Exception {
+		when(meterReadingService.getReadings(1, FROM, TO)).thenReturn(List.of(meterReadingDTO));
+
+		String readingsJson = new ObjectMapper().findAndRegisterModules().writeValueAsString(List.of(meterReadingDTO));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(meterReadingController).build();
+		mockMvc.perform(get("/api/meterreadings/1").param("from", FROM.toString()).param("to", TO.toString()))
+				.andExpect(status().isOk()).andExpect(content().json(readingsJson, true));
+	}
+
+	@Test
+	void testGetRollups() throws Exception {
+		when(meterReadingService.getRollups(1, RollupGranularity.Day, FROM, TO))
+				.thenReturn(List.of(new MeterReadingRollupDTO(1, RollupGranularity.Day, FROM, 24, 36, 1, 2)));
+
+		String rollupsJson = new ObjectMapper().findAndRegisterModules()
+				.writeValueAsString(List.of(new MeterReadingRollupDTO(1, RollupGranularity.Day, FROM, 24, 36, 1, 2)));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(meterReadingController).build();
+		mockMvc.perform(get("/api/meterreadings/1/rollups").param("granularity", "Day").param("from", FROM.toString())
+				.param("to", TO.toString())).andExpect(status().isOk()).andExpect(content().json(rollupsJson, true));
+	}
+
+	@Test
+	void testIngestReadings() throws Exception {
+		when(meterReadingService.ingest(List.of(meterReadingDTO))).thenReturn(new MeterReadingBatchResultDTO(1, 1, 0));
+
+		String batchJson = "{\"readings\": [{\"utilityLeaseId\": 1, \"timestamp\": \"2030-01-31T00:00:00Z\", "
+				+ "\"value\": 1.5}]}";
+		String resultJson = new ObjectMapper().writeValueAsString(new MeterReadingBatchResultDTO(1, 1, 0));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(meterReadingController).build();
+		mockMvc.perform(post("/api/meterreadings").contentType(MediaType.APPLICATION_JSON).content(batchJson))
+				.andExpect(status().isOk()).andExpect(content().json(resultJson, true));
+	}
+
+	@Test
+	void testIngestReadingsEmptyBatch() throws Exception {
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"readings\": \"The batch has to contain at least one reading.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(meterReadingController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/meterreadings").contentType(MediaType.APPLICATION_JSON).content("{\"readings\": []}"))
+				.andExpect(status().isBadRequest()).andExpect(content().json(errorsJson, true));
+		verify(meterReadingService, never()).ingest(any());
+	}
+
+	@Test
+	void testIngestReadingsUnknownUtilityLease() throws Exception {
+		when(meterReadingService.ingest(List.of(meterReadingDTO)))
+				.thenThrow(new NotFoundException("There is no utility lease for the utilityLeaseId: 1"));
+
+		String batchJson = "{\"readings\": [{\"utilityLeaseId\": 1, \"timestamp\": \"2030-01-31T00:00:00Z\", "
+				+ "\"value\": 1.5}]}";
+		String errorJson = new ObjectMapper()
+				.writeValueAsString(new ErrorDTO(404, "There is no utility lease for the utilityLeaseId: 1", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(meterReadingController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/meterreadings").contentType(MediaType.APPLICATION_JSON).content(batchJson))
+				.andExpect(status().isNotFound()).andExpect(content().json(errorJson, true));
+	}
+}
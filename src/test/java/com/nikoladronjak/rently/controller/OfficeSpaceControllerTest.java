@@ -20,7 +20,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -85,14 +84,13 @@ class OfficeSpaceControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetAllOfficeSpaces() throws Exception {
 		List<OfficeSpace> officeSpaces = new ArrayList<OfficeSpace>();
 		officeSpaces.add(officeSpace1);
 		officeSpaces.add(officeSpace2);
-		when(officeSpaceService.getAll()).thenReturn((ResponseEntity) ResponseEntity
-				.ok(officeSpaces.stream().map(this::convertToDTO).collect(Collectors.toList())));
+		when(officeSpaceService.getAll())
+				.thenReturn(officeSpaces.stream().map(this::convertToDTO).collect(Collectors.toList()));
 
 		String officeSpacesJson = new ObjectMapper()
 				.writeValueAsString(officeSpaces.stream().map(this::convertToDTO).collect(Collectors.toList()));
@@ -113,10 +111,9 @@ class OfficeSpaceControllerTest {
 
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetOfficeSpaceById() throws Exception {
-		when(officeSpaceService.getById(1)).thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(officeSpace1)));
+		when(officeSpaceService.getById(1)).thenReturn(convertToDTO(officeSpace1));
 
 		String officeSpaceJson = new ObjectMapper().writeValueAsString(convertToDTO(officeSpace1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(officeSpaceController).build();
@@ -133,11 +130,9 @@ class OfficeSpaceControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testAddOfficeSpace() throws Exception {
-		when(officeSpaceService.add(convertToDTO(officeSpace1)))
-				.thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(officeSpace1)));
+		when(officeSpaceService.add(convertToDTO(officeSpace1))).thenReturn(convertToDTO(officeSpace1));
 
 		String officeSpaceJson = new ObjectMapper().writeValueAsString(convertToDTO(officeSpace1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(officeSpaceController).build();
@@ -154,11 +149,9 @@ class OfficeSpaceControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testUpdateOfficeSpace() throws Exception {
-		when(officeSpaceService.update(1, convertToDTO(officeSpace1)))
-				.thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(officeSpace1)));
+		when(officeSpaceService.update(1, convertToDTO(officeSpace1))).thenReturn(convertToDTO(officeSpace1));
 
 		String officeSpaceJson = new ObjectMapper().writeValueAsString(convertToDTO(officeSpace1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(officeSpaceController).build();
@@ -177,12 +170,11 @@ class OfficeSpaceControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testDeleteOfficeSpace() throws Exception {
-		when(officeSpaceService.delete(1)).thenReturn((ResponseEntity) ResponseEntity.ok(officeSpace1));
+		when(officeSpaceService.delete(1)).thenReturn(convertToDTO(officeSpace1));
 
-		String officeSpaceJson = new ObjectMapper().writeValueAsString(officeSpace1);
+		String officeSpaceJson = new ObjectMapper().writeValueAsString(convertToDTO(officeSpace1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(officeSpaceController).build();
 		mockMvc.perform(delete("/api/officespaces/1").contentType(MediaType.APPLICATION_JSON))
 				.andExpect(status().isOk()).andExpect(content().json(officeSpaceJson));
@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,7 +22,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -67,15 +67,15 @@ class OwnerControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetAllOwners() throws Exception {
 		List<Owner> owners = new ArrayList<>();
 		owners.add(owner1);
 		owners.add(owner2);
-		when(ownerService.getAll()).thenReturn((ResponseEntity) ResponseEntity.ok(owners));
+		List<OwnerDTO> ownerDTOs = owners.stream().map(this::convertToDTO).collect(Collectors.toList());
+		when(ownerService.getAll()).thenReturn(ownerDTOs);
 
-		String ownersJson = new ObjectMapper().writeValueAsString(owners);
+		String ownersJson = new ObjectMapper().writeValueAsString(ownerDTOs);
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(ownerController).build();
 		mockMvc.perform(get("/api/owners").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(ownersJson));
@@ -93,12 +93,11 @@ class OwnerControllerTest {
 
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetOwnerById() throws Exception {
-		when(ownerService.getById(1)).thenReturn((ResponseEntity) ResponseEntity.ok(owner1));
+		when(ownerService.getById(1)).thenReturn(convertToDTO(owner1));
 
-		String ownerJson = new ObjectMapper().writeValueAsString(owner1);
+		String ownerJson = new ObjectMapper().writeValueAsString(convertToDTO(owner1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(ownerController).build();
 		mockMvc.perform(get("/api/owners/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(ownerJson));
@@ -112,10 +111,9 @@ class OwnerControllerTest {
 		mockMvc.perform(post("/api/owners").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testAddOwner() throws Exception {
-		when(ownerService.add(convertToDTO(owner1))).thenReturn((ResponseEntity) ResponseEntity.ok(owner1));
+		when(ownerService.add(convertToDTO(owner1))).thenReturn(convertToDTO(owner1));
 
 		String ownerJson = new ObjectMapper().writeValueAsString(convertToDTO(owner1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(ownerController).build();
@@ -132,10 +130,9 @@ class OwnerControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testUpdateOwner() throws Exception {
-		when(ownerService.update(1, convertToDTO(owner1))).thenReturn((ResponseEntity) ResponseEntity.ok(owner1));
+		when(ownerService.update(1, convertToDTO(owner1))).thenReturn(convertToDTO(owner1));
 
 		String ownerJson = new ObjectMapper().writeValueAsString(convertToDTO(owner1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(ownerController).build();
@@ -154,12 +151,11 @@ class OwnerControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testDeleteOwner() throws Exception {
-		when(ownerService.delete(1)).thenReturn((ResponseEntity) ResponseEntity.ok(owner1));
+		when(ownerService.delete(1)).thenReturn(convertToDTO(owner1));
 
-		String ownerJson = new ObjectMapper().writeValueAsString(owner1);
+		String ownerJson = new ObjectMapper().writeValueAsString(convertToDTO(owner1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(ownerController).build();
 		mockMvc.perform(delete("/api/owners/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(ownerJson));
@@ -167,6 +163,7 @@ class OwnerControllerTest {
 
 	private OwnerDTO convertToDTO(Owner owner) {
 		OwnerDTO ownerDTO = new OwnerDTO();
+		ownerDTO.setOwnerId(owner.getOwnerId());
 		ownerDTO.setFirstName(owner.getFirstName());
 		ownerDTO.setLastName(owner.getLastName());
 		ownerDTO.setEmail(owner.getEmail());
@@ -0,0 +1,304 @@
+package com.nikoladronjak.rently.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.dto.AutocompleteDTO;
+import com.nikoladronjak.rently.dto.AvailabilitySearchDTO;
+import com.nikoladronjak.rently.dto.CompletionDTO;
+import com.nikoladronjak.rently.dto.DuplicateAddressDTO;
+import com.nikoladronjak.rently.dto.GeoSearchDTO;
+import com.nikoladronjak.rently.dto.PropertyDTO;
+import com.nikoladronjak.rently.dto.PropertySearchDTO;
+import com.nikoladronjak.rently.dto.QuoteDTO;
+import com.nikoladronjak.rently.dto.RepricedLeaseDTO;
+import com.nikoladronjak.rently.dto.RepricedPropertyDTO;
+import com.nikoladronjak.rently.dto.RepricingDTO;
+import com.nikoladronjak.rently.dto.RepricingPreviewDTO;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.service.AutocompleteService;
+import com.nikoladronjak.rently.service.AvailabilityService;
+import com.nikoladronjak.rently.service.DuplicateAddressService;
+import com.nikoladronjak.rently.service.GeoSearchService;
+import com.nikoladronjak.rently.service.PropertySearchService;
+import com.nikoladronjak.rently.service.QuoteService;
+import com.nikoladronjak.rently.service.RepricingService;
+
+@SpringBootTest
+class PropertyControllerTest {
+
+	LocalDate startDate;
+
+	LocalDate endDate;
+
+	PropertyDTO propertyDTO;
+
+	RepricingDTO repricingDTO;
+
+	RepricingPreviewDTO repricingPreviewDTO;
+
+	@Mock
+	private AvailabilityService availabilityService;
+
+	@Mock
+	private RepricingService repricingService;
+
+	@Mock
+	private QuoteService quoteService;
+
+	@Mock
+	private PropertySearchService propertySearchService;
+
+	@Mock
+	private AutocompleteService autocompleteService;
+
+	@Mock
+	private DuplicateAddressService duplicateAddressService;
+
+	@Mock
+	private GeoSearchService geoSearchService;
+
+	@InjectMocks
+	private PropertyController propertyController;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		startDate = LocalDate.now().plusDays(10);
+		endDate = LocalDate.now().plusDays(20);
+		propertyDTO = new PropertyDTO(1, "Apartement 1", "Jove Ilica 154", "", (double) 300, 30, true, 0, photos);
+		repricingDTO = new RepricingDTO(1, PropertyType.Residence, null, null, null, 2, null, (double) 3, null, true);
+		repricingPreviewDTO = new RepricingPreviewDTO(false,
+				List.of(new RepricedPropertyDTO(1, "Apartement 1", 300, 309)),
+				List.of(new RepricedLeaseDTO(1, 1, 300, 309, List.of(1, 2))), 2);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		startDate = null;
+		endDate = null;
+		propertyDTO = null;
+		repricingDTO = null;
+		repricingPreviewDTO = null;
+	}
+
+	@Test
+	void testGetAvailableProperties() throws Exception {
+		AvailabilitySearchDTO availabilitySearchDTO = new AvailabilitySearchDTO(startDate, endDate,
+				PropertyType.Residence, (double) 200, null, null, null);
+		when(availabilityService.search(availabilitySearchDTO)).thenReturn(List.of(propertyDTO));
+
+		String propertiesJson = new ObjectMapper().writeValueAsString(List.of(propertyDTO));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController).build();
+		mockMvc.perform(get("/api/properties/available").param("startDate", startDate.toString())
+				.param("endDate", endDate.toString()).param("type", "Residence").param("minRentalRate", "200"))
+				.andExpect(status().isOk()).andExpect(content().json(propertiesJson));
+	}
+
+	@Test
+	void testGetAvailablePropertiesMissingDates() throws Exception {
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"startDate\": \"The start date is required.\", \"endDate\": \"The end date is required.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/properties/available")).andExpect(status().isBadRequest())
+				.andExpect(content().json(errorsJson, true));
+		verify(availabilityService, never()).search(any(AvailabilitySearchDTO.class));
+	}
+
+	@Test
+	void testGetAvailablePropertiesBadPeriod() throws Exception {
+		when(availabilityService.search(any(AvailabilitySearchDTO.class)))
+				.thenThrow(new UnprocessableEntityException("The start date has to be before the end date."));
+
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/properties/available").param("startDate", endDate.toString()).param("endDate",
+				startDate.toString())).andExpect(status().isUnprocessableEntity());
+	}
+
+	@Test
+	void testSearchProperties() throws Exception {
+		PropertySearchDTO propertySearchDTO = new PropertySearchDTO("balcony view", PropertyType.Residence, null,
+				(double) 400, null, null, 5);
+		when(propertySearchService.search(propertySearchDTO)).thenReturn(List.of(propertyDTO));
+
+		String propertiesJson = new ObjectMapper().writeValueAsString(List.of(propertyDTO));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController).build();
+		mockMvc.perform(get("/api/properties/search").param("q", "balcony view").param("type", "Residence")
+				.param("maxRentalRate", "400").param("limit", "5")).andExpect(status().isOk())
+				.andExpect(content().json(propertiesJson));
+	}
+
+	@Test
+	void testSearchPropertiesInvalidFields() throws Exception {
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"q\": \"The search query is required.\", "
+				+ "\"limit\": \"The number of results has to be between 1 and 100.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/properties/search").param("limit", "0")).andExpect(status().isBadRequest())
+				.andExpect(content().json(errorsJson, true));
+		verify(propertySearchService, never()).search(any(PropertySearchDTO.class));
+	}
+
+	@Test
+	void testGetNearbyProperties() throws Exception {
+		GeoSearchDTO geoSearchDTO = new GeoSearchDTO(44.8125, 20.4612, (double) 2, null, null, null, null,
+				PropertyType.Residence, null, null, null, null, 1, 10);
+		propertyDTO.setLatitude(44.8150);
+		propertyDTO.setLongitude(20.4600);
+		propertyDTO.setDistance(0.291);
+		when(geoSearchService.search(geoSearchDTO)).thenReturn(List.of(propertyDTO));
+
+		String propertiesJson = new ObjectMapper().writeValueAsString(List.of(propertyDTO));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController).build();
+		mockMvc.perform(get("/api/properties/nearby").param("latitude", "44.8125").param("longitude", "20.4612")
+				.param("radius", "2").param("type", "Residence").param("page", "1").param("pageSize", "10"))
+				.andExpect(status().isOk()).andExpect(content().json(propertiesJson));
+	}
+
+	@Test
+	void testGetNearbyPropertiesInvalidFields() throws Exception {
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"latitude\": \"The latitude has to be between -90 and 90.\", "
+				+ "\"radius\": \"The radius has to be a positive value.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/properties/nearby").param("latitude", "91").param("longitude", "20")
+				.param("radius", "0")).andExpect(status().isBadRequest()).andExpect(content().json(errorsJson, true));
+		verify(geoSearchService, never()).search(any(GeoSearchDTO.class));
+	}
+
+	@Test
+	void testAutocompleteAddresses() throws Exception {
+		List<CompletionDTO> completionDTOs = List.of(new CompletionDTO("Jove Ilica 154", 3L));
+		when(autocompleteService.completeAddresses(new AutocompleteDTO("jove", 5))).thenReturn(completionDTOs);
+
+		String completionsJson = new ObjectMapper().writeValueAsString(completionDTOs);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController).build();
+		mockMvc.perform(get("/api/properties/autocomplete").param("prefix", "jove").param("limit", "5"))
+				.andExpect(status().isOk()).andExpect(content().json(completionsJson));
+	}
+
+	@Test
+	void testAutocompleteAddressesInvalidFields() throws Exception {
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"prefix\": \"The prefix is required.\", "
+				+ "\"limit\": \"The number of completions has to be between 1 and 50.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/properties/autocomplete").param("limit", "51")).andExpect(status().isBadRequest())
+				.andExpect(content().json(errorsJson, true));
+		verify(autocompleteService, never()).completeAddresses(any(AutocompleteDTO.class));
+	}
+
+	@Test
+	void testGetDuplicateAddresses() throws Exception {
+		List<DuplicateAddressDTO> duplicateAddressDTOs = List
+				.of(new DuplicateAddressDTO(1, "12 Main St.", 2, "12 Main Street", 1.0));
+		when(duplicateAddressService.report(0.8)).thenReturn(duplicateAddressDTOs);
+
+		String duplicatesJson = new ObjectMapper().writeValueAsString(duplicateAddressDTOs);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController).build();
+		mockMvc.perform(get("/api/properties/duplicates").param("threshold", "0.8")).andExpect(status().isOk())
+				.andExpect(content().json(duplicatesJson));
+	}
+
+	@Test
+	void testGetQuote() throws Exception {
+		QuoteDTO quoteDTO = new QuoteDTO(1, startDate, endDate, List.of(1, 2), 11, 110, 22, 132);
+		when(quoteService.quote(1, startDate, endDate, List.of(1, 2))).thenReturn(quoteDTO);
+
+		String quoteJson = new ObjectMapper().findAndRegisterModules().writeValueAsString(quoteDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController).build();
+		mockMvc.perform(get("/api/properties/1/quote").param("startDate", startDate.toString())
+				.param("endDate", endDate.toString()).param("utilityLeaseIds", "1", "2")).andExpect(status().isOk())
+				.andExpect(content().json(quoteJson, true));
+	}
+
+	@Test
+	void testGetQuoteWithoutUtilityLeases() throws Exception {
+		QuoteDTO quoteDTO = new QuoteDTO(1, startDate, endDate, List.of(), 11, 110, 0, 110);
+		when(quoteService.quote(1, startDate, endDate, List.of())).thenReturn(quoteDTO);
+
+		String quoteJson = new ObjectMapper().findAndRegisterModules().writeValueAsString(quoteDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController).build();
+		mockMvc.perform(get("/api/properties/1/quote").param("startDate", startDate.toString()).param("endDate",
+				endDate.toString())).andExpect(status().isOk()).andExpect(content().json(quoteJson, true));
+	}
+
+	@Test
+	void testGetQuoteBadPeriod() throws Exception {
+		when(quoteService.quote(1, endDate, startDate, List.of()))
+				.thenThrow(new UnprocessableEntityException("The start date has to be before the end date."));
+
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/properties/1/quote").param("startDate", endDate.toString()).param("endDate",
+				startDate.toString())).andExpect(status().isUnprocessableEntity());
+	}
+
+	@Test
+	void testPreviewRepricing() throws Exception {
+		when(repricingService.preview(repricingDTO)).thenReturn(repricingPreviewDTO);
+
+		String repricingJson = new ObjectMapper().writeValueAsString(repricingDTO);
+		String repricingPreviewJson = new ObjectMapper().writeValueAsString(repricingPreviewDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController).build();
+		mockMvc.perform(post("/api/properties/repricing/preview").contentType(MediaType.APPLICATION_JSON)
+				.content(repricingJson)).andExpect(status().isOk()).andExpect(content().json(repricingPreviewJson));
+		verify(repricingService, never()).reprice(any(RepricingDTO.class));
+	}
+
+	@Test
+	void testReprice() throws Exception {
+		repricingPreviewDTO.setApplied(true);
+		when(repricingService.reprice(repricingDTO)).thenReturn(repricingPreviewDTO);
+
+		String repricingJson = new ObjectMapper().writeValueAsString(repricingDTO);
+		String repricingPreviewJson = new ObjectMapper().writeValueAsString(repricingPreviewDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController).build();
+		mockMvc.perform(post("/api/properties/repricing").contentType(MediaType.APPLICATION_JSON)
+				.content(repricingJson)).andExpect(status().isOk()).andExpect(content().json(repricingPreviewJson));
+	}
+
+	@Test
+	void testRepriceBadPercentage() throws Exception {
+		repricingDTO.setPercentage((double) -100);
+
+		String repricingJson = new ObjectMapper().writeValueAsString(repricingDTO);
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"percentage\": \"The percentage has to be greater than -100.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(propertyController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/properties/repricing").contentType(MediaType.APPLICATION_JSON)
+				.content(repricingJson)).andExpect(status().isBadRequest()).andExpect(content().json(errorsJson, true));
+		verify(repricingService, never()).reprice(any(RepricingDTO.class));
+	}
+}
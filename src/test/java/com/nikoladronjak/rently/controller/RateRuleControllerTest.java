@@ -0,0 +1,135 @@
+package com.nikoladronjak.rently.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.dto.RateRuleDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.service.RateRuleService;
+
+@SpringBootTest
+class RateRuleControllerTest {
+
+	RateRuleDTO rateRuleDTO;
+
+	@Mock
+	private RateRuleService rateRuleService;
+
+	@InjectMocks
+	private RateRuleController rateRuleController;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		rateRuleDTO = new RateRuleDTO(1, "Weekends", calendar(LocalDate.parse("2030-01-01")),
+				calendar(LocalDate.parse("2030-12-31")), List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), (double) 50,
+				1);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		rateRuleDTO = null;
+	}
+
+	@Test
+	void testGetAllRateRulesByPropertyId() throws Exception {
+		when(rateRuleService.getAllByPropertyId(1)).thenReturn(List.of(rateRuleDTO));
+
+		String rateRulesJson = new ObjectMapper().writeValueAsString(List.of(rateRuleDTO));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(rateRuleController).build();
+		mockMvc.perform(get("/api/raterules/property/1").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(content().json(rateRulesJson));
+	}
+
+	@Test
+	void testGetRateRuleByIdNotFound() throws Exception {
+		when(rateRuleService.getById(1)).thenThrow(new NotFoundException("There is no rate rule with the given id."));
+
+		String errorJson = new ObjectMapper()
+				.writeValueAsString(new ErrorDTO(404, "There is no rate rule with the given id.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(rateRuleController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/raterules/1").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotFound()).andExpect(content().json(errorJson, true));
+	}
+
+	@Test
+	void testAddRateRule() throws Exception {
+		when(rateRuleService.add(any(RateRuleDTO.class))).thenReturn(rateRuleDTO);
+
+		String rateRuleJson = new ObjectMapper().writeValueAsString(rateRuleDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(rateRuleController).build();
+		mockMvc.perform(post("/api/raterules").contentType(MediaType.APPLICATION_JSON).content(rateRuleJson))
+				.andExpect(status().isOk()).andExpect(content().json(rateRuleJson));
+	}
+
+	@Test
+	void testAddRateRuleMissingFields() throws Exception {
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"name\": \"The name of the rate rule is required.\", "
+				+ "\"dailyRate\": \"The daily rate of the rate rule is required.\"}}";
+		rateRuleDTO.setName(null);
+		rateRuleDTO.setDailyRate(null);
+
+		String rateRuleJson = new ObjectMapper().writeValueAsString(rateRuleDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(rateRuleController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/raterules").contentType(MediaType.APPLICATION_JSON).content(rateRuleJson))
+				.andExpect(status().isBadRequest()).andExpect(content().json(errorsJson, true));
+		verify(rateRuleService, never()).add(any(RateRuleDTO.class));
+	}
+
+	@Test
+	void testUpdateRateRuleBadDates() throws Exception {
+		when(rateRuleService.update(eq(1), any(RateRuleDTO.class))).thenThrow(
+				new UnprocessableEntityException("The start date of the rate rule has to be before its end date."));
+
+		String rateRuleJson = new ObjectMapper().writeValueAsString(rateRuleDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(rateRuleController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(put("/api/raterules/1").contentType(MediaType.APPLICATION_JSON).content(rateRuleJson))
+				.andExpect(status().isUnprocessableEntity());
+	}
+
+	@Test
+	void testDeleteRateRule() throws Exception {
+		when(rateRuleService.delete(1)).thenReturn(rateRuleDTO);
+
+		String rateRuleJson = new ObjectMapper().writeValueAsString(rateRuleDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(rateRuleController).build();
+		mockMvc.perform(delete("/api/raterules/1").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(content().json(rateRuleJson));
+	}
+
+	private static GregorianCalendar calendar(LocalDate date) {
+		return GregorianCalendar.from(date.atStartOfDay(ZoneId.systemDefault()));
+	}
+}
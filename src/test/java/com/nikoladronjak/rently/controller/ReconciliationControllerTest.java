@@ -0,0 +1,97 @@
+package com.nikoladronjak.rently.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.domain.ReconciliationMatchType;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.dto.ReconciliationDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.service.ReconciliationService;
+
+@SpringBootTest
+class ReconciliationControllerTest {
+
+	@TempDir
+	Path directory;
+
+	ReconciliationDTO reconciliationDTO;
+
+	@Mock
+	private ReconciliationService reconciliationService;
+
+	@InjectMocks
+	private ReconciliationController reconciliationController;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		reconciliationDTO = new ReconciliationDTO("5b0c1e52-54bb-4a43-9d1f-3f6d0f7b1a11", 2, 1, 1,
+				Map.of(ReconciliationMatchType.Rent, 1), 15);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		reconciliationDTO = null;
+	}
+
+	@Test
+	void testReconcile() throws Exception {
+		when(reconciliationService.reconcile(any(InputStream.class))).thenReturn(reconciliationDTO);
+
+		String reconciliationJson = new ObjectMapper().writeValueAsString(reconciliationDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(reconciliationController).build();
+		mockMvc.perform(post("/api/reconciliations").contentType("text/csv")
+				.content("2099-01-05,300,RENT-1,\n2099-01-05,250,RENT-2,\n")).andExpect(status().isCreated())
+				.andExpect(header().string("Location",
+						"/api/reconciliations/5b0c1e52-54bb-4a43-9d1f-3f6d0f7b1a11"))
+				.andExpect(content().json(reconciliationJson));
+	}
+
+	@Test
+	void testGetMatchedReport() throws Exception {
+		Path report = directory.resolve("matched.csv");
+		Files.writeString(report, "line,rentId\n1,1\n", StandardCharsets.UTF_8);
+		when(reconciliationService.getReport("5b0c1e52-54bb-4a43-9d1f-3f6d0f7b1a11", true)).thenReturn(report);
+
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(reconciliationController).build();
+		mockMvc.perform(get("/api/reconciliations/5b0c1e52-54bb-4a43-9d1f-3f6d0f7b1a11/matched"))
+				.andExpect(status().isOk()).andExpect(content().contentType("text/csv"))
+				.andExpect(content().string("line,rentId\n1,1\n"));
+	}
+
+	@Test
+	void testGetReconciliationNotFound() throws Exception {
+		when(reconciliationService.getById("1"))
+				.thenThrow(new NotFoundException("There is no reconciliation with the given id."));
+
+		String errorJson = new ObjectMapper()
+				.writeValueAsString(new ErrorDTO(404, "There is no reconciliation with the given id.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(reconciliationController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/reconciliations/1")).andExpect(status().isNotFound())
+				.andExpect(content().json(errorJson, true));
+	}
+}
@@ -1,5 +1,6 @@
 package com.nikoladronjak.rently.controller;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -7,8 +8,10 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.GregorianCalendar;
 import java.util.List;
@@ -33,7 +36,9 @@ import com.nikoladronjak.rently.domain.Owner;
 import com.nikoladronjak.rently.domain.Rent;
 import com.nikoladronjak.rently.domain.Utility;
 import com.nikoladronjak.rently.domain.UtilityLease;
+import com.nikoladronjak.rently.dto.CommandStatusDTO;
 import com.nikoladronjak.rently.dto.RentDTO;
+import com.nikoladronjak.rently.service.AsyncWriteService;
 import com.nikoladronjak.rently.service.RentService;
 
 @SpringBootTest
@@ -70,6 +75,9 @@ class RentControllerTest {
 	@Mock
 	private RentService rentService;
 
+	@Mock
+	private AsyncWriteService asyncWriteService;
+
 	@InjectMocks
 	private RentController rentController;
 
@@ -148,15 +156,15 @@ class RentControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetAllRents() throws Exception {
 		List<Rent> rents = new ArrayList<Rent>();
 		rents.add(rent1);
 		rents.add(rent2);
-		when(rentService.getAll()).thenReturn((ResponseEntity) ResponseEntity.ok(rents));
+		List<RentDTO> rentDTOs = rents.stream().map(this::convertToDTO).collect(Collectors.toList());
+		when(rentService.getAll()).thenReturn(rentDTOs);
 
-		String rentsJson = new ObjectMapper().writeValueAsString(rents);
+		String rentsJson = new ObjectMapper().writeValueAsString(rentDTOs);
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(rentController).build();
 		mockMvc.perform(get("/api/rents").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(rentsJson));
@@ -173,10 +181,9 @@ class RentControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetRentById() throws Exception {
-		when(rentService.getById(1)).thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(rent1)));
+		when(rentService.getById(1)).thenReturn(convertToDTO(rent1));
 
 		String rentJson = new ObjectMapper().writeValueAsString(convertToDTO(rent1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(rentController).build();
@@ -192,10 +199,9 @@ class RentControllerTest {
 		mockMvc.perform(post("/api/rents").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testAddRent() throws Exception {
-		when(rentService.add(convertToDTO(rent1))).thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(rent1)));
+		when(rentService.add(convertToDTO(rent1))).thenReturn(convertToDTO(rent1));
 
 		String rentJson = new ObjectMapper().writeValueAsString(convertToDTO(rent1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(rentController).build();
@@ -203,6 +209,19 @@ class RentControllerTest {
 				.andExpect(status().isOk()).andExpect(content().json(rentJson));
 	}
 
+	@Test
+	void testAddRentAsync() throws Exception {
+		CommandStatusDTO commandStatusDTO = new CommandStatusDTO("1", CommandStatusDTO.Status.Pending, null, null);
+		when(asyncWriteService.submit(any())).thenReturn(ResponseEntity.accepted()
+				.location(URI.create("/api/commands/1")).body(commandStatusDTO));
+
+		String rentJson = new ObjectMapper().writeValueAsString(convertToDTO(rent1));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(rentController).build();
+		mockMvc.perform(post("/api/rents?async=true").contentType(MediaType.APPLICATION_JSON).content(rentJson))
+				.andExpect(status().isAccepted()).andExpect(header().string("Location", "/api/commands/1"))
+				.andExpect(content().json(new ObjectMapper().writeValueAsString(commandStatusDTO)));
+	}
+
 	@Test
 	void testUpdateRentError() throws Exception {
 		lenient().when(rentService.update(1, convertToDTO(rent1))).thenThrow(new RuntimeException());
@@ -211,11 +230,9 @@ class RentControllerTest {
 		mockMvc.perform(put("/api/rents/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testUpdateRent() throws Exception {
-		when(rentService.update(1, convertToDTO(rent1)))
-				.thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(rent1)));
+		when(rentService.update(1, convertToDTO(rent1))).thenReturn(convertToDTO(rent1));
 
 		String rentJson = new ObjectMapper().writeValueAsString(convertToDTO(rent1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(rentController).build();
@@ -234,12 +251,11 @@ class RentControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testDeleteRent() throws Exception {
-		when(rentService.delete(1)).thenReturn((ResponseEntity) ResponseEntity.ok(rent1));
+		when(rentService.delete(1)).thenReturn(convertToDTO(rent1));
 
-		String rentJson = new ObjectMapper().writeValueAsString(rent1);
+		String rentJson = new ObjectMapper().writeValueAsString(convertToDTO(rent1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(rentController).build();
 		mockMvc.perform(delete("/api/rents/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(rentJson));
@@ -250,6 +266,7 @@ class RentControllerTest {
 				.map(utilityLease -> utilityLease.getUtilityLeaseId()).collect(Collectors.toList());
 
 		RentDTO rentDTO = new RentDTO();
+		rentDTO.setRentId(rent.getRentId());
 		rentDTO.setLeaseId(rent.getLease().getLeaseId());
 		rentDTO.setUtilityLeaseIds(utilityLeaseIds);
 		rentDTO.setTotalRent(rent.getTotalRent());
@@ -1,6 +1,9 @@
 package com.nikoladronjak.rently.controller;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -9,6 +12,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,7 +24,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -30,6 +33,7 @@ import com.nikoladronjak.rently.domain.HeatingType;
 import com.nikoladronjak.rently.domain.Owner;
 import com.nikoladronjak.rently.domain.Lease;
 import com.nikoladronjak.rently.dto.ResidenceDTO;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
 import com.nikoladronjak.rently.service.ResidenceService;
 
 @SpringBootTest
@@ -84,14 +88,13 @@ class ResidenceControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetAllResidences() throws Exception {
 		List<Residence> residences = new ArrayList<Residence>();
 		residences.add(residence1);
 		residences.add(residence2);
-		when(residenceService.getAll()).thenReturn((ResponseEntity) ResponseEntity
-				.ok(residences.stream().map(this::convertToDTO).collect(Collectors.toList())));
+		when(residenceService.getAll())
+				.thenReturn(residences.stream().map(this::convertToDTO).collect(Collectors.toList()));
 
 		String residencesJson = new ObjectMapper()
 				.writeValueAsString(residences.stream().map(this::convertToDTO).collect(Collectors.toList()));
@@ -112,10 +115,9 @@ class ResidenceControllerTest {
 
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetResidenceById() throws Exception {
-		when(residenceService.getById(1)).thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(residence1)));
+		when(residenceService.getById(1)).thenReturn(convertToDTO(residence1));
 
 		String residenceJson = new ObjectMapper().writeValueAsString(convertToDTO(residence1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(residenceController).build();
@@ -123,6 +125,19 @@ class ResidenceControllerTest {
 				.andExpect(content().json(residenceJson));
 	}
 
+	@Test
+	void testGetResidenceByIdAsOf() throws Exception {
+		Instant asOf = Instant.parse("2025-03-01T10:00:00Z");
+		when(residenceService.getById(1, asOf)).thenReturn(convertToDTO(residence1));
+
+		String residenceJson = new ObjectMapper().writeValueAsString(convertToDTO(residence1));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(residenceController).build();
+		mockMvc.perform(get("/api/residences/1").param("asOf", "2025-03-01T10:00:00Z")
+				.contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
+				.andExpect(content().json(residenceJson));
+		verify(residenceService, never()).getById(1);
+	}
+
 	@Test
 	void testAddResidenceError() throws Exception {
 		lenient().when(residenceService.add(convertToDTO(residence1))).thenThrow(new RuntimeException());
@@ -132,11 +147,9 @@ class ResidenceControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testAddResidence() throws Exception {
-		when(residenceService.add(convertToDTO(residence1)))
-				.thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(residence1)));
+		when(residenceService.add(convertToDTO(residence1))).thenReturn(convertToDTO(residence1));
 
 		String residenceJson = new ObjectMapper().writeValueAsString(convertToDTO(residence1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(residenceController).build();
@@ -144,6 +157,38 @@ class ResidenceControllerTest {
 				.andExpect(status().isOk()).andExpect(content().json(residenceJson));
 	}
 
+	@Test
+	void testAddResidenceInvalid() throws Exception {
+		ResidenceDTO residenceDTO = convertToDTO(residence1);
+		residenceDTO.setRentalRate((double) -300);
+		residenceDTO.setOwnerId(null);
+
+		String residenceJson = new ObjectMapper().writeValueAsString(residenceDTO);
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"rentalRate\": \"The rental rate of the property has to be a positive value.\", "
+				+ "\"ownerId\": \"You have to specify the owner of the property.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(residenceController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/residences").contentType(MediaType.APPLICATION_JSON).content(residenceJson))
+				.andExpect(status().isBadRequest()).andExpect(content().json(errorsJson, true));
+		verify(residenceService, never()).add(any(ResidenceDTO.class));
+	}
+
+	@Test
+	void testAddResidenceWithoutLongitude() throws Exception {
+		ResidenceDTO residenceDTO = convertToDTO(residence1);
+		residenceDTO.setLatitude(44.8160);
+
+		String residenceJson = new ObjectMapper().writeValueAsString(residenceDTO);
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"longitude\": \"The latitude and the longitude of the property have to be given together.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(residenceController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/residences").contentType(MediaType.APPLICATION_JSON).content(residenceJson))
+				.andExpect(status().isBadRequest()).andExpect(content().json(errorsJson, true));
+		verify(residenceService, never()).add(any(ResidenceDTO.class));
+	}
+
 	@Test
 	void testUpdateResidenceError() throws Exception {
 		lenient().when(residenceService.update(1, convertToDTO(residence1))).thenThrow(new RuntimeException());
@@ -153,11 +198,9 @@ class ResidenceControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testUpdateResidence() throws Exception {
-		when(residenceService.update(1, convertToDTO(residence1)))
-				.thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(residence1)));
+		when(residenceService.update(1, convertToDTO(residence1))).thenReturn(convertToDTO(residence1));
 
 		String residenceJson = new ObjectMapper().writeValueAsString(convertToDTO(residence1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(residenceController).build();
@@ -176,12 +219,11 @@ class ResidenceControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testDeleteResidence() throws Exception {
-		when(residenceService.delete(1)).thenReturn((ResponseEntity) ResponseEntity.ok(residence1));
+		when(residenceService.delete(1)).thenReturn(convertToDTO(residence1));
 
-		String residenceJson = new ObjectMapper().writeValueAsString(residence1);
+		String residenceJson = new ObjectMapper().writeValueAsString(convertToDTO(residence1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(residenceController).build();
 		mockMvc.perform(delete("/api/residences/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(residenceJson));
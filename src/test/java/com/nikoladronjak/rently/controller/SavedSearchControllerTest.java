@@ -0,0 +1,138 @@
+package com.nikoladronjak.rently.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.dto.SavedSearchDTO;
+import com.nikoladronjak.rently.dto.SearchNotificationDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.service.SavedSearchService;
+
+@SpringBootTest
+class SavedSearchControllerTest {
+
+	SavedSearchDTO savedSearchDTO;
+
+	@Mock
+	private SavedSearchService savedSearchService;
+
+	@InjectMocks
+	private SavedSearchController savedSearchController;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		savedSearchDTO = new SavedSearchDTO(1, PropertyType.Residence, null, (double) 500, 50, null, 2, null, true,
+				null, null, null);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		savedSearchDTO = null;
+	}
+
+	@Test
+	void testGetAllSavedSearchesByCustomerId() throws Exception {
+		when(savedSearchService.getAllByCustomerId(1)).thenReturn(List.of(savedSearchDTO));
+
+		String savedSearchesJson = new ObjectMapper().writeValueAsString(List.of(savedSearchDTO));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(savedSearchController).build();
+		mockMvc.perform(get("/api/savedsearches/customer/1").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(content().json(savedSearchesJson));
+	}
+
+	@Test
+	void testGetSavedSearchByIdNotFound() throws Exception {
+		when(savedSearchService.getById(1))
+				.thenThrow(new NotFoundException("There is no saved search with the given id."));
+
+		String errorJson = new ObjectMapper()
+				.writeValueAsString(new ErrorDTO(404, "There is no saved search with the given id.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(savedSearchController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/savedsearches/1").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotFound()).andExpect(content().json(errorJson, true));
+	}
+
+	@Test
+	void testGetSearchNotifications() throws Exception {
+		List<SearchNotificationDTO> searchNotificationDTOs = List.of(new SearchNotificationDTO(1, 1, 2, null));
+		when(savedSearchService.getNotifications(1)).thenReturn(searchNotificationDTOs);
+
+		String searchNotificationsJson = new ObjectMapper().writeValueAsString(searchNotificationDTOs);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(savedSearchController).build();
+		mockMvc.perform(get("/api/savedsearches/1/notifications").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(content().json(searchNotificationsJson));
+	}
+
+	@Test
+	void testAddSavedSearch() throws Exception {
+		when(savedSearchService.add(any(SavedSearchDTO.class))).thenReturn(savedSearchDTO);
+
+		String savedSearchJson = new ObjectMapper().writeValueAsString(savedSearchDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(savedSearchController).build();
+		mockMvc.perform(post("/api/savedsearches").contentType(MediaType.APPLICATION_JSON).content(savedSearchJson))
+				.andExpect(status().isOk()).andExpect(content().json(savedSearchJson));
+	}
+
+	@Test
+	void testAddSavedSearchInvalidFields() throws Exception {
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"customerId\": \"You have to specify the customer who saved the search.\", "
+				+ "\"minSize\": \"The minimum size cannot be a negative value.\"}}";
+		savedSearchDTO.setCustomerId(null);
+		savedSearchDTO.setMinSize(-1);
+
+		String savedSearchJson = new ObjectMapper().writeValueAsString(savedSearchDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(savedSearchController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/savedsearches").contentType(MediaType.APPLICATION_JSON).content(savedSearchJson))
+				.andExpect(status().isBadRequest()).andExpect(content().json(errorsJson, true));
+		verify(savedSearchService, never()).add(any(SavedSearchDTO.class));
+	}
+
+	@Test
+	void testAddSavedSearchReversedRange() throws Exception {
+		when(savedSearchService.add(any(SavedSearchDTO.class))).thenThrow(new UnprocessableEntityException(
+				"The minimum size of the search cannot be greater than its maximum."));
+
+		String savedSearchJson = new ObjectMapper().writeValueAsString(savedSearchDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(savedSearchController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/savedsearches").contentType(MediaType.APPLICATION_JSON).content(savedSearchJson))
+				.andExpect(status().isUnprocessableEntity());
+	}
+
+	@Test
+	void testDeleteSavedSearch() throws Exception {
+		when(savedSearchService.delete(1)).thenReturn(savedSearchDTO);
+
+		String savedSearchJson = new ObjectMapper().writeValueAsString(savedSearchDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(savedSearchController).build();
+		mockMvc.perform(delete("/api/savedsearches/1").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(content().json(savedSearchJson));
+	}
+}
@@ -0,0 +1,155 @@
+package com.nikoladronjak.rently.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.dto.SeatAvailabilityDTO;
+import com.nikoladronjak.rently.dto.SeatReservationDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.service.SeatReservationService;
+
+@SpringBootTest
+class SeatReservationControllerTest {
+
+	SeatReservationDTO seatReservationDTO;
+
+	@Mock
+	private SeatReservationService seatReservationService;
+
+	@InjectMocks
+	private SeatReservationController seatReservationController;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		seatReservationDTO = new SeatReservationDTO(1, 1, new GregorianCalendar(2099, 11, 12),
+				new GregorianCalendar(2099, 11, 16), 4);
+		seatReservationDTO.setSeatReservationId(1);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		seatReservationDTO = null;
+	}
+
+	@Test
+	void testGetAllSeatReservations() throws Exception {
+		when(seatReservationService.getAll()).thenReturn(List.of(seatReservationDTO));
+
+		String seatReservationsJson = new ObjectMapper().writeValueAsString(List.of(seatReservationDTO));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(seatReservationController).build();
+		mockMvc.perform(get("/api/seatreservations").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(content().json(seatReservationsJson));
+	}
+
+	@Test
+	void testGetAllSeatReservationsByOfficeSpaceId() throws Exception {
+		when(seatReservationService.getAllByOfficeSpaceId(1)).thenReturn(List.of(seatReservationDTO));
+
+		String seatReservationsJson = new ObjectMapper().writeValueAsString(List.of(seatReservationDTO));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(seatReservationController).build();
+		mockMvc.perform(get("/api/seatreservations/officespace/1").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(content().json(seatReservationsJson));
+	}
+
+	@Test
+	void testGetSeatReservationByIdNotFound() throws Exception {
+		when(seatReservationService.getById(1))
+				.thenThrow(new NotFoundException("There is no seat reservation with the given id."));
+
+		String errorJson = new ObjectMapper()
+				.writeValueAsString(new ErrorDTO(404, "There is no seat reservation with the given id.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(seatReservationController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/seatreservations/1").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotFound()).andExpect(content().json(errorJson, true));
+	}
+
+	@Test
+	void testAddSeatReservation() throws Exception {
+		when(seatReservationService.add(any(SeatReservationDTO.class))).thenReturn(seatReservationDTO);
+
+		String seatReservationJson = new ObjectMapper().writeValueAsString(seatReservationDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(seatReservationController).build();
+		mockMvc.perform(
+				post("/api/seatreservations").contentType(MediaType.APPLICATION_JSON).content(seatReservationJson))
+				.andExpect(status().isOk()).andExpect(content().json(seatReservationJson));
+	}
+
+	@Test
+	void testAddSeatReservationOverCapacity() throws Exception {
+		when(seatReservationService.add(any(SeatReservationDTO.class))).thenThrow(
+				new ConflictException("There are not enough free seats in the office space for the given dates."));
+
+		String seatReservationJson = new ObjectMapper().writeValueAsString(seatReservationDTO);
+		String errorJson = new ObjectMapper().writeValueAsString(new ErrorDTO(409,
+				"There are not enough free seats in the office space for the given dates.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(seatReservationController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(
+				post("/api/seatreservations").contentType(MediaType.APPLICATION_JSON).content(seatReservationJson))
+				.andExpect(status().isConflict()).andExpect(content().json(errorJson, true));
+	}
+
+	@Test
+	void testAddSeatReservationInvalidSeats() throws Exception {
+		seatReservationDTO.setSeats(0);
+
+		String seatReservationJson = new ObjectMapper().writeValueAsString(seatReservationDTO);
+		String errorsJson = "{\"status\": 400, \"message\": \"The request contains invalid fields.\", \"errors\": {"
+				+ "\"seats\": \"The number of seats has to be a positive value.\"}}";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(seatReservationController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(
+				post("/api/seatreservations").contentType(MediaType.APPLICATION_JSON).content(seatReservationJson))
+				.andExpect(status().isBadRequest()).andExpect(content().json(errorsJson, true));
+		verify(seatReservationService, never()).add(any(SeatReservationDTO.class));
+	}
+
+	@Test
+	void testGetSeats() throws Exception {
+		LocalDate date = LocalDate.of(2099, 12, 12);
+		when(seatReservationService.getSeats(1, date, date.plusDays(1))).thenReturn(
+				List.of(new SeatAvailabilityDTO(date, 10, 4, 6), new SeatAvailabilityDTO(date.plusDays(1), 10, 0, 10)));
+
+		String seatsJson = "[{\"date\": \"2099-12-12\", \"capacity\": 10, \"reserved\": 4, \"remaining\": 6}, "
+				+ "{\"date\": \"2099-12-13\", \"capacity\": 10, \"reserved\": 0, \"remaining\": 10}]";
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(seatReservationController).build();
+		mockMvc.perform(get("/api/seatreservations/officespace/1/seats").param("startDate", "2099-12-12")
+				.param("endDate", "2099-12-13")).andExpect(status().isOk()).andExpect(content().json(seatsJson, true));
+	}
+
+	@Test
+	void testDeleteSeatReservation() throws Exception {
+		when(seatReservationService.delete(1)).thenReturn(seatReservationDTO);
+
+		String seatReservationJson = new ObjectMapper().writeValueAsString(seatReservationDTO);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(seatReservationController).build();
+		mockMvc.perform(delete("/api/seatreservations/1").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(content().json(seatReservationJson));
+	}
+}
@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,13 +20,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nikoladronjak.rently.domain.Utility;
+import com.nikoladronjak.rently.dto.AutocompleteDTO;
+import com.nikoladronjak.rently.dto.CompletionDTO;
 import com.nikoladronjak.rently.dto.UtilityDTO;
+import com.nikoladronjak.rently.service.AutocompleteService;
 import com.nikoladronjak.rently.service.UtilityService;
 
 @SpringBootTest
@@ -38,6 +41,9 @@ class UtilityControllerTest {
 	@Mock
 	private UtilityService utilityService;
 
+	@Mock
+	private AutocompleteService autocompleteService;
+
 	@InjectMocks
 	private UtilityController utilityController;
 
@@ -64,15 +70,15 @@ class UtilityControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetAllUtilities() throws Exception {
 		List<Utility> utilities = new ArrayList<Utility>();
 		utilities.add(utility1);
 		utilities.add(utility2);
-		when(utilityService.getAll()).thenReturn((ResponseEntity) ResponseEntity.ok(utilities));
+		List<UtilityDTO> utilityDTOs = utilities.stream().map(this::convertToDTO).collect(Collectors.toList());
+		when(utilityService.getAll()).thenReturn(utilityDTOs);
 
-		String utilitiesJson = new ObjectMapper().writeValueAsString(utilities);
+		String utilitiesJson = new ObjectMapper().writeValueAsString(utilityDTOs);
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityController).build();
 		mockMvc.perform(get("/api/utilities").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(utilitiesJson));
@@ -90,17 +96,27 @@ class UtilityControllerTest {
 
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetUtilityById() throws Exception {
-		when(utilityService.getById(1)).thenReturn((ResponseEntity) ResponseEntity.ok(utility1));
+		when(utilityService.getById(1)).thenReturn(convertToDTO(utility1));
 
-		String utilityJson = new ObjectMapper().writeValueAsString(utility1);
+		String utilityJson = new ObjectMapper().writeValueAsString(convertToDTO(utility1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityController).build();
 		mockMvc.perform(get("/api/utilities/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(utilityJson));
 	}
 
+	@Test
+	void testAutocompleteUtilityNames() throws Exception {
+		List<CompletionDTO> completionDTOs = List.of(new CompletionDTO("Microphone", 2L));
+		when(autocompleteService.completeUtilityNames(new AutocompleteDTO("micro", null))).thenReturn(completionDTOs);
+
+		String completionsJson = new ObjectMapper().writeValueAsString(completionDTOs);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityController).build();
+		mockMvc.perform(get("/api/utilities/autocomplete").param("prefix", "micro")).andExpect(status().isOk())
+				.andExpect(content().json(completionsJson));
+	}
+
 	@Test
 	void testAddUtilityError() throws Exception {
 		lenient().when(utilityService.add(convertToDTO(utility1))).thenThrow(new RuntimeException());
@@ -110,10 +126,9 @@ class UtilityControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testAddUtility() throws Exception {
-		when(utilityService.add(convertToDTO(utility1))).thenReturn((ResponseEntity) ResponseEntity.ok(utility1));
+		when(utilityService.add(convertToDTO(utility1))).thenReturn(convertToDTO(utility1));
 
 		String utilityJson = new ObjectMapper().writeValueAsString(convertToDTO(utility1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityController).build();
@@ -130,10 +145,9 @@ class UtilityControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testUpdateUtility() throws Exception {
-		when(utilityService.update(1, convertToDTO(utility1))).thenReturn((ResponseEntity) ResponseEntity.ok(utility1));
+		when(utilityService.update(1, convertToDTO(utility1))).thenReturn(convertToDTO(utility1));
 
 		String utilityJson = new ObjectMapper().writeValueAsString(convertToDTO(utility1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityController).build();
@@ -152,12 +166,11 @@ class UtilityControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testDeleteUtility() throws Exception {
-		when(utilityService.delete(1)).thenReturn((ResponseEntity) ResponseEntity.ok(utility1));
+		when(utilityService.delete(1)).thenReturn(convertToDTO(utility1));
 
-		String utilityJson = new ObjectMapper().writeValueAsString(utility1);
+		String utilityJson = new ObjectMapper().writeValueAsString(convertToDTO(utility1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityController).build();
 		mockMvc.perform(delete("/api/utilities/1").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(utilityJson));
@@ -165,6 +178,7 @@ class UtilityControllerTest {
 
 	private UtilityDTO convertToDTO(Utility utility) {
 		UtilityDTO utilityDTO = new UtilityDTO();
+		utilityDTO.setUtilityId(utility.getUtilityId());
 		utilityDTO.setName(utility.getName());
 		utilityDTO.setDescription(utility.getDescription());
 
@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,7 +20,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -28,7 +28,10 @@ import com.nikoladronjak.rently.domain.OfficeSpace;
 import com.nikoladronjak.rently.domain.Owner;
 import com.nikoladronjak.rently.domain.Utility;
 import com.nikoladronjak.rently.domain.UtilityLease;
+import com.nikoladronjak.rently.dto.ErrorDTO;
 import com.nikoladronjak.rently.dto.UtilityLeaseDTO;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
 import com.nikoladronjak.rently.service.UtilityLeaseService;
 
 @SpringBootTest
@@ -107,7 +110,6 @@ class UtilityLeaseControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetAllUtilityLeases() throws Exception {
 		List<UtilityLease> utilityLeases = new ArrayList<UtilityLease>();
@@ -115,9 +117,11 @@ class UtilityLeaseControllerTest {
 		utilityLeases.add(utilityLease2);
 		utilityLeases.add(utilityLease3);
 		utilityLeases.add(utilityLease4);
-		when(utilityLeaseService.getAll()).thenReturn((ResponseEntity) ResponseEntity.ok(utilityLeases));
+		List<UtilityLeaseDTO> utilityLeaseDTOs = utilityLeases.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		when(utilityLeaseService.getAll()).thenReturn(utilityLeaseDTOs);
 
-		String utilityLeasesJson = new ObjectMapper().writeValueAsString(utilityLeases);
+		String utilityLeasesJson = new ObjectMapper().writeValueAsString(utilityLeaseDTOs);
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityLeaseController).build();
 		mockMvc.perform(get("/api/utilityleases").contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
 				.andExpect(content().json(utilityLeasesJson));
@@ -134,15 +138,16 @@ class UtilityLeaseControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetAllUtilityLeasesByUtilityId() throws Exception {
 		List<UtilityLease> utilityLeases = new ArrayList<UtilityLease>();
 		utilityLeases.add(utilityLease1);
 		utilityLeases.add(utilityLease3);
-		when(utilityLeaseService.getAllByUtilityId(1)).thenReturn((ResponseEntity) ResponseEntity.ok(utilityLeases));
+		List<UtilityLeaseDTO> utilityLeaseDTOs = utilityLeases.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		when(utilityLeaseService.getAllByUtilityId(1)).thenReturn(utilityLeaseDTOs);
 
-		String utilityLeasesJson = new ObjectMapper().writeValueAsString(utilityLeases);
+		String utilityLeasesJson = new ObjectMapper().writeValueAsString(utilityLeaseDTOs);
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityLeaseController).build();
 		mockMvc.perform(get("/api/utilityleases/utility/1").contentType(MediaType.APPLICATION_JSON))
 				.andExpect(status().isOk()).andExpect(content().json(utilityLeasesJson));
@@ -159,15 +164,16 @@ class UtilityLeaseControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetAllUtilityLeasesByPropertyId() throws Exception {
 		List<UtilityLease> utilityLeases = new ArrayList<UtilityLease>();
 		utilityLeases.add(utilityLease1);
 		utilityLeases.add(utilityLease2);
-		when(utilityLeaseService.getAllByPropertyId(1)).thenReturn((ResponseEntity) ResponseEntity.ok(utilityLeases));
+		List<UtilityLeaseDTO> utilityLeaseDTOs = utilityLeases.stream().map(this::convertToDTO)
+				.collect(Collectors.toList());
+		when(utilityLeaseService.getAllByPropertyId(1)).thenReturn(utilityLeaseDTOs);
 
-		String utilityLeasesJson = new ObjectMapper().writeValueAsString(utilityLeases);
+		String utilityLeasesJson = new ObjectMapper().writeValueAsString(utilityLeaseDTOs);
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityLeaseController).build();
 		mockMvc.perform(get("/api/utilityleases/property/1").contentType(MediaType.APPLICATION_JSON))
 				.andExpect(status().isOk()).andExpect(content().json(utilityLeasesJson));
@@ -184,11 +190,9 @@ class UtilityLeaseControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testGetUtilityLeaseById() throws Exception {
-		when(utilityLeaseService.getById(1))
-				.thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(utilityLease1)));
+		when(utilityLeaseService.getById(1)).thenReturn(convertToDTO(utilityLease1));
 
 		String utilityLeaseJson = new ObjectMapper().writeValueAsString(convertToDTO(utilityLease1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityLeaseController).build();
@@ -205,11 +209,9 @@ class UtilityLeaseControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testAddUtilityLease() throws Exception {
-		when(utilityLeaseService.add(convertToDTO(utilityLease1)))
-				.thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(utilityLease1)));
+		when(utilityLeaseService.add(convertToDTO(utilityLease1))).thenReturn(convertToDTO(utilityLease1));
 
 		String utilityLeaseJson = new ObjectMapper().writeValueAsString(convertToDTO(utilityLease1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityLeaseController).build();
@@ -217,6 +219,20 @@ class UtilityLeaseControllerTest {
 				.andExpect(status().isOk()).andExpect(content().json(utilityLeaseJson));
 	}
 
+	@Test
+	void testAddUtilityLeaseWrongProperty() throws Exception {
+		when(utilityLeaseService.add(convertToDTO(utilityLease1))).thenThrow(
+				new UnprocessableEntityException("The property has to be either an event space or an office space."));
+
+		String utilityLeaseJson = new ObjectMapper().writeValueAsString(convertToDTO(utilityLease1));
+		String errorJson = new ObjectMapper().writeValueAsString(
+				new ErrorDTO(422, "The property has to be either an event space or an office space.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityLeaseController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(post("/api/utilityleases").contentType(MediaType.APPLICATION_JSON).content(utilityLeaseJson))
+				.andExpect(status().isUnprocessableEntity()).andExpect(content().json(errorJson, true));
+	}
+
 	@Test
 	void testUpdateUtilityLeaseError() throws Exception {
 		lenient().when(utilityLeaseService.update(1, convertToDTO(utilityLease1))).thenThrow(new RuntimeException());
@@ -226,11 +242,9 @@ class UtilityLeaseControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testUpdateUtilityLease() throws Exception {
-		when(utilityLeaseService.update(1, convertToDTO(utilityLease1)))
-				.thenReturn((ResponseEntity) ResponseEntity.ok(convertToDTO(utilityLease1)));
+		when(utilityLeaseService.update(1, convertToDTO(utilityLease1))).thenReturn(convertToDTO(utilityLease1));
 
 		String utilityLeaseJson = new ObjectMapper().writeValueAsString(convertToDTO(utilityLease1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityLeaseController).build();
@@ -249,12 +263,11 @@ class UtilityLeaseControllerTest {
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Test
 	void testDeleteUtility() throws Exception {
-		when(utilityLeaseService.delete(1)).thenReturn((ResponseEntity) ResponseEntity.ok(utilityLease1));
+		when(utilityLeaseService.delete(1)).thenReturn(convertToDTO(utilityLease1));
 
-		String utilityLeaseJson = new ObjectMapper().writeValueAsString(utilityLease1);
+		String utilityLeaseJson = new ObjectMapper().writeValueAsString(convertToDTO(utilityLease1));
 		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(utilityLeaseController).build();
 		mockMvc.perform(delete("/api/utilityleases/1").contentType(MediaType.APPLICATION_JSON))
 				.andExpect(status().isOk()).andExpect(content().json(utilityLeaseJson));
@@ -262,6 +275,7 @@ class UtilityLeaseControllerTest {
 
 	private UtilityLeaseDTO convertToDTO(UtilityLease utilityLease) {
 		UtilityLeaseDTO utilityLeaseDTO = new UtilityLeaseDTO();
+		utilityLeaseDTO.setUtilityLeaseId(utilityLease.getUtilityLeaseId());
 		utilityLeaseDTO.setUtilityId(utilityLease.getUtility().getUtilityId());
 		utilityLeaseDTO.setPropertyId(utilityLease.getProperty().getPropertyId());
 		utilityLeaseDTO.setRentalRate(utilityLease.getRentalRate());
@@ -93,6 +93,28 @@ class PropertyTest {
 				.equals("The address of the property has to have at least 5 characters.")));
 	}
 
+	@Test
+	public void testLatitudeOutOfRange() {
+		property.setLatitude((double) -91);
+		property.setLongitude((double) 20);
+
+		Set<ConstraintViolation<Property>> violations = validator.validate(property);
+		assertFalse(violations.isEmpty());
+		assertTrue(violations.stream().anyMatch(violation -> violation.getMessage()
+				.equals("The latitude of the property has to be between -90 and 90.")));
+	}
+
+	@Test
+	public void testLongitudeOutOfRange() {
+		property.setLatitude((double) 44);
+		property.setLongitude(180.5);
+
+		Set<ConstraintViolation<Property>> violations = validator.validate(property);
+		assertFalse(violations.isEmpty());
+		assertTrue(violations.stream().anyMatch(violation -> violation.getMessage()
+				.equals("The longitude of the property has to be between -180 and 180.")));
+	}
+
 	@Test
 	public void testDescpiptionNull() {
 		property.setDescription(null);
@@ -0,0 +1,67 @@
+package com.nikoladronjak.rently.exception;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.controller.LedgerController;
+import com.nikoladronjak.rently.domain.LedgerAccountType;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.service.LedgerService;
+
+@SpringBootTest
+class RentlyExceptionHandlerTest {
+
+	@Mock
+	private LedgerService ledgerService;
+
+	@InjectMocks
+	private LedgerController ledgerController;
+
+	@Test
+	void testUnexpectedError() throws Exception {
+		when(ledgerService.getBalance(LedgerAccountType.Customer, 1))
+				.thenThrow(new IllegalStateException("Connection to jdbc:h2:mem:rently was lost."));
+
+		String errorJson = new ObjectMapper()
+				.writeValueAsString(new ErrorDTO(500, "An unexpected error occurred.", null));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(ledgerController)
+				.setControllerAdvice(new RentlyExceptionHandler()).build();
+		mockMvc.perform(get("/api/ledger/customer/1/balance").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isInternalServerError()).andExpect(content().json(errorJson, true));
+	}
+
+	@Test
+	void testToResponseDataIntegrityViolation() {
+		ResponseEntity<ErrorDTO> response = RentlyExceptionHandler
+				.toResponse(new DataIntegrityViolationException("Unique index or primary key violation."));
+
+		assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+		assertEquals("The request conflicts with the existing data.", response.getBody().getMessage());
+	}
+
+	@Test
+	void testToResponseServiceUnavailable() {
+		ResponseEntity<ErrorDTO> response = RentlyExceptionHandler
+				.toResponse(new ServiceUnavailableException("The service is busy."));
+
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+		assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+		assertEquals("The service is busy.", response.getBody().getMessage());
+	}
+}
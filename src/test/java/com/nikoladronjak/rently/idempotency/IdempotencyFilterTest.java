@@ -0,0 +1,165 @@
+package com.nikoladronjak.rently.idempotency;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikoladronjak.rently.controller.RentController;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.dto.RentDTO;
+import com.nikoladronjak.rently.exception.RentlyExceptionHandler;
+import com.nikoladronjak.rently.service.RentService;
+
+@SpringBootTest
+class IdempotencyFilterTest {
+
+	RentDTO rentDTO;
+
+	MockMvc mockMvc;
+
+	@Mock
+	private RentService rentService;
+
+	@InjectMocks
+	private RentController rentController;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		rentDTO = new RentDTO(1, (double) 300, List.of(1, 2));
+
+		IdempotencyFilter idempotencyFilter = new IdempotencyFilter(
+				new IdempotencyStore(100, Duration.ofMinutes(1)), new ObjectMapper(), Duration.ofSeconds(1),
+				DataSize.ofKilobytes(1));
+		mockMvc = MockMvcBuilders.standaloneSetup(rentController).setControllerAdvice(new RentlyExceptionHandler())
+				.addFilters(idempotencyFilter).build();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		rentDTO = null;
+		mockMvc = null;
+	}
+
+	@Test
+	void testRetryIsReplayed() throws Exception {
+		when(rentService.add(any(RentDTO.class))).thenReturn(rentDTO);
+
+		String rentJson = new ObjectMapper().writeValueAsString(rentDTO);
+		mockMvc.perform(post("/api/rents").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+				.contentType(MediaType.APPLICATION_JSON).content(rentJson)).andExpect(status().isOk())
+				.andExpect(content().json(rentJson));
+		mockMvc.perform(post("/api/rents").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+				.contentType(MediaType.APPLICATION_JSON).content(rentJson)).andExpect(status().isOk())
+				.andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+				.andExpect(content().json(rentJson));
+
+		verify(rentService, times(1)).add(any(RentDTO.class));
+	}
+
+	@Test
+	void testDifferentKeysAreExecuted() throws Exception {
+		when(rentService.add(any(RentDTO.class))).thenReturn(rentDTO);
+
+		String rentJson = new ObjectMapper().writeValueAsString(rentDTO);
+		mockMvc.perform(post("/api/rents").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+				.contentType(MediaType.APPLICATION_JSON).content(rentJson)).andExpect(status().isOk());
+		mockMvc.perform(post("/api/rents").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "def")
+				.contentType(MediaType.APPLICATION_JSON).content(rentJson)).andExpect(status().isOk());
+
+		verify(rentService, times(2)).add(any(RentDTO.class));
+	}
+
+	@Test
+	void testKeyReusedWithDifferentBody() throws Exception {
+		when(rentService.add(any(RentDTO.class))).thenReturn(rentDTO);
+
+		String rentJson = new ObjectMapper().writeValueAsString(rentDTO);
+		String otherRentJson = new ObjectMapper().writeValueAsString(new RentDTO(1, (double) 400, List.of(1, 2)));
+		String errorJson = new ObjectMapper().writeValueAsString(new ErrorDTO(422,
+				"The idempotency key has already been used for a different request.", null));
+		mockMvc.perform(post("/api/rents").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+				.contentType(MediaType.APPLICATION_JSON).content(rentJson)).andExpect(status().isOk());
+		mockMvc.perform(post("/api/rents").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+				.contentType(MediaType.APPLICATION_JSON).content(otherRentJson))
+				.andExpect(status().isUnprocessableEntity()).andExpect(content().json(errorJson, true));
+
+		verify(rentService, times(1)).add(any(RentDTO.class));
+	}
+
+	@Test
+	void testKeyReusedWithDifferentQueryString() throws Exception {
+		when(rentService.add(any(RentDTO.class))).thenReturn(rentDTO);
+
+		String rentJson = new ObjectMapper().writeValueAsString(rentDTO);
+		mockMvc.perform(post("/api/rents").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+				.contentType(MediaType.APPLICATION_JSON).content(rentJson)).andExpect(status().isOk());
+		mockMvc.perform(post("/api/rents?async=false").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+				.contentType(MediaType.APPLICATION_JSON).content(rentJson)).andExpect(status().isOk())
+				.andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+		verify(rentService, times(2)).add(any(RentDTO.class));
+	}
+
+	@Test
+	void testServerErrorIsNotStored() throws Exception {
+		when(rentService.add(any(RentDTO.class))).thenThrow(new RuntimeException("Error"));
+
+		String rentJson = new ObjectMapper().writeValueAsString(rentDTO);
+		mockMvc.perform(post("/api/rents").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+				.contentType(MediaType.APPLICATION_JSON).content(rentJson)).andExpect(status().isInternalServerError());
+		mockMvc.perform(post("/api/rents").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+				.contentType(MediaType.APPLICATION_JSON).content(rentJson)).andExpect(status().isInternalServerError());
+
+		verify(rentService, times(2)).add(any(RentDTO.class));
+	}
+
+	@Test
+	void testWithoutKey() throws Exception {
+		when(rentService.add(any(RentDTO.class))).thenReturn(rentDTO);
+
+		String rentJson = new ObjectMapper().writeValueAsString(rentDTO);
+		mockMvc.perform(post("/api/rents").contentType(MediaType.APPLICATION_JSON).content(rentJson))
+				.andExpect(status().isOk());
+		mockMvc.perform(post("/api/rents").contentType(MediaType.APPLICATION_JSON).content(rentJson))
+				.andExpect(status().isOk());
+
+		verify(rentService, times(2)).add(any(RentDTO.class));
+	}
+
+	@Test
+	void testBlankKey() throws Exception {
+		mockMvc.perform(post("/api/rents").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, " ")
+				.contentType(MediaType.APPLICATION_JSON).content("{}")).andExpect(status().isBadRequest())
+				.andExpect(content().json(new ObjectMapper().writeValueAsString(new ErrorDTO(400,
+						"The Idempotency-Key header has to have between 1 and 255 characters.", null)), true));
+	}
+
+	@Test
+	void testBodyTooLarge() throws Exception {
+		mockMvc.perform(post("/api/rents").header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc")
+				.contentType(MediaType.APPLICATION_JSON).content("{\"padding\": \"" + "x".repeat(2048) + "\"}"))
+				.andExpect(status().isPayloadTooLarge());
+
+		verify(rentService, times(0)).add(any(RentDTO.class));
+	}
+}
@@ -0,0 +1,137 @@
+package com.nikoladronjak.rently.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nikoladronjak.rently.exception.ServiceUnavailableException;
+
+class IdempotencyStoreTest {
+
+	MutableClock clock;
+
+	IdempotencyStore idempotencyStore;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		clock = new MutableClock();
+		idempotencyStore = new IdempotencyStore(2, Duration.ofMinutes(1), clock);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		clock = null;
+		idempotencyStore = null;
+	}
+
+	@Test
+	void testClaimNewKey() {
+		IdempotencyStore.Claim claim = idempotencyStore.claim("key1", "fingerprint");
+
+		assertTrue(claim.owner());
+		assertFalse(claim.response().isDone());
+		assertEquals(1, idempotencyStore.size());
+	}
+
+	@Test
+	void testClaimInFlightKey() {
+		IdempotencyStore.Claim first = idempotencyStore.claim("key1", "fingerprint");
+		IdempotencyStore.Claim second = idempotencyStore.claim("key1", "other fingerprint");
+
+		assertFalse(second.owner());
+		assertEquals("fingerprint", second.fingerprint());
+		assertSame(first.response(), second.response());
+	}
+
+	@Test
+	void testComplete() {
+		CachedResponse cachedResponse = new CachedResponse(200, "application/json", "{}".getBytes());
+		IdempotencyStore.Claim first = idempotencyStore.claim("key1", "fingerprint");
+		idempotencyStore.complete(first, cachedResponse);
+
+		IdempotencyStore.Claim second = idempotencyStore.claim("key1", "fingerprint");
+
+		assertFalse(second.owner());
+		assertSame(cachedResponse, second.response().getNow(null));
+	}
+
+	@Test
+	void testRelease() {
+		IdempotencyStore.Claim first = idempotencyStore.claim("key1", "fingerprint");
+		idempotencyStore.release("key1", first);
+
+		assertTrue(first.response().isDone());
+		assertNull(first.response().getNow(null));
+		assertTrue(idempotencyStore.claim("key1", "fingerprint").owner());
+	}
+
+	@Test
+	void testExpiredKey() {
+		idempotencyStore.claim("key1", "fingerprint");
+		clock.advance(Duration.ofMinutes(2));
+
+		assertEquals(0, idempotencyStore.size());
+		assertTrue(idempotencyStore.claim("key1", "fingerprint").owner());
+	}
+
+	@Test
+	void testBoundedSize() {
+		IdempotencyStore.Claim claim = idempotencyStore.claim("key1", "fingerprint");
+		idempotencyStore.complete(claim, new CachedResponse(200, "application/json", new byte[0]));
+		idempotencyStore.claim("key2", "fingerprint");
+		idempotencyStore.claim("key3", "fingerprint");
+
+		assertEquals(2, idempotencyStore.size());
+		assertFalse(idempotencyStore.claim("key2", "fingerprint").owner());
+		assertFalse(idempotencyStore.claim("key3", "fingerprint").owner());
+	}
+
+	@Test
+	void testInFlightKeysAreNotEvicted() {
+		idempotencyStore.claim("key1", "fingerprint");
+		idempotencyStore.claim("key2", "fingerprint");
+
+		ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+				() -> idempotencyStore.claim("key3", "fingerprint"));
+
+		assertEquals("Too many requests with an idempotency key are being processed.", exception.getMessage());
+		assertFalse(idempotencyStore.claim("key1", "fingerprint").owner());
+		assertFalse(idempotencyStore.claim("key2", "fingerprint").owner());
+	}
+
+	@Test
+	void testInvalidSize() {
+		assertThrows(IllegalArgumentException.class, () -> new IdempotencyStore(0, Duration.ofMinutes(1), clock));
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2024-12-12T10:00:00Z");
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(java.time.ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -169,34 +169,6 @@ class LeaseRepositoryTest {
 		assertEquals(lease1, lease.get());
 	}
 
-	@Test
-	void testFindByProperty_PropertyIdAndCustomer_CustomerIdBadPropertyId() {
-		leaseRepository.save(lease1);
-
-		Optional<Lease> lease = leaseRepository.findByProperty_PropertyIdAndCustomer_CustomerId(2, 1);
-
-		assertTrue(lease.isEmpty());
-	}
-
-	@Test
-	void testFindByProperty_PropertyIdAndCustomer_CustomerIdBadCustomerId() {
-		leaseRepository.save(lease1);
-
-		Optional<Lease> lease = leaseRepository.findByProperty_PropertyIdAndCustomer_CustomerId(1, 2);
-
-		assertTrue(lease.isEmpty());
-	}
-
-	@Test
-	void testFindByUtility_UtilityIdAndProperty_PropertyId() {
-		leaseRepository.save(lease1);
-
-		Optional<Lease> lease = leaseRepository.findByProperty_PropertyIdAndCustomer_CustomerId(1, 1);
-
-		assertTrue(lease.isPresent());
-		assertEquals(lease1, lease.get());
-	}
-
 	@Test
 	void testSave() {
 		Lease savedLease = leaseRepository.save(lease1);
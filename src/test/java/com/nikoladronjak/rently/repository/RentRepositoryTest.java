@@ -205,24 +205,48 @@ class RentRepositoryTest {
 	}
 
 	@Test
-	void testFindByLease_LeaseIdBadId() {
+	void testFindByLease_LeaseIdAndBillingPeriodBadId() {
+		rent1.setBillingPeriod("2025-01");
 		rentRepository.save(rent1);
 
-		Optional<Rent> rent = rentRepository.findByLease_LeaseId(2);
+		Optional<Rent> rent = rentRepository.findByLease_LeaseIdAndBillingPeriod(2, "2025-01");
 
 		assertTrue(rent.isEmpty());
 	}
 
 	@Test
-	void testFindByLease_LeaseId() {
+	void testFindByLease_LeaseIdAndBillingPeriodBadBillingPeriod() {
+		rent1.setBillingPeriod("2025-01");
 		rentRepository.save(rent1);
 
-		Optional<Rent> rent = rentRepository.findByLease_LeaseId(1);
+		Optional<Rent> rent = rentRepository.findByLease_LeaseIdAndBillingPeriod(1, "2025-02");
+
+		assertTrue(rent.isEmpty());
+	}
+
+	@Test
+	void testFindByLease_LeaseIdAndBillingPeriod() {
+		rent1.setBillingPeriod("2025-01");
+		rentRepository.save(rent1);
+
+		Optional<Rent> rent = rentRepository.findByLease_LeaseIdAndBillingPeriod(1, "2025-01");
 
 		assertTrue(rent.isPresent());
 		assertEquals(rent1, rent.get());
 	}
 
+	@Test
+	void testFindBilledLeaseIds() {
+		rent1.setBillingPeriod("2025-01");
+		rent2.setBillingPeriod("2025-02");
+		rentRepository.save(rent1);
+		rentRepository.save(rent2);
+
+		List<Integer> leaseIds = rentRepository.findBilledLeaseIds("2025-01", 1, 2);
+
+		assertEquals(List.of(1), leaseIds);
+	}
+
 	@Test
 	void testSave() {
 		Rent savedRent = rentRepository.save(rent1);
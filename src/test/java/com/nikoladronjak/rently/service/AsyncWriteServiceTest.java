@@ -0,0 +1,152 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+
+import com.nikoladronjak.rently.dto.CommandStatusDTO;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.ServiceUnavailableException;
+
+class AsyncWriteServiceTest {
+
+	PlatformTransactionManager transactionManager;
+
+	AsyncWriteService asyncWriteService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		transactionManager = mock(PlatformTransactionManager.class);
+		when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		if (asyncWriteService != null)
+			asyncWriteService.stop();
+		asyncWriteService = null;
+		transactionManager = null;
+	}
+
+	@Test
+	void testSubmit() throws Exception {
+		asyncWriteService = new AsyncWriteService(transactionManager, 10, 10, 100);
+		asyncWriteService.start();
+
+		ResponseEntity<CommandStatusDTO> response = asyncWriteService.submit(() -> "done");
+		CommandStatusDTO accepted = response.getBody();
+
+		assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+		assertEquals(CommandStatusDTO.Status.Pending, accepted.getStatus());
+		assertEquals("/api/commands/" + accepted.getCommandId(), response.getHeaders().getLocation().toString());
+
+		CommandStatusDTO completed = awaitResult(accepted.getCommandId());
+		assertEquals(CommandStatusDTO.Status.Completed, completed.getStatus());
+		assertEquals(200, completed.getStatusCode());
+		assertEquals("done", completed.getResult());
+	}
+
+	@Test
+	void testSubmitRejectedCommand() throws Exception {
+		asyncWriteService = new AsyncWriteService(transactionManager, 10, 10, 100);
+		asyncWriteService.start();
+
+		CommandStatusDTO accepted = asyncWriteService.submit(() -> {
+			throw new ConflictException("This rent already exists.");
+		}).getBody();
+
+		CommandStatusDTO failed = awaitResult(accepted.getCommandId());
+		assertEquals(CommandStatusDTO.Status.Failed, failed.getStatus());
+		assertEquals(409, failed.getStatusCode());
+		assertEquals(new ErrorDTO(409, "This rent already exists.", null), failed.getResult());
+	}
+
+	@Test
+	void testSubmitQueueFull() {
+		asyncWriteService = new AsyncWriteService(transactionManager, 1, 10, 100);
+
+		asyncWriteService.submit(() -> "first");
+		ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+				() -> asyncWriteService.submit(() -> "second"));
+
+		assertEquals("The server is busy. Please try again later.", exception.getMessage());
+		assertEquals(1, asyncWriteService.getQueueSize());
+	}
+
+	@Test
+	void testGroupCommit() throws Exception {
+		AtomicInteger commits = new AtomicInteger();
+		doAnswer(invocation -> {
+			commits.incrementAndGet();
+			return null;
+		}).when(transactionManager).commit(any());
+		asyncWriteService = new AsyncWriteService(transactionManager, 10, 10, 100);
+
+		CommandStatusDTO[] accepted = new CommandStatusDTO[5];
+		for (int i = 0; i < accepted.length; i++) {
+			accepted[i] = asyncWriteService.submit(() -> "done").getBody();
+		}
+		asyncWriteService.start();
+
+		for (CommandStatusDTO commandStatusDTO : accepted) {
+			assertEquals(CommandStatusDTO.Status.Completed, awaitResult(commandStatusDTO.getCommandId()).getStatus());
+		}
+		assertEquals(1, commits.get());
+	}
+
+	@Test
+	void testGroupCommitFallback() throws Exception {
+		doThrow(new TransactionSystemException("Rolled back")).doNothing().when(transactionManager)
+				.commit(any(TransactionStatus.class));
+		asyncWriteService = new AsyncWriteService(transactionManager, 10, 10, 100);
+
+		CommandStatusDTO first = asyncWriteService.submit(() -> "first").getBody();
+		CommandStatusDTO second = asyncWriteService.submit(() -> "second").getBody();
+		asyncWriteService.start();
+
+		assertEquals("first", awaitResult(first.getCommandId()).getResult());
+		assertEquals("second", awaitResult(second.getCommandId()).getResult());
+		verify(transactionManager, times(3)).commit(any(TransactionStatus.class));
+	}
+
+	@Test
+	void testGetStatusBadId() {
+		asyncWriteService = new AsyncWriteService(transactionManager, 10, 10, 100);
+
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> asyncWriteService.getStatus("unknown"));
+
+		assertEquals("There is no command with the given id.", exception.getMessage());
+	}
+
+	private CommandStatusDTO awaitResult(String commandId) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (System.nanoTime() < deadline) {
+			CommandStatusDTO commandStatusDTO = asyncWriteService.getStatus(commandId);
+			if (commandStatusDTO.getStatus() != CommandStatusDTO.Status.Pending)
+				return commandStatusDTO;
+			Thread.sleep(10);
+		}
+		fail("The command was not executed in time.");
+		return null;
+	}
+}
@@ -0,0 +1,183 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.dto.AutocompleteDTO;
+import com.nikoladronjak.rently.dto.CompletionDTO;
+import com.nikoladronjak.rently.dto.LeaseDTO;
+import com.nikoladronjak.rently.dto.OfficeSpaceDTO;
+import com.nikoladronjak.rently.dto.ResidenceDTO;
+import com.nikoladronjak.rently.dto.UtilityDTO;
+import com.nikoladronjak.rently.dto.UtilityLeaseDTO;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AutocompleteServiceTest {
+
+	ResidenceDTO residenceDTO1;
+
+	ResidenceDTO residenceDTO2;
+
+	OfficeSpaceDTO officeSpaceDTO;
+
+	LeaseDTO leaseDTO;
+
+	UtilityDTO utilityDTO1;
+
+	UtilityDTO utilityDTO2;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private ResidenceService residenceService;
+
+	@Autowired
+	private OfficeSpaceService officeSpaceService;
+
+	@Autowired
+	private LeaseService leaseService;
+
+	@Autowired
+	private UtilityService utilityService;
+
+	@Autowired
+	private UtilityLeaseService utilityLeaseService;
+
+	@Autowired
+	private AutocompleteService autocompleteService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		Owner owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		Customer customer = customerRepository
+				.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null));
+		residenceDTO1 = residenceService.add(new ResidenceDTO(null, "Sunny apartment", "Jove Ilica 154", "",
+				(double) 300, 60, true, 0, photos, 2, 1, HeatingType.Central, true, true, owner.getOwnerId()));
+		residenceDTO2 = residenceService.add(new ResidenceDTO(null, "Family house", "Jovana Cvijića 5", "",
+				(double) 500, 120, true, 2, photos, 4, 2, HeatingType.Central, true, false, owner.getOwnerId()));
+		officeSpaceDTO = officeSpaceService.add(new OfficeSpaceDTO(null, "Office", "Knez Mihailova 1", "",
+				(double) 800, 150, true, 10, photos, 30, owner.getOwnerId()));
+		leaseDTO = leaseService.add(new LeaseDTO(residenceDTO2.getPropertyId(), customer.getCustomerId(), null,
+				calendar(LocalDate.now().plusDays(10)), calendar(LocalDate.now().plusDays(20))));
+
+		utilityDTO1 = utilityService.add(new UtilityDTO("Internet access", ""));
+		utilityDTO2 = utilityService.add(new UtilityDTO("Interior cleaning", ""));
+		utilityLeaseService.add(new UtilityLeaseDTO(utilityDTO2.getUtilityId(), officeSpaceDTO.getPropertyId(),
+				(double) 20));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		residenceDTO1 = null;
+		residenceDTO2 = null;
+		officeSpaceDTO = null;
+		leaseDTO = null;
+		utilityDTO1 = null;
+		utilityDTO2 = null;
+	}
+
+	@Test
+	void testCompleteAddresses() {
+		List<CompletionDTO> completionDTOs = autocompleteService.completeAddresses(new AutocompleteDTO("jov", null));
+
+		assertEquals(List.of(new CompletionDTO("Jovana Cvijića 5", 1L), new CompletionDTO("Jove Ilica 154", 0L)),
+				completionDTOs);
+	}
+
+	@Test
+	void testCompleteAddressesByWord() {
+		assertEquals(List.of("Jovana Cvijića 5"), addresses("CVIJICA"));
+		assertEquals(List.of("Knez Mihailova 1"), addresses("mihailova 1"));
+		assertEquals(List.of(), addresses("ilica 2"));
+	}
+
+	@Test
+	void testCompleteAddressesLimit() {
+		assertEquals(List.of("Jovana Cvijića 5"), texts(autocompleteService.completeAddresses(
+				new AutocompleteDTO("j", 1))));
+	}
+
+	@Test
+	void testCompleteAddressesAfterWrites() {
+		residenceDTO1.setAddress("Bulevar oslobođenja 1");
+		residenceService.update(residenceDTO1.getPropertyId(), residenceDTO1);
+		leaseService.delete(leaseDTO.getLeaseId());
+
+		assertEquals(List.of(new CompletionDTO("Jovana Cvijića 5", 0L)),
+				autocompleteService.completeAddresses(new AutocompleteDTO("jov", null)));
+		assertEquals(List.of("Bulevar oslobođenja 1"), addresses("oslobodj"));
+
+		residenceService.delete(residenceDTO1.getPropertyId());
+
+		assertEquals(List.of(), addresses("oslobodj"));
+	}
+
+	@Test
+	void testCompleteUtilityNames() {
+		List<CompletionDTO> completionDTOs = autocompleteService
+				.completeUtilityNames(new AutocompleteDTO("inte", null));
+
+		assertEquals(List.of(new CompletionDTO("Interior cleaning", 1L), new CompletionDTO("Internet access", 0L)),
+				completionDTOs);
+	}
+
+	@Test
+	void testCompleteUtilityNamesAfterWrites() {
+		utilityDTO1.setName("Fast internet access");
+		utilityService.update(utilityDTO1.getUtilityId(), utilityDTO1);
+
+		assertEquals(List.of("Fast internet access"), texts(autocompleteService
+				.completeUtilityNames(new AutocompleteDTO("fast", null))));
+		assertEquals(List.of("Interior cleaning", "Fast internet access"), texts(autocompleteService
+				.completeUtilityNames(new AutocompleteDTO("inte", null))));
+	}
+
+	@Test
+	void testRebuild() {
+		List<CompletionDTO> addresses = autocompleteService.completeAddresses(new AutocompleteDTO("j", null));
+		List<CompletionDTO> utilityNames = autocompleteService.completeUtilityNames(new AutocompleteDTO("i", null));
+
+		autocompleteService.rebuild();
+
+		assertEquals(addresses, autocompleteService.completeAddresses(new AutocompleteDTO("j", null)));
+		assertEquals(utilityNames, autocompleteService.completeUtilityNames(new AutocompleteDTO("i", null)));
+	}
+
+	private List<String> addresses(String prefix) {
+		return texts(autocompleteService.completeAddresses(new AutocompleteDTO(prefix, null)));
+	}
+
+	private static List<String> texts(List<CompletionDTO> completionDTOs) {
+		return completionDTOs.stream().map(CompletionDTO::getText).collect(Collectors.toList());
+	}
+
+	private static GregorianCalendar calendar(LocalDate date) {
+		return GregorianCalendar.from(date.atStartOfDay(ZoneId.systemDefault()));
+	}
+}
@@ -0,0 +1,196 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.EventSpace;
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.Property;
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.dto.AvailabilitySearchDTO;
+import com.nikoladronjak.rently.dto.PropertyDTO;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.EventSpaceRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.ResidenceRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AvailabilityServiceTest {
+
+	Owner owner;
+
+	Residence residence1;
+
+	Residence residence2;
+
+	EventSpace eventSpace;
+
+	Customer customer;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private ResidenceRepository residenceRepository;
+
+	@Autowired
+	private EventSpaceRepository eventSpaceRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	@Autowired
+	private PropertyBookingService propertyBookingService;
+
+	@Autowired
+	private AvailabilityService availabilityService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		residence1 = residenceRepository.save(new Residence(1, "Apartement 1", "Jove Ilica 154", "", (double) 300, 30,
+				true, 0, photos, owner, null, 1, 1, HeatingType.Central, true, true));
+		residence2 = residenceRepository.save(new Residence(2, "Apartement 2", "Studentski trg 1", "", (double) 500,
+				60, true, 2, photos, owner, null, 2, 1, HeatingType.Central, true, true));
+		eventSpace = eventSpaceRepository.save(new EventSpace(3, "Event Space 1", "Bulevar Oslobodjenja 13", "",
+				(double) 250, 100, true, 50, photos, owner, null, 200, true, true, null));
+		customer = customerRepository.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null));
+
+		book(residence1, 10, 20);
+		book(eventSpace, 100, 200);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		owner = null;
+		residence1 = null;
+		residence2 = null;
+		eventSpace = null;
+		customer = null;
+	}
+
+	@Test
+	void testSearch() {
+		List<PropertyDTO> response = availabilityService.search(search(15, 30));
+
+		assertEquals(List.of(residence2.getPropertyId(), eventSpace.getPropertyId()), ids(response));
+	}
+
+	@Test
+	void testSearchAroundLeases() {
+		List<PropertyDTO> response = availabilityService.search(search(21, 99));
+
+		assertEquals(3, response.size());
+	}
+
+	@Test
+	void testSearchWithFilters() {
+		AvailabilitySearchDTO availabilitySearchDTO = search(1, 5);
+		availabilitySearchDTO.setType(PropertyType.Residence);
+		availabilitySearchDTO.setMinRentalRate((double) 400);
+		availabilitySearchDTO.setMinNumberOfParkingSpots(1);
+
+		List<PropertyDTO> response = availabilityService.search(availabilitySearchDTO);
+
+		assertEquals(List.of(residence2.getPropertyId()), ids(response));
+	}
+
+	@Test
+	void testSearchNotOffered() {
+		residence2.setAvailable(false);
+		residenceRepository.save(residence2);
+
+		List<PropertyDTO> response = availabilityService.search(search(1, 5));
+
+		assertFalse(ids(response).contains(residence2.getPropertyId()));
+	}
+
+	@Test
+	void testSearchAfterCancellation() {
+		Lease lease = leaseRepository.findAllByProperty_PropertyId(residence1.getPropertyId()).get(0);
+		propertyBookingService.cancel(lease, () -> leaseRepository.deleteById(lease.getLeaseId()));
+
+		List<PropertyDTO> response = availabilityService.search(search(15, 30));
+
+		assertTrue(ids(response).contains(residence1.getPropertyId()));
+	}
+
+	@Test
+	void testSearchAfterRebuild() {
+		propertyBookingService.rebuild();
+
+		List<PropertyDTO> response = availabilityService.search(search(150, 150));
+
+		assertFalse(ids(response).contains(eventSpace.getPropertyId()));
+	}
+
+	@Test
+	void testSearchStartDateAfterEndDate() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> availabilityService.search(search(30, 15)));
+
+		assertEquals("The start date has to be before the end date.", exception.getMessage());
+	}
+
+	@Test
+	void testSearchStartDateInThePast() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> availabilityService.search(search(-1, 15)));
+
+		assertEquals("The start date cannot be in the past.", exception.getMessage());
+	}
+
+	@Test
+	void testSearchBeyondHorizon() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> availabilityService.search(search(1, 2000)));
+
+		assertEquals("The availability can only be searched up to 1095 days in advance.", exception.getMessage());
+	}
+
+	private void book(Property property, int startDay, int endDay) {
+		Lease lease = new Lease(0, 300, date(startDay), date(endDay), property, customer, null);
+		propertyBookingService.book(lease, () -> leaseRepository.save(lease));
+	}
+
+	private AvailabilitySearchDTO search(int startDay, int endDay) {
+		return new AvailabilitySearchDTO(LocalDate.now().plusDays(startDay), LocalDate.now().plusDays(endDay), null,
+				null, null, null, null);
+	}
+
+	private List<Integer> ids(List<PropertyDTO> propertyDTOs) {
+		return propertyDTOs.stream().map(PropertyDTO::getPropertyId).sorted().collect(Collectors.toList());
+	}
+
+	private GregorianCalendar date(int days) {
+		GregorianCalendar date = new GregorianCalendar();
+		date.add(Calendar.DAY_OF_MONTH, days);
+		return date;
+	}
+}
@@ -0,0 +1,187 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.dto.BatchOperationDTO;
+import com.nikoladronjak.rently.dto.BatchRequestDTO;
+import com.nikoladronjak.rently.dto.BatchResultDTO;
+import com.nikoladronjak.rently.dto.CustomerDTO;
+import com.nikoladronjak.rently.dto.ErrorDTO;
+import com.nikoladronjak.rently.dto.LeaseDTO;
+import com.nikoladronjak.rently.dto.OwnerDTO;
+import com.nikoladronjak.rently.dto.ResidenceDTO;
+import com.nikoladronjak.rently.exception.BadRequestException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BatchServiceTest {
+
+	ObjectMapper objectMapper;
+
+	BatchOperationDTO addOwner;
+
+	BatchOperationDTO addResidence;
+
+	BatchOperationDTO addCustomer;
+
+	BatchOperationDTO addLease;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	@Autowired
+	private BatchService batchService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		objectMapper = new ObjectMapper();
+
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		addOwner = new BatchOperationDTO("owner", "POST", "/api/owners", objectMapper
+				.valueToTree(new OwnerDTO("Pera", "Peric", "pera@gmail.com", "pera123", "1234567890")));
+
+		ObjectNode residence = objectMapper.valueToTree(new ResidenceDTO(null, "Lux Apartment", "Jove Ilica 154", "",
+				400, 70, true, 2, photos, 2, 2, HeatingType.Central, true, true, null));
+		residence.put("ownerId", "@{owner.ownerId}");
+		addResidence = new BatchOperationDTO("residence", "POST", "/api/residences", residence);
+
+		addCustomer = new BatchOperationDTO("customer", "POST", "/api/customers",
+				objectMapper.valueToTree(new CustomerDTO("Mika", "Mikic", "mika@gmail.com", "mika123")));
+
+		ObjectNode lease = objectMapper.valueToTree(new LeaseDTO(null, null, (double) 400,
+				new GregorianCalendar(2099, 11, 12), new GregorianCalendar(2100, 11, 31)));
+		lease.put("propertyId", "@{residence.propertyId}");
+		lease.put("customerId", "@{customer.customerId}");
+		addLease = new BatchOperationDTO("lease", "POST", "/api/leases", lease);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		objectMapper = null;
+		addOwner = null;
+		addResidence = null;
+		addCustomer = null;
+		addLease = null;
+	}
+
+	@Test
+	void testExecuteWithReferences() {
+		List<BatchResultDTO> results = batchService.execute(
+				new BatchRequestDTO(List.of(addOwner, addResidence, addCustomer, addLease), true));
+
+		assertEquals(4, results.size());
+		for (BatchResultDTO result : results) {
+			assertEquals(200, result.getStatus());
+		}
+		ResidenceDTO residenceDTO = (ResidenceDTO) results.get(1).getBody();
+		CustomerDTO customerDTO = (CustomerDTO) results.get(2).getBody();
+		LeaseDTO leaseDTO = (LeaseDTO) results.get(3).getBody();
+		assertEquals(residenceDTO.getPropertyId(), leaseDTO.getPropertyId());
+		assertEquals(customerDTO.getCustomerId(), leaseDTO.getCustomerId());
+		assertEquals(1, leaseRepository.count());
+	}
+
+	@Test
+	void testExecuteReferenceInUrl() {
+		BatchOperationDTO getCustomer = new BatchOperationDTO(null, "GET", "/api/customers/@{customer.customerId}",
+				null);
+
+		List<BatchResultDTO> results = batchService
+				.execute(new BatchRequestDTO(List.of(addCustomer, getCustomer), true));
+
+		assertEquals(200, results.get(1).getStatus());
+		assertEquals(results.get(0).getBody(), results.get(1).getBody());
+	}
+
+	@Test
+	void testExecuteAllOrNoneRollsBack() {
+		BatchOperationDTO getLease = new BatchOperationDTO(null, "GET", "/api/leases/999", null);
+
+		List<BatchResultDTO> results = batchService
+				.execute(new BatchRequestDTO(List.of(addCustomer, getLease, addOwner), true));
+
+		assertEquals(424, results.get(0).getStatus());
+		assertEquals(404, results.get(1).getStatus());
+		assertEquals("There is no lease with the given id.", ((ErrorDTO) results.get(1).getBody()).getMessage());
+		assertEquals(424, results.get(2).getStatus());
+		assertEquals(0, customerRepository.count());
+	}
+
+	@Test
+	void testExecuteIndependently() {
+		BatchOperationDTO getLease = new BatchOperationDTO("missing", "GET", "/api/leases/999", null);
+		BatchOperationDTO getRents = new BatchOperationDTO(null, "GET", "/api/rents/@{missing.leaseId}", null);
+
+		List<BatchResultDTO> results = batchService
+				.execute(new BatchRequestDTO(List.of(addCustomer, getLease, getRents), false));
+
+		assertEquals(200, results.get(0).getStatus());
+		assertEquals(404, results.get(1).getStatus());
+		assertEquals(424, results.get(2).getStatus());
+		assertEquals(1, customerRepository.count());
+	}
+
+	@Test
+	void testExecuteInvalidBody() {
+		BatchOperationDTO addInvalidCustomer = new BatchOperationDTO(null, "POST", "/api/customers",
+				objectMapper.valueToTree(new CustomerDTO("M", "Mikic", "mika@gmail.com", "mika123")));
+
+		List<BatchResultDTO> results = batchService
+				.execute(new BatchRequestDTO(List.of(addInvalidCustomer), false));
+
+		ErrorDTO errorDTO = (ErrorDTO) results.get(0).getBody();
+		assertEquals(400, results.get(0).getStatus());
+		assertEquals("The first name of the customer has to have at least 2 characters.",
+				errorDTO.getErrors().get("firstName"));
+	}
+
+	@Test
+	void testExecuteUnknownEndPoint() {
+		BatchOperationDTO unknown = new BatchOperationDTO(null, "DELETE", "/api/customers", null);
+
+		List<BatchResultDTO> results = batchService.execute(new BatchRequestDTO(List.of(unknown), false));
+
+		assertEquals(404, results.get(0).getStatus());
+	}
+
+	@Test
+	void testExecuteUnknownReference() {
+		BatchOperationDTO getCustomer = new BatchOperationDTO(null, "GET", "/api/customers/@{customer.customerId}",
+				null);
+
+		List<BatchResultDTO> results = batchService
+				.execute(new BatchRequestDTO(List.of(getCustomer, addCustomer), false));
+
+		assertEquals(400, results.get(0).getStatus());
+		assertEquals(200, results.get(1).getStatus());
+	}
+
+	@Test
+	void testExecuteDuplicateReferenceIds() {
+		BadRequestException exception = assertThrows(BadRequestException.class,
+				() -> batchService.execute(new BatchRequestDTO(List.of(addCustomer, addCustomer), true)));
+
+		assertEquals("The reference id customer is used by more than one operation.", exception.getMessage());
+	}
+}
@@ -0,0 +1,253 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.BillingPartition;
+import com.nikoladronjak.rently.domain.BillingRun;
+import com.nikoladronjak.rently.domain.BillingRunStatus;
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.OfficeSpace;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.Rent;
+import com.nikoladronjak.rently.domain.Utility;
+import com.nikoladronjak.rently.domain.UtilityLease;
+import com.nikoladronjak.rently.dto.BillingRunDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.BillingPartitionRepository;
+import com.nikoladronjak.rently.repository.BillingRunRepository;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.RentRepository;
+import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
+import com.nikoladronjak.rently.repository.UtilityRepository;
+
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:BillingServiceTest",
+		"rently.billing.partition-size=2", "rently.billing.batch-size=1" })
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BillingServiceTest {
+
+	YearMonth period;
+
+	OfficeSpace officeSpace1;
+
+	OfficeSpace officeSpace2;
+
+	Lease lease1;
+
+	Lease lease2;
+
+	Lease lease3;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private OfficeSpaceRepository officeSpaceRepository;
+
+	@Autowired
+	private UtilityRepository utilityRepository;
+
+	@Autowired
+	private UtilityLeaseRepository utilityLeaseRepository;
+
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	@Autowired
+	private RentRepository rentRepository;
+
+	@Autowired
+	private BillingRunRepository billingRunRepository;
+
+	@Autowired
+	private BillingPartitionRepository billingPartitionRepository;
+
+	@Autowired
+	private BillingService billingService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		period = YearMonth.now().plusMonths(2);
+
+		Owner owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		Customer customer = customerRepository
+				.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null));
+		officeSpace1 = officeSpaceRepository.save(new OfficeSpace(1, "Office Space 1", "Jove Ilica 154", "",
+				(double) 300, 150, true, 30, photos, owner, null, 100, null));
+		officeSpace2 = officeSpaceRepository.save(new OfficeSpace(2, "Office Space 2", "Studentski trg 1", "",
+				(double) 250, 120, true, 20, photos, owner, null, 90, null));
+
+		Utility utility1 = utilityRepository.save(new Utility(1, "Microphone", "", null));
+		Utility utility2 = utilityRepository.save(new Utility(2, "Projector", "", null));
+		utilityLeaseRepository.save(new UtilityLease(1, (double) 40, utility1, officeSpace1, null));
+		utilityLeaseRepository.save(new UtilityLease(2, (double) 60, utility2, officeSpace1, null));
+
+		lease1 = leaseRepository.save(new Lease(1, 200, calendar(period.atDay(10)), calendar(period.atDay(20)),
+				officeSpace1, customer, null));
+		lease2 = leaseRepository.save(new Lease(2, 250, calendar(period.minusMonths(1).atDay(1)),
+				calendar(period.plusMonths(6).atDay(1)), officeSpace2, customer, null));
+		lease3 = leaseRepository.save(new Lease(3, 300, calendar(period.plusMonths(1).atDay(1)),
+				calendar(period.plusMonths(2).atDay(1)), officeSpace2, customer, null));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		period = null;
+
+		officeSpace1 = null;
+		officeSpace2 = null;
+
+		lease1 = null;
+		lease2 = null;
+		lease3 = null;
+	}
+
+	@Test
+	void testStartBadBillingPeriod() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> billingService.start("2025-13"));
+
+		assertEquals("The billing period has to be in the yyyy-MM format.", exception.getMessage());
+	}
+
+	@Test
+	void testGetByBillingPeriodBadBillingPeriod() {
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> billingService.getByBillingPeriod(period.toString()));
+
+		assertEquals("There is no billing run for the given billing period.", exception.getMessage());
+	}
+
+	@Test
+	void testStart() throws InterruptedException {
+		billingService.start(period.toString());
+
+		BillingRunDTO billingRunDTO = awaitCompletion();
+		assertEquals(new BillingRunDTO(period.toString(), BillingRunStatus.Completed, 2, 2, 2), billingRunDTO);
+
+		Map<Integer, Rent> rents = rentRepository.findAll().stream()
+				.collect(Collectors.toMap(rent -> rent.getLease().getLeaseId(), rent -> rent));
+		assertEquals(2, rents.size());
+		assertEquals(300, rents.get(lease1.getLeaseId()).getTotalRent());
+		assertEquals(2, rents.get(lease1.getLeaseId()).getUtilityLeases().size());
+		assertEquals(250, rents.get(lease2.getLeaseId()).getTotalRent());
+		assertEquals(period.toString(), rents.get(lease2.getLeaseId()).getBillingPeriod());
+		assertFalse(rents.containsKey(lease3.getLeaseId()));
+	}
+
+	@Test
+	void testStartTwice() throws InterruptedException {
+		billingService.start(period.toString());
+		awaitCompletion();
+
+		BillingRunDTO billingRunDTO = billingService.start(period.toString());
+
+		assertEquals(new BillingRunDTO(period.toString(), BillingRunStatus.Completed, 2, 2, 2), billingRunDTO);
+		assertEquals(2, rentRepository.count());
+	}
+
+	@Test
+	void testStartBillsLeasesAddedAfterCompletion() throws InterruptedException {
+		billingService.start(period.toString());
+		awaitCompletion();
+		Lease lease4 = leaseRepository.save(new Lease(4, 150, calendar(period.atDay(1)), calendar(period.atDay(5)),
+				officeSpace2, lease1.getCustomer(), null));
+		Lease lease5 = leaseRepository.save(new Lease(5, 100, calendar(period.atDay(25)),
+				calendar(period.plusMonths(1).atDay(5)), officeSpace2, lease1.getCustomer(), null));
+
+		billingService.start(period.toString());
+
+		assertEquals(new BillingRunDTO(period.toString(), BillingRunStatus.Completed, 3, 3, 4), awaitCompletion());
+		assertEquals(4, rentRepository.count());
+		assertEquals(1, rentRepository.findAllByLease_LeaseId(lease4.getLeaseId()).size());
+		assertEquals(1, rentRepository.findAllByLease_LeaseId(lease5.getLeaseId()).size());
+	}
+
+	@Test
+	void testStartSkipsBilledLeases() throws InterruptedException {
+		rentRepository.save(new Rent(0, 250, period.toString(), new ArrayList<UtilityLease>(), lease2));
+
+		billingService.start(period.toString());
+
+		assertEquals(new BillingRunDTO(period.toString(), BillingRunStatus.Completed, 2, 2, 1), awaitCompletion());
+		assertEquals(2, rentRepository.count());
+	}
+
+	@Test
+	void testStartResumesFailedRun() throws InterruptedException {
+		BillingRun billingRun = billingRunRepository.save(new BillingRun(0, period.toString(),
+				BillingRunStatus.Failed, lease1.getLeaseId(), lease3.getLeaseId(), 2, 2, 0));
+		billingPartitionRepository.save(new BillingPartition(0, 0, 0, billingRun));
+
+		billingService.start(period.toString());
+
+		assertEquals(new BillingRunDTO(period.toString(), BillingRunStatus.Completed, 2, 2, 0), awaitCompletion());
+		assertEquals(0, rentRepository.count());
+	}
+
+	@Test
+	void testStartResumesInterruptedPartition() throws InterruptedException {
+		billingRunRepository.save(new BillingRun(0, period.toString(), BillingRunStatus.Failed, lease1.getLeaseId(),
+				lease3.getLeaseId(), 2, 2, 1));
+		rentRepository.save(new Rent(0, 250, period.toString(), new ArrayList<UtilityLease>(), lease2));
+
+		billingService.start(period.toString());
+
+		assertEquals(new BillingRunDTO(period.toString(), BillingRunStatus.Completed, 2, 2, 2), awaitCompletion());
+		assertEquals(2, rentRepository.count());
+	}
+
+	@Test
+	void testStartNextPeriod() throws InterruptedException {
+		billingService.start(period.toString());
+		awaitCompletion();
+		period = period.plusMonths(1);
+
+		billingService.start(period.toString());
+
+		assertEquals(new BillingRunDTO(period.toString(), BillingRunStatus.Completed, 2, 2, 2), awaitCompletion());
+		assertEquals(4, rentRepository.count());
+	}
+
+	private BillingRunDTO awaitCompletion() throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			BillingRunDTO billingRunDTO = billingService.getByBillingPeriod(period.toString());
+			if (billingRunDTO.getStatus() != BillingRunStatus.Running)
+				return billingRunDTO;
+
+			Thread.sleep(100);
+		}
+		fail("The billing run did not finish.");
+		return null;
+	}
+
+	private static GregorianCalendar calendar(LocalDate date) {
+		return GregorianCalendar.from(date.atStartOfDay(ZoneId.systemDefault()));
+	}
+}
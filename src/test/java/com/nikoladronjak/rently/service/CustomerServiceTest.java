@@ -15,13 +15,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 
 import com.nikoladronjak.rently.domain.Customer;
 import com.nikoladronjak.rently.domain.Lease;
 import com.nikoladronjak.rently.domain.Owner;
 import com.nikoladronjak.rently.dto.CustomerDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
 import com.nikoladronjak.rently.repository.CustomerRepository;
 import com.nikoladronjak.rently.repository.LeaseRepository;
 import com.nikoladronjak.rently.repository.OwnerRepository;
@@ -48,6 +48,9 @@ class CustomerServiceTest {
 	@Mock
 	private CustomerRepository customerRepository;
 
+	@Mock
+	private SavedSearchService savedSearchService;
+
 	@InjectMocks
 	private CustomerService customerService;
 
@@ -80,10 +83,9 @@ class CustomerServiceTest {
 	void testGetAllError() {
 		when(customerRepository.findAll()).thenThrow(new RuntimeException("Something went wrong"));
 
-		ResponseEntity<?> response = customerService.getAll();
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> customerService.getAll());
 
-		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-		assertEquals("Something went wrong", response.getBody());
+		assertEquals("Something went wrong", exception.getMessage());
 	}
 
 	@Test
@@ -93,51 +95,48 @@ class CustomerServiceTest {
 		customers.add(customer2);
 		when(customerRepository.findAll()).thenReturn(customers);
 
-		ResponseEntity<?> response = customerService.getAll();
+		List<CustomerDTO> response = customerService.getAll();
 		List<CustomerDTO> customerDTOs = customers.stream().map(this::convertToDTO).collect(Collectors.toList());
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(customerDTOs, response.getBody());
+		assertEquals(customerDTOs, response);
 	}
 
 	@Test
 	void testGetByIdBadId() {
 		when(customerRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = customerService.getById(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> customerService.getById(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no customer with the given id.", response.getBody());
+		assertEquals("There is no customer with the given id.", exception.getMessage());
 	}
 
 	@Test
 	void testGetById() {
 		when(customerRepository.findById(1)).thenReturn(Optional.of(customer1));
 
-		ResponseEntity<?> response = customerService.getById(1);
+		CustomerDTO response = customerService.getById(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(customer1), response.getBody());
+		assertEquals(convertToDTO(customer1), response);
 	}
 
 	@Test
 	void testAddDuplicateCustomer() {
 		when(customerRepository.findByEmail(customer1.getEmail())).thenReturn(Optional.of(customer1));
 
-		ResponseEntity<?> response = customerService.add(convertToDTO(customer1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> customerService.add(convertToDTO(customer1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This user already exists.", response.getBody());
+		assertEquals("This user already exists.", exception.getMessage());
 	}
 
 	@Test
 	void testAddDuplicateOwner() {
 		when(ownerRepository.findByEmail(customer1.getEmail())).thenReturn(Optional.of(owner1));
 
-		ResponseEntity<?> response = customerService.add(convertToDTO(customer1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> customerService.add(convertToDTO(customer1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This user already exists.", response.getBody());
+		assertEquals("This user already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -146,20 +145,19 @@ class CustomerServiceTest {
 		when(ownerRepository.findByEmail(owner1.getEmail())).thenReturn(Optional.empty());
 		when(customerRepository.save(any(Customer.class))).thenReturn(customer1);
 
-		ResponseEntity<?> response = customerService.add(convertToDTO(customer1));
+		CustomerDTO response = customerService.add(convertToDTO(customer1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(customer1), response.getBody());
+		assertEquals(convertToDTO(customer1), response);
 	}
 
 	@Test
 	void testUpdateBadId() {
 		when(customerRepository.findById(customer1.getCustomerId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = customerService.update(1, convertToDTO(customer1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> customerService.update(1, convertToDTO(customer1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no customer with the given id.", response.getBody());
+		assertEquals("There is no customer with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -168,10 +166,10 @@ class CustomerServiceTest {
 		when(customerRepository.findByEmail(customer1.getEmail())).thenReturn(Optional.of(customer1));
 		when(customerRepository.save(any(Customer.class))).thenThrow(new RuntimeException("This user already exists."));
 
-		ResponseEntity<?> response = customerService.update(customer1.getCustomerId(), convertToDTO(customer1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> customerService.update(customer1.getCustomerId(), convertToDTO(customer1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This user already exists.", response.getBody());
+		assertEquals("This user already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -180,10 +178,10 @@ class CustomerServiceTest {
 		when(ownerRepository.findByEmail(customer1.getEmail())).thenReturn(Optional.of(owner1));
 		when(customerRepository.save(any(Customer.class))).thenThrow(new RuntimeException("This user already exists."));
 
-		ResponseEntity<?> response = customerService.update(customer1.getCustomerId(), convertToDTO(customer1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> customerService.update(customer1.getCustomerId(), convertToDTO(customer1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This user already exists.", response.getBody());
+		assertEquals("This user already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -193,20 +191,18 @@ class CustomerServiceTest {
 		when(ownerRepository.findByEmail(owner1.getEmail())).thenReturn(Optional.empty());
 		when(customerRepository.save(any(Customer.class))).thenReturn(customer1);
 
-		ResponseEntity<?> response = customerService.update(1, convertToDTO(customer1));
+		CustomerDTO response = customerService.update(1, convertToDTO(customer1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(customer1), response.getBody());
+		assertEquals(convertToDTO(customer1), response);
 	}
 
 	@Test
 	void testDeleteBadId() {
 		when(customerRepository.findById(customer1.getCustomerId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = customerService.delete(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> customerService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no customer with the given id.", response.getBody());
+		assertEquals("There is no customer with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -214,10 +210,10 @@ class CustomerServiceTest {
 		when(customerRepository.findById(customer1.getCustomerId())).thenReturn(Optional.of(customer1));
 		when(leaseRepository.findAllByCustomer_CustomerId(customer1.getCustomerId())).thenReturn(leases);
 
-		ResponseEntity<?> response = customerService.delete(1);
+		ConflictException exception = assertThrows(ConflictException.class, () -> customerService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("You cannot delete this customer since there are leases associated with him.", response.getBody());
+		assertEquals("You cannot delete this customer since there are leases associated with him.",
+				exception.getMessage());
 	}
 
 	@Test
@@ -226,14 +222,14 @@ class CustomerServiceTest {
 		when(leaseRepository.findAllByCustomer_CustomerId(customer1.getCustomerId()))
 				.thenReturn(new ArrayList<Lease>());
 
-		ResponseEntity<?> response = customerService.delete(1);
+		CustomerDTO response = customerService.delete(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(customer1), response.getBody());
+		assertEquals(convertToDTO(customer1), response);
 	}
 
 	private CustomerDTO convertToDTO(Customer customer) {
 		CustomerDTO customerDTO = new CustomerDTO();
+		customerDTO.setCustomerId(customer.getCustomerId());
 		customerDTO.setFirstName(customer.getFirstName());
 		customerDTO.setLastName(customer.getLastName());
 		customerDTO.setEmail(customer.getEmail());
@@ -0,0 +1,143 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.DuplicateAddressAction;
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.dto.DuplicateAddressDTO;
+import com.nikoladronjak.rently.dto.OfficeSpaceDTO;
+import com.nikoladronjak.rently.dto.ResidenceDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.ResidenceRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class DuplicateAddressServiceTest {
+
+	Owner owner;
+
+	List<String> photos;
+
+	ResidenceDTO residenceDTO;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private ResidenceRepository residenceRepository;
+
+	@Autowired
+	private ResidenceService residenceService;
+
+	@Autowired
+	private OfficeSpaceService officeSpaceService;
+
+	@Autowired
+	private DuplicateAddressService duplicateAddressService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		residenceDTO = residenceService.add(new ResidenceDTO(null, "Sunny apartment", "Bulevar kralja Aleksandra 73",
+				"", (double) 300, 60, true, 0, photos, 2, 1, HeatingType.Central, true, true, owner.getOwnerId()));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		owner = null;
+		photos = null;
+		residenceDTO = null;
+	}
+
+	@Test
+	void testAddSimilarAddressRejected() {
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> officeSpaceService.add(officeSpaceDTO("Bul. Kralja Aleksandra 73")));
+
+		assertEquals("This property is probably the same as the property with the id "
+				+ residenceDTO.getPropertyId() + ".", exception.getMessage());
+	}
+
+	@Test
+	void testAddAddressWithTypoRejected() {
+		assertThrows(ConflictException.class,
+				() -> officeSpaceService.add(officeSpaceDTO("Bulevar kralja Aleksanda 73")));
+	}
+
+	@Test
+	void testAddDifferentNumberAccepted() {
+		OfficeSpaceDTO officeSpaceDTO = officeSpaceService.add(officeSpaceDTO("Bulevar kralja Aleksandra 75"));
+
+		assertNull(officeSpaceDTO.getPossibleDuplicateIds());
+	}
+
+	@Test
+	void testUpdateOwnAddressAccepted() {
+		residenceDTO.setAddress("Bul. kralja Aleksandra 73");
+
+		assertNull(residenceService.update(residenceDTO.getPropertyId(), residenceDTO).getPossibleDuplicateIds());
+	}
+
+	@Test
+	void testDeletedAddressAccepted() {
+		residenceService.delete(residenceDTO.getPropertyId());
+
+		assertDoesNotThrow(() -> officeSpaceService.add(officeSpaceDTO("Bul. Kralja Aleksandra 73")));
+	}
+
+	@Test
+	void testCheckWarn() {
+		DuplicateAddressService warningService = new DuplicateAddressService(0.5, DuplicateAddressAction.Warn);
+		Residence residence = residenceRepository.findById(residenceDTO.getPropertyId()).get();
+		warningService.index(residence);
+
+		assertEquals(List.of(residenceDTO.getPropertyId()), warningService.check(null, "Bul. Kralja Aleksandra 73"));
+		assertEquals(List.of(), warningService.check(residenceDTO.getPropertyId(), "Bul. Kralja Aleksandra 73"));
+		assertEquals(List.of(), warningService.check(null, "Knez Mihailova 1"));
+	}
+
+	@Test
+	void testReport() {
+		duplicateAddressService.index(residenceRepository.save(new Residence(0, "Copy of the apartment",
+				"Bulevar Kralja Aleksandra 73.", "", (double) 300, 60, true, 0, photos, owner, null, 2, 1,
+				HeatingType.Central, true, true)));
+		officeSpaceService.add(officeSpaceDTO("Knez Mihailova 1"));
+
+		List<DuplicateAddressDTO> duplicateAddressDTOs = duplicateAddressService.report(null);
+
+		assertEquals(1, duplicateAddressDTOs.size());
+		assertEquals(residenceDTO.getPropertyId(), duplicateAddressDTOs.get(0).getPropertyId());
+		assertEquals("Bulevar Kralja Aleksandra 73.", duplicateAddressDTOs.get(0).getDuplicateAddress());
+		assertEquals(1.0, duplicateAddressDTOs.get(0).getSimilarity());
+	}
+
+	@Test
+	void testReportInvalidThreshold() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> duplicateAddressService.report(1.5));
+
+		assertEquals("The threshold has to be greater than 0 and at most 1.", exception.getMessage());
+	}
+
+	private OfficeSpaceDTO officeSpaceDTO(String address) {
+		return new OfficeSpaceDTO(null, "Office space", address, "", (double) 800, 150, true, 10, photos, 30,
+				owner.getOwnerId());
+	}
+}
@@ -0,0 +1,258 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.EventSpace;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.dto.EventBookingDTO;
+import com.nikoladronjak.rently.dto.EventSlotDTO;
+import com.nikoladronjak.rently.dto.LeaseDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.EventBookingRepository;
+import com.nikoladronjak.rently.repository.EventSpaceRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EventBookingServiceTest {
+
+	Owner owner;
+
+	EventSpace eventSpace;
+
+	Customer customer;
+
+	LocalDate date;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private EventSpaceRepository eventSpaceRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private EventBookingRepository eventBookingRepository;
+
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	@Autowired
+	private EventBookingService eventBookingService;
+
+	@Autowired
+	private LeaseService leaseService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		eventSpace = eventSpaceRepository.save(new EventSpace(1, "Event Space 1", "Jove Ilica 154", "", (double) 300,
+				200, true, 20, photos, owner, null, 50, true, true, null));
+		customer = customerRepository.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null));
+		date = LocalDate.now().plusDays(10);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		owner = null;
+		eventSpace = null;
+		customer = null;
+		date = null;
+	}
+
+	@Test
+	void testAdd() {
+		EventBookingDTO response = eventBookingService.add(booking(date, 10, 14));
+
+		assertTrue(eventBookingRepository.findById(response.getEventBookingId()).isPresent());
+		assertFalse(eventBookingService.isFree(eventSpace.getPropertyId(), date, 1 << 13));
+		assertTrue(eventBookingService.isFree(eventSpace.getPropertyId(), date, 1 << 14));
+	}
+
+	@Test
+	void testAddBadEventSpaceId() {
+		EventBookingDTO eventBookingDTO = booking(date, 10, 14);
+		eventBookingDTO.setEventSpaceId(99);
+
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> eventBookingService.add(eventBookingDTO));
+
+		assertEquals("There is no event space for the given eventSpaceId.", exception.getMessage());
+	}
+
+	@Test
+	void testAddBadHours() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> eventBookingService.add(booking(date, 14, 10)));
+
+		assertEquals("The start hour of the booking has to be before the end hour of the booking.",
+				exception.getMessage());
+	}
+
+	@Test
+	void testAddOverlapping() {
+		eventBookingService.add(booking(date, 10, 14));
+
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> eventBookingService.add(booking(date, 13, 16)));
+		assertEquals("The event space is already booked for the given hours.", exception.getMessage());
+		assertEquals(1, eventBookingRepository.count());
+
+		eventBookingService.add(booking(date, 14, 16));
+		eventBookingService.add(booking(date.plusDays(1), 10, 14));
+		assertEquals(3, eventBookingRepository.count());
+	}
+
+	@Test
+	void testAddLeased() {
+		leaseService.add(lease(date.minusDays(1), date.plusDays(1)));
+
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> eventBookingService.add(booking(date, 10, 14)));
+
+		assertEquals("The event space is leased on the given date.", exception.getMessage());
+	}
+
+	@Test
+	void testLeaseOverBookings() {
+		eventBookingService.add(booking(date, 10, 14));
+
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> leaseService.add(lease(date.minusDays(1), date.plusDays(1))));
+
+		assertEquals("The event space has hourly bookings for the given dates.", exception.getMessage());
+		leaseService.add(lease(date.plusDays(1), date.plusDays(5)));
+	}
+
+	@Test
+	void testDelete() {
+		EventBookingDTO eventBookingDTO = eventBookingService.add(booking(date, 10, 14));
+
+		eventBookingService.delete(eventBookingDTO.getEventBookingId());
+
+		assertEquals(0, eventBookingRepository.count());
+		assertFalse(eventBookingService.hasBookings(eventSpace.getPropertyId(), date, date));
+		eventBookingService.add(booking(date, 10, 14));
+	}
+
+	@Test
+	void testGetFreeSlots() {
+		eventBookingService.add(booking(date, 0, 8));
+		eventBookingService.add(booking(date, 12, 14));
+		eventBookingService.add(booking(date.plusDays(1), 0, 24));
+
+		List<EventSlotDTO> response = eventBookingService.getFreeSlots(eventSpace.getPropertyId(), date,
+				date.plusDays(2));
+
+		assertEquals(List.of(new EventSlotDTO(date, 8, 12), new EventSlotDTO(date, 14, 24),
+				new EventSlotDTO(date.plusDays(2), 0, 24)), response);
+	}
+
+	@Test
+	void testGetFreeSlotsTooLong() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> eventBookingService.getFreeSlots(eventSpace.getPropertyId(), date, date.plusDays(100)));
+
+		assertEquals("The free slots can only be queried for up to 62 days at once.", exception.getMessage());
+	}
+
+	@Test
+	void testFindNextSlot() {
+		eventBookingService.add(booking(date, 8, 20));
+		eventBookingService.add(booking(date.plusDays(1), 0, 24));
+
+		assertEquals(new EventSlotDTO(date, 20, 24),
+				eventBookingService.findNextSlot(eventSpace.getPropertyId(), date, 8, 4));
+		assertEquals(new EventSlotDTO(date.plusDays(2), 0, 5),
+				eventBookingService.findNextSlot(eventSpace.getPropertyId(), date, 8, 5));
+	}
+
+	@Test
+	void testConcurrentLeaseAndBookings() throws Exception {
+		int threads = 16;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				int hour = i;
+				Callable<Boolean> write = () -> {
+					start.await();
+					try {
+						if (hour % 2 == 0) {
+							leaseService.add(lease(date, date));
+						} else {
+							eventBookingService.add(booking(date, hour, hour + 1));
+						}
+						return true;
+					} catch (RuntimeException e) {
+						return false;
+					}
+				};
+				results.add(executor.submit(write));
+			}
+			start.countDown();
+
+			for (Future<Boolean> result : results) {
+				result.get();
+			}
+			assertTrue(leaseRepository.count() == 0 || eventBookingRepository.count() == 0);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testRebuild() {
+		eventBookingService.add(booking(date, 10, 14));
+
+		eventBookingService.rebuild();
+
+		assertFalse(eventBookingService.isFree(eventSpace.getPropertyId(), date, 1 << 10));
+	}
+
+	private EventBookingDTO booking(LocalDate day, int startHour, int endHour) {
+		return new EventBookingDTO(eventSpace.getPropertyId(), customer.getCustomerId(), toCalendar(day), startHour,
+				endHour);
+	}
+
+	private LeaseDTO lease(LocalDate startDate, LocalDate endDate) {
+		LeaseDTO leaseDTO = new LeaseDTO();
+		leaseDTO.setPropertyId(eventSpace.getPropertyId());
+		leaseDTO.setCustomerId(customer.getCustomerId());
+		leaseDTO.setStartDate(toCalendar(startDate));
+		leaseDTO.setEndDate(toCalendar(endDate));
+		return leaseDTO;
+	}
+
+	private static GregorianCalendar toCalendar(LocalDate day) {
+		return new GregorianCalendar(day.getYear(), day.getMonthValue() - 1, day.getDayOfMonth());
+	}
+}
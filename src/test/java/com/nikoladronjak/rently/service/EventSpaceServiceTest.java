@@ -2,12 +2,16 @@ package com.nikoladronjak.rently.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
@@ -16,9 +20,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 
+import com.nikoladronjak.rently.domain.EventBooking;
 import com.nikoladronjak.rently.domain.EventSpace;
 import com.nikoladronjak.rently.domain.HeatingType;
 import com.nikoladronjak.rently.domain.Lease;
@@ -27,6 +30,11 @@ import com.nikoladronjak.rently.domain.Owner;
 import com.nikoladronjak.rently.domain.Residence;
 import com.nikoladronjak.rently.domain.UtilityLease;
 import com.nikoladronjak.rently.dto.EventSpaceDTO;
+import com.nikoladronjak.rently.dto.EventSpaceSearchDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.EventBookingRepository;
 import com.nikoladronjak.rently.repository.EventSpaceRepository;
 import com.nikoladronjak.rently.repository.LeaseRepository;
 import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
@@ -75,11 +83,47 @@ class EventSpaceServiceTest {
 	@Mock
 	private EventSpaceRepository eventSpaceRepository;
 
+	@Mock
+	private EventBookingRepository eventBookingRepository;
+
+	@Mock
+	private PropertyBookingService propertyBookingService;
+
+	@Mock
+	private EventBookingService eventBookingService;
+
+	@Mock
+	private QuoteService quoteService;
+
+	@Mock
+	private RateRuleService rateRuleService;
+
+	@Mock
+	private HistoryService historyService;
+
+	@Mock
+	private SavedSearchService savedSearchService;
+
+	@Mock
+	private PropertySearchService propertySearchService;
+
+	@Mock
+	private AutocompleteService autocompleteService;
+
+	@Mock
+	private DuplicateAddressService duplicateAddressService;
+
+	@Mock
+	private GeoSearchService geoSearchService;
+
 	@InjectMocks
 	private EventSpaceService eventSpaceService;
 
 	@BeforeEach
 	void setUp() throws Exception {
+		when(historyService.changeProperty(any()))
+				.thenAnswer(invocation -> invocation.<Supplier<EventSpace>>getArgument(0).get());
+
 		owner = new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890");
 
 		photos = new ArrayList<String>();
@@ -137,10 +181,9 @@ class EventSpaceServiceTest {
 	void testGetAllError() {
 		when(eventSpaceRepository.findAll()).thenThrow(new RuntimeException("Something went wrong"));
 
-		ResponseEntity<?> response = eventSpaceService.getAll();
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> eventSpaceService.getAll());
 
-		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-		assertEquals("Something went wrong", response.getBody());
+		assertEquals("Something went wrong", exception.getMessage());
 	}
 
 	@Test
@@ -150,41 +193,61 @@ class EventSpaceServiceTest {
 		eventSpaces.add(eventSpace2);
 		when(eventSpaceRepository.findAll()).thenReturn(eventSpaces);
 
-		ResponseEntity<?> response = eventSpaceService.getAll();
+		List<EventSpaceDTO> response = eventSpaceService.getAll();
 		List<EventSpaceDTO> eventSpaceDTOs = eventSpaces.stream().map(this::convertToDTO).collect(Collectors.toList());
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(eventSpaceDTOs, response.getBody());
+		assertEquals(eventSpaceDTOs, response);
 	}
 
 	@Test
 	void testGetByIdBadId() {
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = eventSpaceService.getById(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> eventSpaceService.getById(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no event space with the given id.", response.getBody());
+		assertEquals("There is no event space with the given id.", exception.getMessage());
 	}
 
 	@Test
 	void testGetById() {
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.of(eventSpace1));
 
-		ResponseEntity<?> response = eventSpaceService.getById(1);
+		EventSpaceDTO response = eventSpaceService.getById(1);
+
+		assertEquals(convertToDTO(eventSpace1), response);
+	}
+
+	@Test
+	void testGetAvailableBadHours() {
+		EventSpaceSearchDTO eventSpaceSearchDTO = new EventSpaceSearchDTO(LocalDate.now(), 12, 12, null, null, null);
+
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> eventSpaceService.getAvailable(eventSpaceSearchDTO));
+
+		assertEquals("The start hour has to be before the end hour.", exception.getMessage());
+	}
+
+	@Test
+	void testGetAvailable() {
+		LocalDate date = LocalDate.now().plusDays(1);
+		when(eventSpaceRepository.findOffered(40, true, null)).thenReturn(List.of(eventSpace1, eventSpace2));
+		when(eventBookingService.isFree(eq(eventSpace1.getPropertyId()), eq(date), anyInt())).thenReturn(false);
+		when(eventBookingService.isFree(eq(eventSpace2.getPropertyId()), eq(date), anyInt())).thenReturn(true);
+
+		List<EventSpaceDTO> response = eventSpaceService
+				.getAvailable(new EventSpaceSearchDTO(date, 10, 14, 40, true, null));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(eventSpace1), response.getBody());
+		assertEquals(List.of(convertToDTO(eventSpace2)), response);
 	}
 
 	@Test
 	void testAddMissingOwner() {
 		when(ownerRepository.findById(eventSpace1.getOwner().getOwnerId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = eventSpaceService.add(convertToDTO(eventSpace1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> eventSpaceService.add(convertToDTO(eventSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no owner with the given id.", response.getBody());
+		assertEquals("There is no owner with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -192,10 +255,10 @@ class EventSpaceServiceTest {
 		when(ownerRepository.findById(eventSpace1.getOwner().getOwnerId())).thenReturn(Optional.of(owner));
 		when(eventSpaceRepository.findByAddress(eventSpace1.getAddress())).thenReturn(Optional.of(eventSpace1));
 
-		ResponseEntity<?> response = eventSpaceService.add(convertToDTO(eventSpace1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> eventSpaceService.add(convertToDTO(eventSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -203,10 +266,10 @@ class EventSpaceServiceTest {
 		when(ownerRepository.findById(eventSpace1.getOwner().getOwnerId())).thenReturn(Optional.of(owner));
 		when(residenceRepository.findByAddress(eventSpace1.getAddress())).thenReturn(Optional.of(residence1));
 
-		ResponseEntity<?> response = eventSpaceService.add(convertToDTO(eventSpace1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> eventSpaceService.add(convertToDTO(eventSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -214,10 +277,10 @@ class EventSpaceServiceTest {
 		when(ownerRepository.findById(eventSpace1.getOwner().getOwnerId())).thenReturn(Optional.of(owner));
 		when(officeSpaceRepository.findByAddress(eventSpace1.getAddress())).thenReturn(Optional.of(officeSpace1));
 
-		ResponseEntity<?> response = eventSpaceService.add(convertToDTO(eventSpace1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> eventSpaceService.add(convertToDTO(eventSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -228,20 +291,19 @@ class EventSpaceServiceTest {
 		when(officeSpaceRepository.findByAddress(eventSpace1.getAddress())).thenReturn(Optional.empty());
 		when(eventSpaceRepository.save(any(EventSpace.class))).thenReturn(eventSpace1);
 
-		ResponseEntity<?> response = eventSpaceService.add(convertToDTO(eventSpace1));
+		EventSpaceDTO response = eventSpaceService.add(convertToDTO(eventSpace1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(eventSpace1), response.getBody());
+		assertEquals(convertToDTO(eventSpace1), response);
 	}
 
 	@Test
 	void testUpdateBadId() {
 		when(eventSpaceRepository.findById(eventSpace1.getPropertyId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = eventSpaceService.update(1, convertToDTO(eventSpace1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> eventSpaceService.update(1, convertToDTO(eventSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no event space with the given id.", response.getBody());
+		assertEquals("There is no event space with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -249,10 +311,10 @@ class EventSpaceServiceTest {
 		when(eventSpaceRepository.findById(eventSpace1.getPropertyId())).thenReturn(Optional.of(eventSpace1));
 		when(ownerRepository.findById(eventSpace1.getOwner().getOwnerId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = eventSpaceService.update(1, convertToDTO(eventSpace1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> eventSpaceService.update(1, convertToDTO(eventSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no owner with the given id.", response.getBody());
+		assertEquals("There is no owner with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -263,10 +325,10 @@ class EventSpaceServiceTest {
 		when(eventSpaceRepository.save(any(EventSpace.class)))
 				.thenThrow(new RuntimeException("This property already exists."));
 
-		ResponseEntity<?> response = eventSpaceService.update(eventSpace1.getPropertyId(), convertToDTO(eventSpace1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> eventSpaceService.update(eventSpace1.getPropertyId(), convertToDTO(eventSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -277,10 +339,10 @@ class EventSpaceServiceTest {
 		when(eventSpaceRepository.save(any(EventSpace.class)))
 				.thenThrow(new RuntimeException("This property already exists."));
 
-		ResponseEntity<?> response = eventSpaceService.update(eventSpace1.getPropertyId(), convertToDTO(eventSpace1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> eventSpaceService.update(eventSpace1.getPropertyId(), convertToDTO(eventSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -291,10 +353,10 @@ class EventSpaceServiceTest {
 		when(eventSpaceRepository.save(any(EventSpace.class)))
 				.thenThrow(new RuntimeException("This property already exists."));
 
-		ResponseEntity<?> response = eventSpaceService.update(eventSpace1.getPropertyId(), convertToDTO(eventSpace1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> eventSpaceService.update(eventSpace1.getPropertyId(), convertToDTO(eventSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -304,20 +366,18 @@ class EventSpaceServiceTest {
 		when(eventSpaceRepository.findByAddress(eventSpace1.getAddress())).thenReturn(Optional.empty());
 		when(eventSpaceRepository.save(any(EventSpace.class))).thenReturn(eventSpace1);
 
-		ResponseEntity<?> response = eventSpaceService.update(1, convertToDTO(eventSpace1));
+		EventSpaceDTO response = eventSpaceService.update(1, convertToDTO(eventSpace1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(eventSpace1), response.getBody());
+		assertEquals(convertToDTO(eventSpace1), response);
 	}
 
 	@Test
 	void testDeleteBadId() {
 		when(eventSpaceRepository.findById(eventSpace1.getPropertyId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = eventSpaceService.delete(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> eventSpaceService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no event space with the given id.", response.getBody());
+		assertEquals("There is no event space with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -325,11 +385,10 @@ class EventSpaceServiceTest {
 		when(eventSpaceRepository.findById(eventSpace1.getPropertyId())).thenReturn(Optional.of(eventSpace1));
 		when(leaseRepository.findAllByProperty_PropertyId(residence1.getPropertyId())).thenReturn(leases);
 
-		ResponseEntity<?> response = eventSpaceService.delete(1);
+		ConflictException exception = assertThrows(ConflictException.class, () -> eventSpaceService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 		assertEquals("You cannot delete this event space since there are leases associated with it.",
-				response.getBody());
+				exception.getMessage());
 	}
 
 	@Test
@@ -340,11 +399,26 @@ class EventSpaceServiceTest {
 		when(utilityLeaseRepository.findAllByProperty_PropertyId(eventSpace1.getPropertyId()))
 				.thenReturn(utilityLeases);
 
-		ResponseEntity<?> response = eventSpaceService.delete(1);
+		ConflictException exception = assertThrows(ConflictException.class, () -> eventSpaceService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 		assertEquals("You cannot delete this event space since there are utility leases associated with it.",
-				response.getBody());
+				exception.getMessage());
+	}
+
+	@Test
+	void testDeleteAssociatedEventBooking() {
+		when(eventSpaceRepository.findById(eventSpace1.getPropertyId())).thenReturn(Optional.of(eventSpace1));
+		when(leaseRepository.findAllByProperty_PropertyId(eventSpace1.getPropertyId()))
+				.thenReturn(new ArrayList<Lease>());
+		when(utilityLeaseRepository.findAllByProperty_PropertyId(eventSpace1.getPropertyId()))
+				.thenReturn(new ArrayList<UtilityLease>());
+		when(eventBookingRepository.findAllByEventSpace_PropertyId(eventSpace1.getPropertyId()))
+				.thenReturn(List.of(new EventBooking(1, null, 10, 12, eventSpace1, null)));
+
+		ConflictException exception = assertThrows(ConflictException.class, () -> eventSpaceService.delete(1));
+
+		assertEquals("You cannot delete this event space since there are event bookings associated with it.",
+				exception.getMessage());
 	}
 
 	@Test
@@ -355,10 +429,9 @@ class EventSpaceServiceTest {
 		when(utilityLeaseRepository.findAllByProperty_PropertyId(eventSpace1.getPropertyId()))
 				.thenReturn(new ArrayList<UtilityLease>());
 
-		ResponseEntity<?> response = eventSpaceService.delete(1);
+		EventSpaceDTO response = eventSpaceService.delete(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(eventSpace1), response.getBody());
+		assertEquals(convertToDTO(eventSpace1), response);
 	}
 
 	private EventSpaceDTO convertToDTO(EventSpace eventSpace) {
@@ -0,0 +1,205 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.dto.GeoSearchDTO;
+import com.nikoladronjak.rently.dto.OfficeSpaceDTO;
+import com.nikoladronjak.rently.dto.PropertyDTO;
+import com.nikoladronjak.rently.dto.ResidenceDTO;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class GeoSearchServiceTest {
+
+	ResidenceDTO residenceDTO1;
+
+	ResidenceDTO residenceDTO2;
+
+	OfficeSpaceDTO officeSpaceDTO;
+
+	ResidenceDTO residenceDTO3;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private ResidenceService residenceService;
+
+	@Autowired
+	private OfficeSpaceService officeSpaceService;
+
+	@Autowired
+	private GeoSearchService geoSearchService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		Owner owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		residenceDTO1 = residenceService.add(located(new ResidenceDTO(null, "Apartment on the square",
+				"Trg republike 3", "", (double) 600, 60, true, 0, photos, 2, 1, HeatingType.Central, true, true,
+				owner.getOwnerId()), 44.8160, 20.4602));
+		residenceDTO2 = residenceService.add(located(new ResidenceDTO(null, "Apartment by the fortress",
+				"Kralja Petra 12", "", (double) 400, 45, true, 0, photos, 1, 1, HeatingType.Central, false, true,
+				owner.getOwnerId()), 44.8233, 20.4505));
+		officeSpaceDTO = officeSpaceService.add(located(new OfficeSpaceDTO(null, "Office on Slavija",
+				"Nemanjina 40", "", (double) 900, 150, true, 10, photos, 30, owner.getOwnerId()), 44.8025, 20.4664));
+		residenceDTO3 = residenceService.add(located(new ResidenceDTO(null, "House in Novi Sad", "Zmaj Jovina 8",
+				"", (double) 500, 120, true, 2, photos, 3, 2, HeatingType.Central, true, false, owner.getOwnerId()),
+				45.2671, 19.8335));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		residenceDTO1 = null;
+		residenceDTO2 = null;
+		officeSpaceDTO = null;
+		residenceDTO3 = null;
+	}
+
+	@Test
+	void testSearchRadius() {
+		List<PropertyDTO> propertyDTOs = geoSearchService.search(radius(44.8160, 20.4602, 2));
+
+		assertEquals(List.of(residenceDTO1.getPropertyId(), residenceDTO2.getPropertyId(),
+				officeSpaceDTO.getPropertyId()), ids(propertyDTOs));
+		assertEquals(0, propertyDTOs.get(0).getDistance());
+		assertEquals(44.8233, propertyDTOs.get(1).getLatitude());
+		assertEquals(20.4505, propertyDTOs.get(1).getLongitude());
+		assertTrue(propertyDTOs.get(1).getDistance() < propertyDTOs.get(2).getDistance());
+		assertTrue(propertyDTOs.get(2).getDistance() <= 2);
+	}
+
+	@Test
+	void testSearchBoundingBox() {
+		GeoSearchDTO geoSearchDTO = new GeoSearchDTO();
+		geoSearchDTO.setMinLatitude(44.80);
+		geoSearchDTO.setMinLongitude(20.44);
+		geoSearchDTO.setMaxLatitude(44.82);
+		geoSearchDTO.setMaxLongitude(20.47);
+
+		assertEquals(List.of(residenceDTO1.getPropertyId(), officeSpaceDTO.getPropertyId()),
+				ids(geoSearchService.search(geoSearchDTO)));
+
+		geoSearchDTO.setLatitude(44.8233);
+		geoSearchDTO.setLongitude(20.4505);
+		geoSearchDTO.setRadius(1.2);
+
+		assertEquals(List.of(residenceDTO1.getPropertyId()), ids(geoSearchService.search(geoSearchDTO)));
+	}
+
+	@Test
+	void testSearchFilters() {
+		GeoSearchDTO geoSearchDTO = radius(44.8160, 20.4602, 100);
+		geoSearchDTO.setType(PropertyType.Residence);
+		geoSearchDTO.setMaxRentalRate((double) 550);
+
+		assertEquals(List.of(residenceDTO2.getPropertyId(), residenceDTO3.getPropertyId()),
+				ids(geoSearchService.search(geoSearchDTO)));
+	}
+
+	@Test
+	void testSearchPages() {
+		GeoSearchDTO geoSearchDTO = radius(44.8160, 20.4602, 100);
+		geoSearchDTO.setPageSize(3);
+
+		assertEquals(List.of(residenceDTO1.getPropertyId(), residenceDTO2.getPropertyId(),
+				officeSpaceDTO.getPropertyId()), ids(geoSearchService.search(geoSearchDTO)));
+
+		geoSearchDTO.setPage(1);
+
+		assertEquals(List.of(residenceDTO3.getPropertyId()), ids(geoSearchService.search(geoSearchDTO)));
+
+		geoSearchDTO.setPage(2);
+
+		assertEquals(List.of(), geoSearchService.search(geoSearchDTO));
+	}
+
+	@Test
+	void testSearchAfterWrites() {
+		residenceDTO3.setLatitude(44.8170);
+		residenceDTO3.setLongitude(20.4610);
+		residenceService.update(residenceDTO3.getPropertyId(), residenceDTO3);
+		residenceDTO2.setLatitude(null);
+		residenceDTO2.setLongitude(null);
+		residenceService.update(residenceDTO2.getPropertyId(), residenceDTO2);
+		officeSpaceService.delete(officeSpaceDTO.getPropertyId());
+
+		assertEquals(List.of(residenceDTO1.getPropertyId(), residenceDTO3.getPropertyId()),
+				ids(geoSearchService.search(radius(44.8160, 20.4602, 2))));
+	}
+
+	@Test
+	void testSearchInvalidArea() {
+		GeoSearchDTO geoSearchDTO = new GeoSearchDTO();
+
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> geoSearchService.search(geoSearchDTO));
+		assertEquals("Either a point with a radius or a bounding box has to be given.", exception.getMessage());
+
+		geoSearchDTO.setLatitude(44.8160);
+		geoSearchDTO.setLongitude(20.4602);
+		exception = assertThrows(UnprocessableEntityException.class, () -> geoSearchService.search(geoSearchDTO));
+		assertEquals("The latitude, the longitude and the radius have to be given together.", exception.getMessage());
+
+		GeoSearchDTO boxSearchDTO = new GeoSearchDTO();
+		boxSearchDTO.setMinLatitude(44.82);
+		boxSearchDTO.setMinLongitude(20.44);
+		boxSearchDTO.setMaxLatitude(44.80);
+		boxSearchDTO.setMaxLongitude(20.47);
+		exception = assertThrows(UnprocessableEntityException.class, () -> geoSearchService.search(boxSearchDTO));
+		assertEquals("The minimum latitude and longitude have to be at most the maximum latitude and longitude.",
+				exception.getMessage());
+
+		boxSearchDTO.setMaxLongitude(null);
+		exception = assertThrows(UnprocessableEntityException.class, () -> geoSearchService.search(boxSearchDTO));
+		assertEquals("All four edges of the bounding box have to be given.", exception.getMessage());
+	}
+
+	@Test
+	void testRebuild() {
+		List<PropertyDTO> propertyDTOs = geoSearchService.search(radius(44.8160, 20.4602, 100));
+
+		geoSearchService.rebuild();
+
+		List<PropertyDTO> rebuiltPropertyDTOs = geoSearchService.search(radius(44.8160, 20.4602, 100));
+		assertEquals(ids(propertyDTOs), ids(rebuiltPropertyDTOs));
+		assertEquals(propertyDTOs.stream().map(PropertyDTO::getDistance).toList(),
+				rebuiltPropertyDTOs.stream().map(PropertyDTO::getDistance).toList());
+	}
+
+	private static <T extends PropertyDTO> T located(T propertyDTO, double latitude, double longitude) {
+		propertyDTO.setLatitude(latitude);
+		propertyDTO.setLongitude(longitude);
+		return propertyDTO;
+	}
+
+	private static GeoSearchDTO radius(double latitude, double longitude, double radius) {
+		GeoSearchDTO geoSearchDTO = new GeoSearchDTO();
+		geoSearchDTO.setLatitude(latitude);
+		geoSearchDTO.setLongitude(longitude);
+		geoSearchDTO.setRadius(radius);
+		return geoSearchDTO;
+	}
+
+	private static List<Integer> ids(List<PropertyDTO> propertyDTOs) {
+		return propertyDTOs.stream().map(PropertyDTO::getPropertyId).collect(Collectors.toList());
+	}
+}
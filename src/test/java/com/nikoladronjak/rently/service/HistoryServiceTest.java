@@ -0,0 +1,203 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.dto.LeaseDTO;
+import com.nikoladronjak.rently.dto.OfficeSpaceDTO;
+import com.nikoladronjak.rently.dto.RepricingDTO;
+import com.nikoladronjak.rently.dto.ResidenceDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.PropertyHistoryRepository;
+import com.nikoladronjak.rently.repository.ResidenceRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class HistoryServiceTest {
+
+	Owner owner;
+
+	Customer customer;
+
+	ResidenceDTO residenceDTO;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private PropertyHistoryRepository propertyHistoryRepository;
+
+	@Autowired
+	private ResidenceRepository residenceRepository;
+
+	@Autowired
+	private ResidenceService residenceService;
+
+	@Autowired
+	private HistoryService historyService;
+
+	@Autowired
+	private OfficeSpaceService officeSpaceService;
+
+	@Autowired
+	private LeaseService leaseService;
+
+	@Autowired
+	private RepricingService repricingService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		customer = customerRepository.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null));
+		residenceDTO = new ResidenceDTO(null, "Apartement 1", "Jove Ilica 154", "", (double) 300, 30, true, 0,
+				photos, 1, 1, HeatingType.Central, true, true, owner.getOwnerId());
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		owner = null;
+		customer = null;
+		residenceDTO = null;
+	}
+
+	@Test
+	void testGetResidenceAsOf() throws InterruptedException {
+		Instant beforeAdd = now();
+		ResidenceDTO addedResidenceDTO = residenceService.add(residenceDTO);
+		Instant afterAdd = now();
+		residenceDTO.setRentalRate((double) 350);
+		residenceService.update(addedResidenceDTO.getPropertyId(), residenceDTO);
+		Instant afterUpdate = now();
+
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> residenceService.getById(addedResidenceDTO.getPropertyId(), beforeAdd));
+		assertEquals("There was no residence with the given id at the given time.", exception.getMessage());
+		assertEquals(300, residenceService.getById(addedResidenceDTO.getPropertyId(), afterAdd).getRentalRate());
+		assertEquals(350, residenceService.getById(addedResidenceDTO.getPropertyId(), afterUpdate).getRentalRate());
+		assertEquals(HeatingType.Central,
+				residenceService.getById(addedResidenceDTO.getPropertyId(), afterUpdate).getHeatingType());
+		assertEquals(2, propertyHistoryRepository.count());
+	}
+
+	@Test
+	void testGetDeletedResidenceAsOf() throws InterruptedException {
+		ResidenceDTO addedResidenceDTO = residenceService.add(residenceDTO);
+		Instant afterAdd = now();
+		residenceService.delete(addedResidenceDTO.getPropertyId());
+		Instant afterDelete = now();
+
+		assertEquals("Apartement 1", residenceService.getById(addedResidenceDTO.getPropertyId(), afterAdd).getName());
+		assertThrows(NotFoundException.class,
+				() -> residenceService.getById(addedResidenceDTO.getPropertyId(), afterDelete));
+	}
+
+	@Test
+	void testGetResidenceAsOfOtherType() throws InterruptedException {
+		OfficeSpaceDTO officeSpaceDTO = officeSpaceService.add(new OfficeSpaceDTO(null, "Office Space 1",
+				"Studentski trg 1", "", (double) 250, 120, true, 20, residenceDTO.getPhotos(), 90, owner.getOwnerId()));
+		Instant afterAdd = now();
+
+		assertEquals(90, officeSpaceService.getById(officeSpaceDTO.getPropertyId(), afterAdd).getCapacity());
+		assertThrows(NotFoundException.class,
+				() -> residenceService.getById(officeSpaceDTO.getPropertyId(), afterAdd));
+	}
+
+	@Test
+	void testGetLeaseAsOf() throws InterruptedException {
+		ResidenceDTO addedResidenceDTO = residenceService.add(residenceDTO);
+		LeaseDTO leaseDTO = leaseService.add(new LeaseDTO(addedResidenceDTO.getPropertyId(), customer.getCustomerId(),
+				null, calendar(LocalDate.now().plusDays(10)), calendar(LocalDate.now().plusDays(20))));
+		Instant afterAdd = now();
+		leaseDTO.setEndDate(calendar(LocalDate.now().plusDays(30)));
+		leaseService.update(leaseDTO.getLeaseId(), leaseDTO);
+		Instant afterUpdate = now();
+		leaseService.delete(leaseDTO.getLeaseId());
+		Instant afterDelete = now();
+
+		assertEquals(LocalDate.now().plusDays(20),
+				toLocalDate(leaseService.getById(leaseDTO.getLeaseId(), afterAdd).getEndDate()));
+		assertEquals(LocalDate.now().plusDays(30),
+				toLocalDate(leaseService.getById(leaseDTO.getLeaseId(), afterUpdate).getEndDate()));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> leaseService.getById(leaseDTO.getLeaseId(), afterDelete));
+		assertEquals("There was no lease with the given id at the given time.", exception.getMessage());
+	}
+
+	@Test
+	void testRepricingWritesVersions() throws InterruptedException {
+		ResidenceDTO addedResidenceDTO = residenceService.add(residenceDTO);
+		LeaseDTO leaseDTO = leaseService.add(new LeaseDTO(addedResidenceDTO.getPropertyId(), customer.getCustomerId(),
+				null, calendar(LocalDate.now().plusDays(10)), calendar(LocalDate.now().plusDays(20))));
+		Instant beforeRepricing = now();
+		RepricingDTO repricingDTO = new RepricingDTO();
+		repricingDTO.setPercentage((double) 10);
+		repricingDTO.setIncludeLeases(true);
+		repricingService.reprice(repricingDTO);
+		Instant afterRepricing = now();
+
+		assertEquals(300, residenceService.getById(addedResidenceDTO.getPropertyId(), beforeRepricing).getRentalRate());
+		assertEquals(330, residenceService.getById(addedResidenceDTO.getPropertyId(), afterRepricing).getRentalRate());
+		assertEquals(300, leaseService.getById(leaseDTO.getLeaseId(), beforeRepricing).getRentalRate());
+		assertEquals(330, leaseService.getById(leaseDTO.getLeaseId(), afterRepricing).getRentalRate());
+	}
+
+	@Test
+	void testBackfill() throws InterruptedException {
+		Residence residence = residenceRepository.save(new Residence(0, "Apartement 2", "Studentski trg 1", "",
+				(double) 400, 40, true, 0, residenceDTO.getPhotos(), owner, null, 2, 1, HeatingType.Central, true,
+				false));
+		ResidenceDTO addedResidenceDTO = residenceService.add(residenceDTO);
+
+		historyService.backfill();
+		historyService.backfill();
+
+		assertEquals(400, residenceService.getById(residence.getPropertyId(), Instant.EPOCH).getRentalRate());
+		assertEquals(400, residenceService.getById(residence.getPropertyId(), now()).getRentalRate());
+		assertThrows(NotFoundException.class,
+				() -> residenceService.getById(addedResidenceDTO.getPropertyId(), Instant.EPOCH));
+		assertEquals(2, propertyHistoryRepository.count());
+	}
+
+	/**
+	 * Returns the current time and waits until the clock moves on, so the next
+	 * version is written strictly after the returned time.
+	 */
+	private static Instant now() throws InterruptedException {
+		Instant now = Instant.now();
+		Thread.sleep(5);
+		return now;
+	}
+
+	private static GregorianCalendar calendar(LocalDate date) {
+		return GregorianCalendar.from(date.atStartOfDay(ZoneId.systemDefault()));
+	}
+
+	private static LocalDate toLocalDate(GregorianCalendar date) {
+		return date.toZonedDateTime().toLocalDate();
+	}
+}
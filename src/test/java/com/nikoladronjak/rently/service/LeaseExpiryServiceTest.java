@@ -0,0 +1,173 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.ResidenceRepository;
+
+@SpringBootTest
+@RecordApplicationEvents
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class LeaseExpiryServiceTest {
+
+	Residence residence;
+
+	Customer customer;
+
+	static final int FAILING_PROPERTY_ID = -1;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private ResidenceRepository residenceRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	@Autowired
+	private PropertyBookingService propertyBookingService;
+
+	@Autowired
+	private LeaseExpiryService leaseExpiryService;
+
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		Owner owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		residence = residenceRepository.save(new Residence(1, "Apartement 1", "Jove Ilica 154", "", (double) 300, 30,
+				true, 0, photos, owner, null, 1, 1, HeatingType.Central, true, true));
+		customer = customerRepository.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		residence = null;
+		customer = null;
+	}
+
+	@Test
+	void testLeaseEnds() {
+		Lease lease = book(lease(1, 2));
+
+		leaseExpiryService.advance(startOf(2));
+		assertEquals(0, applicationEvents.stream(LeaseEndedEvent.class).count());
+		assertTrue(propertyBookingService.isLeased(residence.getPropertyId(), LocalDate.now().plusDays(2)));
+
+		leaseExpiryService.advance(startOf(3));
+		assertEquals(List.of(new LeaseEndedEvent(lease.getLeaseId(), residence.getPropertyId(),
+				LocalDate.now().plusDays(2))), applicationEvents.stream(LeaseEndedEvent.class).toList());
+		assertFalse(propertyBookingService.isLeased(residence.getPropertyId(), LocalDate.now().plusDays(2)));
+		assertFalse(leaseExpiryService.isScheduled(lease.getLeaseId()));
+	}
+
+	@Test
+	void testUpdatedLeaseEnds() {
+		Lease lease = book(lease(1, 2));
+		Lease updatedLease = lease(1, 5);
+		updatedLease.setLeaseId(lease.getLeaseId());
+		book(updatedLease);
+
+		leaseExpiryService.advance(startOf(3));
+		assertEquals(0, applicationEvents.stream(LeaseEndedEvent.class).count());
+		assertTrue(propertyBookingService.isLeased(residence.getPropertyId(), LocalDate.now().plusDays(5)));
+
+		leaseExpiryService.advance(startOf(6));
+		assertEquals(1, applicationEvents.stream(LeaseEndedEvent.class).count());
+	}
+
+	@Test
+	void testCancelledLeaseDoesNotEnd() {
+		Lease lease = book(lease(1, 2));
+
+		propertyBookingService.cancel(lease, () -> leaseRepository.deleteById(lease.getLeaseId()));
+
+		assertFalse(leaseExpiryService.isScheduled(lease.getLeaseId()));
+		leaseExpiryService.advance(startOf(3));
+		assertEquals(0, applicationEvents.stream(LeaseEndedEvent.class).count());
+	}
+
+	@Test
+	void testRebuild() {
+		Lease lease = leaseRepository.save(lease(1, 2));
+
+		propertyBookingService.rebuild();
+
+		assertTrue(leaseExpiryService.isScheduled(lease.getLeaseId()));
+		leaseExpiryService.advance(startOf(3));
+		assertEquals(1, applicationEvents.stream(LeaseEndedEvent.class).count());
+	}
+
+	@Test
+	void testFailedListenerDoesNotStopTheTick() {
+		leaseExpiryService.schedule(-1, FAILING_PROPERTY_ID, LocalDate.now().plusDays(2));
+		leaseExpiryService.schedule(-2, residence.getPropertyId(), LocalDate.now().plusDays(2));
+
+		leaseExpiryService.advance(startOf(3));
+
+		assertTrue(applicationEvents.stream(LeaseEndedEvent.class)
+				.anyMatch(event -> event.propertyId() == residence.getPropertyId()));
+		assertFalse(leaseExpiryService.isScheduled(-1));
+		assertFalse(leaseExpiryService.isScheduled(-2));
+	}
+
+	private Lease book(Lease lease) {
+		return propertyBookingService.book(lease, () -> leaseRepository.save(lease));
+	}
+
+	private Lease lease(int startDay, int endDay) {
+		return new Lease(0, 300, calendar(LocalDate.now().plusDays(startDay)),
+				calendar(LocalDate.now().plusDays(endDay)), residence, customer, null);
+	}
+
+	private static Instant startOf(int day) {
+		return LocalDate.now().plusDays(day).atStartOfDay(ZoneId.systemDefault()).toInstant();
+	}
+
+	private static GregorianCalendar calendar(LocalDate date) {
+		return GregorianCalendar.from(date.atStartOfDay(ZoneId.systemDefault()));
+	}
+
+	@TestConfiguration
+	static class FailingListenerConfiguration {
+
+		@EventListener
+		public void release(LeaseEndedEvent event) {
+			if (event.propertyId() == FAILING_PROPERTY_ID)
+				throw new IllegalStateException("The property could not be released.");
+		}
+	}
+}
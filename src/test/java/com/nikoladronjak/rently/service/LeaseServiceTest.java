@@ -2,13 +2,19 @@ package com.nikoladronjak.rently.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
@@ -17,8 +23,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 
 import com.nikoladronjak.rently.domain.Customer;
 import com.nikoladronjak.rently.domain.EventSpace;
@@ -29,6 +33,8 @@ import com.nikoladronjak.rently.domain.Owner;
 import com.nikoladronjak.rently.domain.Rent;
 import com.nikoladronjak.rently.domain.Residence;
 import com.nikoladronjak.rently.dto.LeaseDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
 import com.nikoladronjak.rently.repository.CustomerRepository;
 import com.nikoladronjak.rently.repository.EventSpaceRepository;
 import com.nikoladronjak.rently.repository.LeaseRepository;
@@ -85,11 +91,32 @@ class LeaseServiceTest {
 	@Mock
 	private LeaseRepository leaseRepository;
 
+	@Mock
+	private PropertyBookingService propertyBookingService;
+
+	@Mock
+	private EventBookingService eventBookingService;
+
+	@Mock
+	private SeatReservationService seatReservationService;
+
+	@Mock
+	private RentRecomputationService rentRecomputationService;
+
+	@Mock
+	private HistoryService historyService;
+
+	@Mock
+	private AutocompleteService autocompleteService;
+
 	@InjectMocks
 	private LeaseService leaseService;
 
 	@BeforeEach
 	void setUp() throws Exception {
+		when(historyService.changeLease(any()))
+				.thenAnswer(invocation -> invocation.<Supplier<Lease>>getArgument(0).get());
+
 		List<String> photos = new ArrayList<String>();
 		photos.add("photo1");
 		photos.add("photo2");
@@ -143,10 +170,9 @@ class LeaseServiceTest {
 	void testGetAllError() {
 		when(leaseRepository.findAll()).thenThrow(new RuntimeException("Something went wrong"));
 
-		ResponseEntity<?> response = leaseService.getAll();
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> leaseService.getAll());
 
-		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-		assertEquals("Something went wrong", response.getBody());
+		assertEquals("Something went wrong", exception.getMessage());
 	}
 
 	@Test
@@ -156,21 +182,19 @@ class LeaseServiceTest {
 		leases.add(lease2);
 		when(leaseRepository.findAll()).thenReturn(leases);
 
-		ResponseEntity<?> response = leaseService.getAll();
+		List<LeaseDTO> response = leaseService.getAll();
 		List<LeaseDTO> leaseDTOs = leases.stream().map(this::convertToDTO).collect(Collectors.toList());
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(leaseDTOs, response.getBody());
+		assertEquals(leaseDTOs, response);
 	}
 
 	@Test
 	void testGetAllByPropertyIdError() {
 		when(leaseRepository.findAllByProperty_PropertyId(1)).thenThrow(new RuntimeException("Something went wrong"));
 
-		ResponseEntity<?> response = leaseService.getAllByPropertyId(1);
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> leaseService.getAllByPropertyId(1));
 
-		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-		assertEquals("Something went wrong", response.getBody());
+		assertEquals("Something went wrong", exception.getMessage());
 	}
 
 	@Test
@@ -179,21 +203,19 @@ class LeaseServiceTest {
 		leases.add(lease1);
 		when(leaseRepository.findAllByProperty_PropertyId(1)).thenReturn(leases);
 
-		ResponseEntity<?> response = leaseService.getAllByPropertyId(1);
+		List<LeaseDTO> response = leaseService.getAllByPropertyId(1);
 		List<LeaseDTO> leaseDTOs = leases.stream().map(this::convertToDTO).collect(Collectors.toList());
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(leaseDTOs, response.getBody());
+		assertEquals(leaseDTOs, response);
 	}
 
 	@Test
 	void testGetAllByCustomerIdError() {
 		when(leaseRepository.findAllByCustomer_CustomerId(1)).thenThrow(new RuntimeException("Something went wrong"));
 
-		ResponseEntity<?> response = leaseService.getAllByCustomerId(1);
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> leaseService.getAllByCustomerId(1));
 
-		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-		assertEquals("Something went wrong", response.getBody());
+		assertEquals("Something went wrong", exception.getMessage());
 	}
 
 	@Test
@@ -203,31 +225,28 @@ class LeaseServiceTest {
 		leases.add(lease2);
 		when(leaseRepository.findAllByCustomer_CustomerId(1)).thenReturn(leases);
 
-		ResponseEntity<?> response = leaseService.getAllByCustomerId(1);
+		List<LeaseDTO> response = leaseService.getAllByCustomerId(1);
 		List<LeaseDTO> leaseDTOs = leases.stream().map(this::convertToDTO).collect(Collectors.toList());
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(leaseDTOs, response.getBody());
+		assertEquals(leaseDTOs, response);
 	}
 
 	@Test
 	void testGetByIdBadId() {
 		when(leaseRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = leaseService.getById(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> leaseService.getById(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no lease with the given id.", response.getBody());
+		assertEquals("There is no lease with the given id.", exception.getMessage());
 	}
 
 	@Test
 	void testGetById() {
 		when(leaseRepository.findById(1)).thenReturn(Optional.of(lease1));
 
-		ResponseEntity<?> response = leaseService.getById(1);
+		LeaseDTO response = leaseService.getById(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(lease1), response.getBody());
+		assertEquals(convertToDTO(lease1), response);
 	}
 
 	@Test
@@ -236,11 +255,11 @@ class LeaseServiceTest {
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = leaseService.add(convertToDTO(lease1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> leaseService.add(convertToDTO(lease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 		assertEquals("The property has to be either a residence, an event space or an office space.",
-				response.getBody());
+				exception.getMessage());
 	}
 
 	@Test
@@ -249,10 +268,10 @@ class LeaseServiceTest {
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = leaseService.add(convertToDTO(lease1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> leaseService.add(convertToDTO(lease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property is currently unavailable.", response.getBody());
+		assertEquals("This property is currently unavailable.", exception.getMessage());
 	}
 
 	@Test
@@ -261,10 +280,10 @@ class LeaseServiceTest {
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.of(eventSpace2));
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = leaseService.add(convertToDTO(lease1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> leaseService.add(convertToDTO(lease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property is currently unavailable.", response.getBody());
+		assertEquals("This property is currently unavailable.", exception.getMessage());
 	}
 
 	@Test
@@ -273,10 +292,10 @@ class LeaseServiceTest {
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.of(officeSpace2));
 
-		ResponseEntity<?> response = leaseService.add(convertToDTO(lease1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> leaseService.add(convertToDTO(lease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property is currently unavailable.", response.getBody());
+		assertEquals("This property is currently unavailable.", exception.getMessage());
 	}
 
 	@Test
@@ -286,10 +305,10 @@ class LeaseServiceTest {
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(customerRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = leaseService.add(convertToDTO(lease1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> leaseService.add(convertToDTO(lease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no customer for the given customerId.", response.getBody());
+		assertEquals("There is no customer for the given customerId.", exception.getMessage());
 	}
 
 	@Test
@@ -306,10 +325,9 @@ class LeaseServiceTest {
 		startDate.add(Calendar.DAY_OF_MONTH, 1);
 		leaseDTO.setStartDate(startDate);
 
-		ResponseEntity<?> response = leaseService.add(leaseDTO);
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> leaseService.add(leaseDTO));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("The start date of the lease has to be before the end date of the lease.", response.getBody());
+		assertEquals("The start date of the lease has to be before the end date of the lease.", exception.getMessage());
 	}
 
 	@Test
@@ -326,25 +344,66 @@ class LeaseServiceTest {
 		endDate.add(Calendar.DAY_OF_MONTH, -1);
 		leaseDTO.setEndDate(endDate);
 
-		ResponseEntity<?> response = leaseService.add(leaseDTO);
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> leaseService.add(leaseDTO));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("The end date of the lease has to be after the start date of the lease.", response.getBody());
+		assertEquals("The end date of the lease has to be after the start date of the lease.", exception.getMessage());
 	}
 
 	@Test
-	void testAddDuplicate() {
+	void testAddOverlapping() {
 		when(residenceRepository.findById(1)).thenReturn(Optional.of(residence1));
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
-		when(leaseRepository.findByProperty_PropertyIdAndCustomer_CustomerId(1, 1)).thenReturn(Optional.of(lease1));
-		when(leaseRepository.save(any(Lease.class))).thenThrow(new RuntimeException("This lease already exists."));
+		when(propertyBookingService.book(any(Lease.class), any()))
+				.thenThrow(new ConflictException("The property is already leased for the given dates."));
 
-		ResponseEntity<?> response = leaseService.add(convertToDTO(lease1));
+		LeaseDTO leaseDTO = convertToDTO(lease1);
+		leaseDTO.setStartDate(futureDate(1));
+		leaseDTO.setEndDate(futureDate(2));
+		ConflictException exception = assertThrows(ConflictException.class, () -> leaseService.add(leaseDTO));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This lease already exists.", response.getBody());
+		assertEquals("The property is already leased for the given dates.", exception.getMessage());
+		verify(leaseRepository, never()).save(any(Lease.class));
+	}
+
+	@Test
+	void testAddEventSpaceWithHourlyBookings() {
+		when(residenceRepository.findById(1)).thenReturn(Optional.empty());
+		when(eventSpaceRepository.findById(1)).thenReturn(Optional.of(eventSpace1));
+		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
+		when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
+		when(eventBookingService.hasBookings(eq(1), any(LocalDate.class), any(LocalDate.class))).thenReturn(true);
+		when(propertyBookingService.book(any(Lease.class), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<Lease>>getArgument(1).get());
+
+		LeaseDTO leaseDTO = convertToDTO(lease1);
+		leaseDTO.setStartDate(futureDate(1));
+		leaseDTO.setEndDate(futureDate(2));
+		ConflictException exception = assertThrows(ConflictException.class, () -> leaseService.add(leaseDTO));
+
+		assertEquals("The event space has hourly bookings for the given dates.", exception.getMessage());
+		verify(leaseRepository, never()).save(any(Lease.class));
+	}
+
+	@Test
+	void testAddOfficeSpaceWithSeatReservations() {
+		when(residenceRepository.findById(1)).thenReturn(Optional.empty());
+		when(eventSpaceRepository.findById(1)).thenReturn(Optional.empty());
+		when(officeSpaceRepository.findById(1)).thenReturn(Optional.of(officeSpace1));
+		when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
+		when(seatReservationService.hasReservations(eq(1), any(LocalDate.class), any(LocalDate.class)))
+				.thenReturn(true);
+		when(propertyBookingService.book(any(Lease.class), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<Lease>>getArgument(1).get());
+
+		LeaseDTO leaseDTO = convertToDTO(lease1);
+		leaseDTO.setStartDate(futureDate(1));
+		leaseDTO.setEndDate(futureDate(2));
+		ConflictException exception = assertThrows(ConflictException.class, () -> leaseService.add(leaseDTO));
+
+		assertEquals("The office space has seat reservations for the given dates.", exception.getMessage());
+		verify(leaseRepository, never()).save(any(Lease.class));
 	}
 
 	@Test
@@ -353,14 +412,14 @@ class LeaseServiceTest {
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
-		when(leaseRepository.findByProperty_PropertyIdAndCustomer_CustomerId(1, 1)).thenReturn(Optional.empty());
 		when(leaseRepository.save(any(Lease.class))).thenReturn(lease1);
+		when(propertyBookingService.book(any(Lease.class), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<Lease>>getArgument(1).get());
 
-		ResponseEntity<?> response = leaseService.add(convertToDTO(lease1));
+		LeaseDTO response = leaseService.add(convertToDTO(lease1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(lease1), response.getBody());
-		assertFalse(residence1.isAvailable());
+		assertEquals(convertToDTO(lease1), response);
+		verify(propertyBookingService).book(any(Lease.class), any());
 	}
 
 	@Test
@@ -369,14 +428,14 @@ class LeaseServiceTest {
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.of(eventSpace1));
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
-		when(leaseRepository.findByProperty_PropertyIdAndCustomer_CustomerId(1, 1)).thenReturn(Optional.empty());
 		when(leaseRepository.save(any(Lease.class))).thenReturn(lease1);
+		when(propertyBookingService.book(any(Lease.class), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<Lease>>getArgument(1).get());
 
-		ResponseEntity<?> response = leaseService.add(convertToDTO(lease1));
+		LeaseDTO response = leaseService.add(convertToDTO(lease1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(lease1), response.getBody());
-		assertFalse(eventSpace1.isAvailable());
+		assertEquals(convertToDTO(lease1), response);
+		verify(propertyBookingService).book(any(Lease.class), any());
 	}
 
 	@Test
@@ -385,24 +444,24 @@ class LeaseServiceTest {
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.of(officeSpace1));
 		when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
-		when(leaseRepository.findByProperty_PropertyIdAndCustomer_CustomerId(1, 1)).thenReturn(Optional.empty());
 		when(leaseRepository.save(any(Lease.class))).thenReturn(lease1);
+		when(propertyBookingService.book(any(Lease.class), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<Lease>>getArgument(1).get());
 
-		ResponseEntity<?> response = leaseService.add(convertToDTO(lease1));
+		LeaseDTO response = leaseService.add(convertToDTO(lease1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(lease1), response.getBody());
-		assertFalse(officeSpace1.isAvailable());
+		assertEquals(convertToDTO(lease1), response);
+		verify(propertyBookingService).book(any(Lease.class), any());
 	}
 
 	@Test
 	void testUpdateBadId() {
 		when(leaseRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = leaseService.update(1, convertToDTO(lease1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> leaseService.update(1, convertToDTO(lease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no lease with the given id.", response.getBody());
+		assertEquals("There is no lease with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -412,11 +471,11 @@ class LeaseServiceTest {
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = leaseService.update(1, convertToDTO(lease1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> leaseService.update(1, convertToDTO(lease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 		assertEquals("The property has to be either a residence, an event space or an office space.",
-				response.getBody());
+				exception.getMessage());
 	}
 
 	@Test
@@ -427,10 +486,10 @@ class LeaseServiceTest {
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(customerRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = leaseService.update(1, convertToDTO(lease1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> leaseService.update(1, convertToDTO(lease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no customer for the given customerId.", response.getBody());
+		assertEquals("There is no customer for the given customerId.", exception.getMessage());
 	}
 
 	@Test
@@ -448,10 +507,9 @@ class LeaseServiceTest {
 		startDate.add(Calendar.DAY_OF_MONTH, 1);
 		leaseDTO.setStartDate(startDate);
 
-		ResponseEntity<?> response = leaseService.update(1, leaseDTO);
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> leaseService.update(1, leaseDTO));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("The start date of the lease has to be before the end date of the lease.", response.getBody());
+		assertEquals("The start date of the lease has to be before the end date of the lease.", exception.getMessage());
 	}
 
 	@Test
@@ -469,26 +527,29 @@ class LeaseServiceTest {
 		endDate.add(Calendar.DAY_OF_MONTH, -1);
 		leaseDTO.setEndDate(endDate);
 
-		ResponseEntity<?> response = leaseService.update(1, convertToDTO(lease1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> leaseService.update(1, convertToDTO(lease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("The end date of the lease has to be after the start date of the lease.", response.getBody());
+		assertEquals("The end date of the lease has to be after the start date of the lease.", exception.getMessage());
 	}
 
 	@Test
-	void testUpdateDuplicate() {
+	void testUpdateOverlapping() {
 		when(leaseRepository.findById(1)).thenReturn(Optional.of(lease1));
 		when(residenceRepository.findById(1)).thenReturn(Optional.of(residence1));
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
-		when(leaseRepository.findByProperty_PropertyIdAndCustomer_CustomerId(1, 1)).thenReturn(Optional.of(lease1));
-		when(leaseRepository.save(any(Lease.class))).thenThrow(new RuntimeException("This lease already exists."));
+		when(propertyBookingService.book(any(Lease.class), any()))
+				.thenThrow(new ConflictException("The property is already leased for the given dates."));
 
-		ResponseEntity<?> response = leaseService.update(1, convertToDTO(lease1));
+		LeaseDTO leaseDTO = convertToDTO(lease1);
+		leaseDTO.setStartDate(futureDate(1));
+		leaseDTO.setEndDate(futureDate(2));
+		ConflictException exception = assertThrows(ConflictException.class, () -> leaseService.update(1, leaseDTO));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This lease already exists.", response.getBody());
+		assertEquals("The property is already leased for the given dates.", exception.getMessage());
+		verify(leaseRepository, never()).save(any(Lease.class));
 	}
 
 	@Test
@@ -498,23 +559,25 @@ class LeaseServiceTest {
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
-		when(leaseRepository.findByProperty_PropertyIdAndCustomer_CustomerId(1, 1)).thenReturn(Optional.empty());
 		when(leaseRepository.save(any(Lease.class))).thenReturn(lease1);
+		when(propertyBookingService.book(any(Lease.class), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<Lease>>getArgument(1).get());
+		when(rentRecomputationService.changeLeaseRate(anyInt(), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<Lease>>getArgument(1).get());
 
-		ResponseEntity<?> response = leaseService.update(1, convertToDTO(lease1));
+		LeaseDTO response = leaseService.update(1, convertToDTO(lease1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(lease1), response.getBody());
+		assertEquals(convertToDTO(lease1), response);
+		verify(propertyBookingService).book(any(Lease.class), any());
 	}
 
 	@Test
 	void testDeleteBadId() {
 		when(leaseRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = leaseService.delete(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> leaseService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no lease with the given id.", response.getBody());
+		assertEquals("There is no lease with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -522,10 +585,9 @@ class LeaseServiceTest {
 		when(leaseRepository.findById(1)).thenReturn(Optional.of(lease1));
 		when(rentRepository.findAllByLease_LeaseId(1)).thenReturn(rents);
 
-		ResponseEntity<?> response = leaseService.delete(1);
+		ConflictException exception = assertThrows(ConflictException.class, () -> leaseService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("You cannot delete this lease since there are rents associated with it.", response.getBody());
+		assertEquals("You cannot delete this lease since there are rents associated with it.", exception.getMessage());
 	}
 
 	@Test
@@ -533,14 +595,21 @@ class LeaseServiceTest {
 		when(leaseRepository.findById(1)).thenReturn(Optional.of(lease1));
 		when(rentRepository.findAllByLease_LeaseId(1)).thenReturn(new ArrayList<Rent>());
 
-		ResponseEntity<?> response = leaseService.delete(1);
+		LeaseDTO response = leaseService.delete(1);
+
+		assertEquals(convertToDTO(lease1), response);
+		verify(propertyBookingService).cancel(eq(lease1), any());
+	}
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(lease1), response.getBody());
+	private GregorianCalendar futureDate(int years) {
+		GregorianCalendar date = new GregorianCalendar();
+		date.add(Calendar.YEAR, years);
+		return date;
 	}
 
 	private LeaseDTO convertToDTO(Lease lease) {
 		LeaseDTO leaseDTO = new LeaseDTO();
+		leaseDTO.setLeaseId(lease.getLeaseId());
 		leaseDTO.setPropertyId(lease.getProperty().getPropertyId());
 		leaseDTO.setCustomerId(lease.getCustomer().getCustomerId());
 		leaseDTO.setRentalRate(lease.getRentalRate());
@@ -0,0 +1,217 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.LedgerAccountType;
+import com.nikoladronjak.rently.domain.LedgerEntryType;
+import com.nikoladronjak.rently.domain.OfficeSpace;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.Rent;
+import com.nikoladronjak.rently.domain.UtilityLease;
+import com.nikoladronjak.rently.dto.LedgerBalanceDTO;
+import com.nikoladronjak.rently.dto.LedgerEntryDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.RentRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class LedgerServiceTest {
+
+	Owner owner;
+
+	Customer customer;
+
+	Lease lease1;
+
+	Lease lease2;
+
+	Rent pastRent;
+
+	Rent currentRent;
+
+	Rent otherRent;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private OfficeSpaceRepository officeSpaceRepository;
+
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	@Autowired
+	private RentRepository rentRepository;
+
+	@Autowired
+	private LedgerService ledgerService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		customer = customerRepository.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null));
+		OfficeSpace officeSpace1 = officeSpaceRepository.save(new OfficeSpace(1, "Office Space 1", "Jove Ilica 154",
+				"", (double) 300, 150, true, 30, photos, owner, null, 100, null));
+		OfficeSpace officeSpace2 = officeSpaceRepository.save(new OfficeSpace(2, "Office Space 2",
+				"Studentski trg 1", "", (double) 250, 120, true, 20, photos, owner, null, 90, null));
+		lease1 = leaseRepository.save(new Lease(1, 300, calendar(LocalDate.now().plusDays(1)),
+				calendar(LocalDate.now().plusYears(1)), officeSpace1, customer, null));
+		lease2 = leaseRepository.save(new Lease(2, 250, calendar(LocalDate.now().plusDays(1)),
+				calendar(LocalDate.now().plusYears(1)), officeSpace2, customer, null));
+
+		YearMonth period = YearMonth.now();
+		pastRent = rentRepository
+				.save(new Rent(0, 300, period.minusMonths(1).toString(), new ArrayList<UtilityLease>(), lease1));
+		currentRent = rentRepository.save(new Rent(0, 300, period.toString(), new ArrayList<UtilityLease>(), lease1));
+		otherRent = rentRepository.save(new Rent(0, 250, period.toString(), new ArrayList<UtilityLease>(), lease2));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		owner = null;
+		customer = null;
+		lease1 = null;
+		lease2 = null;
+		pastRent = null;
+		currentRent = null;
+		otherRent = null;
+	}
+
+	@Test
+	void testPost() {
+		LedgerEntryDTO ledgerEntryDTO = ledgerService
+				.post(new LedgerEntryDTO(null, pastRent.getRentId(), LedgerEntryType.Charge, null, null, null, null,
+						null));
+
+		assertNotNull(ledgerEntryDTO.getLedgerEntryId());
+		assertNotNull(ledgerEntryDTO.getPostedAt());
+		assertEquals(300, ledgerEntryDTO.getAmount());
+		assertEquals(lease1.getLeaseId(), ledgerEntryDTO.getLeaseId());
+		assertEquals(customer.getCustomerId(), ledgerEntryDTO.getCustomerId());
+	}
+
+	@Test
+	void testPostUpdatesBalances() {
+		post(pastRent, LedgerEntryType.Charge, 300);
+		post(currentRent, LedgerEntryType.Charge, 300);
+		post(otherRent, LedgerEntryType.Charge, 250);
+		post(pastRent, LedgerEntryType.Payment, 200);
+		post(pastRent, LedgerEntryType.Adjustment, 15.5);
+
+		assertEquals(new LedgerBalanceDTO(LedgerAccountType.Rent, pastRent.getRentId(), 115.5),
+				ledgerService.getBalance(LedgerAccountType.Rent, pastRent.getRentId()));
+		assertEquals(new LedgerBalanceDTO(LedgerAccountType.Lease, lease1.getLeaseId(), 415.5),
+				ledgerService.getBalance(LedgerAccountType.Lease, lease1.getLeaseId()));
+		assertEquals(new LedgerBalanceDTO(LedgerAccountType.Customer, customer.getCustomerId(), 665.5),
+				ledgerService.getBalance(LedgerAccountType.Customer, customer.getCustomerId()));
+		assertEquals(5, ledgerService.getAllByCustomerId(customer.getCustomerId()).size());
+		assertEquals(3, ledgerService.getAllByRentId(pastRent.getRentId()).size());
+	}
+
+	@Test
+	void testGetBalanceWithoutEntries() {
+		assertEquals(new LedgerBalanceDTO(LedgerAccountType.Lease, lease2.getLeaseId(), 0),
+				ledgerService.getBalance(LedgerAccountType.Lease, lease2.getLeaseId()));
+	}
+
+	@Test
+	void testGetBalanceBadId() {
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> ledgerService.getBalance(LedgerAccountType.Customer, 99));
+
+		assertEquals("There is no customer with the given id.", exception.getMessage());
+	}
+
+	@Test
+	void testPostBadRentId() {
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> ledgerService
+				.post(new LedgerEntryDTO(null, 99, LedgerEntryType.Payment, (double) 100, null, null, null, null)));
+
+		assertEquals("There is no rent with the given id.", exception.getMessage());
+	}
+
+	@Test
+	void testPostPaymentWithoutAmount() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> ledgerService.post(new LedgerEntryDTO(null, pastRent.getRentId(), LedgerEntryType.Payment, null,
+						null, null, null, null)));
+
+		assertEquals("The amount of a payment has to be a positive value.", exception.getMessage());
+	}
+
+	@Test
+	void testGetOverdueLeases() {
+		post(pastRent, LedgerEntryType.Charge, 300);
+		post(currentRent, LedgerEntryType.Charge, 300);
+		post(otherRent, LedgerEntryType.Charge, 250);
+
+		assertEquals(List.of(new LedgerBalanceDTO(LedgerAccountType.Lease, lease1.getLeaseId(), 600)),
+				ledgerService.getOverdueLeases(owner.getOwnerId()));
+
+		post(pastRent, LedgerEntryType.Payment, 300);
+
+		assertTrue(ledgerService.getOverdueLeases(owner.getOwnerId()).isEmpty());
+	}
+
+	@Test
+	void testPostConcurrently() throws Exception {
+		post(currentRent, LedgerEntryType.Charge, 300);
+		post(otherRent, LedgerEntryType.Charge, 250);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<LedgerEntryDTO>> futures = new ArrayList<>();
+			for (int i = 0; i < 50; i++) {
+				Rent rent = i % 2 == 0 ? currentRent : otherRent;
+				futures.add(executor.submit(() -> post(rent, LedgerEntryType.Payment, 5)));
+			}
+			for (Future<LedgerEntryDTO> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(175, ledgerService.getBalance(LedgerAccountType.Rent, currentRent.getRentId()).getBalance());
+		assertEquals(125, ledgerService.getBalance(LedgerAccountType.Rent, otherRent.getRentId()).getBalance());
+		assertEquals(300, ledgerService.getBalance(LedgerAccountType.Customer, customer.getCustomerId()).getBalance());
+	}
+
+	private LedgerEntryDTO post(Rent rent, LedgerEntryType type, double amount) {
+		return ledgerService.post(new LedgerEntryDTO(null, rent.getRentId(), type, amount, null, null, null, null));
+	}
+
+	private static GregorianCalendar calendar(LocalDate date) {
+		return GregorianCalendar.from(date.atStartOfDay(ZoneId.systemDefault()));
+	}
+}
@@ -0,0 +1,179 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.OfficeSpace;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.RollupGranularity;
+import com.nikoladronjak.rently.domain.Utility;
+import com.nikoladronjak.rently.domain.UtilityLease;
+import com.nikoladronjak.rently.dto.MeterReadingBatchResultDTO;
+import com.nikoladronjak.rently.dto.MeterReadingDTO;
+import com.nikoladronjak.rently.dto.MeterReadingRollupDTO;
+import com.nikoladronjak.rently.exception.BadRequestException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.MeterReadingChunkRepository;
+import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
+import com.nikoladronjak.rently.repository.UtilityRepository;
+
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:MeterReadingServiceTest",
+		"rently.meters.max-batch-size=5000" })
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class MeterReadingServiceTest {
+
+	static final Instant DAY = Instant.parse("2030-01-31T00:00:00Z");
+
+	UtilityLease utilityLease;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private OfficeSpaceRepository officeSpaceRepository;
+
+	@Autowired
+	private UtilityRepository utilityRepository;
+
+	@Autowired
+	private UtilityLeaseRepository utilityLeaseRepository;
+
+	@Autowired
+	private MeterReadingChunkRepository meterReadingChunkRepository;
+
+	@Autowired
+	private MeterReadingService meterReadingService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		Owner owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		OfficeSpace officeSpace = officeSpaceRepository.save(new OfficeSpace(1, "Office Space 1", "Jove Ilica 154", "",
+				(double) 300, 150, true, 30, photos, owner, null, 100, null));
+		Utility utility = utilityRepository.save(new Utility(1, "Electricity", "", null));
+		utilityLease = utilityLeaseRepository.save(new UtilityLease(1, (double) 40, utility, officeSpace, null));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		utilityLease = null;
+	}
+
+	@Test
+	void testIngest() {
+		List<MeterReadingDTO> readings = new ArrayList<MeterReadingDTO>();
+		for (int i = 0; i < 48; i++) {
+			readings.add(reading(DAY.plusSeconds(i * 3600L), 1.5));
+		}
+
+		MeterReadingBatchResultDTO result = meterReadingService.ingest(readings);
+
+		assertEquals(new MeterReadingBatchResultDTO(48, 48, 0), result);
+		assertEquals(2, meterReadingChunkRepository.count());
+		assertEquals(readings, meterReadingService.getReadings(utilityLease.getUtilityLeaseId(), DAY,
+				DAY.plusSeconds(2 * 86400L)));
+	}
+
+	@Test
+	void testIngestDuplicates() {
+		meterReadingService.ingest(List.of(reading(DAY, 1), reading(DAY.plusSeconds(60), 2)));
+
+		MeterReadingBatchResultDTO result = meterReadingService.ingest(
+				List.of(reading(DAY.plusSeconds(60), 5), reading(DAY.plusSeconds(30), 3), reading(DAY.plusSeconds(30), 4)));
+
+		assertEquals(new MeterReadingBatchResultDTO(3, 1, 2), result);
+		assertEquals(List.of(reading(DAY, 1), reading(DAY.plusSeconds(30), 3), reading(DAY.plusSeconds(60), 2)),
+				meterReadingService.getReadings(utilityLease.getUtilityLeaseId(), DAY, DAY.plusSeconds(86400)));
+		assertEquals(1, meterReadingChunkRepository.count());
+	}
+
+	@Test
+	void testIngestUnknownUtilityLease() {
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> meterReadingService.ingest(List.of(new MeterReadingDTO(99, DAY, (double) 1))));
+
+		assertEquals("There is no utility lease for the utilityLeaseId: 99", exception.getMessage());
+	}
+
+	@Test
+	void testIngestTooManyReadings() {
+		List<MeterReadingDTO> readings = new ArrayList<MeterReadingDTO>();
+		for (int i = 0; i < 5001; i++) {
+			readings.add(reading(DAY.plusSeconds(i), 1));
+		}
+
+		BadRequestException exception = assertThrows(BadRequestException.class,
+				() -> meterReadingService.ingest(readings));
+
+		assertEquals("A batch can contain at most 5000 readings.", exception.getMessage());
+	}
+
+	@Test
+	void testIngestNotFiniteValue() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> meterReadingService.ingest(List.of(reading(DAY, Double.NaN))));
+
+		assertEquals("The value of a reading has to be a finite number.", exception.getMessage());
+	}
+
+	@Test
+	void testGetReadingsRange() {
+		meterReadingService.ingest(List.of(reading(DAY.minusSeconds(60), 1), reading(DAY.plusSeconds(600), 2),
+				reading(DAY.plusSeconds(7200), 3), reading(DAY.plusSeconds(86400), 4)));
+
+		List<MeterReadingDTO> readings = meterReadingService.getReadings(utilityLease.getUtilityLeaseId(),
+				DAY.plusSeconds(300), DAY.plusSeconds(7200));
+
+		assertEquals(List.of(reading(DAY.plusSeconds(600), 2)), readings);
+	}
+
+	@Test
+	void testGetReadingsBadRange() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> meterReadingService.getReadings(utilityLease.getUtilityLeaseId(), DAY, DAY));
+
+		assertEquals("The start of the range has to be before its end.", exception.getMessage());
+	}
+
+	@Test
+	void testGetRollups() {
+		meterReadingService.ingest(List.of(reading(DAY, 2), reading(DAY.plusSeconds(1800), 4),
+				reading(DAY.plusSeconds(3600), 1), reading(DAY.plusSeconds(86400), 10)));
+		meterReadingService.ingest(List.of(reading(DAY.plusSeconds(900), 6), reading(DAY, 100)));
+
+		int utilityLeaseId = utilityLease.getUtilityLeaseId();
+		Instant month = Instant.parse("2030-01-01T00:00:00Z");
+		assertEquals(
+				List.of(new MeterReadingRollupDTO(utilityLeaseId, RollupGranularity.Hour, DAY, 3, 12, 2, 6),
+						new MeterReadingRollupDTO(utilityLeaseId, RollupGranularity.Hour, DAY.plusSeconds(3600), 1, 1,
+								1, 1)),
+				meterReadingService.getRollups(utilityLeaseId, RollupGranularity.Hour, DAY, DAY.plusSeconds(86400)));
+		assertEquals(List.of(new MeterReadingRollupDTO(utilityLeaseId, RollupGranularity.Day, DAY, 4, 13, 1, 6)),
+				meterReadingService.getRollups(utilityLeaseId, RollupGranularity.Day, DAY, DAY.plusSeconds(86400)));
+		assertEquals(
+				List.of(new MeterReadingRollupDTO(utilityLeaseId, RollupGranularity.Month, month, 4, 13, 1, 6),
+						new MeterReadingRollupDTO(utilityLeaseId, RollupGranularity.Month,
+								Instant.parse("2030-02-01T00:00:00Z"), 1, 10, 10, 10)),
+				meterReadingService.getRollups(utilityLeaseId, RollupGranularity.Month, month,
+						Instant.parse("2030-03-01T00:00:00Z")));
+	}
+
+	private MeterReadingDTO reading(Instant timestamp, double value) {
+		return new MeterReadingDTO(utilityLease.getUtilityLeaseId(), timestamp, value);
+	}
+}
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
@@ -16,8 +17,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 
 import com.nikoladronjak.rently.domain.EventSpace;
 import com.nikoladronjak.rently.domain.HeatingType;
@@ -25,13 +24,17 @@ import com.nikoladronjak.rently.domain.Lease;
 import com.nikoladronjak.rently.domain.OfficeSpace;
 import com.nikoladronjak.rently.domain.Owner;
 import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.domain.SeatReservation;
 import com.nikoladronjak.rently.domain.UtilityLease;
 import com.nikoladronjak.rently.dto.OfficeSpaceDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
 import com.nikoladronjak.rently.repository.EventSpaceRepository;
 import com.nikoladronjak.rently.repository.LeaseRepository;
 import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
 import com.nikoladronjak.rently.repository.OwnerRepository;
 import com.nikoladronjak.rently.repository.ResidenceRepository;
+import com.nikoladronjak.rently.repository.SeatReservationRepository;
 import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
 
 @SpringBootTest
@@ -75,11 +78,44 @@ class OfficeSpaceServiceTest {
 	@Mock
 	private OfficeSpaceRepository officeSpaceRepository;
 
+	@Mock
+	private SeatReservationRepository seatReservationRepository;
+
+	@Mock
+	private PropertyBookingService propertyBookingService;
+
+	@Mock
+	private QuoteService quoteService;
+
+	@Mock
+	private RateRuleService rateRuleService;
+
+	@Mock
+	private HistoryService historyService;
+
+	@Mock
+	private SavedSearchService savedSearchService;
+
+	@Mock
+	private PropertySearchService propertySearchService;
+
+	@Mock
+	private AutocompleteService autocompleteService;
+
+	@Mock
+	private DuplicateAddressService duplicateAddressService;
+
+	@Mock
+	private GeoSearchService geoSearchService;
+
 	@InjectMocks
 	private OfficeSpaceService officeSpaceService;
 
 	@BeforeEach
 	void setUp() throws Exception {
+		when(historyService.changeProperty(any()))
+				.thenAnswer(invocation -> invocation.<Supplier<OfficeSpace>>getArgument(0).get());
+
 		owner = new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890");
 
 		photos = new ArrayList<String>();
@@ -136,10 +172,9 @@ class OfficeSpaceServiceTest {
 	void testGetAllError() {
 		when(officeSpaceRepository.findAll()).thenThrow(new RuntimeException("Something went wrong"));
 
-		ResponseEntity<?> response = officeSpaceService.getAll();
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> officeSpaceService.getAll());
 
-		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-		assertEquals("Something went wrong", response.getBody());
+		assertEquals("Something went wrong", exception.getMessage());
 	}
 
 	@Test
@@ -149,42 +184,39 @@ class OfficeSpaceServiceTest {
 		officeSpaces.add(officeSpace2);
 		when(officeSpaceRepository.findAll()).thenReturn(officeSpaces);
 
-		ResponseEntity<?> response = officeSpaceService.getAll();
+		List<OfficeSpaceDTO> response = officeSpaceService.getAll();
 		List<OfficeSpaceDTO> officeSpaceDTOs = officeSpaces.stream().map(this::convertToDTO)
 				.collect(Collectors.toList());
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(officeSpaceDTOs, response.getBody());
+		assertEquals(officeSpaceDTOs, response);
 	}
 
 	@Test
 	void testGetByIdBadId() {
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = officeSpaceService.getById(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> officeSpaceService.getById(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no office space with the given id.", response.getBody());
+		assertEquals("There is no office space with the given id.", exception.getMessage());
 	}
 
 	@Test
 	void testGetById() {
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.of(officeSpace1));
 
-		ResponseEntity<?> response = officeSpaceService.getById(1);
+		OfficeSpaceDTO response = officeSpaceService.getById(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(officeSpace1), response.getBody());
+		assertEquals(convertToDTO(officeSpace1), response);
 	}
 
 	@Test
 	void testAddMissingOwner() {
 		when(ownerRepository.findById(officeSpace1.getOwner().getOwnerId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = officeSpaceService.add(convertToDTO(officeSpace1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> officeSpaceService.add(convertToDTO(officeSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no owner with the given id.", response.getBody());
+		assertEquals("There is no owner with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -192,10 +224,10 @@ class OfficeSpaceServiceTest {
 		when(ownerRepository.findById(officeSpace1.getOwner().getOwnerId())).thenReturn(Optional.of(owner));
 		when(officeSpaceRepository.findByAddress(officeSpace1.getAddress())).thenReturn(Optional.of(officeSpace1));
 
-		ResponseEntity<?> response = officeSpaceService.add(convertToDTO(officeSpace1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> officeSpaceService.add(convertToDTO(officeSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -203,10 +235,10 @@ class OfficeSpaceServiceTest {
 		when(ownerRepository.findById(officeSpace1.getOwner().getOwnerId())).thenReturn(Optional.of(owner));
 		when(residenceRepository.findByAddress(officeSpace1.getAddress())).thenReturn(Optional.of(residence1));
 
-		ResponseEntity<?> response = officeSpaceService.add(convertToDTO(officeSpace1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> officeSpaceService.add(convertToDTO(officeSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -214,10 +246,10 @@ class OfficeSpaceServiceTest {
 		when(ownerRepository.findById(officeSpace1.getOwner().getOwnerId())).thenReturn(Optional.of(owner));
 		when(eventSpaceRepository.findByAddress(officeSpace1.getAddress())).thenReturn(Optional.of(eventSpace1));
 
-		ResponseEntity<?> response = officeSpaceService.add(convertToDTO(officeSpace1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> officeSpaceService.add(convertToDTO(officeSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -228,20 +260,19 @@ class OfficeSpaceServiceTest {
 		when(residenceRepository.findByAddress(officeSpace1.getAddress())).thenReturn(Optional.empty());
 		when(officeSpaceRepository.save(any(OfficeSpace.class))).thenReturn(officeSpace1);
 
-		ResponseEntity<?> response = officeSpaceService.add(convertToDTO(officeSpace1));
+		OfficeSpaceDTO response = officeSpaceService.add(convertToDTO(officeSpace1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(officeSpace1), response.getBody());
+		assertEquals(convertToDTO(officeSpace1), response);
 	}
 
 	@Test
 	void testUpdateBadId() {
 		when(officeSpaceRepository.findById(officeSpace1.getPropertyId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = officeSpaceService.update(1, convertToDTO(officeSpace1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> officeSpaceService.update(1, convertToDTO(officeSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no office space with the given id.", response.getBody());
+		assertEquals("There is no office space with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -249,10 +280,10 @@ class OfficeSpaceServiceTest {
 		when(officeSpaceRepository.findById(officeSpace1.getPropertyId())).thenReturn(Optional.of(officeSpace1));
 		when(ownerRepository.findById(officeSpace1.getOwner().getOwnerId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = officeSpaceService.update(1, convertToDTO(officeSpace1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> officeSpaceService.update(1, convertToDTO(officeSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no owner with the given id.", response.getBody());
+		assertEquals("There is no owner with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -263,11 +294,10 @@ class OfficeSpaceServiceTest {
 		when(officeSpaceRepository.save(any(OfficeSpace.class)))
 				.thenThrow(new RuntimeException("This property already exists."));
 
-		ResponseEntity<?> response = officeSpaceService.update(officeSpace1.getPropertyId(),
-				convertToDTO(officeSpace1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> officeSpaceService.update(officeSpace1.getPropertyId(), convertToDTO(officeSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -278,11 +308,10 @@ class OfficeSpaceServiceTest {
 		when(officeSpaceRepository.save(any(OfficeSpace.class)))
 				.thenThrow(new RuntimeException("This property already exists."));
 
-		ResponseEntity<?> response = officeSpaceService.update(officeSpace1.getPropertyId(),
-				convertToDTO(officeSpace1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> officeSpaceService.update(officeSpace1.getPropertyId(), convertToDTO(officeSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -293,11 +322,10 @@ class OfficeSpaceServiceTest {
 		when(officeSpaceRepository.save(any(OfficeSpace.class)))
 				.thenThrow(new RuntimeException("This property already exists."));
 
-		ResponseEntity<?> response = officeSpaceService.update(officeSpace1.getPropertyId(),
-				convertToDTO(officeSpace1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> officeSpaceService.update(officeSpace1.getPropertyId(), convertToDTO(officeSpace1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -307,20 +335,18 @@ class OfficeSpaceServiceTest {
 		when(officeSpaceRepository.findByAddress(officeSpace1.getAddress())).thenReturn(Optional.empty());
 		when(officeSpaceRepository.save(any(OfficeSpace.class))).thenReturn(officeSpace1);
 
-		ResponseEntity<?> response = officeSpaceService.update(1, convertToDTO(officeSpace1));
+		OfficeSpaceDTO response = officeSpaceService.update(1, convertToDTO(officeSpace1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(officeSpace1), response.getBody());
+		assertEquals(convertToDTO(officeSpace1), response);
 	}
 
 	@Test
 	void testDeleteBadId() {
 		when(officeSpaceRepository.findById(officeSpace1.getPropertyId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = officeSpaceService.delete(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> officeSpaceService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no office space with the given id.", response.getBody());
+		assertEquals("There is no office space with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -328,11 +354,10 @@ class OfficeSpaceServiceTest {
 		when(officeSpaceRepository.findById(officeSpace1.getPropertyId())).thenReturn(Optional.of(officeSpace1));
 		when(leaseRepository.findAllByProperty_PropertyId(officeSpace1.getPropertyId())).thenReturn(leases);
 
-		ResponseEntity<?> response = officeSpaceService.delete(1);
+		ConflictException exception = assertThrows(ConflictException.class, () -> officeSpaceService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 		assertEquals("You cannot delete this office space since there are leases associated with it.",
-				response.getBody());
+				exception.getMessage());
 	}
 
 	@Test
@@ -343,11 +368,26 @@ class OfficeSpaceServiceTest {
 		when(utilityLeaseRepository.findAllByProperty_PropertyId(officeSpace1.getPropertyId()))
 				.thenReturn(utilityLeases);
 
-		ResponseEntity<?> response = officeSpaceService.delete(1);
+		ConflictException exception = assertThrows(ConflictException.class, () -> officeSpaceService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 		assertEquals("You cannot delete this office space since there are utility leases associated with it.",
-				response.getBody());
+				exception.getMessage());
+	}
+
+	@Test
+	void testDeleteAssociatedSeatReservation() {
+		when(officeSpaceRepository.findById(officeSpace1.getPropertyId())).thenReturn(Optional.of(officeSpace1));
+		when(leaseRepository.findAllByProperty_PropertyId(officeSpace1.getPropertyId()))
+				.thenReturn(new ArrayList<Lease>());
+		when(utilityLeaseRepository.findAllByProperty_PropertyId(officeSpace1.getPropertyId()))
+				.thenReturn(new ArrayList<UtilityLease>());
+		when(seatReservationRepository.findAllByOfficeSpace_PropertyId(officeSpace1.getPropertyId()))
+				.thenReturn(List.of(new SeatReservation(1, null, null, 5, officeSpace1, null)));
+
+		ConflictException exception = assertThrows(ConflictException.class, () -> officeSpaceService.delete(1));
+
+		assertEquals("You cannot delete this office space since there are seat reservations associated with it.",
+				exception.getMessage());
 	}
 
 	@Test
@@ -356,10 +396,9 @@ class OfficeSpaceServiceTest {
 		when(leaseRepository.findAllByProperty_PropertyId(officeSpace1.getPropertyId()))
 				.thenReturn(new ArrayList<Lease>());
 
-		ResponseEntity<?> response = officeSpaceService.delete(1);
+		OfficeSpaceDTO response = officeSpaceService.delete(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(officeSpace1), response.getBody());
+		assertEquals(convertToDTO(officeSpace1), response);
 	}
 
 	private OfficeSpaceDTO convertToDTO(OfficeSpace officeSpace) {
@@ -15,8 +15,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 
 import com.nikoladronjak.rently.domain.Customer;
 import com.nikoladronjak.rently.domain.EventSpace;
@@ -25,6 +23,8 @@ import com.nikoladronjak.rently.domain.OfficeSpace;
 import com.nikoladronjak.rently.domain.Owner;
 import com.nikoladronjak.rently.domain.Residence;
 import com.nikoladronjak.rently.dto.OwnerDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
 import com.nikoladronjak.rently.repository.CustomerRepository;
 import com.nikoladronjak.rently.repository.EventSpaceRepository;
 import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
@@ -120,10 +120,9 @@ class OwnerServiceTest {
 	void testGetAllError() {
 		when(ownerRepository.findAll()).thenThrow(new RuntimeException("Something went wrong"));
 
-		ResponseEntity<?> response = ownerService.getAll();
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> ownerService.getAll());
 
-		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-		assertEquals("Something went wrong", response.getBody());
+		assertEquals("Something went wrong", exception.getMessage());
 	}
 
 	@Test
@@ -133,51 +132,48 @@ class OwnerServiceTest {
 		owners.add(owner2);
 		when(ownerRepository.findAll()).thenReturn(owners);
 
-		ResponseEntity<?> response = ownerService.getAll();
+		List<OwnerDTO> response = ownerService.getAll();
 		List<OwnerDTO> ownerDTOs = owners.stream().map(this::convertToDTO).collect(Collectors.toList());
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(ownerDTOs, response.getBody());
+		assertEquals(ownerDTOs, response);
 	}
 
 	@Test
 	void testGetByIdBadId() {
 		when(ownerRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = ownerService.getById(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> ownerService.getById(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no owner with the given id.", response.getBody());
+		assertEquals("There is no owner with the given id.", exception.getMessage());
 	}
 
 	@Test
 	void testGetById() {
 		when(ownerRepository.findById(1)).thenReturn(Optional.of(owner1));
 
-		ResponseEntity<?> response = ownerService.getById(1);
+		OwnerDTO response = ownerService.getById(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(owner1), response.getBody());
+		assertEquals(convertToDTO(owner1), response);
 	}
 
 	@Test
 	void testAddDuplicateOwner() {
 		when(ownerRepository.findByEmail(owner1.getEmail())).thenReturn(Optional.of(owner1));
 
-		ResponseEntity<?> response = ownerService.add(convertToDTO(owner1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> ownerService.add(convertToDTO(owner1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This user already exists.", response.getBody());
+		assertEquals("This user already exists.", exception.getMessage());
 	}
 
 	@Test
 	void testAddDuplicateCustomer() {
 		when(customerRepository.findByEmail(owner1.getEmail())).thenReturn(Optional.of(customer1));
 
-		ResponseEntity<?> response = ownerService.add(convertToDTO(owner1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> ownerService.add(convertToDTO(owner1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This user already exists.", response.getBody());
+		assertEquals("This user already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -186,20 +182,19 @@ class OwnerServiceTest {
 		when(customerRepository.findByEmail(owner1.getEmail())).thenReturn(Optional.empty());
 		when(ownerRepository.save(any(Owner.class))).thenReturn(owner1);
 
-		ResponseEntity<?> response = ownerService.add(convertToDTO(owner1));
+		OwnerDTO response = ownerService.add(convertToDTO(owner1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(owner1), response.getBody());
+		assertEquals(convertToDTO(owner1), response);
 	}
 
 	@Test
 	void testUpdateBadId() {
 		when(ownerRepository.findById(owner1.getOwnerId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = ownerService.update(1, convertToDTO(owner1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> ownerService.update(1, convertToDTO(owner1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no owner with the given id.", response.getBody());
+		assertEquals("There is no owner with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -208,10 +203,10 @@ class OwnerServiceTest {
 		when(ownerRepository.findByEmail(owner1.getEmail())).thenReturn(Optional.of(owner1));
 		when(ownerRepository.save(any(Owner.class))).thenThrow(new RuntimeException("This user already exists."));
 
-		ResponseEntity<?> response = ownerService.update(owner1.getOwnerId(), convertToDTO(owner1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> ownerService.update(owner1.getOwnerId(), convertToDTO(owner1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This user already exists.", response.getBody());
+		assertEquals("This user already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -220,10 +215,10 @@ class OwnerServiceTest {
 		when(customerRepository.findByEmail(owner1.getEmail())).thenReturn(Optional.of(customer1));
 		when(ownerRepository.save(any(Owner.class))).thenThrow(new RuntimeException("This user already exists."));
 
-		ResponseEntity<?> response = ownerService.update(owner1.getOwnerId(), convertToDTO(owner1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> ownerService.update(owner1.getOwnerId(), convertToDTO(owner1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This user already exists.", response.getBody());
+		assertEquals("This user already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -232,20 +227,18 @@ class OwnerServiceTest {
 		when(ownerRepository.findByEmail(owner1.getEmail())).thenReturn(Optional.empty());
 		when(ownerRepository.save(any(Owner.class))).thenReturn(owner1);
 
-		ResponseEntity<?> response = ownerService.update(1, convertToDTO(owner1));
+		OwnerDTO response = ownerService.update(1, convertToDTO(owner1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(owner1), response.getBody());
+		assertEquals(convertToDTO(owner1), response);
 	}
 
 	@Test
 	void testDeleteBadId() {
 		when(ownerRepository.findById(owner1.getOwnerId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = ownerService.delete(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> ownerService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no owner with the given id.", response.getBody());
+		assertEquals("There is no owner with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -253,11 +246,10 @@ class OwnerServiceTest {
 		when(ownerRepository.findById(owner1.getOwnerId())).thenReturn(Optional.of(owner1));
 		when(residenceRepository.findAllByOwner_OwnerId(owner1.getOwnerId())).thenReturn(residences);
 
-		ResponseEntity<?> response = ownerService.delete(1);
+		ConflictException exception = assertThrows(ConflictException.class, () -> ownerService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 		assertEquals("You cannot delete this owner since there are properties associated with him.",
-				response.getBody());
+				exception.getMessage());
 	}
 
 	@Test
@@ -265,11 +257,10 @@ class OwnerServiceTest {
 		when(ownerRepository.findById(owner1.getOwnerId())).thenReturn(Optional.of(owner1));
 		when(eventSpaceRepository.findAllByOwner_OwnerId(owner1.getOwnerId())).thenReturn(eventSpaces);
 
-		ResponseEntity<?> response = ownerService.delete(1);
+		ConflictException exception = assertThrows(ConflictException.class, () -> ownerService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 		assertEquals("You cannot delete this owner since there are properties associated with him.",
-				response.getBody());
+				exception.getMessage());
 	}
 
 	@Test
@@ -277,11 +268,10 @@ class OwnerServiceTest {
 		when(ownerRepository.findById(owner1.getOwnerId())).thenReturn(Optional.of(owner1));
 		when(officeSpaceRepository.findAllByOwner_OwnerId(owner1.getOwnerId())).thenReturn(officeSpaces);
 
-		ResponseEntity<?> response = ownerService.delete(1);
+		ConflictException exception = assertThrows(ConflictException.class, () -> ownerService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 		assertEquals("You cannot delete this owner since there are properties associated with him.",
-				response.getBody());
+				exception.getMessage());
 	}
 
 	@Test
@@ -292,14 +282,14 @@ class OwnerServiceTest {
 		when(officeSpaceRepository.findAllByOwner_OwnerId(owner1.getOwnerId()))
 				.thenReturn(new ArrayList<OfficeSpace>());
 
-		ResponseEntity<?> response = ownerService.delete(1);
+		OwnerDTO response = ownerService.delete(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(owner1), response.getBody());
+		assertEquals(convertToDTO(owner1), response);
 	}
 
 	private OwnerDTO convertToDTO(Owner owner) {
 		OwnerDTO ownerDTO = new OwnerDTO();
+		ownerDTO.setOwnerId(owner.getOwnerId());
 		ownerDTO.setFirstName(owner.getFirstName());
 		ownerDTO.setLastName(owner.getLastName());
 		ownerDTO.setEmail(owner.getEmail());
@@ -0,0 +1,215 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.ResidenceRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class PropertyBookingServiceTest {
+
+	Owner owner;
+
+	Residence residence;
+
+	Customer customer;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private ResidenceRepository residenceRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	@Autowired
+	private PropertyBookingService propertyBookingService;
+
+	@Autowired
+	private LeaseExpiryService leaseExpiryService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		residence = residenceRepository.save(new Residence(1, "Apartement 1", "Jove Ilica 154", "", (double) 300, 30,
+				true, 0, photos, owner, null, 1, 1, HeatingType.Central, true, true));
+		customer = customerRepository.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		owner = null;
+		residence = null;
+		customer = null;
+	}
+
+	@Test
+	void testBook() {
+		Lease lease = book(lease(10, 20));
+
+		assertTrue(leaseRepository.findById(lease.getLeaseId()).isPresent());
+		assertTrue(propertyBookingService.isLeased(residence.getPropertyId(), LocalDate.now().plusDays(10)));
+		assertTrue(propertyBookingService.isLeased(residence.getPropertyId(), LocalDate.now().plusDays(20)));
+		assertFalse(propertyBookingService.isLeased(residence.getPropertyId(), LocalDate.now().plusDays(21)));
+	}
+
+	@Test
+	void testBookOverlapping() {
+		book(lease(10, 20));
+
+		ConflictException exception = assertThrows(ConflictException.class, () -> book(lease(20, 30)));
+		assertEquals("The property is already leased for the given dates.", exception.getMessage());
+		assertEquals(1, leaseRepository.count());
+	}
+
+	@Test
+	void testBookBackToBack() {
+		book(lease(10, 20));
+		book(lease(21, 30));
+		book(lease(1, 9));
+
+		assertEquals(3, leaseRepository.count());
+	}
+
+	@Test
+	void testBookFailureLeavesCalendarUnchanged() {
+		assertThrows(IllegalStateException.class, () -> propertyBookingService.book(lease(10, 20), () -> {
+			throw new IllegalStateException("Saving the lease failed.");
+		}));
+
+		assertFalse(propertyBookingService.isLeased(residence.getPropertyId(), LocalDate.now().plusDays(10)));
+		book(lease(10, 20));
+	}
+
+	@Test
+	void testBookUpdatedLease() {
+		Lease lease = book(lease(10, 20));
+
+		Lease updatedLease = lease(15, 25);
+		updatedLease.setLeaseId(lease.getLeaseId());
+		book(updatedLease);
+
+		assertFalse(propertyBookingService.isLeased(residence.getPropertyId(), LocalDate.now().plusDays(10)));
+		assertTrue(propertyBookingService.isLeased(residence.getPropertyId(), LocalDate.now().plusDays(25)));
+		book(lease(10, 14));
+	}
+
+	@Test
+	void testCancel() {
+		Lease lease = book(lease(10, 20));
+
+		propertyBookingService.cancel(lease, () -> leaseRepository.deleteById(lease.getLeaseId()));
+
+		assertEquals(0, leaseRepository.count());
+		assertFalse(propertyBookingService.isLeased(residence.getPropertyId(), LocalDate.now().plusDays(10)));
+		book(lease(10, 20));
+	}
+
+	@Test
+	void testRebuild() {
+		leaseRepository.save(lease(10, 20));
+
+		propertyBookingService.rebuild();
+
+		assertThrows(ConflictException.class, () -> book(lease(15, 16)));
+	}
+
+	@Test
+	void testRebuildSkipsEndedLeases() {
+		Lease lease = leaseRepository.save(lease(10, 20));
+		jdbcTemplate.update("UPDATE Leases SET start_date = ?, end_date = ? WHERE lease_id = ?",
+				Date.valueOf(LocalDate.now().minusDays(20)), Date.valueOf(LocalDate.now().minusDays(10)),
+				lease.getLeaseId());
+
+		propertyBookingService.rebuild();
+
+		assertFalse(propertyBookingService.isLeased(residence.getPropertyId(), LocalDate.now().minusDays(15)));
+		assertFalse(leaseExpiryService.isScheduled(lease.getLeaseId()));
+	}
+
+	@Test
+	void testConcurrentBookings() throws Exception {
+		int threads = 16;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				Callable<Boolean> booking = () -> {
+					start.await();
+					try {
+						book(lease(10, 20));
+						return true;
+					} catch (RuntimeException e) {
+						return false;
+					}
+				};
+				results.add(executor.submit(booking));
+			}
+			start.countDown();
+
+			int successful = 0;
+			for (Future<Boolean> result : results) {
+				if (result.get())
+					successful++;
+			}
+			assertEquals(1, successful);
+			assertEquals(1, leaseRepository.count());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private Lease book(Lease lease) {
+		return propertyBookingService.book(lease, () -> leaseRepository.save(lease));
+	}
+
+	private Lease lease(int startDay, int endDay) {
+		return new Lease(0, 300, date(startDay), date(endDay), residence, customer, null);
+	}
+
+	private GregorianCalendar date(int days) {
+		GregorianCalendar date = new GregorianCalendar();
+		date.add(Calendar.DAY_OF_MONTH, days);
+		return date;
+	}
+}
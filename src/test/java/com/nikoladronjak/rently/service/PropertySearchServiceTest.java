@@ -0,0 +1,137 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.dto.OfficeSpaceDTO;
+import com.nikoladronjak.rently.dto.PropertyDTO;
+import com.nikoladronjak.rently.dto.PropertySearchDTO;
+import com.nikoladronjak.rently.dto.ResidenceDTO;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.ResidenceRepository;
+
+@SpringBootTest(properties = "rently.search.index-dir=${java.io.tmpdir}/rently-search-PropertySearchServiceTest")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class PropertySearchServiceTest {
+
+	ResidenceDTO residenceDTO1;
+
+	ResidenceDTO residenceDTO2;
+
+	OfficeSpaceDTO officeSpaceDTO;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private ResidenceRepository residenceRepository;
+
+	@Autowired
+	private ResidenceService residenceService;
+
+	@Autowired
+	private OfficeSpaceService officeSpaceService;
+
+	@Autowired
+	private PropertySearchService propertySearchService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		Owner owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		residenceDTO1 = residenceService.add(new ResidenceDTO(null, "Sunny apartment", "Jove Ilica 154",
+				"Two bedrooms and a balcony with a view of the river.", (double) 300, 60, true, 0, photos, 2, 1,
+				HeatingType.Central, true, true, owner.getOwnerId()));
+		residenceDTO2 = residenceService.add(new ResidenceDTO(null, "Family house", "Studentski trg 1",
+				"A house with a garden and balconies.", (double) 500, 120, true, 2, photos, 4, 2, HeatingType.Central,
+				true, false, owner.getOwnerId()));
+		officeSpaceDTO = officeSpaceService.add(new OfficeSpaceDTO(null, "Office with a balcony", "Knez Mihailova 1",
+				"Open space office.", (double) 800, 150, true, 10, photos, 30, owner.getOwnerId()));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		residenceDTO1 = null;
+		residenceDTO2 = null;
+		officeSpaceDTO = null;
+	}
+
+	@Test
+	void testSearch() {
+		List<PropertyDTO> propertyDTOs = propertySearchService
+				.search(new PropertySearchDTO("Balconies", null, null, null, null, null, null));
+
+		assertEquals(List.of(officeSpaceDTO.getPropertyId(), residenceDTO2.getPropertyId(),
+				residenceDTO1.getPropertyId()), ids(propertyDTOs));
+	}
+
+	@Test
+	void testSearchWithFilters() {
+		List<PropertyDTO> propertyDTOs = propertySearchService
+				.search(new PropertySearchDTO("balcony", PropertyType.Residence, null, (double) 400, null, null, null));
+
+		assertEquals(List.of(residenceDTO1.getPropertyId()), ids(propertyDTOs));
+	}
+
+	@Test
+	void testSearchLimit() {
+		List<PropertyDTO> propertyDTOs = propertySearchService
+				.search(new PropertySearchDTO("balcony", null, null, null, null, null, 1));
+
+		assertEquals(List.of(officeSpaceDTO.getPropertyId()), ids(propertyDTOs));
+	}
+
+	@Test
+	void testSearchWithoutWords() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> propertySearchService.search(new PropertySearchDTO(" - ", null, null, null, null, null, null)));
+
+		assertEquals("The search query has to contain at least one word.", exception.getMessage());
+	}
+
+	@Test
+	void testUpdateAndDelete() {
+		residenceDTO2.setDescription("A house with a garden.");
+		residenceService.update(residenceDTO2.getPropertyId(), residenceDTO2);
+		officeSpaceService.delete(officeSpaceDTO.getPropertyId());
+
+		assertEquals(List.of(residenceDTO1.getPropertyId()), search("balcony"));
+		assertEquals(List.of(residenceDTO2.getPropertyId()), search("gardens"));
+	}
+
+	@Test
+	void testRebuild() {
+		Residence residence = residenceRepository.findById(residenceDTO1.getPropertyId()).get();
+		residence.setDescription("Two bedrooms and a terrace.");
+		residenceRepository.save(residence);
+
+		propertySearchService.rebuild();
+
+		assertEquals(List.of(officeSpaceDTO.getPropertyId(), residenceDTO2.getPropertyId()), search("balcony"));
+		assertEquals(List.of(residenceDTO1.getPropertyId()), search("terrace"));
+	}
+
+	private List<Integer> search(String q) {
+		return ids(propertySearchService.search(new PropertySearchDTO(q, null, null, null, null, null, null)));
+	}
+
+	private static List<Integer> ids(List<PropertyDTO> propertyDTOs) {
+		return propertyDTOs.stream().map(PropertyDTO::getPropertyId).toList();
+	}
+}
@@ -0,0 +1,168 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.EventSpace;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.Utility;
+import com.nikoladronjak.rently.domain.UtilityLease;
+import com.nikoladronjak.rently.dto.QuoteDTO;
+import com.nikoladronjak.rently.dto.RateRuleDTO;
+import com.nikoladronjak.rently.dto.UtilityLeaseDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.EventSpaceRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
+import com.nikoladronjak.rently.repository.UtilityRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class QuoteServiceTest {
+
+	static final LocalDate FRIDAY = LocalDate.parse("2030-01-04");
+
+	EventSpace eventSpace;
+
+	Utility utility;
+
+	UtilityLease utilityLease;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private EventSpaceRepository eventSpaceRepository;
+
+	@Autowired
+	private UtilityRepository utilityRepository;
+
+	@Autowired
+	private UtilityLeaseRepository utilityLeaseRepository;
+
+	@Autowired
+	private UtilityLeaseService utilityLeaseService;
+
+	@Autowired
+	private RateRuleService rateRuleService;
+
+	@Autowired
+	private QuoteService quoteService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		Owner owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		eventSpace = eventSpaceRepository.save(new EventSpace(1, "Event Space 1", "Jove Ilica 154", "", (double) 310,
+				150, true, 30, photos, owner, null, 100, true, true, null));
+		utility = utilityRepository.save(new Utility(1, "Microphone", "", null));
+		utilityLease = utilityLeaseRepository.save(new UtilityLease(1, (double) 62, utility, eventSpace, null));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		eventSpace = null;
+		utility = null;
+		utilityLease = null;
+	}
+
+	@Test
+	void testQuoteWithoutRules() {
+		QuoteDTO quoteDTO = quoteService.quote(eventSpace.getPropertyId(), FRIDAY, FRIDAY.plusDays(3), List.of());
+
+		assertEquals(new QuoteDTO(eventSpace.getPropertyId(), FRIDAY, FRIDAY.plusDays(3), List.of(), 4, 40, 0, 40),
+				quoteDTO);
+	}
+
+	@Test
+	void testQuoteWithUtilityLease() {
+		QuoteDTO quoteDTO = quoteService.quote(eventSpace.getPropertyId(), FRIDAY, FRIDAY.plusDays(3),
+				List.of(utilityLease.getUtilityLeaseId(), utilityLease.getUtilityLeaseId()));
+
+		assertEquals(List.of(utilityLease.getUtilityLeaseId()), quoteDTO.getUtilityLeaseIds());
+		assertEquals(8, quoteDTO.getUtilityPrice());
+		assertEquals(48, quoteDTO.getTotalPrice());
+	}
+
+	@Test
+	void testQuoteWeekendRule() {
+		rateRuleService.add(new RateRuleDTO(eventSpace.getPropertyId(), "Weekends", calendar(FRIDAY.minusDays(4)),
+				calendar(FRIDAY.plusDays(300)), List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), (double) 50, null));
+
+		QuoteDTO quoteDTO = quoteService.quote(eventSpace.getPropertyId(), FRIDAY, FRIDAY.plusDays(3), List.of());
+
+		assertEquals(120, quoteDTO.getRentalPrice());
+	}
+
+	@Test
+	void testQuoteEvictedWhenRulesChange() {
+		quoteService.quote(eventSpace.getPropertyId(), FRIDAY, FRIDAY.plusDays(3), List.of());
+		RateRuleDTO rateRuleDTO = rateRuleService.add(new RateRuleDTO(eventSpace.getPropertyId(), "Holidays",
+				calendar(FRIDAY), calendar(FRIDAY), null, (double) 100, 1));
+
+		assertEquals(130, quoteService.quote(eventSpace.getPropertyId(), FRIDAY, FRIDAY.plusDays(3), List.of())
+				.getRentalPrice());
+
+		rateRuleService.delete(rateRuleDTO.getRateRuleId());
+
+		assertEquals(40, quoteService.quote(eventSpace.getPropertyId(), FRIDAY, FRIDAY.plusDays(3), List.of())
+				.getRentalPrice());
+	}
+
+	@Test
+	void testQuoteEvictedWhenUtilityLeaseChanges() {
+		quoteService.quote(eventSpace.getPropertyId(), FRIDAY, FRIDAY.plusDays(3),
+				List.of(utilityLease.getUtilityLeaseId()));
+		utilityLeaseService.update(utilityLease.getUtilityLeaseId(),
+				new UtilityLeaseDTO(utility.getUtilityId(), eventSpace.getPropertyId(), (double) 31));
+
+		QuoteDTO quoteDTO = quoteService.quote(eventSpace.getPropertyId(), FRIDAY, FRIDAY.plusDays(3),
+				List.of(utilityLease.getUtilityLeaseId()));
+
+		assertEquals(4, quoteDTO.getUtilityPrice());
+	}
+
+	@Test
+	void testQuoteUnknownUtilityLease() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> quoteService.quote(eventSpace.getPropertyId(), FRIDAY, FRIDAY, List.of(99)));
+
+		assertEquals("The utility lease 99 is not offered for the property.", exception.getMessage());
+	}
+
+	@Test
+	void testQuoteBadRange() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> quoteService.quote(eventSpace.getPropertyId(), FRIDAY, FRIDAY.minusDays(1), List.of()));
+
+		assertEquals("The start date has to be before the end date.", exception.getMessage());
+	}
+
+	@Test
+	void testQuoteBadPropertyId() {
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> quoteService.quote(99, FRIDAY, FRIDAY, List.of()));
+
+		assertEquals("There is no property with the given id.", exception.getMessage());
+	}
+
+	private static GregorianCalendar calendar(LocalDate date) {
+		return GregorianCalendar.from(date.atStartOfDay(ZoneId.systemDefault()));
+	}
+}
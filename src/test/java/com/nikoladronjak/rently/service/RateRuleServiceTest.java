@@ -0,0 +1,142 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.RateRule;
+import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.dto.RateRuleDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.RateRuleRepository;
+import com.nikoladronjak.rently.repository.ResidenceRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RateRuleServiceTest {
+
+	Residence residence;
+
+	RateRuleDTO rateRuleDTO;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private ResidenceRepository residenceRepository;
+
+	@Autowired
+	private RateRuleRepository rateRuleRepository;
+
+	@Autowired
+	private ResidenceService residenceService;
+
+	@Autowired
+	private RateRuleService rateRuleService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		Owner owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		residence = residenceRepository.save(new Residence(1, "Apartement 1", "Jove Ilica 154", "", (double) 300, 30,
+				true, 0, photos, owner, null, 2, 1, HeatingType.Central, true, true));
+		rateRuleDTO = new RateRuleDTO(residence.getPropertyId(), "Summer season", calendar("2030-06-01"),
+				calendar("2030-08-31"), List.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), (double) 45, null);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		residence = null;
+		rateRuleDTO = null;
+	}
+
+	@Test
+	void testAdd() {
+		RateRuleDTO addedRateRuleDTO = rateRuleService.add(rateRuleDTO);
+
+		RateRule rateRule = rateRuleRepository.findById(addedRateRuleDTO.getRateRuleId()).get();
+		assertEquals(0b0110000, rateRule.getDaysOfWeek());
+		assertEquals(0, rateRule.getPriority());
+		assertEquals(List.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), addedRateRuleDTO.getDaysOfWeek());
+		assertEquals(List.of(addedRateRuleDTO.getRateRuleId()), rateRuleService
+				.getAllByPropertyId(residence.getPropertyId()).stream().map(RateRuleDTO::getRateRuleId).toList());
+	}
+
+	@Test
+	void testAddEveryDay() {
+		rateRuleDTO.setDaysOfWeek(null);
+
+		RateRuleDTO addedRateRuleDTO = rateRuleService.add(rateRuleDTO);
+
+		assertEquals(List.of(DayOfWeek.values()), addedRateRuleDTO.getDaysOfWeek());
+	}
+
+	@Test
+	void testAddBadPropertyId() {
+		rateRuleDTO.setPropertyId(99);
+
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> rateRuleService.add(rateRuleDTO));
+
+		assertEquals("There is no property with the given id.", exception.getMessage());
+	}
+
+	@Test
+	void testAddBadDates() {
+		rateRuleDTO.setEndDate(calendar("2030-05-31"));
+
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> rateRuleService.add(rateRuleDTO));
+
+		assertEquals("The start date of the rate rule has to be before its end date.", exception.getMessage());
+	}
+
+	@Test
+	void testUpdate() {
+		int rateRuleId = rateRuleService.add(rateRuleDTO).getRateRuleId();
+		rateRuleDTO.setDailyRate((double) 55);
+		rateRuleDTO.setPriority(2);
+
+		RateRuleDTO updatedRateRuleDTO = rateRuleService.update(rateRuleId, rateRuleDTO);
+
+		assertEquals(55, updatedRateRuleDTO.getDailyRate());
+		assertEquals(2, rateRuleService.getById(rateRuleId).getPriority());
+	}
+
+	@Test
+	void testDeleteBadId() {
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> rateRuleService.delete(99));
+
+		assertEquals("There is no rate rule with the given id.", exception.getMessage());
+	}
+
+	@Test
+	void testDeletePropertyDeletesRules() {
+		rateRuleService.add(rateRuleDTO);
+
+		residenceService.delete(residence.getPropertyId());
+
+		assertEquals(0, rateRuleRepository.count());
+	}
+
+	private static GregorianCalendar calendar(String date) {
+		return GregorianCalendar.from(LocalDate.parse(date).atStartOfDay(ZoneId.systemDefault()));
+	}
+}
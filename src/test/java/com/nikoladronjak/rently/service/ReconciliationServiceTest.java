@@ -0,0 +1,197 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.LedgerEntryType;
+import com.nikoladronjak.rently.domain.OfficeSpace;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.ReconciliationMatchType;
+import com.nikoladronjak.rently.domain.Rent;
+import com.nikoladronjak.rently.domain.UtilityLease;
+import com.nikoladronjak.rently.dto.LedgerEntryDTO;
+import com.nikoladronjak.rently.dto.ReconciliationDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.RentRepository;
+
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:ReconciliationServiceTest",
+		"rently.reconciliation.report-dir=target/reconciliations", "rently.reconciliation.tolerance=2.00" })
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ReconciliationServiceTest {
+
+	Customer customer1;
+
+	Customer customer2;
+
+	Lease lease1;
+
+	Lease lease2;
+
+	Rent rent1;
+
+	Rent rent2;
+
+	Rent rent3;
+
+	Rent rent4;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private OfficeSpaceRepository officeSpaceRepository;
+
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	@Autowired
+	private RentRepository rentRepository;
+
+	@Autowired
+	private LedgerService ledgerService;
+
+	@Autowired
+	private ReconciliationService reconciliationService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		Owner owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		customer1 = customerRepository.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null));
+		customer2 = customerRepository.save(new Customer(2, "Laza", "Lazic", "laza@gmail.com", "laza123", null));
+		OfficeSpace officeSpace1 = officeSpaceRepository.save(new OfficeSpace(1, "Office Space 1", "Jove Ilica 154",
+				"", (double) 300, 150, true, 30, photos, owner, null, 100, null));
+		OfficeSpace officeSpace2 = officeSpaceRepository.save(new OfficeSpace(2, "Office Space 2",
+				"Studentski trg 1", "", (double) 250, 120, true, 20, photos, owner, null, 90, null));
+		lease1 = leaseRepository.save(new Lease(1, 300, calendar(LocalDate.now().plusDays(1)),
+				calendar(LocalDate.now().plusYears(1)), officeSpace1, customer1, null));
+		lease2 = leaseRepository.save(new Lease(2, 250, calendar(LocalDate.now().plusDays(1)),
+				calendar(LocalDate.now().plusYears(1)), officeSpace2, customer2, null));
+
+		YearMonth period = YearMonth.now();
+		rent1 = rentRepository.save(new Rent(0, 300, period.toString(), new ArrayList<UtilityLease>(), lease1));
+		rent2 = rentRepository
+				.save(new Rent(0, 300, period.plusMonths(1).toString(), new ArrayList<UtilityLease>(), lease1));
+		rent3 = rentRepository.save(new Rent(0, 250, period.toString(), new ArrayList<UtilityLease>(), lease2));
+		rent4 = rentRepository
+				.save(new Rent(0, 275.5, period.plusMonths(1).toString(), new ArrayList<UtilityLease>(), lease2));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		customer1 = null;
+		customer2 = null;
+		lease1 = null;
+		lease2 = null;
+		rent1 = null;
+		rent2 = null;
+		rent3 = null;
+		rent4 = null;
+	}
+
+	@Test
+	void testReconcile() throws Exception {
+		String statement = "date,amount,reference,payer\n" + "2099-01-05,300.00,Rent RENT-" + rent2.getRentId() + ",\n"
+				+ "2099-01-05,300,LEASE-" + lease1.getLeaseId() + ",\n" + "2099-01-06,249.00,January,laza@gmail.com\n"
+				+ "2099-01-07,275.50,,\n" + "2099-01-07,999,CUST-" + customer1.getCustomerId() + ",\n"
+				+ "not a statement line\n";
+
+		ReconciliationDTO reconciliationDTO = reconcile(statement);
+
+		assertEquals(6, reconciliationDTO.getLines());
+		assertEquals(4, reconciliationDTO.getMatched());
+		assertEquals(2, reconciliationDTO.getUnmatched());
+		assertEquals(Map.of(ReconciliationMatchType.Rent, 1, ReconciliationMatchType.Lease, 1,
+				ReconciliationMatchType.Fuzzy, 1, ReconciliationMatchType.Amount, 1),
+				reconciliationDTO.getMatchesByType());
+
+		List<String> matched = Files
+				.readAllLines(reconciliationService.getReport(reconciliationDTO.getReconciliationId(), true));
+		assertEquals(List.of("line,rentId,leaseId,customerId,amount,amountDue,matchType",
+				"2," + rent2.getRentId() + "," + lease1.getLeaseId() + "," + customer1.getCustomerId()
+						+ ",300.00,300.00,Rent",
+				"3," + rent1.getRentId() + "," + lease1.getLeaseId() + "," + customer1.getCustomerId()
+						+ ",300.00,300.00,Lease",
+				"4," + rent3.getRentId() + "," + lease2.getLeaseId() + "," + customer2.getCustomerId()
+						+ ",249.00,250.00,Fuzzy",
+				"5," + rent4.getRentId() + "," + lease2.getLeaseId() + "," + customer2.getCustomerId()
+						+ ",275.50,275.50,Amount"),
+				matched);
+		List<String> unmatched = Files
+				.readAllLines(reconciliationService.getReport(reconciliationDTO.getReconciliationId(), false));
+		assertEquals(List.of("line,reason,statementLine",
+				"6,No match,2099-01-07,999,CUST-" + customer1.getCustomerId() + ",",
+				"7,Invalid line,not a statement line"), unmatched);
+		assertEquals(reconciliationDTO, reconciliationService.getById(reconciliationDTO.getReconciliationId()));
+	}
+
+	@Test
+	void testReconcileUsesLedgerBalances() throws Exception {
+		ledgerService.post(new LedgerEntryDTO(null, rent1.getRentId(), LedgerEntryType.Charge, null, null, null,
+				null, null));
+		ledgerService.post(new LedgerEntryDTO(null, rent1.getRentId(), LedgerEntryType.Payment, (double) 100, null,
+				null, null, null));
+		ledgerService.post(new LedgerEntryDTO(null, rent3.getRentId(), LedgerEntryType.Charge, null, null, null,
+				null, null));
+		ledgerService.post(new LedgerEntryDTO(null, rent3.getRentId(), LedgerEntryType.Payment, (double) 250, null,
+				null, null, null));
+
+		ReconciliationDTO reconciliationDTO = reconcile("2099-01-05,200,RENT-" + rent1.getRentId() + ",\n"
+				+ "2099-01-05,250,RENT-" + rent3.getRentId() + ",\n");
+
+		assertEquals(1, reconciliationDTO.getMatched());
+		assertEquals(Map.of(ReconciliationMatchType.Rent, 1), reconciliationDTO.getMatchesByType());
+	}
+
+	@Test
+	void testReconcileAmountMatchesOnlyUniqueAmounts() throws Exception {
+		ReconciliationDTO reconciliationDTO = reconcile("2099-01-05,300,,\n");
+
+		assertEquals(0, reconciliationDTO.getMatched());
+		assertEquals(1, reconciliationDTO.getUnmatched());
+	}
+
+	@Test
+	void testGetReportBadId() {
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> reconciliationService.getReport("../application.properties", true));
+
+		assertEquals("There is no reconciliation with the given id.", exception.getMessage());
+	}
+
+	private ReconciliationDTO reconcile(String statement) {
+		return reconciliationService.reconcile(new ByteArrayInputStream(statement.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static GregorianCalendar calendar(LocalDate date) {
+		return GregorianCalendar.from(date.atStartOfDay(ZoneId.systemDefault()));
+	}
+}
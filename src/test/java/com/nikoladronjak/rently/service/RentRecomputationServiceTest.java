@@ -0,0 +1,214 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.OfficeSpace;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.Rent;
+import com.nikoladronjak.rently.domain.Utility;
+import com.nikoladronjak.rently.domain.UtilityLease;
+import com.nikoladronjak.rently.dto.UtilityLeaseDTO;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.RentRepository;
+import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
+import com.nikoladronjak.rently.repository.UtilityRepository;
+
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:RentRecomputationServiceTest",
+		"rently.rents.recompute-batch-size=1" })
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RentRecomputationServiceTest {
+
+	OfficeSpace officeSpace;
+
+	Utility utility;
+
+	UtilityLease utilityLease;
+
+	Lease lease;
+
+	Rent pastRent;
+
+	Rent currentRent;
+
+	Rent futureRent;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private OfficeSpaceRepository officeSpaceRepository;
+
+	@Autowired
+	private UtilityRepository utilityRepository;
+
+	@Autowired
+	private UtilityLeaseRepository utilityLeaseRepository;
+
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	@Autowired
+	private RentRepository rentRepository;
+
+	@Autowired
+	private UtilityLeaseService utilityLeaseService;
+
+	@Autowired
+	private RentRecomputationService rentRecomputationService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		Owner owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		Customer customer = customerRepository
+				.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null));
+		officeSpace = officeSpaceRepository.save(new OfficeSpace(1, "Office Space 1", "Jove Ilica 154", "",
+				(double) 300, 150, true, 30, photos, owner, null, 100, null));
+		utility = utilityRepository.save(new Utility(1, "Microphone", "", null));
+		utilityLease = utilityLeaseRepository.save(new UtilityLease(1, (double) 40, utility, officeSpace, null));
+		lease = leaseRepository.save(new Lease(1, 200, calendar(LocalDate.now().plusDays(1)),
+				calendar(LocalDate.now().plusYears(1)), officeSpace, customer, null));
+
+		YearMonth period = YearMonth.now();
+		pastRent = rentRepository
+				.save(new Rent(0, 240, period.minusMonths(1).toString(), new ArrayList<UtilityLease>(), lease));
+		currentRent = rentRepository.save(new Rent(0, 240, period.toString(), new ArrayList<UtilityLease>(), lease));
+		futureRent = rentRepository
+				.save(new Rent(0, 240, period.plusMonths(1).toString(), new ArrayList<UtilityLease>(), lease));
+		utilityLease.setRents(new ArrayList<Rent>(List.of(pastRent, currentRent, futureRent)));
+		utilityLease = utilityLeaseRepository.save(utilityLease);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		officeSpace = null;
+		utility = null;
+		utilityLease = null;
+		lease = null;
+		pastRent = null;
+		currentRent = null;
+		futureRent = null;
+	}
+
+	@Test
+	void testChangeUtilityLeaseRate() {
+		utilityLeaseService.update(utilityLease.getUtilityLeaseId(),
+				new UtilityLeaseDTO(utility.getUtilityId(), officeSpace.getPropertyId(), (double) 55));
+
+		assertEquals(240, totalRent(pastRent));
+		assertEquals(255, totalRent(currentRent));
+		assertEquals(255, totalRent(futureRent));
+		assertEquals(1, rentRepository.findById(futureRent.getRentId()).get().getUtilityLeases().size());
+	}
+
+	@Test
+	void testChangeUtilityLeaseRateTwice() {
+		utilityLeaseService.update(utilityLease.getUtilityLeaseId(),
+				new UtilityLeaseDTO(utility.getUtilityId(), officeSpace.getPropertyId(), (double) 55));
+		utilityLeaseService.update(utilityLease.getUtilityLeaseId(),
+				new UtilityLeaseDTO(utility.getUtilityId(), officeSpace.getPropertyId(), (double) 30));
+
+		assertEquals(240, totalRent(pastRent));
+		assertEquals(230, totalRent(currentRent));
+		assertEquals(230, totalRent(futureRent));
+	}
+
+	@Test
+	void testChangeLeaseRate() {
+		rentRecomputationService.changeLeaseRate(lease.getLeaseId(), () -> {
+			lease.setRentalRate(180);
+			return leaseRepository.save(lease);
+		});
+
+		assertEquals(240, totalRent(pastRent));
+		assertEquals(220, totalRent(currentRent));
+		assertEquals(220, totalRent(futureRent));
+	}
+
+	@Test
+	void testChangeLeaseRateSameRate() {
+		rentRecomputationService.changeLeaseRate(lease.getLeaseId(), () -> leaseRepository.save(lease));
+
+		assertEquals(240, totalRent(currentRent));
+		assertEquals(240, totalRent(futureRent));
+	}
+
+	@Test
+	void testChangeLeaseRateRolledBack() {
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> rentRecomputationService.changeLeaseRate(lease.getLeaseId(), () -> {
+					lease.setRentalRate(180);
+					leaseRepository.save(lease);
+					throw new RuntimeException("Something went wrong");
+				}));
+
+		assertEquals("Something went wrong", exception.getMessage());
+		assertEquals(240, totalRent(currentRent));
+		assertEquals(240, totalRent(futureRent));
+	}
+
+	@Test
+	void testChangeLeaseAndUtilityLeaseRateConcurrently() throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			Future<?> leaseChange = executorService.submit(() -> {
+				start.await();
+				return rentRecomputationService.changeLeaseRate(lease.getLeaseId(), () -> {
+					lease.setRentalRate(180);
+					return leaseRepository.save(lease);
+				});
+			});
+			Future<?> utilityLeaseChange = executorService.submit(() -> {
+				start.await();
+				return utilityLeaseService.update(utilityLease.getUtilityLeaseId(),
+						new UtilityLeaseDTO(utility.getUtilityId(), officeSpace.getPropertyId(), (double) 55));
+			});
+			start.countDown();
+			leaseChange.get();
+			utilityLeaseChange.get();
+		} finally {
+			executorService.shutdown();
+		}
+
+		assertEquals(240, totalRent(pastRent));
+		assertEquals(235, totalRent(currentRent));
+		assertEquals(235, totalRent(futureRent));
+	}
+
+	private double totalRent(Rent rent) {
+		return rentRepository.findById(rent.getRentId()).get().getTotalRent();
+	}
+
+	private static GregorianCalendar calendar(LocalDate date) {
+		return GregorianCalendar.from(date.atStartOfDay(ZoneId.systemDefault()));
+	}
+}
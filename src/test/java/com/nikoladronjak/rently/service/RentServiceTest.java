@@ -2,6 +2,7 @@ package com.nikoladronjak.rently.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -17,17 +18,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 
 import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.HeatingType;
 import com.nikoladronjak.rently.domain.Lease;
 import com.nikoladronjak.rently.domain.OfficeSpace;
 import com.nikoladronjak.rently.domain.Owner;
 import com.nikoladronjak.rently.domain.Rent;
+import com.nikoladronjak.rently.domain.Residence;
 import com.nikoladronjak.rently.domain.Utility;
 import com.nikoladronjak.rently.domain.UtilityLease;
 import com.nikoladronjak.rently.dto.RentDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
 import com.nikoladronjak.rently.repository.LeaseRepository;
 import com.nikoladronjak.rently.repository.RentRepository;
 import com.nikoladronjak.rently.repository.ResidenceRepository;
@@ -147,10 +150,9 @@ class RentServiceTest {
 	void testGetAllError() {
 		when(rentRepository.findAll()).thenThrow(new RuntimeException("Something went wrong"));
 
-		ResponseEntity<?> response = rentService.getAll();
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> rentService.getAll());
 
-		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-		assertEquals("Something went wrong", response.getBody());
+		assertEquals("Something went wrong", exception.getMessage());
 	}
 
 	@Test
@@ -160,41 +162,37 @@ class RentServiceTest {
 		rents.add(rent2);
 		when(rentRepository.findAll()).thenReturn(rents);
 
-		ResponseEntity<?> response = rentService.getAll();
+		List<RentDTO> response = rentService.getAll();
 		List<RentDTO> rentDTOs = rents.stream().map(this::convertToDTO).collect(Collectors.toList());
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(rentDTOs, response.getBody());
+		assertEquals(rentDTOs, response);
 	}
 
 	@Test
 	void testGetByIdBadId() {
 		when(rentRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = rentService.getById(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> rentService.getById(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no rent with the given id.", response.getBody());
+		assertEquals("There is no rent with the given id.", exception.getMessage());
 	}
 
 	@Test
 	void testGetById() {
 		when(rentRepository.findById(1)).thenReturn(Optional.of(rent1));
 
-		ResponseEntity<?> response = rentService.getById(1);
+		RentDTO response = rentService.getById(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(rent1), response.getBody());
+		assertEquals(convertToDTO(rent1), response);
 	}
 
 	@Test
 	void testAddBadLeaseId() {
 		when(leaseRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = rentService.add(convertToDTO(rent1));
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> rentService.add(convertToDTO(rent1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no lease for the given leaseId.", response.getBody());
+		assertEquals("There is no lease for the given leaseId.", exception.getMessage());
 	}
 
 	@Test
@@ -207,10 +205,9 @@ class RentServiceTest {
 		rentDTO.setUtilityLeaseIds(List.of(1));
 		rentDTO.setTotalRent((double) 300);
 
-		ResponseEntity<?> response = rentService.add(rentDTO);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> rentService.add(rentDTO));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no utility lease for the utilityLeaseId: " + 1, response.getBody());
+		assertEquals("There is no utility lease for the utilityLeaseId: " + 1, exception.getMessage());
 	}
 
 	@Test
@@ -218,12 +215,29 @@ class RentServiceTest {
 		when(leaseRepository.findById(1)).thenReturn(Optional.of(lease1));
 		when(utilityLeaseRepository.findById(1)).thenReturn(Optional.of(utilityLease1));
 		when(utilityLeaseRepository.findById(2)).thenReturn(Optional.of(utilityLease2));
-		when(rentRepository.findByLease_LeaseId(1)).thenReturn(Optional.of(rent1));
+		when(rentRepository.findByLease_LeaseIdAndBillingPeriod(eq(1), any())).thenReturn(Optional.of(rent1));
 
-		ResponseEntity<?> response = rentService.add(convertToDTO(rent1));
+		ConflictException exception = assertThrows(ConflictException.class, () -> rentService.add(convertToDTO(rent1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This rent already exists.", response.getBody());
+		assertEquals("This rent already exists.", exception.getMessage());
+	}
+
+	@Test
+	void testAddResidenceDuplicate() {
+		Residence residence = new Residence(3, "Lux Apartment", "Jove Ilica 155", "", (double) 400, 70, false, 2,
+				new ArrayList<String>(), owner, null, 2, 2, HeatingType.Central, true, true);
+		Lease residenceLease = new Lease(3, 400, new GregorianCalendar(2024, 11, 12),
+				new GregorianCalendar(2025, 11, 12), residence, customer, null);
+		Rent residenceRent = new Rent(3, 400, new ArrayList<UtilityLease>(), residenceLease);
+		when(leaseRepository.findById(3)).thenReturn(Optional.of(residenceLease));
+		when(residenceRepository.findById(3)).thenReturn(Optional.of(residence));
+		when(rentRepository.findByLease_LeaseIdAndBillingPeriod(eq(3), any())).thenReturn(Optional.of(residenceRent));
+
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> rentService.add(convertToDTO(residenceRent)));
+
+		assertEquals("This rent already exists.", exception.getMessage());
+		Mockito.verify(rentRepository, Mockito.never()).save(any(Rent.class));
 	}
 
 	@Test
@@ -231,23 +245,22 @@ class RentServiceTest {
 		when(leaseRepository.findById(1)).thenReturn(Optional.of(lease1));
 		when(utilityLeaseRepository.findById(1)).thenReturn(Optional.of(utilityLease1));
 		when(utilityLeaseRepository.findById(2)).thenReturn(Optional.of(utilityLease2));
-		when(rentRepository.findByLease_LeaseId(1)).thenReturn(Optional.empty());
+		when(rentRepository.findByLease_LeaseIdAndBillingPeriod(eq(1), any())).thenReturn(Optional.empty());
 		when(rentRepository.save(any(Rent.class))).thenReturn(rent1);
 
-		ResponseEntity<?> response = rentService.add(convertToDTO(rent1));
+		RentDTO response = rentService.add(convertToDTO(rent1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(rent1), response.getBody());
+		assertEquals(convertToDTO(rent1), response);
 	}
 
 	@Test
 	void testUpdateBadId() {
 		when(rentRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = rentService.update(1, convertToDTO(rent1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> rentService.update(1, convertToDTO(rent1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no rent for the given id.", response.getBody());
+		assertEquals("There is no rent for the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -255,10 +268,10 @@ class RentServiceTest {
 		when(rentRepository.findById(1)).thenReturn(Optional.of(rent1));
 		when(leaseRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = rentService.update(1, convertToDTO(rent1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> rentService.update(1, convertToDTO(rent1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no lease for the given leaseId.", response.getBody());
+		assertEquals("There is no lease for the given leaseId.", exception.getMessage());
 	}
 
 	@Test
@@ -272,10 +285,9 @@ class RentServiceTest {
 		rentDTO.setUtilityLeaseIds(List.of(1));
 		rentDTO.setTotalRent((double) 300);
 
-		ResponseEntity<?> response = rentService.update(1, rentDTO);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> rentService.update(1, rentDTO));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no utility lease for the utilityLeaseId: " + 1, response.getBody());
+		assertEquals("There is no utility lease for the utilityLeaseId: " + 1, exception.getMessage());
 	}
 
 	@Test
@@ -284,13 +296,13 @@ class RentServiceTest {
 		when(leaseRepository.findById(1)).thenReturn(Optional.of(lease1));
 		when(utilityLeaseRepository.findById(1)).thenReturn(Optional.of(utilityLease1));
 		when(utilityLeaseRepository.findById(2)).thenReturn(Optional.of(utilityLease2));
-		when(rentRepository.findByLease_LeaseId(1)).thenReturn(Optional.of(rent1));
+		when(rentRepository.findByLease_LeaseIdAndBillingPeriod(eq(1), any())).thenReturn(Optional.of(rent1));
 		when(rentRepository.save(any(Rent.class))).thenThrow(new RuntimeException("This rent already exists."));
 
-		ResponseEntity<?> response = rentService.update(1, convertToDTO(rent1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> rentService.update(1, convertToDTO(rent1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This rent already exists.", response.getBody());
+		assertEquals("This rent already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -299,23 +311,21 @@ class RentServiceTest {
 		when(leaseRepository.findById(1)).thenReturn(Optional.of(lease1));
 		when(utilityLeaseRepository.findById(1)).thenReturn(Optional.of(utilityLease1));
 		when(utilityLeaseRepository.findById(2)).thenReturn(Optional.of(utilityLease2));
-		when(rentRepository.findByLease_LeaseId(1)).thenReturn(Optional.empty());
+		when(rentRepository.findByLease_LeaseIdAndBillingPeriod(eq(1), any())).thenReturn(Optional.empty());
 		when(rentRepository.save(any(Rent.class))).thenReturn(rent1);
 
-		ResponseEntity<?> response = rentService.update(1, convertToDTO(rent1));
+		RentDTO response = rentService.update(1, convertToDTO(rent1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(rent1), response.getBody());
+		assertEquals(convertToDTO(rent1), response);
 	}
 
 	@Test
 	void testDeleteBadId() {
 		when(rentRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = rentService.delete(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> rentService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no rent with the given id.", response.getBody());
+		assertEquals("There is no rent with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -324,10 +334,9 @@ class RentServiceTest {
 		Rent rentMock = Mockito.mock(Rent.class);
 		when(rentMock.getUtilityLeases()).thenReturn(utilityLeases);
 
-		ResponseEntity<?> response = rentService.delete(1);
+		RentDTO response = rentService.delete(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(rent1), response.getBody());
+		assertEquals(convertToDTO(rent1), response);
 	}
 
 	private RentDTO convertToDTO(Rent rent) {
@@ -335,6 +344,7 @@ class RentServiceTest {
 				.map(utilityLease -> utilityLease.getUtilityLeaseId()).collect(Collectors.toList());
 
 		RentDTO rentDTO = new RentDTO();
+		rentDTO.setRentId(rent.getRentId());
 		rentDTO.setLeaseId(rent.getLease().getLeaseId());
 		rentDTO.setUtilityLeaseIds(utilityLeaseIds);
 		rentDTO.setTotalRent(rent.getTotalRent());
@@ -0,0 +1,239 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.EventSpace;
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.domain.Rent;
+import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.domain.UtilityLease;
+import com.nikoladronjak.rently.dto.RepricedLeaseDTO;
+import com.nikoladronjak.rently.dto.RepricedPropertyDTO;
+import com.nikoladronjak.rently.dto.RepricingDTO;
+import com.nikoladronjak.rently.dto.RepricingPreviewDTO;
+import com.nikoladronjak.rently.dto.SavedSearchDTO;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.EventSpaceRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.PropertyRepository;
+import com.nikoladronjak.rently.repository.RentRepository;
+import com.nikoladronjak.rently.repository.ResidenceRepository;
+import com.nikoladronjak.rently.repository.SearchNotificationRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RepricingServiceTest {
+
+	Owner owner;
+
+	Customer customer;
+
+	Residence residence1;
+
+	Residence residence2;
+
+	Residence residence3;
+
+	EventSpace eventSpace;
+
+	Lease lease;
+
+	Rent pastRent;
+
+	Rent currentRent;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private ResidenceRepository residenceRepository;
+
+	@Autowired
+	private EventSpaceRepository eventSpaceRepository;
+
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	@Autowired
+	private RentRepository rentRepository;
+
+	@Autowired
+	private SearchNotificationRepository searchNotificationRepository;
+
+	@Autowired
+	private RepricingService repricingService;
+
+	@Autowired
+	private SavedSearchService savedSearchService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		Owner otherOwner = ownerRepository
+				.save(new Owner(2, "Zika", "Zikic", "zika@gmail.com", "zika123", "0987654321"));
+		customer = customerRepository
+				.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null));
+		residence1 = residenceRepository.save(new Residence(1, "Apartement 1", "Jove Ilica 154", "", (double) 300, 30,
+				true, 0, photos, owner, null, 1, 1, HeatingType.Central, true, true));
+		residence2 = residenceRepository.save(new Residence(2, "Apartement 2", "Studentski trg 1", "", (double) 500,
+				60, true, 2, photos, owner, null, 3, 1, HeatingType.Central, true, true));
+		residence3 = residenceRepository.save(new Residence(3, "Apartement 3", "Knez Mihailova 10", "", (double) 400,
+				50, true, 1, photos, otherOwner, null, 3, 2, HeatingType.Central, true, true));
+		eventSpace = eventSpaceRepository.save(new EventSpace(4, "Event Space 1", "Bulevar Oslobodjenja 13", "",
+				(double) 250, 100, true, 50, photos, owner, null, 200, true, true, null));
+
+		lease = leaseRepository.save(new Lease(1, 500, calendar(LocalDate.now().plusDays(1)),
+				calendar(LocalDate.now().plusYears(1)), residence2, customer, null));
+
+		YearMonth period = YearMonth.now();
+		pastRent = rentRepository
+				.save(new Rent(0, 500, period.minusMonths(1).toString(), new ArrayList<UtilityLease>(), lease));
+		currentRent = rentRepository.save(new Rent(0, 500, period.toString(), new ArrayList<UtilityLease>(), lease));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		owner = null;
+		customer = null;
+		residence1 = null;
+		residence2 = null;
+		residence3 = null;
+		eventSpace = null;
+		lease = null;
+		pastRent = null;
+		currentRent = null;
+	}
+
+	@Test
+	void testPreview() {
+		RepricingDTO repricingDTO = new RepricingDTO(owner.getOwnerId(), PropertyType.Residence, null, null, null, 2,
+				null, (double) 3, null, true);
+
+		RepricingPreviewDTO repricingPreviewDTO = repricingService.preview(repricingDTO);
+
+		assertFalse(repricingPreviewDTO.isApplied());
+		assertEquals(List.of(new RepricedPropertyDTO(residence2.getPropertyId(), "Apartement 2", 500, 515)),
+				repricingPreviewDTO.getProperties());
+		assertEquals(List.of(new RepricedLeaseDTO(lease.getLeaseId(), residence2.getPropertyId(), 500, 515,
+				List.of(currentRent.getRentId()))), repricingPreviewDTO.getLeases());
+		assertEquals(1, repricingPreviewDTO.getNumberOfRents());
+		assertEquals(500, propertyRepository.findById(residence2.getPropertyId()).get().getRentalRate());
+		assertEquals(500, leaseRepository.findById(lease.getLeaseId()).get().getRentalRate());
+	}
+
+	@Test
+	void testReprice() {
+		RepricingDTO repricingDTO = new RepricingDTO(owner.getOwnerId(), PropertyType.Residence, null, null, null, 2,
+				null, (double) 3, (double) 5, true);
+
+		RepricingPreviewDTO repricingPreviewDTO = repricingService.reprice(repricingDTO);
+
+		assertTrue(repricingPreviewDTO.isApplied());
+		assertEquals(520, propertyRepository.findById(residence2.getPropertyId()).get().getRentalRate());
+		assertEquals(300, propertyRepository.findById(residence1.getPropertyId()).get().getRentalRate());
+		assertEquals(400, propertyRepository.findById(residence3.getPropertyId()).get().getRentalRate());
+		assertEquals(250, propertyRepository.findById(eventSpace.getPropertyId()).get().getRentalRate());
+		assertEquals(520, leaseRepository.findById(lease.getLeaseId()).get().getRentalRate());
+		assertEquals(520, rentRepository.findById(currentRent.getRentId()).get().getTotalRent());
+		assertEquals(500, rentRepository.findById(pastRent.getRentId()).get().getTotalRent());
+		assertEquals(1, propertyRepository.findById(residence2.getPropertyId()).get().getPhotos().size());
+	}
+
+	@Test
+	void testRepriceWithoutLeases() {
+		RepricingDTO repricingDTO = new RepricingDTO(owner.getOwnerId(), null, null, null, null, null, null,
+				(double) -10, null, null);
+
+		RepricingPreviewDTO repricingPreviewDTO = repricingService.reprice(repricingDTO);
+
+		assertEquals(3, repricingPreviewDTO.getProperties().size());
+		assertTrue(repricingPreviewDTO.getLeases().isEmpty());
+		assertEquals(270, propertyRepository.findById(residence1.getPropertyId()).get().getRentalRate());
+		assertEquals(450, propertyRepository.findById(residence2.getPropertyId()).get().getRentalRate());
+		assertEquals(225, propertyRepository.findById(eventSpace.getPropertyId()).get().getRentalRate());
+		assertEquals(500, leaseRepository.findById(lease.getLeaseId()).get().getRentalRate());
+		assertEquals(500, rentRepository.findById(currentRent.getRentId()).get().getTotalRent());
+	}
+
+	@Test
+	void testRepriceNotifiesOnlyNewMatches() {
+		savedSearchService.add(new SavedSearchDTO(customer.getCustomerId(), PropertyType.Residence, null,
+				(double) 300, null, null, null, null, null, null, null, null));
+		RepricingDTO repricingDTO = new RepricingDTO(owner.getOwnerId(), PropertyType.Residence, null, null, null,
+				null, null, (double) -40, null, false);
+
+		repricingService.reprice(repricingDTO);
+
+		assertEquals(1, searchNotificationRepository.count());
+		assertEquals(residence2.getPropertyId(), searchNotificationRepository.findAll().get(0).getPropertyId());
+	}
+
+	@Test
+	void testRepriceByCapacity() {
+		RepricingDTO repricingDTO = new RepricingDTO(null, null, null, null, null, null, 150, null, (double) 50,
+				false);
+
+		RepricingPreviewDTO repricingPreviewDTO = repricingService.reprice(repricingDTO);
+
+		assertEquals(List.of(new RepricedPropertyDTO(eventSpace.getPropertyId(), "Event Space 1", 250, 300)),
+				repricingPreviewDTO.getProperties());
+		assertEquals(300, propertyRepository.findById(eventSpace.getPropertyId()).get().getRentalRate());
+	}
+
+	@Test
+	void testRepriceMissingPricingExpression() {
+		RepricingDTO repricingDTO = new RepricingDTO(owner.getOwnerId(), null, null, null, null, null, null, null,
+				null, true);
+
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> repricingService.reprice(repricingDTO));
+
+		assertEquals("Either the percentage or the amount is required.", exception.getMessage());
+	}
+
+	@Test
+	void testRepriceNonPositiveRentalRate() {
+		RepricingDTO repricingDTO = new RepricingDTO(owner.getOwnerId(), null, null, null, null, null, null, null,
+				(double) -300, true);
+
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> repricingService.reprice(repricingDTO));
+
+		assertEquals("The new rental rate of the property with the id " + residence1.getPropertyId()
+				+ " has to be a positive value.", exception.getMessage());
+		assertEquals(500, propertyRepository.findById(residence2.getPropertyId()).get().getRentalRate());
+	}
+
+	private static GregorianCalendar calendar(LocalDate date) {
+		return GregorianCalendar.from(date.atStartOfDay(ZoneId.systemDefault()));
+	}
+}
@@ -2,12 +2,15 @@ package com.nikoladronjak.rently.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
@@ -16,8 +19,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 
 import com.nikoladronjak.rently.domain.EventSpace;
 import com.nikoladronjak.rently.domain.HeatingType;
@@ -26,6 +27,8 @@ import com.nikoladronjak.rently.domain.OfficeSpace;
 import com.nikoladronjak.rently.domain.Owner;
 import com.nikoladronjak.rently.domain.Residence;
 import com.nikoladronjak.rently.dto.ResidenceDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
 import com.nikoladronjak.rently.repository.EventSpaceRepository;
 import com.nikoladronjak.rently.repository.LeaseRepository;
 import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
@@ -66,11 +69,41 @@ class ResidenceServiceTest {
 	@Mock
 	private ResidenceRepository residenceRepository;
 
+	@Mock
+	private PropertyBookingService propertyBookingService;
+
+	@Mock
+	private QuoteService quoteService;
+
+	@Mock
+	private RateRuleService rateRuleService;
+
+	@Mock
+	private HistoryService historyService;
+
+	@Mock
+	private SavedSearchService savedSearchService;
+
+	@Mock
+	private PropertySearchService propertySearchService;
+
+	@Mock
+	private AutocompleteService autocompleteService;
+
+	@Mock
+	private DuplicateAddressService duplicateAddressService;
+
+	@Mock
+	private GeoSearchService geoSearchService;
+
 	@InjectMocks
 	private ResidenceService residenceService;
 
 	@BeforeEach
 	void setUp() throws Exception {
+		when(historyService.changeProperty(any()))
+				.thenAnswer(invocation -> invocation.<Supplier<Residence>>getArgument(0).get());
+
 		owner = new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890");
 
 		photos = new ArrayList<String>();
@@ -119,10 +152,9 @@ class ResidenceServiceTest {
 	void testGetAllError() {
 		when(residenceRepository.findAll()).thenThrow(new RuntimeException("Something went wrong"));
 
-		ResponseEntity<?> response = residenceService.getAll();
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> residenceService.getAll());
 
-		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-		assertEquals("Something went wrong", response.getBody());
+		assertEquals("Something went wrong", exception.getMessage());
 	}
 
 	@Test
@@ -132,41 +164,48 @@ class ResidenceServiceTest {
 		residences.add(residence2);
 		when(residenceRepository.findAll()).thenReturn(residences);
 
-		ResponseEntity<?> response = residenceService.getAll();
+		List<ResidenceDTO> response = residenceService.getAll();
 		List<ResidenceDTO> residenceDTOs = residences.stream().map(this::convertToDTO).collect(Collectors.toList());
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(residenceDTOs, response.getBody());
+		assertEquals(residenceDTOs, response);
 	}
 
 	@Test
 	void testGetByIdBadId() {
 		when(residenceRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = residenceService.getById(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> residenceService.getById(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no residence with the given id.", response.getBody());
+		assertEquals("There is no residence with the given id.", exception.getMessage());
 	}
 
 	@Test
 	void testGetById() {
 		when(residenceRepository.findById(1)).thenReturn(Optional.of(residence1));
 
-		ResponseEntity<?> response = residenceService.getById(1);
+		ResidenceDTO response = residenceService.getById(1);
+
+		assertEquals(convertToDTO(residence1), response);
+	}
+
+	@Test
+	void testGetByIdLeased() {
+		when(residenceRepository.findById(1)).thenReturn(Optional.of(residence1));
+		when(propertyBookingService.isLeased(eq(1), any(LocalDate.class))).thenReturn(true);
+
+		ResidenceDTO response = residenceService.getById(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(residence1), response.getBody());
+		assertFalse(response.getIsAvailable());
 	}
 
 	@Test
 	void testAddMissingOwner() {
 		when(ownerRepository.findById(residence1.getOwner().getOwnerId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = residenceService.add(convertToDTO(residence1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> residenceService.add(convertToDTO(residence1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no owner with the given id.", response.getBody());
+		assertEquals("There is no owner with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -174,10 +213,10 @@ class ResidenceServiceTest {
 		when(ownerRepository.findById(residence1.getOwner().getOwnerId())).thenReturn(Optional.of(owner));
 		when(residenceRepository.findByAddress(residence1.getAddress())).thenReturn(Optional.of(residence1));
 
-		ResponseEntity<?> response = residenceService.add(convertToDTO(residence1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> residenceService.add(convertToDTO(residence1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -185,10 +224,10 @@ class ResidenceServiceTest {
 		when(ownerRepository.findById(residence1.getOwner().getOwnerId())).thenReturn(Optional.of(owner));
 		when(eventSpaceRepository.findByAddress(residence1.getAddress())).thenReturn(Optional.of(eventSpace1));
 
-		ResponseEntity<?> response = residenceService.add(convertToDTO(residence1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> residenceService.add(convertToDTO(residence1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -196,10 +235,10 @@ class ResidenceServiceTest {
 		when(ownerRepository.findById(residence1.getOwner().getOwnerId())).thenReturn(Optional.of(owner));
 		when(officeSpaceRepository.findByAddress(residence1.getAddress())).thenReturn(Optional.of(officeSpace1));
 
-		ResponseEntity<?> response = residenceService.add(convertToDTO(residence1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> residenceService.add(convertToDTO(residence1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -210,20 +249,19 @@ class ResidenceServiceTest {
 		when(officeSpaceRepository.findByAddress(residence1.getAddress())).thenReturn(Optional.empty());
 		when(residenceRepository.save(any(Residence.class))).thenReturn(residence1);
 
-		ResponseEntity<?> response = residenceService.add(convertToDTO(residence1));
+		ResidenceDTO response = residenceService.add(convertToDTO(residence1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(residence1), response.getBody());
+		assertEquals(convertToDTO(residence1), response);
 	}
 
 	@Test
 	void testUpdateBadId() {
 		when(residenceRepository.findById(residence1.getPropertyId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = residenceService.update(1, convertToDTO(residence1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> residenceService.update(1, convertToDTO(residence1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no residence with the given id.", response.getBody());
+		assertEquals("There is no residence with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -231,10 +269,10 @@ class ResidenceServiceTest {
 		when(residenceRepository.findById(residence1.getPropertyId())).thenReturn(Optional.of(residence1));
 		when(ownerRepository.findById(residence1.getOwner().getOwnerId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = residenceService.update(1, convertToDTO(residence1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> residenceService.update(1, convertToDTO(residence1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no owner with the given id.", response.getBody());
+		assertEquals("There is no owner with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -245,10 +283,10 @@ class ResidenceServiceTest {
 		when(residenceRepository.save(any(Residence.class)))
 				.thenThrow(new RuntimeException("This property already exists."));
 
-		ResponseEntity<?> response = residenceService.update(residence1.getPropertyId(), convertToDTO(residence1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> residenceService.update(residence1.getPropertyId(), convertToDTO(residence1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -259,10 +297,10 @@ class ResidenceServiceTest {
 		when(residenceRepository.save(any(Residence.class)))
 				.thenThrow(new RuntimeException("This property already exists."));
 
-		ResponseEntity<?> response = residenceService.update(residence1.getPropertyId(), convertToDTO(residence1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> residenceService.update(residence1.getPropertyId(), convertToDTO(residence1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -273,10 +311,10 @@ class ResidenceServiceTest {
 		when(residenceRepository.save(any(Residence.class)))
 				.thenThrow(new RuntimeException("This property already exists."));
 
-		ResponseEntity<?> response = residenceService.update(residence1.getPropertyId(), convertToDTO(residence1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> residenceService.update(residence1.getPropertyId(), convertToDTO(residence1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This property already exists.", response.getBody());
+		assertEquals("This property already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -286,20 +324,18 @@ class ResidenceServiceTest {
 		when(residenceRepository.findByAddress(residence1.getAddress())).thenReturn(Optional.empty());
 		when(residenceRepository.save(any(Residence.class))).thenReturn(residence1);
 
-		ResponseEntity<?> response = residenceService.update(1, convertToDTO(residence1));
+		ResidenceDTO response = residenceService.update(1, convertToDTO(residence1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(residence1), response.getBody());
+		assertEquals(convertToDTO(residence1), response);
 	}
 
 	@Test
 	void testDeleteBadId() {
 		when(residenceRepository.findById(residence1.getPropertyId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = residenceService.delete(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> residenceService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no residence with the given id.", response.getBody());
+		assertEquals("There is no residence with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -307,10 +343,10 @@ class ResidenceServiceTest {
 		when(residenceRepository.findById(residence1.getPropertyId())).thenReturn(Optional.of(residence1));
 		when(leaseRepository.findAllByProperty_PropertyId(residence1.getPropertyId())).thenReturn(leases);
 
-		ResponseEntity<?> response = residenceService.delete(1);
+		ConflictException exception = assertThrows(ConflictException.class, () -> residenceService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("You cannot delete this residence since there are leases associated with it.", response.getBody());
+		assertEquals("You cannot delete this residence since there are leases associated with it.",
+				exception.getMessage());
 	}
 
 	@Test
@@ -319,10 +355,9 @@ class ResidenceServiceTest {
 		when(leaseRepository.findAllByProperty_PropertyId(residence1.getPropertyId()))
 				.thenReturn(new ArrayList<Lease>());
 
-		ResponseEntity<?> response = residenceService.delete(1);
+		ResidenceDTO response = residenceService.delete(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(residence1), response.getBody());
+		assertEquals(convertToDTO(residence1), response);
 	}
 
 	private ResidenceDTO convertToDTO(Residence residence) {
@@ -0,0 +1,195 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.domain.SavedSearch;
+import com.nikoladronjak.rently.dto.OfficeSpaceDTO;
+import com.nikoladronjak.rently.dto.ResidenceDTO;
+import com.nikoladronjak.rently.dto.SavedSearchDTO;
+import com.nikoladronjak.rently.dto.SearchNotificationDTO;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.SavedSearchRepository;
+import com.nikoladronjak.rently.repository.SearchNotificationRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SavedSearchServiceTest {
+
+	Owner owner;
+
+	Customer customer;
+
+	ResidenceDTO residenceDTO;
+
+	SavedSearchDTO savedSearchDTO;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private SavedSearchRepository savedSearchRepository;
+
+	@Autowired
+	private SearchNotificationRepository searchNotificationRepository;
+
+	@Autowired
+	private ResidenceService residenceService;
+
+	@Autowired
+	private OfficeSpaceService officeSpaceService;
+
+	@Autowired
+	private CustomerService customerService;
+
+	@Autowired
+	private SavedSearchService savedSearchService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		customer = customerRepository.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null));
+		residenceDTO = new ResidenceDTO(null, "Apartement 1", "Jove Ilica 154", "", (double) 300, 30, true, 0,
+				photos, 2, 1, HeatingType.Central, true, true, owner.getOwnerId());
+		savedSearchDTO = new SavedSearchDTO(customer.getCustomerId(), PropertyType.Residence, null, (double) 400,
+				null, null, 2, null, true, null, null, null);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		owner = null;
+		customer = null;
+		residenceDTO = null;
+		savedSearchDTO = null;
+	}
+
+	@Test
+	void testAddUnknownCustomer() {
+		savedSearchDTO.setCustomerId(customer.getCustomerId() + 1);
+
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> savedSearchService.add(savedSearchDTO));
+
+		assertEquals("There is no customer with the given id.", exception.getMessage());
+	}
+
+	@Test
+	void testAddReversedRange() {
+		savedSearchDTO.setMinRentalRate((double) 500);
+
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> savedSearchService.add(savedSearchDTO));
+
+		assertEquals("The minimum rental rate of the search cannot be greater than its maximum.",
+				exception.getMessage());
+		assertEquals(0, savedSearchRepository.count());
+	}
+
+	@Test
+	void testAddMatchingResidence() {
+		SavedSearchDTO addedSavedSearchDTO = savedSearchService.add(savedSearchDTO);
+
+		ResidenceDTO addedResidenceDTO = residenceService.add(residenceDTO);
+
+		List<SearchNotificationDTO> searchNotificationDTOs = savedSearchService
+				.getNotifications(addedSavedSearchDTO.getSavedSearchId());
+		assertEquals(1, searchNotificationDTOs.size());
+		assertEquals(addedResidenceDTO.getPropertyId(), searchNotificationDTOs.get(0).getPropertyId());
+		assertEquals(customer.getCustomerId(), searchNotificationRepository.findAll().get(0).getCustomerId());
+	}
+
+	@Test
+	void testAddNonMatchingProperties() {
+		savedSearchService.add(savedSearchDTO);
+
+		residenceDTO.setIsPetFriendly(false);
+		residenceService.add(residenceDTO);
+		officeSpaceService.add(new OfficeSpaceDTO(null, "Office Space 1", "Studentski trg 1", "", (double) 300, 150,
+				true, 30, residenceDTO.getPhotos(), 100, owner.getOwnerId()));
+
+		assertEquals(0, searchNotificationRepository.count());
+	}
+
+	@Test
+	void testUpdateNotifiesOnlyNewMatches() {
+		SavedSearchDTO addedSavedSearchDTO = savedSearchService.add(savedSearchDTO);
+		residenceDTO.setIsAvailable(false);
+		ResidenceDTO addedResidenceDTO = residenceService.add(residenceDTO);
+		assertEquals(0, searchNotificationRepository.count());
+
+		residenceDTO.setIsAvailable(true);
+		residenceService.update(addedResidenceDTO.getPropertyId(), residenceDTO);
+		residenceDTO.setRentalRate((double) 350);
+		residenceService.update(addedResidenceDTO.getPropertyId(), residenceDTO);
+
+		assertEquals(1, savedSearchService.getNotifications(addedSavedSearchDTO.getSavedSearchId()).size());
+	}
+
+	@Test
+	void testDelete() {
+		SavedSearchDTO addedSavedSearchDTO = savedSearchService.add(savedSearchDTO);
+
+		savedSearchService.delete(addedSavedSearchDTO.getSavedSearchId());
+		residenceService.add(residenceDTO);
+
+		assertEquals(0, searchNotificationRepository.count());
+		assertThrows(NotFoundException.class,
+				() -> savedSearchService.getById(addedSavedSearchDTO.getSavedSearchId()));
+	}
+
+	@Test
+	void testDeleteCustomer() {
+		savedSearchService.add(savedSearchDTO);
+
+		customerService.delete(customer.getCustomerId());
+		residenceService.add(residenceDTO);
+
+		assertEquals(0, savedSearchRepository.count());
+		assertEquals(0, searchNotificationRepository.count());
+	}
+
+	@Test
+	void testRebuild() {
+		savedSearchRepository.save(new SavedSearch(0, customer, PropertyType.Residence, null, null, null, null, null,
+				null, null, null, null, null));
+
+		savedSearchService.rebuild();
+		residenceService.add(residenceDTO);
+
+		assertEquals(1, searchNotificationRepository.count());
+	}
+
+	@Test
+	void testRelease() {
+		ResidenceDTO addedResidenceDTO = residenceService.add(residenceDTO);
+		SavedSearchDTO addedSavedSearchDTO = savedSearchService.add(savedSearchDTO);
+
+		savedSearchService
+				.release(new LeaseEndedEvent(1, addedResidenceDTO.getPropertyId(), LocalDate.now().minusDays(1)));
+
+		assertEquals(1, savedSearchService.getNotifications(addedSavedSearchDTO.getSavedSearchId()).size());
+	}
+}
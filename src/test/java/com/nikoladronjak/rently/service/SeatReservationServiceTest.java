@@ -0,0 +1,251 @@
+package com.nikoladronjak.rently.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.OfficeSpace;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.dto.LeaseDTO;
+import com.nikoladronjak.rently.dto.SeatAvailabilityDTO;
+import com.nikoladronjak.rently.dto.SeatReservationDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
+import com.nikoladronjak.rently.repository.CustomerRepository;
+import com.nikoladronjak.rently.repository.LeaseRepository;
+import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
+import com.nikoladronjak.rently.repository.OwnerRepository;
+import com.nikoladronjak.rently.repository.SeatReservationRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SeatReservationServiceTest {
+
+	Owner owner;
+
+	OfficeSpace officeSpace;
+
+	Customer customer;
+
+	LocalDate date;
+
+	@Autowired
+	private OwnerRepository ownerRepository;
+
+	@Autowired
+	private OfficeSpaceRepository officeSpaceRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private SeatReservationRepository seatReservationRepository;
+
+	@Autowired
+	private LeaseRepository leaseRepository;
+
+	@Autowired
+	private SeatReservationService seatReservationService;
+
+	@Autowired
+	private LeaseService leaseService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		owner = ownerRepository.save(new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890"));
+		officeSpace = officeSpaceRepository.save(new OfficeSpace(1, "Office 1", "Bulevar Kralja Aleksandra 1", "",
+				(double) 400, 100, true, 30, photos, owner, null, 10, null));
+		customer = customerRepository.save(new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null));
+		date = LocalDate.now().plusDays(10);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		owner = null;
+		officeSpace = null;
+		customer = null;
+		date = null;
+	}
+
+	@Test
+	void testAdd() {
+		seatReservationService.add(reservation(date, date.plusDays(4), 4));
+		seatReservationService.add(reservation(date.plusDays(2), date.plusDays(6), 6));
+
+		assertEquals(2, seatReservationRepository.count());
+		List<SeatAvailabilityDTO> seats = seatReservationService.getSeats(officeSpace.getPropertyId(), date,
+				date.plusDays(2));
+		assertEquals(new SeatAvailabilityDTO(date, 10, 4, 6), seats.get(0));
+		assertEquals(new SeatAvailabilityDTO(date.plusDays(2), 10, 10, 0), seats.get(2));
+	}
+
+	@Test
+	void testAddOverCapacity() {
+		seatReservationService.add(reservation(date.plusDays(3), date.plusDays(3), 8));
+
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> seatReservationService.add(reservation(date, date.plusDays(5), 3)));
+
+		assertEquals("There are not enough free seats in the office space for the given dates.",
+				exception.getMessage());
+		assertEquals(1, seatReservationRepository.count());
+		assertEquals(0, seatReservationService.getSeats(officeSpace.getPropertyId(), date, date).get(0)
+				.getReserved());
+	}
+
+	@Test
+	void testAddBadDates() {
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> seatReservationService.add(reservation(date.plusDays(1), date, 1)));
+
+		assertEquals("The start date of the reservation has to be before the end date of the reservation.",
+				exception.getMessage());
+	}
+
+	@Test
+	void testAddLeased() {
+		leaseService.add(lease(date.plusDays(2), date.plusDays(30)));
+
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> seatReservationService.add(reservation(date, date.plusDays(2), 1)));
+
+		assertEquals("The office space is leased for the given dates.", exception.getMessage());
+		assertEquals(0, seatReservationService.getSeats(officeSpace.getPropertyId(), date.plusDays(2),
+				date.plusDays(2)).get(0).getRemaining());
+	}
+
+	@Test
+	void testLeaseOverReservations() {
+		seatReservationService.add(reservation(date, date.plusDays(2), 1));
+
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> leaseService.add(lease(date.plusDays(2), date.plusDays(30))));
+
+		assertEquals("The office space has seat reservations for the given dates.", exception.getMessage());
+		leaseService.add(lease(date.plusDays(3), date.plusDays(30)));
+	}
+
+	@Test
+	void testDelete() {
+		SeatReservationDTO seatReservationDTO = seatReservationService.add(reservation(date, date.plusDays(4), 10));
+
+		seatReservationService.delete(seatReservationDTO.getSeatReservationId());
+
+		assertEquals(0, seatReservationRepository.count());
+		assertFalse(seatReservationService.hasReservations(officeSpace.getPropertyId(), date, date.plusDays(4)));
+		seatReservationService.add(reservation(date, date.plusDays(4), 10));
+	}
+
+	@Test
+	void testRebuild() {
+		seatReservationService.add(reservation(date, date.plusDays(4), 4));
+
+		seatReservationService.rebuild();
+
+		assertEquals(4, seatReservationService.getSeats(officeSpace.getPropertyId(), date, date).get(0)
+				.getReserved());
+	}
+
+	@Test
+	void testAddConcurrently() throws Exception {
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			Callable<Integer> reservations = () -> {
+				start.await();
+				int reserved = 0;
+				for (int j = 0; j < 5; j++) {
+					try {
+						seatReservationService.add(reservation(date, date.plusDays(2), 1));
+						reserved++;
+					} catch (ConflictException e) {
+					}
+				}
+				return reserved;
+			};
+			results.add(executor.submit(reservations));
+		}
+		start.countDown();
+
+		int reserved = 0;
+		for (Future<Integer> result : results) {
+			reserved += result.get();
+		}
+		executor.shutdown();
+
+		assertEquals(10, reserved);
+		assertEquals(10, seatReservationRepository.count());
+	}
+
+	@Test
+	void testLeaseAndReserveConcurrently() throws Exception {
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			boolean isLease = i % 2 == 0;
+			Callable<Boolean> write = () -> {
+				start.await();
+				try {
+					if (isLease) {
+						leaseService.add(lease(date, date.plusDays(2)));
+					} else {
+						seatReservationService.add(reservation(date, date.plusDays(2), 1));
+					}
+					return true;
+				} catch (RuntimeException e) {
+					return false;
+				}
+			};
+			results.add(executor.submit(write));
+		}
+		start.countDown();
+
+		for (Future<Boolean> result : results) {
+			result.get();
+		}
+		executor.shutdown();
+
+		assertTrue(leaseRepository.count() == 0 || seatReservationRepository.count() == 0);
+	}
+
+	private SeatReservationDTO reservation(LocalDate startDate, LocalDate endDate, int seats) {
+		return new SeatReservationDTO(officeSpace.getPropertyId(), customer.getCustomerId(), toCalendar(startDate),
+				toCalendar(endDate), seats);
+	}
+
+	private LeaseDTO lease(LocalDate startDate, LocalDate endDate) {
+		LeaseDTO leaseDTO = new LeaseDTO();
+		leaseDTO.setPropertyId(officeSpace.getPropertyId());
+		leaseDTO.setCustomerId(customer.getCustomerId());
+		leaseDTO.setStartDate(toCalendar(startDate));
+		leaseDTO.setEndDate(toCalendar(endDate));
+		return leaseDTO;
+	}
+
+	private static GregorianCalendar toCalendar(LocalDate day) {
+		return new GregorianCalendar(day.getYear(), day.getMonthValue() - 1, day.getDayOfMonth());
+	}
+}
@@ -2,11 +2,13 @@ package com.nikoladronjak.rently.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
@@ -15,8 +17,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 
 import com.nikoladronjak.rently.domain.OfficeSpace;
 import com.nikoladronjak.rently.domain.Owner;
@@ -24,6 +24,9 @@ import com.nikoladronjak.rently.domain.Rent;
 import com.nikoladronjak.rently.domain.Utility;
 import com.nikoladronjak.rently.domain.UtilityLease;
 import com.nikoladronjak.rently.dto.UtilityLeaseDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
+import com.nikoladronjak.rently.exception.UnprocessableEntityException;
 import com.nikoladronjak.rently.repository.EventSpaceRepository;
 import com.nikoladronjak.rently.repository.OfficeSpaceRepository;
 import com.nikoladronjak.rently.repository.RentRepository;
@@ -72,6 +75,15 @@ class UtilityLeaseServiceTest {
 	@Mock
 	private UtilityLeaseRepository utilityLeaseRepository;
 
+	@Mock
+	private RentRecomputationService rentRecomputationService;
+
+	@Mock
+	private QuoteService quoteService;
+
+	@Mock
+	private AutocompleteService autocompleteService;
+
 	@InjectMocks
 	private UtilityLeaseService utilityLeaseService;
 
@@ -134,10 +146,9 @@ class UtilityLeaseServiceTest {
 	void testGetAllError() {
 		when(utilityLeaseRepository.findAll()).thenThrow(new RuntimeException("Something went wrong"));
 
-		ResponseEntity<?> response = utilityLeaseService.getAll();
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> utilityLeaseService.getAll());
 
-		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-		assertEquals("Something went wrong", response.getBody());
+		assertEquals("Something went wrong", exception.getMessage());
 	}
 
 	@Test
@@ -149,12 +160,11 @@ class UtilityLeaseServiceTest {
 		utilityLeases.add(utilityLease4);
 		when(utilityLeaseRepository.findAll()).thenReturn(utilityLeases);
 
-		ResponseEntity<?> response = utilityLeaseService.getAll();
+		List<UtilityLeaseDTO> response = utilityLeaseService.getAll();
 		List<UtilityLeaseDTO> utilityLeaseDTOs = utilityLeases.stream().map(this::convertToDTO)
 				.collect(Collectors.toList());
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(utilityLeaseDTOs, response.getBody());
+		assertEquals(utilityLeaseDTOs, response);
 	}
 
 	@Test
@@ -162,10 +172,10 @@ class UtilityLeaseServiceTest {
 		when(utilityLeaseRepository.findAllByUtility_UtilityId(1))
 				.thenThrow(new RuntimeException("Something went wrong"));
 
-		ResponseEntity<?> response = utilityLeaseService.getAllByUtilityId(1);
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> utilityLeaseService.getAllByUtilityId(1));
 
-		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-		assertEquals("Something went wrong", response.getBody());
+		assertEquals("Something went wrong", exception.getMessage());
 	}
 
 	@Test
@@ -175,12 +185,11 @@ class UtilityLeaseServiceTest {
 		utilityLeases.add(utilityLease3);
 		when(utilityLeaseRepository.findAllByUtility_UtilityId(1)).thenReturn(utilityLeases);
 
-		ResponseEntity<?> response = utilityLeaseService.getAllByUtilityId(1);
+		List<UtilityLeaseDTO> response = utilityLeaseService.getAllByUtilityId(1);
 		List<UtilityLeaseDTO> utilityLeaseDTOs = utilityLeases.stream().map(this::convertToDTO)
 				.collect(Collectors.toList());
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(utilityLeaseDTOs, response.getBody());
+		assertEquals(utilityLeaseDTOs, response);
 	}
 
 	@Test
@@ -188,10 +197,10 @@ class UtilityLeaseServiceTest {
 		when(utilityLeaseRepository.findAllByProperty_PropertyId(1))
 				.thenThrow(new RuntimeException("Something went wrong"));
 
-		ResponseEntity<?> response = utilityLeaseService.getAllByPropertyId(1);
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> utilityLeaseService.getAllByPropertyId(1));
 
-		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-		assertEquals("Something went wrong", response.getBody());
+		assertEquals("Something went wrong", exception.getMessage());
 	}
 
 	@Test
@@ -201,42 +210,39 @@ class UtilityLeaseServiceTest {
 		utilityLeases.add(utilityLease2);
 		when(utilityLeaseRepository.findAllByProperty_PropertyId(1)).thenReturn(utilityLeases);
 
-		ResponseEntity<?> response = utilityLeaseService.getAllByPropertyId(1);
+		List<UtilityLeaseDTO> response = utilityLeaseService.getAllByPropertyId(1);
 		List<UtilityLeaseDTO> utilityLeaseDTOs = utilityLeases.stream().map(this::convertToDTO)
 				.collect(Collectors.toList());
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(utilityLeaseDTOs, response.getBody());
+		assertEquals(utilityLeaseDTOs, response);
 	}
 
 	@Test
 	void testGetByIdBadId() {
 		when(utilityLeaseRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = utilityLeaseService.getById(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> utilityLeaseService.getById(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no utility lease with the given id.", response.getBody());
+		assertEquals("There is no utility lease with the given id.", exception.getMessage());
 	}
 
 	@Test
 	void testGetById() {
 		when(utilityLeaseRepository.findById(1)).thenReturn(Optional.of(utilityLease1));
 
-		ResponseEntity<?> response = utilityLeaseService.getById(1);
+		UtilityLeaseDTO response = utilityLeaseService.getById(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(utilityLease1), response.getBody());
+		assertEquals(convertToDTO(utilityLease1), response);
 	}
 
 	@Test
 	void testAddBadUtilityId() {
 		when(utilityRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = utilityLeaseService.add(convertToDTO(utilityLease1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> utilityLeaseService.add(convertToDTO(utilityLease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no utility for the given utilityId.", response.getBody());
+		assertEquals("There is no utility for the given utilityId.", exception.getMessage());
 	}
 
 	@Test
@@ -245,10 +251,10 @@ class UtilityLeaseServiceTest {
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = utilityLeaseService.add(convertToDTO(utilityLease1));
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> utilityLeaseService.add(convertToDTO(utilityLease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("The property has to be either an event space or an office space.", response.getBody());
+		assertEquals("The property has to be either an event space or an office space.", exception.getMessage());
 	}
 
 	@Test
@@ -259,10 +265,10 @@ class UtilityLeaseServiceTest {
 		when(utilityLeaseRepository.findByUtility_UtilityIdAndProperty_PropertyId(1, 1))
 				.thenReturn(Optional.of(utilityLease1));
 
-		ResponseEntity<?> response = utilityLeaseService.add(convertToDTO(utilityLease1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> utilityLeaseService.add(convertToDTO(utilityLease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This utility lease already exists.", response.getBody());
+		assertEquals("This utility lease already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -273,20 +279,19 @@ class UtilityLeaseServiceTest {
 		when(utilityLeaseRepository.findByUtility_UtilityIdAndProperty_PropertyId(1, 1)).thenReturn(Optional.empty());
 		when(utilityLeaseRepository.save(any(UtilityLease.class))).thenReturn(utilityLease1);
 
-		ResponseEntity<?> response = utilityLeaseService.add(convertToDTO(utilityLease1));
+		UtilityLeaseDTO response = utilityLeaseService.add(convertToDTO(utilityLease1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(utilityLease1), response.getBody());
+		assertEquals(convertToDTO(utilityLease1), response);
 	}
 
 	@Test
 	void testUpdateBadId() {
 		when(utilityLeaseRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = utilityLeaseService.update(1, convertToDTO(utilityLease1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> utilityLeaseService.update(1, convertToDTO(utilityLease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no utility lease with the given id.", response.getBody());
+		assertEquals("There is no utility lease with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -294,10 +299,10 @@ class UtilityLeaseServiceTest {
 		when(utilityLeaseRepository.findById(1)).thenReturn(Optional.of(utilityLease1));
 		when(utilityRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = utilityLeaseService.update(1, convertToDTO(utilityLease1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> utilityLeaseService.update(1, convertToDTO(utilityLease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no utility for the given utilityId.", response.getBody());
+		assertEquals("There is no utility for the given utilityId.", exception.getMessage());
 	}
 
 	@Test
@@ -307,10 +312,10 @@ class UtilityLeaseServiceTest {
 		when(eventSpaceRepository.findById(1)).thenReturn(Optional.empty());
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = utilityLeaseService.update(1, convertToDTO(utilityLease1));
+		UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+				() -> utilityLeaseService.update(1, convertToDTO(utilityLease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("The property has to be either an event space or an office space.", response.getBody());
+		assertEquals("The property has to be either an event space or an office space.", exception.getMessage());
 	}
 
 	@Test
@@ -323,11 +328,13 @@ class UtilityLeaseServiceTest {
 				.thenReturn(Optional.of(utilityLease1));
 		when(utilityLeaseRepository.save(any(UtilityLease.class)))
 				.thenThrow(new RuntimeException("This utility lease already exists."));
+		when(rentRecomputationService.changeUtilityLeaseRate(anyInt(), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<UtilityLease>>getArgument(1).get());
 
-		ResponseEntity<?> response = utilityLeaseService.update(1, convertToDTO(utilityLease1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> utilityLeaseService.update(1, convertToDTO(utilityLease1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This utility lease already exists.", response.getBody());
+		assertEquals("This utility lease already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -338,21 +345,21 @@ class UtilityLeaseServiceTest {
 		when(officeSpaceRepository.findById(1)).thenReturn(Optional.of(officeSpace1));
 		when(utilityLeaseRepository.findByUtility_UtilityIdAndProperty_PropertyId(1, 1)).thenReturn(Optional.empty());
 		when(utilityLeaseRepository.save(any(UtilityLease.class))).thenReturn(utilityLease1);
+		when(rentRecomputationService.changeUtilityLeaseRate(anyInt(), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<UtilityLease>>getArgument(1).get());
 
-		ResponseEntity<?> response = utilityLeaseService.update(1, convertToDTO(utilityLease1));
+		UtilityLeaseDTO response = utilityLeaseService.update(1, convertToDTO(utilityLease1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(utilityLease1), response.getBody());
+		assertEquals(convertToDTO(utilityLease1), response);
 	}
 
 	@Test
 	void testDeleteBadId() {
 		when(utilityLeaseRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = utilityLeaseService.delete(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> utilityLeaseService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no utility lease with the given id.", response.getBody());
+		assertEquals("There is no utility lease with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -360,11 +367,10 @@ class UtilityLeaseServiceTest {
 		when(utilityLeaseRepository.findById(1)).thenReturn(Optional.of(utilityLease1));
 		when(rentRepository.findAllByUtilityLeases_UtilityLeaseId(1)).thenReturn(rents);
 
-		ResponseEntity<?> response = utilityLeaseService.delete(1);
+		ConflictException exception = assertThrows(ConflictException.class, () -> utilityLeaseService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 		assertEquals("You cannot delete this utility lease since there are rents associated with it.",
-				response.getBody());
+				exception.getMessage());
 	}
 
 	@Test
@@ -372,14 +378,14 @@ class UtilityLeaseServiceTest {
 		when(utilityLeaseRepository.findById(1)).thenReturn(Optional.of(utilityLease1));
 		when(rentRepository.findAllByUtilityLeases_UtilityLeaseId(1)).thenReturn(new ArrayList<Rent>());
 
-		ResponseEntity<?> response = utilityLeaseService.delete(1);
+		UtilityLeaseDTO response = utilityLeaseService.delete(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(utilityLease1), response.getBody());
+		assertEquals(convertToDTO(utilityLease1), response);
 	}
 
 	private UtilityLeaseDTO convertToDTO(UtilityLease utilityLease) {
 		UtilityLeaseDTO utilityLeaseDTO = new UtilityLeaseDTO();
+		utilityLeaseDTO.setUtilityLeaseId(utilityLease.getUtilityLeaseId());
 		utilityLeaseDTO.setUtilityId(utilityLease.getUtility().getUtilityId());
 		utilityLeaseDTO.setPropertyId(utilityLease.getProperty().getPropertyId());
 		utilityLeaseDTO.setRentalRate(utilityLease.getRentalRate());
@@ -15,12 +15,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 
 import com.nikoladronjak.rently.domain.Utility;
 import com.nikoladronjak.rently.domain.UtilityLease;
 import com.nikoladronjak.rently.dto.UtilityDTO;
+import com.nikoladronjak.rently.exception.ConflictException;
+import com.nikoladronjak.rently.exception.NotFoundException;
 import com.nikoladronjak.rently.repository.UtilityLeaseRepository;
 import com.nikoladronjak.rently.repository.UtilityRepository;
 
@@ -41,6 +41,9 @@ class UtilityServiceTest {
 	@Mock
 	private UtilityRepository utilityRepository;
 
+	@Mock
+	private AutocompleteService autocompleteService;
+
 	@InjectMocks
 	private UtilityService utilityService;
 
@@ -69,10 +72,9 @@ class UtilityServiceTest {
 	void testGetAllError() {
 		when(utilityRepository.findAll()).thenThrow(new RuntimeException("Something went wrong"));
 
-		ResponseEntity<?> response = utilityService.getAll();
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> utilityService.getAll());
 
-		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-		assertEquals("Something went wrong", response.getBody());
+		assertEquals("Something went wrong", exception.getMessage());
 	}
 
 	@Test
@@ -82,41 +84,38 @@ class UtilityServiceTest {
 		utilities.add(utility2);
 		when(utilityRepository.findAll()).thenReturn(utilities);
 
-		ResponseEntity<?> response = utilityService.getAll();
+		List<UtilityDTO> response = utilityService.getAll();
 		List<UtilityDTO> utilityDTOs = utilities.stream().map(this::convertToDTO).collect(Collectors.toList());
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(utilityDTOs, response.getBody());
+		assertEquals(utilityDTOs, response);
 	}
 
 	@Test
 	void testGetByIdBadId() {
 		when(utilityRepository.findById(1)).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = utilityService.getById(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> utilityService.getById(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no utility with the given id.", response.getBody());
+		assertEquals("There is no utility with the given id.", exception.getMessage());
 	}
 
 	@Test
 	void testGetById() {
 		when(utilityRepository.findById(1)).thenReturn(Optional.of(utility1));
 
-		ResponseEntity<?> response = utilityService.getById(1);
+		UtilityDTO response = utilityService.getById(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(utility1), response.getBody());
+		assertEquals(convertToDTO(utility1), response);
 	}
 
 	@Test
 	void testAddDuplicate() {
 		when(utilityRepository.findByName(utility1.getName())).thenReturn(Optional.of(utility1));
 
-		ResponseEntity<?> response = utilityService.add(convertToDTO(utility1));
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> utilityService.add(convertToDTO(utility1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This utility already exists.", response.getBody());
+		assertEquals("This utility already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -124,20 +123,19 @@ class UtilityServiceTest {
 		when(utilityRepository.findByName(utility1.getName())).thenReturn(Optional.empty());
 		when(utilityRepository.save(any(Utility.class))).thenReturn(utility1);
 
-		ResponseEntity<?> response = utilityService.add(convertToDTO(utility1));
+		UtilityDTO response = utilityService.add(convertToDTO(utility1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(utility1), response.getBody());
+		assertEquals(convertToDTO(utility1), response);
 	}
 
 	@Test
 	void testUpdateBadId() {
 		when(utilityRepository.findById(utility1.getUtilityId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = utilityService.update(1, convertToDTO(utility1));
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> utilityService.update(1, convertToDTO(utility1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no utility with the given id.", response.getBody());
+		assertEquals("There is no utility with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -147,10 +145,10 @@ class UtilityServiceTest {
 		when(utilityRepository.save(any(Utility.class)))
 				.thenThrow(new RuntimeException("This utility already exists."));
 
-		ResponseEntity<?> response = utilityService.update(utility1.getUtilityId(), convertToDTO(utility1));
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> utilityService.update(utility1.getUtilityId(), convertToDTO(utility1)));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("This utility already exists.", response.getBody());
+		assertEquals("This utility already exists.", exception.getMessage());
 	}
 
 	@Test
@@ -159,20 +157,18 @@ class UtilityServiceTest {
 		when(utilityRepository.findByName(utility1.getName())).thenReturn(Optional.empty());
 		when(utilityRepository.save(any(Utility.class))).thenReturn(utility1);
 
-		ResponseEntity<?> response = utilityService.update(1, convertToDTO(utility1));
+		UtilityDTO response = utilityService.update(1, convertToDTO(utility1));
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(utility1), response.getBody());
+		assertEquals(convertToDTO(utility1), response);
 	}
 
 	@Test
 	void testDeleteBadId() {
 		when(utilityRepository.findById(utility1.getUtilityId())).thenReturn(Optional.empty());
 
-		ResponseEntity<?> response = utilityService.delete(1);
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> utilityService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-		assertEquals("There is no utility with the given id.", response.getBody());
+		assertEquals("There is no utility with the given id.", exception.getMessage());
 	}
 
 	@Test
@@ -180,11 +176,10 @@ class UtilityServiceTest {
 		when(utilityRepository.findById(utility1.getUtilityId())).thenReturn(Optional.of(utility1));
 		when(utilityLeaseRepository.findAllByUtility_UtilityId(utility1.getUtilityId())).thenReturn(utilityLeases);
 
-		ResponseEntity<?> response = utilityService.delete(1);
+		ConflictException exception = assertThrows(ConflictException.class, () -> utilityService.delete(1));
 
-		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 		assertEquals("You cannot delete this utility since there are utility leases associated with it.",
-				response.getBody());
+				exception.getMessage());
 	}
 
 	@Test
@@ -193,14 +188,14 @@ class UtilityServiceTest {
 		when(utilityLeaseRepository.findAllByUtility_UtilityId(utility1.getUtilityId()))
 				.thenReturn(new ArrayList<UtilityLease>());
 
-		ResponseEntity<?> response = utilityService.delete(1);
+		UtilityDTO response = utilityService.delete(1);
 
-		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(convertToDTO(utility1), response.getBody());
+		assertEquals(convertToDTO(utility1), response);
 	}
 
 	private UtilityDTO convertToDTO(Utility utility) {
 		UtilityDTO utilityDTO = new UtilityDTO();
+		utilityDTO.setUtilityId(utility.getUtilityId());
 		utilityDTO.setName(utility.getName());
 		utilityDTO.setDescription(utility.getDescription());
 
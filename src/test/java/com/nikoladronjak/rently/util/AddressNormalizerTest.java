@@ -0,0 +1,23 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class AddressNormalizerTest {
+
+	@Test
+	void testNormalize() {
+		assertEquals("12 main street", AddressNormalizer.normalize("12 Main St."));
+		assertEquals("bulevar kralja aleksandra 73", AddressNormalizer.normalize("Bul. Kralja Aleksandra  73"));
+		assertEquals("jove ilica 154", AddressNormalizer.normalize("Jove Ilića, 154"));
+	}
+
+	@Test
+	void testNumbers() {
+		assertEquals(List.of("12a", "3"), AddressNormalizer.numbers("main street 12a 3"));
+		assertEquals(List.of(), AddressNormalizer.numbers("main street"));
+	}
+}
@@ -0,0 +1,93 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nikoladronjak.rently.util.GeoGrid.Hit;
+import com.nikoladronjak.rently.util.GeoGrid.Location;
+
+class GeoGridTest {
+
+	GeoGrid grid;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		grid = new GeoGrid(0.05);
+		grid.put(1, 44.8160, 20.4602);
+		grid.put(2, 44.8233, 20.4505);
+		grid.put(3, 44.8025, 20.4664);
+		grid.put(4, 45.2671, 19.8335);
+	}
+
+	@Test
+	void testInvalidCellSize() {
+		assertThrows(IllegalArgumentException.class, () -> new GeoGrid(0));
+		assertThrows(IllegalArgumentException.class, () -> new GeoGrid(91));
+	}
+
+	@Test
+	void testDistance() {
+		assertEquals(111.195, GeoGrid.distance(0, 0, 1, 0), 0.001);
+		assertEquals(0, GeoGrid.distance(44.8160, 20.4602, 44.8160, 20.4602));
+		assertEquals(GeoGrid.distance(44.8160, 20.4602, 45.2671, 19.8335),
+				GeoGrid.distance(45.2671, 19.8335, 44.8160, 20.4602), 1e-9);
+	}
+
+	@Test
+	void testNearby() {
+		List<Hit> hits = grid.nearby(44.8160, 20.4602, 2);
+
+		assertEquals(List.of(1, 2, 3), hits.stream().map(Hit::id).toList());
+		assertEquals(0, hits.get(0).distance());
+		assertTrue(hits.stream().allMatch(hit -> hit.distance() <= 2));
+		assertEquals(List.of(1, 2), grid.nearby(44.8160, 20.4602, 1.2).stream().map(Hit::id).toList());
+	}
+
+	@Test
+	void testNearbyAcrossTheAntimeridian() {
+		grid.put(5, -17.0, 179.99);
+		grid.put(6, -17.0, -179.99);
+
+		assertEquals(List.of(5, 6), grid.nearby(-17.0, 179.99, 5).stream().map(Hit::id).toList());
+		assertEquals(List.of(6, 5), grid.nearby(-17.0, -179.995, 5).stream().map(Hit::id).toList());
+	}
+
+	@Test
+	void testNearbyAroundThePole() {
+		grid.put(7, 89.99, 0);
+
+		assertEquals(List.of(7), grid.nearby(89.99, 180, 5).stream().map(Hit::id).toList());
+	}
+
+	@Test
+	void testWithin() {
+		List<Hit> hits = grid.within(44.80, 20.44, 44.82, 20.47, 44.81, 20.455);
+
+		assertEquals(List.of(1, 3), hits.stream().map(Hit::id).toList());
+		assertEquals(List.of(4, 2, 1, 3),
+				grid.within(-90, -180, 90, 180, 45.2671, 19.8335).stream().map(Hit::id).toList());
+	}
+
+	@Test
+	void testPutMovesAndRemove() {
+		grid.put(1, 45.2671, 19.8335);
+
+		assertEquals(List.of(2, 3), grid.nearby(44.8160, 20.4602, 2).stream().map(Hit::id).toList());
+		assertEquals(new Location(45.2671, 19.8335), grid.remove(1));
+		assertNull(grid.remove(1));
+		assertNull(grid.get(1));
+		assertEquals(3, grid.size());
+	}
+
+	@Test
+	void testClear() {
+		grid.clear();
+
+		assertEquals(List.of(), grid.nearby(44.8160, 20.4602, 100));
+		assertEquals(0, grid.size());
+	}
+}
@@ -0,0 +1,145 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IntervalTreeTest {
+
+	IntervalTree intervalTree;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		intervalTree = new IntervalTree();
+		intervalTree.add(1, 10, 20);
+		intervalTree.add(2, 30, 40);
+		intervalTree.add(3, 50, 50);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		intervalTree = null;
+	}
+
+	@Test
+	void testFindOverlap() {
+		assertEquals(1, intervalTree.findOverlap(5, 10, IntervalTree.NONE));
+		assertEquals(2, intervalTree.findOverlap(40, 45, IntervalTree.NONE));
+		assertEquals(3, intervalTree.findOverlap(45, 55, IntervalTree.NONE));
+	}
+
+	@Test
+	void testFindOverlapNone() {
+		assertEquals(IntervalTree.NONE, intervalTree.findOverlap(0, 9, IntervalTree.NONE));
+		assertEquals(IntervalTree.NONE, intervalTree.findOverlap(21, 29, IntervalTree.NONE));
+		assertEquals(IntervalTree.NONE, intervalTree.findOverlap(51, 100, IntervalTree.NONE));
+	}
+
+	@Test
+	void testFindOverlapSkip() {
+		assertEquals(IntervalTree.NONE, intervalTree.findOverlap(15, 25, 1));
+		assertEquals(2, intervalTree.findOverlap(15, 35, 1));
+	}
+
+	@Test
+	void testCovers() {
+		assertTrue(intervalTree.covers(10));
+		assertTrue(intervalTree.covers(50));
+		assertFalse(intervalTree.covers(25));
+	}
+
+	@Test
+	void testForEachCovering() {
+		intervalTree.add(4, 15, 35);
+		List<Integer> ids = new ArrayList<>();
+
+		intervalTree.forEachCovering(18, ids::add);
+
+		ids.sort(null);
+		assertEquals(List.of(1, 4), ids);
+	}
+
+	@Test
+	void testRemove() {
+		assertTrue(intervalTree.remove(2, 30));
+		assertFalse(intervalTree.remove(2, 30));
+
+		assertEquals(2, intervalTree.size());
+		assertEquals(IntervalTree.NONE, intervalTree.findOverlap(30, 40, IntervalTree.NONE));
+	}
+
+	@Test
+	void testAddInvalidInterval() {
+		assertThrows(IllegalArgumentException.class, () -> intervalTree.add(4, 20, 10));
+		assertThrows(IllegalArgumentException.class, () -> intervalTree.add(-1, 10, 20));
+	}
+
+	@Test
+	void testFindOverlapMatchesLinearScan() {
+		Random random = new Random(42);
+		IntervalTree tree = new IntervalTree();
+		List<long[]> intervals = new ArrayList<>();
+		for (int id = 0; id < 2000; id++) {
+			long start = random.nextInt(100000);
+			long end = start + random.nextInt(50);
+			tree.add(id, start, end);
+			intervals.add(new long[] { start, end });
+		}
+		for (int id = 0; id < 2000; id += 3) {
+			assertTrue(tree.remove(id, intervals.get(id)[0]));
+			intervals.set(id, null);
+		}
+
+		for (int i = 0; i < 2000; i++) {
+			long start = random.nextInt(100000);
+			long end = start + random.nextInt(100);
+			int skip = random.nextBoolean() ? IntervalTree.NONE : random.nextInt(2000);
+			int found = tree.findOverlap(start, end, skip);
+
+			boolean expected = false;
+			for (int id = 0; id < intervals.size(); id++) {
+				long[] interval = intervals.get(id);
+				if (interval != null && id != skip && interval[0] <= end && interval[1] >= start)
+					expected = true;
+			}
+			assertEquals(expected, found != IntervalTree.NONE);
+			if (found != IntervalTree.NONE) {
+				assertNotEquals(skip, found);
+				assertTrue(intervals.get(found)[0] <= end && intervals.get(found)[1] >= start);
+			}
+		}
+	}
+
+	@Test
+	void testForEachCoveringMatchesLinearScan() {
+		Random random = new Random(7);
+		IntervalTree tree = new IntervalTree();
+		List<long[]> intervals = new ArrayList<>();
+		for (int id = 0; id < 2000; id++) {
+			long start = random.nextInt(10000);
+			long end = start + random.nextInt(500);
+			tree.add(id, start, end);
+			intervals.add(new long[] { start, end });
+		}
+
+		for (int i = 0; i < 500; i++) {
+			long point = random.nextInt(11000);
+			List<Integer> found = new ArrayList<>();
+			tree.forEachCovering(point, found::add);
+			found.sort(null);
+
+			List<Integer> expected = new ArrayList<>();
+			for (int id = 0; id < intervals.size(); id++) {
+				if (intervals.get(id)[0] <= point && intervals.get(id)[1] >= point)
+					expected.add(id);
+			}
+			assertEquals(expected, found);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nikoladronjak.rently.util.InvertedIndex.Document;
+import com.nikoladronjak.rently.util.InvertedIndex.Hit;
+
+class InvertedIndexTest {
+
+	InvertedIndex index;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		index = new InvertedIndex();
+		index.put(new Document(1, 11, 4, Map.of("sunny", 1, "apartment", 1, "balcony", 2)));
+		index.put(new Document(2, 12, 3, Map.of("apartment", 1, "garden", 1, "view", 1)));
+		index.put(new Document(3, 13, 10, Map.of("office", 4, "balcony", 1, "parking", 5)));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		index = null;
+	}
+
+	@Test
+	void testSearch() {
+		List<Hit> hits = index.search(List.of("balcony"), id -> true, 10);
+
+		assertEquals(List.of(1, 3), hits.stream().map(Hit::id).toList());
+		assertTrue(hits.get(0).score() > hits.get(1).score());
+	}
+
+	@Test
+	void testSearchRareTermsWeighMore() {
+		List<Hit> hits = index.search(List.of("apartment", "garden"), id -> true, 10);
+
+		assertEquals(List.of(2, 1), hits.stream().map(Hit::id).toList());
+	}
+
+	@Test
+	void testSearchFilterAndLimit() {
+		assertEquals(List.of(3), index.search(List.of("balcony"), id -> id != 1, 10).stream().map(Hit::id).toList());
+		assertEquals(List.of(1), index.search(List.of("balcony"), id -> true, 1).stream().map(Hit::id).toList());
+		assertEquals(List.of(), index.search(List.of("pool"), id -> true, 10));
+	}
+
+	@Test
+	void testPutReplaces() {
+		index.put(new Document(1, 21, 2, Map.of("garden", 2)));
+
+		assertEquals(3, index.size());
+		assertEquals(List.of(3), index.search(List.of("balcony"), id -> true, 10).stream().map(Hit::id).toList());
+		assertEquals(List.of(1, 2), index.search(List.of("garden"), id -> true, 10).stream().map(Hit::id).toList());
+	}
+
+	@Test
+	void testRemove() {
+		assertTrue(index.remove(1));
+		assertFalse(index.remove(1));
+
+		index.put(Document.tombstone(2));
+
+		assertEquals(1, index.size());
+		assertNull(index.get(2));
+		assertEquals(List.of(), index.search(List.of("apartment"), id -> true, 10));
+	}
+
+	@Test
+	void testReset() {
+		index.reset(List.of(new Document(4, 14, 1, Map.of("studio", 1))));
+
+		assertEquals(1, index.size());
+		assertEquals(List.of(), index.search(List.of("balcony"), id -> true, 10));
+		assertEquals(List.of(4), index.search(List.of("studio"), id -> true, 10).stream().map(Hit::id).toList());
+	}
+}
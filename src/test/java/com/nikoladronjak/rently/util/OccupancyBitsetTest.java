@@ -0,0 +1,79 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OccupancyBitsetTest {
+
+	OccupancyBitset occupancyBitset;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		occupancyBitset = new OccupancyBitset(10, 4);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		occupancyBitset = null;
+	}
+
+	@Test
+	void testWordOf() {
+		assertEquals(0, OccupancyBitset.wordOf(63));
+		assertEquals(1, OccupancyBitset.wordOf(64));
+		assertEquals(-1, OccupancyBitset.wordOf(-1));
+	}
+
+	@Test
+	void testOccupyWithinWord() {
+		occupancyBitset.occupy(650, 655);
+
+		assertFalse(occupancyBitset.isFree(655, 700));
+		assertFalse(occupancyBitset.isFree(600, 650));
+		assertTrue(occupancyBitset.isFree(656, 700));
+		assertTrue(occupancyBitset.isFree(640, 649));
+	}
+
+	@Test
+	void testOccupyAcrossWords() {
+		occupancyBitset.occupy(700, 800);
+
+		assertFalse(occupancyBitset.isFree(750, 750));
+		assertFalse(occupancyBitset.isFree(640, 700));
+		assertFalse(occupancyBitset.isFree(800, 895));
+		assertTrue(occupancyBitset.isFree(640, 699));
+		assertTrue(occupancyBitset.isFree(801, 895));
+	}
+
+	@Test
+	void testOccupyOutsideWindow() {
+		occupancyBitset.occupy(100, 639);
+		occupancyBitset.occupy(896, 1000);
+
+		assertTrue(occupancyBitset.isFree(0, 2000));
+	}
+
+	@Test
+	void testOccupyClippedToWindow() {
+		occupancyBitset.occupy(600, 640);
+		occupancyBitset.occupy(895, 1000);
+
+		assertFalse(occupancyBitset.isFree(640, 640));
+		assertFalse(occupancyBitset.isFree(895, 895));
+		assertTrue(occupancyBitset.isFree(641, 894));
+	}
+
+	@Test
+	void testCopy() {
+		OccupancyBitset copy = occupancyBitset.copy();
+		copy.occupy(700, 710);
+
+		assertTrue(occupancyBitset.isFree(700, 710));
+		assertFalse(copy.isFree(700, 710));
+		assertEquals(occupancyBitset.getFirstWord(), copy.getFirstWord());
+		assertEquals(occupancyBitset.length(), copy.length());
+	}
+}
@@ -0,0 +1,85 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.nikoladronjak.rently.util.RateCalendar.Rule;
+
+class RateCalendarTest {
+
+	static final int WEEKENDS = 0b1100000;
+
+	static final int EVERY_DAY = 0b1111111;
+
+	@Test
+	void testPriceWithoutRules() {
+		RateCalendar calendar = RateCalendar.compile(310, List.of());
+
+		assertEquals(310, calendar.price(day("2030-01-01"), day("2030-01-31")), 1e-9);
+		assertEquals(30, calendar.price(day("2030-01-10"), day("2030-01-12")), 1e-9);
+		assertEquals(310 + 310, calendar.price(day("2030-01-01"), day("2030-02-28")), 1e-9);
+	}
+
+	@Test
+	void testPriceWeekendRule() {
+		RateCalendar calendar = RateCalendar.compile(310,
+				List.of(new Rule(day("2030-01-01"), day("2030-12-31"), WEEKENDS, 50, 0)));
+
+		// 2030-01-04 is a Friday, so the stay has two weekend days.
+		assertEquals(10 + 50 + 50 + 10, calendar.price(day("2030-01-04"), day("2030-01-07")), 1e-9);
+		// January 2030 has 8 weekend days.
+		assertEquals(23 * 10 + 8 * 50, calendar.price(day("2030-01-01"), day("2030-01-31")), 1e-9);
+	}
+
+	@Test
+	void testPriceSeasonRule() {
+		RateCalendar calendar = RateCalendar.compile(310,
+				List.of(new Rule(day("2030-01-10"), day("2030-01-11"), EVERY_DAY, 100, 0)));
+
+		assertEquals(10 + 100 + 100 + 10, calendar.price(day("2030-01-09"), day("2030-01-12")), 1e-9);
+		assertEquals(20, calendar.price(day("2029-12-30"), day("2029-12-31")), 1e-9);
+		assertEquals(20, calendar.price(day("2030-01-12"), day("2030-01-13")), 1e-9);
+	}
+
+	@Test
+	void testPriceHighestPriorityWins() {
+		RateCalendar calendar = RateCalendar.compile(310,
+				List.of(new Rule(day("2030-01-01"), day("2030-01-31"), EVERY_DAY, 40, 0),
+						new Rule(day("2030-01-10"), day("2030-01-10"), EVERY_DAY, 200, 5),
+						new Rule(day("2030-01-01"), day("2030-01-31"), EVERY_DAY, 60, 0)));
+
+		assertEquals(60, calendar.price(day("2030-01-09"), day("2030-01-09")), 1e-9);
+		assertEquals(200, calendar.price(day("2030-01-10"), day("2030-01-10")), 1e-9);
+		assertEquals(30 * 60 + 200, calendar.price(day("2030-01-01"), day("2030-01-31")), 1e-9);
+	}
+
+	@Test
+	void testPriceLongStay() {
+		RateCalendar calendar = RateCalendar.compile(300,
+				List.of(new Rule(day("2030-07-01"), day("2030-08-31"), EVERY_DAY, 20, 0)));
+
+		assertEquals(10 * 300 + 62 * 20, calendar.price(day("2030-01-01"), day("2030-12-31")), 1e-6);
+	}
+
+	@Test
+	void testMonths() {
+		assertEquals(1, RateCalendar.months(day("2030-02-01"), day("2030-02-28")), 1e-9);
+		assertEquals(1.5, RateCalendar.months(day("2030-04-16"), day("2030-05-31")), 1e-9);
+		assertEquals(0, RateCalendar.months(day("2030-02-02"), day("2030-02-01")), 1e-9);
+	}
+
+	@Test
+	void testDayOfWeek() {
+		assertEquals(0, RateCalendar.dayOfWeek(day("2030-01-07")));
+		assertEquals(6, RateCalendar.dayOfWeek(day("2030-01-06")));
+		assertEquals(3, RateCalendar.dayOfWeek(0));
+	}
+
+	private static long day(String date) {
+		return LocalDate.parse(date).toEpochDay();
+	}
+}
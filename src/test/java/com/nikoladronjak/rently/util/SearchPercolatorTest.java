@@ -0,0 +1,172 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nikoladronjak.rently.domain.PropertyType;
+import com.nikoladronjak.rently.util.SearchPercolator.Attribute;
+import com.nikoladronjak.rently.util.SearchPercolator.Listing;
+import com.nikoladronjak.rently.util.SearchPercolator.Query;
+
+class SearchPercolatorTest {
+
+	SearchPercolator percolator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		percolator = new SearchPercolator();
+		percolator.add(1, new Query(null, null, null, null, null, null, null, Map.of()));
+		percolator.add(2, new Query(PropertyType.Residence, null, (double) 500, 50, null, 2, 3,
+				Map.of(Attribute.PetFriendly, true)));
+		percolator.add(3, new Query(PropertyType.EventSpace, (double) 100, (double) 300, null, null, null, null,
+				Map.of(Attribute.Bar, false)));
+		percolator.add(4, new Query(null, null, null, null, null, 1, null, Map.of()));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		percolator = null;
+	}
+
+	@Test
+	void testMatchResidence() {
+		assertArrayEquals(new int[] { 1, 2, 4 }, percolator.match(new Listing(PropertyType.Residence, 500, 80, 2,
+				Map.of(Attribute.PetFriendly, true, Attribute.Furnished, false))));
+		assertArrayEquals(new int[] { 1, 4 }, percolator.match(new Listing(PropertyType.Residence, 500.01, 80, 2,
+				Map.of(Attribute.PetFriendly, true, Attribute.Furnished, false))));
+		assertArrayEquals(new int[] { 1, 4 }, percolator.match(new Listing(PropertyType.Residence, 400, 80, 2,
+				Map.of(Attribute.PetFriendly, false, Attribute.Furnished, false))));
+	}
+
+	@Test
+	void testMatchEventSpace() {
+		assertArrayEquals(new int[] { 1, 3 }, percolator.match(new Listing(PropertyType.EventSpace, 200, 300, null,
+				Map.of(Attribute.Kitchen, true, Attribute.Bar, false))));
+		assertArrayEquals(new int[] { 1 }, percolator.match(new Listing(PropertyType.EventSpace, 200, 300, null,
+				Map.of(Attribute.Kitchen, true, Attribute.Bar, true))));
+	}
+
+	@Test
+	void testMatchMissingAttribute() {
+		assertArrayEquals(new int[] { 1 },
+				percolator.match(new Listing(PropertyType.OfficeSpace, 200, 100, null, Map.of())));
+	}
+
+	@Test
+	void testRemove() {
+		assertTrue(percolator.remove(2));
+		assertFalse(percolator.remove(2));
+
+		assertEquals(3, percolator.size());
+		assertArrayEquals(new int[] { 1, 4 }, percolator.match(new Listing(PropertyType.Residence, 500, 80, 2,
+				Map.of(Attribute.PetFriendly, true, Attribute.Furnished, false))));
+	}
+
+	@Test
+	void testAddReplaces() {
+		percolator.add(2, new Query(PropertyType.OfficeSpace, null, null, null, null, null, null, Map.of()));
+
+		assertArrayEquals(new int[] { 1, 2 },
+				percolator.match(new Listing(PropertyType.OfficeSpace, 200, 100, null, Map.of())));
+		assertArrayEquals(new int[] { 1, 4 }, percolator.match(new Listing(PropertyType.Residence, 500, 80, 2,
+				Map.of(Attribute.PetFriendly, true, Attribute.Furnished, false))));
+	}
+
+	@Test
+	void testAddInvalidQuery() {
+		assertThrows(IllegalArgumentException.class,
+				() -> percolator.add(5, new Query(null, null, null, 100, 50, null, null, Map.of())));
+		assertThrows(IllegalArgumentException.class,
+				() -> percolator.add(-1, new Query(null, null, null, null, null, null, null, Map.of())));
+	}
+
+	@Test
+	void testMatchMatchesLinearScan() {
+		Random random = new Random(42);
+		SearchPercolator percolator = new SearchPercolator();
+		List<Query> queries = new ArrayList<>();
+		for (int id = 0; id < 3000; id++) {
+			Query query = randomQuery(random);
+			percolator.add(id, query);
+			queries.add(query);
+		}
+		for (int id = 0; id < 3000; id += 4) {
+			assertTrue(percolator.remove(id));
+			queries.set(id, null);
+		}
+
+		for (int i = 0; i < 300; i++) {
+			Listing listing = randomListing(random);
+			List<Integer> expected = new ArrayList<>();
+			for (int id = 0; id < queries.size(); id++) {
+				if (queries.get(id) != null && matches(queries.get(id), listing))
+					expected.add(id);
+			}
+			assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), percolator.match(listing));
+		}
+	}
+
+	private static Query randomQuery(Random random) {
+		Map<Attribute, Boolean> attributes = new EnumMap<>(Attribute.class);
+		for (Attribute attribute : Attribute.values()) {
+			if (random.nextInt(4) == 0)
+				attributes.put(attribute, random.nextBoolean());
+		}
+		Double minRentalRate = random.nextBoolean() ? null : (double) random.nextInt(1000);
+		Integer minSize = random.nextBoolean() ? null : random.nextInt(200);
+		Integer minNumberOfBedrooms = random.nextBoolean() ? null : random.nextInt(4);
+		return new Query(random.nextBoolean() ? null : PropertyType.values()[random.nextInt(3)], minRentalRate,
+				random.nextBoolean() ? null : (minRentalRate != null ? minRentalRate : 0) + random.nextInt(1000),
+				minSize, random.nextBoolean() ? null : (minSize != null ? minSize : 0) + random.nextInt(200),
+				minNumberOfBedrooms, random.nextBoolean() ? null
+						: (minNumberOfBedrooms != null ? minNumberOfBedrooms : 0) + random.nextInt(3),
+				attributes);
+	}
+
+	private static Listing randomListing(Random random) {
+		PropertyType propertyType = PropertyType.values()[random.nextInt(3)];
+		Map<Attribute, Boolean> attributes = new EnumMap<>(Attribute.class);
+		Integer numberOfBedrooms = null;
+		if (propertyType == PropertyType.Residence) {
+			numberOfBedrooms = 1 + random.nextInt(5);
+			attributes.put(Attribute.PetFriendly, random.nextBoolean());
+			attributes.put(Attribute.Furnished, random.nextBoolean());
+		} else if (propertyType == PropertyType.EventSpace) {
+			attributes.put(Attribute.Kitchen, random.nextBoolean());
+			attributes.put(Attribute.Bar, random.nextBoolean());
+		}
+		return new Listing(propertyType, random.nextInt(2000), 1 + random.nextInt(400), numberOfBedrooms, attributes);
+	}
+
+	private static boolean matches(Query query, Listing listing) {
+		if (query.propertyType() != null && query.propertyType() != listing.propertyType())
+			return false;
+		if (query.minRentalRate() != null && listing.rentalRate() < query.minRentalRate()
+				|| query.maxRentalRate() != null && listing.rentalRate() > query.maxRentalRate())
+			return false;
+		if (query.minSize() != null && listing.size() < query.minSize()
+				|| query.maxSize() != null && listing.size() > query.maxSize())
+			return false;
+		if (query.minNumberOfBedrooms() != null || query.maxNumberOfBedrooms() != null) {
+			if (listing.numberOfBedrooms() == null)
+				return false;
+			if (query.minNumberOfBedrooms() != null && listing.numberOfBedrooms() < query.minNumberOfBedrooms()
+					|| query.maxNumberOfBedrooms() != null && listing.numberOfBedrooms() > query.maxNumberOfBedrooms())
+				return false;
+		}
+		for (Map.Entry<Attribute, Boolean> attribute : query.attributes().entrySet()) {
+			if (!attribute.getValue().equals(listing.attributes().get(attribute.getKey())))
+				return false;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,130 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SeatCounterTest {
+
+	SeatCounter seatCounter;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		seatCounter = new SeatCounter();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		seatCounter = null;
+	}
+
+	@Test
+	void testReserve() {
+		assertTrue(seatCounter.reserve(100, 104, 3, 10));
+		assertTrue(seatCounter.reserve(102, 106, 7, 10));
+
+		assertEquals(3, seatCounter.getReserved(100));
+		assertEquals(10, seatCounter.getReserved(103));
+		assertEquals(7, seatCounter.getReserved(106));
+		assertEquals(0, seatCounter.getReserved(107));
+	}
+
+	@Test
+	void testReserveOverCapacity() {
+		assertTrue(seatCounter.reserve(103, 103, 8, 10));
+
+		assertFalse(seatCounter.reserve(100, 105, 3, 10));
+
+		assertEquals(0, seatCounter.getReserved(100));
+		assertEquals(0, seatCounter.getReserved(102));
+		assertEquals(8, seatCounter.getReserved(103));
+		assertEquals(0, seatCounter.getReserved(104));
+	}
+
+	@Test
+	void testReserveInvalid() {
+		assertThrows(IllegalArgumentException.class, () -> seatCounter.reserve(100, 104, 0, 10));
+		assertThrows(IllegalArgumentException.class, () -> seatCounter.reserve(104, 100, 1, 10));
+	}
+
+	@Test
+	void testRelease() {
+		seatCounter.reserve(100, 104, 3, 10);
+
+		seatCounter.release(100, 104, 3);
+
+		assertEquals(0, seatCounter.getReserved(102));
+		assertTrue(seatCounter.reserve(100, 104, 10, 10));
+	}
+
+	@Test
+	void testHasReservations() {
+		seatCounter.reserve(100, 104, 3, 10);
+		seatCounter.reserve(200, 200, 1, 10);
+		seatCounter.release(200, 200, 1);
+
+		assertTrue(seatCounter.hasReservations(104, 110));
+		assertTrue(seatCounter.hasReservations(0, 1000));
+		assertFalse(seatCounter.hasReservations(105, 110));
+		assertFalse(seatCounter.hasReservations(150, 1000));
+	}
+
+	@Test
+	void testPrune() {
+		seatCounter.reserve(100, 104, 3, 10);
+
+		seatCounter.prune(103);
+
+		assertEquals(0, seatCounter.getReserved(102));
+		assertEquals(3, seatCounter.getReserved(103));
+		assertFalse(seatCounter.hasReservations(0, 102));
+		assertTrue(seatCounter.hasReservations(0, 103));
+
+		seatCounter.reserve(100, 100, 1, 10);
+		seatCounter.prune(102);
+
+		assertEquals(1, seatCounter.getReserved(100));
+	}
+
+	@Test
+	void testReserveConcurrently() throws Exception {
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			Callable<Integer> reservations = () -> {
+				start.await();
+				int reserved = 0;
+				for (int j = 0; j < 100; j++) {
+					if (seatCounter.reserve(100, 106, 1, 50))
+						reserved++;
+				}
+				return reserved;
+			};
+			results.add(executor.submit(reservations));
+		}
+		start.countDown();
+
+		int reserved = 0;
+		for (Future<Integer> result : results) {
+			reserved += result.get();
+		}
+		executor.shutdown();
+
+		assertEquals(50, reserved);
+		for (long day = 100; day <= 106; day++) {
+			assertEquals(50, seatCounter.getReserved(day));
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nikoladronjak.rently.util.InvertedIndex.Document;
+
+class SegmentStoreTest {
+
+	@TempDir
+	Path directory;
+
+	SegmentStore segmentStore;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		segmentStore = new SegmentStore(directory, 2);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		segmentStore.close();
+		segmentStore = null;
+	}
+
+	@Test
+	void testAppendAndLoad() {
+		segmentStore.append(new Document(1, 11, 2, Map.of("balcony", 2)));
+		segmentStore.append(new Document(2, 12, 1, Map.of("garden", 1)));
+		segmentStore.append(new Document(1, 21, 1, Map.of("view", 1)));
+		segmentStore.append(Document.tombstone(2));
+		segmentStore.append(new Document(3, 13, 1, Map.of("office", 1)));
+
+		assertEquals(3, segmentStore.getSegmentCount());
+		List<Document> documents = new SegmentStore(directory, 2).load();
+		assertEquals(List.of(new Document(1, 21, 1, Map.of("view", 1)), new Document(3, 13, 1, Map.of("office", 1))),
+				documents);
+	}
+
+	@Test
+	void testRewrite() throws IOException {
+		segmentStore.append(new Document(1, 11, 2, Map.of("balcony", 2)));
+		segmentStore.append(new Document(2, 12, 1, Map.of("garden", 1)));
+		segmentStore.append(new Document(3, 13, 1, Map.of("office", 1)));
+
+		segmentStore.rewrite(List.of(new Document(2, 12, 1, Map.of("garden", 1))));
+		segmentStore.append(new Document(4, 14, 1, Map.of("studio", 1)));
+
+		assertEquals(2, segmentStore.getSegmentCount());
+		try (Stream<Path> files = Files.list(directory)) {
+			assertEquals(2, files.count());
+		}
+		assertEquals(List.of(new Document(2, 12, 1, Map.of("garden", 1)), new Document(4, 14, 1, Map.of("studio", 1))),
+				segmentStore.load());
+	}
+
+	@Test
+	void testLoadIgnoresCutOffRecord() throws IOException {
+		segmentStore.append(new Document(1, 11, 2, Map.of("balcony", 2)));
+		segmentStore.close();
+		try (Stream<Path> files = Files.list(directory)) {
+			Files.write(files.findFirst().get(), new byte[] { 1, 0, 0 }, StandardOpenOption.APPEND);
+		}
+
+		assertEquals(List.of(new Document(1, 11, 2, Map.of("balcony", 2))), new SegmentStore(directory, 2).load());
+	}
+}
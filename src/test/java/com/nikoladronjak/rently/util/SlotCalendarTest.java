@@ -0,0 +1,100 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SlotCalendarTest {
+
+	SlotCalendar slotCalendar;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		slotCalendar = new SlotCalendar();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		slotCalendar = null;
+	}
+
+	@Test
+	void testMask() {
+		assertEquals(0b1, SlotCalendar.mask(0, 1));
+		assertEquals(0b11100, SlotCalendar.mask(2, 5));
+		assertEquals(SlotCalendar.FULL_DAY, SlotCalendar.mask(0, 24));
+		assertEquals(1 << 23, SlotCalendar.mask(23, 24));
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "5, 5", "6, 5", "-1, 5", "0, 25" })
+	void testMaskInvalid(int startHour, int endHour) {
+		assertThrows(IllegalArgumentException.class, () -> SlotCalendar.mask(startHour, endHour));
+	}
+
+	@Test
+	void testBook() {
+		slotCalendar.book(100, SlotCalendar.mask(10, 14));
+
+		assertFalse(slotCalendar.isFree(100, SlotCalendar.mask(13, 15)));
+		assertFalse(slotCalendar.isFree(100, SlotCalendar.mask(8, 11)));
+		assertTrue(slotCalendar.isFree(100, SlotCalendar.mask(14, 18)));
+		assertTrue(slotCalendar.isFree(100, SlotCalendar.mask(0, 10)));
+		assertTrue(slotCalendar.isFree(101, SlotCalendar.mask(10, 14)));
+	}
+
+	@Test
+	void testFree() {
+		slotCalendar.book(100, SlotCalendar.mask(10, 14));
+		slotCalendar.book(100, SlotCalendar.mask(16, 18));
+
+		slotCalendar.free(100, SlotCalendar.mask(10, 14));
+		assertTrue(slotCalendar.isFree(100, SlotCalendar.mask(10, 14)));
+		assertEquals(SlotCalendar.mask(16, 18), slotCalendar.getBooked(100));
+
+		slotCalendar.free(100, SlotCalendar.mask(16, 18));
+		assertFalse(slotCalendar.hasBookings(100, 100));
+	}
+
+	@Test
+	void testGetBookedRange() {
+		slotCalendar.book(100, SlotCalendar.mask(10, 14));
+		slotCalendar.book(105, SlotCalendar.mask(0, 24));
+		slotCalendar.book(110, SlotCalendar.mask(8, 9));
+
+		Map<Long, Integer> booked = slotCalendar.getBooked(100, 105);
+
+		assertEquals(2, booked.size());
+		assertEquals(SlotCalendar.FULL_DAY, booked.get(105L));
+	}
+
+	@Test
+	void testHasBookings() {
+		slotCalendar.book(100, SlotCalendar.mask(10, 14));
+
+		assertTrue(slotCalendar.hasBookings(90, 100));
+		assertTrue(slotCalendar.hasBookings(100, 110));
+		assertFalse(slotCalendar.hasBookings(90, 99));
+		assertFalse(slotCalendar.hasBookings(101, 110));
+	}
+
+	@Test
+	void testFindFreeSlot() {
+		int booked = SlotCalendar.mask(9, 12) | SlotCalendar.mask(14, 15);
+
+		assertEquals(0, SlotCalendar.findFreeSlot(booked, 0, 9));
+		assertEquals(12, SlotCalendar.findFreeSlot(booked, 8, 2));
+		assertEquals(15, SlotCalendar.findFreeSlot(booked, 8, 3));
+		assertEquals(15, SlotCalendar.findFreeSlot(booked, 1, 9));
+		assertEquals(-1, SlotCalendar.findFreeSlot(booked, 0, 10));
+		assertEquals(23, SlotCalendar.findFreeSlot(booked, 23, 1));
+		assertEquals(-1, SlotCalendar.findFreeSlot(SlotCalendar.FULL_DAY, 0, 1));
+		assertEquals(-1, SlotCalendar.findFreeSlot(0, 20, 5));
+	}
+}
@@ -0,0 +1,97 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nikoladronjak.rently.util.StatementParser.StatementLine;
+
+class StatementParserTest {
+
+	@TempDir
+	Path directory;
+
+	Path file;
+
+	List<StatementLine> lines;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		file = directory.resolve("statement.csv");
+		lines = new ArrayList<StatementLine>();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		file = null;
+		lines = null;
+	}
+
+	@Test
+	void testParse() throws Exception {
+		Files.writeString(file, "date,amount,reference,payer\n2099-01-05,300.5,RENT-1,mika@gmail.com\r\n"
+				+ "\n2099-01-06,  42 ,Rent for January, LEASE-2,\n2099-01-07,12.34,CUST-3,pera@gmail.com",
+				StandardCharsets.UTF_8);
+
+		int parsed = new StatementParser().parse(file, lines::add);
+
+		assertEquals(3, parsed);
+		assertEquals(new StatementLine(2, "2099-01-05,300.5,RENT-1,mika@gmail.com", "2099-01-05", 30050, "RENT-1",
+				"mika@gmail.com"), lines.get(0));
+		assertEquals(4, lines.get(1).lineNumber());
+		assertEquals(4200, lines.get(1).amount());
+		assertEquals("Rent for January, LEASE-2", lines.get(1).reference());
+		assertEquals("", lines.get(1).payer());
+		assertEquals(1234, lines.get(2).amount());
+		assertEquals("pera@gmail.com", lines.get(2).payer());
+	}
+
+	@Test
+	void testParseAcrossWindows() throws Exception {
+		StringBuilder statement = new StringBuilder();
+		for (int i = 1; i <= 1000; i++) {
+			statement.append("2099-01-05,").append(i).append(".01,RENT-").append(i).append(",\n");
+		}
+		Files.writeString(file, statement, StandardCharsets.UTF_8);
+
+		int parsed = new StatementParser(64).parse(file, lines::add);
+
+		assertEquals(1000, parsed);
+		for (int i = 1; i <= 1000; i++) {
+			assertEquals(i * 100L + 1, lines.get(i - 1).amount());
+			assertEquals("RENT-" + i, lines.get(i - 1).reference());
+		}
+	}
+
+	@Test
+	void testParseLineLongerThanWindow() throws Exception {
+		Files.writeString(file, "2099-01-05,300,RENT-1 with a very long description,\n2099-01-05,300,RENT-2,\n",
+				StandardCharsets.UTF_8);
+
+		assertThrows(IllegalArgumentException.class, () -> new StatementParser(16).parse(file, lines::add));
+	}
+
+	@Test
+	void testParseLineInvalid() {
+		assertEquals(StatementParser.INVALID_AMOUNT, StatementParser.parseLine(1, "2099-01-05,300").amount());
+		assertEquals(StatementParser.INVALID_AMOUNT, StatementParser.parseLine(1, "2099-01-05,3a0,RENT-1,").amount());
+		assertEquals(StatementParser.INVALID_AMOUNT, StatementParser.parseLine(1, "2099-01-05,3.001,RENT-1,").amount());
+		assertEquals(-1550, StatementParser.parseLine(1, "2099-01-05,-15.5,RENT-1,").amount());
+	}
+
+	@Test
+	void testParseEmptyFile() throws Exception {
+		Files.writeString(file, "", StandardCharsets.UTF_8);
+
+		assertEquals(0, new StatementParser().parse(file, lines::add));
+	}
+}
@@ -0,0 +1,43 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class StripedLockTest {
+
+	@ParameterizedTest
+	@CsvSource({ "1, 1", "2, 2", "3, 4", "16, 16", "1000, 1024" })
+	void testSize(int stripes, int expectedSize) {
+		assertEquals(expectedSize, new StripedLock(stripes).size());
+	}
+
+	@Test
+	void testInvalidSize() {
+		assertThrows(IllegalArgumentException.class, () -> new StripedLock(0));
+	}
+
+	@Test
+	void testSameKeySameLock() {
+		StripedLock stripedLock = new StripedLock(64);
+
+		assertSame(stripedLock.get(42), stripedLock.get(42));
+	}
+
+	@Test
+	void testConsecutiveKeysAreSpread() {
+		StripedLock stripedLock = new StripedLock(64);
+
+		Set<Object> locks = new HashSet<>();
+		for (int key = 0; key < 64; key++) {
+			locks.add(stripedLock.get(key));
+		}
+
+		assertTrue(locks.size() > 32);
+	}
+}
@@ -0,0 +1,72 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class StripedReadWriteLockTest {
+
+	@ParameterizedTest
+	@CsvSource({ "1, 1", "2, 2", "3, 4", "16, 16", "1000, 1024" })
+	void testSize(int stripes, int expectedSize) {
+		assertEquals(expectedSize, new StripedReadWriteLock(stripes).size());
+	}
+
+	@Test
+	void testInvalidSize() {
+		assertThrows(IllegalArgumentException.class, () -> new StripedReadWriteLock(0));
+	}
+
+	@Test
+	void testSameKeySameLock() {
+		StripedReadWriteLock stripedReadWriteLock = new StripedReadWriteLock(64);
+
+		assertSame(stripedReadWriteLock.get(42), stripedReadWriteLock.get(42));
+	}
+
+	@Test
+	void testConsecutiveKeysAreSpread() {
+		StripedReadWriteLock stripedReadWriteLock = new StripedReadWriteLock(64);
+
+		Set<Object> locks = new HashSet<>();
+		for (int key = 0; key < 64; key++) {
+			locks.add(stripedReadWriteLock.get(key));
+		}
+
+		assertTrue(locks.size() > 32);
+	}
+
+	@Test
+	void testReadersShareTheLock() throws Exception {
+		StripedReadWriteLock stripedReadWriteLock = new StripedReadWriteLock(64);
+		stripedReadWriteLock.get(42).readLock().lock();
+		try {
+			ExecutorService executorService = Executors.newSingleThreadExecutor();
+			try {
+				Future<Boolean> reader = executorService.submit(() -> {
+					boolean locked = stripedReadWriteLock.get(42).readLock().tryLock();
+					if (locked)
+						stripedReadWriteLock.get(42).readLock().unlock();
+					return locked;
+				});
+				Future<Boolean> writer = executorService
+						.submit(() -> stripedReadWriteLock.get(42).writeLock().tryLock());
+
+				assertTrue(reader.get());
+				assertFalse(writer.get());
+			} finally {
+				executorService.shutdown();
+			}
+		} finally {
+			stripedReadWriteLock.get(42).readLock().unlock();
+		}
+	}
+}
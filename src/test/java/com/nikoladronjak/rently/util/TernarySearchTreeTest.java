@@ -0,0 +1,84 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TernarySearchTreeTest {
+
+	TernarySearchTree<String> tree;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		tree = new TernarySearchTree<>();
+		tree.put("main street", "Main Street", 5);
+		tree.put("main square", "Main Square", 9);
+		tree.put("mall road", "Mall Road", 5);
+		tree.put("market", "Market", 1);
+		tree.put("ma", "Ma", 2);
+	}
+
+	@Test
+	void testComplete() {
+		assertEquals(List.of("Main Square", "Main Street", "Mall Road", "Ma", "Market"), tree.complete("ma", 10));
+		assertEquals(List.of("Main Square", "Main Street"), tree.complete("main", 10));
+		assertEquals(List.of("Main Street"), tree.complete("main street", 10));
+		assertEquals(List.of(), tree.complete("mains", 10));
+		assertEquals(List.of(), tree.complete("x", 10));
+	}
+
+	@Test
+	void testCompleteLimit() {
+		assertEquals(List.of("Main Square", "Main Street"), tree.complete("m", 2));
+	}
+
+	@Test
+	void testCompleteEmptyPrefix() {
+		assertEquals(5, tree.complete("", 10).size());
+	}
+
+	@Test
+	void testCompleteReturnsEqualValuesOnce() {
+		tree.put("square", "Main Square", 9);
+
+		assertEquals(List.of("Main Square", "Main Street"), tree.complete("", 2));
+	}
+
+	@Test
+	void testPutReplaces() {
+		tree.put("market", "Market", 10);
+
+		assertEquals(List.of("Market", "Main Square"), tree.complete("ma", 2));
+		assertEquals(5, tree.size());
+	}
+
+	@Test
+	void testRemove() {
+		assertTrue(tree.remove("main square"));
+		assertFalse(tree.remove("main square"));
+		assertFalse(tree.remove("mai"));
+		assertTrue(tree.remove("ma"));
+
+		assertNull(tree.get("main square"));
+		assertEquals("Main Street", tree.get("main street"));
+		assertEquals(List.of("Main Street", "Mall Road", "Market"), tree.complete("ma", 10));
+		assertEquals(3, tree.size());
+	}
+
+	@Test
+	void testClear() {
+		tree.clear();
+
+		assertEquals(List.of(), tree.complete("", 10));
+		assertEquals(0, tree.size());
+	}
+
+	@Test
+	void testPutInvalid() {
+		assertThrows(IllegalArgumentException.class, () -> tree.put("", "Empty", 1));
+		assertThrows(IllegalArgumentException.class, () -> tree.put("key", null, 1));
+	}
+}
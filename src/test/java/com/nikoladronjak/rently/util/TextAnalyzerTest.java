@@ -0,0 +1,43 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TextAnalyzerTest {
+
+	@Test
+	void testAnalyze() {
+		assertEquals(List.of("sunny", "apartment", "with", "2", "balcony"),
+				TextAnalyzer.analyze("Sunny apartment, with 2 BALCONIES!"));
+	}
+
+	@Test
+	void testAnalyzeFoldsDiacritics() {
+		assertEquals(List.of("cacak", "zivot"), TextAnalyzer.analyze("Čačak  Život"));
+	}
+
+	@Test
+	void testAnalyzeEmpty() {
+		assertEquals(List.of(), TextAnalyzer.analyze(null));
+		assertEquals(List.of(), TextAnalyzer.analyze(" ,.- "));
+	}
+
+	@Test
+	void testFold() {
+		assertEquals("kneza milosa 10", TextAnalyzer.fold("Kneza MILOŠA 10"));
+		assertEquals("djerdapska", TextAnalyzer.fold("Đerdapska"));
+	}
+
+	@Test
+	void testStem() {
+		assertEquals("facility", TextAnalyzer.stem("facilities"));
+		assertEquals("house", TextAnalyzer.stem("houses"));
+		assertEquals("apartment", TextAnalyzer.stem("apartments"));
+		assertEquals("glass", TextAnalyzer.stem("glass"));
+		assertEquals("campus", TextAnalyzer.stem("campus"));
+		assertEquals("bus", TextAnalyzer.stem("bus"));
+	}
+}
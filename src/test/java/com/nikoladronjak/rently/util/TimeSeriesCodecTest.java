@@ -0,0 +1,74 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.nikoladronjak.rently.util.TimeSeriesCodec.Series;
+
+class TimeSeriesCodecTest {
+
+	@Test
+	void testRoundTripRegularInterval() {
+		long[] timestamps = new long[1440];
+		double[] values = new double[1440];
+		for (int i = 0; i < timestamps.length; i++) {
+			timestamps[i] = 1700000000L + i * 60L;
+			values[i] = 12.5;
+		}
+
+		byte[] data = TimeSeriesCodec.encode(timestamps, values, timestamps.length);
+
+		assertEquals(new Series(timestamps, values), TimeSeriesCodec.decode(data, timestamps.length));
+		assertTrue(data.length < timestamps.length, "A regular series should take less than a byte per reading.");
+	}
+
+	@Test
+	void testRoundTripIrregularInterval() {
+		Random random = new Random(42);
+		long[] timestamps = new long[500];
+		double[] values = new double[500];
+		long timestamp = 1700000000L;
+		for (int i = 0; i < timestamps.length; i++) {
+			timestamp += 1 + random.nextInt(5000);
+			timestamps[i] = timestamp;
+			values[i] = Math.round(random.nextDouble() * 100000) / 100.0;
+		}
+
+		byte[] data = TimeSeriesCodec.encode(timestamps, values, timestamps.length);
+
+		assertEquals(new Series(timestamps, values), TimeSeriesCodec.decode(data, timestamps.length));
+	}
+
+	@Test
+	void testRoundTripLargeDeltas() {
+		long[] timestamps = { -86400L, 0, 1, 4000000000L, 4000000001L, Long.MAX_VALUE / 4 };
+		double[] values = { 0, -1.5, Double.MAX_VALUE, Double.MIN_VALUE, Double.NaN, -0.0 };
+
+		byte[] data = TimeSeriesCodec.encode(timestamps, values, timestamps.length);
+
+		assertEquals(new Series(timestamps, values), TimeSeriesCodec.decode(data, timestamps.length));
+	}
+
+	@Test
+	void testRoundTripSingleReading() {
+		long[] timestamps = { 1700000000L };
+		double[] values = { 3.75 };
+
+		byte[] data = TimeSeriesCodec.encode(timestamps, values, 1);
+
+		assertEquals(new Series(timestamps, values), TimeSeriesCodec.decode(data, 1));
+	}
+
+	@Test
+	void testEncodePrefix() {
+		long[] timestamps = { 10, 20, 30, 40 };
+		double[] values = { 1, 2, 3, 4 };
+
+		byte[] data = TimeSeriesCodec.encode(timestamps, values, 2);
+
+		assertEquals(new Series(new long[] { 10, 20 }, new double[] { 1, 2 }), TimeSeriesCodec.decode(data, 2));
+	}
+}
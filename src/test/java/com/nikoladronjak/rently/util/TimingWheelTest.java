@@ -0,0 +1,130 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+	TimingWheel<Integer> timingWheel;
+
+	List<Integer> expired;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		timingWheel = new TimingWheel<>(1000);
+		expired = new ArrayList<>();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		timingWheel = null;
+		expired = null;
+	}
+
+	@Test
+	void testAdvance() {
+		timingWheel.schedule(1, 1010, 1);
+		timingWheel.schedule(2, 1020, 2);
+
+		timingWheel.advance(1009, expired::add);
+		assertEquals(List.of(), expired);
+
+		timingWheel.advance(1015, expired::add);
+		assertEquals(List.of(1), expired);
+		assertFalse(timingWheel.contains(1));
+		assertTrue(timingWheel.contains(2));
+		assertEquals(1015, timingWheel.getCurrentTick());
+	}
+
+	@Test
+	void testAdvanceDistantDeadline() {
+		timingWheel.schedule(1, 1000 + 64 * 64 * 64 + 7, 1);
+
+		timingWheel.advance(1000 + 64 * 64 * 64 + 6, expired::add);
+		assertEquals(List.of(), expired);
+
+		timingWheel.advance(1000 + 64 * 64 * 64 + 7, expired::add);
+		assertEquals(List.of(1), expired);
+		assertEquals(0, timingWheel.size());
+	}
+
+	@Test
+	void testScheduleElapsedDeadline() {
+		timingWheel.schedule(1, 900, 1);
+
+		timingWheel.advance(1000, expired::add);
+
+		assertEquals(List.of(1), expired);
+	}
+
+	@Test
+	void testScheduleReplacesTimeout() {
+		timingWheel.schedule(1, 1010, 1);
+		timingWheel.schedule(1, 1500, 2);
+
+		timingWheel.advance(1100, expired::add);
+		assertEquals(List.of(), expired);
+		assertEquals(1, timingWheel.size());
+
+		timingWheel.advance(1500, expired::add);
+		assertEquals(List.of(2), expired);
+	}
+
+	@Test
+	void testCancel() {
+		timingWheel.schedule(1, 5000, 1);
+
+		assertTrue(timingWheel.cancel(1));
+		assertFalse(timingWheel.cancel(1));
+
+		timingWheel.advance(6000, expired::add);
+		assertEquals(List.of(), expired);
+	}
+
+	@Test
+	void testClear() {
+		timingWheel.schedule(1, 1010, 1);
+		timingWheel.schedule(2, 100000, 2);
+
+		timingWheel.clear();
+
+		timingWheel.advance(200000, expired::add);
+		assertEquals(List.of(), expired);
+		assertEquals(0, timingWheel.size());
+	}
+
+	@Test
+	void testRandomDeadlines() {
+		Random random = new Random(42);
+		long[] deadlines = new long[10000];
+		for (int id = 0; id < deadlines.length; id++) {
+			deadlines[id] = 1000 + random.nextInt(1000000);
+			timingWheel.schedule(id, deadlines[id], id);
+		}
+		for (int id = 0; id < deadlines.length; id += 2) {
+			timingWheel.cancel(id);
+		}
+
+		long tick = 1000;
+		while (timingWheel.size() > 0) {
+			long nextTick = tick + random.nextInt(5000);
+			timingWheel.advance(nextTick, id -> {
+				assertEquals(1, id % 2);
+				assertTrue(deadlines[id] <= timingWheel.getCurrentTick());
+				expired.add(id);
+			});
+			for (int id = 1; id < deadlines.length; id += 2) {
+				assertEquals(deadlines[id] > nextTick, timingWheel.contains(id));
+			}
+			tick = nextTick;
+		}
+		assertEquals(deadlines.length / 2, expired.size());
+	}
+}
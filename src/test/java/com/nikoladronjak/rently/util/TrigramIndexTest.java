@@ -0,0 +1,74 @@
+package com.nikoladronjak.rently.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nikoladronjak.rently.util.TrigramIndex.Match;
+import com.nikoladronjak.rently.util.TrigramIndex.Pair;
+
+class TrigramIndexTest {
+
+	TrigramIndex index;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		index = new TrigramIndex();
+		index.put(1, "main street");
+		index.put(2, "main stret");
+		index.put(3, "market square");
+		index.put(4, "main streets");
+	}
+
+	@Test
+	void testTrigrams() {
+		assertEquals(Set.of(" ab", "abc", "bc "), TrigramIndex.trigrams("abc"));
+	}
+
+	@Test
+	void testFind() {
+		List<Match> matches = index.find("main street", 0.5, (first, second) -> true);
+
+		assertEquals(List.of(1, 4, 2), matches.stream().map(Match::id).toList());
+		assertEquals(1.0, matches.get(0).similarity());
+	}
+
+	@Test
+	void testFindCompatible() {
+		List<Match> matches = index.find("main street", 0.5, (first, second) -> !second.endsWith("s"));
+
+		assertEquals(List.of(1, 2), matches.stream().map(Match::id).toList());
+	}
+
+	@Test
+	void testPutReplacesAndRemove() {
+		index.put(2, "market squares");
+		assertEquals("main streets", index.remove(4));
+		assertNull(index.remove(4));
+
+		assertEquals(List.of(1), index.find("main street", 0.5, (first, second) -> true).stream().map(Match::id)
+				.toList());
+		assertEquals(3, index.size());
+	}
+
+	@Test
+	void testPairs() {
+		List<Pair> pairs = index.pairs(0.5, (first, second) -> true);
+
+		assertEquals(3, pairs.size());
+		assertEquals(new Pair(1, "main street", 4, "main streets", pairs.get(0).similarity()), pairs.get(0));
+		assertTrue(pairs.stream().allMatch(pair -> pair.firstId() < pair.secondId() && pair.similarity() >= 0.5));
+	}
+
+	@Test
+	void testClear() {
+		index.clear();
+
+		assertEquals(List.of(), index.find("main street", 0.1, (first, second) -> true));
+		assertEquals(0, index.size());
+	}
+}
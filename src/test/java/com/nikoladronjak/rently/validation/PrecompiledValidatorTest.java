@@ -0,0 +1,173 @@
+package com.nikoladronjak.rently.validation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.nikoladronjak.rently.domain.Customer;
+import com.nikoladronjak.rently.domain.HeatingType;
+import com.nikoladronjak.rently.domain.Lease;
+import com.nikoladronjak.rently.domain.Owner;
+import com.nikoladronjak.rently.domain.Residence;
+import com.nikoladronjak.rently.dto.LeaseDTO;
+import com.nikoladronjak.rently.dto.ResidenceDTO;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+class PrecompiledValidatorTest {
+
+	Owner owner;
+
+	Customer customer;
+
+	Residence residence;
+
+	Lease lease;
+
+	private PrecompiledValidator precompiledValidator;
+
+	private static Validator validator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+		validator = factory.getValidator();
+
+		precompiledValidator = new PrecompiledValidator();
+
+		List<String> photos = new ArrayList<String>();
+		photos.add("photo1");
+
+		owner = new Owner(1, "Pera", "Peric", "pera@gmail.com", "pera123", "1234567890");
+		customer = new Customer(1, "Mika", "Mikic", "mika@gmail.com", "mika123", null);
+		residence = new Residence(1, "Apartement 1", "Jove Ilica 154", "", (double) 300, 30, true, 0, photos, owner,
+				null, 1, 1, HeatingType.Central, true, true);
+		lease = new Lease(1, 300, futureDate(1), futureDate(2), residence, customer, null);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		precompiledValidator = null;
+
+		owner = null;
+		customer = null;
+		residence = null;
+		lease = null;
+	}
+
+	@Test
+	void testValidEntities() {
+		assertTrue(precompiledValidator.validate(owner).isEmpty());
+		assertTrue(precompiledValidator.validate(customer).isEmpty());
+		assertTrue(precompiledValidator.validate(residence).isEmpty());
+		assertTrue(precompiledValidator.validate(lease).isEmpty());
+	}
+
+	@Test
+	void testInvalidResidence() {
+		residence.setName(null);
+		residence.setAddress("Ab");
+		residence.setLatitude((double) 91);
+		residence.setLongitude(Double.NaN);
+		residence.setRentalRate((double) -300);
+		residence.setNumberOfParkingSpots(-1);
+		residence.setNumberOfBedrooms(0);
+		residence.setHeatingType(null);
+		residence.setOwner(null);
+
+		assertSameErrors(residence);
+	}
+
+	@Test
+	void testInvalidOwner() {
+		owner.setFirstName("A");
+		owner.setLastName(" ");
+		owner.setEmail("pera.gmail.com");
+		owner.setPassword("pera");
+		owner.setPhoneNumber(null);
+
+		assertSameErrors(owner);
+	}
+
+	@Test
+	void testInvalidLease() {
+		lease.setStartDate(new GregorianCalendar(2000, 0, 1));
+		lease.setEndDate(null);
+		lease.setCustomer(null);
+
+		assertSameErrors(lease);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "pera@gmail.com", "pera.peric@gmail.com", "pera@localhost", "pera+rently@gmail.co.uk",
+			"pera@[127.0.0.1]", "", "pera", "pera@", "@gmail.com", "pera@@gmail.com", "pera@gmail.com.",
+			"pera..peric@gmail.com", "pera@gmail..com", "pera peric@gmail.com", "pera@-gmail.com" })
+	void testEmail(String email) {
+		customer.setEmail(email);
+
+		assertSameErrors(customer);
+	}
+
+	@Test
+	void testPlanDoesNotReadAssociations() {
+		Owner invalidOwner = new Owner(1, null, null, null, null, null);
+		residence.setOwner(invalidOwner);
+
+		assertTrue(precompiledValidator.validate(residence).isEmpty());
+	}
+
+	@Test
+	void testGroups() {
+		ResidenceDTO residenceDTO = new ResidenceDTO();
+
+		assertTrue(precompiledValidator.validate(residenceDTO).isEmpty());
+		assertEquals("You have to specify the owner of the property.",
+				precompiledValidator.validate(residenceDTO, ValidationGroups.Shape.class).get("ownerId"));
+	}
+
+	@Test
+	void testFallbackForClassLevelConstraints() {
+		LeaseDTO leaseDTO = new LeaseDTO(1, 1, null, futureDate(2), futureDate(1));
+
+		Map<String, String> errors = precompiledValidator.validate(leaseDTO, ValidationGroups.Request.class);
+		assertEquals(1, errors.size());
+		assertEquals("The start date of the lease has to be before the end date of the lease.", errors.get("endDate"));
+	}
+
+	private void assertSameErrors(Object object) {
+		Set<ConstraintViolation<Object>> violations = validator.validate(object);
+		Map<String, String> errors = precompiledValidator.validate(object);
+
+		Map<String, List<String>> expected = new HashMap<>();
+		for (ConstraintViolation<Object> violation : violations) {
+			expected.computeIfAbsent(violation.getPropertyPath().toString(), path -> new ArrayList<>())
+					.add(violation.getMessage());
+		}
+
+		assertEquals(expected.keySet(), errors.keySet());
+		for (Map.Entry<String, String> error : errors.entrySet()) {
+			assertTrue(expected.get(error.getKey()).contains(error.getValue()));
+		}
+	}
+
+	private GregorianCalendar futureDate(int years) {
+		GregorianCalendar date = new GregorianCalendar();
+		date.add(Calendar.YEAR, years);
+		return date;
+	}
+}